@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of kernels using explicit SIMD instructions through the
+ * Vector API.
+ * Element-wise operations produce exactly the same results as scalar kernels.
+ * Dot products and matrix tiles use fused multiply-add instructions and
+ * several partial sums, hence their results might differ from scalar kernels
+ * by rounding errors.
+ * This class is only loaded when the jdk.incubator.vector module is enabled.
+ */
+class VectorizedKernels extends Kernels {
+
+    /**
+     * Species used for operations on arrays.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Species used to compute tiles of matrix products. Each vector of this
+     * species contains one column of MR elements of a tile.
+     */
+    private static final VectorSpecies<Double> TILE_SPECIES = DoubleVector.SPECIES_256;
+
+    /**
+     * Minimum number of lanes of preferred species for SIMD instructions to
+     * be worth it.
+     */
+    private static final int MIN_LANES = 2;
+
+    /**
+     * Indicates whether tiles of matrix products are computed using SIMD
+     * instructions. This requires the hardware to support vectors of at least
+     * MR elements.
+     */
+    private final boolean vectorizedTile;
+
+    /**
+     * Constructor.
+     *
+     * @throws UnsupportedOperationException if hardware does not support SIMD
+     *                                       instructions on double values.
+     */
+    VectorizedKernels() {
+        if (SPECIES.length() < MIN_LANES) {
+            throw new UnsupportedOperationException();
+        }
+        vectorizedTile = SPECIES.vectorBitSize() >= TILE_SPECIES.vectorBitSize()
+                && TILE_SPECIES.length() == BlockedMatrixMultiplier.MR;
+    }
+
+    /**
+     * Indicates whether this implementation uses explicit SIMD instructions.
+     *
+     * @return always true.
+     */
+    @Override
+    boolean isVectorized() {
+        return true;
+    }
+
+    /**
+     * Computes the dot product of the first elements of provided arrays.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param length        number of elements to be used.
+     * @return dot product.
+     */
+    @Override
+    double dotProduct(final double[] firstOperand, final double[] secondOperand, final int length) {
+        final var step = SPECIES.length();
+        final var doubleStep = 2 * step;
+
+        // two independent partial sums to hide latency of fused multiply-add
+        var acc0 = DoubleVector.zero(SPECIES);
+        var acc1 = DoubleVector.zero(SPECIES);
+        var i = 0;
+        for (; i <= length - doubleStep; i += doubleStep) {
+            final var a0 = DoubleVector.fromArray(SPECIES, firstOperand, i);
+            final var b0 = DoubleVector.fromArray(SPECIES, secondOperand, i);
+            acc0 = a0.fma(b0, acc0);
+
+            final var a1 = DoubleVector.fromArray(SPECIES, firstOperand, i + step);
+            final var b1 = DoubleVector.fromArray(SPECIES, secondOperand, i + step);
+            acc1 = a1.fma(b1, acc1);
+        }
+        for (; i <= length - step; i += step) {
+            final var a0 = DoubleVector.fromArray(SPECIES, firstOperand, i);
+            final var b0 = DoubleVector.fromArray(SPECIES, secondOperand, i);
+            acc0 = a0.fma(b0, acc0);
+        }
+
+        var result = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += firstOperand[i] * secondOperand[i];
+        }
+        return result;
+    }
+
+    /**
+     * Sums the first elements of provided arrays element by element.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param result        array where result is stored.
+     * @param length        number of elements to be used.
+     */
+    @Override
+    void sum(final double[] firstOperand, final double[] secondOperand, final double[] result, final int length) {
+        final var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var a = DoubleVector.fromArray(SPECIES, firstOperand, i);
+            final var b = DoubleVector.fromArray(SPECIES, secondOperand, i);
+            a.add(b).intoArray(result, i);
+        }
+        for (; i < length; i++) {
+            result[i] = firstOperand[i] + secondOperand[i];
+        }
+    }
+
+    /**
+     * Subtracts the first elements of provided arrays element by element.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param result        array where result is stored.
+     * @param length        number of elements to be used.
+     */
+    @Override
+    void subtract(final double[] firstOperand, final double[] secondOperand, final double[] result,
+                  final int length) {
+        final var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var a = DoubleVector.fromArray(SPECIES, firstOperand, i);
+            final var b = DoubleVector.fromArray(SPECIES, secondOperand, i);
+            a.sub(b).intoArray(result, i);
+        }
+        for (; i < length; i++) {
+            result[i] = firstOperand[i] - secondOperand[i];
+        }
+    }
+
+    /**
+     * Multiplies the first elements of provided arrays element by element.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param result        array where result is stored.
+     * @param length        number of elements to be used.
+     */
+    @Override
+    void multiply(final double[] firstOperand, final double[] secondOperand, final double[] result,
+                  final int length) {
+        final var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var a = DoubleVector.fromArray(SPECIES, firstOperand, i);
+            final var b = DoubleVector.fromArray(SPECIES, secondOperand, i);
+            a.mul(b).intoArray(result, i);
+        }
+        for (; i < length; i++) {
+            result[i] = firstOperand[i] * secondOperand[i];
+        }
+    }
+
+    /**
+     * Multiplies the first elements of provided array by provided scalar.
+     *
+     * @param input  array to be multiplied.
+     * @param scalar scalar value.
+     * @param result array where result is stored.
+     * @param length number of elements to be used.
+     */
+    @Override
+    void multiplyByScalar(final double[] input, final double scalar, final double[] result, final int length) {
+        final var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, input, i).mul(scalar).intoArray(result, i);
+        }
+        for (; i < length; i++) {
+            result[i] = scalar * input[i];
+        }
+    }
+
+    /**
+     * Computes a MR x NR tile of a matrix product from packed slivers of both
+     * operands and accumulates it into result buffer.
+     * Each column of the tile is kept in a vector register, and it is updated
+     * for each inner position with a fused multiply-add of the sliver of left
+     * operand and a broadcast value of the sliver of right operand.
+     *
+     * @param kc      inner size of packed slivers.
+     * @param packA   packed left operand.
+     * @param posA    position of sliver within packed left operand.
+     * @param packB   packed right operand.
+     * @param posB    position of sliver within packed right operand.
+     * @param c       buffer where result is accumulated.
+     * @param offsetC position of first element of tile within result buffer.
+     * @param ldc     leading dimension of result.
+     * @param mr      number of valid rows of tile.
+     * @param nr      number of valid columns of tile.
+     * @param tile    scratch array of MR x NR elements used to store partial
+     *                tiles at the edges.
+     */
+    @Override
+    void multiplyTile(final int kc, final double[] packA, final int posA, final double[] packB,
+                      final int posB, final double[] c, final int offsetC, final int ldc,
+                      final int mr, final int nr, final double[] tile) {
+        if (!vectorizedTile) {
+            super.multiplyTile(kc, packA, posA, packB, posB, c, offsetC, ldc, mr, nr, tile);
+            return;
+        }
+
+        var c0 = DoubleVector.zero(TILE_SPECIES);
+        var c1 = DoubleVector.zero(TILE_SPECIES);
+        var c2 = DoubleVector.zero(TILE_SPECIES);
+        var c3 = DoubleVector.zero(TILE_SPECIES);
+
+        var pa = posA;
+        var pb = posB;
+        for (var p = 0; p < kc; p++) {
+            final var a = DoubleVector.fromArray(TILE_SPECIES, packA, pa);
+            c0 = a.fma(DoubleVector.broadcast(TILE_SPECIES, packB[pb]), c0);
+            c1 = a.fma(DoubleVector.broadcast(TILE_SPECIES, packB[pb + 1]), c1);
+            c2 = a.fma(DoubleVector.broadcast(TILE_SPECIES, packB[pb + 2]), c2);
+            c3 = a.fma(DoubleVector.broadcast(TILE_SPECIES, packB[pb + 3]), c3);
+
+            pa += BlockedMatrixMultiplier.MR;
+            pb += BlockedMatrixMultiplier.NR;
+        }
+
+        if (mr == BlockedMatrixMultiplier.MR && nr == BlockedMatrixMultiplier.NR) {
+            var pos = offsetC;
+            DoubleVector.fromArray(TILE_SPECIES, c, pos).add(c0).intoArray(c, pos);
+            pos += ldc;
+            DoubleVector.fromArray(TILE_SPECIES, c, pos).add(c1).intoArray(c, pos);
+            pos += ldc;
+            DoubleVector.fromArray(TILE_SPECIES, c, pos).add(c2).intoArray(c, pos);
+            pos += ldc;
+            DoubleVector.fromArray(TILE_SPECIES, c, pos).add(c3).intoArray(c, pos);
+        } else {
+            // partial tile at the edges of the result
+            c0.intoArray(tile, 0);
+            c1.intoArray(tile, BlockedMatrixMultiplier.MR);
+            c2.intoArray(tile, 2 * BlockedMatrixMultiplier.MR);
+            c3.intoArray(tile, 3 * BlockedMatrixMultiplier.MR);
+
+            addPartialTile(tile, c, offsetC, ldc, mr, nr);
+        }
+    }
+}
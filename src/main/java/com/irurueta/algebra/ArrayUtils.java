@@ -40,9 +40,7 @@ public class ArrayUtils {
      */
     private static void internalMultiplyByScalar(
             final double[] inputArray, final double scalar, final double[] result) {
-        for (var i = 0; i < inputArray.length; ++i) {
-            result[i] = scalar * inputArray[i];
-        }
+        Kernels.INSTANCE.multiplyByScalar(inputArray, scalar, result, inputArray.length);
     }
 
     /**
@@ -90,9 +88,7 @@ public class ArrayUtils {
      * @param result        Result of summation.
      */
     private static void internalSum(final double[] firstOperand, final double[] secondOperand, final double[] result) {
-        for (var i = 0; i < firstOperand.length; i++) {
-            result[i] = firstOperand[i] + secondOperand[i];
-        }
+        Kernels.INSTANCE.sum(firstOperand, secondOperand, result, firstOperand.length);
     }
 
     /**
@@ -149,9 +145,7 @@ public class ArrayUtils {
      */
     private static void internalSubtract(
             final double[] firstOperand, final double[] secondOperand, final double[] result) {
-        for (var i = 0; i < firstOperand.length; i++) {
-            result[i] = firstOperand[i] - secondOperand[i];
-        }
+        Kernels.INSTANCE.subtract(firstOperand, secondOperand, result, firstOperand.length);
     }
 
     /**
@@ -210,11 +204,7 @@ public class ArrayUtils {
             throw new IllegalArgumentException("both operands must have same length");
         }
 
-        var result = 0.0;
-        for (var i = 0; i < firstOperand.length; i++) {
-            result += firstOperand[i] * secondOperand[i];
-        }
-        return result;
+        return Kernels.INSTANCE.dotProduct(firstOperand, secondOperand, firstOperand.length);
     }
 
     /**
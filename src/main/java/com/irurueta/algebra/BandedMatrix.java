@@ -0,0 +1,846 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Defines a square banded matrix, where all non-zero elements lie within a
+ * given number of diagonals below and above the main diagonal.
+ * Only diagonals within the band are stored, column by column, so that
+ * element (i, j) with j - ku &lt;= i &lt;= j + kl is stored at position
+ * ku + i - j + j * (kl + ku + 1) of the internal buffer, where kl and ku are
+ * the lower and upper bandwidths. A banded matrix of size n requires
+ * n * (kl + ku + 1) elements.
+ * LU decomposition with partial pivoting and Cholesky decomposition work
+ * directly on band storage, hence systems of equations are solved in
+ * O(n * kl * (kl + ku)) time and O(n * (2 * kl + ku + 1)) memory, instead of
+ * the O(n^3) time and O(n^2) memory required by dense decompositions.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class BandedMatrix implements Serializable {
+
+    /**
+     * Number of rows and columns.
+     */
+    private final int size;
+
+    /**
+     * Number of diagonals below the main diagonal.
+     */
+    private final int lowerBandwidth;
+
+    /**
+     * Number of diagonals above the main diagonal.
+     */
+    private final int upperBandwidth;
+
+    /**
+     * Number of stored elements per column.
+     */
+    private final int leadingDimension;
+
+    /**
+     * Band storage using column order.
+     */
+    private final double[] buffer;
+
+    /**
+     * Constructor.
+     * Values of a new matrix are initialized to zero.
+     *
+     * @param size           number of rows and columns.
+     * @param lowerBandwidth number of diagonals below the main diagonal.
+     * @param upperBandwidth number of diagonals above the main diagonal.
+     * @throws WrongSizeException if provided size is zero or negative, if any
+     *                            bandwidth is negative or not smaller than size, or if band storage
+     *                            (including fill-in produced by LU decomposition) is too large to fit in
+     *                            an array.
+     */
+    public BandedMatrix(final int size, final int lowerBandwidth, final int upperBandwidth)
+            throws WrongSizeException {
+        if (size <= 0 || lowerBandwidth < 0 || lowerBandwidth >= size || upperBandwidth < 0
+                || upperBandwidth >= size
+                || (2L * lowerBandwidth + upperBandwidth + 1) * size > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+        this.size = size;
+        this.lowerBandwidth = lowerBandwidth;
+        this.upperBandwidth = upperBandwidth;
+        leadingDimension = lowerBandwidth + upperBandwidth + 1;
+        buffer = new double[leadingDimension * size];
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param m matrix to copy from.
+     */
+    public BandedMatrix(final BandedMatrix m) {
+        size = m.size;
+        lowerBandwidth = m.lowerBandwidth;
+        upperBandwidth = m.upperBandwidth;
+        leadingDimension = m.leadingDimension;
+        buffer = Arrays.copyOf(m.buffer, m.buffer.length);
+    }
+
+    /**
+     * Creates a banded matrix from provided square matrix. Elements of
+     * provided matrix outside the band are ignored.
+     *
+     * @param m              square matrix.
+     * @param lowerBandwidth number of diagonals below the main diagonal.
+     * @param upperBandwidth number of diagonals above the main diagonal.
+     * @return a new banded matrix.
+     * @throws WrongSizeException   if provided matrix is not square or
+     *                              bandwidths are not valid.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static BandedMatrix newFromMatrix(final Matrix m, final int lowerBandwidth, final int upperBandwidth)
+            throws WrongSizeException {
+        final var n = m.getRows();
+        if (m.getColumns() != n) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new BandedMatrix(n, lowerBandwidth, upperBandwidth);
+        final var src = m.getBuffer();
+        for (var j = 0; j < n; j++) {
+            final var first = Math.max(0, j - upperBandwidth);
+            final var last = Math.min(n - 1, j + lowerBandwidth);
+            System.arraycopy(src, j * n + first, result.buffer, result.getIndex(first, j), last - first + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of rows and columns of this matrix.
+     *
+     * @return number of rows and columns.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns number of diagonals below the main diagonal.
+     *
+     * @return lower bandwidth.
+     */
+    public int getLowerBandwidth() {
+        return lowerBandwidth;
+    }
+
+    /**
+     * Returns number of diagonals above the main diagonal.
+     *
+     * @return upper bandwidth.
+     */
+    public int getUpperBandwidth() {
+        return upperBandwidth;
+    }
+
+    /**
+     * Returns number of stored elements per column (i.e. the distance within
+     * the internal buffer between the start of two consecutive columns).
+     *
+     * @return leading dimension of band storage.
+     */
+    public int getLeadingDimension() {
+        return leadingDimension;
+    }
+
+    /**
+     * Returns internal buffer containing band storage using column order.
+     *
+     * @return internal buffer.
+     */
+    public double[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Indicates whether provided position lies within the band.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return true if position lies within the band, false otherwise.
+     */
+    public boolean isInBand(final int row, final int column) {
+        return row >= 0 && row < size && column >= 0 && column < size
+                && row - column <= lowerBandwidth && column - row <= upperBandwidth;
+    }
+
+    /**
+     * Obtains element located at provided position. Elements outside the
+     * band are zero.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public double getElementAt(final int row, final int column) {
+        if (row < 0 || row >= size || column < 0 || column >= size) {
+            throw new IllegalArgumentException();
+        }
+        return isInBand(row, column) ? buffer[getIndex(row, column)] : 0.0;
+    }
+
+    /**
+     * Sets element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  band.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        if (!isInBand(row, column)) {
+            throw new IllegalArgumentException();
+        }
+        buffer[getIndex(row, column)] = value;
+    }
+
+    /**
+     * Copies this matrix into provided dense matrix. Provided matrix is
+     * resized if needed.
+     *
+     * @param result dense matrix where data is copied.
+     * @throws WrongSizeException   if a dense matrix of the size of this
+     *                              matrix does not fit in an array.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyTo(final Matrix result) throws WrongSizeException {
+        if ((long) size * size > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+        if (result.getRows() != size || result.getColumns() != size) {
+            result.resize(size, size);
+        }
+
+        final var dst = result.getBuffer();
+        Arrays.fill(dst, 0, size * size, 0.0);
+        for (var j = 0; j < size; j++) {
+            final var first = Math.max(0, j - upperBandwidth);
+            final var last = Math.min(size - 1, j + lowerBandwidth);
+            System.arraycopy(buffer, getIndex(first, j), dst, j * size + first, last - first + 1);
+        }
+    }
+
+    /**
+     * Converts this matrix into a dense matrix.
+     *
+     * @return a new dense matrix.
+     * @throws WrongSizeException if a dense matrix of the size of this matrix
+     *                            does not fit in an array.
+     */
+    public Matrix toMatrix() throws WrongSizeException {
+        if ((long) size * size > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+        final var result = new Matrix(size, size);
+        copyTo(result);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided vector and stores the result into
+     * provided array.
+     *
+     * @param x      vector to be multiplied.
+     * @param result array where result is stored. Must not be x.
+     * @throws WrongSizeException       if any of provided arrays does not have
+     *                                  the size of this matrix.
+     * @throws IllegalArgumentException if result is x.
+     * @throws NullPointerException     if any of provided arrays is null.
+     */
+    public void multiply(final double[] x, final double[] result) throws WrongSizeException {
+        if (x.length != size || result.length != size) {
+            throw new WrongSizeException();
+        }
+        if (x == result) {
+            throw new IllegalArgumentException();
+        }
+
+        Arrays.fill(result, 0.0);
+        for (var j = 0; j < size; j++) {
+            final var xj = x[j];
+            final var first = Math.max(0, j - upperBandwidth);
+            final var last = Math.min(size - 1, j + lowerBandwidth);
+            final var offset = getIndex(0, j);
+            for (var i = first; i <= last; i++) {
+                result[i] += buffer[offset + i] * xj;
+            }
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided vector.
+     *
+     * @param x vector to be multiplied.
+     * @return a new array containing the result.
+     * @throws WrongSizeException   if provided array does not have the size of
+     *                              this matrix.
+     * @throws NullPointerException if provided array is null.
+     */
+    public double[] multiplyAndReturnNew(final double[] x) throws WrongSizeException {
+        final var result = new double[size];
+        multiply(x, result);
+        return result;
+    }
+
+    /**
+     * Computes LU decomposition with partial pivoting of this matrix using
+     * band storage. Because of row interchanges, upper triangular factor has
+     * an upper bandwidth of kl + ku.
+     * This matrix is not modified.
+     *
+     * @return LU factorization.
+     * @throws SingularMatrixException if this matrix is singular.
+     */
+    public LUFactor lu() throws SingularMatrixException {
+        final var kl = lowerBandwidth;
+        final var kv = lowerBandwidth + upperBandwidth;
+        final var ldab = kl + kv + 1;
+        final var ab = new double[ldab * size];
+        final var piv = new int[size];
+
+        // copy band into rows kl to ldab - 1, first kl rows hold fill-in
+        for (var j = 0; j < size; j++) {
+            System.arraycopy(buffer, j * leadingDimension, ab, j * ldab + kl, leadingDimension);
+        }
+
+        // last column modified by row interchanges so far
+        var ju = 0;
+        for (var j = 0; j < size; j++) {
+            final var km = Math.min(kl, size - 1 - j);
+            final var diag = kv + j * ldab;
+
+            // find pivot within column j
+            var jp = 0;
+            var max = Math.abs(ab[diag]);
+            for (var t = 1; t <= km; t++) {
+                final var value = Math.abs(ab[diag + t]);
+                if (value > max) {
+                    max = value;
+                    jp = t;
+                }
+            }
+            piv[j] = j + jp;
+
+            if (ab[diag + jp] == 0.0) {
+                throw new SingularMatrixException();
+            }
+
+            ju = Math.max(ju, Math.min(j + upperBandwidth + jp, size - 1));
+
+            if (jp != 0) {
+                // interchange rows j and j + jp within columns j to ju
+                for (var c = j; c <= ju; c++) {
+                    final var pos = kv + j - c + c * ldab;
+                    final var tmp = ab[pos];
+                    ab[pos] = ab[pos + jp];
+                    ab[pos + jp] = tmp;
+                }
+            }
+
+            if (km > 0) {
+                // compute multipliers
+                final var inv = 1.0 / ab[diag];
+                for (var t = 1; t <= km; t++) {
+                    ab[diag + t] *= inv;
+                }
+
+                // update trailing submatrix within the band
+                for (var c = j + 1; c <= ju; c++) {
+                    final var pos = kv + j - c + c * ldab;
+                    final var f = ab[pos];
+                    if (f != 0.0) {
+                        for (var t = 1; t <= km; t++) {
+                            ab[pos + t] -= ab[diag + t] * f;
+                        }
+                    }
+                }
+            }
+        }
+
+        return new LUFactor(size, kl, kv, ab, piv);
+    }
+
+    /**
+     * Computes Cholesky decomposition of this matrix using band storage, so
+     * that A = R' * R, where R is an upper triangular matrix having the same
+     * upper bandwidth as this matrix.
+     * This matrix is not modified.
+     *
+     * @return Cholesky factorization.
+     * @throws NonSymmetricPositiveDefiniteMatrixException if this matrix is not
+     *                                                    symmetric or not positive definite.
+     */
+    public CholeskyFactor cholesky() throws NonSymmetricPositiveDefiniteMatrixException {
+        if (lowerBandwidth != upperBandwidth) {
+            throw new NonSymmetricPositiveDefiniteMatrixException();
+        }
+
+        final var k = upperBandwidth;
+        final var ldr = k + 1;
+        final var r = new double[ldr * size];
+        for (var j = 0; j < size; j++) {
+            final var first = Math.max(0, j - k);
+            final var startJ = k - j + j * ldr;
+            for (var i = first; i <= j; i++) {
+                final var aij = buffer[getIndex(i, j)];
+                if (aij != buffer[getIndex(j, i)]) {
+                    throw new NonSymmetricPositiveDefiniteMatrixException();
+                }
+
+                // dot product of overlapping parts of columns i and j of R
+                final var startI = k - i + i * ldr;
+                var s = aij;
+                for (var p = first; p < i; p++) {
+                    s -= r[startI + p] * r[startJ + p];
+                }
+
+                if (i < j) {
+                    r[startJ + i] = s / r[startI + i];
+                } else {
+                    if (s <= 0.0) {
+                        throw new NonSymmetricPositiveDefiniteMatrixException();
+                    }
+                    r[startJ + j] = Math.sqrt(s);
+                }
+            }
+        }
+        return new CholeskyFactor(size, k, r);
+    }
+
+    /**
+     * Solves linear system A * x = b, where A is this matrix, using LU
+     * decomposition with partial pivoting.
+     * If many systems need to be solved for the same matrix, it is more
+     * efficient to compute {@link #lu()} once and reuse it.
+     *
+     * @param b right hand side.
+     * @return a new array containing the solution.
+     * @throws WrongSizeException      if provided array does not have the size
+     *                                 of this matrix.
+     * @throws SingularMatrixException if this matrix is singular.
+     * @throws NullPointerException    if provided array is null.
+     */
+    public double[] solve(final double[] b) throws WrongSizeException, SingularMatrixException {
+        if (b.length != size) {
+            throw new WrongSizeException();
+        }
+        return lu().solve(b);
+    }
+
+    /**
+     * Checks if provided object is a banded matrix having exactly the same
+     * contents as this matrix.
+     *
+     * @param obj object to be compared.
+     * @return true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof BandedMatrix other)) {
+            return false;
+        }
+        return size == other.size && lowerBandwidth == other.lowerBandwidth
+                && upperBandwidth == other.upperBandwidth && Arrays.equals(buffer, other.buffer);
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * size + lowerBandwidth) + upperBandwidth) + Arrays.hashCode(buffer);
+    }
+
+    /**
+     * Returns position within internal buffer of provided element, which is
+     * assumed to lie within the band.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return position within internal buffer.
+     */
+    private int getIndex(final int row, final int column) {
+        return upperBandwidth + row - column + column * leadingDimension;
+    }
+
+    /**
+     * LU decomposition with partial pivoting of a banded matrix, so that
+     * P * A = L * U, where L is a unit lower triangular matrix with kl
+     * diagonals below the main one and U is an upper triangular matrix with
+     * kl + ku diagonals above the main one, both stored in band form.
+     */
+    public static class LUFactor implements Serializable {
+
+        /**
+         * Number of rows and columns.
+         */
+        private final int size;
+
+        /**
+         * Number of diagonals of L below the main diagonal.
+         */
+        private final int lowerBandwidth;
+
+        /**
+         * Number of diagonals of U above the main diagonal.
+         */
+        private final int upperBandwidth;
+
+        /**
+         * Band storage containing multipliers of L below the diagonal and U
+         * on and above the diagonal.
+         */
+        private final double[] ab;
+
+        /**
+         * Row interchanged with each row during factorization.
+         */
+        private final int[] piv;
+
+        /**
+         * Constructor.
+         *
+         * @param size           number of rows and columns.
+         * @param lowerBandwidth number of diagonals of L below the main one.
+         * @param upperBandwidth number of diagonals of U above the main one.
+         * @param ab             band storage of factors.
+         * @param piv            row interchanges.
+         */
+        private LUFactor(final int size, final int lowerBandwidth, final int upperBandwidth,
+                         final double[] ab, final int[] piv) {
+            this.size = size;
+            this.lowerBandwidth = lowerBandwidth;
+            this.upperBandwidth = upperBandwidth;
+            this.ab = ab;
+            this.piv = piv;
+        }
+
+        /**
+         * Returns number of rows and columns.
+         *
+         * @return number of rows and columns.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns row interchanges, where row i was interchanged with row
+         * piv[i] while factorizing column i. Notice that this is not a
+         * permutation vector, as interchanges must be applied in order.
+         *
+         * @return row interchanges.
+         */
+        public int[] getPivot() {
+            return piv;
+        }
+
+        /**
+         * Computes determinant of decomposed matrix.
+         *
+         * @return determinant.
+         */
+        public double determinant() {
+            final var ldab = lowerBandwidth + upperBandwidth + 1;
+            var det = 1.0;
+            for (var j = 0; j < size; j++) {
+                det *= ab[upperBandwidth + j * ldab];
+                if (piv[j] != j) {
+                    det = -det;
+                }
+            }
+            return det;
+        }
+
+        /**
+         * Solves linear system A * x = b, where A is the decomposed matrix.
+         *
+         * @param b      right hand side.
+         * @param result array where solution is stored. Can be b.
+         * @throws WrongSizeException   if any of provided arrays does not have
+         *                              proper length.
+         * @throws NullPointerException if any of provided arrays is null.
+         */
+        public void solve(final double[] b, final double[] result) throws WrongSizeException {
+            if (b.length != size || result.length != size) {
+                throw new WrongSizeException();
+            }
+
+            if (b != result) {
+                System.arraycopy(b, 0, result, 0, size);
+            }
+            internalSolve(result, 0);
+        }
+
+        /**
+         * Solves linear system A * x = b, where A is the decomposed matrix.
+         *
+         * @param b right hand side.
+         * @return a new array containing the solution.
+         * @throws WrongSizeException   if provided array does not have proper
+         *                              length.
+         * @throws NullPointerException if provided array is null.
+         */
+        public double[] solve(final double[] b) throws WrongSizeException {
+            final var result = new double[size];
+            solve(b, result);
+            return result;
+        }
+
+        /**
+         * Solves linear system A * X = B, where A is the decomposed matrix and
+         * each column of B contains a different right hand side.
+         *
+         * @param b right hand side.
+         * @return a new matrix containing the solution.
+         * @throws WrongSizeException   if provided matrix does not have proper
+         *                              number of rows.
+         * @throws NullPointerException if provided matrix is null.
+         */
+        public Matrix solve(final Matrix b) throws WrongSizeException {
+            if (b.getRows() != size) {
+                throw new WrongSizeException();
+            }
+
+            final var result = new Matrix(b);
+            final var x = result.getBuffer();
+            for (var k = 0; k < result.getColumns(); k++) {
+                internalSolve(x, k * size);
+            }
+            return result;
+        }
+
+        /**
+         * Solves L * U * x = P * b in place.
+         *
+         * @param x      array containing right hand side, where solution is
+         *               stored.
+         * @param offset position where right hand side starts.
+         */
+        private void internalSolve(final double[] x, final int offset) {
+            final var ldab = lowerBandwidth + upperBandwidth + 1;
+
+            // apply row interchanges and solve L * y = P * b
+            for (var j = 0; j < size; j++) {
+                final var l = piv[j];
+                if (l != j) {
+                    final var tmp = x[offset + l];
+                    x[offset + l] = x[offset + j];
+                    x[offset + j] = tmp;
+                }
+                final var xj = x[offset + j];
+                final var diag = upperBandwidth + j * ldab;
+                final var km = Math.min(lowerBandwidth, size - 1 - j);
+                for (var t = 1; t <= km; t++) {
+                    x[offset + j + t] -= ab[diag + t] * xj;
+                }
+            }
+
+            // solve U * x = y
+            for (var j = size - 1; j >= 0; j--) {
+                final var diag = upperBandwidth + j * ldab;
+                final var xj = x[offset + j] / ab[diag];
+                x[offset + j] = xj;
+                final var first = Math.max(0, j - upperBandwidth);
+                for (var i = first; i < j; i++) {
+                    x[offset + i] -= ab[diag + i - j] * xj;
+                }
+            }
+        }
+    }
+
+    /**
+     * Cholesky decomposition of a symmetric positive definite banded matrix,
+     * containing upper triangular matrix R so that A = R' * R, stored in band
+     * form.
+     */
+    public static class CholeskyFactor implements Serializable {
+
+        /**
+         * Number of rows and columns.
+         */
+        private final int size;
+
+        /**
+         * Number of diagonals of R above the main diagonal.
+         */
+        private final int bandwidth;
+
+        /**
+         * Band storage of R, where element (i, j) is stored at position
+         * bandwidth + i - j + j * (bandwidth + 1).
+         */
+        private final double[] r;
+
+        /**
+         * Constructor.
+         *
+         * @param size      number of rows and columns.
+         * @param bandwidth number of diagonals of R above the main one.
+         * @param r         band storage of R.
+         */
+        private CholeskyFactor(final int size, final int bandwidth, final double[] r) {
+            this.size = size;
+            this.bandwidth = bandwidth;
+            this.r = r;
+        }
+
+        /**
+         * Returns number of rows and columns.
+         *
+         * @return number of rows and columns.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns upper triangular factor R as a banded matrix.
+         *
+         * @return a new banded matrix containing R.
+         */
+        public BandedMatrix getR() {
+            BandedMatrix result = null;
+            try {
+                result = new BandedMatrix(size, 0, bandwidth);
+                System.arraycopy(r, 0, result.buffer, 0, r.length);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+            return result;
+        }
+
+        /**
+         * Computes determinant of decomposed matrix.
+         *
+         * @return determinant.
+         */
+        public double determinant() {
+            final var ldr = bandwidth + 1;
+            var det = 1.0;
+            for (var j = 0; j < size; j++) {
+                final var rjj = r[bandwidth + j * ldr];
+                det *= rjj * rjj;
+            }
+            return det;
+        }
+
+        /**
+         * Solves linear system A * x = b, where A is the decomposed matrix.
+         *
+         * @param b      right hand side.
+         * @param result array where solution is stored. Can be b.
+         * @throws WrongSizeException   if any of provided arrays does not have
+         *                              proper length.
+         * @throws NullPointerException if any of provided arrays is null.
+         */
+        public void solve(final double[] b, final double[] result) throws WrongSizeException {
+            if (b.length != size || result.length != size) {
+                throw new WrongSizeException();
+            }
+
+            if (b != result) {
+                System.arraycopy(b, 0, result, 0, size);
+            }
+            internalSolve(result, 0);
+        }
+
+        /**
+         * Solves linear system A * x = b, where A is the decomposed matrix.
+         *
+         * @param b right hand side.
+         * @return a new array containing the solution.
+         * @throws WrongSizeException   if provided array does not have proper
+         *                              length.
+         * @throws NullPointerException if provided array is null.
+         */
+        public double[] solve(final double[] b) throws WrongSizeException {
+            final var result = new double[size];
+            solve(b, result);
+            return result;
+        }
+
+        /**
+         * Solves linear system A * X = B, where A is the decomposed matrix and
+         * each column of B contains a different right hand side.
+         *
+         * @param b right hand side.
+         * @return a new matrix containing the solution.
+         * @throws WrongSizeException   if provided matrix does not have proper
+         *                              number of rows.
+         * @throws NullPointerException if provided matrix is null.
+         */
+        public Matrix solve(final Matrix b) throws WrongSizeException {
+            if (b.getRows() != size) {
+                throw new WrongSizeException();
+            }
+
+            final var result = new Matrix(b);
+            final var x = result.getBuffer();
+            for (var k = 0; k < result.getColumns(); k++) {
+                internalSolve(x, k * size);
+            }
+            return result;
+        }
+
+        /**
+         * Solves R' * R * x = b in place.
+         *
+         * @param x      array containing right hand side, where solution is
+         *               stored.
+         * @param offset position where right hand side starts.
+         */
+        private void internalSolve(final double[] x, final int offset) {
+            final var ldr = bandwidth + 1;
+
+            // solve R' * y = b
+            for (var i = 0; i < size; i++) {
+                final var start = bandwidth - i + i * ldr;
+                var s = x[offset + i];
+                for (var k = Math.max(0, i - bandwidth); k < i; k++) {
+                    s -= r[start + k] * x[offset + k];
+                }
+                x[offset + i] = s / r[start + i];
+            }
+
+            // solve R * x = y
+            for (var j = size - 1; j >= 0; j--) {
+                final var start = bandwidth - j + j * ldr;
+                final var xj = x[offset + j] / r[start + j];
+                x[offset + j] = xj;
+                for (var i = Math.max(0, j - bandwidth); i < j; i++) {
+                    x[offset + i] -= r[start + i] * xj;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes upper Cholesky decomposition (i.e. A = R' * R) of matrices stored
+ * in column-major buffers of data using a blocked right-looking algorithm.
+ * Matrix is processed in diagonal blocks of {@link #BLOCK_SIZE} columns. Each
+ * diagonal block is factorized by plain loops computing dot products of
+ * contiguous columns, the block row on its right is then solved using
+ * {@link TriangularSolver} and the upper triangle of the trailing sub-matrix
+ * is finally updated with matrix products computed by
+ * {@link BlockedMatrixMultiplier#gemm}.
+ * Block rows are solved and trailing sub-matrices are updated one block of
+ * columns at a time, and the block containing the next diagonal block is
+ * updated first (i.e. lookahead), so that when a fork/join pool is provided,
+ * the next diagonal block can be factorized while the remaining blocks are
+ * concurrently updated as fork/join tasks. Because each block is processed
+ * by the same operations regardless of whether a pool is used or not,
+ * parallel and sequential factorizations are identical.
+ * Only the upper triangle of the matrix is accessed.
+ */
+final class BlockedCholeskyFactorizer {
+
+    /**
+     * Number of columns of each block.
+     */
+    static final int BLOCK_SIZE = 64;
+
+    /**
+     * Minimum number of columns of a matrix to factorize it in parallel when
+     * a pool is provided. Smaller matrices do not have enough blocks to
+     * compensate task scheduling overhead.
+     */
+    static final int MIN_PARALLEL_SIZE = 4 * BLOCK_SIZE;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private BlockedCholeskyFactorizer() {
+    }
+
+    /**
+     * Factorizes the upper triangle of a n x n matrix in place, so that once
+     * factorized it contains upper triangular factor R.
+     * When a diagonal element is found not to be positive, factorization
+     * continues as if such element was zero, and false is returned.
+     *
+     * @param n    number of rows and columns of matrix.
+     * @param a    buffer containing matrix to be factorized in column order,
+     *             where factor will be stored.
+     * @param lda  leading dimension of matrix.
+     * @param pool pool where tasks are executed, or null to factorize
+     *             sequentially on calling thread.
+     * @return true if all diagonal elements were positive, false otherwise.
+     */
+    static boolean factor(final int n, final double[] a, final int lda, final ForkJoinPool pool) {
+        final var parallel = pool != null && n >= MIN_PARALLEL_SIZE;
+
+        var positive = factorDiagonalBlock(0, Math.min(n, BLOCK_SIZE), a, lda);
+        for (var k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+            final var k1 = Math.min(n, k0 + BLOCK_SIZE);
+            if (k1 == n) {
+                break;
+            }
+            final var k2 = Math.min(n, k1 + BLOCK_SIZE);
+
+            // block row on the right of diagonal block must be solved before
+            // any update, since each update uses all blocks on its left
+            if (parallel && k2 < n) {
+                run(new BlockTask(true, k0, k1, k1, n, a, lda), pool).join();
+            } else {
+                solveBlocks(k0, k1, k1, n, a, lda);
+            }
+
+            // lookahead: block containing next diagonal block is updated first
+            updateBlock(k0, k1, k1, k2, a, lda);
+
+            // remaining blocks are updated while next diagonal block is
+            // factorized
+            BlockTask task = null;
+            if (k2 < n) {
+                if (parallel) {
+                    task = run(new BlockTask(false, k0, k1, k2, n, a, lda), pool);
+                } else {
+                    updateBlocks(k0, k1, k2, n, a, lda);
+                }
+            }
+
+            positive &= factorDiagonalBlock(k1, k2, a, lda);
+
+            if (task != null) {
+                task.join();
+            }
+        }
+        return positive;
+    }
+
+    /**
+     * Indicates whether provided n x n matrix is exactly symmetric. Matrix is
+     * traversed in square tiles so that elements being compared remain in
+     * cache.
+     *
+     * @param n   number of rows and columns of matrix.
+     * @param a   buffer containing matrix in column order.
+     * @param lda leading dimension of matrix.
+     * @return true if matrix is symmetric, false otherwise.
+     */
+    static boolean isSymmetric(final int n, final double[] a, final int lda) {
+        for (var j0 = 0; j0 < n; j0 += BLOCK_SIZE) {
+            final var j1 = Math.min(n, j0 + BLOCK_SIZE);
+            for (var i0 = 0; i0 <= j0; i0 += BLOCK_SIZE) {
+                final var i1 = Math.min(n, i0 + BLOCK_SIZE);
+                for (var j = j0; j < j1; j++) {
+                    final var end = Math.min(i1, j);
+                    for (var i = i0; i < end; i++) {
+                        //noinspection FloatingPointEquality
+                        if (a[j * lda + i] != a[i * lda + j]) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Factorizes diagonal block containing rows and columns from k0
+     * (inclusive) to k1 (exclusive), which must have already been updated
+     * with all blocks above it.
+     *
+     * @param k0  first row and column of block.
+     * @param k1  row and column after the last one of block.
+     * @param a   buffer containing matrix.
+     * @param lda leading dimension of matrix.
+     * @return true if all diagonal elements were positive, false otherwise.
+     */
+    private static boolean factorDiagonalBlock(final int k0, final int k1, final double[] a, final int lda) {
+        var positive = true;
+        for (var j = k0; j < k1; j++) {
+            final var startJ = j * lda;
+            var d = 0.0;
+            for (var k = k0; k < j; k++) {
+                final var startK = k * lda;
+                var s = a[startJ + k];
+                for (var i = k0; i < k; i++) {
+                    s -= a[startK + i] * a[startJ + i];
+                }
+                s /= a[startK + k];
+                a[startJ + k] = s;
+                d += s * s;
+            }
+            d = a[startJ + j] - d;
+            positive &= d > 0.0;
+            // sqrt of max(d, 0.0)
+            a[startJ + j] = Math.sqrt(Math.max(d, 0.0));
+        }
+        return positive;
+    }
+
+    /**
+     * Solves the block row of the diagonal block containing rows from k0
+     * (inclusive) to k1 (exclusive) within columns from j0 (inclusive) to j1
+     * (exclusive), one block of columns at a time.
+     *
+     * @param k0  first row of block row.
+     * @param k1  row after the last one of block row.
+     * @param j0  first column to be solved.
+     * @param j1  column after the last one to be solved.
+     * @param a   buffer containing matrix.
+     * @param lda leading dimension of matrix.
+     */
+    private static void solveBlocks(final int k0, final int k1, final int j0, final int j1, final double[] a,
+                                    final int lda) {
+        for (var j = j0; j < j1; j += BLOCK_SIZE) {
+            solveBlock(k0, k1, j, Math.min(j1, j + BLOCK_SIZE), a, lda);
+        }
+    }
+
+    /**
+     * Solves R12 = inv(R11') * A12 for a block of columns, where R11 is the
+     * diagonal block containing rows and columns from k0 (inclusive) to k1
+     * (exclusive) and A12 contains the same rows within columns from j0
+     * (inclusive) to j1 (exclusive).
+     *
+     * @param k0  first row of block row.
+     * @param k1  row after the last one of block row.
+     * @param j0  first column of block.
+     * @param j1  column after the last one of block.
+     * @param a   buffer containing matrix.
+     * @param lda leading dimension of matrix.
+     */
+    private static void solveBlock(final int k0, final int k1, final int j0, final int j1, final double[] a,
+                                   final int lda) {
+        TriangularSolver.solve(true, true, false, null, k1 - k0, j1 - j0, a, k0 * lda + k0, lda,
+                a, j0 * lda + k0, lda);
+    }
+
+    /**
+     * Updates columns from j0 (inclusive) to j1 (exclusive) with the block row
+     * containing rows from k0 (inclusive) to k1 (exclusive), one block of
+     * columns at a time.
+     *
+     * @param k0  first row of block row.
+     * @param k1  row after the last one of block row.
+     * @param j0  first column to be updated.
+     * @param j1  column after the last one to be updated.
+     * @param a   buffer containing matrix.
+     * @param lda leading dimension of matrix.
+     */
+    private static void updateBlocks(final int k0, final int k1, final int j0, final int j1, final double[] a,
+                                     final int lda) {
+        for (var j = j0; j < j1; j += BLOCK_SIZE) {
+            updateBlock(k0, k1, j, Math.min(j1, j + BLOCK_SIZE), a, lda);
+        }
+    }
+
+    /**
+     * Updates rows from k1 until the end of the diagonal of a block of
+     * columns from j0 (inclusive) to j1 (exclusive), so that
+     * A22 = A22 - R12' * R12, where R12 is the solved block row containing
+     * rows from k0 (inclusive) to k1 (exclusive). Only the upper triangle
+     * (and the lower triangle of the diagonal block) is updated.
+     *
+     * @param k0  first row of block row.
+     * @param k1  row after the last one of block row.
+     * @param j0  first column of block.
+     * @param j1  column after the last one of block.
+     * @param a   buffer containing matrix.
+     * @param lda leading dimension of matrix.
+     */
+    private static void updateBlock(final int k0, final int k1, final int j0, final int j1, final double[] a,
+                                    final int lda) {
+        BlockedMatrixMultiplier.gemm(true, false, j1 - k1, j1 - j0, k1 - k0, -1.0,
+                a, k1 * lda + k0, lda, a, j0 * lda + k0, lda, 1.0, a, j0 * lda + k1, lda);
+    }
+
+    /**
+     * Starts provided task on provided pool without waiting for it to finish.
+     *
+     * @param task task to be started.
+     * @param pool pool where task is executed.
+     * @return started task.
+     */
+    private static BlockTask run(final BlockTask task, final ForkJoinPool pool) {
+        if (ForkJoinTask.getPool() == pool) {
+            task.fork();
+        } else {
+            pool.execute(task);
+        }
+        return task;
+    }
+
+    /**
+     * Task solving or updating a range of blocks of columns with a block row.
+     * Ranges containing more than one block are recursively split in halves.
+     */
+    private static final class BlockTask extends RecursiveAction {
+
+        /**
+         * True to solve block row, false to update trailing sub-matrix.
+         */
+        private final boolean solve;
+
+        /**
+         * First row of block row.
+         */
+        private final int k0;
+
+        /**
+         * Row after the last one of block row.
+         */
+        private final int k1;
+
+        /**
+         * First column to be processed.
+         */
+        private final int j0;
+
+        /**
+         * Column after the last one to be processed.
+         */
+        private final int j1;
+
+        /**
+         * Buffer containing matrix.
+         */
+        private final double[] a;
+
+        /**
+         * Leading dimension of matrix.
+         */
+        private final int lda;
+
+        /**
+         * Constructor.
+         *
+         * @param solve true to solve block row, false to update trailing
+         *              sub-matrix.
+         * @param k0    first row of block row.
+         * @param k1    row after the last one of block row.
+         * @param j0    first column to be processed.
+         * @param j1    column after the last one to be processed.
+         * @param a     buffer containing matrix.
+         * @param lda   leading dimension of matrix.
+         */
+        BlockTask(final boolean solve, final int k0, final int k1, final int j0, final int j1,
+                  final double[] a, final int lda) {
+            this.solve = solve;
+            this.k0 = k0;
+            this.k1 = k1;
+            this.j0 = j0;
+            this.j1 = j1;
+            this.a = a;
+            this.lda = lda;
+        }
+
+        /**
+         * Processes range of blocks, splitting it if it contains more than one
+         * block.
+         */
+        @Override
+        protected void compute() {
+            final var blocks = (j1 - j0 + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            if (blocks <= 1) {
+                if (solve) {
+                    solveBlock(k0, k1, j0, j1, a, lda);
+                } else {
+                    updateBlock(k0, k1, j0, j1, a, lda);
+                }
+                return;
+            }
+
+            final var middle = j0 + (blocks / 2) * BLOCK_SIZE;
+            invokeAll(new BlockTask(solve, k0, k1, j0, middle, a, lda),
+                    new BlockTask(solve, k0, k1, middle, j1, a, lda));
+        }
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes LU decomposition with partial pivoting of matrices stored in
+ * column-major buffers of data using a blocked right-looking algorithm.
+ * Columns are processed in panels of {@link #BLOCK_SIZE} columns. Each panel
+ * is factorized by plain loops that only access contiguous columns, row
+ * exchanges found while factorizing the panel are then applied to the
+ * remaining columns, the block row on the right of the panel is solved using
+ * {@link TriangularSolver} and the trailing sub-matrix is finally updated with
+ * matrix products computed by {@link BlockedMatrixMultiplier#gemm}, so that
+ * most of the work is done at the speed of a matrix product.
+ * Trailing sub-matrix is updated in blocks of {@link #BLOCK_SIZE} columns,
+ * and the block containing the next panel is updated first (i.e. lookahead),
+ * so that when a fork/join pool is provided, the next panel can be factorized
+ * while the remaining blocks are concurrently updated as fork/join tasks.
+ * Because each block is updated by the same operations regardless of whether
+ * a pool is used or not, parallel and sequential factorizations are
+ * identical, including their pivots.
+ * Resulting buffer contains both L (without its unit diagonal) and U factors,
+ * and pivots are stored as a permutation of rows, in the same way as
+ * {@link LUDecomposer} does.
+ */
+final class BlockedLUFactorizer {
+
+    /**
+     * Number of columns of each panel.
+     */
+    static final int BLOCK_SIZE = 64;
+
+    /**
+     * Minimum number of columns of a matrix to factorize it in parallel when
+     * a pool is provided. Smaller matrices do not have enough blocks to
+     * compensate task scheduling overhead.
+     */
+    static final int MIN_PARALLEL_SIZE = 4 * BLOCK_SIZE;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private BlockedLUFactorizer() {
+    }
+
+    /**
+     * Factorizes a rows x columns matrix in place, where rows must be greater
+     * or equal than columns.
+     * Once factorized, strict lower triangle of provided buffer contains L
+     * factor (whose unit diagonal is not stored) and upper triangle contains U
+     * factor, so that A(piv, :) = L * U.
+     *
+     * @param rows    number of rows of matrix.
+     * @param columns number of columns of matrix.
+     * @param a       buffer containing matrix to be factorized in column
+     *                order, where factors will be stored.
+     * @param lda     leading dimension of matrix.
+     * @param piv     array of length rows where permutation of rows will be
+     *                stored.
+     * @param swaps   scratch array of at least columns length where row
+     *                exchanged at each step is stored.
+     * @return sign of permutation (either 1 or -1).
+     */
+    static int factor(final int rows, final int columns, final double[] a, final int lda,
+                      final int[] piv, final int[] swaps) {
+        return factor(rows, columns, a, lda, piv, swaps, null);
+    }
+
+    /**
+     * Factorizes a rows x columns matrix in place, where rows must be greater
+     * or equal than columns, using provided pool to update the trailing
+     * sub-matrix concurrently with the factorization of the next panel.
+     * Once factorized, strict lower triangle of provided buffer contains L
+     * factor (whose unit diagonal is not stored) and upper triangle contains U
+     * factor, so that A(piv, :) = L * U.
+     *
+     * @param rows    number of rows of matrix.
+     * @param columns number of columns of matrix.
+     * @param a       buffer containing matrix to be factorized in column
+     *                order, where factors will be stored.
+     * @param lda     leading dimension of matrix.
+     * @param piv     array of length rows where permutation of rows will be
+     *                stored.
+     * @param swaps   scratch array of at least columns length where row
+     *                exchanged at each step is stored.
+     * @param pool    pool where tasks are executed, or null to factorize
+     *                sequentially on calling thread.
+     * @return sign of permutation (either 1 or -1).
+     */
+    static int factor(final int rows, final int columns, final double[] a, final int lda,
+                      final int[] piv, final int[] swaps, final ForkJoinPool pool) {
+        for (var i = 0; i < rows; i++) {
+            piv[i] = i;
+        }
+
+        final var parallel = pool != null && columns >= MIN_PARALLEL_SIZE;
+
+        var pivSign = factorPanel(rows, 0, Math.min(columns, BLOCK_SIZE), a, lda, piv, swaps);
+        for (var k0 = 0; k0 < columns; k0 += BLOCK_SIZE) {
+            final var k1 = Math.min(columns, k0 + BLOCK_SIZE);
+            if (k1 == columns) {
+                break;
+            }
+            final var k2 = Math.min(columns, k1 + BLOCK_SIZE);
+
+            // lookahead: block containing next panel is updated first
+            updateBlock(rows, k0, k1, k1, k2, a, lda, swaps);
+
+            // remaining blocks are updated while next panel is factorized
+            UpdateTask task = null;
+            if (k2 < columns) {
+                if (parallel) {
+                    task = new UpdateTask(rows, k0, k1, k2, columns, a, lda, swaps);
+                    if (ForkJoinTask.getPool() == pool) {
+                        task.fork();
+                    } else {
+                        pool.execute(task);
+                    }
+                } else {
+                    updateBlocks(rows, k0, k1, k2, columns, a, lda, swaps);
+                }
+            }
+
+            pivSign *= factorPanel(rows, k1, k2, a, lda, piv, swaps);
+
+            if (task != null) {
+                task.join();
+            }
+
+            // apply row exchanges of next panel to columns on its left
+            applySwaps(0, k1, k1, k2, a, lda, swaps);
+        }
+        return pivSign;
+    }
+
+    /**
+     * Factorizes the panel containing columns from k0 (inclusive) to k1
+     * (exclusive) and rows from k0 until the last one. Row exchanges are only
+     * applied to the columns of the panel, and are recorded in provided swaps
+     * array and in the permutation of rows.
+     *
+     * @param rows  number of rows of matrix.
+     * @param k0    first column of panel.
+     * @param k1    column after the last one of panel.
+     * @param a     buffer containing matrix.
+     * @param lda   leading dimension of matrix.
+     * @param piv   permutation of rows.
+     * @param swaps array where row exchanged at each step is stored.
+     * @return sign of row exchanges done within panel.
+     */
+    static int factorPanel(final int rows, final int k0, final int k1, final double[] a, final int lda,
+                           final int[] piv, final int[] swaps) {
+        var sign = 1;
+        for (var k = k0; k < k1; k++) {
+            final var startK = k * lda;
+
+            // find pivot
+            var p = k;
+            var max = Math.abs(a[startK + k]);
+            for (var i = k + 1; i < rows; i++) {
+                final var value = Math.abs(a[startK + i]);
+                if (value > max) {
+                    max = value;
+                    p = i;
+                }
+            }
+            swaps[k] = p;
+
+            // exchange rows within panel if necessary
+            if (p != k) {
+                for (var j = k0; j < k1; j++) {
+                    final var start = j * lda;
+                    final var t = a[start + p];
+                    a[start + p] = a[start + k];
+                    a[start + k] = t;
+                }
+                final var t = piv[p];
+                piv[p] = piv[k];
+                piv[k] = t;
+                sign = -sign;
+            }
+
+            // compute multipliers and eliminate k-th column within panel
+            final var pivot = a[startK + k];
+            if (pivot != 0.0) {
+                for (var i = k + 1; i < rows; i++) {
+                    a[startK + i] /= pivot;
+                }
+                for (var j = k + 1; j < k1; j++) {
+                    final var startJ = j * lda;
+                    final var value = a[startJ + k];
+                    if (value != 0.0) {
+                        for (var i = k + 1; i < rows; i++) {
+                            a[startJ + i] -= a[startK + i] * value;
+                        }
+                    }
+                }
+            }
+        }
+        return sign;
+    }
+
+    /**
+     * Applies row exchanges found at steps from k0 (inclusive) to k1
+     * (exclusive) to provided range of columns. Columns are traversed in the
+     * outer loop so that each one is accessed contiguously.
+     *
+     * @param j0    first column where exchanges are applied.
+     * @param j1    column after the last one where exchanges are applied.
+     * @param k0    first step whose exchange is applied.
+     * @param k1    step after the last one whose exchange is applied.
+     * @param a     buffer containing matrix.
+     * @param lda   leading dimension of matrix.
+     * @param swaps array containing row exchanged at each step.
+     */
+    static void applySwaps(final int j0, final int j1, final int k0, final int k1, final double[] a,
+                           final int lda, final int[] swaps) {
+        for (var j = j0; j < j1; j++) {
+            final var start = j * lda;
+            for (var k = k0; k < k1; k++) {
+                final var p = swaps[k];
+                if (p != k) {
+                    final var t = a[start + p];
+                    a[start + p] = a[start + k];
+                    a[start + k] = t;
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates columns from j0 (inclusive) to j1 (exclusive) with the panel
+     * containing columns from k0 (inclusive) to k1 (exclusive), one block of
+     * columns at a time.
+     *
+     * @param rows  number of rows of matrix.
+     * @param k0    first column of panel.
+     * @param k1    column after the last one of panel.
+     * @param j0    first column to be updated.
+     * @param j1    column after the last one to be updated.
+     * @param a     buffer containing matrix.
+     * @param lda   leading dimension of matrix.
+     * @param swaps array containing row exchanged at each step.
+     */
+    private static void updateBlocks(final int rows, final int k0, final int k1, final int j0, final int j1,
+                                     final double[] a, final int lda, final int[] swaps) {
+        for (var j = j0; j < j1; j += BLOCK_SIZE) {
+            updateBlock(rows, k0, k1, j, Math.min(j1, j + BLOCK_SIZE), a, lda, swaps);
+        }
+    }
+
+    /**
+     * Updates a block of columns from j0 (inclusive) to j1 (exclusive) with
+     * the panel containing columns from k0 (inclusive) to k1 (exclusive), by
+     * applying the row exchanges of the panel, solving the block row and
+     * updating the rows below the panel.
+     *
+     * @param rows  number of rows of matrix.
+     * @param k0    first column of panel.
+     * @param k1    column after the last one of panel.
+     * @param j0    first column of block.
+     * @param j1    column after the last one of block.
+     * @param a     buffer containing matrix.
+     * @param lda   leading dimension of matrix.
+     * @param swaps array containing row exchanged at each step.
+     */
+    private static void updateBlock(final int rows, final int k0, final int k1, final int j0, final int j1,
+                                    final double[] a, final int lda, final int[] swaps) {
+        applySwaps(j0, j1, k0, k1, a, lda, swaps);
+
+        final var kb = k1 - k0;
+        final var nb = j1 - j0;
+
+        // U12 = inv(L11) * A12
+        TriangularSolver.solve(false, false, true, null, kb, nb, a, k0 * lda + k0, lda,
+                a, j0 * lda + k0, lda);
+
+        // A22 = A22 - L21 * U12
+        final var mr = rows - k1;
+        if (mr > 0) {
+            BlockedMatrixMultiplier.gemm(false, false, mr, nb, kb, -1.0, a, k0 * lda + k1, lda,
+                    a, j0 * lda + k0, lda, 1.0, a, j0 * lda + k1, lda);
+        }
+    }
+
+    /**
+     * Task updating a range of blocks of columns with a panel. Ranges
+     * containing more than one block are recursively split in halves.
+     */
+    private static final class UpdateTask extends RecursiveAction {
+
+        /**
+         * Number of rows of matrix.
+         */
+        private final int rows;
+
+        /**
+         * First column of panel.
+         */
+        private final int k0;
+
+        /**
+         * Column after the last one of panel.
+         */
+        private final int k1;
+
+        /**
+         * First column to be updated.
+         */
+        private final int j0;
+
+        /**
+         * Column after the last one to be updated.
+         */
+        private final int j1;
+
+        /**
+         * Buffer containing matrix.
+         */
+        private final double[] a;
+
+        /**
+         * Leading dimension of matrix.
+         */
+        private final int lda;
+
+        /**
+         * Array containing row exchanged at each step.
+         */
+        private final int[] swaps;
+
+        /**
+         * Constructor.
+         *
+         * @param rows  number of rows of matrix.
+         * @param k0    first column of panel.
+         * @param k1    column after the last one of panel.
+         * @param j0    first column to be updated.
+         * @param j1    column after the last one to be updated.
+         * @param a     buffer containing matrix.
+         * @param lda   leading dimension of matrix.
+         * @param swaps array containing row exchanged at each step.
+         */
+        UpdateTask(final int rows, final int k0, final int k1, final int j0, final int j1,
+                   final double[] a, final int lda, final int[] swaps) {
+            this.rows = rows;
+            this.k0 = k0;
+            this.k1 = k1;
+            this.j0 = j0;
+            this.j1 = j1;
+            this.a = a;
+            this.lda = lda;
+            this.swaps = swaps;
+        }
+
+        /**
+         * Updates range of blocks, splitting it if it contains more than one
+         * block.
+         */
+        @Override
+        protected void compute() {
+            final var blocks = (j1 - j0 + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            if (blocks <= 1) {
+                updateBlock(rows, k0, k1, j0, j1, a, lda, swaps);
+                return;
+            }
+
+            final var middle = j0 + (blocks / 2) * BLOCK_SIZE;
+            invokeAll(new UpdateTask(rows, k0, k1, j0, middle, a, lda, swaps),
+                    new UpdateTask(rows, k0, k1, middle, j1, a, lda, swaps));
+        }
+    }
+}
@@ -0,0 +1,908 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes matrix products on column-major buffers of data using a
+ * cache-blocked algorithm.
+ * Operands are split into panels that are packed into contiguous scratch
+ * arrays so that they remain in cache while being reused, and the product of
+ * each pair of packed panels is computed by a register-blocked micro-kernel
+ * that works on small tiles of MR x NR elements of the result (see
+ * {@link Kernels#multiplyTile}).
+ * Each matrix operand is described by its buffer of data, the position of its
+ * first element within that buffer and its leading dimension (i.e. the
+ * distance within the buffer between the start of two consecutive columns).
+ * Any of the operands can also be read in transposed order while being
+ * packed, so that products such as a' * b or a * b' can be computed without
+ * transposing (and hence copying) any of the operands.
+ * Products can also be scaled and accumulated into an existing result (i.e.
+ * c = alpha * op(a) * op(b) + beta * c) in a single pass. Scratch arrays
+ * used for packing are kept per thread and reused, so that no memory is
+ * allocated once they have grown, as long as they do not exceed
+ * {@link #MAX_RETAINED_PACKING_LENGTH} elements. Larger scratch arrays are
+ * released after each product, so that threads do not retain them.
+ * Products can also be computed in parallel by splitting the result into
+ * blocks of rows or columns that are computed as independent fork/join tasks.
+ * Because each element of the result is accumulated in the same order
+ * regardless of how the result is split, parallel and sequential products
+ * are identical.
+ */
+final class BlockedMatrixMultiplier {
+
+    /**
+     * Number of rows of the tile of the result computed by the micro-kernel.
+     */
+    static final int MR = 4;
+
+    /**
+     * Number of columns of the tile of the result computed by the
+     * micro-kernel.
+     */
+    static final int NR = 4;
+
+    /**
+     * Number of rows of the left operand packed at once. Packed panel of left
+     * operand is meant to fit in L2 cache.
+     */
+    static final int MC = 128;
+
+    /**
+     * Number of columns of left operand (and rows of right operand) packed at
+     * once.
+     */
+    static final int KC = 256;
+
+    /**
+     * Number of columns of right operand packed at once. Packed panel of right
+     * operand is meant to fit in L3 cache.
+     */
+    static final int NC = 1024;
+
+    /**
+     * Minimum number of multiply-add operations (i.e. rows x columns x inner
+     * size) of a product to use the blocked algorithm. Smaller products are
+     * faster using a plain triple loop, since they already fit in cache and
+     * packing overhead is not worth it.
+     */
+    static final long THRESHOLD = 48L * 48L * 48L;
+
+    /**
+     * Maximum number of elements of each scratch array used for packing that
+     * is kept by a thread once a product has been computed. This is the size
+     * of a packed block of left operand, so that right operand blocks having
+     * more than MC columns are released after use.
+     */
+    static final int MAX_RETAINED_PACKING_LENGTH = MC * KC;
+
+    /**
+     * Scratch arrays used for packing by each thread.
+     */
+    private static final ThreadLocal<PackingBuffers> PACKING_BUFFERS =
+            ThreadLocal.withInitial(PackingBuffers::new);
+
+    /**
+     * Constructor.
+     */
+    private BlockedMatrixMultiplier() {
+    }
+
+    /**
+     * Indicates whether a product having provided sizes is large enough to
+     * benefit from the blocked algorithm.
+     *
+     * @param m number of rows of left operand and result.
+     * @param n number of columns of right operand and result.
+     * @param k number of columns of left operand and rows of right operand.
+     * @return true if blocked algorithm should be used, false otherwise.
+     */
+    static boolean isBlockable(final int m, final int n, final int k) {
+        return (long) m * (long) n * (long) k >= THRESHOLD;
+    }
+
+    /**
+     * Computes the product c = a * b, where a is a m x k matrix, b is a k x n
+     * matrix and c is a m x n matrix. Provided result buffer must not overlap
+     * with any of the operands.
+     *
+     * @param m       number of rows of a and c.
+     * @param n       number of columns of b and c.
+     * @param k       number of columns of a and rows of b.
+     * @param a       buffer containing left operand.
+     * @param offsetA position of first element of left operand within its
+     *                buffer.
+     * @param lda     leading dimension of left operand.
+     * @param b       buffer containing right operand.
+     * @param offsetB position of first element of right operand within its
+     *                buffer.
+     * @param ldb     leading dimension of right operand.
+     * @param c       buffer where result will be stored.
+     * @param offsetC position of first element of result within its buffer.
+     * @param ldc     leading dimension of result.
+     */
+    static void multiply(final int m, final int n, final int k,
+                         final double[] a, final int offsetA, final int lda,
+                         final double[] b, final int offsetB, final int ldb,
+                         final double[] c, final int offsetC, final int ldc) {
+        multiply(false, false, m, n, k, a, offsetA, lda, b, offsetB, ldb, c, offsetC, ldc);
+    }
+
+    /**
+     * Computes the product c = op(a) * op(b), where op(a) is a m x k matrix,
+     * op(b) is a k x n matrix and c is a m x n matrix, and op(x) is either x
+     * or its transpose x'. Transposed operands are read in transposed order
+     * while being packed, so that no copy of them is made. Provided result
+     * buffer must not overlap with any of the operands.
+     *
+     * @param transA  true if left operand is transposed (i.e. a is stored as
+     *                a k x m matrix), false otherwise.
+     * @param transB  true if right operand is transposed (i.e. b is stored as
+     *                a n x k matrix), false otherwise.
+     * @param m       number of rows of op(a) and c.
+     * @param n       number of columns of op(b) and c.
+     * @param k       number of columns of op(a) and rows of op(b).
+     * @param a       buffer containing left operand.
+     * @param offsetA position of first element of left operand within its
+     *                buffer.
+     * @param lda     leading dimension of left operand as stored in its buffer.
+     * @param b       buffer containing right operand.
+     * @param offsetB position of first element of right operand within its
+     *                buffer.
+     * @param ldb     leading dimension of right operand as stored in its
+     *                buffer.
+     * @param c       buffer where result will be stored.
+     * @param offsetC position of first element of result within its buffer.
+     * @param ldc     leading dimension of result.
+     */
+    static void multiply(final boolean transA, final boolean transB, final int m, final int n, final int k,
+                         final double[] a, final int offsetA, final int lda,
+                         final double[] b, final int offsetB, final int ldb,
+                         final double[] c, final int offsetC, final int ldc) {
+        multiply(transA, transB, m, n, k, 1.0, a, offsetA, lda, b, offsetB, ldb, 0.0, c, offsetC, ldc);
+    }
+
+    /**
+     * Computes c = alpha * op(a) * op(b) + beta * c, where op(a) is a m x k
+     * matrix, op(b) is a k x n matrix, c is a m x n matrix and op(x) is either
+     * x or its transpose x'. Result is updated in place. If beta is zero,
+     * initial contents of result are ignored (even if they are NaN). Provided
+     * result buffer must not overlap with any of the operands.
+     *
+     * @param transA  true if left operand is transposed (i.e. a is stored as
+     *                a k x m matrix), false otherwise.
+     * @param transB  true if right operand is transposed (i.e. b is stored as
+     *                a n x k matrix), false otherwise.
+     * @param m       number of rows of op(a) and c.
+     * @param n       number of columns of op(b) and c.
+     * @param k       number of columns of op(a) and rows of op(b).
+     * @param alpha   scale of product.
+     * @param a       buffer containing left operand.
+     * @param offsetA position of first element of left operand within its
+     *                buffer.
+     * @param lda     leading dimension of left operand as stored in its buffer.
+     * @param b       buffer containing right operand.
+     * @param offsetB position of first element of right operand within its
+     *                buffer.
+     * @param ldb     leading dimension of right operand as stored in its
+     *                buffer.
+     * @param beta    scale of initial result.
+     * @param c       buffer containing initial result and where result will
+     *                be stored.
+     * @param offsetC position of first element of result within its buffer.
+     * @param ldc     leading dimension of result.
+     */
+    static void multiply(final boolean transA, final boolean transB, final int m, final int n, final int k,
+                         final double alpha, final double[] a, final int offsetA, final int lda,
+                         final double[] b, final int offsetB, final int ldb,
+                         final double beta, final double[] c, final int offsetC, final int ldc) {
+        // product is accumulated into scaled initial result
+        scale(m, n, beta, c, offsetC, ldc);
+        if (alpha == 0.0 || k == 0) {
+            return;
+        }
+
+        final var buffers = PACKING_BUFFERS.get();
+        final var packA = buffers.getPackA(roundUp(Math.min(MC, m), MR) * Math.min(KC, k));
+        final var packB = buffers.getPackB(roundUp(Math.min(NC, n), NR) * Math.min(KC, k));
+        final var tile = buffers.tile;
+
+        try {
+            for (var jc = 0; jc < n; jc += NC) {
+                final var nc = Math.min(NC, n - jc);
+                for (var pc = 0; pc < k; pc += KC) {
+                    final var kc = Math.min(KC, k - pc);
+                    packB(transB, kc, nc, b, position(transB, offsetB, ldb, pc, jc), ldb, packB);
+
+                    for (var ic = 0; ic < m; ic += MC) {
+                        final var mc = Math.min(MC, m - ic);
+                        packA(transA, mc, kc, alpha, a, position(transA, offsetA, lda, ic, pc), lda, packA);
+
+                        macroKernel(mc, nc, kc, packA, packB, c, offsetC + ic + jc * ldc, ldc, tile);
+                    }
+                }
+            }
+        } finally {
+            buffers.trim();
+        }
+    }
+
+    /**
+     * Gets number of elements of scratch arrays used for packing that are
+     * currently kept by calling thread.
+     *
+     * @return number of elements of retained scratch arrays.
+     */
+    static int getRetainedPackingLength() {
+        final var buffers = PACKING_BUFFERS.get();
+        return buffers.packA.length + buffers.packB.length;
+    }
+
+    /**
+     * Computes the product c = a * b in parallel using provided fork/join pool,
+     * where a is a m x k matrix, b is a k x n matrix and c is a m x n matrix.
+     * Largest dimension of the result is split into at most provided number
+     * of blocks, so that no more than that number of tasks are run
+     * concurrently for this product. Provided result buffer must not overlap
+     * with any of the operands.
+     *
+     * @param m           number of rows of a and c.
+     * @param n           number of columns of b and c.
+     * @param k           number of columns of a and rows of b.
+     * @param a           buffer containing left operand.
+     * @param offsetA     position of first element of left operand within its
+     *                    buffer.
+     * @param lda         leading dimension of left operand.
+     * @param b           buffer containing right operand.
+     * @param offsetB     position of first element of right operand within its
+     *                    buffer.
+     * @param ldb         leading dimension of right operand.
+     * @param c           buffer where result will be stored.
+     * @param offsetC     position of first element of result within its buffer.
+     * @param ldc         leading dimension of result.
+     * @param pool        pool where tasks will be executed.
+     * @param parallelism maximum number of tasks to split the product into.
+     */
+    static void multiply(final int m, final int n, final int k,
+                         final double[] a, final int offsetA, final int lda,
+                         final double[] b, final int offsetB, final int ldb,
+                         final double[] c, final int offsetC, final int ldc,
+                         final ForkJoinPool pool, final int parallelism) {
+        multiply(false, false, m, n, k, a, offsetA, lda, b, offsetB, ldb, c, offsetC, ldc, pool, parallelism);
+    }
+
+    /**
+     * Computes the product c = op(a) * op(b) in parallel using provided
+     * fork/join pool, where op(a) is a m x k matrix, op(b) is a k x n matrix,
+     * c is a m x n matrix and op(x) is either x or its transpose x'.
+     * Largest dimension of the result is split into at most provided number
+     * of blocks, so that no more than that number of tasks are run
+     * concurrently for this product. Provided result buffer must not overlap
+     * with any of the operands.
+     *
+     * @param transA      true if left operand is transposed, false otherwise.
+     * @param transB      true if right operand is transposed, false otherwise.
+     * @param m           number of rows of op(a) and c.
+     * @param n           number of columns of op(b) and c.
+     * @param k           number of columns of op(a) and rows of op(b).
+     * @param a           buffer containing left operand.
+     * @param offsetA     position of first element of left operand within its
+     *                    buffer.
+     * @param lda         leading dimension of left operand as stored in its
+     *                    buffer.
+     * @param b           buffer containing right operand.
+     * @param offsetB     position of first element of right operand within its
+     *                    buffer.
+     * @param ldb         leading dimension of right operand as stored in its
+     *                    buffer.
+     * @param c           buffer where result will be stored.
+     * @param offsetC     position of first element of result within its buffer.
+     * @param ldc         leading dimension of result.
+     * @param pool        pool where tasks will be executed.
+     * @param parallelism maximum number of tasks to split the product into.
+     */
+    static void multiply(final boolean transA, final boolean transB, final int m, final int n, final int k,
+                         final double[] a, final int offsetA, final int lda,
+                         final double[] b, final int offsetB, final int ldb,
+                         final double[] c, final int offsetC, final int ldc,
+                         final ForkJoinPool pool, final int parallelism) {
+        multiply(transA, transB, m, n, k, 1.0, a, offsetA, lda, b, offsetB, ldb, 0.0, c, offsetC, ldc,
+                pool, parallelism);
+    }
+
+    /**
+     * Computes c = alpha * op(a) * op(b) + beta * c, where op(a) is a m x k
+     * matrix, op(b) is a k x n matrix, c is a m x n matrix and op(x) is either
+     * x or its transpose x'. Products large enough to benefit from blocking
+     * are computed using the blocked algorithm, whereas smaller ones are
+     * computed using plain loops. In both cases no memory is allocated once
+     * packing buffers of current thread have grown. Provided result buffer
+     * must not overlap with any of the operands.
+     *
+     * @param transA  true if left operand is transposed, false otherwise.
+     * @param transB  true if right operand is transposed, false otherwise.
+     * @param m       number of rows of op(a) and c.
+     * @param n       number of columns of op(b) and c.
+     * @param k       number of columns of op(a) and rows of op(b).
+     * @param alpha   scale of product.
+     * @param a       buffer containing left operand.
+     * @param offsetA position of first element of left operand within its
+     *                buffer.
+     * @param lda     leading dimension of left operand as stored in its buffer.
+     * @param b       buffer containing right operand.
+     * @param offsetB position of first element of right operand within its
+     *                buffer.
+     * @param ldb     leading dimension of right operand as stored in its
+     *                buffer.
+     * @param beta    scale of initial result.
+     * @param c       buffer containing initial result and where result will
+     *                be stored.
+     * @param offsetC position of first element of result within its buffer.
+     * @param ldc     leading dimension of result.
+     */
+    static void gemm(final boolean transA, final boolean transB, final int m, final int n, final int k,
+                     final double alpha, final double[] a, final int offsetA, final int lda,
+                     final double[] b, final int offsetB, final int ldb,
+                     final double beta, final double[] c, final int offsetC, final int ldc) {
+        if (isBlockable(m, n, k)) {
+            multiply(transA, transB, m, n, k, alpha, a, offsetA, lda, b, offsetB, ldb, beta, c, offsetC, ldc);
+            return;
+        }
+
+        scale(m, n, beta, c, offsetC, ldc);
+        if (alpha == 0.0) {
+            return;
+        }
+
+        for (var j = 0; j < n; j++) {
+            final var startC = offsetC + j * ldc;
+            if (transA) {
+                // each element is the dot product of a column of a and a
+                // column (or row) of b
+                for (var i = 0; i < m; i++) {
+                    final var startA = offsetA + i * lda;
+                    var value = 0.0;
+                    for (var p = 0; p < k; p++) {
+                        value += a[startA + p] * b[position(transB, offsetB, ldb, p, j)];
+                    }
+                    c[startC + i] += alpha * value;
+                }
+            } else {
+                // each column is accumulated from scaled columns of a
+                for (var p = 0; p < k; p++) {
+                    final var value = alpha * b[position(transB, offsetB, ldb, p, j)];
+                    final var startA = offsetA + p * lda;
+                    for (var i = 0; i < m; i++) {
+                        c[startC + i] += a[startA + i] * value;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes c = alpha * op(a) * op(b) + beta * c in parallel using provided
+     * fork/join pool, where op(a) is a m x k matrix, op(b) is a k x n matrix,
+     * c is a m x n matrix and op(x) is either x or its transpose x'.
+     * Largest dimension of the result is split into at most provided number
+     * of blocks, so that no more than that number of tasks are run
+     * concurrently for this product. Provided result buffer must not overlap
+     * with any of the operands.
+     *
+     * @param transA      true if left operand is transposed, false otherwise.
+     * @param transB      true if right operand is transposed, false otherwise.
+     * @param m           number of rows of op(a) and c.
+     * @param n           number of columns of op(b) and c.
+     * @param k           number of columns of op(a) and rows of op(b).
+     * @param alpha       scale of product.
+     * @param a           buffer containing left operand.
+     * @param offsetA     position of first element of left operand within its
+     *                    buffer.
+     * @param lda         leading dimension of left operand as stored in its
+     *                    buffer.
+     * @param b           buffer containing right operand.
+     * @param offsetB     position of first element of right operand within its
+     *                    buffer.
+     * @param ldb         leading dimension of right operand as stored in its
+     *                    buffer.
+     * @param beta        scale of initial result.
+     * @param c           buffer containing initial result and where result
+     *                    will be stored.
+     * @param offsetC     position of first element of result within its buffer.
+     * @param ldc         leading dimension of result.
+     * @param pool        pool where tasks will be executed.
+     * @param parallelism maximum number of tasks to split the product into.
+     */
+    static void multiply(final boolean transA, final boolean transB, final int m, final int n, final int k,
+                         final double alpha, final double[] a, final int offsetA, final int lda,
+                         final double[] b, final int offsetB, final int ldb,
+                         final double beta, final double[] c, final int offsetC, final int ldc,
+                         final ForkJoinPool pool, final int parallelism) {
+        // split columns of result unless result is taller than wide
+        final var splitColumns = n >= m;
+        final var size = splitColumns ? n : m;
+        final var step = splitColumns ? NR : MR;
+        final var blocks = Math.min(parallelism, (size + step - 1) / step);
+        if (blocks <= 1) {
+            multiply(transA, transB, m, n, k, alpha, a, offsetA, lda, b, offsetB, ldb, beta, c, offsetC, ldc);
+            return;
+        }
+
+        final var blockSize = roundUp((size + blocks - 1) / blocks, step);
+        final var task = new MultiplyTask(transA, transB, m, n, k, alpha, a, offsetA, lda, b, offsetB, ldb,
+                beta, c, offsetC, ldc, splitColumns, blockSize, 0, (size + blockSize - 1) / blockSize);
+        if (ForkJoinTask.getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Computes the symmetric product c = a' * a, where a is a k x n matrix and
+     * c is a n x n matrix. Only the blocks on or above the diagonal of the
+     * result are computed, and the upper triangle is then mirrored into the
+     * lower one, so that roughly half of the operations of a general product
+     * are needed. Provided result buffer must not overlap with the operand.
+     *
+     * @param n       number of columns of a and size of c.
+     * @param k       number of rows of a.
+     * @param a       buffer containing operand.
+     * @param offsetA position of first element of operand within its buffer.
+     * @param lda     leading dimension of operand.
+     * @param c       buffer where result will be stored.
+     * @param offsetC position of first element of result within its buffer.
+     * @param ldc     leading dimension of result.
+     */
+    static void gram(final int n, final int k, final double[] a, final int offsetA, final int lda,
+                     final double[] c, final int offsetC, final int ldc) {
+        // compute blocks of columns of upper triangle (including diagonal
+        // blocks)
+        for (var j = 0; j < n; j += MC) {
+            final var nb = Math.min(MC, n - j);
+            multiply(true, false, j + nb, nb, k, a, offsetA, lda, a, offsetA + j * lda, lda,
+                    c, offsetC + j * ldc, ldc);
+        }
+
+        mirrorUpper(n, c, offsetC, ldc);
+    }
+
+    /**
+     * Scales a m x n matrix in place. If scale is zero, matrix is set to zero
+     * regardless of its initial contents.
+     *
+     * @param m      number of rows of matrix.
+     * @param n      number of columns of matrix.
+     * @param scale  scale to be applied.
+     * @param c      buffer containing matrix.
+     * @param offset position of first element of matrix within its buffer.
+     * @param ldc    leading dimension of matrix.
+     */
+    static void scale(final int m, final int n, final double scale, final double[] c, final int offset,
+                      final int ldc) {
+        if (scale == 1.0) {
+            return;
+        }
+
+        for (var j = 0; j < n; j++) {
+            final var start = offset + j * ldc;
+            final var end = start + m;
+            if (scale == 0.0) {
+                Arrays.fill(c, start, end, 0.0);
+            } else {
+                for (var i = start; i < end; i++) {
+                    c[i] *= scale;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the strictly upper triangle of a n x n matrix into its strictly
+     * lower triangle, so that matrix becomes symmetric.
+     *
+     * @param n      size of matrix.
+     * @param c      buffer containing matrix.
+     * @param offset position of first element of matrix within its buffer.
+     * @param ldc    leading dimension of matrix.
+     */
+    static void mirrorUpper(final int n, final double[] c, final int offset, final int ldc) {
+        for (var j = 0; j < n; j++) {
+            final var column = offset + j * ldc;
+            for (var i = j + 1; i < n; i++) {
+                c[column + i] = c[offset + j + i * ldc];
+            }
+        }
+    }
+
+    /**
+     * Gets position within its buffer of element (row, column) of op(x),
+     * where op(x) is either x or its transpose x'.
+     *
+     * @param trans  true if x is transposed, false otherwise.
+     * @param offset position of first element of x within its buffer.
+     * @param ld     leading dimension of x as stored in its buffer.
+     * @param row    row of op(x).
+     * @param column column of op(x).
+     * @return position of element within buffer.
+     */
+    private static int position(final boolean trans, final int offset, final int ld, final int row,
+                                final int column) {
+        return trans ? offset + column + row * ld : offset + row + column * ld;
+    }
+
+    /**
+     * Copies a mc x kc block of left operand, scaled by alpha, into provided
+     * packed buffer. Block is stored as consecutive slivers of MR rows, where
+     * each sliver stores its MR values for each column consecutively. Slivers
+     * at the bottom edge are padded with zeros.
+     *
+     * @param trans  true if left operand is transposed, false otherwise.
+     * @param mc     number of rows of block.
+     * @param kc     number of columns of block.
+     * @param alpha  scale applied to packed values.
+     * @param a      buffer containing left operand.
+     * @param offset position of first element of block within buffer.
+     * @param lda    leading dimension of left operand as stored in its buffer.
+     * @param packA  buffer where packed data is stored.
+     */
+    private static void packA(final boolean trans, final int mc, final int kc, final double alpha,
+                              final double[] a, final int offset, final int lda, final double[] packA) {
+        // distance within buffer between consecutive rows and columns of block
+        final var rowStep = trans ? lda : 1;
+        final var columnStep = trans ? 1 : lda;
+        var pos = 0;
+        for (var ir = 0; ir < mc; ir += MR) {
+            final var mr = Math.min(MR, mc - ir);
+            for (var p = 0; p < kc; p++) {
+                final var start = offset + ir * rowStep + p * columnStep;
+                var i = 0;
+                for (; i < mr; i++) {
+                    packA[pos++] = alpha * a[start + i * rowStep];
+                }
+                for (; i < MR; i++) {
+                    packA[pos++] = 0.0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a kc x nc block of right operand into provided packed buffer.
+     * Block is stored as consecutive slivers of NR columns, where each sliver
+     * stores its NR values for each row consecutively. Slivers at the right
+     * edge are padded with zeros.
+     *
+     * @param trans  true if right operand is transposed, false otherwise.
+     * @param kc     number of rows of block.
+     * @param nc     number of columns of block.
+     * @param b      buffer containing right operand.
+     * @param offset position of first element of block within buffer.
+     * @param ldb    leading dimension of right operand as stored in its buffer.
+     * @param packB  buffer where packed data is stored.
+     */
+    private static void packB(final boolean trans, final int kc, final int nc, final double[] b,
+                              final int offset, final int ldb, final double[] packB) {
+        // distance within buffer between consecutive rows and columns of block
+        final var rowStep = trans ? ldb : 1;
+        final var columnStep = trans ? 1 : ldb;
+        var pos = 0;
+        for (var jr = 0; jr < nc; jr += NR) {
+            final var nr = Math.min(NR, nc - jr);
+            for (var p = 0; p < kc; p++) {
+                final var start = offset + p * rowStep + jr * columnStep;
+                var j = 0;
+                for (; j < nr; j++) {
+                    packB[pos++] = b[start + j * columnStep];
+                }
+                for (; j < NR; j++) {
+                    packB[pos++] = 0.0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies packed blocks of both operands and accumulates the result.
+     *
+     * @param mc      number of rows of packed left block.
+     * @param nc      number of columns of packed right block.
+     * @param kc      inner size of packed blocks.
+     * @param packA   packed left block.
+     * @param packB   packed right block.
+     * @param c       buffer where result is accumulated.
+     * @param offsetC position of first element of result block within buffer.
+     * @param ldc     leading dimension of result.
+     * @param tile    scratch array used to store partial tiles at the edges.
+     */
+    private static void macroKernel(final int mc, final int nc, final int kc, final double[] packA,
+                                    final double[] packB, final double[] c, final int offsetC, final int ldc,
+                                    final double[] tile) {
+        final var kernels = Kernels.INSTANCE;
+        for (var jr = 0; jr < nc; jr += NR) {
+            final var nr = Math.min(NR, nc - jr);
+            final var posB = jr * kc;
+            for (var ir = 0; ir < mc; ir += MR) {
+                final var mr = Math.min(MR, mc - ir);
+                kernels.multiplyTile(kc, packA, ir * kc, packB, posB, c, offsetC + ir + jr * ldc, ldc, mr, nr, tile);
+            }
+        }
+    }
+
+    /**
+     * Rounds provided value up to the nearest multiple of provided step.
+     *
+     * @param value value to be rounded.
+     * @param step  step.
+     * @return rounded value.
+     */
+    private static int roundUp(final int value, final int step) {
+        return (value + step - 1) / step * step;
+    }
+
+    /**
+     * Task computing a range of blocks of the result of a product. Ranges
+     * containing more than one block are recursively split in halves.
+     */
+    private static final class MultiplyTask extends RecursiveAction {
+
+        /**
+         * True if left operand is transposed, false otherwise.
+         */
+        private final boolean transA;
+
+        /**
+         * True if right operand is transposed, false otherwise.
+         */
+        private final boolean transB;
+
+        /**
+         * Number of rows of left operand and result.
+         */
+        private final int m;
+
+        /**
+         * Number of columns of right operand and result.
+         */
+        private final int n;
+
+        /**
+         * Number of columns of left operand and rows of right operand.
+         */
+        private final int k;
+
+        /**
+         * Scale of product.
+         */
+        private final double alpha;
+
+        /**
+         * Buffer containing left operand.
+         */
+        private final double[] a;
+
+        /**
+         * Position of first element of left operand within its buffer.
+         */
+        private final int offsetA;
+
+        /**
+         * Leading dimension of left operand.
+         */
+        private final int lda;
+
+        /**
+         * Buffer containing right operand.
+         */
+        private final double[] b;
+
+        /**
+         * Position of first element of right operand within its buffer.
+         */
+        private final int offsetB;
+
+        /**
+         * Leading dimension of right operand.
+         */
+        private final int ldb;
+
+        /**
+         * Scale of initial result.
+         */
+        private final double beta;
+
+        /**
+         * Buffer where result is stored.
+         */
+        private final double[] c;
+
+        /**
+         * Position of first element of result within its buffer.
+         */
+        private final int offsetC;
+
+        /**
+         * Leading dimension of result.
+         */
+        private final int ldc;
+
+        /**
+         * True if result is split into blocks of columns, false if it is split
+         * into blocks of rows.
+         */
+        private final boolean splitColumns;
+
+        /**
+         * Number of rows or columns of each block.
+         */
+        private final int blockSize;
+
+        /**
+         * First block to be computed by this task (inclusive).
+         */
+        private final int startBlock;
+
+        /**
+         * Last block to be computed by this task (exclusive).
+         */
+        private final int endBlock;
+
+        /**
+         * Constructor.
+         *
+         * @param transA       true if left operand is transposed.
+         * @param transB       true if right operand is transposed.
+         * @param m            number of rows of a and c.
+         * @param n            number of columns of b and c.
+         * @param k            number of columns of a and rows of b.
+         * @param alpha        scale of product.
+         * @param a            buffer containing left operand.
+         * @param offsetA      position of first element of left operand.
+         * @param lda          leading dimension of left operand.
+         * @param b            buffer containing right operand.
+         * @param offsetB      position of first element of right operand.
+         * @param ldb          leading dimension of right operand.
+         * @param beta         scale of initial result.
+         * @param c            buffer where result will be stored.
+         * @param offsetC      position of first element of result.
+         * @param ldc          leading dimension of result.
+         * @param splitColumns true to split columns, false to split rows.
+         * @param blockSize    number of rows or columns of each block.
+         * @param startBlock   first block to be computed (inclusive).
+         * @param endBlock     last block to be computed (exclusive).
+         */
+        MultiplyTask(final boolean transA, final boolean transB, final int m, final int n, final int k,
+                     final double alpha, final double[] a, final int offsetA, final int lda,
+                     final double[] b, final int offsetB, final int ldb,
+                     final double beta, final double[] c, final int offsetC, final int ldc,
+                     final boolean splitColumns, final int blockSize, final int startBlock, final int endBlock) {
+            this.transA = transA;
+            this.transB = transB;
+            this.m = m;
+            this.n = n;
+            this.k = k;
+            this.alpha = alpha;
+            this.a = a;
+            this.offsetA = offsetA;
+            this.lda = lda;
+            this.b = b;
+            this.offsetB = offsetB;
+            this.ldb = ldb;
+            this.beta = beta;
+            this.c = c;
+            this.offsetC = offsetC;
+            this.ldc = ldc;
+            this.splitColumns = splitColumns;
+            this.blockSize = blockSize;
+            this.startBlock = startBlock;
+            this.endBlock = endBlock;
+        }
+
+        /**
+         * Computes the blocks of this task.
+         */
+        @Override
+        protected void compute() {
+            if (endBlock - startBlock > 1) {
+                final var middle = (startBlock + endBlock) >>> 1;
+                invokeAll(new MultiplyTask(transA, transB, m, n, k, alpha, a, offsetA, lda, b, offsetB, ldb,
+                                beta, c, offsetC, ldc, splitColumns, blockSize, startBlock, middle),
+                        new MultiplyTask(transA, transB, m, n, k, alpha, a, offsetA, lda, b, offsetB, ldb,
+                                beta, c, offsetC, ldc, splitColumns, blockSize, middle, endBlock));
+                return;
+            }
+
+            final var start = startBlock * blockSize;
+            if (splitColumns) {
+                final var columns = Math.min(blockSize, n - start);
+                multiply(transA, transB, m, columns, k, alpha, a, offsetA, lda,
+                        b, position(transB, offsetB, ldb, 0, start), ldb, beta, c, offsetC + start * ldc, ldc);
+            } else {
+                final var rows = Math.min(blockSize, m - start);
+                multiply(transA, transB, rows, n, k, alpha, a, position(transA, offsetA, lda, start, 0), lda,
+                        b, offsetB, ldb, beta, c, offsetC + start, ldc);
+            }
+        }
+    }
+
+    /**
+     * Scratch arrays used by a thread to pack operands. Arrays grow as needed
+     * and are reused by subsequent products computed by the same thread,
+     * unless they exceed {@link #MAX_RETAINED_PACKING_LENGTH} elements.
+     */
+    private static final class PackingBuffers {
+
+        /**
+         * Scratch array of MR x NR elements used to store partial tiles at the
+         * edges.
+         */
+        private final double[] tile = new double[MR * NR];
+
+        /**
+         * Array where blocks of left operand are packed.
+         */
+        private double[] packA = new double[0];
+
+        /**
+         * Array where blocks of right operand are packed.
+         */
+        private double[] packB = new double[0];
+
+        /**
+         * Gets array where blocks of left operand are packed, having at least
+         * provided length.
+         *
+         * @param length minimum required length.
+         * @return array where blocks of left operand are packed.
+         */
+        private double[] getPackA(final int length) {
+            if (packA.length < length) {
+                packA = new double[length];
+            }
+            return packA;
+        }
+
+        /**
+         * Gets array where blocks of right operand are packed, having at least
+         * provided length.
+         *
+         * @param length minimum required length.
+         * @return array where blocks of right operand are packed.
+         */
+        private double[] getPackB(final int length) {
+            if (packB.length < length) {
+                packB = new double[length];
+            }
+            return packB;
+        }
+
+        /**
+         * Releases scratch arrays exceeding the maximum retained length.
+         */
+        private void trim() {
+            if (packA.length > MAX_RETAINED_PACKING_LENGTH) {
+                packA = new double[0];
+            }
+            if (packB.length > MAX_RETAINED_PACKING_LENGTH) {
+                packB = new double[0];
+            }
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.irurueta.algebra;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * This class allows decomposition of matrices using Cholesky decomposition,
  * which consists on retrieving a lower or upper triangular matrix so that input
@@ -22,6 +24,21 @@ package com.irurueta.algebra;
  * matrix, L is a lower triangular matrix and R is an upper triangular matrix.
  * Note: Cholesky decomposition can only be correctly computed on positive
  * definite matrices.
+ * Decomposition is computed by a blocked algorithm working directly on the
+ * column-major buffer of data (see {@link BlockedCholeskyFactorizer}), so
+ * that most of the work is done by matrix products.
+ * Optionally, a fork/join pool can be provided so that large matrices are
+ * decomposed in parallel. Parallel decompositions are identical to sequential
+ * ones.
+ * Storage of the triangular factor can be kept and reused by later
+ * decompositions of matrices having the same size (see
+ * {@link #setStorageReused(boolean)}), in which case the factor returned by
+ * {@link #getR()} will be overwritten when a new decomposition is computed.
+ * By default, a new factor is allocated on each decomposition.
+ * Once computed, the factor can be modified in O(n^2) to account for rank-1
+ * corrections of decomposed matrix (i.e. A + x * x' or A - x * x') by means
+ * of {@link #update(double[])} and {@link #downdate(double[])}, which is much
+ * faster than computing a new decomposition.
  */
 public class CholeskyDecomposer extends Decomposer {
 
@@ -36,6 +53,30 @@ public class CholeskyDecomposer extends Decomposer {
      */
     private boolean spd;
 
+    /**
+     * Storage for the triangular factor that is kept across decompositions so
+     * that it can be reused.
+     */
+    private Matrix rStorage;
+
+    /**
+     * Scratch array used to update or downdate the triangular factor, which is
+     * kept across calls so that it can be reused.
+     */
+    private double[] work;
+
+    /**
+     * Pool where decomposition is executed in parallel, or null to decompose
+     * sequentially on calling thread.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Indicates whether storage of the triangular factor is reused by later
+     * decompositions.
+     */
+    private boolean storageReused;
+
     /**
      * Constructor of this class.
      */
@@ -56,6 +97,18 @@ public class CholeskyDecomposer extends Decomposer {
         spd = false;
     }
 
+    /**
+     * Constructor of this class.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     * @param pool        pool where decomposition is executed in parallel, or
+     *                    null to decompose sequentially on calling thread.
+     */
+    public CholeskyDecomposer(final Matrix inputMatrix, final ForkJoinPool pool) {
+        this(inputMatrix);
+        this.pool = pool;
+    }
+
     /**
      * Returns decomposer type corresponding to Cholesky decomposition.
      *
@@ -66,6 +119,63 @@ public class CholeskyDecomposer extends Decomposer {
         return DecomposerType.CHOLESKY_DECOMPOSITION;
     }
 
+    /**
+     * Gets pool where decomposition is executed in parallel.
+     *
+     * @return pool where decomposition is executed in parallel, or null if
+     * decomposition is computed sequentially on calling thread.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets pool where decomposition is executed in parallel.
+     * Only matrices large enough to benefit from it are decomposed in
+     * parallel.
+     *
+     * @param pool pool where decomposition is executed in parallel, or null
+     *             to decompose sequentially on calling thread.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setPool(final ForkJoinPool pool) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Indicates whether storage of the triangular factor returned by
+     * {@link #getR()} is reused by later decompositions of matrices having the
+     * same size.
+     *
+     * @return true if storage of the triangular factor is reused, false
+     * otherwise.
+     */
+    public boolean isStorageReused() {
+        return storageReused;
+    }
+
+    /**
+     * Specifies whether storage of the triangular factor returned by
+     * {@link #getR()} is reused by later decompositions of matrices having the
+     * same size.
+     * When enabled, decompositions do not allocate memory once storage has
+     * grown, but factors previously returned by this instance are overwritten
+     * by later decompositions. By default, storage is not reused.
+     *
+     * @param storageReused true to reuse storage of the triangular factor,
+     *                      false otherwise.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setStorageReused(final boolean storageReused) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.storageReused = storageReused;
+    }
+
     /**
      * Sets reference to input matrix to be decomposed.
      *
@@ -146,36 +256,21 @@ public class CholeskyDecomposer extends Decomposer {
 
         locked = true;
 
-        final Matrix localR;
-        try {
-            localR = new Matrix(columns, columns);
-        } catch (WrongSizeException e) {
-            throw new DecomposerException(e);
-        }
+        // copy matrix contents
+        rStorage = copyInto(inputMatrix, storageReused ? rStorage : null);
+        final var localR = rStorage;
 
-        var localSpd = true;
-        double d;
-        double s;
+        // input matrix must be exactly symmetric, although only its upper
+        // triangle is used to compute the factor
+        final var buffer = localR.getBuffer();
+        var localSpd = BlockedCholeskyFactorizer.isSymmetric(columns, buffer, columns);
+        localSpd &= BlockedCholeskyFactorizer.factor(columns, buffer, columns, pool);
 
-        // Main loop
+        // clear strict lower triangle
         for (var j = 0; j < columns; j++) {
-            d = 0.0;
-            for (var k = 0; k < j; k++) {
-                s = inputMatrix.getElementAt(k, j);
-                for (var i = 0; i < k; i++) {
-                    s = s - localR.getElementAt(i, k) * localR.getElementAt(i, j);
-                }
-                s /= localR.getElementAt(k, k);
-                localR.setElementAt(k, j, s);
-                d += s * s;
-                localSpd &= inputMatrix.getElementAt(k, j) == inputMatrix.getElementAt(j, k);
-            }
-            d = inputMatrix.getElementAt(j, j) - d;
-            localSpd &= d > 0.0;
-            // sqrt of max(d, 0.0)
-            localR.setElementAt(j, j, Math.sqrt(Math.max(d, 0.0)));
-            for (var k = j + 1; k < columns; k++) {
-                localR.setElementAt(k, j, 0.0);
+            final var start = j * columns;
+            for (var i = j + 1; i < columns; i++) {
+                buffer[start + i] = 0.0;
             }
         }
 
@@ -210,6 +305,11 @@ public class CholeskyDecomposer extends Decomposer {
      * matrix following this expression: A = R' * R. Where A is provided input
      * matrix that has been decomposed and R is the right upper triangular
      * matrix factor.
+     * Returned matrix is the factor kept by this instance, not a copy. Hence
+     * it is modified in place by later calls to {@link #update(double[])} and
+     * {@link #downdate(double[])}, and if storage reuse is enabled, it is also
+     * overwritten by later decompositions of matrices having the same size.
+     * A copy must be made if the current factor needs to be preserved.
      *
      * @return Returns Cholesky upper triangular matrix
      * @throws NotAvailableException Exception thrown if attempting to call this
@@ -225,6 +325,44 @@ public class CholeskyDecomposer extends Decomposer {
         return r;
     }
 
+    /**
+     * Returns Cholesky lower triangular factor L, so that A = L * L', using
+     * packed storage that does not keep the zeros of the upper triangle.
+     *
+     * @return Cholesky lower triangular factor.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before actually computing Cholesky decomposition. To avoid this
+     *                               exception call decompose() method first.
+     * @see #decompose()
+     */
+    public TriangularMatrix getTriangularL() throws NotAvailableException {
+        return getTriangularR().transposeAndReturnNew();
+    }
+
+    /**
+     * Returns Cholesky upper triangular factor R, so that A = R' * R, using
+     * packed storage that does not keep the zeros of the lower triangle.
+     *
+     * @return Cholesky upper triangular factor.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before actually computing Cholesky decomposition. To avoid this
+     *                               exception call decompose() method first.
+     * @see #decompose()
+     */
+    public TriangularMatrix getTriangularR() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        TriangularMatrix result = null;
+        try {
+            result = TriangularMatrix.newFromMatrix(r, true, false);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
     /**
      * Returns boolean indicating whether provided input matrix is
      * Symmetric Positive Definite or not.
@@ -247,6 +385,115 @@ public class CholeskyDecomposer extends Decomposer {
         return spd;
     }
 
+    /**
+     * Updates computed Cholesky factor so that it corresponds to the rank-1
+     * update A + x * x' of decomposed matrix A, where x is provided vector.
+     * Factor is modified in place in O(n^2) by applying a sequence of Givens
+     * rotations, which is much faster than decomposing updated matrix.
+     * Notice that after calling this method, factors and solutions of linear
+     * systems of equations no longer correspond to input matrix, but to
+     * updated one, which is not stored.
+     * Since the factor is modified in place, any matrix previously returned by
+     * {@link #getR()} is modified as well, whereas factors previously returned
+     * by other methods (such as {@link #getL()}) are copies that remain
+     * unchanged.
+     *
+     * @param x vector defining rank-1 update. Its contents are not modified.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before actually computing Cholesky decomposition. To avoid this
+     *                               exception call decompose() method first.
+     * @throws LockedException       Exception thrown if this instance is
+     *                               locked.
+     * @throws WrongSizeException    if length of provided vector is not equal
+     *                               to the number of rows of decomposed matrix.
+     * @throws NonSymmetricPositiveDefiniteMatrixException if decomposed matrix
+     *                               is not symmetric positive definite.
+     */
+    public void update(final double[] x) throws NotAvailableException, LockedException, WrongSizeException,
+            NonSymmetricPositiveDefiniteMatrixException {
+        final var n = prepareRankOneModification(x);
+        final var buffer = r.getBuffer();
+        final var w = work;
+
+        for (var k = 0; k < n; k++) {
+            final var startK = k * n;
+            final var rkk = buffer[startK + k];
+            final var rho = Math.hypot(rkk, w[k]);
+            final var c = rho / rkk;
+            final var s = w[k] / rkk;
+            buffer[startK + k] = rho;
+            for (var j = k + 1; j < n; j++) {
+                final var pos = j * n + k;
+                final var rkj = (buffer[pos] + s * w[j]) / c;
+                buffer[pos] = rkj;
+                w[j] = c * w[j] - s * rkj;
+            }
+        }
+    }
+
+    /**
+     * Downdates computed Cholesky factor so that it corresponds to the rank-1
+     * downdate A - x * x' of decomposed matrix A, where x is provided vector.
+     * Factor is modified in place in O(n^2) by applying a sequence of
+     * hyperbolic rotations, which is much faster than decomposing downdated
+     * matrix.
+     * Downdated matrix is checked to remain positive definite before modifying
+     * the factor, so that if it is not, an exception is thrown and the factor
+     * is left unchanged.
+     * Notice that after calling this method, factors and solutions of linear
+     * systems of equations no longer correspond to input matrix, but to
+     * downdated one, which is not stored.
+     * Since the factor is modified in place, any matrix previously returned by
+     * {@link #getR()} is modified as well, whereas factors previously returned
+     * by other methods (such as {@link #getL()}) are copies that remain
+     * unchanged.
+     *
+     * @param x vector defining rank-1 downdate. Its contents are not modified.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before actually computing Cholesky decomposition. To avoid this
+     *                               exception call decompose() method first.
+     * @throws LockedException       Exception thrown if this instance is
+     *                               locked.
+     * @throws WrongSizeException    if length of provided vector is not equal
+     *                               to the number of rows of decomposed matrix.
+     * @throws NonSymmetricPositiveDefiniteMatrixException if decomposed matrix
+     *                               is not symmetric positive definite or if downdated matrix would not be
+     *                               positive definite.
+     */
+    public void downdate(final double[] x) throws NotAvailableException, LockedException, WrongSizeException,
+            NonSymmetricPositiveDefiniteMatrixException {
+        final var n = prepareRankOneModification(x);
+        final var buffer = r.getBuffer();
+        final var w = work;
+
+        // A - x * x' = R' * (I - p * p') * R, where R' * p = x, is positive
+        // definite only if ||p|| < 1
+        System.arraycopy(w, 0, w, n, n);
+        TriangularSolver.solve(true, true, false, null, n, 1, buffer, 0, n, w, n, n);
+        var norm = 0.0;
+        for (var i = n; i < 2 * n; i++) {
+            norm += w[i] * w[i];
+        }
+        if (!(norm < 1.0)) {
+            throw new NonSymmetricPositiveDefiniteMatrixException();
+        }
+
+        for (var k = 0; k < n; k++) {
+            final var startK = k * n;
+            final var rkk = buffer[startK + k];
+            final var rho = Math.sqrt((rkk - w[k]) * (rkk + w[k]));
+            final var c = rho / rkk;
+            final var s = w[k] / rkk;
+            buffer[startK + k] = rho;
+            for (var j = k + 1; j < n; j++) {
+                final var pos = j * n + k;
+                final var rkj = (buffer[pos] - s * w[j]) / c;
+                buffer[pos] = rkj;
+                w[j] = c * w[j] - s * rkj;
+            }
+        }
+    }
+
     /**
      * Solves a linear system of equations of the following form: A * X = B.
      * Where A is the input matrix provided for Cholesky decomposition, X is the
@@ -301,33 +548,20 @@ public class CholeskyDecomposer extends Decomposer {
         }
 
         // Copy b into result matrix
-        result.copyFrom(b);
-
-        final var l = getL();
-
-        // Solve L * Y = B
-        for (var k = 0; k < columns; k++) {
-            for (var j = 0; j < colsB; j++) {
-                for (var i = 0; i < k; i++) {
-                    result.setElementAt(k, j, result.getElementAt(k, j)
-                            - result.getElementAt(i, j) * l.getElementAt(k, i));
-                }
-                result.setElementAt(k, j, result.getElementAt(k, j) / l.getElementAt(k, k));
-            }
+        if (result != b) {
+            result.copyFrom(b);
         }
 
-        // Solve L' * X = Y
-        int k2;
-        for (var k = columns - 1; k >= 0; k--) {
-            k2 = k;
-            for (var j = 0; j < colsB; j++) {
-                for (var i = k2 + 1; i < columns; i++) {
-                    result.setElementAt(k2, j, result.getElementAt(k2, j)
-                            - result.getElementAt(i, j) * l.getElementAt(i, k2));
-                }
-                result.setElementAt(k2, j, result.getElementAt(k2, j) / l.getElementAt(k2, k2));
-            }
-        }
+        final var x = result.getBuffer();
+        final var rBuffer = r.getBuffer();
+
+        // Solve R' * Y = B
+        TriangularSolver.solve(true, true, false, null, columns, colsB, rBuffer, 0, columns,
+                x, 0, rows);
+
+        // Solve R * X = Y
+        TriangularSolver.solve(true, false, false, null, columns, colsB, rBuffer, 0, columns,
+                x, 0, rows);
     }
 
     /**
@@ -365,4 +599,42 @@ public class CholeskyDecomposer extends Decomposer {
         solve(b, out);
         return out;
     }
+
+    /**
+     * Checks that a rank-1 modification of computed factor can be made with
+     * provided vector and copies it into scratch array.
+     *
+     * @param x vector defining rank-1 modification.
+     * @return number of rows and columns of factor.
+     * @throws NotAvailableException if decomposition has not yet been computed.
+     * @throws LockedException       if this instance is locked.
+     * @throws WrongSizeException    if length of provided vector is not equal
+     *                               to the number of rows of factor.
+     * @throws NonSymmetricPositiveDefiniteMatrixException if decomposed matrix
+     *                               is not symmetric positive definite.
+     */
+    private int prepareRankOneModification(final double[] x) throws NotAvailableException, LockedException,
+            WrongSizeException, NonSymmetricPositiveDefiniteMatrixException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var n = r.getRows();
+        if (x.length != n) {
+            throw new WrongSizeException();
+        }
+
+        if (!spd) {
+            throw new NonSymmetricPositiveDefiniteMatrixException();
+        }
+
+        // twice the length so that downdates have room for an additional vector
+        work = ensureCapacity(work, 2 * n);
+        System.arraycopy(x, 0, work, 0, n);
+        return n;
+    }
 }
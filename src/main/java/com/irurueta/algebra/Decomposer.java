@@ -134,4 +134,79 @@ public abstract class Decomposer {
      */
     public abstract void decompose() throws NotReadyException, LockedException,
             DecomposerException;
+
+    /**
+     * Returns a matrix having provided size, reusing provided storage matrix
+     * whenever possible so that decomposers can keep their workspaces across
+     * successive decompositions.
+     *
+     * @param storage matrix to be reused, or null if none is available yet.
+     * @param rows    number of rows of required matrix.
+     * @param columns number of columns of required matrix.
+     * @return provided storage matrix resized if needed, or a new matrix if no
+     * storage was provided.
+     * @throws WrongSizeException if either rows or columns is zero.
+     */
+    static Matrix reuse(final Matrix storage, final int rows, final int columns) throws WrongSizeException {
+        if (storage == null) {
+            return new Matrix(rows, columns);
+        }
+        if (storage.getRows() != rows || storage.getColumns() != columns) {
+            storage.resize(rows, columns);
+        }
+        return storage;
+    }
+
+    /**
+     * Copies provided input matrix into provided storage matrix, which is
+     * reused whenever possible.
+     *
+     * @param input   matrix to be copied.
+     * @param storage matrix to be reused, or null if none is available yet.
+     * @return storage matrix containing a copy of input matrix.
+     */
+    static Matrix copyInto(final Matrix input, final Matrix storage) {
+        if (storage == null) {
+            return new Matrix(input);
+        }
+        storage.copyFrom(input);
+        return storage;
+    }
+
+    /**
+     * Returns an array having exactly provided length, reusing provided
+     * storage array whenever it already has such length.
+     *
+     * @param storage array to be reused, or null if none is available yet.
+     * @param length  required length.
+     * @return provided storage array or a new one.
+     */
+    static double[] reuse(final double[] storage, final int length) {
+        return storage != null && storage.length == length ? storage : new double[length];
+    }
+
+    /**
+     * Returns an array having exactly provided length, reusing provided
+     * storage array whenever it already has such length.
+     *
+     * @param storage array to be reused, or null if none is available yet.
+     * @param length  required length.
+     * @return provided storage array or a new one.
+     */
+    static int[] reuse(final int[] storage, final int length) {
+        return storage != null && storage.length == length ? storage : new int[length];
+    }
+
+    /**
+     * Returns an array having at least provided length, reusing provided
+     * storage array whenever it has enough capacity. This is used for internal
+     * scratch arrays whose contents are not exposed.
+     *
+     * @param storage array to be reused, or null if none is available yet.
+     * @param length  minimum required length.
+     * @return provided storage array or a new one.
+     */
+    static double[] ensureCapacity(final double[] storage, final int length) {
+        return storage != null && storage.length >= length ? storage : new double[length];
+    }
 }
@@ -59,5 +59,22 @@ public enum DecomposerType {
      * matrix into 2 unary matrices (U, V) and 1 diagonal matrix containing
      * singular values (D).
      */
-    SINGULAR_VALUE_DECOMPOSITION
+    SINGULAR_VALUE_DECOMPOSITION,
+
+    /**
+     * Defines LDL' decomposition, which decomposes a square symmetric matrix,
+     * which does not need to be positive definite, into a unit lower
+     * triangular factor (L), a block diagonal factor (D) and the transposed
+     * of L (L'), up to a symmetric permutation.
+     */
+    LDLT_DECOMPOSITION,
+
+    /**
+     * Defines column-pivoted QR decomposition, which decomposes any
+     * rectangular matrix into an orthogonal matrix (Q) and an upper triangular
+     * matrix (R) up to a permutation of its columns (P), so that A * P = Q * R.
+     * Diagonal of R reveals the numerical rank of the matrix at a fraction of
+     * the cost of Singular Value Decomposition.
+     */
+    PIVOTED_QR_DECOMPOSITION
 }
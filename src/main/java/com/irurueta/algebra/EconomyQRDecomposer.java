@@ -15,9 +15,23 @@
  */
 package com.irurueta.algebra;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * This decomposer computes economy QR decomposition, which is faster than
  * typical QR decomposition.
+ * Decomposition is computed by a blocked Householder algorithm working
+ * directly on the column-major buffer of data (see
+ * {@link HouseholderQRFactorizer}). Reflections are aggregated in panels
+ * using compact WY form, so that most of the work of decomposing, solving
+ * systems of equations for many right hand sides at once, and forming Q is
+ * done by matrix products.
+ * Optionally, a fork/join pool can be provided so that trailing updates of
+ * large matrices and right hand sides are computed in parallel. Parallel
+ * decompositions are identical to sequential ones.
+ * Storage of decomposition results and of the scratch matrix used when solving
+ * systems of equations is kept and reused across calls on matrices having the
+ * same size.
  */
 @SuppressWarnings("DuplicatedCode")
 public class EconomyQRDecomposer extends Decomposer {
@@ -44,6 +58,35 @@ public class EconomyQRDecomposer extends Decomposer {
      */
     private double[] rDiag;
 
+    /**
+     * Storage for decomposition results that is kept across decompositions so
+     * that it can be reused.
+     */
+    private Matrix qrStorage;
+
+    /**
+     * Storage for the diagonal of R that is kept across decompositions so that
+     * it can be reused.
+     */
+    private double[] rDiagStorage;
+
+    /**
+     * Storage for triangular factors of the compact WY form of reflections
+     * that is kept across decompositions so that it can be reused.
+     */
+    private double[] tStorage;
+
+    /**
+     * Pool where decomposition is executed in parallel, or null to decompose
+     * sequentially on calling thread.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Scratch matrix reused when solving systems of equations.
+     */
+    private Matrix solveStorage;
+
     /**
      * Constructor of this class.
      */
@@ -64,6 +107,18 @@ public class EconomyQRDecomposer extends Decomposer {
         rDiag = null;
     }
 
+    /**
+     * Constructor of this class.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     * @param pool        pool where decomposition is executed in parallel, or
+     *                    null to decompose sequentially on calling thread.
+     */
+    public EconomyQRDecomposer(final Matrix inputMatrix, final ForkJoinPool pool) {
+        this(inputMatrix);
+        this.pool = pool;
+    }
+
     /**
      * Returns decomposer type corresponding to Economy QR decomposition.
      *
@@ -74,6 +129,33 @@ public class EconomyQRDecomposer extends Decomposer {
         return DecomposerType.QR_ECONOMY_DECOMPOSITION;
     }
 
+    /**
+     * Gets pool where decomposition is executed in parallel.
+     *
+     * @return pool where decomposition is executed in parallel, or null if
+     * decomposition is computed sequentially on calling thread.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets pool where decomposition is executed in parallel.
+     * Only matrices large enough to benefit from it are decomposed in
+     * parallel. Pool is also used to solve systems of equations having many
+     * right hand sides.
+     *
+     * @param pool pool where decomposition is executed in parallel, or null
+     *             to decompose sequentially on calling thread.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setPool(final ForkJoinPool pool) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.pool = pool;
+    }
+
     /**
      * Sets reference to input matrix to be decomposed.
      *
@@ -135,47 +217,14 @@ public class EconomyQRDecomposer extends Decomposer {
 
         final var rows = inputMatrix.getRows();
         final var columns = inputMatrix.getColumns();
-        qr = new Matrix(inputMatrix);
-
-        rDiag = new double[columns];
-        double nrm;
-        double s;
-
-        // Main loop
-        for (var k = 0; k < columns; k++) {
-            // Compute 2-norm of k-th column without under/overflow
-            nrm = 0.0;
+        qrStorage = copyInto(inputMatrix, qrStorage);
+        qr = qrStorage;
 
-            for (var i = k; i < rows; i++) {
-                nrm = Math.sqrt(nrm * nrm + Math.pow(qr.getElementAt(i, k), 2.0));
-            }
+        rDiagStorage = reuse(rDiagStorage, columns);
+        rDiag = rDiagStorage;
+        tStorage = reuse(tStorage, HouseholderQRFactorizer.BLOCK_SIZE * Math.min(rows, columns));
 
-            if (nrm != 0.0) {
-                // Form k-th Householder vector
-                if (qr.getElementAt(k, k) < 0.0) {
-                    nrm = -nrm;
-                }
-
-                for (var i = k; i < rows; i++) {
-                    qr.setElementAt(i, k, qr.getElementAt(i, k) / nrm);
-                }
-                qr.setElementAt(k, k, qr.getElementAt(k, k) + 1.0);
-
-                // Apply transformation to remaining columns
-                for (var j = k + 1; j < columns; j++) {
-                    s = 0.0;
-                    for (var i = k; i < rows; i++) {
-                        s += qr.getElementAt(i, k) * qr.getElementAt(i, j);
-                    }
-                    s = -s / qr.getElementAt(k, k);
-                    for (var i = k; i < rows; i++) {
-                        qr.setElementAt(i, j, qr.getElementAt(i, j) + s * qr.getElementAt(i, k));
-                    }
-                }
-            }
-
-            rDiag[k] = -nrm;
-        }
+        HouseholderQRFactorizer.factor(rows, columns, qr.getBuffer(), rows, rDiag, tStorage, pool);
 
         locked = false;
     }
@@ -356,6 +405,47 @@ public class EconomyQRDecomposer extends Decomposer {
         }
     }
 
+    /**
+     * Returns upper triangular factor matrix using packed storage, which
+     * does not keep the zeros of the lower triangle.
+     * QR decomposition decomposes input matrix into Q (orthogonal matrix) and
+     * R, which is an upper triangular matrix.
+     *
+     * @return Upper triangular factor matrix.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing QR decomposition. To avoid this exception call
+     *                               decompose() method first.
+     * @see #decompose()
+     */
+    public TriangularMatrix getTriangularR() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+        final var columns = inputMatrix.getColumns();
+        final var rows = inputMatrix.getRows();
+
+        TriangularMatrix r = null;
+        try {
+            r = new TriangularMatrix(columns, true, false);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+
+        // rows of R beyond the number of rows of input matrix are zero
+        final var src = qr.getBuffer();
+        final var dst = r.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            final var start = SymmetricMatrix.getColumnStart(j);
+            if (j < rows) {
+                System.arraycopy(src, j * rows, dst, start, j);
+                dst[start + j] = rDiag[j];
+            } else {
+                System.arraycopy(src, j * rows, dst, start, rows);
+            }
+        }
+        return r;
+    }
+
     /**
      * Return upper triangular factor matrix.
      * QR decomposition decomposes input matrix into Q (orthogonal matrix) and
@@ -398,7 +488,6 @@ public class EconomyQRDecomposer extends Decomposer {
 
         final var rows = inputMatrix.getRows();
         final var columns = inputMatrix.getColumns();
-        double s;
 
         if (rows < columns) {
             throw new WrongSizeException();
@@ -412,25 +501,7 @@ public class EconomyQRDecomposer extends Decomposer {
             }
         }
 
-        for (var k = columns - 1; k >= 0; k--) {
-            for (var i = 0; i < rows; i++) {
-                q.setElementAt(i, k, 0.0);
-            }
-            q.setElementAt(k, k, 1.0);
-            for (var j = k; j < columns; j++) {
-                if (qr.getElementAt(k, k) != 0) {
-                    s = 0.0;
-                    for (var i = k; i < rows; i++) {
-                        s += qr.getElementAt(i, k) * q.getElementAt(i, j);
-                    }
-
-                    s = -s / qr.getElementAt(k, k);
-                    for (var i = k; i < rows; i++) {
-                        q.setElementAt(i, j, q.getElementAt(i, j) + s * qr.getElementAt(i, k));
-                    }
-                }
-            }
-        }
+        HouseholderQRFactorizer.formQ(rows, columns, qr.getBuffer(), rows, tStorage, columns, q.getBuffer(), rows);
     }
 
     /**
@@ -548,7 +619,6 @@ public class EconomyQRDecomposer extends Decomposer {
         final var columns = inputMatrix.getColumns();
         final var rowsB = b.getRows();
         final var colsB = b.getColumns();
-        double s;
 
         if (rowsB != rows) {
             throw new WrongSizeException();
@@ -566,33 +636,18 @@ public class EconomyQRDecomposer extends Decomposer {
         }
 
         // Copy b into X
-        final var x = new Matrix(b);
-
-        // Compute Y = transpose(Q) * B
-        for (var k = 0; k < columns; k++) {
-            for (var j = 0; j < colsB; j++) {
-                s = 0.0;
-                for (var i = k; i < rows; i++) {
-                    s += qr.getElementAt(i, k) * x.getElementAt(i, j);
-                }
-                s = -s / qr.getElementAt(k, k);
-                for (var i = k; i < rows; i++) {
-                    x.setElementAt(i, j, x.getElementAt(i, j) + s * qr.getElementAt(i, k));
-                }
-            }
-        }
-
-        // Solve R * X = Y
-        for (var k = columns - 1; k >= 0; k--) {
-            for (var j = 0; j < colsB; j++) {
-                x.setElementAt(k, j, x.getElementAt(k, j) / rDiag[k]);
-            }
-            for (var i = 0; i < k; i++) {
-                for (var j = 0; j < colsB; j++) {
-                    x.setElementAt(i, j, x.getElementAt(i, j) - x.getElementAt(k, j) * qr.getElementAt(i, k));
-                }
-            }
-        }
+        solveStorage = copyInto(b, solveStorage);
+        final var x = solveStorage;
+
+        // Compute Y = transpose(Q) * B, applying reflections to all right
+        // hand sides at once
+        HouseholderQRFactorizer.applyQt(rows, columns, qr.getBuffer(), rows, tStorage, colsB, x.getBuffer(), rows,
+                pool);
+
+        // Solve R * X = Y, where strict upper triangle of R is stored in qr
+        // and its diagonal in rDiag
+        TriangularSolver.solve(true, false, false, rDiag, columns, colsB, qr.getBuffer(), 0, rows,
+                x.getBuffer(), 0, rows);
 
         // Pick only first columns rows of X in case of overdetermined systems
         // (where rows > columns), otherwise rows == columns and we pick them all
@@ -0,0 +1,1037 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Defines a matrix of single precision numerical data.
+ * This is the single precision counterpart of {@link Matrix}. Values are
+ * stored in column order inside an internal array of floats, hence matrices
+ * of this class require half the memory (and memory bandwidth) of double
+ * precision matrices, at the expense of precision.
+ * Kernels of this class are written as loops on contiguous columns so that
+ * they can be vectorized by the JIT compiler.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class FloatMatrix implements Serializable {
+
+    /**
+     * Number of rows of blocks of left operand used to compute matrix
+     * products.
+     */
+    static final int MC = 512;
+
+    /**
+     * Number of columns of blocks of left operand used to compute matrix
+     * products.
+     */
+    static final int KC = 128;
+
+    /**
+     * Number of matrix rows.
+     */
+    private int rows;
+
+    /**
+     * Number of matrix columns.
+     */
+    private int columns;
+
+    /**
+     * Array containing data of matrix. Data is stored linearly in memory
+     * using column order.
+     */
+    private float[] buffer;
+
+    /**
+     * Constructor of this class.
+     * Values of a new matrix are initialized to zero.
+     *
+     * @param rows    Defines number of rows in matrix.
+     * @param columns Defines number of columns in matrix.
+     * @throws WrongSizeException Exception thrown if number of rows or
+     *                            columns is zero or negative.
+     */
+    public FloatMatrix(final int rows, final int columns) throws WrongSizeException {
+        internalResize(rows, columns);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param m matrix to copy from.
+     */
+    public FloatMatrix(final FloatMatrix m) {
+        rows = m.rows;
+        columns = m.columns;
+        buffer = Arrays.copyOf(m.buffer, m.buffer.length);
+    }
+
+    /**
+     * Creates a new single precision matrix containing the values of provided
+     * double precision matrix rounded to the nearest float.
+     *
+     * @param m matrix to convert.
+     * @return a new single precision matrix.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static FloatMatrix newFromMatrix(final Matrix m) {
+        FloatMatrix out = null;
+        try {
+            out = new FloatMatrix(m.getRows(), m.getColumns());
+            out.copyFrom(m);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return out;
+    }
+
+    /**
+     * Returns number of rows in matrix.
+     *
+     * @return Number of rows in matrix.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns number of columns in matrix.
+     *
+     * @return Number of columns in matrix.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Obtains element in matrix located at position (row and column).
+     * Notice that row and column position are zero-indexed.
+     *
+     * @param row    Row to be used for element location.
+     * @param column Column to be used for element location.
+     * @return Value of element in matrix located at provided position.
+     * @throws ArrayIndexOutOfBoundsException Exception raised if attempting
+     *                                        to access a location that lies outside the boundaries of the internal
+     *                                        array containing matrix data.
+     */
+    public float getElementAt(final int row, final int column) {
+        return buffer[getIndex(row, column)];
+    }
+
+    /**
+     * Returns index within internal buffer corresponding to provided row
+     * and column positions.
+     *
+     * @param row    row to be used for element location.
+     * @param column column to be used for element location.
+     * @return index within internal buffer.
+     */
+    public int getIndex(final int row, final int column) {
+        return column * rows + row;
+    }
+
+    /**
+     * Obtains element in matrix located at provided index value using column
+     * order.
+     *
+     * @param index Index of element to be returned.
+     * @return Value of element at provided index.
+     * @throws ArrayIndexOutOfBoundsException Exception raised if index lies
+     *                                        outside the boundaries of the internal array containing matrix data.
+     */
+    public float getElementAtIndex(final int index) {
+        return buffer[index];
+    }
+
+    /**
+     * Sets element in matrix located at provided position (row and column).
+     *
+     * @param row    Row to be used for element location to be set.
+     * @param column Column to be used for element location to be set.
+     * @param value  Value to be set at provided position.
+     * @throws ArrayIndexOutOfBoundsException Exception raised if attempting
+     *                                        to access a location that lies outside the boundaries of the internal
+     *                                        array containing matrix data.
+     */
+    public void setElementAt(final int row, final int column, final float value) {
+        buffer[getIndex(row, column)] = value;
+    }
+
+    /**
+     * Sets element in matrix located at provided index using column order.
+     *
+     * @param index Index to be set.
+     * @param value Value to be set at provided index.
+     * @throws ArrayIndexOutOfBoundsException Exception raised if index lies
+     *                                        outside the boundaries of the internal array containing matrix data.
+     */
+    public void setElementAtIndex(final int index, final float value) {
+        buffer[index] = value;
+    }
+
+    /**
+     * Returns internal buffer where matrix data is stored using column order.
+     *
+     * @return Internal buffer.
+     */
+    public float[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Copies this matrix data into provided matrix. Provided output matrix will
+     * be resized if needed.
+     *
+     * @param output Destination matrix where data will be copied to.
+     * @throws NullPointerException Exception raised if provided output matrix
+     *                              is null.
+     */
+    public void copyTo(final FloatMatrix output) {
+        if (output.rows != rows || output.columns != columns) {
+            try {
+                output.resize(rows, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        System.arraycopy(buffer, 0, output.buffer, 0, buffer.length);
+    }
+
+    /**
+     * Copies the contents of provided matrix into this instance. This instance
+     * will be resized if needed.
+     *
+     * @param input Input matrix where data will be copied from.
+     * @throws NullPointerException Exception raised if provided input matrix is
+     *                              null.
+     */
+    public void copyFrom(final FloatMatrix input) {
+        input.copyTo(this);
+    }
+
+    /**
+     * Copies this matrix data into provided double precision matrix. Provided
+     * output matrix will be resized if needed.
+     *
+     * @param output Destination matrix where data will be copied to.
+     * @throws NullPointerException Exception raised if provided output matrix
+     *                              is null.
+     */
+    public void copyTo(final Matrix output) {
+        if (output.getRows() != rows || output.getColumns() != columns) {
+            try {
+                output.resize(rows, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        final var outputBuffer = output.getBuffer();
+        final var length = buffer.length;
+        for (var i = 0; i < length; i++) {
+            outputBuffer[i] = buffer[i];
+        }
+    }
+
+    /**
+     * Copies the contents of provided double precision matrix into this
+     * instance, rounding each value to the nearest float. This instance will be
+     * resized if needed.
+     *
+     * @param input Input matrix where data will be copied from.
+     * @throws NullPointerException Exception raised if provided input matrix is
+     *                              null.
+     */
+    public void copyFrom(final Matrix input) {
+        if (input.getRows() != rows || input.getColumns() != columns) {
+            try {
+                resize(input.getRows(), input.getColumns());
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        final var inputBuffer = input.getBuffer();
+        final var length = buffer.length;
+        for (var i = 0; i < length; i++) {
+            buffer[i] = (float) inputBuffer[i];
+        }
+    }
+
+    /**
+     * Converts this matrix into a new double precision matrix.
+     *
+     * @return a new double precision matrix.
+     */
+    public Matrix toMatrix() {
+        Matrix out = null;
+        try {
+            out = new Matrix(rows, columns);
+            copyTo(out);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return out;
+    }
+
+    /**
+     * Adds another matrix to this matrix instance and stores the result in
+     * provided result matrix. If provided result matrix doesn't have proper
+     * size, it will be resized.
+     *
+     * @param other  Matrix to be added to current instance.
+     * @param result Matrix where result of summation is stored.
+     * @throws WrongSizeException   Exception thrown if provided matrix to be
+     *                              added (i.e. other) does not have the same size as this matrix.
+     * @throws NullPointerException Exception raised if provided matrices are
+     *                              null.
+     */
+    public void add(final FloatMatrix other, final FloatMatrix result) throws WrongSizeException {
+        if (other.rows != rows || other.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        if (result.rows != rows || result.columns != columns) {
+            result.resize(rows, columns);
+        }
+
+        internalAdd(other, result);
+    }
+
+    /**
+     * Adds provided matrix to this instance and returns the result as a new
+     * matrix instance.
+     *
+     * @param other Matrix to be added.
+     * @return Returns a new matrix containing the sum of this matrix with
+     * provided matrix.
+     * @throws WrongSizeException   Exception raised if provided matrix does
+     *                              not have the same size as this matrix.
+     * @throws NullPointerException Exception raised if provided matrix is null.
+     */
+    public FloatMatrix addAndReturnNew(final FloatMatrix other) throws WrongSizeException {
+        if (other.rows != rows || other.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var out = new FloatMatrix(rows, columns);
+        internalAdd(other, out);
+        return out;
+    }
+
+    /**
+     * Adds provided matrix to this instance.
+     *
+     * @param other Matrix to be added.
+     * @throws WrongSizeException   Exception raised if provided matrix does
+     *                              not have the same size as this matrix.
+     * @throws NullPointerException Exception raised if provided matrix is null.
+     */
+    public void add(final FloatMatrix other) throws WrongSizeException {
+        if (other.rows != rows || other.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        internalAdd(other, this);
+    }
+
+    /**
+     * Subtracts another matrix from this matrix instance and stores the result
+     * in provided result matrix. If provided result matrix doesn't have proper
+     * size, it will be resized.
+     *
+     * @param other  Matrix to be subtracted from current instance.
+     * @param result Matrix where result of subtraction is stored.
+     * @throws WrongSizeException   Exception thrown if provided matrix to be
+     *                              subtracted (i.e. other) does not have the same size as this matrix.
+     * @throws NullPointerException Exception raised if provided matrices are
+     *                              null.
+     */
+    public void subtract(final FloatMatrix other, final FloatMatrix result) throws WrongSizeException {
+        if (other.rows != rows || other.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        if (result.rows != rows || result.columns != columns) {
+            result.resize(rows, columns);
+        }
+
+        internalSubtract(other, result);
+    }
+
+    /**
+     * Subtracts provided matrix from this instance and returns the result as a
+     * new matrix instance.
+     *
+     * @param other Matrix to be subtracted from.
+     * @return Returns a new matrix containing the subtraction of provided
+     * matrix from this matrix.
+     * @throws WrongSizeException   Exception raised if provided matrix does
+     *                              not have the same size as this matrix.
+     * @throws NullPointerException Exception raised if provided matrix is null.
+     */
+    public FloatMatrix subtractAndReturnNew(final FloatMatrix other) throws WrongSizeException {
+        if (other.rows != rows || other.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var out = new FloatMatrix(rows, columns);
+        internalSubtract(other, out);
+        return out;
+    }
+
+    /**
+     * Subtracts provided matrix from this instance.
+     *
+     * @param other Matrix to be subtracted from.
+     * @throws WrongSizeException   Exception raised if provided matrix does
+     *                              not have the same size as this matrix.
+     * @throws NullPointerException Exception raised if provided matrix is null.
+     */
+    public void subtract(final FloatMatrix other) throws WrongSizeException {
+        if (other.rows != rows || other.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        internalSubtract(other, this);
+    }
+
+    /**
+     * Multiplies another matrix to this matrix instance and stores the result
+     * in provided result matrix. If provided result matrix doesn't have proper
+     * size, it will be resized.
+     *
+     * @param other  Matrix to be multiplied to current instance.
+     * @param result Matrix where result of product is stored. It must not be
+     *               any of the operands.
+     * @throws WrongSizeException       Exception thrown when current and provided
+     *                                  matrix (i.e. other) has incompatible size for product computation.
+     * @throws IllegalArgumentException if result is any of the operands.
+     * @throws NullPointerException     Exception raised if provided matrices are
+     *                                  null.
+     */
+    public void multiply(final FloatMatrix other, final FloatMatrix result) throws WrongSizeException {
+        if (columns != other.rows) {
+            throw new WrongSizeException();
+        }
+        if (result == this || result == other) {
+            throw new IllegalArgumentException();
+        }
+
+        if (result.rows != rows || result.columns != other.columns) {
+            result.resize(rows, other.columns);
+        }
+
+        internalMultiply(other, result.buffer);
+    }
+
+    /**
+     * Multiplies this matrix with provided matrix and returns the result as
+     * a new instance.
+     *
+     * @param other Right operand of matrix product.
+     * @return Matrix containing result of multiplication.
+     * @throws WrongSizeException   Exception thrown when current and
+     *                              provided matrices have incompatible sizes for product computation.
+     * @throws NullPointerException Exception thrown if provided matrix is null.
+     */
+    public FloatMatrix multiplyAndReturnNew(final FloatMatrix other) throws WrongSizeException {
+        if (columns != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        final var out = new FloatMatrix(rows, other.columns);
+        internalMultiply(other, out.buffer);
+        return out;
+    }
+
+    /**
+     * Multiplies this matrix with provided matrix.
+     * This matrix is resized to contain the result.
+     *
+     * @param other Right operand of matrix product.
+     * @throws WrongSizeException   Exception thrown when current and
+     *                              provided matrices have incompatible sizes for product computation.
+     * @throws NullPointerException Exception thrown if provided matrix is null.
+     */
+    public void multiply(final FloatMatrix other) throws WrongSizeException {
+        if (columns != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        final var resultBuffer = new float[rows * other.columns];
+        internalMultiply(other, resultBuffer);
+        columns = other.columns;
+        buffer = resultBuffer;
+    }
+
+    /**
+     * Computes product by scalar of this instance multiplying all its elements
+     * by provided scalar value and returning the result as a new instance.
+     *
+     * @param scalar Scalar amount that current matrix will be multiplied by.
+     * @return Returns a new matrix instance that contains result of product by
+     * scalar.
+     */
+    public FloatMatrix multiplyByScalarAndReturnNew(final float scalar) {
+        final var out = new FloatMatrix(this);
+        out.multiplyByScalar(scalar);
+        return out;
+    }
+
+    /**
+     * Computes product by scalar of this instance multiplying all its elements
+     * by provided scalar value.
+     *
+     * @param scalar Scalar amount that current matrix will be multiplied by.
+     */
+    public void multiplyByScalar(final float scalar) {
+        final var length = buffer.length;
+        for (var i = 0; i < length; i++) {
+            buffer[i] *= scalar;
+        }
+    }
+
+    /**
+     * Transposes current matrix and stores result in provided matrix. If
+     * provided matrix doesn't have proper size, it will be resized.
+     *
+     * @param result Instance where transposed matrix is stored. It must not
+     *               be this instance.
+     * @throws IllegalArgumentException if result is this instance.
+     */
+    public void transpose(final FloatMatrix result) {
+        if (result == this) {
+            throw new IllegalArgumentException();
+        }
+
+        if (result.rows != columns || result.columns != rows) {
+            try {
+                result.resize(columns, rows);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        internalTranspose(result.buffer);
+    }
+
+    /**
+     * Transposes current matrix and returns result as a new instance.
+     *
+     * @return A new instance containing transposed matrix.
+     */
+    public FloatMatrix transposeAndReturnNew() {
+        FloatMatrix out = null;
+        try {
+            out = new FloatMatrix(columns, rows);
+            internalTranspose(out.buffer);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return out;
+    }
+
+    /**
+     * Transposes current matrix.
+     */
+    public void transpose() {
+        final var newBuffer = new float[rows * columns];
+        internalTranspose(newBuffer);
+
+        final var tmp = rows;
+        rows = columns;
+        columns = tmp;
+        buffer = newBuffer;
+    }
+
+    /**
+     * Sets the contents of this matrix to provided value in all of its elements
+     *
+     * @param initValue Value to be set on all the elements of this matrix.
+     */
+    public void initialize(final float initValue) {
+        Arrays.fill(buffer, initValue);
+    }
+
+    /**
+     * Resizes current instance by removing its contents and resizing it to
+     * provided size.
+     *
+     * @param rows    Number of rows to be set
+     * @param columns Number of columns to be set
+     * @throws WrongSizeException Exception raised if either rows or
+     *                            columns is zero.
+     */
+    public void resize(final int rows, final int columns) throws WrongSizeException {
+        internalResize(rows, columns);
+    }
+
+    /**
+     * Obtains a sub-matrix of current matrix instance and stores it into
+     * provided result matrix. Both top-left and bottom-right points are
+     * included within sub-matrix. Result matrix is resized if needed.
+     *
+     * @param topLeftRow        Top-left row index where sub-matrix starts.
+     * @param topLeftColumn     Top-left column index where sub-matrix starts.
+     * @param bottomRightRow    Bottom-right row index where sub-matrix ends.
+     * @param bottomRightColumn Bottom-right column index where sub-matrix ends.
+     * @param result            Instance where sub-matrix data is stored.
+     * @throws IllegalArgumentException Exception raised whenever top-left or
+     *                                  bottom-right corners lie outside current matrix instance, or if top-left
+     *                                  corner is indeed located below or at right side of bottom-right corner.
+     * @throws NullPointerException     If provided result matrix is null.
+     */
+    public void getSubmatrix(final int topLeftRow, final int topLeftColumn, final int bottomRightRow,
+                             final int bottomRightColumn, final FloatMatrix result) {
+        checkSubmatrix(topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn);
+
+        final var subRows = bottomRightRow - topLeftRow + 1;
+        final var subCols = bottomRightColumn - topLeftColumn + 1;
+        if (result.rows != subRows || result.columns != subCols) {
+            try {
+                result.resize(subRows, subCols);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        internalGetSubmatrix(topLeftRow, topLeftColumn, result);
+    }
+
+    /**
+     * Obtains a sub-matrix of current matrix instance. Both top-left and
+     * bottom-right points are included within sub-matrix.
+     *
+     * @param topLeftRow        Top-left row index where sub-matrix starts.
+     * @param topLeftColumn     Top-left column index where sub-matrix starts.
+     * @param bottomRightRow    Bottom-right row index where sub-matrix ends.
+     * @param bottomRightColumn Bottom-right column index where sub-matrix ends.
+     * @return A new instance containing selected sub-matrix.
+     * @throws IllegalArgumentException Exception raised whenever top-left or
+     *                                  bottom-right corners lie outside current matrix instance, or if top-left
+     *                                  corner is indeed located below or at right side of bottom-right corner.
+     */
+    public FloatMatrix getSubmatrix(final int topLeftRow, final int topLeftColumn, final int bottomRightRow,
+                                    final int bottomRightColumn) {
+        checkSubmatrix(topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn);
+
+        FloatMatrix out = null;
+        try {
+            out = new FloatMatrix(bottomRightRow - topLeftRow + 1, bottomRightColumn - topLeftColumn + 1);
+            internalGetSubmatrix(topLeftRow, topLeftColumn, out);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return out;
+    }
+
+    /**
+     * Copies provided sub-matrix into this matrix starting at provided
+     * top-left position.
+     *
+     * @param topLeftRow    Top-left row index where sub-matrix copy starts.
+     * @param topLeftColumn Top-left column index where sub-matrix copy starts.
+     * @param submatrix     Sub-matrix to be copied.
+     * @throws IllegalArgumentException Exception raised if provided sub-matrix
+     *                                  does not fit into this matrix at provided position.
+     * @throws NullPointerException     If provided sub-matrix is null.
+     */
+    public void setSubmatrix(final int topLeftRow, final int topLeftColumn, final FloatMatrix submatrix) {
+        checkSubmatrix(topLeftRow, topLeftColumn, topLeftRow + submatrix.rows - 1,
+                topLeftColumn + submatrix.columns - 1);
+
+        for (var j = 0; j < submatrix.columns; j++) {
+            System.arraycopy(submatrix.buffer, j * submatrix.rows, buffer, getIndex(topLeftRow, topLeftColumn + j),
+                    submatrix.rows);
+        }
+    }
+
+    /**
+     * Solves linear system of equations A * X = B, where A is this square
+     * matrix, using LU decomposition with partial pivoting.
+     * This matrix is not modified.
+     *
+     * @param b right hand side of linear system. Each column contains a
+     *          different system to be solved.
+     * @return solution of linear system.
+     * @throws WrongSizeException      if this matrix is not square or if
+     *                                 provided matrix does not have the same number of rows as this matrix.
+     * @throws SingularMatrixException if this matrix is singular.
+     * @throws NullPointerException    if provided matrix is null.
+     */
+    public FloatMatrix solveLU(final FloatMatrix b) throws WrongSizeException, SingularMatrixException {
+        if (rows != columns || b.rows != rows) {
+            throw new WrongSizeException();
+        }
+
+        final var n = rows;
+        final var lu = Arrays.copyOf(buffer, buffer.length);
+        final var piv = new int[n];
+
+        for (var k = 0; k < n; k++) {
+            // find pivot on contiguous column
+            final var colK = k * n;
+            var p = k;
+            for (var i = k + 1; i < n; i++) {
+                if (Math.abs(lu[colK + i]) > Math.abs(lu[colK + p])) {
+                    p = i;
+                }
+            }
+            piv[k] = p;
+
+            if (lu[colK + p] == 0.0f) {
+                throw new SingularMatrixException();
+            }
+
+            // exchange rows if necessary
+            if (p != k) {
+                for (var j = 0; j < n; j++) {
+                    final var colJ = j * n;
+                    final var t = lu[colJ + p];
+                    lu[colJ + p] = lu[colJ + k];
+                    lu[colJ + k] = t;
+                }
+            }
+
+            // compute multipliers
+            final var pivot = lu[colK + k];
+            for (var i = k + 1; i < n; i++) {
+                lu[colK + i] /= pivot;
+            }
+
+            // update trailing columns
+            for (var j = k + 1; j < n; j++) {
+                final var colJ = j * n;
+                final var ukj = lu[colJ + k];
+                for (var i = k + 1; i < n; i++) {
+                    lu[colJ + i] -= lu[colK + i] * ukj;
+                }
+            }
+        }
+
+        final var x = new FloatMatrix(b);
+        final var xb = x.buffer;
+        for (var c = 0; c < x.columns; c++) {
+            final var colX = c * n;
+
+            // apply row permutation
+            for (var k = 0; k < n; k++) {
+                final var p = piv[k];
+                if (p != k) {
+                    final var t = xb[colX + p];
+                    xb[colX + p] = xb[colX + k];
+                    xb[colX + k] = t;
+                }
+            }
+
+            // solve L * Y = P * B
+            for (var k = 0; k < n; k++) {
+                final var yk = xb[colX + k];
+                final var colK = k * n;
+                for (var i = k + 1; i < n; i++) {
+                    xb[colX + i] -= yk * lu[colK + i];
+                }
+            }
+
+            // solve U * X = Y
+            for (var k = n - 1; k >= 0; k--) {
+                final var colK = k * n;
+                final var xk = xb[colX + k] / lu[colK + k];
+                xb[colX + k] = xk;
+                for (var i = 0; i < k; i++) {
+                    xb[colX + i] -= xk * lu[colK + i];
+                }
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Solves linear system of equations A * X = B, where A is this symmetric
+     * positive definite matrix, using Cholesky decomposition.
+     * This matrix is not modified.
+     *
+     * @param b right hand side of linear system. Each column contains a
+     *          different system to be solved.
+     * @return solution of linear system.
+     * @throws WrongSizeException                         if this matrix is not square or if
+     *                                                    provided matrix does not have the same number of rows as this
+     *                                                    matrix.
+     * @throws NonSymmetricPositiveDefiniteMatrixException if this matrix is
+     *                                                    not symmetric positive definite.
+     * @throws NullPointerException                       if provided matrix is null.
+     */
+    public FloatMatrix solveCholesky(final FloatMatrix b) throws WrongSizeException,
+            NonSymmetricPositiveDefiniteMatrixException {
+        if (rows != columns || b.rows != rows) {
+            throw new WrongSizeException();
+        }
+
+        // lower triangular factor L so that A = L * L'. Only lower triangle
+        // is used
+        final var n = rows;
+        final var l = Arrays.copyOf(buffer, buffer.length);
+        for (var j = 0; j < n; j++) {
+            final var colJ = j * n;
+
+            // check symmetry
+            for (var i = j + 1; i < n; i++) {
+                if (buffer[colJ + i] != buffer[i * n + j]) {
+                    throw new NonSymmetricPositiveDefiniteMatrixException();
+                }
+            }
+
+            // subtract contributions of previous columns
+            for (var k = 0; k < j; k++) {
+                final var colK = k * n;
+                final var ljk = l[colK + j];
+                for (var i = j; i < n; i++) {
+                    l[colJ + i] -= l[colK + i] * ljk;
+                }
+            }
+
+            final var d = l[colJ + j];
+            if (d <= 0.0f) {
+                throw new NonSymmetricPositiveDefiniteMatrixException();
+            }
+
+            final var ljj = (float) Math.sqrt(d);
+            l[colJ + j] = ljj;
+            for (var i = j + 1; i < n; i++) {
+                l[colJ + i] /= ljj;
+            }
+        }
+
+        final var x = new FloatMatrix(b);
+        final var xb = x.buffer;
+        for (var c = 0; c < x.columns; c++) {
+            final var colX = c * n;
+
+            // solve L * Y = B
+            for (var k = 0; k < n; k++) {
+                final var colK = k * n;
+                final var yk = xb[colX + k] / l[colK + k];
+                xb[colX + k] = yk;
+                for (var i = k + 1; i < n; i++) {
+                    xb[colX + i] -= yk * l[colK + i];
+                }
+            }
+
+            // solve L' * X = Y
+            for (var k = n - 1; k >= 0; k--) {
+                final var colK = k * n;
+                var sum = xb[colX + k];
+                for (var i = k + 1; i < n; i++) {
+                    sum -= l[colK + i] * xb[colX + i];
+                }
+                xb[colX + k] = sum / l[colK + k];
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Checks if provided object is a FloatMatrix instance having exactly the
+     * same contents as this matrix instance.
+     *
+     * @param obj Object to be compared
+     * @return Returns true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof FloatMatrix other)) {
+            return false;
+        }
+
+        return equals(other, 0.0f);
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return Hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(rows, columns, Arrays.hashCode(buffer));
+    }
+
+    /**
+     * Checks if provided matrix has contents similar to this matrix by checking
+     * that all values have a maximum difference equal to provided threshold and
+     * same size.
+     *
+     * @param other     Matrix to be compared
+     * @param threshold Maximum difference allowed between values on same
+     *                  position to determine that matrices are equal
+     * @return True if matrices are considered to be equal (almost equal content
+     * and same size)
+     */
+    public boolean equals(final FloatMatrix other, final float threshold) {
+        if (other == null || other.rows != rows || other.columns != columns) {
+            return false;
+        }
+
+        final var length = buffer.length;
+        for (var i = 0; i < length; i++) {
+            if (Math.abs(buffer[i] - other.buffer[i]) > threshold) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resizes this matrix and sets all its elements to zero.
+     *
+     * @param rows    Number of rows to be set.
+     * @param columns Number of columns to be set.
+     * @throws WrongSizeException Exception raised if either rows or
+     *                            columns is zero or negative.
+     */
+    private void internalResize(final int rows, final int columns) throws WrongSizeException {
+        if (rows <= 0 || columns <= 0) {
+            throw new WrongSizeException();
+        }
+
+        this.rows = rows;
+        this.columns = columns;
+        buffer = new float[rows * columns];
+    }
+
+    /**
+     * Checks that provided sub-matrix lies within this matrix.
+     *
+     * @param topLeftRow        Top-left row index where sub-matrix starts.
+     * @param topLeftColumn     Top-left column index where sub-matrix starts.
+     * @param bottomRightRow    Bottom-right row index where sub-matrix ends.
+     * @param bottomRightColumn Bottom-right column index where sub-matrix ends.
+     * @throws IllegalArgumentException if provided sub-matrix is not valid.
+     */
+    private void checkSubmatrix(final int topLeftRow, final int topLeftColumn, final int bottomRightRow,
+                                final int bottomRightColumn) {
+        if (topLeftRow < 0 || topLeftRow >= rows || topLeftColumn < 0 || topLeftColumn >= columns
+                || bottomRightRow < 0 || bottomRightRow >= rows || bottomRightColumn < 0 || bottomRightColumn >= columns
+                || topLeftRow > bottomRightRow || topLeftColumn > bottomRightColumn) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Copies a sub-matrix of this matrix into provided matrix, which must
+     * already have the size of the sub-matrix.
+     *
+     * @param topLeftRow    Top-left row index where sub-matrix starts.
+     * @param topLeftColumn Top-left column index where sub-matrix starts.
+     * @param result        Instance where sub-matrix data is stored.
+     */
+    private void internalGetSubmatrix(final int topLeftRow, final int topLeftColumn, final FloatMatrix result) {
+        for (var j = 0; j < result.columns; j++) {
+            System.arraycopy(buffer, getIndex(topLeftRow, topLeftColumn + j), result.buffer, j * result.rows,
+                    result.rows);
+        }
+    }
+
+    /**
+     * Adds provided matrix to this matrix and stores the result into
+     * provided result matrix, which must already have the proper size.
+     *
+     * @param other  Matrix to be added.
+     * @param result Matrix where result is stored.
+     */
+    private void internalAdd(final FloatMatrix other, final FloatMatrix result) {
+        final var length = buffer.length;
+        for (var i = 0; i < length; i++) {
+            result.buffer[i] = buffer[i] + other.buffer[i];
+        }
+    }
+
+    /**
+     * Subtracts provided matrix from this matrix and stores the result into
+     * provided result matrix, which must already have the proper size.
+     *
+     * @param other  Matrix to be subtracted.
+     * @param result Matrix where result is stored.
+     */
+    private void internalSubtract(final FloatMatrix other, final FloatMatrix result) {
+        final var length = buffer.length;
+        for (var i = 0; i < length; i++) {
+            result.buffer[i] = buffer[i] - other.buffer[i];
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix and stores the result into
+     * provided buffer.
+     * The left operand is processed by blocks of MC x KC elements that fit in
+     * cache, and each column of the result is updated with contiguous
+     * multiply-add operations on columns of each block.
+     *
+     * @param other        Right operand.
+     * @param resultBuffer Buffer where result is stored using column order.
+     *                     It must not be the buffer of any of the operands.
+     */
+    private void internalMultiply(final FloatMatrix other, final float[] resultBuffer) {
+        final var m = rows;
+        final var n = other.columns;
+        final var k = columns;
+        final var b = other.buffer;
+
+        Arrays.fill(resultBuffer, 0, m * n, 0.0f);
+
+        for (var i0 = 0; i0 < m; i0 += MC) {
+            final var i1 = Math.min(m, i0 + MC);
+            for (var p0 = 0; p0 < k; p0 += KC) {
+                final var p1 = Math.min(k, p0 + KC);
+                for (var j = 0; j < n; j++) {
+                    final var colC = j * m;
+                    final var colB = j * k;
+                    for (var p = p0; p < p1; p++) {
+                        final var bpj = b[colB + p];
+                        final var colA = p * m;
+                        for (var i = i0; i < i1; i++) {
+                            resultBuffer[colC + i] += buffer[colA + i] * bpj;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Transposes this matrix and stores the result into provided buffer.
+     *
+     * @param resultBuffer Buffer where result is stored using column order.
+     *                     It must not be the buffer of this matrix.
+     */
+    private void internalTranspose(final float[] resultBuffer) {
+        for (var j = 0; j < columns; j++) {
+            final var colJ = j * rows;
+            for (var i = 0; i < rows; i++) {
+                resultBuffer[i * columns + j] = buffer[colJ + i];
+            }
+        }
+    }
+}
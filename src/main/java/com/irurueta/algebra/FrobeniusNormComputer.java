@@ -56,6 +56,26 @@ public class FrobeniusNormComputer extends NormComputer {
         return Math.sqrt(sum);
     }
 
+    /**
+     * Computes norm of provided matrix view without copying its data.
+     *
+     * @param m matrix view being used for norm computation.
+     * @return norm of provided matrix view.
+     */
+    public static double norm(final MatrixView m) {
+        final var rows = m.getRows();
+        final var columns = m.getColumns();
+        var sum = 0.0;
+        double value;
+        for (var j = 0; j < columns; j++) {
+            for (var i = 0; i < rows; i++) {
+                value = m.getElementAt(i, j);
+                sum += value * value;
+            }
+        }
+        return Math.sqrt(sum);
+    }
+
     /**
      * Computes norm of provided array and stores the jacobian into provided
      * instance.
@@ -93,6 +113,17 @@ public class FrobeniusNormComputer extends NormComputer {
         return norm(m);
     }
 
+    /**
+     * Computes norm of provided matrix view.
+     *
+     * @param m Matrix view being used for norm computation.
+     * @return Norm of provided matrix view.
+     */
+    @Override
+    public double getNorm(final MatrixView m) {
+        return norm(m);
+    }
+
     /**
      * Computes norm of provided array.
      *
@@ -0,0 +1,685 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes QR decomposition (i.e. A = Q * R) of m x n matrices stored in
+ * column-major buffers of data using Householder reflections.
+ * Factorization is done in place. Once factorized, the strict upper triangle
+ * of the matrix contains the strict upper triangle of R, and column k below
+ * (and including) the diagonal contains Householder vector v(k), while the
+ * diagonal of R is returned in a separate array.
+ * Orthogonal factor Q = H(0) * H(1) * ... * H(p - 1), where p = min(m, n), is
+ * kept implicitly as the product of the reflections
+ * H(k) = I - v(k) * v(k)' / v(k)(k), where v(k) is zero above row k and
+ * 1 &lt;= v(k)(k) &lt;= 2. A reflection having v(k)(k) equal to zero is the
+ * identity.
+ * Reflections are processed in panels of {@link #BLOCK_SIZE} columns. Once a
+ * panel is factorized, its reflections are aggregated into compact WY form
+ * H(k0) * ... * H(k1 - 1) = I - V * T * V', where V contains the Householder
+ * vectors of the panel and T is a small upper triangular matrix, so that
+ * reflections are applied to the trailing sub-matrix (or to right hand sides,
+ * or when forming Q) with matrix products computed by
+ * {@link BlockedMatrixMultiplier#gemm}.
+ * Trailing sub-matrices are updated one block of columns at a time, so that
+ * when a fork/join pool is provided blocks are concurrently updated as
+ * fork/join tasks. Because each block is processed by the same operations
+ * regardless of whether a pool is used or not, parallel and sequential
+ * factorizations are identical.
+ */
+final class HouseholderQRFactorizer {
+
+    /**
+     * Number of columns of each panel, which is also the number of columns of
+     * each block being updated.
+     */
+    static final int BLOCK_SIZE = 32;
+
+    /**
+     * Minimum number of elements of a matrix to factorize it in parallel when
+     * a pool is provided. Smaller matrices do not have enough work to
+     * compensate task scheduling overhead.
+     */
+    static final long MIN_PARALLEL_ELEMENTS = 1L << 16;
+
+    /**
+     * Scratch array of BLOCK_SIZE x BLOCK_SIZE elements used by each thread
+     * to store V' * C when applying reflections to a block of columns.
+     */
+    private static final ThreadLocal<double[]> WORK =
+            ThreadLocal.withInitial(() -> new double[BLOCK_SIZE * BLOCK_SIZE]);
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private HouseholderQRFactorizer() {
+    }
+
+    /**
+     * Factorizes a m x n matrix in place.
+     *
+     * @param m     number of rows of matrix.
+     * @param n     number of columns of matrix.
+     * @param a     buffer containing matrix in column order, where Householder
+     *              vectors and strict upper triangle of R will be stored.
+     * @param lda   leading dimension of matrix.
+     * @param rDiag array of length n where diagonal of R will be stored.
+     * @param t     array of length BLOCK_SIZE * min(m, n) at least, where
+     *              triangular factors of the compact WY form of each panel
+     *              will be stored.
+     * @param pool  pool where tasks are executed, or null to factorize
+     *              sequentially on calling thread.
+     */
+    static void factor(final int m, final int n, final double[] a, final int lda, final double[] rDiag,
+                       final double[] t, final ForkJoinPool pool) {
+        final var p = Math.min(m, n);
+        final var parallel = pool != null && (long) m * n >= MIN_PARALLEL_ELEMENTS;
+
+        for (var k0 = 0; k0 < p; k0 += BLOCK_SIZE) {
+            final var k1 = Math.min(p, k0 + BLOCK_SIZE);
+            factorPanel(m, k0, k1, a, lda, rDiag);
+            formT(m, k0, k1, a, lda, t);
+
+            if (k1 < n) {
+                applyBlocks(true, m, k0, k1, a, lda, t, a, k1 * lda, lda, n - k1, parallel ? pool : null);
+            }
+        }
+
+        for (var k = p; k < n; k++) {
+            rDiag[k] = 0.0;
+        }
+    }
+
+    /**
+     * Factorizes a m x n matrix in place using column pivoting (i.e.
+     * A * P = Q * R), so that at each step the remaining column having the
+     * largest norm is moved to the pivot position, and hence magnitudes of the
+     * diagonal of R are non-increasing.
+     * Norms of remaining columns are downdated after each step, and they are
+     * recomputed when cancellation makes downdated values unreliable.
+     * Because pivot columns must be chosen one at a time, each reflection is
+     * applied to all remaining columns as soon as it is computed. Once
+     * factorized, triangular factors of compact WY form of each panel are
+     * computed, so that Q can be applied or formed as for unpivoted
+     * factorizations.
+     *
+     * @param m     number of rows of matrix.
+     * @param n     number of columns of matrix.
+     * @param a     buffer containing matrix in column order, where Householder
+     *              vectors and strict upper triangle of R will be stored.
+     * @param lda   leading dimension of matrix.
+     * @param rDiag array of length n where diagonal of R will be stored.
+     * @param t     array of length BLOCK_SIZE * min(m, n) at least, where
+     *              triangular factors of the compact WY form of each panel
+     *              will be stored.
+     * @param perm  array of length n where permutation will be stored, so
+     *              that column j of A * P is column perm[j] of A.
+     * @param norms scratch array of length 2 * n at least.
+     */
+    static void factorPivoted(final int m, final int n, final double[] a, final int lda, final double[] rDiag,
+                              final double[] t, final int[] perm, final double[] norms) {
+        final var p = Math.min(m, n);
+        final var tol = Math.sqrt(Math.ulp(1.0));
+
+        // norms[j] contains downdated norm of column j, and norms[n + j] the
+        // norm it was last computed from scratch
+        for (var j = 0; j < n; j++) {
+            perm[j] = j;
+            norms[j] = norm(a, j * lda, m);
+            norms[n + j] = norms[j];
+        }
+
+        for (var k = 0; k < p; k++) {
+            // find pivot column
+            var pvt = k;
+            for (var j = k + 1; j < n; j++) {
+                if (norms[j] > norms[pvt]) {
+                    pvt = j;
+                }
+            }
+            if (pvt != k) {
+                final var startP = pvt * lda;
+                final var startK = k * lda;
+                for (var i = 0; i < m; i++) {
+                    final var tmp = a[startP + i];
+                    a[startP + i] = a[startK + i];
+                    a[startK + i] = tmp;
+                }
+                final var tmp = perm[pvt];
+                perm[pvt] = perm[k];
+                perm[k] = tmp;
+                norms[pvt] = norms[k];
+                norms[n + pvt] = norms[n + k];
+            }
+
+            // form k-th Householder vector and apply it to remaining columns
+            factorPanel(m, k, n, k + 1, a, lda, rDiag);
+
+            // downdate norms of remaining columns
+            for (var j = k + 1; j < n; j++) {
+                if (norms[j] != 0.0) {
+                    final var ratio = Math.abs(a[j * lda + k]) / norms[j];
+                    final var temp = Math.max(0.0, (1.0 + ratio) * (1.0 - ratio));
+                    final var scaled = norms[j] / norms[n + j];
+                    if (temp * scaled * scaled <= tol) {
+                        norms[j] = k + 1 < m ? norm(a, j * lda + k + 1, m - k - 1) : 0.0;
+                        norms[n + j] = norms[j];
+                    } else {
+                        norms[j] *= Math.sqrt(temp);
+                    }
+                }
+            }
+        }
+
+        for (var k = p; k < n; k++) {
+            rDiag[k] = 0.0;
+        }
+
+        for (var k0 = 0; k0 < p; k0 += BLOCK_SIZE) {
+            formT(m, k0, Math.min(p, k0 + BLOCK_SIZE), a, lda, t);
+        }
+    }
+
+    /**
+     * Computes B = Q' * B in place, where Q is the orthogonal factor of a
+     * factorized m x n matrix and B is a m x nrhs matrix.
+     *
+     * @param m    number of rows of factorized matrix.
+     * @param n    number of columns of factorized matrix.
+     * @param a    buffer containing factorized matrix.
+     * @param lda  leading dimension of factorized matrix.
+     * @param t    triangular factors of compact WY form of each panel.
+     * @param nrhs number of columns of b.
+     * @param b    buffer containing b.
+     * @param ldb  leading dimension of b.
+     * @param pool pool where tasks are executed, or null to compute
+     *             sequentially on calling thread.
+     */
+    static void applyQt(final int m, final int n, final double[] a, final int lda, final double[] t,
+                        final int nrhs, final double[] b, final int ldb, final ForkJoinPool pool) {
+        final var p = Math.min(m, n);
+        final var parallel = pool != null && (long) m * nrhs >= MIN_PARALLEL_ELEMENTS;
+        for (var k0 = 0; k0 < p; k0 += BLOCK_SIZE) {
+            final var k1 = Math.min(p, k0 + BLOCK_SIZE);
+            applyBlocks(true, m, k0, k1, a, lda, t, b, 0, ldb, nrhs, parallel ? pool : null);
+        }
+    }
+
+    /**
+     * Computes B = Q * B in place, where Q is the orthogonal factor of a
+     * factorized m x n matrix and B is a m x nrhs matrix.
+     * Panels are applied backwards, since Q = H(0) * H(1) * ... * H(p - 1).
+     *
+     * @param m    number of rows of factorized matrix.
+     * @param n    number of columns of factorized matrix.
+     * @param a    buffer containing factorized matrix.
+     * @param lda  leading dimension of factorized matrix.
+     * @param t    triangular factors of compact WY form of each panel.
+     * @param nrhs number of columns of b.
+     * @param b    buffer containing b.
+     * @param ldb  leading dimension of b.
+     * @param pool pool where tasks are executed, or null to compute
+     *             sequentially on calling thread.
+     */
+    static void applyQ(final int m, final int n, final double[] a, final int lda, final double[] t,
+                       final int nrhs, final double[] b, final int ldb, final ForkJoinPool pool) {
+        final var p = Math.min(m, n);
+        final var parallel = pool != null && (long) m * nrhs >= MIN_PARALLEL_ELEMENTS;
+        final var lastK0 = ((p - 1) / BLOCK_SIZE) * BLOCK_SIZE;
+        for (var k0 = lastK0; k0 >= 0; k0 -= BLOCK_SIZE) {
+            final var k1 = Math.min(p, k0 + BLOCK_SIZE);
+            applyBlocks(false, m, k0, k1, a, lda, t, b, 0, ldb, nrhs, parallel ? pool : null);
+        }
+    }
+
+    /**
+     * Forms the first qColumns columns of orthogonal factor Q of a factorized
+     * m x n matrix, where min(m, n) &lt;= qColumns &lt;= m.
+     * Panels are applied backwards so that each one is only applied to the
+     * columns of Q it modifies, since columns on the left of a panel remain
+     * equal to the identity while such panel is applied.
+     *
+     * @param m        number of rows of factorized matrix.
+     * @param n        number of columns of factorized matrix.
+     * @param a        buffer containing factorized matrix.
+     * @param lda      leading dimension of factorized matrix.
+     * @param t        triangular factors of compact WY form of each panel.
+     * @param qColumns number of columns of Q to be formed.
+     * @param q        buffer where Q will be stored in column order.
+     * @param ldq      leading dimension of q.
+     */
+    static void formQ(final int m, final int n, final double[] a, final int lda, final double[] t,
+                      final int qColumns, final double[] q, final int ldq) {
+        for (var j = 0; j < qColumns; j++) {
+            final var start = j * ldq;
+            for (var i = 0; i < m; i++) {
+                q[start + i] = 0.0;
+            }
+            q[start + j] = 1.0;
+        }
+
+        final var p = Math.min(m, n);
+        final var lastK0 = ((p - 1) / BLOCK_SIZE) * BLOCK_SIZE;
+        for (var k0 = lastK0; k0 >= 0; k0 -= BLOCK_SIZE) {
+            final var k1 = Math.min(p, k0 + BLOCK_SIZE);
+            applyBlocks(false, m, k0, k1, a, lda, t, q, k0 * ldq, ldq, qColumns - k0, null);
+        }
+    }
+
+    /**
+     * Computes the Euclidean norm of a contiguous range of values, avoiding
+     * overflow and underflow by scaling values only when needed.
+     *
+     * @param a      buffer containing values.
+     * @param offset position of first value.
+     * @param length number of values.
+     * @return Euclidean norm.
+     */
+    static double norm(final double[] a, final int offset, final int length) {
+        final var end = offset + length;
+        var sum = 0.0;
+        for (var i = offset; i < end; i++) {
+            sum += a[i] * a[i];
+        }
+        if (sum > Double.MIN_NORMAL && sum < Double.POSITIVE_INFINITY) {
+            return Math.sqrt(sum);
+        }
+
+        // squares overflowed or might have underflowed, values are scaled by
+        // their largest magnitude
+        var scale = 0.0;
+        for (var i = offset; i < end; i++) {
+            scale = Math.max(scale, Math.abs(a[i]));
+        }
+        if (scale == 0.0 || Double.isInfinite(scale)) {
+            return scale;
+        }
+        sum = 0.0;
+        for (var i = offset; i < end; i++) {
+            final var value = a[i] / scale;
+            sum += value * value;
+        }
+        return scale * Math.sqrt(sum);
+    }
+
+    /**
+     * Factorizes columns of a panel from k0 (inclusive) to k1 (exclusive),
+     * which must have already been updated with all reflections of previous
+     * panels. Each reflection is only applied to the remaining columns of the
+     * panel.
+     *
+     * @param m     number of rows of matrix.
+     * @param k0    first column of panel.
+     * @param k1    column after the last one of panel.
+     * @param a     buffer containing matrix.
+     * @param lda   leading dimension of matrix.
+     * @param rDiag array where diagonal of R will be stored.
+     */
+    private static void factorPanel(final int m, final int k0, final int k1, final double[] a, final int lda,
+                                    final double[] rDiag) {
+        factorPanel(m, k0, k1, k1, a, lda, rDiag);
+    }
+
+    /**
+     * Computes reflections of columns from k0 (inclusive) to kEnd (exclusive),
+     * applying each of them to the remaining columns up to column k1
+     * (exclusive).
+     *
+     * @param m     number of rows of matrix.
+     * @param k0    first column to be reflected.
+     * @param k1    column after the last one reflections are applied to.
+     * @param kEnd  column after the last one to be reflected.
+     * @param a     buffer containing matrix.
+     * @param lda   leading dimension of matrix.
+     * @param rDiag array where diagonal of R will be stored.
+     */
+    private static void factorPanel(final int m, final int k0, final int k1, final int kEnd, final double[] a,
+                                    final int lda, final double[] rDiag) {
+        for (var k = k0; k < kEnd; k++) {
+            final var startK = k * lda;
+            var nrm = norm(a, startK + k, m - k);
+
+            if (nrm != 0.0) {
+                // form k-th Householder vector
+                if (a[startK + k] < 0.0) {
+                    nrm = -nrm;
+                }
+                final var inv = 1.0 / nrm;
+                for (var i = k; i < m; i++) {
+                    a[startK + i] *= inv;
+                }
+                a[startK + k] += 1.0;
+
+                // apply transformation to remaining columns of panel
+                final var vkk = a[startK + k];
+                for (var j = k + 1; j < k1; j++) {
+                    final var startJ = j * lda;
+                    var s = 0.0;
+                    for (var i = k; i < m; i++) {
+                        s += a[startK + i] * a[startJ + i];
+                    }
+                    s = -s / vkk;
+                    for (var i = k; i < m; i++) {
+                        a[startJ + i] += s * a[startK + i];
+                    }
+                }
+            }
+
+            rDiag[k] = -nrm;
+        }
+    }
+
+    /**
+     * Computes upper triangular factor T of compact WY form of the reflections
+     * of a factorized panel, so that H(k0) * ... * H(k1 - 1) = I - V * T * V'.
+     * Element (i, j) of T is stored at position (k0 + j) * BLOCK_SIZE + i.
+     *
+     * @param m   number of rows of matrix.
+     * @param k0  first column of panel.
+     * @param k1  column after the last one of panel.
+     * @param a   buffer containing factorized matrix.
+     * @param lda leading dimension of matrix.
+     * @param t   array where T will be stored.
+     */
+    private static void formT(final int m, final int k0, final int k1, final double[] a, final int lda,
+                              final double[] t) {
+        final var nb = k1 - k0;
+        for (var i = 0; i < nb; i++) {
+            final var col = k0 + i;
+            final var startCol = col * lda;
+            final var startT = col * BLOCK_SIZE;
+            final var vkk = a[startCol + col];
+            final var tau = vkk != 0.0 ? 1.0 / vkk : 0.0;
+
+            // z = V(:, 0:i)' * v(i), where v(i) is zero above row col
+            for (var j = 0; j < i; j++) {
+                final var startJ = (k0 + j) * lda;
+                var s = 0.0;
+                for (var r = col; r < m; r++) {
+                    s += a[startJ + r] * a[startCol + r];
+                }
+                t[startT + j] = s;
+            }
+
+            // T(0:i, i) = -tau * T(0:i, 0:i) * z
+            for (var r = 0; r < i; r++) {
+                var s = 0.0;
+                for (var j = r; j < i; j++) {
+                    s += t[(k0 + j) * BLOCK_SIZE + r] * t[startT + j];
+                }
+                t[startT + r] = -tau * s;
+            }
+            t[startT + i] = tau;
+            for (var r = i + 1; r < BLOCK_SIZE; r++) {
+                t[startT + r] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * Applies the reflections of a panel to columns of a matrix C, one block
+     * of columns at a time.
+     *
+     * @param transpose true to compute C = (I - V * T * V')' * C, false to
+     *                  compute C = (I - V * T * V') * C.
+     * @param m         number of rows.
+     * @param k0        first column of panel.
+     * @param k1        column after the last one of panel.
+     * @param v         buffer containing factorized matrix.
+     * @param ldv       leading dimension of factorized matrix.
+     * @param t         array containing T.
+     * @param c         buffer containing C.
+     * @param offsetC   position of first element of C.
+     * @param ldc       leading dimension of C.
+     * @param columns   number of columns of C.
+     * @param pool      pool where tasks are executed, or null to compute
+     *                  sequentially on calling thread.
+     */
+    private static void applyBlocks(final boolean transpose, final int m, final int k0, final int k1,
+                                    final double[] v, final int ldv, final double[] t,
+                                    final double[] c, final int offsetC, final int ldc, final int columns,
+                                    final ForkJoinPool pool) {
+        if (pool != null && columns > BLOCK_SIZE) {
+            final var task = new BlockTask(transpose, m, k0, k1, v, ldv, t, c, offsetC, ldc, 0, columns);
+            if (ForkJoinTask.getPool() == pool) {
+                task.invoke();
+            } else {
+                pool.invoke(task);
+            }
+            return;
+        }
+
+        for (var j = 0; j < columns; j += BLOCK_SIZE) {
+            applyBlock(transpose, m, k0, k1, v, ldv, t, c, offsetC + j * ldc, ldc,
+                    Math.min(BLOCK_SIZE, columns - j));
+        }
+    }
+
+    /**
+     * Applies the reflections of a panel to a block of columns of a matrix C,
+     * so that C = C - V * op(T) * (V' * C), where op(T) is T' when applying
+     * Q' and T when applying Q. Householder vectors of the panel are split
+     * into their upper triangle V1, which is applied by plain loops, and
+     * their remaining rows V2, which are applied by matrix products.
+     *
+     * @param transpose true to apply transposed reflections, false otherwise.
+     * @param m         number of rows.
+     * @param k0        first column of panel.
+     * @param k1        column after the last one of panel.
+     * @param v         buffer containing factorized matrix.
+     * @param ldv       leading dimension of factorized matrix.
+     * @param t         array containing T.
+     * @param c         buffer containing C.
+     * @param offsetC   position of first element of block of C.
+     * @param ldc       leading dimension of C.
+     * @param columns   number of columns of block, which must not exceed
+     *                  BLOCK_SIZE.
+     */
+    private static void applyBlock(final boolean transpose, final int m, final int k0, final int k1,
+                                   final double[] v, final int ldv, final double[] t,
+                                   final double[] c, final int offsetC, final int ldc, final int columns) {
+        final var nb = k1 - k0;
+        final var w = WORK.get();
+
+        // W = V1' * C1
+        for (var j = 0; j < columns; j++) {
+            final var startC = offsetC + j * ldc + k0;
+            final var startW = j * nb;
+            for (var i = 0; i < nb; i++) {
+                final var startV = (k0 + i) * ldv + k0;
+                var s = 0.0;
+                for (var r = i; r < nb; r++) {
+                    s += v[startV + r] * c[startC + r];
+                }
+                w[startW + i] = s;
+            }
+        }
+
+        // W = W + V2' * C2
+        if (k1 < m) {
+            BlockedMatrixMultiplier.gemm(true, false, nb, columns, m - k1, 1.0,
+                    v, k0 * ldv + k1, ldv, c, offsetC + k1, ldc, 1.0, w, 0, nb);
+        }
+
+        // W = op(T) * W
+        final var startT = k0 * BLOCK_SIZE;
+        for (var j = 0; j < columns; j++) {
+            final var startW = j * nb;
+            if (transpose) {
+                for (var i = nb - 1; i >= 0; i--) {
+                    final var columnT = startT + i * BLOCK_SIZE;
+                    var s = 0.0;
+                    for (var r = 0; r <= i; r++) {
+                        s += t[columnT + r] * w[startW + r];
+                    }
+                    w[startW + i] = s;
+                }
+            } else {
+                for (var i = 0; i < nb; i++) {
+                    var s = 0.0;
+                    for (var r = i; r < nb; r++) {
+                        s += t[startT + r * BLOCK_SIZE + i] * w[startW + r];
+                    }
+                    w[startW + i] = s;
+                }
+            }
+        }
+
+        // C2 = C2 - V2 * W
+        if (k1 < m) {
+            BlockedMatrixMultiplier.gemm(false, false, m - k1, columns, nb, -1.0,
+                    v, k0 * ldv + k1, ldv, w, 0, nb, 1.0, c, offsetC + k1, ldc);
+        }
+
+        // C1 = C1 - V1 * W
+        for (var j = 0; j < columns; j++) {
+            final var startC = offsetC + j * ldc + k0;
+            final var startW = j * nb;
+            for (var r = 0; r < nb; r++) {
+                var s = 0.0;
+                for (var i = 0; i <= r; i++) {
+                    s += v[(k0 + i) * ldv + k0 + r] * w[startW + i];
+                }
+                c[startC + r] -= s;
+            }
+        }
+    }
+
+    /**
+     * Task applying the reflections of a panel to a range of columns of a
+     * matrix. Ranges containing more than one block are recursively split in
+     * halves.
+     */
+    private static final class BlockTask extends RecursiveAction {
+
+        /**
+         * True to apply transposed reflections, false otherwise.
+         */
+        private final boolean transpose;
+
+        /**
+         * Number of rows.
+         */
+        private final int m;
+
+        /**
+         * First column of panel.
+         */
+        private final int k0;
+
+        /**
+         * Column after the last one of panel.
+         */
+        private final int k1;
+
+        /**
+         * Buffer containing factorized matrix.
+         */
+        private final double[] v;
+
+        /**
+         * Leading dimension of factorized matrix.
+         */
+        private final int ldv;
+
+        /**
+         * Array containing T.
+         */
+        private final double[] t;
+
+        /**
+         * Buffer containing matrix to be updated.
+         */
+        private final double[] c;
+
+        /**
+         * Position of first element of matrix to be updated.
+         */
+        private final int offsetC;
+
+        /**
+         * Leading dimension of matrix to be updated.
+         */
+        private final int ldc;
+
+        /**
+         * First column to be updated.
+         */
+        private final int j0;
+
+        /**
+         * Column after the last one to be updated.
+         */
+        private final int j1;
+
+        /**
+         * Constructor.
+         *
+         * @param transpose true to apply transposed reflections, false
+         *                  otherwise.
+         * @param m         number of rows.
+         * @param k0        first column of panel.
+         * @param k1        column after the last one of panel.
+         * @param v         buffer containing factorized matrix.
+         * @param ldv       leading dimension of factorized matrix.
+         * @param t         array containing T.
+         * @param c         buffer containing matrix to be updated.
+         * @param offsetC   position of first element of matrix to be updated.
+         * @param ldc       leading dimension of matrix to be updated.
+         * @param j0        first column to be updated.
+         * @param j1        column after the last one to be updated.
+         */
+        BlockTask(final boolean transpose, final int m, final int k0, final int k1,
+                  final double[] v, final int ldv, final double[] t,
+                  final double[] c, final int offsetC, final int ldc, final int j0, final int j1) {
+            this.transpose = transpose;
+            this.m = m;
+            this.k0 = k0;
+            this.k1 = k1;
+            this.v = v;
+            this.ldv = ldv;
+            this.t = t;
+            this.c = c;
+            this.offsetC = offsetC;
+            this.ldc = ldc;
+            this.j0 = j0;
+            this.j1 = j1;
+        }
+
+        /**
+         * Processes range of columns, splitting it if it contains more than
+         * one block.
+         */
+        @Override
+        protected void compute() {
+            final var blocks = (j1 - j0 + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            if (blocks <= 1) {
+                final var columns = j1 - j0;
+                applyBlock(transpose, m, k0, k1, v, ldv, t, c, offsetC + j0 * ldc, ldc, columns);
+                return;
+            }
+
+            final var middle = j0 + (blocks / 2) * BLOCK_SIZE;
+            invokeAll(new BlockTask(transpose, m, k0, k1, v, ldv, t, c, offsetC, ldc, j0, middle),
+                    new BlockTask(transpose, m, k0, k1, v, ldv, t, c, offsetC, ldc, middle, j1));
+        }
+    }
+}
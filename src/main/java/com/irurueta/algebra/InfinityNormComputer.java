@@ -67,6 +67,31 @@ public class InfinityNormComputer extends NormComputer {
         return maxRowSum;
     }
 
+    /**
+     * Computes norm of provided matrix view without copying its data.
+     *
+     * @param m matrix view being used for norm computation.
+     * @return norm of provided matrix view.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    public static double norm(final MatrixView m) {
+        final var rows = m.getRows();
+        final var columns = m.getColumns();
+        double rowSum;
+        var maxRowSum = 0.0;
+
+        for (var i = 0; i < rows; i++) {
+            rowSum = 0.0;
+            for (var j = 0; j < columns; j++) {
+                rowSum += Math.abs(m.getElementAt(i, j));
+            }
+
+            maxRowSum = Math.max(rowSum, maxRowSum);
+        }
+
+        return maxRowSum;
+    }
+
     /**
      * Computes norm of provided array and stores the jacobian into provided
      * instance.
@@ -104,6 +129,17 @@ public class InfinityNormComputer extends NormComputer {
         return norm(m);
     }
 
+    /**
+     * Computes norm of provided matrix view.
+     *
+     * @param m Matrix view being used for norm computation.
+     * @return Norm of provided matrix view.
+     */
+    @Override
+    public double getNorm(final MatrixView m) {
+        return norm(m);
+    }
+
     /**
      * Computes norm of provided array.
      *
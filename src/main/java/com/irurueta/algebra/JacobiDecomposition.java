@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+/**
+ * Computes eigen decomposition of small symmetric matrices and singular value
+ * decomposition of small square matrices using Jacobi rotations on
+ * column-major buffers of data.
+ * Jacobi methods converge quadratically and obtain small eigenvalues and
+ * singular values with high relative accuracy, and for matrices of a few rows
+ * and columns they require fewer operations than reducing the matrix to
+ * tridiagonal or bidiagonal form.
+ */
+final class JacobiDecomposition {
+
+    /**
+     * Maximum number of sweeps over all pairs of rows and columns.
+     */
+    static final int MAX_SWEEPS = 64;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private JacobiDecomposition() {
+    }
+
+    /**
+     * Computes eigen decomposition of a symmetric matrix, so that
+     * A = V * diag(values) * V'. Eigenvalues are sorted in descending order
+     * and eigenvectors are stored as the columns of V in the same order.
+     *
+     * @param n       number of rows and columns.
+     * @param a       buffer containing symmetric matrix. It is overwritten.
+     * @param values  array where eigenvalues are stored.
+     * @param vectors buffer where eigenvectors are stored.
+     */
+    static void symmetricEigen(final int n, final double[] a, final double[] values, final double[] vectors) {
+        setIdentity(n, vectors);
+
+        for (var sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            var off = 0.0;
+            var diag = 0.0;
+            for (var j = 0; j < n; j++) {
+                diag += a[j * n + j] * a[j * n + j];
+                for (var i = 0; i < j; i++) {
+                    off += a[j * n + i] * a[j * n + i];
+                }
+            }
+            if (off <= Math.ulp(1.0) * Math.ulp(1.0) * diag) {
+                break;
+            }
+
+            for (var p = 0; p < n - 1; p++) {
+                for (var q = p + 1; q < n; q++) {
+                    final var apq = a[q * n + p];
+                    if (apq == 0.0) {
+                        continue;
+                    }
+
+                    // rotation annihilating element (p, q)
+                    final var theta = (a[q * n + q] - a[p * n + p]) / (2.0 * apq);
+                    final var t = Math.signum(theta == 0.0 ? 1.0 : theta)
+                            / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0));
+                    final var c = 1.0 / Math.sqrt(t * t + 1.0);
+                    final var s = t * c;
+
+                    rotateColumns(n, a, p, q, c, s);
+                    rotateRows(n, a, p, q, c, s);
+                    rotateColumns(n, vectors, p, q, c, s);
+                }
+            }
+        }
+
+        for (var i = 0; i < n; i++) {
+            values[i] = a[i * n + i];
+        }
+        sortDescending(n, values, vectors, null);
+    }
+
+    /**
+     * Computes singular value decomposition of a square matrix using one-sided
+     * Jacobi rotations, so that A = U * diag(values) * V'. Singular values are
+     * sorted in descending order, and U and V are orthonormal even when A is
+     * rank deficient.
+     *
+     * @param n      number of rows and columns.
+     * @param a      buffer containing matrix. It is overwritten with U.
+     * @param values array where singular values are stored.
+     * @param v      buffer where V is stored.
+     */
+    static void svd(final int n, final double[] a, final double[] values, final double[] v) {
+        setIdentity(n, v);
+
+        for (var sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            var rotated = false;
+            for (var p = 0; p < n - 1; p++) {
+                for (var q = p + 1; q < n; q++) {
+                    var alpha = 0.0;
+                    var beta = 0.0;
+                    var gamma = 0.0;
+                    for (var k = 0; k < n; k++) {
+                        final var ap = a[p * n + k];
+                        final var aq = a[q * n + k];
+                        alpha += ap * ap;
+                        beta += aq * aq;
+                        gamma += ap * aq;
+                    }
+                    if (gamma == 0.0 || Math.abs(gamma) <= Math.ulp(1.0) * Math.sqrt(alpha * beta)) {
+                        continue;
+                    }
+                    rotated = true;
+
+                    // rotation making columns p and q orthogonal
+                    final var zeta = (beta - alpha) / (2.0 * gamma);
+                    final var t = Math.signum(zeta == 0.0 ? 1.0 : zeta)
+                            / (Math.abs(zeta) + Math.sqrt(1.0 + zeta * zeta));
+                    final var c = 1.0 / Math.sqrt(1.0 + t * t);
+                    final var s = c * t;
+
+                    rotateColumns(n, a, p, q, c, s);
+                    rotateColumns(n, v, p, q, c, s);
+                }
+            }
+            if (!rotated) {
+                break;
+            }
+        }
+
+        // singular values are the norms of orthogonalized columns
+        for (var j = 0; j < n; j++) {
+            var norm = 0.0;
+            for (var k = 0; k < n; k++) {
+                norm += a[j * n + k] * a[j * n + k];
+            }
+            norm = Math.sqrt(norm);
+            values[j] = norm;
+            if (norm > 0.0) {
+                for (var k = 0; k < n; k++) {
+                    a[j * n + k] /= norm;
+                }
+            }
+        }
+        sortDescending(n, values, a, v);
+        completeBasis(n, values, a);
+    }
+
+    /**
+     * Sets provided buffer to the identity.
+     *
+     * @param n      number of rows and columns.
+     * @param buffer buffer to be set.
+     */
+    private static void setIdentity(final int n, final double[] buffer) {
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < n; i++) {
+                buffer[j * n + i] = i == j ? 1.0 : 0.0;
+            }
+        }
+    }
+
+    /**
+     * Applies a plane rotation to columns p and q of provided buffer.
+     *
+     * @param n      number of rows and columns.
+     * @param buffer buffer to be rotated.
+     * @param p      first column.
+     * @param q      second column.
+     * @param c      cosine of rotation.
+     * @param s      sine of rotation.
+     */
+    private static void rotateColumns(final int n, final double[] buffer, final int p, final int q,
+                                      final double c, final double s) {
+        for (var k = 0; k < n; k++) {
+            final var bp = buffer[p * n + k];
+            final var bq = buffer[q * n + k];
+            buffer[p * n + k] = c * bp - s * bq;
+            buffer[q * n + k] = s * bp + c * bq;
+        }
+    }
+
+    /**
+     * Applies a plane rotation to rows p and q of provided buffer.
+     *
+     * @param n      number of rows and columns.
+     * @param buffer buffer to be rotated.
+     * @param p      first row.
+     * @param q      second row.
+     * @param c      cosine of rotation.
+     * @param s      sine of rotation.
+     */
+    private static void rotateRows(final int n, final double[] buffer, final int p, final int q,
+                                   final double c, final double s) {
+        for (var k = 0; k < n; k++) {
+            final var bp = buffer[k * n + p];
+            final var bq = buffer[k * n + q];
+            buffer[k * n + p] = c * bp - s * bq;
+            buffer[k * n + q] = s * bp + c * bq;
+        }
+    }
+
+    /**
+     * Sorts values in descending order, swapping columns of provided buffers
+     * accordingly.
+     *
+     * @param n       number of values.
+     * @param values  values to be sorted.
+     * @param first   buffer whose columns are swapped.
+     * @param second  another buffer whose columns are swapped, or null.
+     */
+    private static void sortDescending(final int n, final double[] values, final double[] first,
+                                       final double[] second) {
+        for (var i = 0; i < n - 1; i++) {
+            var max = i;
+            for (var j = i + 1; j < n; j++) {
+                if (values[j] > values[max]) {
+                    max = j;
+                }
+            }
+            if (max != i) {
+                final var tmp = values[i];
+                values[i] = values[max];
+                values[max] = tmp;
+                swapColumns(n, first, i, max);
+                if (second != null) {
+                    swapColumns(n, second, i, max);
+                }
+            }
+        }
+    }
+
+    /**
+     * Swaps two columns of provided buffer.
+     *
+     * @param n      number of rows and columns.
+     * @param buffer buffer whose columns are swapped.
+     * @param p      first column.
+     * @param q      second column.
+     */
+    private static void swapColumns(final int n, final double[] buffer, final int p, final int q) {
+        for (var k = 0; k < n; k++) {
+            final var tmp = buffer[p * n + k];
+            buffer[p * n + k] = buffer[q * n + k];
+            buffer[q * n + k] = tmp;
+        }
+    }
+
+    /**
+     * Replaces columns of u associated to negligible singular values with unit
+     * vectors orthogonal to all previous columns, so that u is orthonormal.
+     * Columns normalized from negligible singular values contain only rounding
+     * errors, and replacing them changes the product U * diag(values) * V' by
+     * less than the precision of the largest singular value.
+     * Because singular values are sorted, those columns are the last ones.
+     *
+     * @param n      number of rows and columns.
+     * @param values singular values sorted in descending order.
+     * @param u      buffer containing left singular vectors.
+     */
+    private static void completeBasis(final int n, final double[] values, final double[] u) {
+        final var tolerance = n * Math.ulp(values[0]);
+        for (var j = 0; j < n; j++) {
+            if (values[j] > tolerance) {
+                continue;
+            }
+
+            // choose the canonical vector having the largest component
+            // orthogonal to previous columns
+            var bestNorm = -1.0;
+            final var best = new double[n];
+            final var candidate = new double[n];
+            for (var e = 0; e < n; e++) {
+                for (var k = 0; k < n; k++) {
+                    candidate[k] = k == e ? 1.0 : 0.0;
+                }
+                for (var c = 0; c < j; c++) {
+                    final var dot = u[c * n + e];
+                    for (var k = 0; k < n; k++) {
+                        candidate[k] -= dot * u[c * n + k];
+                    }
+                }
+                var norm = 0.0;
+                for (var k = 0; k < n; k++) {
+                    norm += candidate[k] * candidate[k];
+                }
+                if (norm > bestNorm) {
+                    bestNorm = norm;
+                    System.arraycopy(candidate, 0, best, 0, n);
+                }
+            }
+
+            final var norm = Math.sqrt(bestNorm);
+            for (var k = 0; k < n; k++) {
+                u[j * n + k] = best[k] / norm;
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+/**
+ * Contains the innermost loops of array and matrix operations.
+ * This class provides scalar implementations of those loops. When this
+ * library is used on a JVM where the jdk.incubator.vector module is enabled
+ * (i.e. using --add-modules jdk.incubator.vector), a subclass using explicit
+ * SIMD instructions through the Vector API is loaded reflectively and used
+ * instead. Otherwise, this scalar implementation is used.
+ */
+class Kernels {
+
+    /**
+     * Name of the module providing the Vector API.
+     */
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Name of the class implementing kernels using the Vector API. This class
+     * is compiled separately against the Vector API and can only be loaded
+     * when such module is enabled.
+     */
+    static final String VECTORIZED_KERNELS_CLASS = "com.irurueta.algebra.VectorizedKernels";
+
+    /**
+     * Instance being used by this library.
+     */
+    static final Kernels INSTANCE = create();
+
+    /**
+     * Indicates whether this implementation uses explicit SIMD instructions.
+     *
+     * @return true if SIMD instructions are used, false otherwise.
+     */
+    boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * Computes the dot product of the first elements of provided arrays.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param length        number of elements to be used.
+     * @return dot product.
+     */
+    double dotProduct(final double[] firstOperand, final double[] secondOperand, final int length) {
+        var result = 0.0;
+        for (var i = 0; i < length; i++) {
+            result += firstOperand[i] * secondOperand[i];
+        }
+        return result;
+    }
+
+    /**
+     * Sums the first elements of provided arrays element by element.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param result        array where result is stored.
+     * @param length        number of elements to be used.
+     */
+    void sum(final double[] firstOperand, final double[] secondOperand, final double[] result, final int length) {
+        for (var i = 0; i < length; i++) {
+            result[i] = firstOperand[i] + secondOperand[i];
+        }
+    }
+
+    /**
+     * Subtracts the first elements of provided arrays element by element.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param result        array where result is stored.
+     * @param length        number of elements to be used.
+     */
+    void subtract(final double[] firstOperand, final double[] secondOperand, final double[] result,
+                  final int length) {
+        for (var i = 0; i < length; i++) {
+            result[i] = firstOperand[i] - secondOperand[i];
+        }
+    }
+
+    /**
+     * Multiplies the first elements of provided arrays element by element.
+     *
+     * @param firstOperand  first operand.
+     * @param secondOperand second operand.
+     * @param result        array where result is stored.
+     * @param length        number of elements to be used.
+     */
+    void multiply(final double[] firstOperand, final double[] secondOperand, final double[] result,
+                  final int length) {
+        for (var i = 0; i < length; i++) {
+            result[i] = firstOperand[i] * secondOperand[i];
+        }
+    }
+
+    /**
+     * Multiplies the first elements of provided array by provided scalar.
+     *
+     * @param input  array to be multiplied.
+     * @param scalar scalar value.
+     * @param result array where result is stored.
+     * @param length number of elements to be used.
+     */
+    void multiplyByScalar(final double[] input, final double scalar, final double[] result, final int length) {
+        for (var i = 0; i < length; i++) {
+            result[i] = scalar * input[i];
+        }
+    }
+
+    /**
+     * Computes a MR x NR tile of a matrix product from packed slivers of both
+     * operands and accumulates it into result buffer.
+     * Left sliver stores MR consecutive values for each inner position, and
+     * right sliver stores NR consecutive values for each inner position.
+     *
+     * @param kc      inner size of packed slivers.
+     * @param packA   packed left operand.
+     * @param posA    position of sliver within packed left operand.
+     * @param packB   packed right operand.
+     * @param posB    position of sliver within packed right operand.
+     * @param c       buffer where result is accumulated.
+     * @param offsetC position of first element of tile within result buffer.
+     * @param ldc     leading dimension of result.
+     * @param mr      number of valid rows of tile.
+     * @param nr      number of valid columns of tile.
+     * @param tile    scratch array of MR x NR elements used to store partial
+     *                tiles at the edges.
+     * @see BlockedMatrixMultiplier
+     */
+    void multiplyTile(final int kc, final double[] packA, final int posA, final double[] packB,
+                      final int posB, final double[] c, final int offsetC, final int ldc,
+                      final int mr, final int nr, final double[] tile) {
+        var c00 = 0.0;
+        var c10 = 0.0;
+        var c20 = 0.0;
+        var c30 = 0.0;
+        var c01 = 0.0;
+        var c11 = 0.0;
+        var c21 = 0.0;
+        var c31 = 0.0;
+        var c02 = 0.0;
+        var c12 = 0.0;
+        var c22 = 0.0;
+        var c32 = 0.0;
+        var c03 = 0.0;
+        var c13 = 0.0;
+        var c23 = 0.0;
+        var c33 = 0.0;
+
+        var pa = posA;
+        var pb = posB;
+        for (var p = 0; p < kc; p++) {
+            final var a0 = packA[pa];
+            final var a1 = packA[pa + 1];
+            final var a2 = packA[pa + 2];
+            final var a3 = packA[pa + 3];
+
+            final var b0 = packB[pb];
+            c00 += a0 * b0;
+            c10 += a1 * b0;
+            c20 += a2 * b0;
+            c30 += a3 * b0;
+
+            final var b1 = packB[pb + 1];
+            c01 += a0 * b1;
+            c11 += a1 * b1;
+            c21 += a2 * b1;
+            c31 += a3 * b1;
+
+            final var b2 = packB[pb + 2];
+            c02 += a0 * b2;
+            c12 += a1 * b2;
+            c22 += a2 * b2;
+            c32 += a3 * b2;
+
+            final var b3 = packB[pb + 3];
+            c03 += a0 * b3;
+            c13 += a1 * b3;
+            c23 += a2 * b3;
+            c33 += a3 * b3;
+
+            pa += BlockedMatrixMultiplier.MR;
+            pb += BlockedMatrixMultiplier.NR;
+        }
+
+        if (mr == BlockedMatrixMultiplier.MR && nr == BlockedMatrixMultiplier.NR) {
+            var pos = offsetC;
+            c[pos] += c00;
+            c[pos + 1] += c10;
+            c[pos + 2] += c20;
+            c[pos + 3] += c30;
+            pos += ldc;
+            c[pos] += c01;
+            c[pos + 1] += c11;
+            c[pos + 2] += c21;
+            c[pos + 3] += c31;
+            pos += ldc;
+            c[pos] += c02;
+            c[pos + 1] += c12;
+            c[pos + 2] += c22;
+            c[pos + 3] += c32;
+            pos += ldc;
+            c[pos] += c03;
+            c[pos + 1] += c13;
+            c[pos + 2] += c23;
+            c[pos + 3] += c33;
+        } else {
+            // partial tile at the edges of the result
+            tile[0] = c00;
+            tile[1] = c10;
+            tile[2] = c20;
+            tile[3] = c30;
+            tile[4] = c01;
+            tile[5] = c11;
+            tile[6] = c21;
+            tile[7] = c31;
+            tile[8] = c02;
+            tile[9] = c12;
+            tile[10] = c22;
+            tile[11] = c32;
+            tile[12] = c03;
+            tile[13] = c13;
+            tile[14] = c23;
+            tile[15] = c33;
+
+            addPartialTile(tile, c, offsetC, ldc, mr, nr);
+        }
+    }
+
+    /**
+     * Accumulates the valid region of a partial tile into result buffer.
+     *
+     * @param tile    tile stored in column order having MR rows.
+     * @param c       buffer where result is accumulated.
+     * @param offsetC position of first element of tile within result buffer.
+     * @param ldc     leading dimension of result.
+     * @param mr      number of valid rows of tile.
+     * @param nr      number of valid columns of tile.
+     */
+    static void addPartialTile(final double[] tile, final double[] c, final int offsetC, final int ldc,
+                               final int mr, final int nr) {
+        for (var j = 0; j < nr; j++) {
+            final var pos = offsetC + j * ldc;
+            final var tilePos = j * BlockedMatrixMultiplier.MR;
+            for (var i = 0; i < mr; i++) {
+                c[pos + i] += tile[tilePos + i];
+            }
+        }
+    }
+
+    /**
+     * Creates the instance to be used by this library. Vectorized kernels are
+     * used if the Vector API module is enabled, they are available and
+     * supported by the hardware. Otherwise, scalar kernels are used.
+     *
+     * @return instance to be used.
+     */
+    static Kernels create() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return new Kernels();
+        }
+
+        try {
+            return (Kernels) Class.forName(VECTORIZED_KERNELS_CLASS).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError ignore) {
+            // vectorized kernels are not available or not supported
+            return new Kernels();
+        }
+    }
+}
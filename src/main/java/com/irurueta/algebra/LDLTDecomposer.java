@@ -0,0 +1,747 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+/**
+ * This class allows decomposition of symmetric matrices using LDL'
+ * decomposition, which consists on retrieving a unit lower triangular matrix
+ * L, a block diagonal matrix D having blocks of size 1x1 or 2x2 and a
+ * permutation P so that input matrix A can be decomposed as:
+ * P * A * P' = L * D * L'.
+ * Unlike Cholesky decomposition, LDL' decomposition does not require input
+ * matrix to be positive definite, hence it can be used for symmetric
+ * indefinite matrices such as the ones found on saddle point or KKT systems.
+ * Because symmetry is preserved, decomposition requires about half of the
+ * operations required by LU decomposition.
+ * Pivots are chosen using Bunch-Kaufman partial pivoting strategy, which
+ * keeps elements of L bounded by using 2x2 pivots whenever a 1x1 pivot would
+ * be too small.
+ * Once decomposed, systems of linear equations can be solved, and determinant
+ * and inertia (i.e. number of positive, negative and zero eigenvalues) of
+ * input matrix can be cheaply obtained from D, since by Sylvester's law of
+ * inertia, A and D have the same inertia.
+ * Only the lower triangle of input matrix is accessed, and input matrix is
+ * assumed to be symmetric.
+ * Storage of decomposition results is kept and reused by later decompositions
+ * of matrices having the same size, hence factors and pivots returned by this
+ * instance will be overwritten when a new decomposition is computed.
+ */
+public class LDLTDecomposer extends Decomposer {
+
+    /**
+     * Constant defining default round error when determining singularity and
+     * inertia of matrices. This value is zero by default.
+     */
+    public static final double DEFAULT_ROUND_ERROR = 0.0;
+
+    /**
+     * Constant defining minimum allowed round error value when determining
+     * singularity and inertia of matrices.
+     */
+    public static final double MIN_ROUND_ERROR = 0.0;
+
+    /**
+     * Bunch-Kaufman constant bounding growth of elements of L, which is equal
+     * to (1 + sqrt(17)) / 8.
+     */
+    private static final double ALPHA = (1.0 + Math.sqrt(17.0)) / 8.0;
+
+    /**
+     * Internal matrix containing L factor on its strict lower triangle.
+     */
+    private Matrix l;
+
+    /**
+     * Diagonal of D.
+     */
+    private double[] d;
+
+    /**
+     * Sub-diagonal of D, containing zero for 1x1 blocks and the off-diagonal
+     * element of 2x2 blocks at the position of their first row.
+     */
+    private double[] e;
+
+    /**
+     * Permutation P, where element i contains the row of input matrix
+     * corresponding to row i of permuted matrix.
+     */
+    private int[] perm;
+
+    /**
+     * Storage for L factor that is kept across decompositions so that it can
+     * be reused.
+     */
+    private Matrix lStorage;
+
+    /**
+     * Storage for diagonal of D that is kept across decompositions so that it
+     * can be reused.
+     */
+    private double[] dStorage;
+
+    /**
+     * Storage for sub-diagonal of D that is kept across decompositions so that
+     * it can be reused.
+     */
+    private double[] eStorage;
+
+    /**
+     * Storage for permutation that is kept across decompositions so that it
+     * can be reused.
+     */
+    private int[] permStorage;
+
+    /**
+     * Constructor of this class.
+     */
+    public LDLTDecomposer() {
+        super();
+        l = null;
+    }
+
+    /**
+     * Constructor of this class.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     */
+    public LDLTDecomposer(final Matrix inputMatrix) {
+        super(inputMatrix);
+        l = null;
+    }
+
+    /**
+     * Returns decomposer type corresponding to LDL' decomposition.
+     *
+     * @return Decomposer type.
+     */
+    @Override
+    public DecomposerType getDecomposerType() {
+        return DecomposerType.LDLT_DECOMPOSITION;
+    }
+
+    /**
+     * Sets reference to input matrix to be decomposed.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     * @throws LockedException Exception thrown if attempting to call this
+     *                         method while this instance remains locked.
+     */
+    @Override
+    public void setInputMatrix(final Matrix inputMatrix) throws LockedException {
+        super.setInputMatrix(inputMatrix);
+        l = null;
+    }
+
+    /**
+     * Returns boolean indicating whether decomposition has been computed and
+     * results can be retrieved.
+     * Attempting to retrieve decomposition results when not available, will
+     * probably raise a NotAvailableException.
+     *
+     * @return Boolean indicating whether decomposition has been computed and
+     * results can be retrieved.
+     */
+    @Override
+    public boolean isDecompositionAvailable() {
+        return l != null;
+    }
+
+    /**
+     * This method computes LDL' decomposition of provided symmetric input
+     * matrix, so that P * A * P' = L * D * L', where A is input matrix, P is a
+     * permutation, L is unit lower triangular and D is block diagonal with
+     * blocks of size 1x1 or 2x2.
+     * Note: During execution of this method, this instance will remain locked,
+     * and hence attempting to set some parameters might raise a LockedException.
+     * Note: After execution of this method, LDL' decomposition will be
+     * available and operations such as retrieving factors, solving systems of
+     * linear equations or computing determinant or inertia will be able to be
+     * done. Attempting to call any of such operations before calling this
+     * method will raise a NotAvailableException because they require
+     * computation of LDL' decomposition first.
+     *
+     * @throws NotReadyException   Exception thrown if attempting to call this
+     *                             method when this instance is not ready (i.e. no input matrix has been
+     *                             provided).
+     * @throws LockedException     Exception thrown if this decomposer is already
+     *                             locked before calling this method. Notice that this method will actually
+     *                             lock this instance while it is being executed.
+     * @throws DecomposerException Exception thrown if for any reason
+     *                             decomposition fails while being executed, like when provided input matrix
+     *                             is not square.
+     */
+    @Override
+    public void decompose() throws NotReadyException, LockedException, DecomposerException {
+
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+
+        if (rows != columns) {
+            throw new DecomposerException();
+        }
+
+        locked = true;
+
+        // copy matrix contents
+        lStorage = copyInto(inputMatrix, lStorage);
+        dStorage = reuse(dStorage, rows);
+        eStorage = reuse(eStorage, rows);
+        permStorage = reuse(permStorage, rows);
+
+        factor(rows, lStorage.getBuffer(), dStorage, eStorage, permStorage);
+
+        l = lStorage;
+        d = dStorage;
+        e = eStorage;
+        perm = permStorage;
+
+        locked = false;
+    }
+
+    /**
+     * Returns unit lower triangular factor L, so that
+     * P * A * P' = L * D * L'.
+     *
+     * @return Unit lower triangular factor L.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before actually computing LDL' decomposition. To avoid this
+     *                               exception call decompose() method first.
+     * @see #decompose()
+     */
+    public Matrix getL() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var n = l.getRows();
+        final var result = new Matrix(l);
+        final var buffer = result.getBuffer();
+        for (var j = 0; j < n; j++) {
+            final var start = j * n;
+            for (var i = 0; i < j; i++) {
+                buffer[start + i] = 0.0;
+            }
+            buffer[start + j] = 1.0;
+        }
+        return result;
+    }
+
+    /**
+     * Returns block diagonal factor D, containing blocks of size 1x1 or 2x2,
+     * so that P * A * P' = L * D * L'.
+     *
+     * @return Block diagonal factor D.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before actually computing LDL' decomposition. To avoid this
+     *                               exception call decompose() method first.
+     * @see #decompose()
+     */
+    public Matrix getD() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var n = d.length;
+        Matrix result = null;
+        try {
+            result = new Matrix(n, n);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        for (var k = 0; k < n; k++) {
+            result.setElementAtIndex(k * n + k, d[k]);
+            if (k + 1 < n) {
+                result.setElementAtIndex(k * n + k + 1, e[k]);
+                result.setElementAtIndex((k + 1) * n + k, e[k]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns permutation P, so that P * A * P' = L * D * L'. Element i of
+     * returned array contains the row (and column) of input matrix that
+     * becomes row (and column) i once permuted.
+     * Returned array is reused by later decompositions of matrices having the
+     * same size.
+     *
+     * @return Permutation P.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before actually computing LDL' decomposition. To avoid this
+     *                               exception call decompose() method first.
+     * @see #decompose()
+     */
+    public int[] getPivot() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        return perm;
+    }
+
+    /**
+     * Returns boolean indicating whether provided input matrix is singular or
+     * not, which happens when D is singular.
+     *
+     * @return Boolean indicating whether provided input matrix is singular or
+     * not.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing LDL' decomposition. To avoid this exception call
+     *                               decompose() method first.
+     * @see #decompose()
+     */
+    public boolean isSingular() throws NotAvailableException {
+        return isSingular(DEFAULT_ROUND_ERROR);
+    }
+
+    /**
+     * Returns boolean indicating whether provided input matrix is singular or
+     * not, which happens when D is singular.
+     *
+     * @param roundingError Determines the amount of margin given to determine
+     *                      whether a matrix is singular or not due to rounding errors. If not
+     *                      provided, by default rounding error is set to zero, but this value can be
+     *                      relaxed if needed.
+     * @return Boolean indicating whether provided input matrix is singular or
+     * not.
+     * @throws NotAvailableException    Exception thrown if attempting to call this
+     *                                  method before computing LDL' decomposition. To avoid this exception call
+     *                                  decompose() method first.
+     * @throws IllegalArgumentException Exception thrown if provided rounding
+     *                                  error is lower than minimum allowed value (MIN_ROUND_ERROR).
+     * @see #decompose()
+     */
+    public boolean isSingular(final double roundingError) throws NotAvailableException {
+        return getInertia(roundingError)[2] > 0;
+    }
+
+    /**
+     * Returns inertia of provided input matrix, which consists on the number
+     * of positive, negative and zero eigenvalues of provided input matrix.
+     *
+     * @return array of length 3 containing the number of positive, negative
+     * and zero eigenvalues, in such order.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing LDL' decomposition. To avoid this exception call
+     *                               decompose() method first.
+     * @see #decompose()
+     */
+    public int[] getInertia() throws NotAvailableException {
+        return getInertia(DEFAULT_ROUND_ERROR);
+    }
+
+    /**
+     * Returns inertia of provided input matrix, which consists on the number
+     * of positive, negative and zero eigenvalues of provided input matrix.
+     * Inertia is obtained from the blocks of D, since by Sylvester's law of
+     * inertia, it is preserved by congruence transformations.
+     *
+     * @param roundingError Determines the amount of margin given to determine
+     *                      whether an eigenvalue of a block of D is zero due to rounding errors.
+     * @return array of length 3 containing the number of positive, negative
+     * and zero eigenvalues, in such order.
+     * @throws NotAvailableException    Exception thrown if attempting to call this
+     *                                  method before computing LDL' decomposition. To avoid this exception call
+     *                                  decompose() method first.
+     * @throws IllegalArgumentException Exception thrown if provided rounding
+     *                                  error is lower than minimum allowed value (MIN_ROUND_ERROR).
+     * @see #decompose()
+     */
+    public int[] getInertia(final double roundingError) throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+        if (roundingError < MIN_ROUND_ERROR) {
+            throw new IllegalArgumentException();
+        }
+
+        final var result = new int[3];
+        final var n = d.length;
+        var k = 0;
+        while (k < n) {
+            if (k + 1 < n && e[k] != 0.0) {
+                // eigenvalues of symmetric 2x2 block
+                final var mean = 0.5 * (d[k] + d[k + 1]);
+                final var radius = Math.hypot(0.5 * (d[k] - d[k + 1]), e[k]);
+                countEigenvalue(mean + radius, roundingError, result);
+                countEigenvalue(mean - radius, roundingError, result);
+                k += 2;
+            } else {
+                countEigenvalue(d[k], roundingError, result);
+                k++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes determinant of provided input matrix, which is equal to the
+     * product of determinants of the blocks of D, since determinants of L and
+     * of the permutation applied on both sides are one.
+     *
+     * @return Determinant of provided input matrix.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing LDL' decomposition. To avoid this exception call
+     *                               decompose() method first.
+     * @see #decompose()
+     */
+    public double determinant() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        var det = 1.0;
+        final var n = d.length;
+        var k = 0;
+        while (k < n) {
+            if (k + 1 < n && e[k] != 0.0) {
+                det *= d[k] * d[k + 1] - e[k] * e[k];
+                k += 2;
+            } else {
+                det *= d[k];
+                k++;
+            }
+        }
+        return det;
+    }
+
+    /**
+     * Solves a linear system of equations of the following form: A * X = B.
+     * Where A is the input matrix provided for LDL' decomposition, X is the
+     * solution to the system of equations, and B is the parameters
+     * vector/matrix.
+     * Note: This method can be reused for different b vectors/matrices without
+     * having to recompute LDL' decomposition on the same input matrix.
+     * Note: If provided input matrix A is singular, a SingularMatrixException
+     * will be thrown.
+     * Note: In order to be able to execute this method, a LDL' decomposition
+     * must be available, otherwise a NotAvailableException will be raised. In
+     * order to avoid this exception call decompose() method first.
+     * Note: result matrix contains solution of linear system of equations. It
+     * will be resized if provided matrix does not have proper size.
+     *
+     * @param b      Parameters of linear system of equations.
+     * @param result instance where solution X will be stored.
+     * @throws NotAvailableException   if decomposition has not yet been computed.
+     * @throws WrongSizeException      if the number of rows of b matrix is not
+     *                                 equal to the number of rows of input matrix provided to LDL' decomposer.
+     * @throws SingularMatrixException if input matrix provided to LDL'
+     *                                 decomposer is singular.
+     */
+    public void solve(final Matrix b, final Matrix result) throws NotAvailableException, WrongSizeException,
+            SingularMatrixException {
+
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var n = l.getRows();
+        final var colsB = b.getColumns();
+
+        if (b.getRows() != n) {
+            throw new WrongSizeException();
+        }
+
+        if (isSingular()) {
+            throw new SingularMatrixException();
+        }
+
+        // Copy permuted right hand side, which is kept in a separate matrix if
+        // result and b are the same instance
+        final var y = result == b ? new Matrix(n, colsB) : result;
+        if (y.getRows() != n || y.getColumns() != colsB) {
+            y.resize(n, colsB);
+        }
+        final var src = b.getBuffer();
+        final var x = y.getBuffer();
+        for (var j = 0; j < colsB; j++) {
+            final var start = j * n;
+            for (var i = 0; i < n; i++) {
+                x[start + i] = src[start + perm[i]];
+            }
+        }
+
+        final var lBuffer = l.getBuffer();
+
+        // Solve L * Z = P * B
+        TriangularSolver.solve(false, false, true, null, n, colsB, lBuffer, 0, n, x, 0, n);
+
+        // Solve D * W = Z
+        for (var j = 0; j < colsB; j++) {
+            final var start = j * n;
+            var k = 0;
+            while (k < n) {
+                if (k + 1 < n && e[k] != 0.0) {
+                    final var a11 = d[k];
+                    final var a22 = d[k + 1];
+                    final var a21 = e[k];
+                    final var det = a11 * a22 - a21 * a21;
+                    final var z1 = x[start + k];
+                    final var z2 = x[start + k + 1];
+                    x[start + k] = (a22 * z1 - a21 * z2) / det;
+                    x[start + k + 1] = (a11 * z2 - a21 * z1) / det;
+                    k += 2;
+                } else {
+                    x[start + k] /= d[k];
+                    k++;
+                }
+            }
+        }
+
+        // Solve L' * V = W
+        TriangularSolver.solve(false, true, true, null, n, colsB, lBuffer, 0, n, x, 0, n);
+
+        // X = P' * V, undone one column at a time through a scratch array
+        // unless solution is copied back into b
+        final var dst = result.getBuffer();
+        final var column = dst == x ? new double[n] : null;
+        for (var j = 0; j < colsB; j++) {
+            final var start = j * n;
+            if (column != null) {
+                System.arraycopy(x, start, column, 0, n);
+                for (var i = 0; i < n; i++) {
+                    dst[start + perm[i]] = column[i];
+                }
+            } else {
+                for (var i = 0; i < n; i++) {
+                    dst[start + perm[i]] = x[start + i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves a linear system of equations of the following form: A * X = B.
+     * Where A is the input matrix provided for LDL' decomposition, X is the
+     * solution to the system of equations, and B is the parameters
+     * vector/matrix.
+     * Note: This method can be reused for different b vectors/matrices without
+     * having to recompute LDL' decomposition on the same input matrix.
+     * Note: If provided input matrix A is singular, a SingularMatrixException
+     * will be thrown.
+     * Note: In order to be able to execute this method, a LDL' decomposition
+     * must be available, otherwise a NotAvailableException will be raised. In
+     * order to avoid this exception call decompose() method first.
+     *
+     * @param b Parameters of linear system of equations.
+     * @return a new matrix containing solution X.
+     * @throws NotAvailableException   if decomposition has not yet been computed.
+     * @throws WrongSizeException      if the number of rows of b matrix is not
+     *                                 equal to the number of rows of input matrix provided to LDL' decomposer.
+     * @throws SingularMatrixException if input matrix provided to LDL'
+     *                                 decomposer is singular.
+     */
+    public Matrix solve(final Matrix b) throws NotAvailableException, WrongSizeException, SingularMatrixException {
+        final var out = new Matrix(b.getRows(), b.getColumns());
+        solve(b, out);
+        return out;
+    }
+
+    /**
+     * Counts an eigenvalue into provided inertia.
+     *
+     * @param eigenvalue    eigenvalue to be counted.
+     * @param roundingError margin to consider eigenvalue to be zero.
+     * @param inertia       array containing the number of positive, negative
+     *                      and zero eigenvalues.
+     */
+    private static void countEigenvalue(final double eigenvalue, final double roundingError, final int[] inertia) {
+        if (eigenvalue > roundingError) {
+            inertia[0]++;
+        } else if (eigenvalue < -roundingError) {
+            inertia[1]++;
+        } else {
+            inertia[2]++;
+        }
+    }
+
+    /**
+     * Factorizes the lower triangle of a n x n symmetric matrix in place using
+     * Bunch-Kaufman pivoting, so that once factorized its strict lower
+     * triangle contains L, and D is stored in provided arrays.
+     * Interchanges are applied to the whole rows of L computed so far, so that
+     * P * A * P' = L * D * L' holds for the resulting permutation.
+     *
+     * @param n    number of rows and columns of matrix.
+     * @param a    buffer containing matrix in column order, where L will be
+     *             stored.
+     * @param d    array where diagonal of D will be stored.
+     * @param e    array where sub-diagonal of D will be stored.
+     * @param perm array where permutation will be stored.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    private static void factor(final int n, final double[] a, final double[] d, final double[] e,
+                               final int[] perm) {
+        for (var i = 0; i < n; i++) {
+            perm[i] = i;
+            e[i] = 0.0;
+        }
+
+        var k = 0;
+        while (k < n) {
+            final var startK = k * n;
+            var kstep = 1;
+            var kp = k;
+
+            // find largest off-diagonal element on column k
+            final var absakk = Math.abs(a[startK + k]);
+            var imax = k;
+            var colmax = 0.0;
+            for (var i = k + 1; i < n; i++) {
+                final var value = Math.abs(a[startK + i]);
+                if (value > colmax) {
+                    colmax = value;
+                    imax = i;
+                }
+            }
+
+            if (Math.max(absakk, colmax) == 0.0) {
+                // column is already zero, pivot is left as is and no
+                // elimination is needed
+                d[k] = a[startK + k];
+                k++;
+                continue;
+            }
+
+            if (absakk < ALPHA * colmax) {
+                // find largest off-diagonal element on row imax
+                final var startImax = imax * n;
+                var rowmax = 0.0;
+                for (var j = k; j < imax; j++) {
+                    rowmax = Math.max(rowmax, Math.abs(a[j * n + imax]));
+                }
+                for (var i = imax + 1; i < n; i++) {
+                    rowmax = Math.max(rowmax, Math.abs(a[startImax + i]));
+                }
+
+                if (absakk * rowmax < ALPHA * colmax * colmax) {
+                    kp = imax;
+                    if (Math.abs(a[startImax + imax]) < ALPHA * rowmax) {
+                        // 2x2 pivot
+                        kstep = 2;
+                    }
+                }
+            }
+
+            final var kk = k + kstep - 1;
+            if (kp != kk) {
+                interchange(n, a, k, kk, kp, kstep);
+                final var tmp = perm[kk];
+                perm[kk] = perm[kp];
+                perm[kp] = tmp;
+            }
+
+            if (kstep == 1) {
+                // A22 = A22 - (1 / d11) * x * x', where x = A21, L21 = x / d11
+                final var d11 = a[startK + k];
+                final var r1 = 1.0 / d11;
+                for (var j = k + 1; j < n; j++) {
+                    final var startJ = j * n;
+                    final var t = r1 * a[startK + j];
+                    for (var i = j; i < n; i++) {
+                        a[startJ + i] -= t * a[startK + i];
+                    }
+                }
+                for (var i = k + 1; i < n; i++) {
+                    a[startK + i] *= r1;
+                }
+                d[k] = d11;
+            } else {
+                final var startK1 = startK + n;
+                final var a11 = a[startK + k];
+                final var a22 = a[startK1 + k + 1];
+                final var a21 = a[startK + k + 1];
+                if (k < n - 2) {
+                    // [L(j,k) L(j,k+1)] = [A(j,k) A(j,k+1)] * inv(D11),
+                    // A22 = A22 - [A(:,k) A(:,k+1)] * inv(D11) * [A(:,k) A(:,k+1)]'
+                    final var d11 = a22 / a21;
+                    final var d22 = a11 / a21;
+                    final var d21 = 1.0 / (d11 * d22 - 1.0) / a21;
+                    for (var j = k + 2; j < n; j++) {
+                        final var startJ = j * n;
+                        final var wk = d21 * (d11 * a[startK + j] - a[startK1 + j]);
+                        final var wk1 = d21 * (d22 * a[startK1 + j] - a[startK + j]);
+                        for (var i = j; i < n; i++) {
+                            a[startJ + i] -= a[startK + i] * wk + a[startK1 + i] * wk1;
+                        }
+                        a[startK + j] = wk;
+                        a[startK1 + j] = wk1;
+                    }
+                }
+                d[k] = a11;
+                d[k + 1] = a22;
+                e[k] = a21;
+                a[startK + k + 1] = 0.0;
+            }
+
+            k += kstep;
+        }
+    }
+
+    /**
+     * Interchanges rows and columns kk and kp of the trailing sub-matrix
+     * starting at row and column k, along with rows kk and kp of the columns
+     * of L already computed.
+     *
+     * @param n     number of rows and columns of matrix.
+     * @param a     buffer containing matrix in column order.
+     * @param k     first row and column of trailing sub-matrix.
+     * @param kk    last row and column of current pivot block.
+     * @param kp    row and column to be interchanged with kk.
+     * @param kstep size of current pivot block.
+     */
+    private static void interchange(final int n, final double[] a, final int k, final int kk, final int kp,
+                                    final int kstep) {
+        final var startKk = kk * n;
+        final var startKp = kp * n;
+        for (var i = kp + 1; i < n; i++) {
+            swap(a, startKk + i, startKp + i);
+        }
+        for (var j = kk + 1; j < kp; j++) {
+            swap(a, startKk + j, j * n + kp);
+        }
+        swap(a, startKk + kk, startKp + kp);
+        if (kstep == 2) {
+            swap(a, k * n + k + 1, k * n + kp);
+        }
+        for (var j = 0; j < k; j++) {
+            final var startJ = j * n;
+            swap(a, startJ + kk, startJ + kp);
+        }
+    }
+
+    /**
+     * Swaps two elements of provided array.
+     *
+     * @param a array.
+     * @param i position of first element.
+     * @param j position of second element.
+     */
+    private static void swap(final double[] a, final int i, final int j) {
+        final var tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.irurueta.algebra;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * This class allows decomposition of matrices using LU decomposition, which
  * consists on retrieving two triangular matrices (lower triangular and upper
@@ -23,6 +25,17 @@ package com.irurueta.algebra;
  * triangular matrix and U is upper triangular matrix.
  * LU decomposition is a useful and fast way of solving systems of linear
  * equations, computing determinants or finding whether a matrix is singular.
+ * Decomposition is computed by a blocked algorithm working directly on the
+ * column-major buffer of data (see {@link BlockedLUFactorizer}), so that most
+ * of the work is done by matrix products.
+ * Optionally, a fork/join pool can be provided so that large matrices are
+ * decomposed in parallel. Parallel decompositions are identical to sequential
+ * ones, including their pivots.
+ * Storage of decomposition results can be kept and reused by later
+ * decompositions of matrices having the same size (see
+ * {@link #setStorageReused(boolean)}), in which case pivots returned by this
+ * instance are overwritten by later decompositions. Otherwise, each
+ * decomposition allocates its own storage and returned pivots remain valid.
  */
 @SuppressWarnings("DuplicatedCode")
 public class LUDecomposer extends Decomposer {
@@ -54,6 +67,36 @@ public class LUDecomposer extends Decomposer {
      */
     int pivSign;
 
+    /**
+     * Storage for LU factors that is kept across decompositions so that it can
+     * be reused.
+     */
+    private Matrix luStorage;
+
+    /**
+     * Storage for pivots that is kept across decompositions so that it can be
+     * reused.
+     */
+    private int[] pivStorage;
+
+    /**
+     * Scratch array containing row exchanged at each step of decomposition,
+     * which is kept across decompositions so that it can be reused.
+     */
+    private int[] swapStorage;
+
+    /**
+     * Pool where decomposition is executed in parallel, or null to decompose
+     * sequentially on calling thread.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Indicates whether storage of factors and pivots is reused by later
+     * decompositions.
+     */
+    private boolean storageReused;
+
     /**
      * Constructor of this class.
      */
@@ -74,6 +117,18 @@ public class LUDecomposer extends Decomposer {
         piv = null;
     }
 
+    /**
+     * Constructor of this class.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     * @param pool        pool where decomposition is executed in parallel, or
+     *                    null to decompose sequentially on calling thread.
+     */
+    public LUDecomposer(final Matrix inputMatrix, final ForkJoinPool pool) {
+        this(inputMatrix);
+        this.pool = pool;
+    }
+
     /**
      * Returns decomposer type corresponding to LU decomposition
      *
@@ -84,6 +139,60 @@ public class LUDecomposer extends Decomposer {
         return DecomposerType.LU_DECOMPOSITION;
     }
 
+    /**
+     * Gets pool where decomposition is executed in parallel.
+     *
+     * @return pool where decomposition is executed in parallel, or null if
+     * decomposition is computed sequentially on calling thread.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets pool where decomposition is executed in parallel.
+     * Only matrices large enough to benefit from it are decomposed in
+     * parallel.
+     *
+     * @param pool pool where decomposition is executed in parallel, or null
+     *             to decompose sequentially on calling thread.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setPool(final ForkJoinPool pool) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Indicates whether storage of pivots returned by {@link #getPivot()} is
+     * reused by later decompositions of matrices having the same size.
+     *
+     * @return true if storage of pivots is reused, false otherwise.
+     */
+    public boolean isStorageReused() {
+        return storageReused;
+    }
+
+    /**
+     * Specifies whether storage of pivots returned by {@link #getPivot()} is
+     * reused by later decompositions of matrices having the same size.
+     * When enabled, decompositions do not allocate memory once storage has
+     * grown, but pivots previously returned by this instance are overwritten
+     * by later decompositions, and this instance must not be used by other
+     * threads while it is being decomposed. By default, storage is not reused.
+     *
+     * @param storageReused true to reuse storage of pivots, false otherwise.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setStorageReused(final boolean storageReused) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.storageReused = storageReused;
+    }
+
     /**
      * Sets reference to input matrix to be decomposed.
      *
@@ -157,45 +266,14 @@ public class LUDecomposer extends Decomposer {
         locked = true;
 
         // copy matrix contents
-        lu = new Matrix(inputMatrix);
-
-        piv = new int[rows];
-        for (var i = 0; i < rows; i++) {
-            piv[i] = i;
-        }
+        luStorage = copyInto(inputMatrix, storageReused ? luStorage : null);
+        lu = luStorage;
 
-        pivSign = 1;
+        pivStorage = reuse(storageReused ? pivStorage : null, rows);
+        piv = pivStorage;
+        swapStorage = reuse(storageReused ? swapStorage : null, columns);
 
-        // Main loop
-        for (var k = 0; k < columns; k++) {
-            // Find pivot
-            var p = k;
-            for (var i = k + 1; i < rows; i++) {
-                p = Math.abs(lu.getElementAt(i, k)) > Math.abs(lu.getElementAt(p, k)) ? i : p;
-            }
-            // Exchange if necessary
-            if (p != k) {
-                for (var j = 0; j < columns; j++) {
-                    final var t = lu.getElementAt(p, j);
-                    lu.setElementAt(p, j, lu.getElementAt(k, j));
-                    lu.setElementAt(k, j, t);
-                }
-                final var t = piv[p];
-                piv[p] = piv[k];
-                piv[k] = t;
-                pivSign = -pivSign;
-            }
-            // Compute multipliers and eliminate k-th column
-            if (lu.getElementAt(k, k) != 0.0) {
-                for (var i = k + 1; i < rows; i++) {
-                    lu.setElementAt(i, k, lu.getElementAt(i, k) / lu.getElementAt(k, k));
-                    for (var j = k + 1; j < columns; j++) {
-                        lu.setElementAt(i, j, lu.getElementAt(i, j)
-                                - lu.getElementAt(i, k) * lu.getElementAt(k, j));
-                    }
-                }
-            }
-        }
+        pivSign = BlockedLUFactorizer.factor(rows, columns, lu.getBuffer(), rows, piv, swapStorage, pool);
 
         locked = false;
     }
@@ -517,8 +595,45 @@ public class LUDecomposer extends Decomposer {
         return out;
     }
 
+    /**
+     * Returns unit lower triangular factor L of a square input matrix, so
+     * that A(piv, :) = L * U, using packed storage.
+     * Unlike {@link #getL()}, returned matrix is not pivot corrected, hence it
+     * is truly triangular, and its unit diagonal is not stored.
+     *
+     * @return Unit lower triangular factor.
+     * @throws NotAvailableException Exception thrown if attempting to call
+     *                               this method before computing LU decomposition. To avoid this exception
+     *                               call decompose() method first.
+     * @throws WrongSizeException    Exception thrown if attempting to call this
+     *                               method using a non-square input matrix.
+     * @see #decompose()
+     * @see #getPivot()
+     */
+    public TriangularMatrix getTriangularL() throws NotAvailableException, WrongSizeException {
+        return getTriangularFactor(false);
+    }
+
+    /**
+     * Returns upper triangular factor U of a square input matrix, so that
+     * A(piv, :) = L * U, using packed storage.
+     *
+     * @return Upper triangular factor.
+     * @throws NotAvailableException Exception thrown if attempting to call
+     *                               this method before computing LU decomposition. To avoid this exception
+     *                               call decompose() method first.
+     * @throws WrongSizeException    Exception thrown if attempting to call this
+     *                               method using a non-square input matrix.
+     * @see #decompose()
+     */
+    public TriangularMatrix getTriangularU() throws NotAvailableException, WrongSizeException {
+        return getTriangularFactor(true);
+    }
+
     /**
      * Returns pivot permutation vector.
+     * If storage reuse is enabled, returned array is overwritten by later
+     * decompositions of matrices having the same size.
      *
      * @return Pivot permutation vector.
      * @throws NotAvailableException Exception thrown if attempting to call
@@ -704,36 +819,28 @@ public class LUDecomposer extends Decomposer {
         if (result.getRows() != columns || result.getColumns() != colsB) {
             result.resize(columns, colsB);
         }
-        result.initialize(0.0);
 
-        for (var i = 0; i < columns; i++) {
-            for (var j = 0; j < colsB; j++) {
-                result.setElementAt(i, j, b.getElementAt(piv[i], j));
+        // Copy right hand side with pivoting
+        final var src = b.getBuffer();
+        final var x = result.getBuffer();
+        final var rowsB = b.getRows();
+        for (var j = 0; j < colsB; j++) {
+            final var startB = j * rowsB;
+            final var startX = j * columns;
+            for (var i = 0; i < columns; i++) {
+                x[startX + i] = src[startB + piv[i]];
             }
         }
 
+        final var luBuffer = lu.getBuffer();
+
         // Solve L * Y = b(piv, :)
-        for (var k = 0; k < columns; k++) {
-            for (var i = k + 1; i < columns; i++) {
-                for (var j = 0; j < colsB; j++) {
-                    result.setElementAt(i, j, result.getElementAt(i, j)
-                            - result.getElementAt(k, j) * lu.getElementAt(i, k));
-                }
-            }
-        }
+        TriangularSolver.solve(false, false, true, null, columns, colsB, luBuffer, 0, rows,
+                x, 0, columns);
 
         // Solve U * X = Y
-        for (var k = columns - 1; k >= 0; k--) {
-            for (var j = 0; j < colsB; j++) {
-                result.setElementAt(k, j, result.getElementAt(k, j) / lu.getElementAt(k, k));
-            }
-            for (var i = 0; i < k; i++) {
-                for (var j = 0; j < colsB; j++) {
-                    result.setElementAt(i, j, result.getElementAt(i, j)
-                            - result.getElementAt(k, j) * lu.getElementAt(i, k));
-                }
-            }
-        }
+        TriangularSolver.solve(true, false, false, null, columns, colsB, luBuffer, 0, rows,
+                x, 0, columns);
     }
 
     /**
@@ -836,4 +943,27 @@ public class LUDecomposer extends Decomposer {
         solve(b, roundingError, out);
         return out;
     }
+
+    /**
+     * Returns one of the triangular factors of a square input matrix using
+     * packed storage.
+     *
+     * @param upper true to return U, false to return L.
+     * @return triangular factor.
+     * @throws NotAvailableException if decomposition has not yet been
+     *                               computed.
+     * @throws WrongSizeException    if input matrix is not square.
+     */
+    private TriangularMatrix getTriangularFactor(final boolean upper) throws NotAvailableException,
+            WrongSizeException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        if (lu.getRows() != lu.getColumns()) {
+            throw new WrongSizeException();
+        }
+
+        return TriangularMatrix.newFromMatrix(lu, upper, !upper);
+    }
 }
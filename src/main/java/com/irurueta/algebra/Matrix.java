@@ -47,13 +47,16 @@ public class Matrix implements Serializable, Cloneable {
 
     /**
      * Array containing data of matrix. Data is stored linearly in memory
-     * using column order.
+     * using column order. Only the first rows * columns elements are used,
+     * since the array is kept when matrix is resized to a smaller or equal
+     * number of elements so that its capacity can be reused.
      */
     private double[] buffer;
 
     /**
      * Array used for indexing column start positions within buffer. This
-     * is used for faster access to matrix elements.
+     * is used for faster access to matrix elements. Only the first columns
+     * elements are used.
      */
     private int[] columnIndex;
 
@@ -69,7 +72,7 @@ public class Matrix implements Serializable, Cloneable {
      *                            raise this exception.
      */
     public Matrix(final int rows, final int columns) throws WrongSizeException {
-        internalResize(rows, columns);
+        internalResize(rows, columns, false);
     }
 
     /**
@@ -79,12 +82,12 @@ public class Matrix implements Serializable, Cloneable {
      */
     public Matrix(final Matrix m) {
         try {
-            internalResize(m.getRows(), m.getColumns());
+            internalResize(m.getRows(), m.getColumns(), false);
         } catch (final WrongSizeException ignore) {
             // never happens
         }
 
-        System.arraycopy(m.getBuffer(), 0, buffer, 0, buffer.length);
+        System.arraycopy(m.getBuffer(), 0, buffer, 0, rows * columns);
     }
 
     /**
@@ -268,7 +271,7 @@ public class Matrix implements Serializable, Cloneable {
             }
         }
         // copies content
-        System.arraycopy(buffer, 0, output.buffer, 0, buffer.length);
+        System.arraycopy(buffer, 0, output.buffer, 0, rows * columns);
     }
 
     /**
@@ -290,7 +293,7 @@ public class Matrix implements Serializable, Cloneable {
             }
         }
         // copies content
-        System.arraycopy(input.buffer, 0, buffer, 0, buffer.length);
+        System.arraycopy(input.buffer, 0, buffer, 0, rows * columns);
     }
 
     /**
@@ -501,6 +504,258 @@ public class Matrix implements Serializable, Cloneable {
         buffer = resultBuffer;
     }
 
+    /**
+     * Multiplies the transpose of this matrix with provided matrix (i.e.
+     * result = this' * other) and stores the result in provided result
+     * matrix. If provided result matrix doesn't have proper size, it will be
+     * resized.
+     * This matrix is read in transposed order, hence no transposed copy of it
+     * is made.
+     *
+     * @param other  Right operand of matrix product.
+     * @param result Matrix where result of product is stored. Must be a
+     *               different instance than this matrix and provided one.
+     * @throws WrongSizeException   Exception thrown when this matrix and
+     *                              provided one don't have the same number of rows.
+     * @throws NullPointerException Exception raised if provided matrices are
+     *                              null.
+     */
+    public void multiplyTransposedLeft(final Matrix other, final Matrix result) throws WrongSizeException {
+        if (rows != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        // resize result if needed
+        if (result.rows != columns || result.columns != other.columns) {
+            result.resize(columns, other.columns);
+        }
+
+        internalMultiplyTransposedLeft(other, result.buffer);
+    }
+
+    /**
+     * Multiplies the transpose of this matrix with provided matrix (i.e.
+     * this' * other) and returns the result as a new instance.
+     * If this matrix m1 has size m x n and provided matrix m2 has size p x q,
+     * then m must be equal to p so that product m1' * m2 can be correctly
+     * computed obtaining a matrix of size n x q.
+     *
+     * @param other Right operand of matrix product.
+     * @return Matrix containing result of multiplication.
+     * @throws WrongSizeException   Exception thrown when this matrix and
+     *                              provided one don't have the same number of rows.
+     * @throws NullPointerException Exception thrown if provided matrix is null.
+     */
+    public Matrix multiplyTransposedLeftAndReturnNew(final Matrix other) throws WrongSizeException {
+        if (rows != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        final var out = new Matrix(columns, other.columns);
+        internalMultiplyTransposedLeft(other, out.buffer);
+        return out;
+    }
+
+    /**
+     * Multiplies the transpose of this matrix with provided matrix (i.e.
+     * this = this' * other).
+     * If this matrix m1 has size m x n and provided matrix m2 has size p x q,
+     * then m must be equal to p so that product m1' * m2 can be correctly
+     * computed resizing this matrix to a new one having size n x q.
+     *
+     * @param other Right operand of matrix product.
+     * @throws WrongSizeException   Exception thrown when this matrix and
+     *                              provided one don't have the same number of rows.
+     * @throws NullPointerException Exception thrown if provided matrix is null.
+     */
+    public void multiplyTransposedLeft(final Matrix other) throws WrongSizeException {
+        if (rows != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        final var resultBuffer = new double[columns * other.columns];
+        internalMultiplyTransposedLeft(other, resultBuffer);
+        updateData(columns, other.columns, resultBuffer);
+    }
+
+    /**
+     * Multiplies this matrix with the transpose of provided matrix (i.e.
+     * result = this * other') and stores the result in provided result
+     * matrix. If provided result matrix doesn't have proper size, it will be
+     * resized.
+     * Provided matrix is read in transposed order, hence no transposed copy of
+     * it is made.
+     *
+     * @param other  Matrix whose transpose is the right operand of matrix
+     *               product.
+     * @param result Matrix where result of product is stored. Must be a
+     *               different instance than this matrix and provided one.
+     * @throws WrongSizeException   Exception thrown when this matrix and
+     *                              provided one don't have the same number of columns.
+     * @throws NullPointerException Exception raised if provided matrices are
+     *                              null.
+     */
+    public void multiplyTransposedRight(final Matrix other, final Matrix result) throws WrongSizeException {
+        if (columns != other.columns) {
+            throw new WrongSizeException();
+        }
+
+        // resize result if needed
+        if (result.rows != rows || result.columns != other.rows) {
+            result.resize(rows, other.rows);
+        }
+
+        internalMultiplyTransposedRight(other, result.buffer);
+    }
+
+    /**
+     * Multiplies this matrix with the transpose of provided matrix (i.e.
+     * this * other') and returns the result as a new instance.
+     * If this matrix m1 has size m x n and provided matrix m2 has size p x q,
+     * then n must be equal to q so that product m1 * m2' can be correctly
+     * computed obtaining a matrix of size m x p.
+     *
+     * @param other Matrix whose transpose is the right operand of matrix
+     *              product.
+     * @return Matrix containing result of multiplication.
+     * @throws WrongSizeException   Exception thrown when this matrix and
+     *                              provided one don't have the same number of columns.
+     * @throws NullPointerException Exception thrown if provided matrix is null.
+     */
+    public Matrix multiplyTransposedRightAndReturnNew(final Matrix other) throws WrongSizeException {
+        if (columns != other.columns) {
+            throw new WrongSizeException();
+        }
+
+        final var out = new Matrix(rows, other.rows);
+        internalMultiplyTransposedRight(other, out.buffer);
+        return out;
+    }
+
+    /**
+     * Multiplies this matrix with the transpose of provided matrix (i.e.
+     * this = this * other').
+     * If this matrix m1 has size m x n and provided matrix m2 has size p x q,
+     * then n must be equal to q so that product m1 * m2' can be correctly
+     * computed resizing this matrix to a new one having size m x p.
+     *
+     * @param other Matrix whose transpose is the right operand of matrix
+     *              product.
+     * @throws WrongSizeException   Exception thrown when this matrix and
+     *                              provided one don't have the same number of columns.
+     * @throws NullPointerException Exception thrown if provided matrix is null.
+     */
+    public void multiplyTransposedRight(final Matrix other) throws WrongSizeException {
+        if (columns != other.columns) {
+            throw new WrongSizeException();
+        }
+
+        final var resultBuffer = new double[rows * other.rows];
+        internalMultiplyTransposedRight(other, resultBuffer);
+        updateData(rows, other.rows, resultBuffer);
+    }
+
+    /**
+     * Computes the Gram matrix of this matrix (i.e. result = this' * this)
+     * and stores the result in provided result matrix. If provided result
+     * matrix doesn't have proper size, it will be resized.
+     * Because the result is symmetric, only its upper triangle is computed
+     * and then mirrored into its lower triangle.
+     *
+     * @param result Matrix where result is stored. Must be a different
+     *               instance than this matrix.
+     * @throws NullPointerException Exception raised if provided matrix is null.
+     */
+    public void gram(final Matrix result) {
+        // resize result if needed
+        if (result.rows != columns || result.columns != columns) {
+            try {
+                result.resize(columns, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        internalGram(result.buffer);
+    }
+
+    /**
+     * Computes the Gram matrix of this matrix (i.e. this' * this) and returns
+     * the result as a new instance.
+     * If this matrix has size m x n, the result is a symmetric matrix of size
+     * n x n.
+     * Because the result is symmetric, only its upper triangle is computed
+     * and then mirrored into its lower triangle.
+     *
+     * @return A new matrix containing the Gram matrix.
+     */
+    public Matrix gramAndReturnNew() {
+        Matrix out = null;
+        try {
+            out = new Matrix(columns, columns);
+            internalGram(out.buffer);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return out;
+    }
+
+    /**
+     * Replaces this matrix by its Gram matrix (i.e. this = this' * this).
+     * If this matrix has size m x n, it is resized to a symmetric matrix of
+     * size n x n.
+     * Because the result is symmetric, only its upper triangle is computed
+     * and then mirrored into its lower triangle.
+     */
+    public void gram() {
+        final var resultBuffer = new double[columns * columns];
+        internalGram(resultBuffer);
+        updateData(columns, columns, resultBuffer);
+    }
+
+    /**
+     * Computes c = alpha * op(a) * op(b) + beta * c, where op(x) is either x
+     * or its transpose x', and stores the result in place into c.
+     * The product is scaled and accumulated in a single pass over the result,
+     * using the blocked algorithm when operands are large enough, and no
+     * memory is allocated once packing buffers of current thread have grown,
+     * hence this method is suitable to accumulate products into existing
+     * matrices within iterative algorithms.
+     * If beta is zero, initial contents of c are ignored (even if they are
+     * NaN).
+     *
+     * @param alpha  scale of product.
+     * @param a      left operand.
+     * @param transA true if left operand is transposed, false otherwise.
+     * @param b      right operand.
+     * @param transB true if right operand is transposed, false otherwise.
+     * @param beta   scale of initial contents of c.
+     * @param c      matrix containing initial values where result is stored.
+     *               Must be a different instance than provided operands.
+     * @throws WrongSizeException       if number of columns of op(a) is not
+     *                                  equal to number of rows of op(b), or if c does not have the number of
+     *                                  rows of op(a) and the number of columns of op(b).
+     * @throws IllegalArgumentException if c is the same instance as any of the
+     *                                  operands.
+     * @throws NullPointerException     if any of provided matrices is null.
+     */
+    public static void gemm(final double alpha, final Matrix a, final boolean transA, final Matrix b,
+                            final boolean transB, final double beta, final Matrix c) throws WrongSizeException {
+        final var m = transA ? a.columns : a.rows;
+        final var k = transA ? a.rows : a.columns;
+        final var kb = transB ? b.columns : b.rows;
+        final var n = transB ? b.rows : b.columns;
+        if (k != kb || c.rows != m || c.columns != n) {
+            throw new WrongSizeException();
+        }
+        if (c == a || c == b) {
+            throw new IllegalArgumentException();
+        }
+
+        BlockedMatrixMultiplier.gemm(transA, transB, m, n, k, alpha, a.buffer, 0, a.rows,
+                b.buffer, 0, b.rows, beta, c.buffer, 0, m);
+    }
+
     /**
      * Computes the Kronecker product with provided matrix and stores the
      * result in provided result matrix. If provided result matrix doesn't
@@ -583,10 +838,7 @@ public class Matrix implements Serializable, Cloneable {
      * @param result Matrix where result of operation is stored.
      */
     private void multiplyByScalar(final double scalar, final Matrix result) {
-        final var length = rows * columns;
-        for (int i = 0; i < length; i++) {
-            result.buffer[i] = scalar * buffer[i];
-        }
+        Kernels.INSTANCE.multiplyByScalar(buffer, scalar, result.buffer, rows * columns);
     }
 
     /**
@@ -649,7 +901,12 @@ public class Matrix implements Serializable, Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(this.rows, this.columns, Arrays.hashCode(this.buffer), Arrays.hashCode(this.columnIndex));
+        var result = Objects.hash(this.rows, this.columns);
+        final var length = rows * columns;
+        for (var i = 0; i < length; i++) {
+            result = 31 * result + Double.hashCode(buffer[i]);
+        }
+        return result;
     }
 
     /**
@@ -858,12 +1115,15 @@ public class Matrix implements Serializable, Cloneable {
      */
     public void initialize(final double initValue) {
         // initialize buffer array to provided value
-        Arrays.fill(buffer, initValue);
+        Arrays.fill(buffer, 0, rows * columns, initValue);
     }
 
     /**
      * Resizes current instance by removing its contents and resizing it to
      * provided size.
+     * Internal storage is only reused when it has exactly the new number of
+     * elements, so that the internal buffer always has rows * columns
+     * elements.
      *
      * @param rows    Number of rows to be set
      * @param columns Number of columns to be set
@@ -871,12 +1131,36 @@ public class Matrix implements Serializable, Cloneable {
      *                            columns is zero.
      */
     public void resize(final int rows, final int columns) throws WrongSizeException {
-        internalResize(rows, columns);
+        internalResize(rows, columns, false);
+    }
+
+    /**
+     * Resizes current instance by removing its contents and resizing it to
+     * provided size.
+     * When capacity is kept, internal storage is reused whenever it is large
+     * enough to hold the new number of elements, hence resizing does not
+     * allocate memory in such case, but the internal buffer returned by
+     * {@link #getBuffer()} might be longer than rows * columns.
+     * Elements are set to zero after resizing.
+     *
+     * @param rows         Number of rows to be set
+     * @param columns      Number of columns to be set
+     * @param keepCapacity true to reuse internal storage having enough capacity,
+     *                     false to keep internal storage having exactly
+     *                     rows * columns elements.
+     * @throws WrongSizeException Exception raised if either rows or
+     *                            columns is zero.
+     */
+    public void resize(final int rows, final int columns, final boolean keepCapacity)
+            throws WrongSizeException {
+        internalResize(rows, columns, keepCapacity);
     }
 
     /**
      * Resets current instance by removing its contents, resizing it to provided
      * size and setting all its elements to provided value.
+     * Internal storage is only reused when it has exactly the new number of
+     * elements.
      *
      * @param rows      Number of rows to be set
      * @param columns   Number of columns to be set
@@ -885,10 +1169,55 @@ public class Matrix implements Serializable, Cloneable {
      *                            columns is zero.
      */
     public void reset(final int rows, final int columns, final double initValue) throws WrongSizeException {
-        internalResize(rows, columns);
+        reset(rows, columns, initValue, false);
+    }
+
+    /**
+     * Resets current instance by removing its contents, resizing it to provided
+     * size and setting all its elements to provided value.
+     * When capacity is kept, internal storage is reused whenever it is large
+     * enough to hold the new number of elements, but the internal buffer
+     * returned by {@link #getBuffer()} might be longer than rows * columns.
+     *
+     * @param rows         Number of rows to be set
+     * @param columns      Number of columns to be set
+     * @param initValue    Value to be set in all of its elements
+     * @param keepCapacity true to reuse internal storage having enough capacity,
+     *                     false to keep internal storage having exactly
+     *                     rows * columns elements.
+     * @throws WrongSizeException Exception raised if either rows or
+     *                            columns is zero.
+     */
+    public void reset(final int rows, final int columns, final double initValue, final boolean keepCapacity)
+            throws WrongSizeException {
+        internalResize(rows, columns, keepCapacity);
         initialize(initValue);
     }
 
+    /**
+     * Returns number of elements that this matrix can hold without allocating
+     * new internal storage when being resized while keeping its capacity.
+     *
+     * @return capacity of internal storage.
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Releases any internal storage not needed to hold current number of
+     * elements, so that capacity becomes equal to rows * columns.
+     */
+    public void trimToSize() {
+        final var length = rows * columns;
+        if (buffer.length != length) {
+            buffer = Arrays.copyOf(buffer, length);
+        }
+        if (columnIndex.length != columns) {
+            columnIndex = Arrays.copyOf(columnIndex, columns);
+        }
+    }
+
     /**
      * Returns the contents of the matrix as an array of values using
      * DEFAULT_USE_COLUMN_ORDER to pick elements.
@@ -952,12 +1281,12 @@ public class Matrix implements Serializable, Cloneable {
      *                            same number of elements as the matrix (i.e. rows x columns).
      */
     public void toArray(final double[] result, final boolean isColumnOrder) throws WrongSizeException {
-        if (result.length != buffer.length) {
+        if (result.length != rows * columns) {
             throw new WrongSizeException("result array must be equal to rows x columns");
         }
 
         if (isColumnOrder) {
-            System.arraycopy(buffer, 0, result, 0, buffer.length);
+            System.arraycopy(buffer, 0, result, 0, result.length);
         } else {
             double value;
             var counter = 0;
@@ -974,6 +1303,10 @@ public class Matrix implements Serializable, Cloneable {
 
     /**
      * Returns current matrix internal buffer of data.
+     * Data is stored in column order, and returned array has rows * columns
+     * elements, unless this matrix has been resized to fewer elements while
+     * keeping its capacity (see {@link #resize(int, int, boolean)}), in which
+     * case remaining elements must be ignored.
      *
      * @return Internal buffer of data.
      */
@@ -1049,6 +1382,55 @@ public class Matrix implements Serializable, Cloneable {
         return out;
     }
 
+    /**
+     * Obtains a view of a sub-matrix of current matrix instance. No data is
+     * copied, hence reading the view reads the data of this matrix and writing
+     * into the view modifies this matrix. Both top-left and bottom-right
+     * points are included within the view.
+     * View is no longer valid if this matrix is resized.
+     *
+     * @param topLeftRow        Top-left row index where view starts.
+     * @param topLeftColumn     Top-left column index where view starts.
+     * @param bottomRightRow    Bottom-right row index where view ends.
+     * @param bottomRightColumn Bottom-right column index where view ends.
+     * @return A view of selected sub-matrix.
+     * @throws IllegalArgumentException Exception raised whenever top-left or
+     *                                  bottom-right corners lie outside current matrix instance, or if top-left
+     *                                  corner is indeed located below or at right side of bottom-right corner.
+     */
+    public MatrixView getSubmatrixView(final int topLeftRow, final int topLeftColumn,
+                                       final int bottomRightRow, final int bottomRightColumn) {
+        return new MatrixView(this, topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn);
+    }
+
+    /**
+     * Obtains a view of provided column of current matrix instance. No data is
+     * copied.
+     * View is no longer valid if this matrix is resized.
+     *
+     * @param column Column to be viewed.
+     * @return A view of provided column.
+     * @throws IllegalArgumentException Exception raised if provided column lies
+     *                                  outside current matrix instance.
+     */
+    public MatrixView getColumnView(final int column) {
+        return new MatrixView(this, 0, column, rows - 1, column);
+    }
+
+    /**
+     * Obtains a view of provided row of current matrix instance. No data is
+     * copied.
+     * View is no longer valid if this matrix is resized.
+     *
+     * @param row Row to be viewed.
+     * @return A view of provided row.
+     * @throws IllegalArgumentException Exception raised if provided row lies
+     *                                  outside current matrix instance.
+     */
+    public MatrixView getRowView(final int row) {
+        return new MatrixView(this, row, 0, row, columns - 1);
+    }
+
     /**
      * Retrieves a sub-matrix of current matrix instance as an array of values
      * using column order and storing the result in provided array.
@@ -1726,7 +2108,7 @@ public class Matrix implements Serializable, Cloneable {
      *                            number of rows multiplied per the number of columns of this instance.
      */
     public void fromArray(final double[] array, final boolean isColumnOrder) throws WrongSizeException {
-        if (array.length != buffer.length) {
+        if (array.length != rows * columns) {
             throw new WrongSizeException("array length must be equal to rows x columns");
         }
 
@@ -1817,10 +2199,7 @@ public class Matrix implements Serializable, Cloneable {
      * @param result Matrix where result will be stored.
      */
     private void internalAdd(final Matrix other, final Matrix result) {
-        final var length = rows * columns;
-        for (var i = 0; i < length; i++) {
-            result.buffer[i] = buffer[i] + other.buffer[i];
-        }
+        Kernels.INSTANCE.sum(buffer, other.buffer, result.buffer, rows * columns);
     }
 
     /**
@@ -1830,14 +2209,14 @@ public class Matrix implements Serializable, Cloneable {
      * @param result Matrix where result will be stored.
      */
     private void internalSubtract(final Matrix other, final Matrix result) {
-        final var length = rows * columns;
-        for (var i = 0; i < length; i++) {
-            result.buffer[i] = buffer[i] - other.buffer[i];
-        }
+        Kernels.INSTANCE.subtract(buffer, other.buffer, result.buffer, rows * columns);
     }
 
     /**
      * Method to internally multiply two matrices.
+     * Large products are computed using a cache-blocked algorithm, whereas
+     * small ones (which already fit in cache) are computed using a plain
+     * triple loop.
      *
      * @param other             Matrix to be multiplied to current matrix
      * @param resultBuffer      Matrix buffer of data where result will be stored.
@@ -1847,6 +2226,12 @@ public class Matrix implements Serializable, Cloneable {
     private void internalMultiply(
             final Matrix other, final double[] resultBuffer, final int[] resultColumnIndex) {
         final var columns2 = other.columns;
+        if (BlockedMatrixMultiplier.isBlockable(rows, columns2, columns)) {
+            BlockedMatrixMultiplier.multiply(rows, columns2, columns, buffer, 0, rows,
+                    other.buffer, 0, other.rows, resultBuffer, 0, rows);
+            return;
+        }
+
         double value;
         for (var k = 0; k < columns2; k++) {
             for (var j = 0; j < rows; j++) {
@@ -1870,6 +2255,122 @@ public class Matrix implements Serializable, Cloneable {
         internalMultiply(other, result.buffer, result.columnIndex);
     }
 
+    /**
+     * Method to internally multiply the transpose of this matrix with provided
+     * matrix.
+     * Large products are computed using a cache-blocked algorithm, whereas
+     * for small ones each element of the result is computed as the dot
+     * product of two contiguous columns.
+     *
+     * @param other        Right operand of matrix product.
+     * @param resultBuffer Buffer where result of size columns x other.columns
+     *                     will be stored.
+     */
+    private void internalMultiplyTransposedLeft(final Matrix other, final double[] resultBuffer) {
+        final var columns2 = other.columns;
+        if (BlockedMatrixMultiplier.isBlockable(columns, columns2, rows)) {
+            BlockedMatrixMultiplier.multiply(true, false, columns, columns2, rows, buffer, 0, rows,
+                    other.buffer, 0, other.rows, resultBuffer, 0, columns);
+            return;
+        }
+
+        var pos = 0;
+        for (var j = 0; j < columns2; j++) {
+            final var start2 = other.columnIndex[j];
+            for (var i = 0; i < columns; i++) {
+                final var start1 = columnIndex[i];
+                var value = 0.0;
+                for (var k = 0; k < rows; k++) {
+                    value += buffer[start1 + k] * other.buffer[start2 + k];
+                }
+                resultBuffer[pos++] = value;
+            }
+        }
+    }
+
+    /**
+     * Method to internally multiply this matrix with the transpose of provided
+     * matrix.
+     * Large products are computed using a cache-blocked algorithm, whereas
+     * small ones are computed by accumulating scaled columns of this matrix.
+     *
+     * @param other        Matrix whose transpose is the right operand of matrix
+     *                     product.
+     * @param resultBuffer Buffer where result of size rows x other.rows will be
+     *                     stored.
+     */
+    private void internalMultiplyTransposedRight(final Matrix other, final double[] resultBuffer) {
+        final var rows2 = other.rows;
+        if (BlockedMatrixMultiplier.isBlockable(rows, rows2, columns)) {
+            BlockedMatrixMultiplier.multiply(false, true, rows, rows2, columns, buffer, 0, rows,
+                    other.buffer, 0, other.rows, resultBuffer, 0, rows);
+            return;
+        }
+
+        Arrays.fill(resultBuffer, 0, rows * rows2, 0.0);
+        for (var k = 0; k < columns; k++) {
+            final var start1 = columnIndex[k];
+            final var start2 = other.columnIndex[k];
+            for (var j = 0; j < rows2; j++) {
+                final var value2 = other.buffer[start2 + j];
+                final var pos = j * rows;
+                for (var i = 0; i < rows; i++) {
+                    resultBuffer[pos + i] += buffer[start1 + i] * value2;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to internally compute the Gram matrix of this matrix (i.e.
+     * this' * this). Only the upper triangle is computed and then mirrored
+     * into the lower one.
+     *
+     * @param resultBuffer Buffer where result of size columns x columns will be
+     *                     stored.
+     */
+    private void internalGram(final double[] resultBuffer) {
+        if (BlockedMatrixMultiplier.isBlockable(columns, columns, rows)) {
+            BlockedMatrixMultiplier.gram(columns, rows, buffer, 0, rows, resultBuffer, 0, columns);
+            return;
+        }
+
+        for (var j = 0; j < columns; j++) {
+            final var start2 = columnIndex[j];
+            for (var i = 0; i <= j; i++) {
+                final var start1 = columnIndex[i];
+                var value = 0.0;
+                for (var k = 0; k < rows; k++) {
+                    value += buffer[start1 + k] * buffer[start2 + k];
+                }
+                resultBuffer[i + j * columns] = value;
+            }
+        }
+        BlockedMatrixMultiplier.mirrorUpper(columns, resultBuffer, 0, columns);
+    }
+
+    /**
+     * Replaces data of this matrix with provided buffer containing a matrix
+     * having provided size in column order.
+     *
+     * @param rows    Number of rows of new data.
+     * @param columns Number of columns of new data.
+     * @param buffer  Buffer containing new data.
+     */
+    private void updateData(final int rows, final int columns, final double[] buffer) {
+        final var newColumnIndex = new int[columns];
+        var counter = 0;
+        for (var i = 0; i < columns; i++) {
+            newColumnIndex[i] = counter;
+            counter += rows;
+        }
+
+        this.rows = rows;
+        this.columns = columns;
+        this.columnIndex = newColumnIndex;
+        this.buffer = buffer;
+    }
+
     /**
      * Method to internally compute the Kronecker product between two matrices.
      *
@@ -1920,10 +2421,7 @@ public class Matrix implements Serializable, Cloneable {
      * @param result Matrix where result will be stored.
      */
     private void internalElementByElementProduct(final Matrix other, final Matrix result) {
-        final var length = rows * columns;
-        for (var i = 0; i < length; i++) {
-            result.buffer[i] = buffer[i] * other.buffer[i];
-        }
+        Kernels.INSTANCE.multiply(buffer, other.buffer, result.buffer, rows * columns);
     }
 
     /**
@@ -1952,13 +2450,18 @@ public class Matrix implements Serializable, Cloneable {
 
     /**
      * Method used internally to remove matrix contents and resizing it.
+     * Existing buffers are reused when they have exactly the required size, or
+     * enough capacity if capacity is kept.
      *
-     * @param rows    Number of rows to be set
-     * @param columns Number of columns to be set.
+     * @param rows         Number of rows to be set
+     * @param columns      Number of columns to be set.
+     * @param keepCapacity true to reuse buffers having enough capacity, false
+     *                     to only reuse buffers having exactly required size.
      * @throws WrongSizeException Exception raised if either rows or
      *                            columns is zero.
      */
-    private void internalResize(final int rows, final int columns) throws WrongSizeException {
+    private void internalResize(final int rows, final int columns, final boolean keepCapacity)
+            throws WrongSizeException {
         if (rows == 0 || columns == 0) {
             throw new WrongSizeException();
         }
@@ -1966,9 +2469,17 @@ public class Matrix implements Serializable, Cloneable {
         this.rows = rows;
         this.columns = columns;
 
-        // instantiate buffers of data
-        buffer = new double[rows * columns];
-        columnIndex = new int[columns];
+        // reuse buffers of data when they have the required size (or enough
+        // capacity if it is kept), otherwise instantiate new ones
+        final var length = rows * columns;
+        if (buffer != null && (keepCapacity ? buffer.length >= length : buffer.length == length)) {
+            Arrays.fill(buffer, 0, length, 0.0);
+        } else {
+            buffer = new double[length];
+        }
+        if (columnIndex == null || (keepCapacity ? columnIndex.length < columns : columnIndex.length != columns)) {
+            columnIndex = new int[columns];
+        }
 
         // initialize column index
         var counter = 0;
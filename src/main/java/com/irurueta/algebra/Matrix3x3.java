@@ -0,0 +1,796 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Defines a 3x3 matrix, such as rotations, camera intrinsics, homographies
+ * or skew-symmetric matrices of 3D vectors.
+ * Elements are stored in fields instead of an array, and all operations are
+ * fully unrolled, so that no bounds checks, index computations or
+ * allocations take place. Operations that store their result into another
+ * instance allow that instance to be this instance or any of the operands.
+ * Conversion to and from {@link Matrix} uses column order.
+ */
+@SuppressWarnings("DuplicatedCode")
+public final class Matrix3x3 implements Serializable {
+
+    /**
+     * Number of rows and columns.
+     */
+    public static final int SIZE = 3;
+
+    /**
+     * Element at row 0 and column 0.
+     */
+    private double m00;
+
+    /**
+     * Element at row 0 and column 1.
+     */
+    private double m01;
+
+    /**
+     * Element at row 0 and column 2.
+     */
+    private double m02;
+
+    /**
+     * Element at row 1 and column 0.
+     */
+    private double m10;
+
+    /**
+     * Element at row 1 and column 1.
+     */
+    private double m11;
+
+    /**
+     * Element at row 1 and column 2.
+     */
+    private double m12;
+
+    /**
+     * Element at row 2 and column 0.
+     */
+    private double m20;
+
+    /**
+     * Element at row 2 and column 1.
+     */
+    private double m21;
+
+    /**
+     * Element at row 2 and column 2.
+     */
+    private double m22;
+
+    /**
+     * Constructor.
+     * Values of a new matrix are initialized to zero.
+     */
+    public Matrix3x3() {
+    }
+
+    /**
+     * Constructor using provided elements in row order.
+     *
+     * @param m00 element at row 0 and column 0.
+     * @param m01 element at row 0 and column 1.
+     * @param m02 element at row 0 and column 2.
+     * @param m10 element at row 1 and column 0.
+     * @param m11 element at row 1 and column 1.
+     * @param m12 element at row 1 and column 2.
+     * @param m20 element at row 2 and column 0.
+     * @param m21 element at row 2 and column 1.
+     * @param m22 element at row 2 and column 2.
+     */
+    public Matrix3x3(final double m00, final double m01, final double m02,
+                     final double m10, final double m11, final double m12,
+                     final double m20, final double m21, final double m22) {
+        setElements(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param m matrix to copy from.
+     */
+    public Matrix3x3(final Matrix3x3 m) {
+        copyFrom(m);
+    }
+
+    /**
+     * Creates an identity matrix.
+     *
+     * @return a new identity matrix.
+     */
+    public static Matrix3x3 identity() {
+        final var result = new Matrix3x3();
+        result.setIdentity();
+        return result;
+    }
+
+    /**
+     * Creates a 3x3 matrix from provided matrix.
+     *
+     * @param m matrix to copy from.
+     * @return a new 3x3 matrix.
+     * @throws WrongSizeException   if provided matrix is not 3x3.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static Matrix3x3 newFromMatrix(final Matrix m) throws WrongSizeException {
+        final var result = new Matrix3x3();
+        result.copyFrom(m);
+        return result;
+    }
+
+    /**
+     * Creates the skew-symmetric matrix of provided vector, so that
+     * multiplying it by another vector computes the cross product of both
+     * vectors.
+     *
+     * @param x x coordinate of vector.
+     * @param y y coordinate of vector.
+     * @param z z coordinate of vector.
+     * @return a new skew-symmetric matrix.
+     * @see Utils#skewMatrix(double[])
+     */
+    public static Matrix3x3 skewMatrix(final double x, final double y, final double z) {
+        return new Matrix3x3(0.0, -z, y, z, 0.0, -x, -y, x, 0.0);
+    }
+
+    /**
+     * Obtains element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public double getElementAt(final int row, final int column) {
+        return switch (checkPosition(row, column)) {
+            case 0 -> m00;
+            case 1 -> m10;
+            case 2 -> m20;
+            case 3 -> m01;
+            case 4 -> m11;
+            case 5 -> m21;
+            case 6 -> m02;
+            case 7 -> m12;
+            default -> m22;
+        };
+    }
+
+    /**
+     * Sets element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        switch (checkPosition(row, column)) {
+            case 0 -> m00 = value;
+            case 1 -> m10 = value;
+            case 2 -> m20 = value;
+            case 3 -> m01 = value;
+            case 4 -> m11 = value;
+            case 5 -> m21 = value;
+            case 6 -> m02 = value;
+            case 7 -> m12 = value;
+            default -> m22 = value;
+        }
+    }
+
+    /**
+     * Sets all elements of this matrix in row order.
+     *
+     * @param m00 element at row 0 and column 0.
+     * @param m01 element at row 0 and column 1.
+     * @param m02 element at row 0 and column 2.
+     * @param m10 element at row 1 and column 0.
+     * @param m11 element at row 1 and column 1.
+     * @param m12 element at row 1 and column 2.
+     * @param m20 element at row 2 and column 0.
+     * @param m21 element at row 2 and column 1.
+     * @param m22 element at row 2 and column 2.
+     */
+    public void setElements(final double m00, final double m01, final double m02,
+                            final double m10, final double m11, final double m12,
+                            final double m20, final double m21, final double m22) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    /**
+     * Sets all elements of this matrix to provided value.
+     *
+     * @param value value to be set.
+     */
+    public void initialize(final double value) {
+        setElements(value, value, value, value, value, value, value, value, value);
+    }
+
+    /**
+     * Sets this matrix to the identity.
+     */
+    public void setIdentity() {
+        setElements(1.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0);
+    }
+
+    /**
+     * Copies provided matrix into this matrix.
+     *
+     * @param m matrix to copy from.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyFrom(final Matrix3x3 m) {
+        setElements(m.m00, m.m01, m.m02, m.m10, m.m11, m.m12, m.m20, m.m21, m.m22);
+    }
+
+    /**
+     * Copies provided matrix into this matrix.
+     *
+     * @param m matrix to copy from.
+     * @throws WrongSizeException   if provided matrix is not 3x3.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyFrom(final Matrix m) throws WrongSizeException {
+        if (m.getRows() != SIZE || m.getColumns() != SIZE) {
+            throw new WrongSizeException();
+        }
+        copyFrom(m.getBuffer());
+    }
+
+    /**
+     * Copies provided array containing elements in column order into this
+     * matrix.
+     *
+     * @param array array to copy from.
+     * @throws WrongSizeException   if provided array does not have length 9.
+     * @throws NullPointerException if provided array is null.
+     */
+    public void copyFrom(final double[] array) throws WrongSizeException {
+        if (array.length < SIZE * SIZE) {
+            throw new WrongSizeException();
+        }
+        setElements(array[0], array[3], array[6], array[1], array[4], array[7], array[2], array[5], array[8]);
+    }
+
+    /**
+     * Copies this matrix into provided matrix. Provided matrix is resized if
+     * needed.
+     *
+     * @param result matrix where data is copied.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyTo(final Matrix result) {
+        if (result.getRows() != SIZE || result.getColumns() != SIZE) {
+            try {
+                result.resize(SIZE, SIZE);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        toArray(result.getBuffer());
+    }
+
+    /**
+     * Converts this matrix into a {@link Matrix}.
+     *
+     * @return a new matrix.
+     */
+    public Matrix toMatrix() {
+        Matrix result = null;
+        try {
+            result = new Matrix(SIZE, SIZE);
+            toArray(result.getBuffer());
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Copies elements of this matrix in column order into provided array.
+     *
+     * @param result array where elements are stored. Must have at least
+     *               length 9.
+     * @throws ArrayIndexOutOfBoundsException if provided array is too short.
+     * @throws NullPointerException           if provided array is null.
+     */
+    public void toArray(final double[] result) {
+        result[0] = m00;
+        result[1] = m10;
+        result[2] = m20;
+        result[3] = m01;
+        result[4] = m11;
+        result[5] = m21;
+        result[6] = m02;
+        result[7] = m12;
+        result[8] = m22;
+    }
+
+    /**
+     * Returns elements of this matrix in column order.
+     *
+     * @return a new array containing elements.
+     */
+    public double[] toArray() {
+        final var result = new double[SIZE * SIZE];
+        toArray(result);
+        return result;
+    }
+
+    /**
+     * Adds provided matrix to this matrix.
+     *
+     * @param other matrix to be added.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void add(final Matrix3x3 other) {
+        m00 += other.m00;
+        m01 += other.m01;
+        m02 += other.m02;
+        m10 += other.m10;
+        m11 += other.m11;
+        m12 += other.m12;
+        m20 += other.m20;
+        m21 += other.m21;
+        m22 += other.m22;
+    }
+
+    /**
+     * Adds provided matrix to this matrix and returns the result as a new
+     * instance.
+     *
+     * @param other matrix to be added.
+     * @return a new matrix containing the sum.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix3x3 addAndReturnNew(final Matrix3x3 other) {
+        final var result = new Matrix3x3(this);
+        result.add(other);
+        return result;
+    }
+
+    /**
+     * Subtracts provided matrix from this matrix.
+     *
+     * @param other matrix to be subtracted.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void subtract(final Matrix3x3 other) {
+        m00 -= other.m00;
+        m01 -= other.m01;
+        m02 -= other.m02;
+        m10 -= other.m10;
+        m11 -= other.m11;
+        m12 -= other.m12;
+        m20 -= other.m20;
+        m21 -= other.m21;
+        m22 -= other.m22;
+    }
+
+    /**
+     * Subtracts provided matrix from this matrix and returns the result as a
+     * new instance.
+     *
+     * @param other matrix to be subtracted.
+     * @return a new matrix containing the difference.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix3x3 subtractAndReturnNew(final Matrix3x3 other) {
+        final var result = new Matrix3x3(this);
+        result.subtract(other);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided scalar.
+     *
+     * @param scalar scalar value.
+     */
+    public void multiplyByScalar(final double scalar) {
+        m00 *= scalar;
+        m01 *= scalar;
+        m02 *= scalar;
+        m10 *= scalar;
+        m11 *= scalar;
+        m12 *= scalar;
+        m20 *= scalar;
+        m21 *= scalar;
+        m22 *= scalar;
+    }
+
+    /**
+     * Multiplies this matrix by provided scalar and returns the result as a
+     * new instance.
+     *
+     * @param scalar scalar value.
+     * @return a new scaled matrix.
+     */
+    public Matrix3x3 multiplyByScalarAndReturnNew(final double scalar) {
+        final var result = new Matrix3x3(this);
+        result.multiplyByScalar(scalar);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix (i.e. this = this * other).
+     *
+     * @param other matrix to be multiplied on the right.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void multiply(final Matrix3x3 other) {
+        multiply(other, this);
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix (i.e. result = this * other).
+     * Result can be this instance or provided matrix.
+     *
+     * @param other  matrix to be multiplied on the right.
+     * @param result instance where result is stored.
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public void multiply(final Matrix3x3 other, final Matrix3x3 result) {
+        final var r00 = m00 * other.m00 + m01 * other.m10 + m02 * other.m20;
+        final var r01 = m00 * other.m01 + m01 * other.m11 + m02 * other.m21;
+        final var r02 = m00 * other.m02 + m01 * other.m12 + m02 * other.m22;
+        final var r10 = m10 * other.m00 + m11 * other.m10 + m12 * other.m20;
+        final var r11 = m10 * other.m01 + m11 * other.m11 + m12 * other.m21;
+        final var r12 = m10 * other.m02 + m11 * other.m12 + m12 * other.m22;
+        final var r20 = m20 * other.m00 + m21 * other.m10 + m22 * other.m20;
+        final var r21 = m20 * other.m01 + m21 * other.m11 + m22 * other.m21;
+        final var r22 = m20 * other.m02 + m21 * other.m12 + m22 * other.m22;
+        result.setElements(r00, r01, r02, r10, r11, r12, r20, r21, r22);
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix and returns the result as a
+     * new instance.
+     *
+     * @param other matrix to be multiplied on the right.
+     * @return a new matrix containing the product.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix3x3 multiplyAndReturnNew(final Matrix3x3 other) {
+        final var result = new Matrix3x3();
+        multiply(other, result);
+        return result;
+    }
+
+    /**
+     * Adds the product of provided matrices to this matrix
+     * (i.e. this = this + a * b). Any of provided matrices can be this
+     * instance.
+     *
+     * @param a left operand of the product.
+     * @param b right operand of the product.
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public void multiplyAndAdd(final Matrix3x3 a, final Matrix3x3 b) {
+        final var r00 = m00 + a.m00 * b.m00 + a.m01 * b.m10 + a.m02 * b.m20;
+        final var r01 = m01 + a.m00 * b.m01 + a.m01 * b.m11 + a.m02 * b.m21;
+        final var r02 = m02 + a.m00 * b.m02 + a.m01 * b.m12 + a.m02 * b.m22;
+        final var r10 = m10 + a.m10 * b.m00 + a.m11 * b.m10 + a.m12 * b.m20;
+        final var r11 = m11 + a.m10 * b.m01 + a.m11 * b.m11 + a.m12 * b.m21;
+        final var r12 = m12 + a.m10 * b.m02 + a.m11 * b.m12 + a.m12 * b.m22;
+        final var r20 = m20 + a.m20 * b.m00 + a.m21 * b.m10 + a.m22 * b.m20;
+        final var r21 = m21 + a.m20 * b.m01 + a.m21 * b.m11 + a.m22 * b.m21;
+        final var r22 = m22 + a.m20 * b.m02 + a.m21 * b.m12 + a.m22 * b.m22;
+        setElements(r00, r01, r02, r10, r11, r12, r20, r21, r22);
+    }
+
+    /**
+     * Multiplies this matrix by provided vector (i.e. result = this * v).
+     * Result can be the same array as provided vector.
+     *
+     * @param v      vector of length 3.
+     * @param result array of length 3 where result is stored.
+     * @throws WrongSizeException   if any of provided arrays does not have
+     *                              length 3.
+     * @throws NullPointerException if any of provided arrays is null.
+     */
+    public void multiply(final double[] v, final double[] result) throws WrongSizeException {
+        if (v.length != SIZE || result.length != SIZE) {
+            throw new WrongSizeException();
+        }
+        final var x = v[0];
+        final var y = v[1];
+        final var z = v[2];
+        result[0] = m00 * x + m01 * y + m02 * z;
+        result[1] = m10 * x + m11 * y + m12 * z;
+        result[2] = m20 * x + m21 * y + m22 * z;
+    }
+
+    /**
+     * Multiplies this matrix by provided vector.
+     *
+     * @param v vector of length 3.
+     * @return a new array containing the result.
+     * @throws WrongSizeException   if provided array does not have length 3.
+     * @throws NullPointerException if provided array is null.
+     */
+    public double[] multiplyAndReturnNew(final double[] v) throws WrongSizeException {
+        final var result = new double[SIZE];
+        multiply(v, result);
+        return result;
+    }
+
+    /**
+     * Transposes this matrix.
+     */
+    public void transpose() {
+        setElements(m00, m10, m20, m01, m11, m21, m02, m12, m22);
+    }
+
+    /**
+     * Transposes this matrix and returns the result as a new instance.
+     *
+     * @return a new transposed matrix.
+     */
+    public Matrix3x3 transposeAndReturnNew() {
+        return new Matrix3x3(m00, m10, m20, m01, m11, m21, m02, m12, m22);
+    }
+
+    /**
+     * Computes trace of this matrix.
+     *
+     * @return trace.
+     */
+    public double trace() {
+        return m00 + m11 + m22;
+    }
+
+    /**
+     * Computes determinant of this matrix.
+     *
+     * @return determinant.
+     */
+    public double determinant() {
+        return m00 * (m11 * m22 - m12 * m21)
+                - m01 * (m10 * m22 - m12 * m20)
+                + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    /**
+     * Computes inverse of this matrix using its adjugate and stores the
+     * result into provided instance, which can be this instance.
+     *
+     * @param result instance where inverse is stored.
+     * @throws SingularMatrixException if this matrix is singular (i.e. its
+     *                                 determinant is zero).
+     * @throws NullPointerException    if provided matrix is null.
+     */
+    public void inverse(final Matrix3x3 result) throws SingularMatrixException {
+        final var c00 = m11 * m22 - m12 * m21;
+        final var c01 = m12 * m20 - m10 * m22;
+        final var c02 = m10 * m21 - m11 * m20;
+        final var det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (det == 0.0) {
+            throw new SingularMatrixException();
+        }
+        final var invDet = 1.0 / det;
+
+        result.setElements(
+                c00 * invDet,
+                (m02 * m21 - m01 * m22) * invDet,
+                (m01 * m12 - m02 * m11) * invDet,
+                c01 * invDet,
+                (m00 * m22 - m02 * m20) * invDet,
+                (m02 * m10 - m00 * m12) * invDet,
+                c02 * invDet,
+                (m01 * m20 - m00 * m21) * invDet,
+                (m00 * m11 - m01 * m10) * invDet);
+    }
+
+    /**
+     * Inverts this matrix.
+     *
+     * @throws SingularMatrixException if this matrix is singular.
+     */
+    public void invert() throws SingularMatrixException {
+        inverse(this);
+    }
+
+    /**
+     * Computes inverse of this matrix and returns the result as a new
+     * instance.
+     *
+     * @return a new matrix containing the inverse.
+     * @throws SingularMatrixException if this matrix is singular.
+     */
+    public Matrix3x3 inverseAndReturnNew() throws SingularMatrixException {
+        final var result = new Matrix3x3();
+        inverse(result);
+        return result;
+    }
+
+    /**
+     * Computes eigenvalues of this matrix, which is assumed to be symmetric,
+     * using a closed form trigonometric solution of the characteristic
+     * polynomial. Only the upper triangle of this matrix is accessed.
+     * Eigenvalues are sorted in descending order.
+     *
+     * @param result array of length 3 where eigenvalues are stored.
+     * @throws WrongSizeException   if provided array does not have length 3.
+     * @throws NullPointerException if provided array is null.
+     */
+    public void symmetricEigenvalues(final double[] result) throws WrongSizeException {
+        if (result.length != SIZE) {
+            throw new WrongSizeException();
+        }
+
+        final var p1 = m01 * m01 + m02 * m02 + m12 * m12;
+        if (p1 == 0.0) {
+            // diagonal matrix
+            final var max = Math.max(m00, Math.max(m11, m22));
+            final var min = Math.min(m00, Math.min(m11, m22));
+            result[0] = max;
+            result[1] = m00 + m11 + m22 - max - min;
+            result[2] = min;
+            return;
+        }
+
+        // eigenvalues of B = (A - q * I) / p are 2 * cos(phi + 2 * k * pi / 3)
+        final var q = (m00 + m11 + m22) / 3.0;
+        final var d0 = m00 - q;
+        final var d1 = m11 - q;
+        final var d2 = m22 - q;
+        final var p = Math.sqrt((d0 * d0 + d1 * d1 + d2 * d2 + 2.0 * p1) / 6.0);
+        final var detB = (d0 * (d1 * d2 - m12 * m12) - m01 * (m01 * d2 - m12 * m02)
+                + m02 * (m01 * m12 - d1 * m02)) / (p * p * p);
+        final var r = Math.max(-1.0, Math.min(1.0, detB / 2.0));
+        final var phi = Math.acos(r) / 3.0;
+
+        result[0] = q + 2.0 * p * Math.cos(phi);
+        result[2] = q + 2.0 * p * Math.cos(phi + 2.0 * Math.PI / 3.0);
+        result[1] = 3.0 * q - result[0] - result[2];
+    }
+
+    /**
+     * Computes eigen decomposition of this matrix, which is assumed to be
+     * symmetric, so that A = V * diag(values) * V'. Only the upper triangle
+     * of this matrix is accessed. Eigenvalues are sorted in descending order
+     * and eigenvectors are stored as columns of provided matrix in the same
+     * order. Eigenvectors are computed using Jacobi rotations, which remain
+     * accurate when eigenvalues are repeated or clustered.
+     *
+     * @param values  array of length 3 where eigenvalues are stored.
+     * @param vectors instance where eigenvectors are stored. Can be this
+     *                instance.
+     * @throws WrongSizeException   if provided array does not have length 3.
+     * @throws NullPointerException if any of provided parameters is null.
+     */
+    public void symmetricEigen(final double[] values, final Matrix3x3 vectors) throws WrongSizeException {
+        if (values.length != SIZE) {
+            throw new WrongSizeException();
+        }
+
+        final var a = new double[]{m00, m01, m02, m01, m11, m12, m02, m12, m22};
+        final var v = new double[SIZE * SIZE];
+        JacobiDecomposition.symmetricEigen(SIZE, a, values, v);
+        vectors.copyFrom(v);
+    }
+
+    /**
+     * Computes singular value decomposition of this matrix, so that
+     * A = U * diag(values) * V'. Singular values are sorted in descending
+     * order, and U and V are orthonormal even if this matrix is singular.
+     *
+     * @param u      instance where left singular vectors are stored. Can be
+     *               this instance.
+     * @param values array of length 3 where singular values are stored.
+     * @param v      instance where right singular vectors are stored. Can be
+     *               this instance.
+     * @throws WrongSizeException   if provided array does not have length 3.
+     * @throws NullPointerException if any of provided parameters is null.
+     */
+    public void svd(final Matrix3x3 u, final double[] values, final Matrix3x3 v) throws WrongSizeException {
+        if (values.length != SIZE) {
+            throw new WrongSizeException();
+        }
+
+        final var a = toArray();
+        final var vBuffer = new double[SIZE * SIZE];
+        JacobiDecomposition.svd(SIZE, a, values, vBuffer);
+        u.copyFrom(a);
+        v.copyFrom(vBuffer);
+    }
+
+    /**
+     * Checks if provided matrix has contents similar to this matrix by
+     * checking that all values have a maximum difference equal to provided
+     * threshold.
+     *
+     * @param other     matrix to be compared.
+     * @param threshold maximum allowed difference between elements.
+     * @return true if matrices are considered to be equal.
+     */
+    public boolean equals(final Matrix3x3 other, final double threshold) {
+        if (other == null) {
+            return false;
+        }
+        return Math.abs(m00 - other.m00) <= threshold && Math.abs(m01 - other.m01) <= threshold
+                && Math.abs(m02 - other.m02) <= threshold && Math.abs(m10 - other.m10) <= threshold
+                && Math.abs(m11 - other.m11) <= threshold && Math.abs(m12 - other.m12) <= threshold
+                && Math.abs(m20 - other.m20) <= threshold && Math.abs(m21 - other.m21) <= threshold
+                && Math.abs(m22 - other.m22) <= threshold;
+    }
+
+    /**
+     * Checks if provided object is a 3x3 matrix having exactly the same
+     * contents as this matrix.
+     *
+     * @param obj object to be compared.
+     * @return true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof Matrix3x3 other)) {
+            return false;
+        }
+        return Double.compare(m00, other.m00) == 0 && Double.compare(m01, other.m01) == 0
+                && Double.compare(m02, other.m02) == 0 && Double.compare(m10, other.m10) == 0
+                && Double.compare(m11, other.m11) == 0 && Double.compare(m12, other.m12) == 0
+                && Double.compare(m20, other.m20) == 0 && Double.compare(m21, other.m21) == 0
+                && Double.compare(m22, other.m22) == 0;
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Checks that provided position lies within this matrix and returns its
+     * position in column order.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return position of element in column order.
+     * @throws IllegalArgumentException if position is not valid.
+     */
+    private static int checkPosition(final int row, final int column) {
+        if (row < 0 || row >= SIZE || column < 0 || column >= SIZE) {
+            throw new IllegalArgumentException();
+        }
+        return column * SIZE + row;
+    }
+}
@@ -0,0 +1,901 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Defines a 4x4 matrix, such as rigid or projective transformations of
+ * homogeneous 3D points.
+ * Elements are stored in fields instead of an array, and all operations are
+ * fully unrolled, so that no bounds checks, index computations or
+ * allocations take place. Operations that store their result into another
+ * instance allow that instance to be this instance or any of the operands.
+ * Conversion to and from {@link Matrix} uses column order.
+ */
+@SuppressWarnings("DuplicatedCode")
+public final class Matrix4x4 implements Serializable {
+
+    /**
+     * Number of rows and columns.
+     */
+    public static final int SIZE = 4;
+
+    /**
+     * Element at row 0 and column 0.
+     */
+    private double m00;
+
+    /**
+     * Element at row 0 and column 1.
+     */
+    private double m01;
+
+    /**
+     * Element at row 0 and column 2.
+     */
+    private double m02;
+
+    /**
+     * Element at row 0 and column 3.
+     */
+    private double m03;
+
+    /**
+     * Element at row 1 and column 0.
+     */
+    private double m10;
+
+    /**
+     * Element at row 1 and column 1.
+     */
+    private double m11;
+
+    /**
+     * Element at row 1 and column 2.
+     */
+    private double m12;
+
+    /**
+     * Element at row 1 and column 3.
+     */
+    private double m13;
+
+    /**
+     * Element at row 2 and column 0.
+     */
+    private double m20;
+
+    /**
+     * Element at row 2 and column 1.
+     */
+    private double m21;
+
+    /**
+     * Element at row 2 and column 2.
+     */
+    private double m22;
+
+    /**
+     * Element at row 2 and column 3.
+     */
+    private double m23;
+
+    /**
+     * Element at row 3 and column 0.
+     */
+    private double m30;
+
+    /**
+     * Element at row 3 and column 1.
+     */
+    private double m31;
+
+    /**
+     * Element at row 3 and column 2.
+     */
+    private double m32;
+
+    /**
+     * Element at row 3 and column 3.
+     */
+    private double m33;
+
+    /**
+     * Constructor.
+     * Values of a new matrix are initialized to zero.
+     */
+    public Matrix4x4() {
+    }
+
+    /**
+     * Constructor using provided elements in row order.
+     *
+     * @param m00 element at row 0 and column 0.
+     * @param m01 element at row 0 and column 1.
+     * @param m02 element at row 0 and column 2.
+     * @param m03 element at row 0 and column 3.
+     * @param m10 element at row 1 and column 0.
+     * @param m11 element at row 1 and column 1.
+     * @param m12 element at row 1 and column 2.
+     * @param m13 element at row 1 and column 3.
+     * @param m20 element at row 2 and column 0.
+     * @param m21 element at row 2 and column 1.
+     * @param m22 element at row 2 and column 2.
+     * @param m23 element at row 2 and column 3.
+     * @param m30 element at row 3 and column 0.
+     * @param m31 element at row 3 and column 1.
+     * @param m32 element at row 3 and column 2.
+     * @param m33 element at row 3 and column 3.
+     */
+    public Matrix4x4(final double m00, final double m01, final double m02, final double m03,
+                     final double m10, final double m11, final double m12, final double m13,
+                     final double m20, final double m21, final double m22, final double m23,
+                     final double m30, final double m31, final double m32, final double m33) {
+        setElements(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param m matrix to copy from.
+     */
+    public Matrix4x4(final Matrix4x4 m) {
+        copyFrom(m);
+    }
+
+    /**
+     * Creates an identity matrix.
+     *
+     * @return a new identity matrix.
+     */
+    public static Matrix4x4 identity() {
+        final var result = new Matrix4x4();
+        result.setIdentity();
+        return result;
+    }
+
+    /**
+     * Creates a 4x4 matrix from provided matrix.
+     *
+     * @param m matrix to copy from.
+     * @return a new 4x4 matrix.
+     * @throws WrongSizeException   if provided matrix is not 4x4.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static Matrix4x4 newFromMatrix(final Matrix m) throws WrongSizeException {
+        final var result = new Matrix4x4();
+        result.copyFrom(m);
+        return result;
+    }
+
+    /**
+     * Obtains element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public double getElementAt(final int row, final int column) {
+        return switch (checkPosition(row, column)) {
+            case 0 -> m00;
+            case 1 -> m10;
+            case 2 -> m20;
+            case 3 -> m30;
+            case 4 -> m01;
+            case 5 -> m11;
+            case 6 -> m21;
+            case 7 -> m31;
+            case 8 -> m02;
+            case 9 -> m12;
+            case 10 -> m22;
+            case 11 -> m32;
+            case 12 -> m03;
+            case 13 -> m13;
+            case 14 -> m23;
+            default -> m33;
+        };
+    }
+
+    /**
+     * Sets element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        switch (checkPosition(row, column)) {
+            case 0 -> m00 = value;
+            case 1 -> m10 = value;
+            case 2 -> m20 = value;
+            case 3 -> m30 = value;
+            case 4 -> m01 = value;
+            case 5 -> m11 = value;
+            case 6 -> m21 = value;
+            case 7 -> m31 = value;
+            case 8 -> m02 = value;
+            case 9 -> m12 = value;
+            case 10 -> m22 = value;
+            case 11 -> m32 = value;
+            case 12 -> m03 = value;
+            case 13 -> m13 = value;
+            case 14 -> m23 = value;
+            default -> m33 = value;
+        }
+    }
+
+    /**
+     * Sets all elements of this matrix in row order.
+     *
+     * @param m00 element at row 0 and column 0.
+     * @param m01 element at row 0 and column 1.
+     * @param m02 element at row 0 and column 2.
+     * @param m03 element at row 0 and column 3.
+     * @param m10 element at row 1 and column 0.
+     * @param m11 element at row 1 and column 1.
+     * @param m12 element at row 1 and column 2.
+     * @param m13 element at row 1 and column 3.
+     * @param m20 element at row 2 and column 0.
+     * @param m21 element at row 2 and column 1.
+     * @param m22 element at row 2 and column 2.
+     * @param m23 element at row 2 and column 3.
+     * @param m30 element at row 3 and column 0.
+     * @param m31 element at row 3 and column 1.
+     * @param m32 element at row 3 and column 2.
+     * @param m33 element at row 3 and column 3.
+     */
+    public void setElements(final double m00, final double m01, final double m02, final double m03,
+                            final double m10, final double m11, final double m12, final double m13,
+                            final double m20, final double m21, final double m22, final double m23,
+                            final double m30, final double m31, final double m32, final double m33) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m03 = m03;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m13 = m13;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+        this.m23 = m23;
+        this.m30 = m30;
+        this.m31 = m31;
+        this.m32 = m32;
+        this.m33 = m33;
+    }
+
+    /**
+     * Sets all elements of this matrix to provided value.
+     *
+     * @param value value to be set.
+     */
+    public void initialize(final double value) {
+        setElements(
+                value, value, value, value,
+                value, value, value, value,
+                value, value, value, value,
+                value, value, value, value);
+    }
+
+    /**
+     * Sets this matrix to the identity.
+     */
+    public void setIdentity() {
+        setElements(1.0, 0.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 0.0, 1.0);
+    }
+
+    /**
+     * Copies provided matrix into this matrix.
+     *
+     * @param m matrix to copy from.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyFrom(final Matrix4x4 m) {
+        setElements(
+                m.m00, m.m01, m.m02, m.m03,
+                m.m10, m.m11, m.m12, m.m13,
+                m.m20, m.m21, m.m22, m.m23,
+                m.m30, m.m31, m.m32, m.m33);
+    }
+
+    /**
+     * Copies provided matrix into this matrix.
+     *
+     * @param m matrix to copy from.
+     * @throws WrongSizeException   if provided matrix is not 4x4.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyFrom(final Matrix m) throws WrongSizeException {
+        if (m.getRows() != SIZE || m.getColumns() != SIZE) {
+            throw new WrongSizeException();
+        }
+        copyFrom(m.getBuffer());
+    }
+
+    /**
+     * Copies provided array containing elements in column order into this
+     * matrix.
+     *
+     * @param array array to copy from.
+     * @throws WrongSizeException   if provided array has less than 16
+     *                              elements.
+     * @throws NullPointerException if provided array is null.
+     */
+    public void copyFrom(final double[] array) throws WrongSizeException {
+        if (array.length < SIZE * SIZE) {
+            throw new WrongSizeException();
+        }
+        setElements(
+                array[0], array[4], array[8], array[12],
+                array[1], array[5], array[9], array[13],
+                array[2], array[6], array[10], array[14],
+                array[3], array[7], array[11], array[15]);
+    }
+
+    /**
+     * Copies this matrix into provided matrix. Provided matrix is resized if
+     * needed.
+     *
+     * @param result matrix where data is copied.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyTo(final Matrix result) {
+        if (result.getRows() != SIZE || result.getColumns() != SIZE) {
+            try {
+                result.resize(SIZE, SIZE);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        toArray(result.getBuffer());
+    }
+
+    /**
+     * Converts this matrix into a {@link Matrix}.
+     *
+     * @return a new matrix.
+     */
+    public Matrix toMatrix() {
+        Matrix result = null;
+        try {
+            result = new Matrix(SIZE, SIZE);
+            toArray(result.getBuffer());
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Copies elements of this matrix in column order into provided array.
+     *
+     * @param result array where elements are stored. Must have at least
+     *               length 16.
+     * @throws ArrayIndexOutOfBoundsException if provided array is too short.
+     * @throws NullPointerException           if provided array is null.
+     */
+    public void toArray(final double[] result) {
+        result[0] = m00;
+        result[1] = m10;
+        result[2] = m20;
+        result[3] = m30;
+        result[4] = m01;
+        result[5] = m11;
+        result[6] = m21;
+        result[7] = m31;
+        result[8] = m02;
+        result[9] = m12;
+        result[10] = m22;
+        result[11] = m32;
+        result[12] = m03;
+        result[13] = m13;
+        result[14] = m23;
+        result[15] = m33;
+    }
+
+    /**
+     * Returns elements of this matrix in column order.
+     *
+     * @return a new array containing elements.
+     */
+    public double[] toArray() {
+        final var result = new double[SIZE * SIZE];
+        toArray(result);
+        return result;
+    }
+
+    /**
+     * Adds provided matrix to this matrix.
+     *
+     * @param other matrix to be added.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void add(final Matrix4x4 other) {
+        m00 += other.m00;
+        m01 += other.m01;
+        m02 += other.m02;
+        m03 += other.m03;
+        m10 += other.m10;
+        m11 += other.m11;
+        m12 += other.m12;
+        m13 += other.m13;
+        m20 += other.m20;
+        m21 += other.m21;
+        m22 += other.m22;
+        m23 += other.m23;
+        m30 += other.m30;
+        m31 += other.m31;
+        m32 += other.m32;
+        m33 += other.m33;
+    }
+
+    /**
+     * Adds provided matrix to this matrix and returns the result as a new
+     * instance.
+     *
+     * @param other matrix to be added.
+     * @return a new matrix containing the sum.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix4x4 addAndReturnNew(final Matrix4x4 other) {
+        final var result = new Matrix4x4(this);
+        result.add(other);
+        return result;
+    }
+
+    /**
+     * Subtracts provided matrix from this matrix.
+     *
+     * @param other matrix to be subtracted.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void subtract(final Matrix4x4 other) {
+        m00 -= other.m00;
+        m01 -= other.m01;
+        m02 -= other.m02;
+        m03 -= other.m03;
+        m10 -= other.m10;
+        m11 -= other.m11;
+        m12 -= other.m12;
+        m13 -= other.m13;
+        m20 -= other.m20;
+        m21 -= other.m21;
+        m22 -= other.m22;
+        m23 -= other.m23;
+        m30 -= other.m30;
+        m31 -= other.m31;
+        m32 -= other.m32;
+        m33 -= other.m33;
+    }
+
+    /**
+     * Subtracts provided matrix from this matrix and returns the result as a
+     * new instance.
+     *
+     * @param other matrix to be subtracted.
+     * @return a new matrix containing the difference.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix4x4 subtractAndReturnNew(final Matrix4x4 other) {
+        final var result = new Matrix4x4(this);
+        result.subtract(other);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided scalar.
+     *
+     * @param scalar scalar value.
+     */
+    public void multiplyByScalar(final double scalar) {
+        m00 *= scalar;
+        m01 *= scalar;
+        m02 *= scalar;
+        m03 *= scalar;
+        m10 *= scalar;
+        m11 *= scalar;
+        m12 *= scalar;
+        m13 *= scalar;
+        m20 *= scalar;
+        m21 *= scalar;
+        m22 *= scalar;
+        m23 *= scalar;
+        m30 *= scalar;
+        m31 *= scalar;
+        m32 *= scalar;
+        m33 *= scalar;
+    }
+
+    /**
+     * Multiplies this matrix by provided scalar and returns the result as a
+     * new instance.
+     *
+     * @param scalar scalar value.
+     * @return a new scaled matrix.
+     */
+    public Matrix4x4 multiplyByScalarAndReturnNew(final double scalar) {
+        final var result = new Matrix4x4(this);
+        result.multiplyByScalar(scalar);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix (i.e. this = this * other).
+     *
+     * @param other matrix to be multiplied on the right.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void multiply(final Matrix4x4 other) {
+        multiply(other, this);
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix (i.e. result = this * other).
+     * Result can be this instance or provided matrix.
+     *
+     * @param other  matrix to be multiplied on the right.
+     * @param result instance where result is stored.
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public void multiply(final Matrix4x4 other, final Matrix4x4 result) {
+        final var r00 = m00 * other.m00 + m01 * other.m10 + m02 * other.m20 + m03 * other.m30;
+        final var r01 = m00 * other.m01 + m01 * other.m11 + m02 * other.m21 + m03 * other.m31;
+        final var r02 = m00 * other.m02 + m01 * other.m12 + m02 * other.m22 + m03 * other.m32;
+        final var r03 = m00 * other.m03 + m01 * other.m13 + m02 * other.m23 + m03 * other.m33;
+        final var r10 = m10 * other.m00 + m11 * other.m10 + m12 * other.m20 + m13 * other.m30;
+        final var r11 = m10 * other.m01 + m11 * other.m11 + m12 * other.m21 + m13 * other.m31;
+        final var r12 = m10 * other.m02 + m11 * other.m12 + m12 * other.m22 + m13 * other.m32;
+        final var r13 = m10 * other.m03 + m11 * other.m13 + m12 * other.m23 + m13 * other.m33;
+        final var r20 = m20 * other.m00 + m21 * other.m10 + m22 * other.m20 + m23 * other.m30;
+        final var r21 = m20 * other.m01 + m21 * other.m11 + m22 * other.m21 + m23 * other.m31;
+        final var r22 = m20 * other.m02 + m21 * other.m12 + m22 * other.m22 + m23 * other.m32;
+        final var r23 = m20 * other.m03 + m21 * other.m13 + m22 * other.m23 + m23 * other.m33;
+        final var r30 = m30 * other.m00 + m31 * other.m10 + m32 * other.m20 + m33 * other.m30;
+        final var r31 = m30 * other.m01 + m31 * other.m11 + m32 * other.m21 + m33 * other.m31;
+        final var r32 = m30 * other.m02 + m31 * other.m12 + m32 * other.m22 + m33 * other.m32;
+        final var r33 = m30 * other.m03 + m31 * other.m13 + m32 * other.m23 + m33 * other.m33;
+        result.setElements(r00, r01, r02, r03, r10, r11, r12, r13, r20, r21, r22, r23, r30, r31, r32, r33);
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix and returns the result as a
+     * new instance.
+     *
+     * @param other matrix to be multiplied on the right.
+     * @return a new matrix containing the product.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix4x4 multiplyAndReturnNew(final Matrix4x4 other) {
+        final var result = new Matrix4x4();
+        multiply(other, result);
+        return result;
+    }
+
+    /**
+     * Adds the product of provided matrices to this matrix
+     * (i.e. this = this + a * b). Any of provided matrices can be this
+     * instance.
+     *
+     * @param a left operand of the product.
+     * @param b right operand of the product.
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public void multiplyAndAdd(final Matrix4x4 a, final Matrix4x4 b) {
+        final var r00 = m00 + a.m00 * b.m00 + a.m01 * b.m10 + a.m02 * b.m20 + a.m03 * b.m30;
+        final var r01 = m01 + a.m00 * b.m01 + a.m01 * b.m11 + a.m02 * b.m21 + a.m03 * b.m31;
+        final var r02 = m02 + a.m00 * b.m02 + a.m01 * b.m12 + a.m02 * b.m22 + a.m03 * b.m32;
+        final var r03 = m03 + a.m00 * b.m03 + a.m01 * b.m13 + a.m02 * b.m23 + a.m03 * b.m33;
+        final var r10 = m10 + a.m10 * b.m00 + a.m11 * b.m10 + a.m12 * b.m20 + a.m13 * b.m30;
+        final var r11 = m11 + a.m10 * b.m01 + a.m11 * b.m11 + a.m12 * b.m21 + a.m13 * b.m31;
+        final var r12 = m12 + a.m10 * b.m02 + a.m11 * b.m12 + a.m12 * b.m22 + a.m13 * b.m32;
+        final var r13 = m13 + a.m10 * b.m03 + a.m11 * b.m13 + a.m12 * b.m23 + a.m13 * b.m33;
+        final var r20 = m20 + a.m20 * b.m00 + a.m21 * b.m10 + a.m22 * b.m20 + a.m23 * b.m30;
+        final var r21 = m21 + a.m20 * b.m01 + a.m21 * b.m11 + a.m22 * b.m21 + a.m23 * b.m31;
+        final var r22 = m22 + a.m20 * b.m02 + a.m21 * b.m12 + a.m22 * b.m22 + a.m23 * b.m32;
+        final var r23 = m23 + a.m20 * b.m03 + a.m21 * b.m13 + a.m22 * b.m23 + a.m23 * b.m33;
+        final var r30 = m30 + a.m30 * b.m00 + a.m31 * b.m10 + a.m32 * b.m20 + a.m33 * b.m30;
+        final var r31 = m31 + a.m30 * b.m01 + a.m31 * b.m11 + a.m32 * b.m21 + a.m33 * b.m31;
+        final var r32 = m32 + a.m30 * b.m02 + a.m31 * b.m12 + a.m32 * b.m22 + a.m33 * b.m32;
+        final var r33 = m33 + a.m30 * b.m03 + a.m31 * b.m13 + a.m32 * b.m23 + a.m33 * b.m33;
+        setElements(r00, r01, r02, r03, r10, r11, r12, r13, r20, r21, r22, r23, r30, r31, r32, r33);
+    }
+
+    /**
+     * Multiplies this matrix by provided vector (i.e. result = this * v).
+     * Result can be the same array as provided vector.
+     *
+     * @param v      vector of length 4.
+     * @param result array of length 4 where result is stored.
+     * @throws WrongSizeException   if any of provided arrays does not have
+     *                              length 4.
+     * @throws NullPointerException if any of provided arrays is null.
+     */
+    public void multiply(final double[] v, final double[] result) throws WrongSizeException {
+        if (v.length != SIZE || result.length != SIZE) {
+            throw new WrongSizeException();
+        }
+        final var x = v[0];
+        final var y = v[1];
+        final var z = v[2];
+        final var w = v[3];
+        result[0] = m00 * x + m01 * y + m02 * z + m03 * w;
+        result[1] = m10 * x + m11 * y + m12 * z + m13 * w;
+        result[2] = m20 * x + m21 * y + m22 * z + m23 * w;
+        result[3] = m30 * x + m31 * y + m32 * z + m33 * w;
+    }
+
+    /**
+     * Multiplies this matrix by provided vector.
+     *
+     * @param v vector of length 4.
+     * @return a new array containing the result.
+     * @throws WrongSizeException   if provided array does not have length 4.
+     * @throws NullPointerException if provided array is null.
+     */
+    public double[] multiplyAndReturnNew(final double[] v) throws WrongSizeException {
+        final var result = new double[SIZE];
+        multiply(v, result);
+        return result;
+    }
+
+    /**
+     * Transposes this matrix.
+     */
+    public void transpose() {
+        setElements(m00, m10, m20, m30, m01, m11, m21, m31, m02, m12, m22, m32, m03, m13, m23, m33);
+    }
+
+    /**
+     * Transposes this matrix and returns the result as a new instance.
+     *
+     * @return a new transposed matrix.
+     */
+    public Matrix4x4 transposeAndReturnNew() {
+        return new Matrix4x4(m00, m10, m20, m30, m01, m11, m21, m31, m02, m12, m22, m32, m03, m13, m23, m33);
+    }
+
+    /**
+     * Computes trace of this matrix.
+     *
+     * @return trace.
+     */
+    public double trace() {
+        return m00 + m11 + m22 + m33;
+    }
+
+    /**
+     * Computes determinant of this matrix by Laplace expansion on the 2x2
+     * minors of its first two and last two rows.
+     *
+     * @return determinant.
+     */
+    public double determinant() {
+        final var s0 = m00 * m11 - m10 * m01;
+        final var s1 = m00 * m12 - m10 * m02;
+        final var s2 = m00 * m13 - m10 * m03;
+        final var s3 = m01 * m12 - m11 * m02;
+        final var s4 = m01 * m13 - m11 * m03;
+        final var s5 = m02 * m13 - m12 * m03;
+        final var c0 = m20 * m31 - m30 * m21;
+        final var c1 = m20 * m32 - m30 * m22;
+        final var c2 = m20 * m33 - m30 * m23;
+        final var c3 = m21 * m32 - m31 * m22;
+        final var c4 = m21 * m33 - m31 * m23;
+        final var c5 = m22 * m33 - m32 * m23;
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * Computes inverse of this matrix using its adjugate, which is obtained
+     * from the 2x2 minors of its first two and last two rows, and stores the
+     * result into provided instance, which can be this instance.
+     *
+     * @param result instance where inverse is stored.
+     * @throws SingularMatrixException if this matrix is singular (i.e. its
+     *                                 determinant is zero).
+     * @throws NullPointerException    if provided matrix is null.
+     */
+    public void inverse(final Matrix4x4 result) throws SingularMatrixException {
+        final var s0 = m00 * m11 - m10 * m01;
+        final var s1 = m00 * m12 - m10 * m02;
+        final var s2 = m00 * m13 - m10 * m03;
+        final var s3 = m01 * m12 - m11 * m02;
+        final var s4 = m01 * m13 - m11 * m03;
+        final var s5 = m02 * m13 - m12 * m03;
+        final var c0 = m20 * m31 - m30 * m21;
+        final var c1 = m20 * m32 - m30 * m22;
+        final var c2 = m20 * m33 - m30 * m23;
+        final var c3 = m21 * m32 - m31 * m22;
+        final var c4 = m21 * m33 - m31 * m23;
+        final var c5 = m22 * m33 - m32 * m23;
+        final var det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (det == 0.0) {
+            throw new SingularMatrixException();
+        }
+        final var invDet = 1.0 / det;
+
+        result.setElements(
+                (m11 * c5 - m12 * c4 + m13 * c3) * invDet,
+                (-m01 * c5 + m02 * c4 - m03 * c3) * invDet,
+                (m31 * s5 - m32 * s4 + m33 * s3) * invDet,
+                (-m21 * s5 + m22 * s4 - m23 * s3) * invDet,
+                (-m10 * c5 + m12 * c2 - m13 * c1) * invDet,
+                (m00 * c5 - m02 * c2 + m03 * c1) * invDet,
+                (-m30 * s5 + m32 * s2 - m33 * s1) * invDet,
+                (m20 * s5 - m22 * s2 + m23 * s1) * invDet,
+                (m10 * c4 - m11 * c2 + m13 * c0) * invDet,
+                (-m00 * c4 + m01 * c2 - m03 * c0) * invDet,
+                (m30 * s4 - m31 * s2 + m33 * s0) * invDet,
+                (-m20 * s4 + m21 * s2 - m23 * s0) * invDet,
+                (-m10 * c3 + m11 * c1 - m12 * c0) * invDet,
+                (m00 * c3 - m01 * c1 + m02 * c0) * invDet,
+                (-m30 * s3 + m31 * s1 - m32 * s0) * invDet,
+                (m20 * s3 - m21 * s1 + m22 * s0) * invDet);
+    }
+
+    /**
+     * Inverts this matrix.
+     *
+     * @throws SingularMatrixException if this matrix is singular.
+     */
+    public void invert() throws SingularMatrixException {
+        inverse(this);
+    }
+
+    /**
+     * Computes inverse of this matrix and returns the result as a new
+     * instance.
+     *
+     * @return a new matrix containing the inverse.
+     * @throws SingularMatrixException if this matrix is singular.
+     */
+    public Matrix4x4 inverseAndReturnNew() throws SingularMatrixException {
+        final var result = new Matrix4x4();
+        inverse(result);
+        return result;
+    }
+
+    /**
+     * Computes eigen decomposition of this matrix, which is assumed to be
+     * symmetric, so that A = V * diag(values) * V'. Only the upper triangle
+     * of this matrix is accessed. Eigenvalues are sorted in descending order
+     * and eigenvectors are stored as columns of provided matrix in the same
+     * order.
+     *
+     * @param values  array of length 4 where eigenvalues are stored.
+     * @param vectors instance where eigenvectors are stored. Can be this
+     *                instance.
+     * @throws WrongSizeException   if provided array does not have length 4.
+     * @throws NullPointerException if any of provided parameters is null.
+     */
+    public void symmetricEigen(final double[] values, final Matrix4x4 vectors) throws WrongSizeException {
+        if (values.length != SIZE) {
+            throw new WrongSizeException();
+        }
+
+        final var a = new double[]{m00, m01, m02, m03, m01, m11, m12, m13, m02, m12, m22, m23, m03, m13, m23, m33};
+        final var v = new double[SIZE * SIZE];
+        JacobiDecomposition.symmetricEigen(SIZE, a, values, v);
+        vectors.copyFrom(v);
+    }
+
+    /**
+     * Computes singular value decomposition of this matrix, so that
+     * A = U * diag(values) * V'. Singular values are sorted in descending
+     * order, and U and V are orthonormal even if this matrix is singular.
+     *
+     * @param u      instance where left singular vectors are stored. Can be
+     *               this instance.
+     * @param values array of length 4 where singular values are stored.
+     * @param v      instance where right singular vectors are stored. Can be
+     *               this instance.
+     * @throws WrongSizeException   if provided array does not have length 4.
+     * @throws NullPointerException if any of provided parameters is null.
+     */
+    public void svd(final Matrix4x4 u, final double[] values, final Matrix4x4 v) throws WrongSizeException {
+        if (values.length != SIZE) {
+            throw new WrongSizeException();
+        }
+
+        final var a = toArray();
+        final var vBuffer = new double[SIZE * SIZE];
+        JacobiDecomposition.svd(SIZE, a, values, vBuffer);
+        u.copyFrom(a);
+        v.copyFrom(vBuffer);
+    }
+
+    /**
+     * Checks if provided matrix has contents similar to this matrix by
+     * checking that all values have a maximum difference equal to provided
+     * threshold.
+     *
+     * @param other     matrix to be compared.
+     * @param threshold maximum allowed difference between elements.
+     * @return true if matrices are considered to be equal.
+     */
+    public boolean equals(final Matrix4x4 other, final double threshold) {
+        if (other == null) {
+            return false;
+        }
+        return Math.abs(m00 - other.m00) <= threshold && Math.abs(m01 - other.m01) <= threshold
+                && Math.abs(m02 - other.m02) <= threshold && Math.abs(m03 - other.m03) <= threshold
+                && Math.abs(m10 - other.m10) <= threshold && Math.abs(m11 - other.m11) <= threshold
+                && Math.abs(m12 - other.m12) <= threshold && Math.abs(m13 - other.m13) <= threshold
+                && Math.abs(m20 - other.m20) <= threshold && Math.abs(m21 - other.m21) <= threshold
+                && Math.abs(m22 - other.m22) <= threshold && Math.abs(m23 - other.m23) <= threshold
+                && Math.abs(m30 - other.m30) <= threshold && Math.abs(m31 - other.m31) <= threshold
+                && Math.abs(m32 - other.m32) <= threshold && Math.abs(m33 - other.m33) <= threshold;
+    }
+
+    /**
+     * Checks if provided object is a 4x4 matrix having exactly the same
+     * contents as this matrix.
+     *
+     * @param obj object to be compared.
+     * @return true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof Matrix4x4 other)) {
+            return false;
+        }
+        return Double.compare(m00, other.m00) == 0 && Double.compare(m01, other.m01) == 0
+                && Double.compare(m02, other.m02) == 0 && Double.compare(m03, other.m03) == 0
+                && Double.compare(m10, other.m10) == 0 && Double.compare(m11, other.m11) == 0
+                && Double.compare(m12, other.m12) == 0 && Double.compare(m13, other.m13) == 0
+                && Double.compare(m20, other.m20) == 0 && Double.compare(m21, other.m21) == 0
+                && Double.compare(m22, other.m22) == 0 && Double.compare(m23, other.m23) == 0
+                && Double.compare(m30, other.m30) == 0 && Double.compare(m31, other.m31) == 0
+                && Double.compare(m32, other.m32) == 0 && Double.compare(m33, other.m33) == 0;
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Checks that provided position lies within this matrix and returns its
+     * position in column order.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return position of element in column order.
+     * @throws IllegalArgumentException if position is not valid.
+     */
+    private static int checkPosition(final int row, final int column) {
+        if (row < 0 || row >= SIZE || column < 0 || column >= SIZE) {
+            throw new IllegalArgumentException();
+        }
+        return column * SIZE + row;
+    }
+}
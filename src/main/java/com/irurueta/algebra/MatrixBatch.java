@@ -0,0 +1,1516 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Contains a batch of independent matrices having the same size, such as the
+ * covariances of many features or the systems of equations of many points,
+ * stored in a single array.
+ * Matrices are interleaved, so that element (i, j) of matrix b is stored at
+ * position (j * rows + i) * count + b of the internal buffer, where count is
+ * the number of matrices in the batch. Hence, the same element of all
+ * matrices is stored contiguously, and batched operations apply each step of
+ * an algorithm to all matrices at once within loops that the JIT compiler can
+ * vectorize, without creating one object per matrix.
+ * Batched operations process matrices in blocks that fit in cache, and they
+ * can also be executed in parallel on a fork/join pool by splitting the batch
+ * into ranges of matrices. Results of parallel operations are identical to
+ * those of sequential ones.
+ * Decompositions never fail because of an individual matrix. Instead, they
+ * keep track of the matrices that are singular or not positive definite, so
+ * that callers can discard them before solving.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class MatrixBatch implements Serializable {
+
+    /**
+     * Number of matrices processed at once by batched operations, so that
+     * their working data fits in cache.
+     */
+    static final int BLOCK_COUNT = 128;
+
+    /**
+     * Minimum number of matrices of a batch to process it in parallel.
+     */
+    public static final int MIN_PARALLEL_COUNT = 4 * BLOCK_COUNT;
+
+    /**
+     * Number of matrices.
+     */
+    private final int count;
+
+    /**
+     * Number of rows of each matrix.
+     */
+    private final int rows;
+
+    /**
+     * Number of columns of each matrix.
+     */
+    private final int columns;
+
+    /**
+     * Interleaved storage of all matrices.
+     */
+    private final double[] buffer;
+
+    /**
+     * Constructor.
+     * Values of all matrices are initialized to zero.
+     *
+     * @param count   number of matrices.
+     * @param rows    number of rows of each matrix.
+     * @param columns number of columns of each matrix.
+     * @throws WrongSizeException if any of provided values is zero or
+     *                            negative, or if batch is too large to fit in an array.
+     */
+    public MatrixBatch(final int count, final int rows, final int columns) throws WrongSizeException {
+        if (count <= 0 || rows <= 0 || columns <= 0 || (long) count * rows * columns > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+        this.count = count;
+        this.rows = rows;
+        this.columns = columns;
+        buffer = new double[count * rows * columns];
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param batch batch to copy from.
+     */
+    public MatrixBatch(final MatrixBatch batch) {
+        count = batch.count;
+        rows = batch.rows;
+        columns = batch.columns;
+        buffer = Arrays.copyOf(batch.buffer, batch.buffer.length);
+    }
+
+    /**
+     * Creates a batch containing a copy of provided matrices.
+     *
+     * @param matrices matrices to be copied. All of them must have the same
+     *                 size.
+     * @return a new batch.
+     * @throws WrongSizeException   if no matrices are provided or if they have
+     *                              different sizes.
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public static MatrixBatch newFromMatrices(final Matrix... matrices) throws WrongSizeException {
+        if (matrices.length == 0) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new MatrixBatch(matrices.length, matrices[0].getRows(), matrices[0].getColumns());
+        for (var b = 0; b < matrices.length; b++) {
+            result.setMatrix(b, matrices[b]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of matrices.
+     *
+     * @return number of matrices.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns number of rows of each matrix.
+     *
+     * @return number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns number of columns of each matrix.
+     *
+     * @return number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns internal buffer containing interleaved matrices, where element
+     * (i, j) of matrix b is stored at position (j * rows + i) * count + b.
+     *
+     * @return internal buffer.
+     */
+    public double[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Obtains element of a matrix within this batch.
+     *
+     * @param index  index of matrix.
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element.
+     * @throws IllegalArgumentException if any of provided values is out of
+     *                                  range.
+     */
+    public double getElementAt(final int index, final int row, final int column) {
+        return buffer[getPosition(index, row, column)];
+    }
+
+    /**
+     * Sets element of a matrix within this batch.
+     *
+     * @param index  index of matrix.
+     * @param row    row of element.
+     * @param column column of element.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if any of provided values is out of
+     *                                  range.
+     */
+    public void setElementAt(final int index, final int row, final int column, final double value) {
+        buffer[getPosition(index, row, column)] = value;
+    }
+
+    /**
+     * Copies a matrix of this batch into provided matrix. Provided matrix is
+     * resized if needed.
+     *
+     * @param index  index of matrix.
+     * @param result matrix where data is copied.
+     * @throws IllegalArgumentException if index is out of range.
+     * @throws NullPointerException     if provided matrix is null.
+     */
+    public void getMatrix(final int index, final Matrix result) {
+        checkIndex(index);
+        if (result.getRows() != rows || result.getColumns() != columns) {
+            try {
+                result.resize(rows, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        final var dst = result.getBuffer();
+        final var length = rows * columns;
+        for (var p = 0; p < length; p++) {
+            dst[p] = buffer[p * count + index];
+        }
+    }
+
+    /**
+     * Returns a copy of a matrix of this batch.
+     *
+     * @param index index of matrix.
+     * @return a new matrix.
+     * @throws IllegalArgumentException if index is out of range.
+     */
+    public Matrix getMatrix(final int index) {
+        Matrix result = null;
+        try {
+            result = new Matrix(rows, columns);
+            getMatrix(index, result);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Copies provided matrix into a matrix of this batch.
+     *
+     * @param index index of matrix.
+     * @param m     matrix to copy from.
+     * @throws WrongSizeException       if provided matrix does not have the
+     *                                  size of matrices of this batch.
+     * @throws IllegalArgumentException if index is out of range.
+     * @throws NullPointerException     if provided matrix is null.
+     */
+    public void setMatrix(final int index, final Matrix m) throws WrongSizeException {
+        checkIndex(index);
+        if (m.getRows() != rows || m.getColumns() != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var src = m.getBuffer();
+        final var length = rows * columns;
+        for (var p = 0; p < length; p++) {
+            buffer[p * count + index] = src[p];
+        }
+    }
+
+    /**
+     * Returns a copy of all matrices of this batch.
+     *
+     * @return array containing new matrices.
+     */
+    public Matrix[] toMatrices() {
+        final var result = new Matrix[count];
+        for (var b = 0; b < count; b++) {
+            result[b] = getMatrix(b);
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies each matrix of this batch by the matrix having the same index
+     * in provided batch, and stores the results into provided result batch.
+     *
+     * @param other  right operands.
+     * @param result batch where results are stored. Must be a different
+     *               instance than provided operands.
+     * @throws WrongSizeException       if batches do not have the same number
+     *                                  of matrices, if columns of matrices of this batch are not equal to rows of
+     *                                  matrices of other batch, or if result batch does not have proper size.
+     * @throws IllegalArgumentException if result batch is one of the operands.
+     * @throws NullPointerException     if any of provided batches is null.
+     */
+    public void multiply(final MatrixBatch other, final MatrixBatch result) throws WrongSizeException {
+        multiply(other, result, null);
+    }
+
+    /**
+     * Multiplies each matrix of this batch by the matrix having the same index
+     * in provided batch in parallel, and stores the results into provided
+     * result batch.
+     *
+     * @param other  right operands.
+     * @param result batch where results are stored. Must be a different
+     *               instance than provided operands.
+     * @param pool   pool where matrices are processed, or null to process
+     *               them on the calling thread.
+     * @throws WrongSizeException       if batches do not have the same number
+     *                                  of matrices, if columns of matrices of this batch are not equal to rows of
+     *                                  matrices of other batch, or if result batch does not have proper size.
+     * @throws IllegalArgumentException if result batch is one of the operands.
+     * @throws NullPointerException     if any of provided batches is null.
+     */
+    public void multiply(final MatrixBatch other, final MatrixBatch result, final ForkJoinPool pool)
+            throws WrongSizeException {
+        if (other.count != count || other.rows != columns || result.count != count || result.rows != rows
+                || result.columns != other.columns) {
+            throw new WrongSizeException();
+        }
+        if (result == this || result == other) {
+            throw new IllegalArgumentException();
+        }
+
+        final var m = rows;
+        final var n = other.columns;
+        final var k = columns;
+        final var a = buffer;
+        final var b = other.buffer;
+        final var c = result.buffer;
+        final var stride = count;
+        execute(count, pool, (from, to) -> {
+            for (var j = 0; j < n; j++) {
+                for (var i = 0; i < m; i++) {
+                    Arrays.fill(c, (j * m + i) * stride + from, (j * m + i) * stride + to, 0.0);
+                }
+                for (var p = 0; p < k; p++) {
+                    final var posB = (j * k + p) * stride;
+                    for (var i = 0; i < m; i++) {
+                        final var posA = (p * m + i) * stride;
+                        final var posC = (j * m + i) * stride;
+                        for (var t = from; t < to; t++) {
+                            c[posC + t] += a[posA + t] * b[posB + t];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Multiplies each matrix of this batch by the matrix having the same index
+     * in provided batch and returns the results as a new batch.
+     *
+     * @param other right operands.
+     * @return a new batch containing results.
+     * @throws WrongSizeException   if batches do not have the same number of
+     *                              matrices or if columns of matrices of this batch are not equal to rows
+     *                              of matrices of other batch.
+     * @throws NullPointerException if provided batch is null.
+     */
+    public MatrixBatch multiplyAndReturnNew(final MatrixBatch other) throws WrongSizeException {
+        return multiplyAndReturnNew(other, null);
+    }
+
+    /**
+     * Multiplies each matrix of this batch by the matrix having the same index
+     * in provided batch in parallel and returns the results as a new batch.
+     *
+     * @param other right operands.
+     * @param pool  pool where matrices are processed, or null to process them
+     *              on the calling thread.
+     * @return a new batch containing results.
+     * @throws WrongSizeException   if batches do not have the same number of
+     *                              matrices or if columns of matrices of this batch are not equal to rows
+     *                              of matrices of other batch.
+     * @throws NullPointerException if provided batch is null.
+     */
+    public MatrixBatch multiplyAndReturnNew(final MatrixBatch other, final ForkJoinPool pool)
+            throws WrongSizeException {
+        if (other.rows != columns) {
+            throw new WrongSizeException();
+        }
+        final var result = new MatrixBatch(count, rows, other.columns);
+        multiply(other, result, pool);
+        return result;
+    }
+
+    /**
+     * Computes LU decomposition with partial pivoting of all matrices of this
+     * batch. This batch is not modified.
+     *
+     * @return LU factorization of all matrices.
+     * @throws WrongSizeException if matrices are not square.
+     */
+    public LUFactor lu() throws WrongSizeException {
+        return lu(null);
+    }
+
+    /**
+     * Computes LU decomposition with partial pivoting of all matrices of this
+     * batch in parallel. This batch is not modified.
+     *
+     * @param pool pool where matrices are processed, or null to process them
+     *             on the calling thread.
+     * @return LU factorization of all matrices.
+     * @throws WrongSizeException if matrices are not square.
+     */
+    public LUFactor lu(final ForkJoinPool pool) throws WrongSizeException {
+        if (rows != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var n = rows;
+        final var stride = count;
+        final var lu = Arrays.copyOf(buffer, buffer.length);
+        final var piv = new int[n * count];
+        final var singular = new boolean[count];
+        execute(count, pool, (from, to) -> {
+            final var inv = new double[to - from];
+            for (var k = 0; k < n; k++) {
+                final var colK = k * n;
+
+                // find pivots and interchange rows of each matrix
+                for (var t = from; t < to; t++) {
+                    var p = k;
+                    var max = Math.abs(lu[(colK + k) * stride + t]);
+                    for (var i = k + 1; i < n; i++) {
+                        final var value = Math.abs(lu[(colK + i) * stride + t]);
+                        if (value > max) {
+                            max = value;
+                            p = i;
+                        }
+                    }
+                    piv[k * stride + t] = p;
+
+                    if (p != k) {
+                        for (var j = 0; j < n; j++) {
+                            final var posK = (j * n + k) * stride + t;
+                            final var posP = (j * n + p) * stride + t;
+                            final var tmp = lu[posK];
+                            lu[posK] = lu[posP];
+                            lu[posP] = tmp;
+                        }
+                    }
+
+                    final var pivot = lu[(colK + k) * stride + t];
+                    if (pivot == 0.0) {
+                        // skip elimination for singular matrices
+                        singular[t] = true;
+                        inv[t - from] = 0.0;
+                    } else {
+                        inv[t - from] = 1.0 / pivot;
+                    }
+                }
+
+                // compute multipliers
+                for (var i = k + 1; i < n; i++) {
+                    final var pos = (colK + i) * stride;
+                    for (var t = from; t < to; t++) {
+                        lu[pos + t] *= inv[t - from];
+                    }
+                }
+
+                // update trailing submatrix
+                for (var j = k + 1; j < n; j++) {
+                    final var posKj = (j * n + k) * stride;
+                    for (var i = k + 1; i < n; i++) {
+                        final var posIj = (j * n + i) * stride;
+                        final var posIk = (colK + i) * stride;
+                        for (var t = from; t < to; t++) {
+                            lu[posIj + t] -= lu[posIk + t] * lu[posKj + t];
+                        }
+                    }
+                }
+            }
+        });
+
+        return new LUFactor(count, n, lu, piv, singular);
+    }
+
+    /**
+     * Computes Cholesky decomposition of all matrices of this batch, so that
+     * A = R' * R for each matrix, where R is upper triangular. This batch is
+     * not modified.
+     *
+     * @return Cholesky factorization of all matrices.
+     * @throws WrongSizeException if matrices are not square.
+     */
+    public CholeskyFactor cholesky() throws WrongSizeException {
+        return cholesky(null);
+    }
+
+    /**
+     * Computes Cholesky decomposition of all matrices of this batch in
+     * parallel, so that A = R' * R for each matrix, where R is upper
+     * triangular. This batch is not modified.
+     *
+     * @param pool pool where matrices are processed, or null to process them
+     *             on the calling thread.
+     * @return Cholesky factorization of all matrices.
+     * @throws WrongSizeException if matrices are not square.
+     */
+    public CholeskyFactor cholesky(final ForkJoinPool pool) throws WrongSizeException {
+        if (rows != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var n = rows;
+        final var stride = count;
+        final var a = buffer;
+        final var r = new double[buffer.length];
+        final var spd = new boolean[count];
+        Arrays.fill(spd, true);
+        execute(count, pool, (from, to) -> {
+            final var length = to - from;
+            final var inv = new double[n * length];
+            final var s = new double[length];
+            for (var j = 0; j < n; j++) {
+                for (var i = 0; i <= j; i++) {
+                    final var posIj = (j * n + i) * stride;
+                    final var posJi = (i * n + j) * stride;
+                    for (var t = from; t < to; t++) {
+                        s[t - from] = a[posIj + t];
+                        if (a[posIj + t] != a[posJi + t]) {
+                            spd[t] = false;
+                        }
+                    }
+
+                    // subtract dot product of columns i and j of R
+                    for (var p = 0; p < i; p++) {
+                        final var posPi = (i * n + p) * stride;
+                        final var posPj = (j * n + p) * stride;
+                        for (var t = from; t < to; t++) {
+                            s[t - from] -= r[posPi + t] * r[posPj + t];
+                        }
+                    }
+
+                    if (i < j) {
+                        for (var t = from; t < to; t++) {
+                            r[posIj + t] = s[t - from] * inv[i * length + t - from];
+                        }
+                    } else {
+                        for (var t = from; t < to; t++) {
+                            final var d = s[t - from];
+                            if (d > 0.0) {
+                                final var value = Math.sqrt(d);
+                                r[posIj + t] = value;
+                                inv[j * length + t - from] = 1.0 / value;
+                            } else {
+                                spd[t] = false;
+                            }
+                        }
+                    }
+                }
+            }
+        });
+
+        return new CholeskyFactor(count, n, r, spd);
+    }
+
+    /**
+     * Solves linear systems A * X = B for all matrices of this batch using LU
+     * decomposition with partial pivoting.
+     *
+     * @param b right hand sides, containing one matrix for each matrix of
+     *          this batch.
+     * @return a new batch containing solutions.
+     * @throws WrongSizeException      if matrices of this batch are not square
+     *                                 or if right hand sides do not have proper size.
+     * @throws SingularMatrixException if any matrix of this batch is singular.
+     * @throws NullPointerException    if provided batch is null.
+     */
+    public MatrixBatch solve(final MatrixBatch b) throws WrongSizeException, SingularMatrixException {
+        return solve(b, null);
+    }
+
+    /**
+     * Solves linear systems A * X = B for all matrices of this batch in
+     * parallel using LU decomposition with partial pivoting.
+     *
+     * @param b    right hand sides, containing one matrix for each matrix of
+     *             this batch.
+     * @param pool pool where matrices are processed, or null to process them
+     *             on the calling thread.
+     * @return a new batch containing solutions.
+     * @throws WrongSizeException      if matrices of this batch are not square
+     *                                 or if right hand sides do not have proper size.
+     * @throws SingularMatrixException if any matrix of this batch is singular.
+     * @throws NullPointerException    if provided batch is null.
+     */
+    public MatrixBatch solve(final MatrixBatch b, final ForkJoinPool pool)
+            throws WrongSizeException, SingularMatrixException {
+        if (rows != columns || b.count != count || b.rows != rows) {
+            throw new WrongSizeException();
+        }
+        return lu(pool).solve(b, pool);
+    }
+
+    /**
+     * Computes inverse of all matrices of this batch using LU decomposition
+     * with partial pivoting.
+     *
+     * @return a new batch containing inverses.
+     * @throws WrongSizeException      if matrices are not square.
+     * @throws SingularMatrixException if any matrix is singular.
+     */
+    public MatrixBatch inverse() throws WrongSizeException, SingularMatrixException {
+        return inverse(null);
+    }
+
+    /**
+     * Computes inverse of all matrices of this batch in parallel using LU
+     * decomposition with partial pivoting.
+     *
+     * @param pool pool where matrices are processed, or null to process them
+     *             on the calling thread.
+     * @return a new batch containing inverses.
+     * @throws WrongSizeException      if matrices are not square.
+     * @throws SingularMatrixException if any matrix is singular.
+     */
+    public MatrixBatch inverse(final ForkJoinPool pool) throws WrongSizeException, SingularMatrixException {
+        return lu(pool).inverse(pool);
+    }
+
+    /**
+     * Checks if provided object is a batch having exactly the same contents
+     * as this batch.
+     *
+     * @param obj object to be compared.
+     * @return true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MatrixBatch other)) {
+            return false;
+        }
+        return count == other.count && rows == other.rows && columns == other.columns
+                && Arrays.equals(buffer, other.buffer);
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * count + rows) + columns) + Arrays.hashCode(buffer);
+    }
+
+    /**
+     * Obtains position of an element within internal buffer.
+     *
+     * @param index  index of matrix.
+     * @param row    row of element.
+     * @param column column of element.
+     * @return position of element.
+     * @throws IllegalArgumentException if any of provided values is out of
+     *                                  range.
+     */
+    private int getPosition(final int index, final int row, final int column) {
+        checkIndex(index);
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException();
+        }
+        return (column * rows + row) * count + index;
+    }
+
+    /**
+     * Checks that provided index of matrix is within range.
+     *
+     * @param index index of matrix.
+     * @throws IllegalArgumentException if index is out of range.
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Applies an operation to all matrices of a batch in blocks of at most
+     * {@link #BLOCK_COUNT} matrices, either on the calling thread or in
+     * parallel on provided pool.
+     *
+     * @param count     number of matrices.
+     * @param pool      pool where blocks are processed, or null to process
+     *                  them on the calling thread.
+     * @param operation operation to be applied.
+     */
+    private static void execute(final int count, final ForkJoinPool pool, final RangeOperation operation) {
+        final var parallelism = pool != null ? pool.getParallelism() : 1;
+        if (parallelism <= 1 || count < MIN_PARALLEL_COUNT) {
+            applyInBlocks(0, count, operation);
+            return;
+        }
+
+        // split batch into a few tasks per thread to balance load
+        final var blocks = (count + BLOCK_COUNT - 1) / BLOCK_COUNT;
+        final var blocksPerTask = Math.max(1, blocks / (4 * parallelism));
+        final var task = new RangeTask(0, count, blocksPerTask * BLOCK_COUNT, operation);
+        if (ForkJoinTask.getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Applies an operation to a range of matrices in blocks of at most
+     * {@link #BLOCK_COUNT} matrices.
+     *
+     * @param from      index of first matrix (inclusive).
+     * @param to        index of last matrix (exclusive).
+     * @param operation operation to be applied.
+     */
+    private static void applyInBlocks(final int from, final int to, final RangeOperation operation) {
+        for (var start = from; start < to; start += BLOCK_COUNT) {
+            operation.apply(start, Math.min(start + BLOCK_COUNT, to));
+        }
+    }
+
+    /**
+     * Operation applied to a range of matrices of a batch.
+     */
+    private interface RangeOperation {
+
+        /**
+         * Applies operation to a range of matrices.
+         *
+         * @param from index of first matrix (inclusive).
+         * @param to   index of last matrix (exclusive).
+         */
+        void apply(final int from, final int to);
+    }
+
+    /**
+     * Task applying an operation to a range of matrices of a batch. Ranges
+     * larger than a given size are recursively split in halves.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        /**
+         * Index of first matrix (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Index of last matrix (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Maximum number of matrices processed without further splitting.
+         * It is a multiple of {@link #BLOCK_COUNT}.
+         */
+        private final int grain;
+
+        /**
+         * Operation to be applied.
+         */
+        private final transient RangeOperation operation;
+
+        /**
+         * Constructor.
+         *
+         * @param from      index of first matrix (inclusive).
+         * @param to        index of last matrix (exclusive).
+         * @param grain     maximum number of matrices processed without
+         *                  further splitting.
+         * @param operation operation to be applied.
+         */
+        private RangeTask(final int from, final int to, final int grain, final RangeOperation operation) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.operation = operation;
+        }
+
+        /**
+         * Applies operation to range of matrices, splitting it if needed.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                applyInBlocks(from, to, operation);
+                return;
+            }
+
+            // split at a multiple of block size
+            final var middle = from + (to - from + 2 * BLOCK_COUNT - 1) / (2 * BLOCK_COUNT) * BLOCK_COUNT;
+            invokeAll(new RangeTask(from, middle, grain, operation),
+                    new RangeTask(middle, to, grain, operation));
+        }
+    }
+
+    /**
+     * LU decompositions with partial pivoting of all matrices of a batch, so
+     * that P * A = L * U for each matrix, where L is a unit lower triangular
+     * matrix and U is an upper triangular matrix.
+     * Factors are stored interleaved in the same layout as
+     * {@link MatrixBatch}, with multipliers of L below the diagonal and U on
+     * and above the diagonal.
+     */
+    public static class LUFactor implements Serializable {
+
+        /**
+         * Number of matrices.
+         */
+        private final int count;
+
+        /**
+         * Number of rows and columns of each matrix.
+         */
+        private final int size;
+
+        /**
+         * Interleaved storage of L and U factors.
+         */
+        private final double[] lu;
+
+        /**
+         * Row interchanged with row k of matrix b while factorizing column
+         * k, stored at position k * count + b.
+         */
+        private final int[] piv;
+
+        /**
+         * Indicates whether each matrix is singular.
+         */
+        private final boolean[] singular;
+
+        /**
+         * Constructor.
+         *
+         * @param count    number of matrices.
+         * @param size     number of rows and columns of each matrix.
+         * @param lu       interleaved storage of factors.
+         * @param piv      interleaved row interchanges.
+         * @param singular indicates whether each matrix is singular.
+         */
+        private LUFactor(final int count, final int size, final double[] lu, final int[] piv,
+                         final boolean[] singular) {
+            this.count = count;
+            this.size = size;
+            this.lu = lu;
+            this.piv = piv;
+            this.singular = singular;
+        }
+
+        /**
+         * Returns number of decomposed matrices.
+         *
+         * @return number of matrices.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns number of rows and columns of decomposed matrices.
+         *
+         * @return number of rows and columns.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Indicates whether a decomposed matrix is singular (i.e. one of its
+         * pivots is exactly zero).
+         *
+         * @param index index of matrix.
+         * @return true if matrix is singular, false otherwise.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public boolean isSingular(final int index) {
+            checkFactorIndex(index, count);
+            return singular[index];
+        }
+
+        /**
+         * Indicates whether any decomposed matrix is singular.
+         *
+         * @return true if any matrix is singular, false otherwise.
+         */
+        public boolean isSingular() {
+            for (final var value : singular) {
+                if (value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns unit lower triangular factor of a decomposed matrix.
+         *
+         * @param index index of matrix.
+         * @return a new matrix containing L.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public Matrix getL(final int index) {
+            final var result = unpack(index, size, count, lu, false);
+            for (var i = 0; i < size; i++) {
+                result.setElementAt(i, i, 1.0);
+            }
+            return result;
+        }
+
+        /**
+         * Returns upper triangular factor of a decomposed matrix.
+         *
+         * @param index index of matrix.
+         * @return a new matrix containing U.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public Matrix getU(final int index) {
+            return unpack(index, size, count, lu, true);
+        }
+
+        /**
+         * Returns row interchanges of a decomposed matrix, where row k was
+         * interchanged with row piv[k] while factorizing column k.
+         *
+         * @param index index of matrix.
+         * @return a new array containing row interchanges.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public int[] getPivot(final int index) {
+            checkFactorIndex(index, count);
+            final var result = new int[size];
+            for (var k = 0; k < size; k++) {
+                result[k] = piv[k * count + index];
+            }
+            return result;
+        }
+
+        /**
+         * Computes determinant of a decomposed matrix.
+         *
+         * @param index index of matrix.
+         * @return determinant.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public double determinant(final int index) {
+            checkFactorIndex(index, count);
+            var det = 1.0;
+            for (var k = 0; k < size; k++) {
+                det *= lu[(k * size + k) * count + index];
+                if (piv[k * count + index] != k) {
+                    det = -det;
+                }
+            }
+            return det;
+        }
+
+        /**
+         * Computes determinants of all decomposed matrices.
+         *
+         * @return a new array containing determinants.
+         */
+        public double[] determinants() {
+            final var result = new double[count];
+            Arrays.fill(result, 1.0);
+            for (var k = 0; k < size; k++) {
+                final var pos = (k * size + k) * count;
+                for (var b = 0; b < count; b++) {
+                    result[b] *= piv[k * count + b] != k ? -lu[pos + b] : lu[pos + b];
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices.
+         *
+         * @param b      right hand sides, containing one matrix for each
+         *               decomposed matrix.
+         * @param result batch where solutions are stored. Can be b.
+         * @throws WrongSizeException      if provided batches do not have
+         *                                 proper size.
+         * @throws SingularMatrixException if any decomposed matrix is singular.
+         * @throws NullPointerException    if any of provided batches is null.
+         */
+        public void solve(final MatrixBatch b, final MatrixBatch result)
+                throws WrongSizeException, SingularMatrixException {
+            solve(b, result, null);
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices in
+         * parallel.
+         *
+         * @param b      right hand sides, containing one matrix for each
+         *               decomposed matrix.
+         * @param result batch where solutions are stored. Can be b.
+         * @param pool   pool where matrices are processed, or null to process
+         *               them on the calling thread.
+         * @throws WrongSizeException      if provided batches do not have
+         *                                 proper size.
+         * @throws SingularMatrixException if any decomposed matrix is singular.
+         * @throws NullPointerException    if any of provided batches is null.
+         */
+        public void solve(final MatrixBatch b, final MatrixBatch result, final ForkJoinPool pool)
+                throws WrongSizeException, SingularMatrixException {
+            checkRightHandSide(b, result, count, size);
+            if (isSingular()) {
+                throw new SingularMatrixException();
+            }
+
+            if (b != result) {
+                System.arraycopy(b.buffer, 0, result.buffer, 0, b.buffer.length);
+            }
+            internalSolve(result, pool);
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices.
+         *
+         * @param b right hand sides, containing one matrix for each decomposed
+         *          matrix.
+         * @return a new batch containing solutions.
+         * @throws WrongSizeException      if provided batch does not have
+         *                                 proper size.
+         * @throws SingularMatrixException if any decomposed matrix is singular.
+         * @throws NullPointerException    if provided batch is null.
+         */
+        public MatrixBatch solve(final MatrixBatch b) throws WrongSizeException, SingularMatrixException {
+            return solve(b, (ForkJoinPool) null);
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices in
+         * parallel.
+         *
+         * @param b    right hand sides, containing one matrix for each
+         *             decomposed matrix.
+         * @param pool pool where matrices are processed, or null to process
+         *             them on the calling thread.
+         * @return a new batch containing solutions.
+         * @throws WrongSizeException      if provided batch does not have
+         *                                 proper size.
+         * @throws SingularMatrixException if any decomposed matrix is singular.
+         * @throws NullPointerException    if provided batch is null.
+         */
+        public MatrixBatch solve(final MatrixBatch b, final ForkJoinPool pool)
+                throws WrongSizeException, SingularMatrixException {
+            final var result = new MatrixBatch(b);
+            solve(result, result, pool);
+            return result;
+        }
+
+        /**
+         * Computes inverse of all decomposed matrices.
+         *
+         * @return a new batch containing inverses.
+         * @throws SingularMatrixException if any decomposed matrix is singular.
+         */
+        public MatrixBatch inverse() throws SingularMatrixException {
+            return inverse(null);
+        }
+
+        /**
+         * Computes inverse of all decomposed matrices in parallel.
+         *
+         * @param pool pool where matrices are processed, or null to process
+         *             them on the calling thread.
+         * @return a new batch containing inverses.
+         * @throws SingularMatrixException if any decomposed matrix is singular.
+         */
+        public MatrixBatch inverse(final ForkJoinPool pool) throws SingularMatrixException {
+            if (isSingular()) {
+                throw new SingularMatrixException();
+            }
+
+            final var result = identityBatch(count, size);
+            internalSolve(result, pool);
+            return result;
+        }
+
+        /**
+         * Solves L * U * X = P * B in place for all decomposed matrices.
+         *
+         * @param x  batch containing right hand sides, where solutions are
+         *           stored.
+         * @param pool pool where matrices are processed, or null to process
+         *             them on the calling thread.
+         */
+        private void internalSolve(final MatrixBatch x, final ForkJoinPool pool) {
+            final var n = size;
+            final var nrhs = x.columns;
+            final var stride = count;
+            final var buf = x.buffer;
+            execute(count, pool, (from, to) -> {
+                // apply row interchanges
+                for (var k = 0; k < n; k++) {
+                    for (var t = from; t < to; t++) {
+                        final var p = piv[k * stride + t];
+                        if (p != k) {
+                            for (var c = 0; c < nrhs; c++) {
+                                final var posK = (c * n + k) * stride + t;
+                                final var posP = (c * n + p) * stride + t;
+                                final var tmp = buf[posK];
+                                buf[posK] = buf[posP];
+                                buf[posP] = tmp;
+                            }
+                        }
+                    }
+                }
+
+                for (var c = 0; c < nrhs; c++) {
+                    // solve L * y = P * b
+                    for (var k = 0; k < n; k++) {
+                        final var posK = (c * n + k) * stride;
+                        for (var i = k + 1; i < n; i++) {
+                            final var posI = (c * n + i) * stride;
+                            final var posL = (k * n + i) * stride;
+                            for (var t = from; t < to; t++) {
+                                buf[posI + t] -= lu[posL + t] * buf[posK + t];
+                            }
+                        }
+                    }
+
+                    // solve U * x = y
+                    for (var k = n - 1; k >= 0; k--) {
+                        final var posK = (c * n + k) * stride;
+                        final var posD = (k * n + k) * stride;
+                        for (var t = from; t < to; t++) {
+                            buf[posK + t] /= lu[posD + t];
+                        }
+                        for (var i = 0; i < k; i++) {
+                            final var posI = (c * n + i) * stride;
+                            final var posU = (k * n + i) * stride;
+                            for (var t = from; t < to; t++) {
+                                buf[posI + t] -= lu[posU + t] * buf[posK + t];
+                            }
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Cholesky decompositions of all matrices of a batch, so that A = R' * R
+     * for each matrix, where R is an upper triangular matrix.
+     * Factors are stored interleaved in the same layout as
+     * {@link MatrixBatch}.
+     */
+    public static class CholeskyFactor implements Serializable {
+
+        /**
+         * Number of matrices.
+         */
+        private final int count;
+
+        /**
+         * Number of rows and columns of each matrix.
+         */
+        private final int size;
+
+        /**
+         * Interleaved storage of R factors.
+         */
+        private final double[] r;
+
+        /**
+         * Indicates whether each matrix is symmetric positive definite.
+         */
+        private final boolean[] spd;
+
+        /**
+         * Constructor.
+         *
+         * @param count number of matrices.
+         * @param size  number of rows and columns of each matrix.
+         * @param r     interleaved storage of factors.
+         * @param spd   indicates whether each matrix is symmetric positive
+         *              definite.
+         */
+        private CholeskyFactor(final int count, final int size, final double[] r, final boolean[] spd) {
+            this.count = count;
+            this.size = size;
+            this.r = r;
+            this.spd = spd;
+        }
+
+        /**
+         * Returns number of decomposed matrices.
+         *
+         * @return number of matrices.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns number of rows and columns of decomposed matrices.
+         *
+         * @return number of rows and columns.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Indicates whether a decomposed matrix is symmetric positive definite.
+         * Factor of a matrix that is not symmetric positive definite must be
+         * ignored.
+         *
+         * @param index index of matrix.
+         * @return true if matrix is symmetric positive definite, false
+         * otherwise.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public boolean isSPD(final int index) {
+            checkFactorIndex(index, count);
+            return spd[index];
+        }
+
+        /**
+         * Indicates whether all decomposed matrices are symmetric positive
+         * definite.
+         *
+         * @return true if all matrices are symmetric positive definite, false
+         * otherwise.
+         */
+        public boolean isSPD() {
+            for (final var value : spd) {
+                if (!value) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns upper triangular factor of a decomposed matrix.
+         *
+         * @param index index of matrix.
+         * @return a new matrix containing R.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public Matrix getR(final int index) {
+            return unpack(index, size, count, r, true);
+        }
+
+        /**
+         * Computes determinant of a decomposed matrix.
+         *
+         * @param index index of matrix.
+         * @return determinant.
+         * @throws IllegalArgumentException if index is out of range.
+         */
+        public double determinant(final int index) {
+            checkFactorIndex(index, count);
+            var det = 1.0;
+            for (var k = 0; k < size; k++) {
+                final var value = r[(k * size + k) * count + index];
+                det *= value * value;
+            }
+            return det;
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices.
+         *
+         * @param b      right hand sides, containing one matrix for each
+         *               decomposed matrix.
+         * @param result batch where solutions are stored. Can be b.
+         * @throws WrongSizeException                          if provided
+         *                                                     batches do not have proper size.
+         * @throws NonSymmetricPositiveDefiniteMatrixException if any decomposed
+         *                                                     matrix is not symmetric positive definite.
+         * @throws NullPointerException                        if any of
+         *                                                     provided batches is null.
+         */
+        public void solve(final MatrixBatch b, final MatrixBatch result)
+                throws WrongSizeException, NonSymmetricPositiveDefiniteMatrixException {
+            solve(b, result, null);
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices in
+         * parallel.
+         *
+         * @param b      right hand sides, containing one matrix for each
+         *               decomposed matrix.
+         * @param result batch where solutions are stored. Can be b.
+         * @param pool   pool where matrices are processed, or null to process
+         *               them on the calling thread.
+         * @throws WrongSizeException                          if provided
+         *                                                     batches do not have proper size.
+         * @throws NonSymmetricPositiveDefiniteMatrixException if any decomposed
+         *                                                     matrix is not symmetric positive definite.
+         * @throws NullPointerException                        if any of
+         *                                                     provided batches is null.
+         */
+        public void solve(final MatrixBatch b, final MatrixBatch result, final ForkJoinPool pool)
+                throws WrongSizeException, NonSymmetricPositiveDefiniteMatrixException {
+            checkRightHandSide(b, result, count, size);
+            if (!isSPD()) {
+                throw new NonSymmetricPositiveDefiniteMatrixException();
+            }
+
+            if (b != result) {
+                System.arraycopy(b.buffer, 0, result.buffer, 0, b.buffer.length);
+            }
+            internalSolve(result, pool);
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices.
+         *
+         * @param b right hand sides, containing one matrix for each decomposed
+         *          matrix.
+         * @return a new batch containing solutions.
+         * @throws WrongSizeException                          if provided
+         *                                                     batch does not have proper size.
+         * @throws NonSymmetricPositiveDefiniteMatrixException if any decomposed
+         *                                                     matrix is not symmetric positive definite.
+         * @throws NullPointerException                        if provided batch
+         *                                                     is null.
+         */
+        public MatrixBatch solve(final MatrixBatch b)
+                throws WrongSizeException, NonSymmetricPositiveDefiniteMatrixException {
+            return solve(b, (ForkJoinPool) null);
+        }
+
+        /**
+         * Solves linear systems A * X = B for all decomposed matrices in
+         * parallel.
+         *
+         * @param b    right hand sides, containing one matrix for each
+         *             decomposed matrix.
+         * @param pool pool where matrices are processed, or null to process
+         *             them on the calling thread.
+         * @return a new batch containing solutions.
+         * @throws WrongSizeException                          if provided
+         *                                                     batch does not have proper size.
+         * @throws NonSymmetricPositiveDefiniteMatrixException if any decomposed
+         *                                                     matrix is not symmetric positive definite.
+         * @throws NullPointerException                        if provided batch
+         *                                                     is null.
+         */
+        public MatrixBatch solve(final MatrixBatch b, final ForkJoinPool pool)
+                throws WrongSizeException, NonSymmetricPositiveDefiniteMatrixException {
+            final var result = new MatrixBatch(b);
+            solve(result, result, pool);
+            return result;
+        }
+
+        /**
+         * Computes inverse of all decomposed matrices.
+         *
+         * @return a new batch containing inverses.
+         * @throws NonSymmetricPositiveDefiniteMatrixException if any decomposed
+         *                                                     matrix is not symmetric positive definite.
+         */
+        public MatrixBatch inverse() throws NonSymmetricPositiveDefiniteMatrixException {
+            return inverse(null);
+        }
+
+        /**
+         * Computes inverse of all decomposed matrices in parallel.
+         *
+         * @param pool pool where matrices are processed, or null to process
+         *             them on the calling thread.
+         * @return a new batch containing inverses.
+         * @throws NonSymmetricPositiveDefiniteMatrixException if any decomposed
+         *                                                     matrix is not symmetric positive definite.
+         */
+        public MatrixBatch inverse(final ForkJoinPool pool) throws NonSymmetricPositiveDefiniteMatrixException {
+            if (!isSPD()) {
+                throw new NonSymmetricPositiveDefiniteMatrixException();
+            }
+
+            final var result = identityBatch(count, size);
+            internalSolve(result, pool);
+            return result;
+        }
+
+        /**
+         * Solves R' * R * X = B in place for all decomposed matrices.
+         *
+         * @param x    batch containing right hand sides, where solutions are
+         *             stored.
+         * @param pool pool where matrices are processed, or null to process
+         *             them on the calling thread.
+         */
+        private void internalSolve(final MatrixBatch x, final ForkJoinPool pool) {
+            final var n = size;
+            final var nrhs = x.columns;
+            final var stride = count;
+            final var buf = x.buffer;
+            execute(count, pool, (from, to) -> {
+                for (var c = 0; c < nrhs; c++) {
+                    // solve R' * y = b
+                    for (var k = 0; k < n; k++) {
+                        final var posK = (c * n + k) * stride;
+                        final var posD = (k * n + k) * stride;
+                        for (var t = from; t < to; t++) {
+                            buf[posK + t] /= r[posD + t];
+                        }
+                        for (var i = k + 1; i < n; i++) {
+                            final var posI = (c * n + i) * stride;
+                            final var posR = (i * n + k) * stride;
+                            for (var t = from; t < to; t++) {
+                                buf[posI + t] -= r[posR + t] * buf[posK + t];
+                            }
+                        }
+                    }
+
+                    // solve R * x = y
+                    for (var k = n - 1; k >= 0; k--) {
+                        final var posK = (c * n + k) * stride;
+                        final var posD = (k * n + k) * stride;
+                        for (var t = from; t < to; t++) {
+                            buf[posK + t] /= r[posD + t];
+                        }
+                        for (var i = 0; i < k; i++) {
+                            final var posI = (c * n + i) * stride;
+                            final var posR = (k * n + i) * stride;
+                            for (var t = from; t < to; t++) {
+                                buf[posI + t] -= r[posR + t] * buf[posK + t];
+                            }
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks that provided index of a factorized matrix is within range.
+     *
+     * @param index index of matrix.
+     * @param count number of matrices.
+     * @throws IllegalArgumentException if index is out of range.
+     */
+    private static void checkFactorIndex(final int index, final int count) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks that right hand sides and result batches have proper size to
+     * solve systems of equations of a factorized batch.
+     *
+     * @param b      right hand sides.
+     * @param result batch where solutions are stored.
+     * @param count  number of factorized matrices.
+     * @param size   number of rows and columns of factorized matrices.
+     * @throws WrongSizeException if any batch does not have proper size.
+     */
+    private static void checkRightHandSide(final MatrixBatch b, final MatrixBatch result, final int count,
+                                           final int size) throws WrongSizeException {
+        if (b.count != count || b.rows != size || result.count != count || result.rows != size
+                || result.columns != b.columns) {
+            throw new WrongSizeException();
+        }
+    }
+
+    /**
+     * Creates a batch of identity matrices.
+     *
+     * @param count number of matrices.
+     * @param size  number of rows and columns.
+     * @return a new batch.
+     */
+    private static MatrixBatch identityBatch(final int count, final int size) {
+        MatrixBatch result = null;
+        try {
+            result = new MatrixBatch(count, size, size);
+            for (var k = 0; k < size; k++) {
+                final var pos = (k * size + k) * count;
+                Arrays.fill(result.buffer, pos, pos + count, 1.0);
+            }
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Copies the upper or strictly lower triangle of a matrix stored within an
+     * interleaved buffer into a new matrix.
+     *
+     * @param index  index of matrix.
+     * @param size   number of rows and columns.
+     * @param count  number of matrices.
+     * @param buffer interleaved buffer.
+     * @param upper  true to copy upper triangle including the diagonal, false
+     *               to copy strictly lower triangle.
+     * @return a new matrix.
+     * @throws IllegalArgumentException if index is out of range.
+     */
+    private static Matrix unpack(final int index, final int size, final int count, final double[] buffer,
+                                 final boolean upper) {
+        checkFactorIndex(index, count);
+        Matrix result = null;
+        try {
+            result = new Matrix(size, size);
+            final var dst = result.getBuffer();
+            for (var j = 0; j < size; j++) {
+                for (var i = 0; i < size; i++) {
+                    if (upper ? i <= j : i > j) {
+                        dst[j * size + i] = buffer[(j * size + i) * count + index];
+                    }
+                }
+            }
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+}
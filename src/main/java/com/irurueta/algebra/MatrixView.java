@@ -0,0 +1,568 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+/**
+ * View of a rectangular block of a matrix that does not copy its data.
+ * A view is defined by the position of its first element within the buffer
+ * of its parent matrix, its size and the leading dimension of its parent
+ * matrix (i.e. the number of rows of the parent matrix, which is the
+ * distance within the buffer between the start of two consecutive columns).
+ * Reading a view reads the data of its parent matrix, and writing into a view
+ * modifies its parent matrix.
+ * Views are meant to be short-lived. If the parent matrix is resized (or
+ * its size is modified by any in-place operation such as transposition or
+ * product), the view is no longer valid.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class MatrixView {
+
+    /**
+     * Matrix whose data is viewed.
+     */
+    private final Matrix parent;
+
+    /**
+     * Position of first element of view within buffer of parent matrix.
+     */
+    private final int offset;
+
+    /**
+     * Number of rows of view.
+     */
+    private final int rows;
+
+    /**
+     * Number of columns of view.
+     */
+    private final int columns;
+
+    /**
+     * Leading dimension of view (i.e. number of rows of parent matrix).
+     */
+    private final int leadingDimension;
+
+    /**
+     * Constructor.
+     * Creates a view of the whole provided matrix.
+     *
+     * @param parent matrix to be viewed.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public MatrixView(final Matrix parent) {
+        this(parent, 0, 0, parent.getRows() - 1, parent.getColumns() - 1);
+    }
+
+    /**
+     * Constructor.
+     * Creates a view of the block of provided matrix contained within provided
+     * coordinates (both top-left and bottom-right points are included within
+     * the view).
+     *
+     * @param parent            matrix to be viewed.
+     * @param topLeftRow        top-left row index where view starts.
+     * @param topLeftColumn     top-left column index where view starts.
+     * @param bottomRightRow    bottom-right row index where view ends.
+     * @param bottomRightColumn bottom-right column index where view ends.
+     * @throws IllegalArgumentException if top-left or bottom-right corners lie
+     *                                  outside provided matrix, or if top-left corner is located below or at
+     *                                  right side of bottom-right corner.
+     * @throws NullPointerException     if provided matrix is null.
+     */
+    public MatrixView(final Matrix parent, final int topLeftRow, final int topLeftColumn,
+                      final int bottomRightRow, final int bottomRightColumn) {
+        final var parentRows = parent.getRows();
+        final var parentColumns = parent.getColumns();
+        if (topLeftRow < 0 || topLeftRow >= parentRows || topLeftColumn < 0 || topLeftColumn >= parentColumns
+                || bottomRightRow < 0 || bottomRightRow >= parentRows || bottomRightColumn < 0
+                || bottomRightColumn >= parentColumns || topLeftRow > bottomRightRow
+                || topLeftColumn > bottomRightColumn) {
+            throw new IllegalArgumentException();
+        }
+
+        this.parent = parent;
+        this.offset = topLeftRow + topLeftColumn * parentRows;
+        this.rows = bottomRightRow - topLeftRow + 1;
+        this.columns = bottomRightColumn - topLeftColumn + 1;
+        this.leadingDimension = parentRows;
+    }
+
+    /**
+     * Gets matrix whose data is viewed.
+     *
+     * @return matrix whose data is viewed.
+     */
+    public Matrix getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets position of first element of this view within the buffer of its
+     * parent matrix.
+     *
+     * @return position of first element of this view.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets number of rows of this view.
+     *
+     * @return number of rows of this view.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets number of columns of this view.
+     *
+     * @return number of columns of this view.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets leading dimension of this view, which is the distance within the
+     * buffer of its parent matrix between the start of two consecutive
+     * columns.
+     *
+     * @return leading dimension of this view.
+     */
+    public int getLeadingDimension() {
+        return leadingDimension;
+    }
+
+    /**
+     * Gets element of this view located at provided position.
+     *
+     * @param row    row to be retrieved.
+     * @param column column to be retrieved.
+     * @return element of this view.
+     * @throws IllegalArgumentException if provided position lies outside this
+     *                                  view.
+     */
+    public double getElementAt(final int row, final int column) {
+        return parent.getBuffer()[position(row, column)];
+    }
+
+    /**
+     * Sets element of this view (and its parent matrix) located at provided
+     * position.
+     *
+     * @param row    row to be set.
+     * @param column column to be set.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if provided position lies outside this
+     *                                  view.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        parent.getBuffer()[position(row, column)] = value;
+    }
+
+    /**
+     * Gets element of this view located at provided index using column order.
+     *
+     * @param index position of element to be retrieved.
+     * @return element of this view.
+     * @throws IllegalArgumentException if provided index lies outside this
+     *                                  view.
+     */
+    public double getElementAtIndex(final int index) {
+        return parent.getBuffer()[position(index)];
+    }
+
+    /**
+     * Sets element of this view (and its parent matrix) located at provided
+     * index using column order.
+     *
+     * @param index position of element to be set.
+     * @param value value to be set.
+     * @throws IllegalArgumentException if provided index lies outside this
+     *                                  view.
+     */
+    public void setElementAtIndex(final int index, final double value) {
+        parent.getBuffer()[position(index)] = value;
+    }
+
+    /**
+     * Obtains a view of a block of this view contained within provided
+     * coordinates (both top-left and bottom-right points are included). No
+     * data is copied.
+     *
+     * @param topLeftRow        top-left row index where view starts.
+     * @param topLeftColumn     top-left column index where view starts.
+     * @param bottomRightRow    bottom-right row index where view ends.
+     * @param bottomRightColumn bottom-right column index where view ends.
+     * @return a view of provided block.
+     * @throws IllegalArgumentException if top-left or bottom-right corners lie
+     *                                  outside this view, or if top-left corner is located below or at right
+     *                                  side of bottom-right corner.
+     */
+    public MatrixView getSubview(final int topLeftRow, final int topLeftColumn, final int bottomRightRow,
+                                 final int bottomRightColumn) {
+        if (topLeftRow < 0 || topLeftRow >= rows || topLeftColumn < 0 || topLeftColumn >= columns
+                || bottomRightRow < 0 || bottomRightRow >= rows || bottomRightColumn < 0
+                || bottomRightColumn >= columns || topLeftRow > bottomRightRow
+                || topLeftColumn > bottomRightColumn) {
+            throw new IllegalArgumentException();
+        }
+
+        final var parentRow = offset % leadingDimension;
+        final var parentColumn = offset / leadingDimension;
+        return new MatrixView(parent, parentRow + topLeftRow, parentColumn + topLeftColumn,
+                parentRow + bottomRightRow, parentColumn + bottomRightColumn);
+    }
+
+    /**
+     * Obtains a view of provided column of this view. No data is copied.
+     *
+     * @param column column to be viewed.
+     * @return a view of provided column.
+     * @throws IllegalArgumentException if provided column lies outside this
+     *                                  view.
+     */
+    public MatrixView getColumnView(final int column) {
+        return getSubview(0, column, rows - 1, column);
+    }
+
+    /**
+     * Obtains a view of provided row of this view. No data is copied.
+     *
+     * @param row row to be viewed.
+     * @return a view of provided row.
+     * @throws IllegalArgumentException if provided row lies outside this view.
+     */
+    public MatrixView getRowView(final int row) {
+        return getSubview(row, 0, row, columns - 1);
+    }
+
+    /**
+     * Sets all elements of this view (and the corresponding ones of its parent
+     * matrix) to provided value.
+     *
+     * @param value value to be set.
+     */
+    public void initialize(final double value) {
+        final var buffer = parent.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            final var start = offset + j * leadingDimension;
+            final var end = start + rows;
+            for (var i = start; i < end; i++) {
+                buffer[i] = value;
+            }
+        }
+    }
+
+    /**
+     * Copies the contents of this view into provided matrix. If provided
+     * matrix doesn't have proper size, it will be resized.
+     *
+     * @param result matrix where contents of this view are copied.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyTo(final Matrix result) {
+        if (result.getRows() != rows || result.getColumns() != columns) {
+            try {
+                result.resize(rows, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        copyToArray(result.getBuffer());
+    }
+
+    /**
+     * Copies the contents of this view into a new matrix.
+     *
+     * @return a new matrix containing a copy of the contents of this view.
+     */
+    public Matrix toMatrix() {
+        Matrix out = null;
+        try {
+            out = new Matrix(rows, columns);
+            copyToArray(out.getBuffer());
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return out;
+    }
+
+    /**
+     * Copies the contents of this view into a new array using column order.
+     *
+     * @return a new array containing a copy of the contents of this view.
+     */
+    public double[] toArray() {
+        final var result = new double[rows * columns];
+        copyToArray(result);
+        return result;
+    }
+
+    /**
+     * Copies the contents of this view into provided array using column order.
+     *
+     * @param result array where contents of this view are copied.
+     * @throws WrongSizeException if provided array does not have the same
+     *                            number of elements as this view.
+     */
+    public void toArray(final double[] result) throws WrongSizeException {
+        if (result.length != rows * columns) {
+            throw new WrongSizeException();
+        }
+        copyToArray(result);
+    }
+
+    /**
+     * Copies the contents of provided matrix into this view (and hence into its
+     * parent matrix).
+     *
+     * @param source matrix to copy data from.
+     * @throws WrongSizeException   if provided matrix does not have the same
+     *                              size as this view.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyFrom(final Matrix source) throws WrongSizeException {
+        if (source.getRows() != rows || source.getColumns() != columns) {
+            throw new WrongSizeException();
+        }
+        copyFromArray(source.getBuffer());
+    }
+
+    /**
+     * Copies the contents of provided view into this view (and hence into its
+     * parent matrix). Provided view must not overlap with this view.
+     *
+     * @param source view to copy data from.
+     * @throws WrongSizeException   if provided view does not have the same
+     *                              size as this view.
+     * @throws NullPointerException if provided view is null.
+     */
+    public void copyFrom(final MatrixView source) throws WrongSizeException {
+        if (source.rows != rows || source.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var sourceBuffer = source.parent.getBuffer();
+        final var buffer = parent.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            System.arraycopy(sourceBuffer, source.offset + j * source.leadingDimension, buffer,
+                    offset + j * leadingDimension, rows);
+        }
+    }
+
+    /**
+     * Copies the contents of provided array, in column order, into this view
+     * (and hence into its parent matrix).
+     *
+     * @param array array to copy data from.
+     * @throws WrongSizeException   if provided array does not have the same
+     *                              number of elements as this view.
+     * @throws NullPointerException if provided array is null.
+     */
+    public void copyFrom(final double[] array) throws WrongSizeException {
+        if (array.length != rows * columns) {
+            throw new WrongSizeException();
+        }
+        copyFromArray(array);
+    }
+
+    /**
+     * Multiplies all elements of this view (and the corresponding ones of its
+     * parent matrix) by provided scalar.
+     *
+     * @param scalar scalar value.
+     */
+    public void multiplyByScalar(final double scalar) {
+        final var buffer = parent.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            final var start = offset + j * leadingDimension;
+            final var end = start + rows;
+            for (var i = start; i < end; i++) {
+                buffer[i] *= scalar;
+            }
+        }
+    }
+
+    /**
+     * Computes the dot product of the elements of this view, taken in column
+     * order, and provided array.
+     *
+     * @param array array to compute dot product with.
+     * @return dot product.
+     * @throws IllegalArgumentException if provided array does not have the
+     *                                  same number of elements as this view.
+     */
+    public double dotProduct(final double[] array) {
+        if (array.length != rows * columns) {
+            throw new IllegalArgumentException("both operands must have same length");
+        }
+
+        final var buffer = parent.getBuffer();
+        var result = 0.0;
+        var pos = 0;
+        for (var j = 0; j < columns; j++) {
+            final var start = offset + j * leadingDimension;
+            for (var i = 0; i < rows; i++) {
+                result += buffer[start + i] * array[pos++];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies this view with provided view and stores the result in
+     * provided matrix. If provided result matrix doesn't have proper size, it
+     * will be resized.
+     *
+     * @param other  right operand of product.
+     * @param result matrix where result of product is stored. Must not be the
+     *               parent of any of the operands.
+     * @throws WrongSizeException   if number of columns of this view is not
+     *                              equal to number of rows of provided view.
+     * @throws NullPointerException if any of provided arguments is null.
+     */
+    public void multiply(final MatrixView other, final Matrix result) throws WrongSizeException {
+        if (columns != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        if (result.getRows() != rows || result.getColumns() != other.columns) {
+            result.resize(rows, other.columns);
+        }
+
+        BlockedMatrixMultiplier.gemm(false, false, rows, other.columns, columns,
+                1.0, parent.getBuffer(), offset, leadingDimension,
+                other.parent.getBuffer(), other.offset, other.leadingDimension,
+                0.0, result.getBuffer(), 0, rows);
+    }
+
+    /**
+     * Multiplies this view with provided view and returns the result as a new
+     * matrix.
+     *
+     * @param other right operand of product.
+     * @return a new matrix containing the result of the product.
+     * @throws WrongSizeException   if number of columns of this view is not
+     *                              equal to number of rows of provided view.
+     * @throws NullPointerException if provided view is null.
+     */
+    public Matrix multiplyAndReturnNew(final MatrixView other) throws WrongSizeException {
+        if (columns != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        final var out = new Matrix(rows, other.columns);
+        multiply(other, out);
+        return out;
+    }
+
+    /**
+     * Computes c = alpha * op(a) * op(b) + beta * c, where op(x) is either x
+     * or its transpose x', and stores the result in place into view c (and
+     * hence into its parent matrix). No memory is allocated.
+     * If beta is zero, initial contents of c are ignored (even if they are
+     * NaN). View c must not overlap with any of the operands.
+     *
+     * @param alpha  scale of product.
+     * @param a      left operand.
+     * @param transA true if left operand is transposed, false otherwise.
+     * @param b      right operand.
+     * @param transB true if right operand is transposed, false otherwise.
+     * @param beta   scale of initial contents of c.
+     * @param c      view containing initial values where result is stored.
+     * @throws WrongSizeException   if number of columns of op(a) is not equal
+     *                              to number of rows of op(b), or if c does not have the number of rows of
+     *                              op(a) and the number of columns of op(b).
+     * @throws NullPointerException if any of provided views is null.
+     */
+    public static void gemm(final double alpha, final MatrixView a, final boolean transA, final MatrixView b,
+                            final boolean transB, final double beta, final MatrixView c)
+            throws WrongSizeException {
+        final var m = transA ? a.columns : a.rows;
+        final var k = transA ? a.rows : a.columns;
+        final var kb = transB ? b.columns : b.rows;
+        final var n = transB ? b.rows : b.columns;
+        if (k != kb || c.rows != m || c.columns != n) {
+            throw new WrongSizeException();
+        }
+
+        BlockedMatrixMultiplier.gemm(transA, transB, m, n, k, alpha, a.parent.getBuffer(), a.offset,
+                a.leadingDimension, b.parent.getBuffer(), b.offset, b.leadingDimension,
+                beta, c.parent.getBuffer(), c.offset, c.leadingDimension);
+    }
+
+    /**
+     * Copies the contents of this view into provided array using column order.
+     * This method does not check array length.
+     *
+     * @param result array where contents are copied.
+     */
+    private void copyToArray(final double[] result) {
+        final var buffer = parent.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            System.arraycopy(buffer, offset + j * leadingDimension, result, j * rows, rows);
+        }
+    }
+
+    /**
+     * Copies the contents of provided array, in column order, into this view.
+     * This method does not check array length.
+     *
+     * @param array array to copy data from.
+     */
+    private void copyFromArray(final double[] array) {
+        final var buffer = parent.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            System.arraycopy(array, j * rows, buffer, offset + j * leadingDimension, rows);
+        }
+    }
+
+    /**
+     * Gets position within buffer of parent matrix of provided element.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return position within buffer of parent matrix.
+     * @throws IllegalArgumentException if provided position lies outside this
+     *                                  view.
+     */
+    private int position(final int row, final int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException();
+        }
+        return offset + row + column * leadingDimension;
+    }
+
+    /**
+     * Gets position within buffer of parent matrix of element located at
+     * provided index using column order.
+     *
+     * @param index index of element.
+     * @return position within buffer of parent matrix.
+     * @throws IllegalArgumentException if provided index lies outside this
+     *                                  view.
+     */
+    private int position(final int index) {
+        if (index < 0 || index >= rows * columns) {
+            throw new IllegalArgumentException();
+        }
+        return offset + index % rows + (index / rows) * leadingDimension;
+    }
+}
@@ -51,6 +51,16 @@ public abstract class NormComputer {
      */
     public abstract double getNorm(final Matrix m);
 
+    /**
+     * Computes norm of provided matrix view.
+     *
+     * @param m Matrix view being used for norm computation.
+     * @return Norm of provided matrix view.
+     */
+    public double getNorm(final MatrixView m) {
+        return getNorm(m.toMatrix());
+    }
+
     /**
      * Computes norm of provided array.
      *
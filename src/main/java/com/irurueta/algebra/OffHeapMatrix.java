@@ -0,0 +1,1074 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Defines a matrix of numerical data stored outside the Java heap.
+ * Values are stored in column order (as in {@link Matrix}) within chunks of
+ * direct memory, hence matrices of this class do not add pressure to the
+ * garbage collector and might contain more than 2^31 elements.
+ * Elements are indexed using long values. However, the number of rows and
+ * columns are still limited to the range of integer values.
+ * Memory is released when the matrix is closed. Matrices of this class
+ * should be used within try-with-resources blocks. Closing a matrix waits for
+ * any operation being executed on it by other threads to finish, and once
+ * closed, any further operation raises an {@link IllegalStateException}, so
+ * that released memory is never accessed. Besides that, concurrent
+ * modifications of a matrix must be synchronized by callers.
+ * Data can be transferred to and from heap matrices by blocks, so that
+ * algorithms working on heap matrices can process large off-heap matrices
+ * piece by piece. Products and Cholesky decompositions are computed directly
+ * on off-heap storage by copying one block at a time into heap memory, so
+ * that heap memory being used is bounded regardless of the size of the
+ * matrices. Heap blocks are kept by each matrix and reused by later
+ * operations until the matrix is closed.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class OffHeapMatrix implements AutoCloseable {
+
+    /**
+     * Default base 2 logarithm of the number of elements of each chunk of
+     * memory. Chunks contain 2^27 elements (1 GiB).
+     */
+    static final int DEFAULT_CHUNK_SHIFT = 27;
+
+    /**
+     * Size of square blocks that are copied into heap memory to compute
+     * matrix products and decompositions.
+     */
+    static final int BLOCK_SIZE = 512;
+
+    /**
+     * Number of bytes of each element.
+     */
+    private static final int ELEMENT_BYTES = Double.BYTES;
+
+    /**
+     * Instance of sun.misc.Unsafe used to release direct memory as soon as a
+     * matrix is closed, or null if not available. When not available, memory
+     * is released once the garbage collector reclaims closed matrices.
+     */
+    private static final Object UNSAFE;
+
+    /**
+     * Method of sun.misc.Unsafe to release direct memory of a buffer, or null
+     * if not available.
+     */
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final var unsafeClass = Class.forName("sun.misc.Unsafe");
+            final var field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (final ReflectiveOperationException | RuntimeException ignore) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Number of matrix rows.
+     */
+    private final int rows;
+
+    /**
+     * Number of matrix columns.
+     */
+    private final int columns;
+
+    /**
+     * Base 2 logarithm of the number of elements of each chunk of memory.
+     */
+    private final int chunkShift;
+
+    /**
+     * Mask to obtain position of an element within its chunk.
+     */
+    private final long chunkMask;
+
+    /**
+     * Chunks of direct memory where data is stored. This is null once the
+     * matrix is closed.
+     */
+    private DoubleBuffer[] chunks;
+
+    /**
+     * Direct buffers owning the memory of each chunk. This is null once the
+     * matrix is closed.
+     */
+    private ByteBuffer[] memory;
+
+    /**
+     * Indicates whether this matrix has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Lock preventing memory from being released while being used. Any
+     * operation accessing memory holds the read lock, whereas closing the
+     * matrix holds the write lock.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Heap blocks reused by operations on this matrix, or null if not
+     * allocated yet or being used by another operation.
+     */
+    private final AtomicReference<double[][]> scratch = new AtomicReference<>();
+
+    /**
+     * Constructor.
+     * Values of a new matrix are initialized to zero.
+     *
+     * @param rows    number of rows of matrix.
+     * @param columns number of columns of matrix.
+     * @throws WrongSizeException if provided number of rows or columns is
+     *                            zero or negative.
+     * @throws OutOfMemoryError   if there is not enough direct memory.
+     */
+    public OffHeapMatrix(final int rows, final int columns) throws WrongSizeException {
+        this(rows, columns, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructor with custom chunk size.
+     * Values of a new matrix are initialized to zero.
+     *
+     * @param rows       number of rows of matrix.
+     * @param columns    number of columns of matrix.
+     * @param chunkShift base 2 logarithm of the number of elements of each
+     *                   chunk of memory.
+     * @throws WrongSizeException if provided number of rows or columns is
+     *                            zero or negative.
+     * @throws OutOfMemoryError   if there is not enough direct memory.
+     */
+    OffHeapMatrix(final int rows, final int columns, final int chunkShift) throws WrongSizeException {
+        if (rows <= 0 || columns <= 0) {
+            throw new WrongSizeException();
+        }
+
+        this.rows = rows;
+        this.columns = columns;
+        this.chunkShift = chunkShift;
+        final var chunkLength = 1L << chunkShift;
+        chunkMask = chunkLength - 1;
+
+        final var length = getLength();
+        final var numChunks = (int) ((length + chunkMask) >>> chunkShift);
+        chunks = new DoubleBuffer[numChunks];
+        memory = new ByteBuffer[numChunks];
+        for (var i = 0; i < numChunks; i++) {
+            final var elements = (int) Math.min(chunkLength, length - ((long) i << chunkShift));
+            memory[i] = ByteBuffer.allocateDirect(elements * ELEMENT_BYTES).order(ByteOrder.nativeOrder());
+            chunks[i] = memory[i].asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Creates a new off-heap matrix containing a copy of provided matrix.
+     *
+     * @param m matrix to copy from.
+     * @return a new off-heap matrix.
+     */
+    public static OffHeapMatrix newFromMatrix(final Matrix m) {
+        OffHeapMatrix result = null;
+        try {
+            result = new OffHeapMatrix(m.getRows(), m.getColumns());
+            result.copyFrom(m);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of rows in matrix.
+     *
+     * @return number of rows in matrix.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns number of columns in matrix.
+     *
+     * @return number of columns in matrix.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns number of elements in matrix.
+     *
+     * @return number of elements in matrix.
+     */
+    public long getLength() {
+        return (long) rows * columns;
+    }
+
+    /**
+     * Indicates whether this matrix has been closed and its memory released.
+     *
+     * @return true if matrix has been closed, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Obtains element in matrix located at provided position.
+     * Notice that row and column position are zero-indexed.
+     *
+     * @param row    row to be used for element location.
+     * @param column column to be used for element location.
+     * @return value of element.
+     * @throws IndexOutOfBoundsException if provided position lies outside the
+     *                                   memory of the matrix. As in {@link Matrix}, exceeding the number of
+     *                                   rows might not raise this exception.
+     * @throws IllegalStateException     if matrix has been closed.
+     */
+    public double getElementAt(final int row, final int column) {
+        return getElementAtIndex(getIndex(row, column));
+    }
+
+    /**
+     * Returns index of provided position within memory of matrix.
+     *
+     * @param row    row to be used for element location.
+     * @param column column to be used for element location.
+     * @return index of element using column order.
+     */
+    public long getIndex(final int row, final int column) {
+        return (long) column * rows + row;
+    }
+
+    /**
+     * Obtains element in matrix located at provided index using column order.
+     *
+     * @param index index of element.
+     * @return value of element.
+     * @throws IndexOutOfBoundsException if provided index lies outside the
+     *                                   memory of the matrix.
+     * @throws IllegalStateException     if matrix has been closed.
+     */
+    public double getElementAtIndex(final long index) {
+        lockAccess();
+        try {
+            return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Sets element in matrix located at provided position.
+     *
+     * @param row    row to be used for element location.
+     * @param column column to be used for element location.
+     * @param value  value to be set.
+     * @throws IndexOutOfBoundsException if provided position lies outside the
+     *                                   memory of the matrix.
+     * @throws IllegalStateException     if matrix has been closed.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        setElementAtIndex(getIndex(row, column), value);
+    }
+
+    /**
+     * Sets element in matrix located at provided index using column order.
+     *
+     * @param index index of element.
+     * @param value value to be set.
+     * @throws IndexOutOfBoundsException if provided index lies outside the
+     *                                   memory of the matrix.
+     * @throws IllegalStateException     if matrix has been closed.
+     */
+    public void setElementAtIndex(final long index, final double value) {
+        lockAccess();
+        try {
+            chunks[(int) (index >>> chunkShift)].put((int) (index & chunkMask), value);
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Sets all elements of this matrix to provided value.
+     *
+     * @param value value to be set.
+     * @throws IllegalStateException if matrix has been closed.
+     */
+    public void initialize(final double value) {
+        final var length = getLength();
+        final var blockLength = (int) Math.min(length, (long) BLOCK_SIZE * BLOCK_SIZE);
+        lockAccess();
+        try {
+            final var blocks = acquireScratch(1, blockLength);
+            final var block = blocks[0];
+            Arrays.fill(block, 0, blockLength, value);
+            for (long index = 0; index < length; index += blockLength) {
+                write(index, block, 0, (int) Math.min(blockLength, length - index));
+            }
+            releaseScratch(blocks);
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Copies elements of provided block of this matrix into provided heap
+     * matrix. Result matrix is resized if needed.
+     *
+     * @param topLeftRow        top-left row index (inclusive).
+     * @param topLeftColumn     top-left column index (inclusive).
+     * @param bottomRightRow    bottom-right row index (inclusive).
+     * @param bottomRightColumn bottom-right column index (inclusive).
+     * @param result            matrix where block is copied.
+     * @throws IllegalArgumentException if provided block lies outside this
+     *                                  matrix, or top-left corner is at the bottom or right side of
+     *                                  bottom-right corner.
+     * @throws IllegalStateException    if matrix has been closed.
+     */
+    public void getSubmatrix(final int topLeftRow, final int topLeftColumn, final int bottomRightRow,
+                             final int bottomRightColumn, final Matrix result) {
+        checkBlock(topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn);
+
+        final var blockRows = bottomRightRow - topLeftRow + 1;
+        final var blockColumns = bottomRightColumn - topLeftColumn + 1;
+        if (result.getRows() != blockRows || result.getColumns() != blockColumns) {
+            try {
+                result.resize(blockRows, blockColumns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        lockAccess();
+        try {
+            readBlock(topLeftRow, topLeftColumn, blockRows, blockColumns, result.getBuffer());
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Obtains a heap matrix containing a copy of provided block of this matrix.
+     *
+     * @param topLeftRow        top-left row index (inclusive).
+     * @param topLeftColumn     top-left column index (inclusive).
+     * @param bottomRightRow    bottom-right row index (inclusive).
+     * @param bottomRightColumn bottom-right column index (inclusive).
+     * @return a new heap matrix containing provided block.
+     * @throws IllegalArgumentException if provided block lies outside this
+     *                                  matrix, or top-left corner is at the bottom or right side of
+     *                                  bottom-right corner.
+     * @throws IllegalStateException    if matrix has been closed.
+     */
+    public Matrix getSubmatrix(final int topLeftRow, final int topLeftColumn, final int bottomRightRow,
+                               final int bottomRightColumn) {
+        checkBlock(topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn);
+
+        Matrix result = null;
+        try {
+            result = new Matrix(bottomRightRow - topLeftRow + 1, bottomRightColumn - topLeftColumn + 1);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        getSubmatrix(topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn, result);
+        return result;
+    }
+
+    /**
+     * Copies provided heap matrix into a block of this matrix starting at
+     * provided top-left position.
+     *
+     * @param topLeftRow    top-left row index where block starts.
+     * @param topLeftColumn top-left column index where block starts.
+     * @param source        matrix to copy from.
+     * @throws IllegalArgumentException if provided matrix does not fit into
+     *                                  this matrix at provided position.
+     * @throws IllegalStateException    if matrix has been closed.
+     */
+    public void setSubmatrix(final int topLeftRow, final int topLeftColumn, final Matrix source) {
+        checkBlock(topLeftRow, topLeftColumn, topLeftRow + source.getRows() - 1,
+                topLeftColumn + source.getColumns() - 1);
+
+        lockAccess();
+        try {
+            writeBlock(topLeftRow, topLeftColumn, source.getRows(), source.getColumns(), source.getBuffer());
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Copies provided heap matrix into this matrix.
+     *
+     * @param source matrix to copy from.
+     * @throws WrongSizeException    if provided matrix does not have the same
+     *                               size as this matrix.
+     * @throws IllegalStateException if matrix has been closed.
+     */
+    public void copyFrom(final Matrix source) throws WrongSizeException {
+        if (source.getRows() != rows || source.getColumns() != columns) {
+            throw new WrongSizeException();
+        }
+
+        lockAccess();
+        try {
+            write(0, source.getBuffer(), 0, rows * columns);
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Copies this matrix into a new heap matrix.
+     *
+     * @return a new heap matrix.
+     * @throws WrongSizeException    if this matrix has too many elements to be
+     *                               stored in a heap matrix.
+     * @throws IllegalStateException if matrix has been closed.
+     */
+    public Matrix toMatrix() throws WrongSizeException {
+        if (getLength() > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new Matrix(rows, columns);
+        lockAccess();
+        try {
+            read(0, result.getBuffer(), 0, rows * columns);
+        } finally {
+            unlockAccess();
+        }
+        return result;
+    }
+
+    /**
+     * Adds provided matrix to this matrix.
+     *
+     * @param other matrix to be added.
+     * @throws WrongSizeException    if provided matrix does not have the same
+     *                               size as this matrix.
+     * @throws IllegalStateException if any matrix has been closed.
+     */
+    public void add(final OffHeapMatrix other) throws WrongSizeException {
+        combine(other, false);
+    }
+
+    /**
+     * Subtracts provided matrix from this matrix.
+     *
+     * @param other matrix to be subtracted.
+     * @throws WrongSizeException    if provided matrix does not have the same
+     *                               size as this matrix.
+     * @throws IllegalStateException if any matrix has been closed.
+     */
+    public void subtract(final OffHeapMatrix other) throws WrongSizeException {
+        combine(other, true);
+    }
+
+    /**
+     * Multiplies this matrix by provided scalar value.
+     *
+     * @param scalar scalar value.
+     * @throws IllegalStateException if matrix has been closed.
+     */
+    public void multiplyByScalar(final double scalar) {
+        final var length = getLength();
+        final var blockLength = (int) Math.min(length, (long) BLOCK_SIZE * BLOCK_SIZE);
+        lockAccess();
+        try {
+            final var blocks = acquireScratch(1, blockLength);
+            final var block = blocks[0];
+            for (long index = 0; index < length; index += blockLength) {
+                final var count = (int) Math.min(blockLength, length - index);
+                read(index, block, 0, count);
+                Kernels.INSTANCE.multiplyByScalar(block, scalar, block, count);
+                write(index, block, 0, count);
+            }
+            releaseScratch(blocks);
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix and stores the result into
+     * provided result matrix.
+     * The product is computed by square blocks that are copied into heap
+     * memory and multiplied using cache-blocked kernels, so that memory
+     * used on heap is bounded regardless of the size of the matrices. Heap
+     * blocks are kept by this matrix and reused by later products.
+     *
+     * @param other  right operand.
+     * @param result off-heap matrix where result is stored. It must have the
+     *               number of rows of this matrix and the number of columns of
+     *               provided matrix, and it must not be any of the operands.
+     * @throws WrongSizeException       if number of columns of this matrix is
+     *                                  not equal to number of rows of provided matrix, or if result does not
+     *                                  have the expected size.
+     * @throws IllegalArgumentException if result is any of the operands.
+     * @throws IllegalStateException    if any matrix has been closed.
+     */
+    public void multiply(final OffHeapMatrix other, final OffHeapMatrix result) throws WrongSizeException {
+        if (columns != other.rows || result.rows != rows || result.columns != other.columns) {
+            throw new WrongSizeException();
+        }
+        if (result == this || result == other) {
+            throw new IllegalArgumentException();
+        }
+
+        lockAccess();
+        try {
+            other.lockAccess();
+            try {
+                result.lockAccess();
+                try {
+                    internalMultiply(other, result);
+                } finally {
+                    result.unlockAccess();
+                }
+            } finally {
+                other.unlockAccess();
+            }
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix and returns the result as a
+     * new off-heap matrix.
+     *
+     * @param other right operand.
+     * @return a new off-heap matrix containing the product.
+     * @throws WrongSizeException    if number of columns of this matrix is
+     *                               not equal to number of rows of provided matrix.
+     * @throws IllegalStateException if any matrix has been closed.
+     */
+    public OffHeapMatrix multiplyAndReturnNew(final OffHeapMatrix other) throws WrongSizeException {
+        if (columns != other.rows) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new OffHeapMatrix(rows, other.columns, chunkShift);
+        multiply(other, result);
+        return result;
+    }
+
+    /**
+     * Computes upper Cholesky decomposition of this matrix in place, so that
+     * once decomposed this matrix contains upper triangular factor R, where
+     * A = R' * R, and its strictly lower triangle is set to zero.
+     * Decomposition is computed directly on off-heap storage by a blocked
+     * right-looking algorithm that copies one block at a time into heap
+     * memory, hence this matrix is never copied as a whole into the heap.
+     * Only the upper triangle of this matrix is used, since it is assumed to
+     * be symmetric.
+     * If this matrix is not positive definite, an exception is raised and its
+     * contents are left partially decomposed.
+     *
+     * @throws WrongSizeException                          if this matrix is not
+     *                                                     square.
+     * @throws NonSymmetricPositiveDefiniteMatrixException if this matrix is not
+     *                                                     positive definite.
+     * @throws IllegalStateException                       if matrix has been
+     *                                                     closed.
+     * @see CholeskyDecomposer
+     */
+    public void choleskyDecompose() throws WrongSizeException, NonSymmetricPositiveDefiniteMatrixException {
+        if (rows != columns) {
+            throw new WrongSizeException();
+        }
+
+        final boolean positive;
+        lockAccess();
+        try {
+            final var blockSize = Math.min(rows, BLOCK_SIZE);
+            final var blocks = acquireScratch(3, blockSize * blockSize);
+            positive = internalCholeskyDecompose(blocks[0], blocks[1], blocks[2]);
+            releaseScratch(blocks);
+        } finally {
+            unlockAccess();
+        }
+
+        if (!positive) {
+            throw new NonSymmetricPositiveDefiniteMatrixException();
+        }
+    }
+
+    /**
+     * Solves linear system of equations A * X = B in place, where this matrix
+     * contains upper Cholesky factor R of A (i.e. A = R' * R) computed by
+     * {@link #choleskyDecompose()}, and each column of provided matrix is a
+     * right hand side that is overwritten with its solution.
+     * Systems are solved directly on off-heap storage by blocks, hence none
+     * of the matrices is copied as a whole into the heap.
+     *
+     * @param b right hand sides, where solutions are stored.
+     * @throws WrongSizeException       if this matrix is not square or number
+     *                                  of rows of provided matrix is not equal to the size of this matrix.
+     * @throws IllegalArgumentException if provided matrix is this matrix.
+     * @throws IllegalStateException    if any matrix has been closed.
+     */
+    public void choleskySolve(final OffHeapMatrix b) throws WrongSizeException {
+        if (rows != columns || b.rows != rows) {
+            throw new WrongSizeException();
+        }
+        if (b == this) {
+            throw new IllegalArgumentException();
+        }
+
+        lockAccess();
+        try {
+            b.lockAccess();
+            try {
+                final var blockSize = Math.min(rows, BLOCK_SIZE);
+                final var blocks = acquireScratch(3,
+                        blockSize * Math.max(blockSize, Math.min(b.columns, BLOCK_SIZE)));
+                internalCholeskySolve(b, blocks[0], blocks[1], blocks[2]);
+                releaseScratch(blocks);
+            } finally {
+                b.unlockAccess();
+            }
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Closes this matrix and releases its memory.
+     * If other threads are executing operations on this matrix, this method
+     * waits for them to finish before releasing memory. Any later operation
+     * on this matrix raises an {@link IllegalStateException}.
+     * Calling this method more than once has no effect.
+     */
+    @Override
+    public void close() {
+        final ByteBuffer[] buffers;
+        final var writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffers = memory;
+            chunks = null;
+            memory = null;
+            scratch.set(null);
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+
+        for (final var buffer : buffers) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (final ReflectiveOperationException ignore) {
+                // memory is released by the garbage collector
+            }
+        }
+    }
+
+    /**
+     * Acquires read lock preventing memory of this matrix from being released
+     * while being accessed.
+     *
+     * @throws IllegalStateException if matrix has been closed.
+     */
+    private void lockAccess() {
+        final var readLock = lock.readLock();
+        readLock.lock();
+        if (closed) {
+            readLock.unlock();
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Releases read lock acquired by {@link #lockAccess()}.
+     */
+    private void unlockAccess() {
+        lock.readLock().unlock();
+    }
+
+    /**
+     * Obtains heap blocks having at least provided length, reusing blocks
+     * kept by this matrix whenever possible. If blocks are being used by
+     * another operation, new ones are allocated.
+     *
+     * @param count  number of blocks.
+     * @param length minimum length of each block.
+     * @return heap blocks.
+     */
+    private double[][] acquireScratch(final int count, final int length) {
+        var blocks = scratch.getAndSet(null);
+        if (blocks == null || blocks.length < count) {
+            final var grown = new double[count][];
+            if (blocks != null) {
+                System.arraycopy(blocks, 0, grown, 0, blocks.length);
+            }
+            blocks = grown;
+        }
+        for (var i = 0; i < count; i++) {
+            if (blocks[i] == null || blocks[i].length < length) {
+                blocks[i] = new double[length];
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Keeps provided heap blocks so that they can be reused by later
+     * operations on this matrix.
+     *
+     * @param blocks heap blocks to be kept.
+     */
+    private void releaseScratch(final double[][] blocks) {
+        scratch.set(blocks);
+    }
+
+    /**
+     * Multiplies this matrix by provided matrix and stores the result into
+     * provided result matrix by blocks.
+     *
+     * @param other  right operand.
+     * @param result off-heap matrix where result is stored.
+     */
+    private void internalMultiply(final OffHeapMatrix other, final OffHeapMatrix result) {
+        final var m = rows;
+        final var n = other.columns;
+        final var k = columns;
+
+        final var mb0 = Math.min(m, BLOCK_SIZE);
+        final var nb0 = Math.min(n, BLOCK_SIZE);
+        final var kb0 = Math.min(k, BLOCK_SIZE);
+        final var blocks = acquireScratch(3, Math.max(mb0 * kb0, Math.max(kb0 * nb0, mb0 * nb0)));
+        final var blockA = blocks[0];
+        final var blockB = blocks[1];
+        final var blockC = blocks[2];
+
+        for (var j = 0; j < n; j += BLOCK_SIZE) {
+            final var nb = Math.min(BLOCK_SIZE, n - j);
+            for (var i = 0; i < m; i += BLOCK_SIZE) {
+                final var mb = Math.min(BLOCK_SIZE, m - i);
+                for (var p = 0; p < k; p += BLOCK_SIZE) {
+                    final var kb = Math.min(BLOCK_SIZE, k - p);
+                    readBlock(i, p, mb, kb, blockA);
+                    other.readBlock(p, j, kb, nb, blockB);
+                    BlockedMatrixMultiplier.gemm(false, false, mb, nb, kb, 1.0, blockA, 0, mb,
+                            blockB, 0, kb, p == 0 ? 0.0 : 1.0, blockC, 0, mb);
+                }
+                result.writeBlock(i, j, mb, nb, blockC);
+            }
+        }
+
+        releaseScratch(blocks);
+    }
+
+    /**
+     * Computes upper Cholesky decomposition of this matrix in place by
+     * blocks.
+     * For each block row, its diagonal block is factorized, the blocks on its
+     * right are solved and the upper triangle of the trailing sub-matrix is
+     * updated with matrix products.
+     *
+     * @param diagonal heap block where diagonal blocks are factorized.
+     * @param panel    heap block where blocks on the right of diagonal blocks
+     *                 are solved.
+     * @param trailing heap block where blocks of trailing sub-matrices are
+     *                 updated.
+     * @return true if this matrix is positive definite, false otherwise.
+     */
+    private boolean internalCholeskyDecompose(final double[] diagonal, final double[] panel,
+                                              final double[] trailing) {
+        final var n = rows;
+        for (var k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+            final var kb = Math.min(BLOCK_SIZE, n - k0);
+            final var k1 = k0 + kb;
+
+            // diagonal block has already been updated by previous block rows
+            readBlock(k0, k0, kb, kb, diagonal);
+            if (!BlockedCholeskyFactorizer.factor(kb, diagonal, kb, null)) {
+                return false;
+            }
+            for (var j = 0; j < kb; j++) {
+                Arrays.fill(diagonal, j * kb + j + 1, (j + 1) * kb, 0.0);
+            }
+            writeBlock(k0, k0, kb, kb, diagonal);
+
+            // R(k0:k1, j0:j1) = R(k0:k1, k0:k1)' \ A(k0:k1, j0:j1), and
+            // A(j0:j1, k0:k1) is set to zero
+            for (var j0 = k1; j0 < n; j0 += BLOCK_SIZE) {
+                final var jb = Math.min(BLOCK_SIZE, n - j0);
+                readBlock(k0, j0, kb, jb, panel);
+                TriangularSolver.solve(true, true, false, null, kb, jb, diagonal, 0, kb,
+                        panel, 0, kb);
+                writeBlock(k0, j0, kb, jb, panel);
+
+                Arrays.fill(trailing, 0, jb * kb, 0.0);
+                writeBlock(j0, k0, jb, kb, trailing);
+            }
+
+            // A(i0:i1, j0:j1) -= R(k0:k1, i0:i1)' * R(k0:k1, j0:j1) for the
+            // upper triangle of the trailing sub-matrix. Diagonal block is no
+            // longer needed, hence it is reused to store R(k0:k1, i0:i1)
+            for (var j0 = k1; j0 < n; j0 += BLOCK_SIZE) {
+                final var jb = Math.min(BLOCK_SIZE, n - j0);
+                readBlock(k0, j0, kb, jb, panel);
+                for (var i0 = k1; i0 <= j0; i0 += BLOCK_SIZE) {
+                    final var ib = Math.min(BLOCK_SIZE, n - i0);
+                    final double[] left;
+                    if (i0 == j0) {
+                        left = panel;
+                    } else {
+                        readBlock(k0, i0, kb, ib, diagonal);
+                        left = diagonal;
+                    }
+                    readBlock(i0, j0, ib, jb, trailing);
+                    BlockedMatrixMultiplier.gemm(true, false, ib, jb, kb, -1.0, left, 0, kb,
+                            panel, 0, kb, 1.0, trailing, 0, ib);
+                    writeBlock(i0, j0, ib, jb, trailing);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Solves R' * R * X = B in place by blocks, where this matrix contains
+     * upper triangular factor R.
+     * Right hand sides are processed in blocks of columns. For each of them,
+     * R' * Y = B is solved from first to last block row, and R * X = Y is
+     * then solved from last to first block row.
+     *
+     * @param b     right hand sides, where solutions are stored.
+     * @param x     heap block where block rows of solution are computed.
+     * @param r     heap block where blocks of factor are copied.
+     * @param y     heap block where already solved block rows are copied.
+     */
+    private void internalCholeskySolve(final OffHeapMatrix b, final double[] x, final double[] r,
+                                       final double[] y) {
+        final var n = rows;
+        for (var c0 = 0; c0 < b.columns; c0 += BLOCK_SIZE) {
+            final var cb = Math.min(BLOCK_SIZE, b.columns - c0);
+
+            // Y(k0:k1) = R(k0:k1, k0:k1)' \ (B(k0:k1) - R(0:k0, k0:k1)' * Y(0:k0))
+            for (var k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+                final var kb = Math.min(BLOCK_SIZE, n - k0);
+                b.readBlock(k0, c0, kb, cb, x);
+                for (var i0 = 0; i0 < k0; i0 += BLOCK_SIZE) {
+                    final var ib = Math.min(BLOCK_SIZE, k0 - i0);
+                    readBlock(i0, k0, ib, kb, r);
+                    b.readBlock(i0, c0, ib, cb, y);
+                    BlockedMatrixMultiplier.gemm(true, false, kb, cb, ib, -1.0, r, 0, ib,
+                            y, 0, ib, 1.0, x, 0, kb);
+                }
+                readBlock(k0, k0, kb, kb, r);
+                TriangularSolver.solve(true, true, false, null, kb, cb, r, 0, kb, x, 0, kb);
+                b.writeBlock(k0, c0, kb, cb, x);
+            }
+
+            // X(k0:k1) = R(k0:k1, k0:k1) \ (Y(k0:k1) - R(k0:k1, k1:n) * X(k1:n))
+            final var last = (n - 1) / BLOCK_SIZE * BLOCK_SIZE;
+            for (var k0 = last; k0 >= 0; k0 -= BLOCK_SIZE) {
+                final var kb = Math.min(BLOCK_SIZE, n - k0);
+                final var k1 = k0 + kb;
+                b.readBlock(k0, c0, kb, cb, x);
+                for (var j0 = k1; j0 < n; j0 += BLOCK_SIZE) {
+                    final var jb = Math.min(BLOCK_SIZE, n - j0);
+                    readBlock(k0, j0, kb, jb, r);
+                    b.readBlock(j0, c0, jb, cb, y);
+                    BlockedMatrixMultiplier.gemm(false, false, kb, cb, jb, -1.0, r, 0, kb,
+                            y, 0, jb, 1.0, x, 0, kb);
+                }
+                readBlock(k0, k0, kb, kb, r);
+                TriangularSolver.solve(true, false, false, null, kb, cb, r, 0, kb, x, 0, kb);
+                b.writeBlock(k0, c0, kb, cb, x);
+            }
+        }
+    }
+
+    /**
+     * Adds or subtracts provided matrix to this matrix.
+     *
+     * @param other    matrix to be added or subtracted.
+     * @param subtract true to subtract, false to add.
+     * @throws WrongSizeException if provided matrix does not have the same
+     *                            size as this matrix.
+     */
+    private void combine(final OffHeapMatrix other, final boolean subtract) throws WrongSizeException {
+        if (other.rows != rows || other.columns != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var length = getLength();
+        final var blockLength = (int) Math.min(length, (long) BLOCK_SIZE * BLOCK_SIZE);
+        lockAccess();
+        try {
+            other.lockAccess();
+            try {
+                final var blocks = acquireScratch(2, blockLength);
+                final var block1 = blocks[0];
+                final var block2 = blocks[1];
+                for (long index = 0; index < length; index += blockLength) {
+                    final var count = (int) Math.min(blockLength, length - index);
+                    read(index, block1, 0, count);
+                    other.read(index, block2, 0, count);
+                    if (subtract) {
+                        Kernels.INSTANCE.subtract(block1, block2, block1, count);
+                    } else {
+                        Kernels.INSTANCE.sum(block1, block2, block1, count);
+                    }
+                    write(index, block1, 0, count);
+                }
+                releaseScratch(blocks);
+            } finally {
+                other.unlockAccess();
+            }
+        } finally {
+            unlockAccess();
+        }
+    }
+
+    /**
+     * Checks that provided block lies within this matrix.
+     *
+     * @param topLeftRow        top-left row index (inclusive).
+     * @param topLeftColumn     top-left column index (inclusive).
+     * @param bottomRightRow    bottom-right row index (inclusive).
+     * @param bottomRightColumn bottom-right column index (inclusive).
+     * @throws IllegalArgumentException if provided block is not valid.
+     */
+    private void checkBlock(final int topLeftRow, final int topLeftColumn, final int bottomRightRow,
+                            final int bottomRightColumn) {
+        if (topLeftRow < 0 || topLeftRow >= rows || topLeftColumn < 0 || topLeftColumn >= columns
+                || bottomRightRow < topLeftRow || bottomRightRow >= rows
+                || bottomRightColumn < topLeftColumn || bottomRightColumn >= columns) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Copies a block of this matrix into provided array using column order.
+     * Read lock must be held by caller.
+     *
+     * @param row          top-left row of block.
+     * @param column       top-left column of block.
+     * @param blockRows    number of rows of block.
+     * @param blockColumns number of columns of block.
+     * @param dst          array where block is copied.
+     */
+    private void readBlock(final int row, final int column, final int blockRows, final int blockColumns,
+                           final double[] dst) {
+        for (var j = 0; j < blockColumns; j++) {
+            read(getIndex(row, column + j), dst, j * blockRows, blockRows);
+        }
+    }
+
+    /**
+     * Copies provided array, in column order, into a block of this matrix.
+     * Read lock must be held by caller.
+     *
+     * @param row          top-left row of block.
+     * @param column       top-left column of block.
+     * @param blockRows    number of rows of block.
+     * @param blockColumns number of columns of block.
+     * @param src          array to copy from.
+     */
+    private void writeBlock(final int row, final int column, final int blockRows, final int blockColumns,
+                            final double[] src) {
+        for (var j = 0; j < blockColumns; j++) {
+            write(getIndex(row, column + j), src, j * blockRows, blockRows);
+        }
+    }
+
+    /**
+     * Copies consecutive elements of this matrix into provided array.
+     * Copied elements might span several chunks of memory. Read lock must be
+     * held by caller.
+     *
+     * @param index  index of first element to be copied.
+     * @param dst    array where elements are copied.
+     * @param offset position within array where first element is copied.
+     * @param length number of elements to be copied.
+     */
+    private void read(final long index, final double[] dst, final int offset, final int length) {
+        final var buffers = chunks;
+        var pos = index;
+        var off = offset;
+        var remaining = length;
+        while (remaining > 0) {
+            final var chunk = buffers[(int) (pos >>> chunkShift)];
+            final var start = (int) (pos & chunkMask);
+            final var count = Math.min(remaining, chunk.capacity() - start);
+            chunk.get(start, dst, off, count);
+            pos += count;
+            off += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Copies provided array elements into consecutive elements of this
+     * matrix.
+     * Copied elements might span several chunks of memory. Read lock must be
+     * held by caller.
+     *
+     * @param index  index of first element of this matrix to be written.
+     * @param src    array to copy from.
+     * @param offset position within array of first element to be copied.
+     * @param length number of elements to be copied.
+     */
+    private void write(final long index, final double[] src, final int offset, final int length) {
+        final var buffers = chunks;
+        var pos = index;
+        var off = offset;
+        var remaining = length;
+        while (remaining > 0) {
+            final var chunk = buffers[(int) (pos >>> chunkShift)];
+            final var start = (int) (pos & chunkMask);
+            final var count = Math.min(remaining, chunk.capacity() - start);
+            chunk.put(start, src, off, count);
+            pos += count;
+            off += count;
+            remaining -= count;
+        }
+    }
+}
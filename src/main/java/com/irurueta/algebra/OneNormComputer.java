@@ -65,6 +65,31 @@ public class OneNormComputer extends NormComputer {
         return maxColSum;
     }
 
+    /**
+     * Computes norm of provided matrix view without copying its data.
+     *
+     * @param m matrix view being used for norm computation.
+     * @return norm of provided matrix view.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    public static double norm(final MatrixView m) {
+        final var rows = m.getRows();
+        final var columns = m.getColumns();
+        double colSum;
+        var maxColSum = 0.0;
+
+        for (var j = 0; j < columns; j++) {
+            colSum = 0.0;
+            for (var i = 0; i < rows; i++) {
+                colSum += Math.abs(m.getElementAt(i, j));
+            }
+
+            maxColSum = Math.max(colSum, maxColSum);
+        }
+
+        return maxColSum;
+    }
+
     /**
      * Computes norm of provided matrix.
      *
@@ -76,6 +101,17 @@ public class OneNormComputer extends NormComputer {
         return norm(m);
     }
 
+    /**
+     * Computes norm of provided matrix view.
+     *
+     * @param m Matrix view being used for norm computation.
+     * @return Norm of provided matrix view.
+     */
+    @Override
+    public double getNorm(final MatrixView m) {
+        return norm(m);
+    }
+
     /**
      * Computes norm of provided array.
      *
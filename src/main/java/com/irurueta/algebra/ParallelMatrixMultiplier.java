@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Multiplies matrices using several threads of a fork/join pool.
+ * The result of a product is split into blocks of rows or columns that are
+ * computed concurrently. Only products whose number of multiply-add
+ * operations (rows x columns x inner size) reaches a configurable threshold
+ * are computed in parallel, so that small products (such as the 3x3 or 4x4
+ * products typically found in geometry) are never slowed down by task
+ * scheduling overhead.
+ * The maximum number of concurrent tasks used for each product can be
+ * limited, so that large products do not starve other work being executed
+ * in the same pool.
+ * Products computed in parallel are identical to those computed
+ * sequentially by {@link Matrix#multiply(Matrix, Matrix)}.
+ */
+public class ParallelMatrixMultiplier {
+
+    /**
+     * Default minimum number of multiply-add operations of a product to
+     * compute it in parallel.
+     */
+    public static final long DEFAULT_THRESHOLD = 128L * 128L * 128L;
+
+    /**
+     * Minimum allowed threshold.
+     */
+    public static final long MIN_THRESHOLD = 0;
+
+    /**
+     * Minimum allowed parallelism.
+     */
+    public static final int MIN_PARALLELISM = 1;
+
+    /**
+     * Pool where products are executed.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Maximum number of concurrent tasks used for each product.
+     */
+    private int parallelism;
+
+    /**
+     * Minimum number of multiply-add operations of a product to compute it in
+     * parallel.
+     */
+    private long threshold;
+
+    /**
+     * Constructor.
+     * Products are executed on the common pool using its parallelism.
+     */
+    public ParallelMatrixMultiplier() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * Products are executed on provided pool using its parallelism.
+     *
+     * @param pool pool where products are executed.
+     * @throws NullPointerException if provided pool is null.
+     */
+    public ParallelMatrixMultiplier(final ForkJoinPool pool) {
+        this(pool, pool.getParallelism());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool        pool where products are executed.
+     * @param parallelism maximum number of concurrent tasks used for each
+     *                    product.
+     * @throws NullPointerException     if provided pool is null.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     */
+    public ParallelMatrixMultiplier(final ForkJoinPool pool, final int parallelism) {
+        setPool(pool);
+        setParallelism(parallelism);
+        threshold = DEFAULT_THRESHOLD;
+    }
+
+    /**
+     * Gets pool where products are executed.
+     *
+     * @return pool where products are executed.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets pool where products are executed.
+     *
+     * @param pool pool where products are executed.
+     * @throws NullPointerException if provided pool is null.
+     */
+    public final void setPool(final ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Gets maximum number of concurrent tasks used for each product.
+     *
+     * @return maximum number of concurrent tasks used for each product.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets maximum number of concurrent tasks used for each product.
+     *
+     * @param parallelism maximum number of concurrent tasks used for each
+     *                    product.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     */
+    public final void setParallelism(final int parallelism) {
+        if (parallelism < MIN_PARALLELISM) {
+            throw new IllegalArgumentException();
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets minimum number of multiply-add operations (rows x columns x inner
+     * size) of a product to compute it in parallel. Smaller products are
+     * computed sequentially on the calling thread.
+     *
+     * @return minimum number of multiply-add operations to compute a product in
+     * parallel.
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets minimum number of multiply-add operations (rows x columns x inner
+     * size) of a product to compute it in parallel. Smaller products are
+     * computed sequentially on the calling thread.
+     *
+     * @param threshold minimum number of multiply-add operations to compute a
+     *                  product in parallel.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setThreshold(final long threshold) {
+        if (threshold < MIN_THRESHOLD) {
+            throw new IllegalArgumentException();
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Multiplies provided matrices and stores the result in provided result
+     * matrix. If provided result matrix doesn't have proper size, it will be
+     * resized.
+     *
+     * @param a      left operand.
+     * @param b      right operand.
+     * @param result matrix where result of product is stored. Must be a
+     *               different instance than provided operands.
+     * @throws WrongSizeException   if number of columns of left operand is not
+     *                              equal to number of rows of right operand.
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public void multiply(final Matrix a, final Matrix b, final Matrix result) throws WrongSizeException {
+        multiply(a, b, result, parallelism);
+    }
+
+    /**
+     * Multiplies provided matrices and stores the result in provided result
+     * matrix, using at most provided number of concurrent tasks. If provided
+     * result matrix doesn't have proper size, it will be resized.
+     *
+     * @param a           left operand.
+     * @param b           right operand.
+     * @param result      matrix where result of product is stored. Must be a
+     *                    different instance than provided operands.
+     * @param parallelism maximum number of concurrent tasks to be used for this
+     *                    product.
+     * @throws WrongSizeException       if number of columns of left operand is
+     *                                  not equal to number of rows of right operand.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     * @throws NullPointerException     if any of provided matrices is null.
+     */
+    public void multiply(final Matrix a, final Matrix b, final Matrix result, final int parallelism)
+            throws WrongSizeException {
+        if (parallelism < MIN_PARALLELISM) {
+            throw new IllegalArgumentException();
+        }
+
+        final var m = a.getRows();
+        final var k = a.getColumns();
+        final var n = b.getColumns();
+        if (k != b.getRows()) {
+            throw new WrongSizeException();
+        }
+
+        if (parallelism == MIN_PARALLELISM || (long) m * (long) n * (long) k < threshold
+                || !BlockedMatrixMultiplier.isBlockable(m, n, k)) {
+            a.multiply(b, result);
+            return;
+        }
+
+        // resize result if needed
+        if (result.getRows() != m || result.getColumns() != n) {
+            result.resize(m, n);
+        }
+
+        BlockedMatrixMultiplier.multiply(m, n, k, a.getBuffer(), 0, m, b.getBuffer(), 0, k,
+                result.getBuffer(), 0, m, pool, parallelism);
+    }
+
+    /**
+     * Multiplies provided matrices and returns the result as a new instance.
+     *
+     * @param a left operand.
+     * @param b right operand.
+     * @return a new matrix containing the result of the product.
+     * @throws WrongSizeException   if number of columns of left operand is not
+     *                              equal to number of rows of right operand.
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public Matrix multiplyAndReturnNew(final Matrix a, final Matrix b) throws WrongSizeException {
+        return multiplyAndReturnNew(a, b, parallelism);
+    }
+
+    /**
+     * Multiplies provided matrices using at most provided number of concurrent
+     * tasks and returns the result as a new instance.
+     *
+     * @param a           left operand.
+     * @param b           right operand.
+     * @param parallelism maximum number of concurrent tasks to be used for this
+     *                    product.
+     * @return a new matrix containing the result of the product.
+     * @throws WrongSizeException       if number of columns of left operand is
+     *                                  not equal to number of rows of right operand.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     * @throws NullPointerException     if any of provided matrices is null.
+     */
+    public Matrix multiplyAndReturnNew(final Matrix a, final Matrix b, final int parallelism)
+            throws WrongSizeException {
+        if (a.getColumns() != b.getRows()) {
+            throw new WrongSizeException();
+        }
+
+        final var out = new Matrix(a.getRows(), b.getColumns());
+        multiply(a, b, out, parallelism);
+        return out;
+    }
+}
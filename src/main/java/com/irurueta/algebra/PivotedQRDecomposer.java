@@ -0,0 +1,653 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+/**
+ * This decomposer computes column-pivoted QR decomposition (also known as
+ * rank-revealing QR decomposition) of any rectangular matrix, so that
+ * A * P = Q * R, where P is a permutation matrix, Q is a m x p matrix having
+ * orthonormal columns, R is a p x n upper trapezoidal matrix and
+ * p = min(m, n).
+ * At each step the remaining column having the largest norm is chosen as
+ * pivot, so that magnitudes of the diagonal of R are non-increasing. Hence,
+ * numerical rank of input matrix can be estimated as the number of diagonal
+ * elements of R that are not negligible, and null-space, basic least squares
+ * solutions and pseudo-inverse can be obtained at a fraction of the cost of
+ * Singular Value Decomposition, although rank estimates are not as reliable
+ * for some rare matrices.
+ * Decomposition is computed directly on the column-major buffer of data (see
+ * {@link HouseholderQRFactorizer}).
+ * Storage of decomposition results is kept and reused across calls on
+ * matrices having the same size.
+ */
+public class PivotedQRDecomposer extends Decomposer {
+
+    /**
+     * Constant defining minimum allowed tolerance to determine whether a
+     * diagonal element of R is negligible or not.
+     */
+    public static final double MIN_TOLERANCE = 0.0;
+
+    /**
+     * Internal matrix containing results of decomposition.
+     */
+    private Matrix qr;
+
+    /**
+     * Internal array containing diagonal of R.
+     */
+    private double[] rDiag;
+
+    /**
+     * Internal array containing permutation of columns.
+     */
+    private int[] perm;
+
+    /**
+     * Storage for decomposition results that is kept across decompositions so
+     * that it can be reused.
+     */
+    private Matrix qrStorage;
+
+    /**
+     * Storage for the diagonal of R that is kept across decompositions so that
+     * it can be reused.
+     */
+    private double[] rDiagStorage;
+
+    /**
+     * Storage for the permutation of columns that is kept across
+     * decompositions so that it can be reused.
+     */
+    private int[] permStorage;
+
+    /**
+     * Storage for triangular factors of the compact WY form of reflections
+     * that is kept across decompositions so that it can be reused.
+     */
+    private double[] tStorage;
+
+    /**
+     * Storage for norms of columns that is kept across decompositions so that
+     * it can be reused.
+     */
+    private double[] normsStorage;
+
+    /**
+     * Constructor of this class.
+     */
+    public PivotedQRDecomposer() {
+        super();
+    }
+
+    /**
+     * Constructor of this class.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     */
+    public PivotedQRDecomposer(final Matrix inputMatrix) {
+        super(inputMatrix);
+    }
+
+    /**
+     * Returns decomposer type corresponding to column-pivoted QR
+     * decomposition.
+     *
+     * @return Decomposer type.
+     */
+    @Override
+    public DecomposerType getDecomposerType() {
+        return DecomposerType.PIVOTED_QR_DECOMPOSITION;
+    }
+
+    /**
+     * Sets reference to input matrix to be decomposed.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     * @throws LockedException Exception thrown if attempting to call this
+     *                         method while this instance remains locked.
+     */
+    @Override
+    public void setInputMatrix(final Matrix inputMatrix) throws LockedException {
+        super.setInputMatrix(inputMatrix);
+        qr = null;
+        rDiag = null;
+        perm = null;
+    }
+
+    /**
+     * Returns boolean indicating whether decomposition has been computed and
+     * results can be retrieved.
+     * Attempting to retrieve decomposition results when not available, will
+     * probably raise a NotAvailableException.
+     *
+     * @return Boolean indicating whether decomposition has been computed and
+     * results can be retrieved.
+     */
+    @Override
+    public boolean isDecompositionAvailable() {
+        return qr != null;
+    }
+
+    /**
+     * This method computes column-pivoted QR decomposition of provided input
+     * matrix, which can have any size.
+     * In other words, if input matrix is A, then: A * P = Q * R
+     * Note: During execution of this method, this instance will be locked.
+     * Note: After execution of this method, decomposition will be available
+     * and operations such as retrieving Q, R and P, estimating rank or
+     * solving systems of linear equations will be able to be done. Attempting
+     * to call any of such operations before calling this method will raise a
+     * NotAvailableException because they require computation of decomposition
+     * first.
+     *
+     * @throws NotReadyException Exception thrown if attempting to call this
+     *                           method when this instance is not ready (i.e. no input matrix has been
+     *                           provided).
+     * @throws LockedException   Exception thrown if this decomposer is already
+     *                           locked before calling this method. Notice that this method will actually
+     *                           lock this instance while it is being executed.
+     */
+    @Override
+    public void decompose() throws NotReadyException, LockedException {
+
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        locked = true;
+
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+        qrStorage = copyInto(inputMatrix, qrStorage);
+        qr = qrStorage;
+
+        rDiagStorage = reuse(rDiagStorage, columns);
+        rDiag = rDiagStorage;
+        permStorage = reuse(permStorage, columns);
+        perm = permStorage;
+        tStorage = reuse(tStorage, HouseholderQRFactorizer.BLOCK_SIZE * Math.min(rows, columns));
+        normsStorage = reuse(normsStorage, 2 * columns);
+
+        HouseholderQRFactorizer.factorPivoted(rows, columns, qr.getBuffer(), rows, rDiag, tStorage, perm,
+                normsStorage);
+
+        locked = false;
+    }
+
+    /**
+     * Returns permutation of columns, so that column j of A * P is column
+     * perm[j] of input matrix A.
+     *
+     * @return permutation of columns.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     */
+    public int[] getPermutation() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+        return perm.clone();
+    }
+
+    /**
+     * Returns upper trapezoidal factor R, having min(rows, columns) rows and
+     * as many columns as input matrix.
+     *
+     * @return upper trapezoidal factor.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     */
+    public Matrix getR() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+        final var p = Math.min(rows, columns);
+        Matrix out = null;
+        try {
+            out = new Matrix(p, columns);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+
+        final var src = qr.getBuffer();
+        final var dst = out.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            final var length = Math.min(j, p);
+            System.arraycopy(src, j * rows, dst, j * p, length);
+            if (j < p) {
+                dst[j * p + j] = rDiag[j];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns orthogonal factor Q, having as many rows as input matrix and
+     * min(rows, columns) orthonormal columns.
+     *
+     * @return orthogonal factor.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     */
+    public Matrix getQ() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+        final var p = Math.min(rows, columns);
+        Matrix out = null;
+        try {
+            out = new Matrix(rows, p);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        HouseholderQRFactorizer.formQ(rows, columns, qr.getBuffer(), rows, tStorage, p, out.getBuffer(), rows);
+        return out;
+    }
+
+    /**
+     * Returns tolerance used by default to determine whether a diagonal
+     * element of R is negligible or not, which takes into account input matrix
+     * size, largest magnitude of the diagonal of R and machine precision.
+     *
+     * @return default tolerance.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     */
+    public double getNegligibleDiagonalThreshold() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+        final var largest = columns > 0 ? Math.abs(rDiag[0]) : 0.0;
+        return Math.max(rows, columns) * Math.ulp(1.0) * largest;
+    }
+
+    /**
+     * Returns effective numerical rank, which is estimated as the number of
+     * leading diagonal elements of R whose magnitude is larger than provided
+     * tolerance.
+     *
+     * @param tolerance tolerance to determine whether a diagonal element of R
+     *                  is negligible or not.
+     * @return effective numerical rank.
+     * @throws NotAvailableException    Exception thrown if attempting to call
+     *                                  this method before computing decomposition.
+     * @throws IllegalArgumentException Exception thrown if provided tolerance
+     *                                  is negative.
+     */
+    public int getRank(final double tolerance) throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+        if (tolerance < MIN_TOLERANCE) {
+            throw new IllegalArgumentException();
+        }
+
+        final var p = Math.min(inputMatrix.getRows(), inputMatrix.getColumns());
+        var rank = 0;
+        while (rank < p && Math.abs(rDiag[rank]) > tolerance) {
+            rank++;
+        }
+        return rank;
+    }
+
+    /**
+     * Returns effective numerical rank using default tolerance.
+     *
+     * @return effective numerical rank.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     * @see #getNegligibleDiagonalThreshold()
+     */
+    public int getRank() throws NotAvailableException {
+        return getRank(getNegligibleDiagonalThreshold());
+    }
+
+    /**
+     * Returns effective numerical nullity, so that rank + nullity is equal to
+     * the number of columns of input matrix.
+     *
+     * @param tolerance tolerance to determine whether a diagonal element of R
+     *                  is negligible or not.
+     * @return effective numerical nullity.
+     * @throws NotAvailableException    Exception thrown if attempting to call
+     *                                  this method before computing decomposition.
+     * @throws IllegalArgumentException Exception thrown if provided tolerance
+     *                                  is negative.
+     */
+    public int getNullity(final double tolerance) throws NotAvailableException {
+        return inputMatrix.getColumns() - getRank(tolerance);
+    }
+
+    /**
+     * Returns effective numerical nullity using default tolerance.
+     *
+     * @return effective numerical nullity.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     */
+    public int getNullity() throws NotAvailableException {
+        return getNullity(getNegligibleDiagonalThreshold());
+    }
+
+    /**
+     * Returns matrix whose orthonormal columns span null-space of input matrix.
+     * Leading rank rows of R (i.e. [R11 R12]) are decomposed again as
+     * [R11 R12]' = Z * T, so that last columns of orthogonal matrix Z,
+     * permuted by P, span null-space of input matrix.
+     *
+     * @param tolerance tolerance to determine whether a diagonal element of R
+     *                  is negligible or not.
+     * @return matrix containing null-space of input matrix.
+     * @throws NotAvailableException    Exception thrown if input matrix has full
+     *                                  column rank, and hence its nullity is zero, or if attempting to call this
+     *                                  method before computing decomposition.
+     * @throws IllegalArgumentException Exception thrown if provided tolerance
+     *                                  is negative.
+     */
+    public Matrix getNullspace(final double tolerance) throws NotAvailableException {
+        final var columns = inputMatrix.getColumns();
+        final var rank = getRank(tolerance);
+        final var nullity = columns - rank;
+        if (nullity == 0) {
+            throw new NotAvailableException();
+        }
+
+        // Z is formed completely, since null-space is spanned by its last
+        // columns
+        final var z = new double[columns * columns];
+        if (rank > 0) {
+            final var t = new double[HouseholderQRFactorizer.BLOCK_SIZE * rank];
+            final var s = decomposeRowSpace(rank, t);
+            HouseholderQRFactorizer.formQ(columns, rank, s, columns, t, columns, z, columns);
+        } else {
+            for (var j = 0; j < columns; j++) {
+                z[j * columns + j] = 1.0;
+            }
+        }
+
+        Matrix out = null;
+        try {
+            out = new Matrix(columns, nullity);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        final var buffer = out.getBuffer();
+        for (var j = 0; j < nullity; j++) {
+            final var start = (rank + j) * columns;
+            for (var i = 0; i < columns; i++) {
+                buffer[j * columns + perm[i]] = z[start + i];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns matrix whose orthonormal columns span null-space of input matrix
+     * using default tolerance.
+     *
+     * @return matrix containing null-space of input matrix.
+     * @throws NotAvailableException Exception thrown if input matrix has full
+     *                               column rank, and hence its nullity is zero, or if attempting to call this
+     *                               method before computing decomposition.
+     */
+    public Matrix getNullspace() throws NotAvailableException {
+        return getNullspace(getNegligibleDiagonalThreshold());
+    }
+
+    /**
+     * Returns Moore-Penrose pseudo-inverse of input matrix.
+     * Leading rank rows of R (i.e. [R11 R12]) are decomposed again as
+     * [R11 R12]' = Z * T, so that A * P = Q1 * T' * Z', where Q1 contains the
+     * leading rank columns of Q, and hence pinv(A) = P * Z * inv(T') * Q1'.
+     *
+     * @param tolerance tolerance to determine whether a diagonal element of R
+     *                  is negligible or not.
+     * @return pseudo-inverse, having as many rows as input matrix columns and
+     * as many columns as input matrix rows.
+     * @throws NotAvailableException    Exception thrown if attempting to call
+     *                                  this method before computing decomposition.
+     * @throws IllegalArgumentException Exception thrown if provided tolerance
+     *                                  is negative.
+     */
+    public Matrix getPseudoInverse(final double tolerance) throws NotAvailableException {
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+        final var rank = getRank(tolerance);
+
+        Matrix out = null;
+        try {
+            out = new Matrix(columns, rows);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        if (rank == 0) {
+            return out;
+        }
+
+        // W = Q1', where Q1 contains leading rank columns of Q
+        final var p = Math.min(rows, columns);
+        final var q = new double[rows * p];
+        HouseholderQRFactorizer.formQ(rows, columns, qr.getBuffer(), rows, tStorage, p, q, rows);
+        final var w = new double[columns * rows];
+        for (var j = 0; j < rows; j++) {
+            for (var i = 0; i < rank; i++) {
+                w[j * columns + i] = q[i * rows + j];
+            }
+        }
+
+        // W = Z * inv(T') * W, where W is padded with zeros below rank rows
+        final var t = new double[HouseholderQRFactorizer.BLOCK_SIZE * rank];
+        final var sDiag = new double[rank];
+        final var s = decomposeRowSpace(rank, t, sDiag);
+        TriangularSolver.solve(true, true, false, sDiag, rank, rows, s, 0, columns, w, 0, columns);
+        HouseholderQRFactorizer.applyQ(columns, rank, s, columns, t, rows, w, columns, null);
+
+        // rows are permuted back
+        final var buffer = out.getBuffer();
+        for (var j = 0; j < rows; j++) {
+            final var start = j * columns;
+            for (var i = 0; i < columns; i++) {
+                buffer[start + perm[i]] = w[start + i];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns Moore-Penrose pseudo-inverse of input matrix using default
+     * tolerance.
+     *
+     * @return pseudo-inverse, having as many rows as input matrix columns and
+     * as many columns as input matrix rows.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     */
+    public Matrix getPseudoInverse() throws NotAvailableException {
+        return getPseudoInverse(getNegligibleDiagonalThreshold());
+    }
+
+    /**
+     * Computes basic least squares solution of linear system of equations
+     * A * X = B, where A is the decomposed input matrix.
+     * Basic solution only uses as many columns of A as its rank, chosen by
+     * pivoting, while the remaining unknowns are set to zero. For matrices
+     * having full column rank, this is the least squares solution, otherwise
+     * it minimizes residual but not necessarily the norm of the solution (see
+     * {@link #getPseudoInverse(double)} for minimum norm solutions).
+     *
+     * @param b         Parameters matrix, having the same number of rows as input
+     *                  matrix. Each column represents a different system of equations.
+     * @param tolerance tolerance to determine whether a diagonal element of R
+     *                  is negligible or not.
+     * @param result    Matrix where solution of each system of equations will be
+     *                  stored on each column. Provided matrix will be resized if needed.
+     * @throws NotAvailableException    Exception thrown if attempting to call
+     *                                  this method before computing decomposition.
+     * @throws WrongSizeException       Exception thrown if provided parameters
+     *                                  matrix does not have the same number of rows as input matrix.
+     * @throws IllegalArgumentException Exception thrown if provided tolerance
+     *                                  is negative.
+     */
+    public void solve(final Matrix b, final double tolerance, final Matrix result) throws NotAvailableException,
+            WrongSizeException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+        final var colsB = b.getColumns();
+        if (b.getRows() != rows) {
+            throw new WrongSizeException();
+        }
+        final var rank = getRank(tolerance);
+
+        // Y = Q' * B, whose leading rank rows are R11 * X1
+        final var y = b.getBuffer().clone();
+        HouseholderQRFactorizer.applyQt(rows, columns, qr.getBuffer(), rows, tStorage, colsB, y, rows, null);
+        TriangularSolver.solve(true, false, false, rDiag, rank, colsB, qr.getBuffer(), 0, rows,
+                y, 0, rows);
+
+        if (result.getRows() != columns || result.getColumns() != colsB) {
+            result.resize(columns, colsB);
+        }
+        final var buffer = result.getBuffer();
+        for (var j = 0; j < colsB; j++) {
+            final var startY = j * rows;
+            final var startX = j * columns;
+            for (var i = 0; i < columns; i++) {
+                buffer[startX + perm[i]] = i < rank ? y[startY + i] : 0.0;
+            }
+        }
+    }
+
+    /**
+     * Computes basic least squares solution of linear system of equations
+     * A * X = B using default tolerance.
+     *
+     * @param b      Parameters matrix, having the same number of rows as input
+     *               matrix. Each column represents a different system of equations.
+     * @param result Matrix where solution of each system of equations will be
+     *               stored on each column. Provided matrix will be resized if needed.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     * @throws WrongSizeException    Exception thrown if provided parameters
+     *                               matrix does not have the same number of rows as input matrix.
+     * @see #solve(Matrix, double, Matrix)
+     */
+    public void solve(final Matrix b, final Matrix result) throws NotAvailableException, WrongSizeException {
+        solve(b, getNegligibleDiagonalThreshold(), result);
+    }
+
+    /**
+     * Computes basic least squares solution of linear system of equations
+     * A * X = B.
+     *
+     * @param b         Parameters matrix, having the same number of rows as input
+     *                  matrix. Each column represents a different system of equations.
+     * @param tolerance tolerance to determine whether a diagonal element of R
+     *                  is negligible or not.
+     * @return Matrix containing solution of each system of equations on each
+     * column.
+     * @throws NotAvailableException    Exception thrown if attempting to call
+     *                                  this method before computing decomposition.
+     * @throws WrongSizeException       Exception thrown if provided parameters
+     *                                  matrix does not have the same number of rows as input matrix.
+     * @throws IllegalArgumentException Exception thrown if provided tolerance
+     *                                  is negative.
+     * @see #solve(Matrix, double, Matrix)
+     */
+    public Matrix solve(final Matrix b, final double tolerance) throws NotAvailableException, WrongSizeException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var out = new Matrix(inputMatrix.getColumns(), b.getColumns());
+        solve(b, tolerance, out);
+        return out;
+    }
+
+    /**
+     * Computes basic least squares solution of linear system of equations
+     * A * X = B using default tolerance.
+     *
+     * @param b Parameters matrix, having the same number of rows as input
+     *          matrix. Each column represents a different system of equations.
+     * @return Matrix containing solution of each system of equations on each
+     * column.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing decomposition.
+     * @throws WrongSizeException    Exception thrown if provided parameters
+     *                               matrix does not have the same number of rows as input matrix.
+     * @see #solve(Matrix, double, Matrix)
+     */
+    public Matrix solve(final Matrix b) throws NotAvailableException, WrongSizeException {
+        return solve(b, getNegligibleDiagonalThreshold());
+    }
+
+    /**
+     * Decomposes transposed leading rank rows of R, so that
+     * [R11 R12]' = Z * T.
+     *
+     * @param rank number of leading rows of R.
+     * @param t    array where triangular factors of compact WY form of
+     *             reflections of Z will be stored.
+     * @return buffer containing decomposed columns x rank matrix.
+     */
+    private double[] decomposeRowSpace(final int rank, final double[] t) {
+        return decomposeRowSpace(rank, t, new double[rank]);
+    }
+
+    /**
+     * Decomposes transposed leading rank rows of R, so that
+     * [R11 R12]' = Z * T.
+     *
+     * @param rank  number of leading rows of R.
+     * @param t     array where triangular factors of compact WY form of
+     *              reflections of Z will be stored.
+     * @param sDiag array where diagonal of T will be stored.
+     * @return buffer containing decomposed columns x rank matrix.
+     */
+    private double[] decomposeRowSpace(final int rank, final double[] t, final double[] sDiag) {
+        final var rows = inputMatrix.getRows();
+        final var columns = inputMatrix.getColumns();
+        final var src = qr.getBuffer();
+        final var s = new double[columns * rank];
+        for (var i = 0; i < rank; i++) {
+            // column i of S is row i of R
+            final var start = i * columns;
+            s[start + i] = rDiag[i];
+            for (var j = i + 1; j < columns; j++) {
+                s[start + j] = src[j * rows + i];
+            }
+        }
+        HouseholderQRFactorizer.factor(columns, rank, s, columns, sDiag, t, null);
+        return s;
+    }
+}
@@ -20,6 +20,16 @@ package com.irurueta.algebra;
  * provided input matrix into an orthogonal matrix (Q) and an upper triangular
  * matrix (R). In other words, if input matrix is A, then:
  * A = Q * R
+ * Decomposition is computed by means of Householder reflections working in
+ * place on the column-major buffer of data (see
+ * {@link HouseholderQRFactorizer}), which is deterministic and numerically
+ * stable even for ill-conditioned matrices.
+ * Orthogonal factor Q is kept implicitly as a product of reflections, so that
+ * systems of linear equations are solved without forming it. Q and R are only
+ * formed when {@link #getQ()} or {@link #getR()} are called. Signs are chosen
+ * so that the diagonal of R is non-negative.
+ * Storage of decomposition results is kept and reused by later decompositions
+ * of matrices having the same size.
  */
 @SuppressWarnings("DuplicatedCode")
 public class QRDecomposer extends Decomposer {
@@ -37,15 +47,52 @@ public class QRDecomposer extends Decomposer {
     public static final double MIN_ROUND_ERROR = 0.0;
 
     /**
-     * Internal matrix containing Q factor.
+     * Internal matrix containing Householder vectors below its diagonal and
+     * strict upper triangle of R.
+     */
+    private Matrix qr;
+
+    /**
+     * Internal array containing diagonal of R before making it non-negative.
+     */
+    private double[] rDiag;
+
+    /**
+     * Internal matrix containing Q factor, which is only formed when
+     * requested.
      */
     private Matrix q;
 
     /**
-     * Internal matrix containing R factor.
+     * Internal matrix containing R factor, which is only formed when
+     * requested.
      */
     private Matrix r;
 
+    /**
+     * Storage for Householder vectors that is kept across decompositions so
+     * that it can be reused.
+     */
+    private Matrix qrStorage;
+
+    /**
+     * Storage for diagonal of R that is kept across decompositions so that it
+     * can be reused.
+     */
+    private double[] rDiagStorage;
+
+    /**
+     * Storage for triangular factors of the compact WY form of reflections
+     * that is kept across decompositions so that it can be reused.
+     */
+    private double[] tStorage;
+
+    /**
+     * Storage for right hand sides being solved that is kept across calls so
+     * that it can be reused.
+     */
+    private Matrix solveStorage;
+
     /**
      * Boolean indicating whether decomposed matrix is singular.
      */
@@ -56,7 +103,8 @@ public class QRDecomposer extends Decomposer {
      */
     public QRDecomposer() {
         super();
-        q = r = null;
+        qr = q = r = null;
+        rDiag = null;
         sing = false;
     }
 
@@ -67,7 +115,8 @@ public class QRDecomposer extends Decomposer {
      */
     public QRDecomposer(final Matrix inputMatrix) {
         super(inputMatrix);
-        q = r = null;
+        qr = q = r = null;
+        rDiag = null;
         sing = false;
     }
 
@@ -91,7 +140,8 @@ public class QRDecomposer extends Decomposer {
     @Override
     public void setInputMatrix(final Matrix inputMatrix) throws LockedException {
         super.setInputMatrix(inputMatrix);
-        q = r = null;
+        qr = q = r = null;
+        rDiag = null;
         sing = false;
     }
 
@@ -106,33 +156,32 @@ public class QRDecomposer extends Decomposer {
      */
     @Override
     public boolean isDecompositionAvailable() {
-        return q != null || r != null;
+        return qr != null;
     }
 
     /**
-     * This method computes LU matrix decomposition, which consists on
-     * retrieving two triangular matrices (Lower triangular and Upper
-     * triangular) as a decomposition of provided input matrix.
-     * In other words, if input matrix is A, then: A = L * U
+     * This method computes QR matrix decomposition, which consists on
+     * retrieving an orthogonal matrix (Q) and an upper triangular matrix (R)
+     * as a decomposition of provided input matrix.
+     * In other words, if input matrix is A, then: A = Q * R
      * Note: During execution of this method, this instance will be locked,
      * and hence attempting to set some parameters might raise a
      * LockedException.
-     * Note: After execution of this method, LU decomposition will be
-     * available and operations such as retrieving L and U matrices or
-     * computing determinants among others will be able to be done.
-     * Attempting to call any of such operations before calling this method
-     * will raise a NotAvailableException because they require computation of
-     * LU decomposition first.
+     * Note: After execution of this method, QR decomposition will be
+     * available and operations such as retrieving Q and R matrices or
+     * solving systems of linear equations among others will be able to be
+     * done. Attempting to call any of such operations before calling this
+     * method will raise a NotAvailableException because they require
+     * computation of QR decomposition first.
      *
      * @throws NotReadyException   Exception thrown if attempting to call this
      *                             method when this instance is not ready (i.e. no input matrix has been
      *                             provided).
      * @throws LockedException     Exception thrown if attempting to call this
-     *                             method when this instance is not ready (i.e. no input matrix has been
-     *                             provided).
+     *                             method when this instance is locked.
      * @throws DecomposerException Exception thrown if for any reason
-     *                             decomposition fails while executing, like when convergence of results
-     *                             can not be obtained, etc.
+     *                             decomposition fails while executing, like when provided input matrix has
+     *                             less rows than columns.
      */
     @Override
     public void decompose() throws NotReadyException, LockedException, DecomposerException {
@@ -144,75 +193,24 @@ public class QRDecomposer extends Decomposer {
             throw new LockedException();
         }
 
-        locked = true;
-
         final var rows = inputMatrix.getRows();
         final var columns = inputMatrix.getColumns();
         if (rows < columns) {
             throw new DecomposerException();
         }
 
-        double norm;
-        double prod;
-        try {
-            // initialize Q with some random values (within range of 1 to keep
-            // high accuracy
-            q = Matrix.createWithUniformRandomValues(rows, rows, 0.5, 1.0);
-            r = new Matrix(rows, columns);
-            // initialize factor R to zero (because it will be diagonal)
-            r.initialize(0.0);
-        } catch (final WrongSizeException ignore) {
-            // never happens
-        }
+        locked = true;
 
-        // Copy contents of input matrix to Q matrix (which is bigger than input
-        // matrix) on top-left area.
-        q.setSubmatrix(0, 0, rows - 1, columns - 1, inputMatrix);
-
-        // Construct QR decomposition by means of Gram-Schmidt
-        for (var j = 0; j < rows; j++) {
-            // Find orthogonal base by means of Gram-Schmidt of all rows of Q
-            // Previous columns of Q will contain already normalized vectors,
-            // while column J must be made orthogonal and then normalized
-            for (var k = 0; k < j; k++) {
-                // compute scalar product of previous k-th orthonormal Q column
-                // with current input matrix j-th column
-                prod = 0.0;
-                for (var i = 0; i < rows; i++) {
-                    prod += q.getElementAt(i, k) * q.getElementAt(i, j);
-                }
+        // copy matrix contents
+        qrStorage = copyInto(inputMatrix, qrStorage);
+        rDiagStorage = reuse(rDiagStorage, columns);
+        tStorage = reuse(tStorage, HouseholderQRFactorizer.BLOCK_SIZE * columns);
 
-                // Update R factor with obtained dot product at location (k, j)
-                // (only within r limits when j < columns)
-                if (j < columns) {
-                    r.setElementAt(k, j, prod);
-                }
+        HouseholderQRFactorizer.factor(rows, columns, qrStorage.getBuffer(), rows, rDiagStorage, tStorage, null);
 
-                // Update j-th column of Q by subtracting obtained dot product
-                // respect to previous k-th orthonormal column, on the direction
-                // of this latter column.
-                for (var i = 0; i < rows; i++) {
-                    q.setElementAt(i, j, q.getElementAt(i, j) -
-                            prod * q.getElementAt(i, k));
-                }
-            }
-            // Normalize column j of Q after computing orthogonal Q column to
-            // make it orthonormal
-            norm = 0.0;
-            for (var i = 0; i < rows; i++) {
-                norm += Math.pow(q.getElementAt(i, j), 2.0); // compute norm
-            }
-            norm = Math.sqrt(norm);
-            for (var i = 0; i < rows; i++) {
-                q.setElementAt(i, j, q.getElementAt(i, j) / norm); // normalize
-            }
-
-            // update R factor diagonal with obtained norm (only within r limits
-            // when j < columns)
-            if (j < columns) {
-                r.setElementAt(j, j, norm);
-            }
-        }
+        qr = qrStorage;
+        rDiag = rDiagStorage;
+        q = r = null;
 
         locked = false;
     }
@@ -279,7 +277,7 @@ public class QRDecomposer extends Decomposer {
         final var minSize = Math.min(rows, columns);
 
         for (var j = 0; j < minSize; j++) {
-            if (Math.abs(r.getElementAt(j, j)) <= roundingError) {
+            if (Math.abs(rDiag[j]) <= roundingError) {
                 return false;
             }
         }
@@ -291,6 +289,8 @@ public class QRDecomposer extends Decomposer {
      * Returns upper triangular factor matrix.
      * QR decomposition decomposes input matrix into Q (orthogonal matrix) and
      * R, which is an upper triangular matrix.
+     * Factor is formed the first time this method is called after computing
+     * decomposition.
      *
      * @return Upper triangular factor matrix.
      * @throws NotAvailableException Exception thrown if attempting to call this
@@ -303,6 +303,27 @@ public class QRDecomposer extends Decomposer {
             throw new NotAvailableException();
         }
 
+        if (r == null) {
+            final var rows = inputMatrix.getRows();
+            final var columns = inputMatrix.getColumns();
+            try {
+                r = new Matrix(rows, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+
+            // rows whose diagonal element is negative are negated, along with
+            // their corresponding columns of Q
+            final var src = qr.getBuffer();
+            final var dst = r.getBuffer();
+            for (var j = 0; j < columns; j++) {
+                final var start = j * rows;
+                for (var i = 0; i < j; i++) {
+                    dst[start + i] = rDiag[i] < 0.0 ? -src[start + i] : src[start + i];
+                }
+                dst[start + j] = Math.abs(rDiag[j]);
+            }
+        }
         return r;
     }
 
@@ -310,6 +331,8 @@ public class QRDecomposer extends Decomposer {
      * Returns the economy-sized orthogonal factor matrix.
      * QR decomposition decomposes input matrix into Q, which is an orthogonal
      * matrix and R (upper triangular matrix).
+     * Factor is formed from the Householder reflections the first time this
+     * method is called after computing decomposition.
      *
      * @return Orthogonal factor matrix.
      * @throws NotAvailableException Exception thrown if attempting to call this
@@ -322,6 +345,26 @@ public class QRDecomposer extends Decomposer {
             throw new NotAvailableException();
         }
 
+        if (q == null) {
+            final var rows = inputMatrix.getRows();
+            final var columns = inputMatrix.getColumns();
+            try {
+                q = new Matrix(rows, rows);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+
+            final var buffer = q.getBuffer();
+            HouseholderQRFactorizer.formQ(rows, columns, qr.getBuffer(), rows, tStorage, rows, buffer, rows);
+            for (var j = 0; j < columns; j++) {
+                if (rDiag[j] < 0.0) {
+                    final var start = j * rows;
+                    for (var i = 0; i < rows; i++) {
+                        buffer[start + i] = -buffer[start + i];
+                    }
+                }
+            }
+        }
         return q;
     }
 
@@ -428,7 +471,6 @@ public class QRDecomposer extends Decomposer {
         final var columns = inputMatrix.getColumns();
         final var rowsB = b.getRows();
         final var colsB = b.getColumns();
-        double sum;
 
         if (rowsB != rows) {
             throw new WrongSizeException();
@@ -443,8 +485,11 @@ public class QRDecomposer extends Decomposer {
             throw new RankDeficientMatrixException();
         }
 
-        // Compute Y = Q' * B
-        final var y = q.transposeAndReturnNew().multiplyAndReturnNew(b);
+        // Compute Y = Q' * B by applying Householder reflections
+        solveStorage = copyInto(b, solveStorage);
+        final var yBuffer = solveStorage.getBuffer();
+        final var qrBuffer = qr.getBuffer();
+        HouseholderQRFactorizer.applyQt(rows, columns, qrBuffer, rows, tStorage, colsB, yBuffer, rows, null);
 
         // resize result matrix if needed
         if (result.getRows() != columns || result.getColumns() != colsB) {
@@ -452,19 +497,17 @@ public class QRDecomposer extends Decomposer {
         }
 
         // Solve R * X = Y
+        // for overdetermined systems R has rows > columns, so we use only
+        // first columns rows, which contain upper diagonal data of R, the
+        // remaining rows of R are just zero.
+        TriangularSolver.solve(true, false, false, rDiag, columns, colsB, qrBuffer, 0, rows,
+                yBuffer, 0, rows);
+
         // Each column of B will be a column of out (i.e. a solution of the
         // linear system of equations)
-        for (var j2 = 0; j2 < colsB; j2++) {
-            // for overdetermined systems R has rows > columns, so we use only
-            // first columns rows, which contain upper diagonal data of R, the
-            // remaining rows of R are just zero.
-            for (var i = columns - 1; i >= 0; i--) {
-                sum = y.getElementAt(i, j2);
-                for (var j = i + 1; j < columns; j++) {
-                    sum -= r.getElementAt(i, j) * result.getElementAt(j, j2);
-                }
-                result.setElementAt(i, j2, sum / r.getElementAt(i, i));
-            }
+        final var x = result.getBuffer();
+        for (var j = 0; j < colsB; j++) {
+            System.arraycopy(yBuffer, j * rows, x, j * columns, columns);
         }
     }
 
@@ -24,6 +24,12 @@ package com.irurueta.algebra;
  * matrix, S is an n-by-n diagonal matrix containing singular values, and V'
  * denotes the transpose/conjugate of V and is an n-by-n unary matrix, for
  * m &lt; n.
+ * Storage of internal scratch arrays is kept and reused by later
+ * decompositions of matrices having the same size. Storage of decomposition
+ * factors can be reused as well (see {@link #setStorageReused(boolean)}), in
+ * which case factors returned by this instance will be overwritten when a new
+ * decomposition is computed. By default, new factors are allocated on each
+ * decomposition.
  */
 @SuppressWarnings("DuplicatedCode")
 public class SingularValueDecomposer extends Decomposer {
@@ -88,6 +94,55 @@ public class SingularValueDecomposer extends Decomposer {
      */
     private int maxIters;
 
+    /**
+     * Storage for U factor that is kept across decompositions so that it can
+     * be reused.
+     */
+    private Matrix uStorage;
+
+    /**
+     * Storage for V factor that is kept across decompositions so that it can
+     * be reused.
+     */
+    private Matrix vStorage;
+
+    /**
+     * Storage for singular values that is kept across decompositions so that
+     * it can be reused.
+     */
+    private double[] wStorage;
+
+    /**
+     * Scratch array reused during decomposition and when solving systems of
+     * equations when storage reuse is enabled.
+     */
+    private double[] scratch1;
+
+    /**
+     * Scratch array reused during decomposition when storage reuse is
+     * enabled.
+     */
+    private double[] scratch2;
+
+    /**
+     * Scratch array reused when solving systems of equations having multiple
+     * columns when storage reuse is enabled.
+     */
+    private double[] columnStorage;
+
+    /**
+     * Scratch array reused to store the solution of each column when solving
+     * systems of equations having multiple columns when storage reuse is
+     * enabled.
+     */
+    private double[] solutionStorage;
+
+    /**
+     * Indicates whether storage of decomposition factors is reused by later
+     * decompositions.
+     */
+    private boolean storageReused;
+
     /**
      * Constructor of this class.
      */
@@ -153,6 +208,38 @@ public class SingularValueDecomposer extends Decomposer {
         return DecomposerType.SINGULAR_VALUE_DECOMPOSITION;
     }
 
+    /**
+     * Indicates whether storage of factors returned by {@link #getU()},
+     * {@link #getV()} and {@link #getSingularValues()} is reused by later
+     * decompositions of matrices having the same size.
+     *
+     * @return true if storage of factors is reused, false otherwise.
+     */
+    public boolean isStorageReused() {
+        return storageReused;
+    }
+
+    /**
+     * Specifies whether storage of factors returned by {@link #getU()},
+     * {@link #getV()} and {@link #getSingularValues()} is reused by later
+     * decompositions of matrices having the same size.
+     * When enabled, decompositions and solutions do not allocate memory once
+     * storage has grown, but factors previously returned by this instance are
+     * overwritten by later decompositions, and scratch arrays used when
+     * solving are shared, so that this instance must not be used by several
+     * threads at once. By default, storage is not reused and solving systems
+     * of equations on a decomposed instance has no side effects.
+     *
+     * @param storageReused true to reuse storage of factors, false otherwise.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setStorageReused(final boolean storageReused) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.storageReused = storageReused;
+    }
+
     /**
      * Sets reference to input matrix to be decomposed.
      *
@@ -225,10 +312,14 @@ public class SingularValueDecomposer extends Decomposer {
         final var n = inputMatrix.getColumns();
 
         // copy input matrix into U
-        u = new Matrix(inputMatrix);
-        w = new double[n];
+        uStorage = copyInto(inputMatrix, storageReused ? uStorage : null);
+        u = uStorage;
+        wStorage = reuse(storageReused ? wStorage : null, n);
+        w = wStorage;
         try {
-            v = new Matrix(n, n);
+            vStorage = reuse(storageReused ? vStorage : null, n, n);
+            vStorage.initialize(0.0);
+            v = vStorage;
         } catch (final WrongSizeException ignore) {
             // never happens
         }
@@ -315,6 +406,8 @@ public class SingularValueDecomposer extends Decomposer {
      * A = U * S * V'.
      * Where A is provided input matrix of size m-by-n and U is an m-by-n
      * unary matrix for m &lt; n.
+     * If storage reuse is enabled, returned matrix is overwritten by later
+     * decompositions of matrices having the same size.
      *
      * @return Matrix instance containing the left singular vectors from a
      * Singular Value decomposition.
@@ -337,6 +430,8 @@ public class SingularValueDecomposer extends Decomposer {
      * A = U * S * V',
      * Where A is provided input matrix of size m-by-n and V' denotes the
      * transpose/conjugate of V, which is an n-by-n unary matrix for m &lt; n.
+     * If storage reuse is enabled, returned matrix is overwritten by later
+     * decompositions of matrices having the same size.
      *
      * @return Matrix instance containing the right singular vectors from a
      * Singular Value decomposition.
@@ -358,6 +453,8 @@ public class SingularValueDecomposer extends Decomposer {
      * Returned vector is equal to the diagonal of S matrix within expression:
      * A = U * S * V' where A is provided input matrix and S is a diagonal
      * matrix containing singular values on its diagonal.
+     * If storage reuse is enabled, returned array is overwritten by later
+     * decompositions of matrices having the same size.
      *
      * @return singular values.
      * @throws NotAvailableException if decomposition has not yet been computed.
@@ -893,8 +990,17 @@ public class SingularValueDecomposer extends Decomposer {
         final var n = inputMatrix.getColumns();
         final var p = b.getColumns();
 
-        final var bcol = new double[m];
-        double[] xx;
+        final double[] bcol;
+        final double[] xx;
+        if (storageReused) {
+            columnStorage = reuse(columnStorage, m);
+            solutionStorage = reuse(solutionStorage, n);
+            bcol = columnStorage;
+            xx = solutionStorage;
+        } else {
+            bcol = new double[m];
+            xx = new double[n];
+        }
 
         // resize result matrix if needed
         if (result.getRows() != n || result.getColumns() != p) {
@@ -906,7 +1012,7 @@ public class SingularValueDecomposer extends Decomposer {
                 bcol[i] = b.getElementAt(i, j);
             }
 
-            xx = solve(bcol, singularValueThreshold);
+            solve(bcol, singularValueThreshold, xx);
             // set column j of X using values in vector xx
             result.setSubmatrix(0, j, n - 1, j, xx);
         }
@@ -1091,7 +1197,13 @@ public class SingularValueDecomposer extends Decomposer {
         }
 
         double s;
-        final var tmp = new double[n];
+        final double[] tmp;
+        if (storageReused) {
+            scratch1 = ensureCapacity(scratch1, n);
+            tmp = scratch1;
+        } else {
+            tmp = new double[n];
+        }
 
         for (var j = 0; j < n; j++) {
             s = 0.0;
@@ -1266,7 +1378,13 @@ public class SingularValueDecomposer extends Decomposer {
         double x;
         double y;
         double z;
-        var rv1 = new double[n];
+        final double[] rv1;
+        if (storageReused) {
+            scratch1 = ensureCapacity(scratch1, n);
+            rv1 = scratch1;
+        } else {
+            rv1 = new double[n];
+        }
 
         // Householder reduction to bi-diagonal form
         g = scale = anorm = 0.0;
@@ -1527,8 +1645,17 @@ public class SingularValueDecomposer extends Decomposer {
         int s;
         var inc = 1;
         double sw;
-        final var su = new double[m];
-        final var sv = new double[n];
+        final double[] su;
+        final double[] sv;
+        if (storageReused) {
+            scratch1 = ensureCapacity(scratch1, m);
+            scratch2 = ensureCapacity(scratch2, n);
+            su = scratch1;
+            sv = scratch2;
+        } else {
+            su = new double[m];
+            sv = new double[n];
+        }
 
         do {
             inc *= 3;
@@ -0,0 +1,613 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Defines a sparse matrix stored using compressed sparse column (CSC) format.
+ * Only non-zero elements are stored, hence memory and time required by
+ * operations scale with the number of non-zero elements rather than with the
+ * size of the matrix.
+ * Non-zero elements of each column are stored consecutively, sorted by row.
+ * Column pointers indicate the position where each column starts, and the
+ * last column pointer contains the number of stored elements.
+ * Sparse matrices are immutable except for products by scalar. They are
+ * created using a {@link Builder} or from a dense matrix.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class SparseMatrix implements Serializable {
+
+    /**
+     * Number of matrix rows.
+     */
+    private final int rows;
+
+    /**
+     * Number of matrix columns.
+     */
+    private final int columns;
+
+    /**
+     * Position within row indices and values where each column starts.
+     * Contains columns + 1 elements.
+     */
+    private final int[] columnPointers;
+
+    /**
+     * Row of each stored element.
+     */
+    private final int[] rowIndices;
+
+    /**
+     * Value of each stored element.
+     */
+    private final double[] values;
+
+    /**
+     * Constructor.
+     * Provided arrays are not copied.
+     *
+     * @param rows           number of rows.
+     * @param columns        number of columns.
+     * @param columnPointers position where each column starts.
+     * @param rowIndices     row of each stored element.
+     * @param values         value of each stored element.
+     */
+    private SparseMatrix(final int rows, final int columns, final int[] columnPointers, final int[] rowIndices,
+                         final double[] values) {
+        this.rows = rows;
+        this.columns = columns;
+        this.columnPointers = columnPointers;
+        this.rowIndices = rowIndices;
+        this.values = values;
+    }
+
+    /**
+     * Creates a sparse matrix containing the non-zero elements of provided
+     * dense matrix.
+     *
+     * @param m dense matrix.
+     * @return a new sparse matrix.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static SparseMatrix newFromMatrix(final Matrix m) {
+        final var rows = m.getRows();
+        final var columns = m.getColumns();
+        final var buffer = m.getBuffer();
+
+        final var columnPointers = new int[columns + 1];
+        var nonZeros = 0;
+        for (var j = 0; j < columns; j++) {
+            final var col = j * rows;
+            for (var i = 0; i < rows; i++) {
+                if (buffer[col + i] != 0.0) {
+                    nonZeros++;
+                }
+            }
+            columnPointers[j + 1] = nonZeros;
+        }
+
+        final var rowIndices = new int[nonZeros];
+        final var values = new double[nonZeros];
+        var pos = 0;
+        for (var j = 0; j < columns; j++) {
+            final var col = j * rows;
+            for (var i = 0; i < rows; i++) {
+                final var value = buffer[col + i];
+                if (value != 0.0) {
+                    rowIndices[pos] = i;
+                    values[pos] = value;
+                    pos++;
+                }
+            }
+        }
+
+        return new SparseMatrix(rows, columns, columnPointers, rowIndices, values);
+    }
+
+    /**
+     * Returns number of rows in matrix.
+     *
+     * @return number of rows in matrix.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns number of columns in matrix.
+     *
+     * @return number of columns in matrix.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns number of stored elements.
+     *
+     * @return number of stored elements.
+     */
+    public int getNonZeros() {
+        return columnPointers[columns];
+    }
+
+    /**
+     * Returns internal array containing the position where each column
+     * starts within row indices and values. This array must not be modified.
+     *
+     * @return column pointers.
+     */
+    public int[] getColumnPointers() {
+        return columnPointers;
+    }
+
+    /**
+     * Returns internal array containing the row of each stored element. This
+     * array must not be modified.
+     *
+     * @return row indices.
+     */
+    public int[] getRowIndices() {
+        return rowIndices;
+    }
+
+    /**
+     * Returns internal array containing the value of each stored element.
+     *
+     * @return values.
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Obtains element in matrix located at provided position.
+     * Elements of each column are found by binary search.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element, or zero if it is not stored.
+     * @throws IllegalArgumentException if provided position lies outside
+     *                                  the matrix.
+     */
+    public double getElementAt(final int row, final int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException();
+        }
+
+        final var pos = Arrays.binarySearch(rowIndices, columnPointers[column], columnPointers[column + 1], row);
+        return pos >= 0 ? values[pos] : 0.0;
+    }
+
+    /**
+     * Multiplies all stored elements by provided scalar.
+     *
+     * @param scalar scalar value.
+     */
+    public void multiplyByScalar(final double scalar) {
+        final var nonZeros = getNonZeros();
+        for (var i = 0; i < nonZeros; i++) {
+            values[i] *= scalar;
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided dense vector and stores the result
+     * into provided array.
+     *
+     * @param x      vector to be multiplied. Must have the length of the number
+     *               of columns of this matrix.
+     * @param result array where result is stored. Must have the length of
+     *               the number of rows of this matrix.
+     * @throws WrongSizeException   if provided arrays do not have proper
+     *                              length.
+     * @throws NullPointerException if any of provided arrays is null.
+     */
+    public void multiply(final double[] x, final double[] result) throws WrongSizeException {
+        if (x.length != columns || result.length != rows) {
+            throw new WrongSizeException();
+        }
+
+        Arrays.fill(result, 0.0);
+        for (var j = 0; j < columns; j++) {
+            final var xj = x[j];
+            if (xj != 0.0) {
+                for (var p = columnPointers[j]; p < columnPointers[j + 1]; p++) {
+                    result[rowIndices[p]] += values[p] * xj;
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided dense vector.
+     *
+     * @param x vector to be multiplied. Must have the length of the number of
+     *          columns of this matrix.
+     * @return a new array containing the result.
+     * @throws WrongSizeException   if provided array does not have proper
+     *                              length.
+     * @throws NullPointerException if provided array is null.
+     */
+    public double[] multiplyAndReturnNew(final double[] x) throws WrongSizeException {
+        final var result = new double[rows];
+        multiply(x, result);
+        return result;
+    }
+
+    /**
+     * Multiplies the transpose of this matrix by provided dense vector and
+     * stores the result into provided array.
+     * This does not require transposing the matrix, as each element of the
+     * result is the dot product of a column of this matrix and provided vector.
+     *
+     * @param x      vector to be multiplied. Must have the length of the number
+     *               of rows of this matrix.
+     * @param result array where result is stored. Must have the length of
+     *               the number of columns of this matrix.
+     * @throws WrongSizeException   if provided arrays do not have proper
+     *                              length.
+     * @throws NullPointerException if any of provided arrays is null.
+     */
+    public void multiplyTransposed(final double[] x, final double[] result) throws WrongSizeException {
+        if (x.length != rows || result.length != columns) {
+            throw new WrongSizeException();
+        }
+
+        for (var j = 0; j < columns; j++) {
+            var sum = 0.0;
+            for (var p = columnPointers[j]; p < columnPointers[j + 1]; p++) {
+                sum += values[p] * x[rowIndices[p]];
+            }
+            result[j] = sum;
+        }
+    }
+
+    /**
+     * Multiplies the transpose of this matrix by provided dense vector.
+     *
+     * @param x vector to be multiplied. Must have the length of the number of
+     *          rows of this matrix.
+     * @return a new array containing the result.
+     * @throws WrongSizeException   if provided array does not have proper
+     *                              length.
+     * @throws NullPointerException if provided array is null.
+     */
+    public double[] multiplyTransposedAndReturnNew(final double[] x) throws WrongSizeException {
+        final var result = new double[columns];
+        multiplyTransposed(x, result);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided dense matrix and stores the result
+     * into provided matrix. Result is resized if needed.
+     *
+     * @param other  dense matrix to be multiplied.
+     * @param result dense matrix where result is stored. Must not be provided
+     *               dense matrix.
+     * @throws WrongSizeException       if number of rows of provided matrix is
+     *                                  not equal to number of columns of this matrix.
+     * @throws IllegalArgumentException if result is provided dense matrix.
+     * @throws NullPointerException     if any of provided matrices is null.
+     */
+    public void multiply(final Matrix other, final Matrix result) throws WrongSizeException {
+        if (other.getRows() != columns) {
+            throw new WrongSizeException();
+        }
+        if (other == result) {
+            throw new IllegalArgumentException();
+        }
+
+        final var n = other.getColumns();
+        if (result.getRows() != rows || result.getColumns() != n) {
+            result.resize(rows, n);
+        }
+
+        internalMultiply(other, result);
+    }
+
+    /**
+     * Multiplies this matrix by provided dense matrix.
+     *
+     * @param other dense matrix to be multiplied.
+     * @return a new dense matrix containing the result.
+     * @throws WrongSizeException   if number of rows of provided matrix is not
+     *                              equal to number of columns of this matrix.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix multiplyAndReturnNew(final Matrix other) throws WrongSizeException {
+        if (other.getRows() != columns) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new Matrix(rows, other.getColumns());
+        internalMultiply(other, result);
+        return result;
+    }
+
+    /**
+     * Transposes this matrix and returns the result as a new sparse matrix.
+     * Elements are distributed by row using a counting pass, so that
+     * transposition takes time proportional to the number of stored elements
+     * and the size of the matrix.
+     *
+     * @return transposed matrix.
+     */
+    public SparseMatrix transposeAndReturnNew() {
+        final var nonZeros = getNonZeros();
+
+        // count elements of each row
+        final var resultPointers = new int[rows + 1];
+        for (var p = 0; p < nonZeros; p++) {
+            resultPointers[rowIndices[p] + 1]++;
+        }
+        for (var i = 0; i < rows; i++) {
+            resultPointers[i + 1] += resultPointers[i];
+        }
+
+        // scatter elements, which are visited in column order, hence resulting
+        // rows are sorted
+        final var next = Arrays.copyOf(resultPointers, rows);
+        final var resultRowIndices = new int[nonZeros];
+        final var resultValues = new double[nonZeros];
+        for (var j = 0; j < columns; j++) {
+            for (var p = columnPointers[j]; p < columnPointers[j + 1]; p++) {
+                final var pos = next[rowIndices[p]]++;
+                resultRowIndices[pos] = j;
+                resultValues[pos] = values[p];
+            }
+        }
+
+        return new SparseMatrix(columns, rows, resultPointers, resultRowIndices, resultValues);
+    }
+
+    /**
+     * Converts this matrix into a dense matrix.
+     *
+     * @return a new dense matrix.
+     * @throws WrongSizeException if this matrix has too many elements to be
+     *                            stored as a dense matrix.
+     */
+    public Matrix toMatrix() throws WrongSizeException {
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new Matrix(rows, columns);
+        final var buffer = result.getBuffer();
+        for (var j = 0; j < columns; j++) {
+            final var col = j * rows;
+            for (var p = columnPointers[j]; p < columnPointers[j + 1]; p++) {
+                buffer[col + rowIndices[p]] = values[p];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided dense matrix and stores the result
+     * into provided matrix, which must already have proper size.
+     * Each column of the result is computed as a sparse combination of
+     * columns of this matrix.
+     *
+     * @param other  dense matrix to be multiplied.
+     * @param result dense matrix where result is stored.
+     */
+    private void internalMultiply(final Matrix other, final Matrix result) {
+        final var n = other.getColumns();
+        final var b = other.getBuffer();
+        final var c = result.getBuffer();
+
+        Arrays.fill(c, 0, rows * n, 0.0);
+        for (var k = 0; k < n; k++) {
+            final var colB = k * columns;
+            final var colC = k * rows;
+            for (var j = 0; j < columns; j++) {
+                final var bjk = b[colB + j];
+                if (bjk != 0.0) {
+                    for (var p = columnPointers[j]; p < columnPointers[j + 1]; p++) {
+                        c[colC + rowIndices[p]] += values[p] * bjk;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder of sparse matrices from triplets containing the row, column
+     * and value of each element.
+     * Triplets can be added in any order. Values of triplets at the same
+     * position are summed.
+     */
+    public static class Builder {
+
+        /**
+         * Initial capacity of arrays containing triplets.
+         */
+        private static final int DEFAULT_CAPACITY = 16;
+
+        /**
+         * Number of rows of matrix being built.
+         */
+        private final int rows;
+
+        /**
+         * Number of columns of matrix being built.
+         */
+        private final int columns;
+
+        /**
+         * Row of each triplet.
+         */
+        private int[] tripletRows;
+
+        /**
+         * Column of each triplet.
+         */
+        private int[] tripletColumns;
+
+        /**
+         * Value of each triplet.
+         */
+        private double[] tripletValues;
+
+        /**
+         * Number of added triplets.
+         */
+        private int size;
+
+        /**
+         * Constructor.
+         *
+         * @param rows    number of rows of matrix being built.
+         * @param columns number of columns of matrix being built.
+         * @throws WrongSizeException if number of rows or columns is zero or
+         *                            negative.
+         */
+        public Builder(final int rows, final int columns) throws WrongSizeException {
+            this(rows, columns, DEFAULT_CAPACITY);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param rows     number of rows of matrix being built.
+         * @param columns  number of columns of matrix being built.
+         * @param capacity expected number of triplets.
+         * @throws WrongSizeException       if number of rows or columns is zero
+         *                                  or negative.
+         * @throws IllegalArgumentException if capacity is negative.
+         */
+        public Builder(final int rows, final int columns, final int capacity) throws WrongSizeException {
+            if (rows <= 0 || columns <= 0) {
+                throw new WrongSizeException();
+            }
+            if (capacity < 0) {
+                throw new IllegalArgumentException();
+            }
+
+            this.rows = rows;
+            this.columns = columns;
+            tripletRows = new int[capacity];
+            tripletColumns = new int[capacity];
+            tripletValues = new double[capacity];
+        }
+
+        /**
+         * Adds a triplet.
+         *
+         * @param row    row of element.
+         * @param column column of element.
+         * @param value  value of element.
+         * @return this builder.
+         * @throws IllegalArgumentException if provided position lies outside
+         *                                  the matrix.
+         */
+        public Builder add(final int row, final int column, final double value) {
+            if (row < 0 || row >= rows || column < 0 || column >= columns) {
+                throw new IllegalArgumentException();
+            }
+
+            if (size == tripletRows.length) {
+                final var capacity = Math.max(DEFAULT_CAPACITY, 2 * size);
+                tripletRows = Arrays.copyOf(tripletRows, capacity);
+                tripletColumns = Arrays.copyOf(tripletColumns, capacity);
+                tripletValues = Arrays.copyOf(tripletValues, capacity);
+            }
+
+            tripletRows[size] = row;
+            tripletColumns[size] = column;
+            tripletValues[size] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Returns number of added triplets.
+         *
+         * @return number of added triplets.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Builds a sparse matrix containing added triplets.
+         * Triplets are sorted using two counting passes (by row and then by
+         * column), and triplets at the same position are summed, so that
+         * building takes time proportional to the number of triplets and the
+         * size of the matrix. This builder can still be used afterwards.
+         *
+         * @return a new sparse matrix.
+         */
+        public SparseMatrix build() {
+            // sort triplets by row
+            final var rowPointers = new int[rows + 1];
+            for (var t = 0; t < size; t++) {
+                rowPointers[tripletRows[t] + 1]++;
+            }
+            for (var i = 0; i < rows; i++) {
+                rowPointers[i + 1] += rowPointers[i];
+            }
+            final var byRow = new int[size];
+            final var nextRow = Arrays.copyOf(rowPointers, rows);
+            for (var t = 0; t < size; t++) {
+                byRow[nextRow[tripletRows[t]]++] = t;
+            }
+
+            // stable sort by column, so that rows are sorted within columns
+            final var columnPointers = new int[columns + 1];
+            for (var t = 0; t < size; t++) {
+                columnPointers[tripletColumns[t] + 1]++;
+            }
+            for (var j = 0; j < columns; j++) {
+                columnPointers[j + 1] += columnPointers[j];
+            }
+            final var sorted = new int[size];
+            final var nextColumn = Arrays.copyOf(columnPointers, columns);
+            for (final var t : byRow) {
+                sorted[nextColumn[tripletColumns[t]]++] = t;
+            }
+
+            // sum duplicates
+            final var rowIndices = new int[size];
+            final var values = new double[size];
+            final var resultPointers = new int[columns + 1];
+            var pos = 0;
+            for (var j = 0; j < columns; j++) {
+                final var start = pos;
+                for (var s = columnPointers[j]; s < columnPointers[j + 1]; s++) {
+                    final var t = sorted[s];
+                    if (pos > start && rowIndices[pos - 1] == tripletRows[t]) {
+                        values[pos - 1] += tripletValues[t];
+                    } else {
+                        rowIndices[pos] = tripletRows[t];
+                        values[pos] = tripletValues[t];
+                        pos++;
+                    }
+                }
+                resultPointers[j + 1] = pos;
+            }
+
+            return new SparseMatrix(rows, columns, resultPointers, Arrays.copyOf(rowIndices, pos),
+                    Arrays.copyOf(values, pos));
+        }
+    }
+}
@@ -0,0 +1,710 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Defines a square symmetric matrix using packed storage.
+ * Only the upper triangle (including the diagonal) is stored, column by
+ * column, hence element (i, j) with i &lt;= j is stored at position
+ * i + j * (j + 1) / 2 of the internal buffer. A symmetric matrix of size n
+ * requires n * (n + 1) / 2 elements, about half the memory of a dense matrix.
+ * Operations take advantage of symmetry: rank-k updates only compute the
+ * upper triangle, and Cholesky decomposition works directly on packed
+ * storage.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class SymmetricMatrix implements Serializable {
+
+    /**
+     * Number of rows and columns.
+     */
+    private final int size;
+
+    /**
+     * Packed upper triangle using column order.
+     */
+    private final double[] buffer;
+
+    /**
+     * Constructor.
+     * Values of a new matrix are initialized to zero.
+     *
+     * @param size number of rows and columns.
+     * @throws WrongSizeException if provided size is zero or negative, or
+     *                            too large for packed storage to fit in an array.
+     */
+    public SymmetricMatrix(final int size) throws WrongSizeException {
+        if (size <= 0 || (long) size * (size + 1L) / 2 > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+        this.size = size;
+        buffer = new double[getPackedLength(size)];
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param m matrix to copy from.
+     */
+    public SymmetricMatrix(final SymmetricMatrix m) {
+        size = m.size;
+        buffer = Arrays.copyOf(m.buffer, m.buffer.length);
+    }
+
+    /**
+     * Creates a symmetric matrix from the upper triangle of provided square
+     * matrix. The lower triangle of provided matrix is ignored.
+     *
+     * @param m square matrix.
+     * @return a new symmetric matrix.
+     * @throws WrongSizeException   if provided matrix is not square.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static SymmetricMatrix newFromMatrix(final Matrix m) throws WrongSizeException {
+        final var n = m.getRows();
+        if (m.getColumns() != n) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new SymmetricMatrix(n);
+        final var src = m.getBuffer();
+        for (var j = 0; j < n; j++) {
+            System.arraycopy(src, j * n, result.buffer, getColumnStart(j), j + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of elements required to store a symmetric matrix of
+     * provided size.
+     *
+     * @param size number of rows and columns.
+     * @return length of packed storage.
+     */
+    public static int getPackedLength(final int size) {
+        return (int) ((long) size * (size + 1L) / 2);
+    }
+
+    /**
+     * Returns number of rows and columns of this matrix.
+     *
+     * @return number of rows and columns.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns internal buffer containing the packed upper triangle using
+     * column order.
+     *
+     * @return internal buffer.
+     */
+    public double[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns position within internal buffer of provided element. Because
+     * the matrix is symmetric, (i, j) and (j, i) are stored at the same
+     * position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return position within internal buffer.
+     */
+    public int getIndex(final int row, final int column) {
+        return row <= column ? row + getColumnStart(column) : column + getColumnStart(row);
+    }
+
+    /**
+     * Obtains element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public double getElementAt(final int row, final int column) {
+        checkPosition(row, column);
+        return buffer[getIndex(row, column)];
+    }
+
+    /**
+     * Sets element located at provided position. Because the matrix is
+     * symmetric, this also sets the element at the transposed position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        checkPosition(row, column);
+        buffer[getIndex(row, column)] = value;
+    }
+
+    /**
+     * Sets all elements of this matrix to provided value.
+     *
+     * @param value value to be set.
+     */
+    public void initialize(final double value) {
+        Arrays.fill(buffer, value);
+    }
+
+    /**
+     * Copies this matrix into provided dense matrix, filling both triangles.
+     * Provided matrix is resized if needed.
+     *
+     * @param result dense matrix where data is copied.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyTo(final Matrix result) {
+        if (result.getRows() != size || result.getColumns() != size) {
+            try {
+                result.resize(size, size);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        final var dst = result.getBuffer();
+        for (var j = 0; j < size; j++) {
+            final var start = getColumnStart(j);
+            System.arraycopy(buffer, start, dst, j * size, j + 1);
+            // mirror column j of upper triangle into row j of lower triangle
+            for (var i = 0; i < j; i++) {
+                dst[j + i * size] = buffer[start + i];
+            }
+        }
+    }
+
+    /**
+     * Converts this matrix into a dense matrix.
+     *
+     * @return a new dense matrix.
+     */
+    public Matrix toMatrix() {
+        Matrix result = null;
+        try {
+            result = new Matrix(size, size);
+            copyTo(result);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Adds provided matrix to this matrix.
+     *
+     * @param other matrix to be added.
+     * @throws WrongSizeException   if provided matrix does not have the same
+     *                              size.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void add(final SymmetricMatrix other) throws WrongSizeException {
+        if (other.size != size) {
+            throw new WrongSizeException();
+        }
+        Kernels.INSTANCE.sum(buffer, other.buffer, buffer, buffer.length);
+    }
+
+    /**
+     * Subtracts provided matrix from this matrix.
+     *
+     * @param other matrix to be subtracted.
+     * @throws WrongSizeException   if provided matrix does not have the same
+     *                              size.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void subtract(final SymmetricMatrix other) throws WrongSizeException {
+        if (other.size != size) {
+            throw new WrongSizeException();
+        }
+        Kernels.INSTANCE.subtract(buffer, other.buffer, buffer, buffer.length);
+    }
+
+    /**
+     * Multiplies this matrix by provided scalar.
+     *
+     * @param scalar scalar value.
+     */
+    public void multiplyByScalar(final double scalar) {
+        Kernels.INSTANCE.multiplyByScalar(buffer, scalar, buffer, buffer.length);
+    }
+
+    /**
+     * Multiplies this matrix by provided vector and stores the result into
+     * provided array.
+     * Each stored element is read once and used for both of its symmetric
+     * positions.
+     *
+     * @param x      vector to be multiplied.
+     * @param result array where result is stored. Must not be x.
+     * @throws WrongSizeException       if any of provided arrays does not have
+     *                                  the size of this matrix.
+     * @throws IllegalArgumentException if result is x.
+     * @throws NullPointerException     if any of provided arrays is null.
+     */
+    public void multiply(final double[] x, final double[] result) throws WrongSizeException {
+        if (x.length != size || result.length != size) {
+            throw new WrongSizeException();
+        }
+        if (x == result) {
+            throw new IllegalArgumentException();
+        }
+
+        internalMultiply(x, 0, result, 0);
+    }
+
+    /**
+     * Multiplies this matrix by provided vector.
+     *
+     * @param x vector to be multiplied.
+     * @return a new array containing the result.
+     * @throws WrongSizeException   if provided array does not have the size of
+     *                              this matrix.
+     * @throws NullPointerException if provided array is null.
+     */
+    public double[] multiplyAndReturnNew(final double[] x) throws WrongSizeException {
+        final var result = new double[size];
+        multiply(x, result);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided dense matrix (i.e. computes
+     * C = S * B) and stores the result into provided matrix. Result is resized
+     * if needed.
+     *
+     * @param other  dense matrix to be multiplied.
+     * @param result dense matrix where result is stored. Must not be provided
+     *               dense matrix.
+     * @throws WrongSizeException       if number of rows of provided matrix is
+     *                                  not equal to the size of this matrix.
+     * @throws IllegalArgumentException if result is provided dense matrix.
+     * @throws NullPointerException     if any of provided matrices is null.
+     */
+    public void multiply(final Matrix other, final Matrix result) throws WrongSizeException {
+        if (other.getRows() != size) {
+            throw new WrongSizeException();
+        }
+        if (other == result) {
+            throw new IllegalArgumentException();
+        }
+
+        final var n = other.getColumns();
+        if (result.getRows() != size || result.getColumns() != n) {
+            result.resize(size, n);
+        }
+
+        final var b = other.getBuffer();
+        final var c = result.getBuffer();
+        for (var k = 0; k < n; k++) {
+            internalMultiply(b, k * size, c, k * size);
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided dense matrix (i.e. computes
+     * C = S * B).
+     *
+     * @param other dense matrix to be multiplied.
+     * @return a new dense matrix containing the result.
+     * @throws WrongSizeException   if number of rows of provided matrix is not
+     *                              equal to the size of this matrix.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public Matrix multiplyAndReturnNew(final Matrix other) throws WrongSizeException {
+        if (other.getRows() != size) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new Matrix(size, other.getColumns());
+        multiply(other, result);
+        return result;
+    }
+
+    /**
+     * Computes symmetric rank-k update C = alpha * A * A' + beta * C when trans
+     * is false, or C = alpha * A' * A + beta * C when trans is true.
+     * Only the upper triangle of the result is computed, which requires about
+     * half of the operations of a general matrix product.
+     * If beta is zero, initial contents of c are ignored (even if they are NaN).
+     *
+     * @param alpha scale of product.
+     * @param a     dense operand.
+     * @param trans true to compute A' * A, false to compute A * A'.
+     * @param beta  scale of initial contents of c.
+     * @param c     symmetric matrix containing initial values where result is
+     *              stored.
+     * @throws WrongSizeException   if size of c is not equal to the number of
+     *                              rows of a (or the number of columns of a if trans is true).
+     * @throws NullPointerException if any of provided matrices is null.
+     */
+    public static void syrk(final double alpha, final Matrix a, final boolean trans, final double beta,
+                            final SymmetricMatrix c) throws WrongSizeException {
+        final var rows = a.getRows();
+        final var columns = a.getColumns();
+        final var n = trans ? columns : rows;
+        if (c.size != n) {
+            throw new WrongSizeException();
+        }
+
+        final var cb = c.buffer;
+        if (beta == 0.0) {
+            Arrays.fill(cb, 0.0);
+        } else if (beta != 1.0) {
+            c.multiplyByScalar(beta);
+        }
+        if (alpha == 0.0) {
+            return;
+        }
+
+        final var ab = a.getBuffer();
+        if (trans) {
+            // c(i, j) = alpha * dot(column i, column j), for i <= j
+            for (var j = 0; j < n; j++) {
+                final var start = getColumnStart(j);
+                final var colJ = j * rows;
+                for (var i = 0; i <= j; i++) {
+                    final var colI = i * rows;
+                    var sum = 0.0;
+                    for (var p = 0; p < rows; p++) {
+                        sum += ab[colI + p] * ab[colJ + p];
+                    }
+                    cb[start + i] += alpha * sum;
+                }
+            }
+        } else {
+            // accumulate outer products of columns of a, upper triangle only
+            for (var p = 0; p < columns; p++) {
+                final var colP = p * rows;
+                for (var j = 0; j < n; j++) {
+                    final var ajp = alpha * ab[colP + j];
+                    if (ajp != 0.0) {
+                        final var start = getColumnStart(j);
+                        for (var i = 0; i <= j; i++) {
+                            cb[start + i] += ab[colP + i] * ajp;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes A' * A for provided dense matrix as a new symmetric matrix.
+     *
+     * @param a dense matrix.
+     * @return a new symmetric matrix containing A' * A.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static SymmetricMatrix gram(final Matrix a) {
+        SymmetricMatrix result = null;
+        try {
+            result = new SymmetricMatrix(a.getColumns());
+            syrk(1.0, a, true, 0.0, result);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Computes Cholesky decomposition of this matrix, so that this matrix is
+     * equal to R' * R, where R is an upper triangular matrix stored in packed
+     * form. This matrix is not modified.
+     *
+     * @return Cholesky factor.
+     * @throws NonSymmetricPositiveDefiniteMatrixException if this matrix is not
+     *                                                    positive definite.
+     */
+    public CholeskyFactor cholesky() throws NonSymmetricPositiveDefiniteMatrixException {
+        final var r = new double[buffer.length];
+        for (var j = 0; j < size; j++) {
+            final var startJ = getColumnStart(j);
+            var d = 0.0;
+            for (var i = 0; i < j; i++) {
+                // dot product of first i elements of packed columns i and j
+                final var startI = getColumnStart(i);
+                var s = buffer[startJ + i];
+                for (var k = 0; k < i; k++) {
+                    s -= r[startI + k] * r[startJ + k];
+                }
+                s /= r[startI + i];
+                r[startJ + i] = s;
+                d += s * s;
+            }
+            d = buffer[startJ + j] - d;
+            if (d <= 0.0) {
+                throw new NonSymmetricPositiveDefiniteMatrixException();
+            }
+            r[startJ + j] = Math.sqrt(d);
+        }
+        return new CholeskyFactor(size, r);
+    }
+
+    /**
+     * Checks if provided object is a symmetric matrix having exactly the same
+     * contents as this matrix.
+     *
+     * @param obj object to be compared.
+     * @return true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SymmetricMatrix other)) {
+            return false;
+        }
+        return size == other.size && Arrays.equals(buffer, other.buffer);
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(buffer);
+    }
+
+    /**
+     * Returns position within packed storage where provided column starts.
+     *
+     * @param column column.
+     * @return position where column starts.
+     */
+    static int getColumnStart(final int column) {
+        return (int) ((long) column * (column + 1L) / 2);
+    }
+
+    /**
+     * Checks that provided position lies within this matrix.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @throws IllegalArgumentException if position is not valid.
+     */
+    private void checkPosition(final int row, final int column) {
+        if (row < 0 || row >= size || column < 0 || column >= size) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Multiplies this matrix by a vector stored in provided array starting at
+     * provided offset.
+     *
+     * @param x            array containing vector.
+     * @param offsetX      position of first element of vector.
+     * @param result       array where result is stored.
+     * @param offsetResult position where result starts.
+     */
+    private void internalMultiply(final double[] x, final int offsetX, final double[] result,
+                                  final int offsetResult) {
+        for (var j = 0; j < size; j++) {
+            final var start = getColumnStart(j);
+            final var xj = x[offsetX + j];
+            var sum = 0.0;
+            for (var i = 0; i < j; i++) {
+                final var aij = buffer[start + i];
+                // upper element contributes to row i, and its mirror to row j
+                result[offsetResult + i] += aij * xj;
+                sum += aij * x[offsetX + i];
+            }
+            result[offsetResult + j] = sum + buffer[start + j] * xj;
+        }
+    }
+
+    /**
+     * Cholesky factor of a symmetric positive definite matrix, containing
+     * upper triangular matrix R so that A = R' * R, stored in packed form.
+     */
+    public static class CholeskyFactor implements Serializable {
+
+        /**
+         * Number of rows and columns.
+         */
+        private final int size;
+
+        /**
+         * Packed upper triangular factor using column order.
+         */
+        private final double[] r;
+
+        /**
+         * Constructor.
+         *
+         * @param size number of rows and columns.
+         * @param r    packed upper triangular factor.
+         */
+        private CholeskyFactor(final int size, final double[] r) {
+            this.size = size;
+            this.r = r;
+        }
+
+        /**
+         * Returns number of rows and columns.
+         *
+         * @return number of rows and columns.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns internal buffer containing packed upper triangular factor
+         * using column order.
+         *
+         * @return packed factor.
+         */
+        public double[] getPackedR() {
+            return r;
+        }
+
+        /**
+         * Returns upper triangular factor R as a dense matrix.
+         *
+         * @return a new dense matrix containing R.
+         */
+        public Matrix getR() {
+            Matrix result = null;
+            try {
+                result = new Matrix(size, size);
+                final var dst = result.getBuffer();
+                for (var j = 0; j < size; j++) {
+                    System.arraycopy(r, getColumnStart(j), dst, j * size, j + 1);
+                }
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+            return result;
+        }
+
+        /**
+         * Computes determinant of decomposed matrix.
+         *
+         * @return determinant.
+         */
+        public double determinant() {
+            var det = 1.0;
+            for (var j = 0; j < size; j++) {
+                final var rjj = r[getColumnStart(j) + j];
+                det *= rjj * rjj;
+            }
+            return det;
+        }
+
+        /**
+         * Solves linear system A * x = b, where A is the decomposed matrix.
+         *
+         * @param b      right hand side.
+         * @param result array where solution is stored. Can be b.
+         * @throws WrongSizeException   if any of provided arrays does not have
+         *                              proper length.
+         * @throws NullPointerException if any of provided arrays is null.
+         */
+        public void solve(final double[] b, final double[] result) throws WrongSizeException {
+            if (b.length != size || result.length != size) {
+                throw new WrongSizeException();
+            }
+
+            if (b != result) {
+                System.arraycopy(b, 0, result, 0, size);
+            }
+            internalSolve(result, 0);
+        }
+
+        /**
+         * Solves linear system A * x = b, where A is the decomposed matrix.
+         *
+         * @param b right hand side.
+         * @return a new array containing the solution.
+         * @throws WrongSizeException   if provided array does not have proper
+         *                              length.
+         * @throws NullPointerException if provided array is null.
+         */
+        public double[] solve(final double[] b) throws WrongSizeException {
+            final var result = new double[size];
+            solve(b, result);
+            return result;
+        }
+
+        /**
+         * Solves linear system A * X = B, where A is the decomposed matrix and
+         * each column of B contains a different right hand side.
+         *
+         * @param b right hand side.
+         * @return a new matrix containing the solution.
+         * @throws WrongSizeException   if provided matrix does not have proper
+         *                              number of rows.
+         * @throws NullPointerException if provided matrix is null.
+         */
+        public Matrix solve(final Matrix b) throws WrongSizeException {
+            if (b.getRows() != size) {
+                throw new WrongSizeException();
+            }
+
+            final var result = new Matrix(b);
+            final var x = result.getBuffer();
+            for (var k = 0; k < result.getColumns(); k++) {
+                internalSolve(x, k * size);
+            }
+            return result;
+        }
+
+        /**
+         * Solves R' * R * x = b in place.
+         *
+         * @param x      array containing right hand side, where solution is
+         *               stored.
+         * @param offset position where right hand side starts.
+         */
+        private void internalSolve(final double[] x, final int offset) {
+            // solve R' * y = b
+            for (var i = 0; i < size; i++) {
+                final var start = getColumnStart(i);
+                var s = x[offset + i];
+                for (var k = 0; k < i; k++) {
+                    s -= r[start + k] * x[offset + k];
+                }
+                x[offset + i] = s / r[start + i];
+            }
+
+            // solve R * x = y
+            for (var j = size - 1; j >= 0; j--) {
+                final var start = getColumnStart(j);
+                final var xj = x[offset + j] / r[start + j];
+                x[offset + j] = xj;
+                for (var i = 0; i < j; i++) {
+                    x[offset + i] -= r[start + i] * xj;
+                }
+            }
+        }
+    }
+}
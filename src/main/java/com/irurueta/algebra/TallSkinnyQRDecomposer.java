@@ -0,0 +1,1321 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This decomposer computes economy QR decomposition of tall and skinny
+ * matrices (i.e. matrices having many more rows than columns) using TSQR
+ * (Tall Skinny QR), a communication-avoiding algorithm.
+ * Rows of input matrix are split into chunks that are independently
+ * decomposed using Householder reflections, and resulting triangular factors
+ * are combined in pairs along a binary reduction tree, where each node
+ * decomposes the two triangular factors of its children stacked on top of
+ * each other. Triangular factor of the root is the triangular factor R of
+ * the whole matrix, while orthogonal factor Q is kept implicitly as the
+ * reflections of all nodes of the tree.
+ * When a fork/join pool is provided, chunks and nodes of the tree are
+ * decomposed in parallel as fork/join tasks. Because each node is processed
+ * by the same operations regardless of whether a pool is used or not,
+ * parallel decompositions are identical to sequential ones.
+ * Matrices that do not fit in memory can also be decomposed by streaming
+ * chunks of rows (see {@link #decompose(Iterator)}). In such case only R is
+ * computed, hence least squares systems must be solved by appending their
+ * right hand sides as additional columns of each chunk.
+ * Diagonal of R is made non-negative, so that R is unique for matrices
+ * having full rank regardless of the number of chunks.
+ */
+public class TallSkinnyQRDecomposer extends Decomposer {
+
+    /**
+     * Constant defining default round error when determining full rank of
+     * matrices. This value is zero by default.
+     */
+    public static final double DEFAULT_ROUND_ERROR = 0.0;
+
+    /**
+     * Constant defining minimum allowed round error value when determining full
+     * rank of matrices.
+     */
+    public static final double MIN_ROUND_ERROR = 0.0;
+
+    /**
+     * Default number of rows of each chunk.
+     */
+    public static final int DEFAULT_CHUNK_ROWS = 4096;
+
+    /**
+     * Minimum allowed number of rows of each chunk. Chunks never have fewer
+     * rows than the number of columns of input matrix, regardless of this
+     * value.
+     */
+    public static final int MIN_CHUNK_ROWS = 1;
+
+    /**
+     * Number of rows of each chunk.
+     */
+    private int chunkRows = DEFAULT_CHUNK_ROWS;
+
+    /**
+     * Pool where decomposition is executed in parallel, or null to decompose
+     * sequentially on calling thread.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Number of columns of decomposed matrix.
+     */
+    private int columns;
+
+    /**
+     * Upper triangular factor having non-negative diagonal, stored in column
+     * order, or null if decomposition is not available.
+     */
+    private double[] r;
+
+    /**
+     * Root of reduction tree containing orthogonal factor Q implicitly, or
+     * null if Q is not available because decomposition is not available or
+     * rows were streamed.
+     */
+    private Node root;
+
+    /**
+     * Storage for reduction tree that is kept across decompositions so that
+     * it can be reused on matrices having the same size.
+     */
+    private Node rootStorage;
+
+    /**
+     * Number of rows of matrix decomposed by tree kept in storage.
+     */
+    private int storageRows;
+
+    /**
+     * Number of chunks of tree kept in storage.
+     */
+    private int storageChunks;
+
+    /**
+     * Constructor of this class.
+     */
+    public TallSkinnyQRDecomposer() {
+        super();
+    }
+
+    /**
+     * Constructor of this class.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     */
+    public TallSkinnyQRDecomposer(final Matrix inputMatrix) {
+        super(inputMatrix);
+    }
+
+    /**
+     * Constructor of this class.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     * @param pool        pool where decomposition is executed in parallel, or
+     *                    null to decompose sequentially on calling thread.
+     */
+    public TallSkinnyQRDecomposer(final Matrix inputMatrix, final ForkJoinPool pool) {
+        this(inputMatrix);
+        this.pool = pool;
+    }
+
+    /**
+     * Returns decomposer type corresponding to Economy QR decomposition, since
+     * this decomposer computes the same factors, just in a different way.
+     *
+     * @return Decomposer type.
+     */
+    @Override
+    public DecomposerType getDecomposerType() {
+        return DecomposerType.QR_ECONOMY_DECOMPOSITION;
+    }
+
+    /**
+     * Gets pool where decomposition is executed in parallel.
+     *
+     * @return pool where decomposition is executed in parallel, or null if
+     * decomposition is computed sequentially on calling thread.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets pool where decomposition is executed in parallel.
+     * Chunks of rows are decomposed in parallel, and so are nodes of the
+     * reduction tree, as well as right hand sides when solving systems of
+     * equations.
+     *
+     * @param pool pool where decomposition is executed in parallel, or null
+     *             to decompose sequentially on calling thread.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setPool(final ForkJoinPool pool) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Gets number of rows of each chunk.
+     * Input matrix is split into as many chunks as possible having at least
+     * this number of rows (and at least as many rows as columns), with the
+     * remaining rows evenly distributed among them.
+     *
+     * @return number of rows of each chunk.
+     */
+    public int getChunkRows() {
+        return chunkRows;
+    }
+
+    /**
+     * Sets number of rows of each chunk.
+     * Smaller chunks expose more parallelism at the expense of a deeper
+     * reduction tree.
+     *
+     * @param chunkRows number of rows of each chunk.
+     * @throws LockedException          if this instance is locked.
+     * @throws IllegalArgumentException if provided value is lower than
+     *                                  {@link #MIN_CHUNK_ROWS}.
+     */
+    public void setChunkRows(final int chunkRows) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (chunkRows < MIN_CHUNK_ROWS) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkRows = chunkRows;
+    }
+
+    /**
+     * Sets reference to input matrix to be decomposed.
+     *
+     * @param inputMatrix Reference to input matrix to be decomposed.
+     * @throws LockedException Exception thrown if attempting to call this
+     *                         method while this instance remains locked.
+     */
+    @Override
+    public void setInputMatrix(final Matrix inputMatrix) throws LockedException {
+        super.setInputMatrix(inputMatrix);
+        r = null;
+        root = null;
+    }
+
+    /**
+     * Returns boolean indicating whether decomposition has been computed and
+     * results can be retrieved.
+     * Attempting to retrieve decomposition results when not available, will
+     * probably raise a NotAvailableException.
+     *
+     * @return Boolean indicating whether decomposition has been computed and
+     * results can be retrieved.
+     */
+    @Override
+    public boolean isDecompositionAvailable() {
+        return r != null;
+    }
+
+    /**
+     * Returns boolean indicating whether orthogonal factor Q is available.
+     * Q is available after decomposing input matrix, but not after streaming
+     * chunks of rows, since reflections of each chunk are discarded once
+     * processed.
+     *
+     * @return true if Q is available, false otherwise.
+     */
+    public boolean isQAvailable() {
+        return root != null;
+    }
+
+    /**
+     * This method computes QR matrix decomposition of provided input matrix,
+     * which must have at least as many rows as columns.
+     * In other words, if input matrix is A, then: A = Q * R
+     * Note: During execution of this method, this instance will be locked.
+     * Note: After execution of this method, QR decomposition will be available
+     * and operations such as retrieving Q and R matrices or solving systems of
+     * linear equations will be able to be done. Attempting to call any of such
+     * operations before calling this method will raise a NotAvailableException
+     * because they require computation of QR decomposition first.
+     *
+     * @throws NotReadyException   Exception thrown if attempting to call this
+     *                             method when this instance is not ready (i.e. no input matrix has been
+     *                             provided).
+     * @throws LockedException     Exception thrown if this decomposer is already
+     *                             locked before calling this method. Notice that this method will actually
+     *                             lock this instance while it is being executed.
+     * @throws DecomposerException Exception thrown if provided input matrix has
+     *                             fewer rows than columns.
+     */
+    @Override
+    public void decompose() throws NotReadyException, LockedException, DecomposerException {
+
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        final var cols = inputMatrix.getColumns();
+        if (rows < cols) {
+            throw new DecomposerException();
+        }
+
+        locked = true;
+
+        final var chunks = Math.max(1, rows / Math.max(chunkRows, cols));
+        if (rootStorage == null || storageRows != rows || storageChunks != chunks || columns != cols) {
+            rootStorage = buildTree(rows, cols, chunks, 0, chunks);
+            storageRows = rows;
+            storageChunks = chunks;
+        }
+        columns = cols;
+
+        if (pool != null && chunks > 1) {
+            invoke(new FactorTask(rootStorage, cols, inputMatrix.getBuffer(), rows));
+        } else {
+            factorTree(rootStorage, cols, inputMatrix.getBuffer(), rows);
+        }
+
+        root = rootStorage;
+        r = normalizedR(root, cols);
+
+        locked = false;
+    }
+
+    /**
+     * Computes triangular factor R of the matrix formed by stacking provided
+     * chunks of rows on top of each other, without keeping such matrix in
+     * memory.
+     * Chunks are consumed as they are provided by the iterator. When a pool is
+     * available, as many chunks as the parallelism of the pool are read and
+     * decomposed at once, otherwise chunks are read one at a time. Triangular
+     * factors of chunks are then combined following the same binary reduction
+     * tree, so that resulting R only depends on the sequence of provided
+     * chunks.
+     * Orthogonal factor Q is not kept, hence systems of equations cannot be
+     * solved using {@link #solve(Matrix)}. Instead, least squares system
+     * A * x = b can be solved by appending columns of b to each chunk of A, so
+     * that resulting R = [R11 z; 0 rho] contains triangular factor R11 of A,
+     * z = Q' * b, and residual norm of solution x = R11^-1 * z in rho.
+     * Input matrix is ignored by this method and remains unchanged.
+     *
+     * @param chunks iterator providing chunks of rows, all of them having the
+     *               same number of columns. Chunks may have any number of rows, and
+     *               they are not modified.
+     * @throws LockedException     Exception thrown if this decomposer is already
+     *                             locked before calling this method.
+     * @throws DecomposerException Exception thrown if no chunks are provided,
+     *                             if any chunk has no columns, or if chunks have different number of
+     *                             columns.
+     */
+    public void decompose(final Iterator<Matrix> chunks) throws LockedException, DecomposerException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        locked = true;
+        r = null;
+        root = null;
+
+        try {
+            final var batchSize = pool != null ? pool.getParallelism() : 1;
+            var cols = 0;
+
+            // pending.get(l) is either null or the node combining 2^l chunks
+            final var pending = new ArrayList<Node>();
+            final var batch = new ArrayList<Matrix>(batchSize);
+            while (chunks.hasNext()) {
+                batch.clear();
+                while (batch.size() < batchSize && chunks.hasNext()) {
+                    final var chunk = chunks.next();
+                    if (chunk.getColumns() == 0 || (cols != 0 && chunk.getColumns() != cols)) {
+                        throw new DecomposerException();
+                    }
+                    cols = chunk.getColumns();
+                    batch.add(chunk);
+                }
+
+                final var leaves = factorChunks(batch, cols);
+                for (final var leaf : leaves) {
+                    var carry = compact(leaf, cols);
+                    var level = 0;
+                    while (level < pending.size() && pending.get(level) != null) {
+                        carry = merge(pending.get(level), carry, cols);
+                        pending.set(level, null);
+                        level++;
+                    }
+                    if (level == pending.size()) {
+                        pending.add(carry);
+                    } else {
+                        pending.set(level, carry);
+                    }
+                }
+            }
+
+            // combine remaining nodes, keeping older rows on top
+            Node result = null;
+            for (final var node : pending) {
+                if (node != null) {
+                    result = result == null ? node : merge(node, result, cols);
+                }
+            }
+            if (result == null) {
+                throw new DecomposerException();
+            }
+
+            columns = cols;
+            r = normalizedR(result, cols);
+        } finally {
+            locked = false;
+        }
+    }
+
+    /**
+     * Returns boolean indicating whether decomposed matrix has full rank or
+     * not.
+     * Note: Because of rounding errors, testing whether a matrix has full rank
+     * or not, might obtain unreliable results. In such cases matrices usually
+     * tend to be considered as full rank even when they are not.
+     *
+     * @return Boolean indicating whether decomposed matrix has full rank or
+     * not.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing QR decomposition.
+     */
+    public boolean isFullRank() throws NotAvailableException {
+        return isFullRank(DEFAULT_ROUND_ERROR);
+    }
+
+    /**
+     * Returns boolean indicating whether decomposed matrix has full rank or
+     * not.
+     * Note: Because of rounding errors, testing whether a matrix has full rank
+     * or not, might obtain unreliable results. In such cases matrices usually
+     * tend to be considered as full rank even when they are not.
+     *
+     * @param roundingError Determines the amount of margin given to determine
+     *                      whether a matrix has full rank or not due to rounding errors. If not
+     *                      provided, by default rounding error is set to zero, but this value can
+     *                      be relaxed if needed.
+     * @return Boolean indicating whether decomposed matrix has full rank or
+     * not.
+     * @throws NotAvailableException    Exception thrown if attempting to call this
+     *                                  method before computing QR decomposition.
+     * @throws IllegalArgumentException Exception thrown if provided rounding
+     *                                  error is lower than minimum allowed value (MIN_ROUND_ERROR).
+     */
+    public boolean isFullRank(final double roundingError) throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+        if (roundingError < MIN_ROUND_ERROR) {
+            throw new IllegalArgumentException();
+        }
+
+        for (var j = 0; j < columns; j++) {
+            if (Math.abs(r[j * columns + j]) < roundingError) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes upper triangular factor matrix having non-negative diagonal and
+     * stores it into provided matrix.
+     *
+     * @param r Upper triangular factor matrix. Provided matrix will be resized
+     *          if needed.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing QR decomposition.
+     */
+    public void getR(final Matrix r) throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        if (r.getRows() != columns || r.getColumns() != columns) {
+            try {
+                r.resize(columns, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        System.arraycopy(this.r, 0, r.getBuffer(), 0, columns * columns);
+    }
+
+    /**
+     * Returns upper triangular factor matrix having non-negative diagonal.
+     *
+     * @return Upper triangular factor matrix.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing QR decomposition.
+     */
+    public Matrix getR() throws NotAvailableException {
+        if (!isDecompositionAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        Matrix out = null;
+        try {
+            out = new Matrix(columns, columns);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        getR(out);
+        return out;
+    }
+
+    /**
+     * Computes orthogonal factor matrix, having as many rows as input matrix and
+     * as many columns as input matrix columns, and stores it into provided
+     * matrix.
+     *
+     * @param q Orthogonal factor matrix. Provided matrix will be resized if
+     *          needed.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing QR decomposition, or after streaming chunks of
+     *                               rows.
+     */
+    public void getQ(final Matrix q) throws NotAvailableException {
+        if (!isQAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        if (q.getRows() != rows || q.getColumns() != columns) {
+            try {
+                q.resize(rows, columns);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        // Q of root is applied to a diagonal matrix containing signs of R
+        final var coefficients = new double[columns * columns];
+        final var rootDiag = root.rDiag;
+        for (var j = 0; j < columns; j++) {
+            coefficients[j * columns + j] = rootDiag[j] < 0.0 ? -1.0 : 1.0;
+        }
+
+        if (pool != null && root.left != null) {
+            invoke(new FormQTask(root, columns, coefficients, q.getBuffer(), rows));
+        } else {
+            formQ(root, columns, coefficients, q.getBuffer(), rows);
+        }
+    }
+
+    /**
+     * Returns orthogonal factor matrix, having as many rows as input matrix and
+     * as many columns as input matrix columns.
+     *
+     * @return Orthogonal factor matrix.
+     * @throws NotAvailableException Exception thrown if attempting to call this
+     *                               method before computing QR decomposition, or after streaming chunks of
+     *                               rows.
+     */
+    public Matrix getQ() throws NotAvailableException {
+        if (!isQAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        Matrix out = null;
+        try {
+            out = new Matrix(inputMatrix.getRows(), columns);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        getQ(out);
+        return out;
+    }
+
+    /**
+     * Solves a linear system of equations of the following form:
+     * A * X = B, where A is the decomposed input matrix, X is the solution to
+     * the system of equations, and B is the parameters vector/matrix.
+     * For input matrices having more rows than columns, the system of
+     * equations is overdetermined and the least squares solution is found.
+     * Q' * B is computed along the same reduction tree used to decompose A.
+     *
+     * @param b      Parameters matrix, having the same number of rows as input
+     *               matrix. Each column represents a different system of equations.
+     * @param result Matrix where solution of each system of equations will be
+     *               stored on each column. Provided matrix will be resized if needed.
+     * @throws NotAvailableException        Exception thrown if attempting to call this
+     *                                      method before computing QR decomposition, or after streaming chunks of
+     *                                      rows.
+     * @throws WrongSizeException           Exception thrown if provided parameters matrix
+     *                                      does not have the same number of rows as input matrix.
+     * @throws RankDeficientMatrixException Exception thrown if decomposed matrix
+     *                                      is rank deficient.
+     */
+    public void solve(final Matrix b, final Matrix result) throws NotAvailableException, WrongSizeException,
+            RankDeficientMatrixException {
+        solve(b, DEFAULT_ROUND_ERROR, result);
+    }
+
+    /**
+     * Solves a linear system of equations of the following form:
+     * A * X = B, where A is the decomposed input matrix, X is the solution to
+     * the system of equations, and B is the parameters vector/matrix.
+     * For input matrices having more rows than columns, the system of
+     * equations is overdetermined and the least squares solution is found.
+     * Q' * B is computed along the same reduction tree used to decompose A.
+     *
+     * @param b             Parameters matrix, having the same number of rows as input
+     *                      matrix. Each column represents a different system of equations.
+     * @param roundingError Determines the amount of margin given to determine
+     *                      whether a matrix has full rank or not due to rounding errors.
+     * @param result        Matrix where solution of each system of equations will be
+     *                      stored on each column. Provided matrix will be resized if needed.
+     * @throws NotAvailableException        Exception thrown if attempting to call this
+     *                                      method before computing QR decomposition, or after streaming chunks of
+     *                                      rows.
+     * @throws WrongSizeException           Exception thrown if provided parameters matrix
+     *                                      does not have the same number of rows as input matrix.
+     * @throws RankDeficientMatrixException Exception thrown if decomposed matrix
+     *                                      is rank deficient.
+     * @throws IllegalArgumentException     Exception thrown if provided rounding
+     *                                      error is lower than minimum allowed value (MIN_ROUND_ERROR).
+     */
+    public void solve(final Matrix b, final double roundingError, final Matrix result)
+            throws NotAvailableException, WrongSizeException, RankDeficientMatrixException {
+
+        if (!isQAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var rows = inputMatrix.getRows();
+        final var colsB = b.getColumns();
+        if (b.getRows() != rows) {
+            throw new WrongSizeException();
+        }
+        if (!isFullRank(roundingError)) {
+            throw new RankDeficientMatrixException();
+        }
+
+        final double[] y;
+        if (pool != null && root.left != null) {
+            y = invoke(new ApplyQtTask(root, columns, b.getBuffer(), rows, colsB));
+        } else {
+            y = applyQt(root, columns, b.getBuffer(), rows, colsB);
+        }
+
+        // signs of rows of R were flipped to make its diagonal non-negative
+        final var rootDiag = root.rDiag;
+        for (var i = 0; i < columns; i++) {
+            if (rootDiag[i] < 0.0) {
+                for (var j = 0; j < colsB; j++) {
+                    y[j * columns + i] = -y[j * columns + i];
+                }
+            }
+        }
+
+        TriangularSolver.solve(true, false, false, null, columns, colsB, r, 0, columns,
+                y, 0, columns);
+
+        if (result.getRows() != columns || result.getColumns() != colsB) {
+            result.resize(columns, colsB);
+        }
+        System.arraycopy(y, 0, result.getBuffer(), 0, columns * colsB);
+    }
+
+    /**
+     * Solves a linear system of equations of the following form:
+     * A * X = B, where A is the decomposed input matrix, X is the solution to
+     * the system of equations, and B is the parameters vector/matrix.
+     * For input matrices having more rows than columns, the system of
+     * equations is overdetermined and the least squares solution is found.
+     *
+     * @param b Parameters matrix, having the same number of rows as input
+     *          matrix. Each column represents a different system of equations.
+     * @return Matrix containing solution of each system of equations on each
+     * column.
+     * @throws NotAvailableException        Exception thrown if attempting to call this
+     *                                      method before computing QR decomposition, or after streaming chunks of
+     *                                      rows.
+     * @throws WrongSizeException           Exception thrown if provided parameters matrix
+     *                                      does not have the same number of rows as input matrix.
+     * @throws RankDeficientMatrixException Exception thrown if decomposed matrix
+     *                                      is rank deficient.
+     */
+    public Matrix solve(final Matrix b) throws NotAvailableException, WrongSizeException,
+            RankDeficientMatrixException {
+        return solve(b, DEFAULT_ROUND_ERROR);
+    }
+
+    /**
+     * Solves a linear system of equations of the following form:
+     * A * X = B, where A is the decomposed input matrix, X is the solution to
+     * the system of equations, and B is the parameters vector/matrix.
+     * For input matrices having more rows than columns, the system of
+     * equations is overdetermined and the least squares solution is found.
+     *
+     * @param b             Parameters matrix, having the same number of rows as input
+     *                      matrix. Each column represents a different system of equations.
+     * @param roundingError Determines the amount of margin given to determine
+     *                      whether a matrix has full rank or not due to rounding errors.
+     * @return Matrix containing solution of each system of equations on each
+     * column.
+     * @throws NotAvailableException        Exception thrown if attempting to call this
+     *                                      method before computing QR decomposition, or after streaming chunks of
+     *                                      rows.
+     * @throws WrongSizeException           Exception thrown if provided parameters matrix
+     *                                      does not have the same number of rows as input matrix.
+     * @throws RankDeficientMatrixException Exception thrown if decomposed matrix
+     *                                      is rank deficient.
+     * @throws IllegalArgumentException     Exception thrown if provided rounding
+     *                                      error is lower than minimum allowed value (MIN_ROUND_ERROR).
+     */
+    public Matrix solve(final Matrix b, final double roundingError) throws NotAvailableException,
+            WrongSizeException, RankDeficientMatrixException {
+        if (!isQAvailable()) {
+            throw new NotAvailableException();
+        }
+
+        final var out = new Matrix(columns, b.getColumns());
+        solve(b, roundingError, out);
+        return out;
+    }
+
+    /**
+     * Executes provided task on the pool of this instance, or directly when
+     * already running on such pool.
+     *
+     * @param task task to be executed.
+     * @param <T>  type of result of task.
+     * @return result of task.
+     */
+    private <T> T invoke(final ForkJoinTask<T> task) {
+        if (ForkJoinTask.getPool() == pool) {
+            return task.invoke();
+        } else {
+            return pool.invoke(task);
+        }
+    }
+
+    /**
+     * Decomposes provided chunks of rows, in parallel if a pool is available.
+     *
+     * @param batch chunks of rows.
+     * @param cols  number of columns of chunks.
+     * @return leaves containing decomposed chunks.
+     */
+    private Node[] factorChunks(final ArrayList<Matrix> batch, final int cols) {
+        final var leaves = new Node[batch.size()];
+        final var tasks = new FactorTask[batch.size()];
+        for (var i = 0; i < leaves.length; i++) {
+            final var chunk = batch.get(i);
+            leaves[i] = new Node(chunk.getRows(), cols, 0, null, null);
+            tasks[i] = new FactorTask(leaves[i], cols, chunk.getBuffer(), chunk.getRows());
+        }
+
+        if (pool != null && leaves.length > 1) {
+            invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } else {
+            for (var i = 0; i < leaves.length; i++) {
+                factorLeaf(leaves[i], cols, batch.get(i).getBuffer(), batch.get(i).getRows());
+            }
+        }
+        return leaves;
+    }
+
+    /**
+     * Builds reduction tree for chunks within provided range by recursively
+     * splitting such range in halves.
+     *
+     * @param rows       number of rows of matrix.
+     * @param cols       number of columns of matrix.
+     * @param chunks     total number of chunks.
+     * @param firstChunk first chunk of range.
+     * @param lastChunk  chunk after the last one of range.
+     * @return root of tree.
+     */
+    private static Node buildTree(final int rows, final int cols, final int chunks, final int firstChunk,
+                                  final int lastChunk) {
+        if (lastChunk - firstChunk == 1) {
+            final var start = (int) ((long) firstChunk * rows / chunks);
+            final var end = (int) ((long) lastChunk * rows / chunks);
+            return new Node(end - start, cols, start, null, null);
+        }
+
+        final var middle = (firstChunk + lastChunk) / 2;
+        return new Node(2 * cols, cols, 0, buildTree(rows, cols, chunks, firstChunk, middle),
+                buildTree(rows, cols, chunks, middle, lastChunk));
+    }
+
+    /**
+     * Decomposes all nodes of a tree sequentially.
+     *
+     * @param node     root of tree.
+     * @param cols     number of columns.
+     * @param source   buffer containing matrix in column order.
+     * @param ldSource leading dimension of matrix.
+     */
+    private static void factorTree(final Node node, final int cols, final double[] source, final int ldSource) {
+        if (node.left == null) {
+            factorLeaf(node, cols, source, ldSource);
+        } else {
+            factorTree(node.left, cols, source, ldSource);
+            factorTree(node.right, cols, source, ldSource);
+            combine(node, cols);
+        }
+    }
+
+    /**
+     * Copies rows of a chunk into a leaf and decomposes them.
+     *
+     * @param node     leaf.
+     * @param cols     number of columns.
+     * @param source   buffer containing matrix in column order.
+     * @param ldSource leading dimension of matrix.
+     */
+    private static void factorLeaf(final Node node, final int cols, final double[] source, final int ldSource) {
+        final var rows = node.rows;
+        for (var j = 0; j < cols; j++) {
+            System.arraycopy(source, j * ldSource + node.firstRow, node.qr, j * rows, rows);
+        }
+        HouseholderQRFactorizer.factor(rows, cols, node.qr, rows, node.rDiag, node.t, null);
+    }
+
+    /**
+     * Stacks triangular factors of both children of a node and decomposes
+     * them.
+     *
+     * @param node node whose children have already been decomposed.
+     * @param cols number of columns.
+     */
+    private static void combine(final Node node, final int cols) {
+        copyR(node.left, cols, node.qr, 0, node.rows);
+        copyR(node.right, cols, node.qr, cols, node.rows);
+        HouseholderQRFactorizer.factor(node.rows, cols, node.qr, node.rows, node.rDiag, node.t, null);
+    }
+
+    /**
+     * Stacks triangular factors of two nodes and decomposes them into a new
+     * node only containing resulting triangular factor.
+     *
+     * @param top    node whose triangular factor is placed on top.
+     * @param bottom node whose triangular factor is placed at the bottom.
+     * @param cols   number of columns.
+     * @return node containing combined triangular factor.
+     */
+    private static Node merge(final Node top, final Node bottom, final int cols) {
+        final var node = new Node(2 * cols, cols, 0, top, bottom);
+        combine(node, cols);
+        return compact(node, cols);
+    }
+
+    /**
+     * Creates a node only containing the triangular factor of a decomposed
+     * node, so that memory used by reflections can be released.
+     *
+     * @param node decomposed node.
+     * @param cols number of columns.
+     * @return compact node.
+     */
+    private static Node compact(final Node node, final int cols) {
+        final var result = new Node(cols, cols, 0, null, null);
+        copyR(node, cols, result.qr, 0, cols);
+        System.arraycopy(node.rDiag, 0, result.rDiag, 0, cols);
+        return result;
+    }
+
+    /**
+     * Copies triangular factor of a decomposed node into a buffer.
+     * Rows of triangular factor beyond the number of rows of node are zero.
+     *
+     * @param node   decomposed node.
+     * @param cols   number of columns.
+     * @param dest   buffer where triangular factor is copied in column order.
+     * @param offset row where triangular factor is copied.
+     * @param ld     leading dimension of destination.
+     */
+    private static void copyR(final Node node, final int cols, final double[] dest, final int offset,
+                              final int ld) {
+        final var rows = node.rows;
+        for (var j = 0; j < cols; j++) {
+            final var start = j * ld + offset;
+            for (var i = 0; i < cols; i++) {
+                final double value;
+                if (i < j) {
+                    value = i < rows ? node.qr[j * rows + i] : 0.0;
+                } else if (i == j) {
+                    value = node.rDiag[j];
+                } else {
+                    value = 0.0;
+                }
+                dest[start + i] = value;
+            }
+        }
+    }
+
+    /**
+     * Returns triangular factor of a decomposed node, having the signs of its
+     * rows flipped so that its diagonal is non-negative.
+     *
+     * @param node decomposed node.
+     * @param cols number of columns.
+     * @return triangular factor in column order.
+     */
+    private static double[] normalizedR(final Node node, final int cols) {
+        final var result = new double[cols * cols];
+        copyR(node, cols, result, 0, cols);
+        for (var i = 0; i < cols; i++) {
+            if (node.rDiag[i] < 0.0) {
+                for (var j = i; j < cols; j++) {
+                    result[j * cols + i] = -result[j * cols + i];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes rows of Q corresponding to the chunks of a tree sequentially.
+     *
+     * @param node         root of tree.
+     * @param cols         number of columns.
+     * @param coefficients cols x cols matrix that orthogonal factor of node
+     *                     is applied to.
+     * @param q            buffer where Q is stored in column order.
+     * @param ldq          leading dimension of Q.
+     */
+    private static void formQ(final Node node, final int cols, final double[] coefficients, final double[] q,
+                              final int ldq) {
+        final var e = applyQ(node, cols, coefficients, q, ldq);
+        if (e != null) {
+            formQ(node.left, cols, leftCoefficients(e, cols), q, ldq);
+            formQ(node.right, cols, rightCoefficients(e, cols), q, ldq);
+        }
+    }
+
+    /**
+     * Applies orthogonal factor of a node to provided coefficients padded
+     * with zeros. For leaves, result is copied into the corresponding rows
+     * of Q, otherwise it is returned so that it is applied to children.
+     *
+     * @param node         decomposed node.
+     * @param cols         number of columns.
+     * @param coefficients cols x cols matrix in column order.
+     * @param q            buffer where Q is stored in column order.
+     * @param ldq          leading dimension of Q.
+     * @return 2 * cols x cols matrix containing coefficients of both children,
+     * or null if node is a leaf.
+     */
+    private static double[] applyQ(final Node node, final int cols, final double[] coefficients,
+                                   final double[] q, final int ldq) {
+        final var rows = node.rows;
+        final var e = new double[rows * cols];
+        for (var j = 0; j < cols; j++) {
+            System.arraycopy(coefficients, j * cols, e, j * rows, cols);
+        }
+        HouseholderQRFactorizer.applyQ(rows, cols, node.qr, rows, node.t, cols, e, rows, null);
+
+        if (node.left == null) {
+            for (var j = 0; j < cols; j++) {
+                System.arraycopy(e, j * rows, q, j * ldq + node.firstRow, rows);
+            }
+            return null;
+        }
+        return e;
+    }
+
+    /**
+     * Extracts coefficients of left child, which are stored in the upper half
+     * of provided matrix.
+     *
+     * @param e    2 * cols x cols matrix in column order.
+     * @param cols number of columns.
+     * @return cols x cols coefficients of left child.
+     */
+    private static double[] leftCoefficients(final double[] e, final int cols) {
+        final var result = new double[cols * cols];
+        for (var j = 0; j < cols; j++) {
+            System.arraycopy(e, 2 * j * cols, result, j * cols, cols);
+        }
+        return result;
+    }
+
+    /**
+     * Extracts coefficients of right child, which are stored in the lower half
+     * of provided matrix.
+     *
+     * @param e    2 * cols x cols matrix in column order.
+     * @param cols number of columns.
+     * @return cols x cols coefficients of right child.
+     */
+    private static double[] rightCoefficients(final double[] e, final int cols) {
+        final var result = new double[cols * cols];
+        for (var j = 0; j < cols; j++) {
+            System.arraycopy(e, (2 * j + 1) * cols, result, j * cols, cols);
+        }
+        return result;
+    }
+
+    /**
+     * Computes first cols rows of Q' * B for the rows of B corresponding to
+     * the chunks of a tree sequentially.
+     *
+     * @param node root of tree.
+     * @param cols number of columns.
+     * @param b    buffer containing B in column order.
+     * @param ldb  leading dimension of B.
+     * @param nrhs number of columns of B.
+     * @return cols x nrhs matrix in column order.
+     */
+    private static double[] applyQt(final Node node, final int cols, final double[] b, final int ldb,
+                                    final int nrhs) {
+        if (node.left == null) {
+            return applyLeafQt(node, cols, b, ldb, nrhs);
+        }
+        return applyNodeQt(node, cols, applyQt(node.left, cols, b, ldb, nrhs),
+                applyQt(node.right, cols, b, ldb, nrhs), nrhs);
+    }
+
+    /**
+     * Computes first cols rows of Q' * B for the rows of B corresponding to a
+     * leaf.
+     *
+     * @param node leaf.
+     * @param cols number of columns.
+     * @param b    buffer containing B in column order.
+     * @param ldb  leading dimension of B.
+     * @param nrhs number of columns of B.
+     * @return cols x nrhs matrix in column order.
+     */
+    private static double[] applyLeafQt(final Node node, final int cols, final double[] b, final int ldb,
+                                        final int nrhs) {
+        final var rows = node.rows;
+        final var e = new double[rows * nrhs];
+        for (var j = 0; j < nrhs; j++) {
+            System.arraycopy(b, j * ldb + node.firstRow, e, j * rows, rows);
+        }
+        HouseholderQRFactorizer.applyQt(rows, cols, node.qr, rows, node.t, nrhs, e, rows, null);
+        return top(e, rows, cols, nrhs);
+    }
+
+    /**
+     * Computes first cols rows of Q' * [yLeft; yRight] for an internal node.
+     *
+     * @param node   internal node.
+     * @param cols   number of columns.
+     * @param yLeft  result of left child.
+     * @param yRight result of right child.
+     * @param nrhs   number of right hand sides.
+     * @return cols x nrhs matrix in column order.
+     */
+    private static double[] applyNodeQt(final Node node, final int cols, final double[] yLeft,
+                                        final double[] yRight, final int nrhs) {
+        final var rows = node.rows;
+        final var e = new double[rows * nrhs];
+        for (var j = 0; j < nrhs; j++) {
+            System.arraycopy(yLeft, j * cols, e, j * rows, cols);
+            System.arraycopy(yRight, j * cols, e, j * rows + cols, cols);
+        }
+        HouseholderQRFactorizer.applyQt(rows, cols, node.qr, rows, node.t, nrhs, e, rows, null);
+        return top(e, rows, cols, nrhs);
+    }
+
+    /**
+     * Extracts first cols rows of a matrix.
+     *
+     * @param e    matrix in column order.
+     * @param rows number of rows of matrix.
+     * @param cols number of rows to extract.
+     * @param nrhs number of columns of matrix.
+     * @return cols x nrhs matrix in column order.
+     */
+    private static double[] top(final double[] e, final int rows, final int cols, final int nrhs) {
+        final var result = new double[cols * nrhs];
+        for (var j = 0; j < nrhs; j++) {
+            System.arraycopy(e, j * rows, result, j * cols, cols);
+        }
+        return result;
+    }
+
+    /**
+     * Node of reduction tree. Leaves contain chunks of rows of decomposed
+     * matrix, while internal nodes contain triangular factors of both children
+     * stacked on top of each other. Once decomposed, buffer of each node
+     * contains Householder vectors and strict upper triangle of its triangular
+     * factor, as computed by {@link HouseholderQRFactorizer}.
+     */
+    private static final class Node {
+
+        /**
+         * Number of rows of node.
+         */
+        private final int rows;
+
+        /**
+         * First row of decomposed matrix contained in leaf.
+         */
+        private final int firstRow;
+
+        /**
+         * Left child, or null if node is a leaf.
+         */
+        private final Node left;
+
+        /**
+         * Right child, or null if node is a leaf.
+         */
+        private final Node right;
+
+        /**
+         * Buffer containing decomposed rows in column order.
+         */
+        private final double[] qr;
+
+        /**
+         * Diagonal of triangular factor.
+         */
+        private final double[] rDiag;
+
+        /**
+         * Triangular factors of compact WY form of reflections.
+         */
+        private final double[] t;
+
+        /**
+         * Constructor.
+         *
+         * @param rows     number of rows of node.
+         * @param cols     number of columns.
+         * @param firstRow first row of decomposed matrix contained in leaf.
+         * @param left     left child, or null if node is a leaf.
+         * @param right    right child, or null if node is a leaf.
+         */
+        private Node(final int rows, final int cols, final int firstRow, final Node left, final Node right) {
+            this.rows = rows;
+            this.firstRow = firstRow;
+            this.left = left;
+            this.right = right;
+            qr = new double[rows * cols];
+            rDiag = new double[cols];
+            t = new double[HouseholderQRFactorizer.BLOCK_SIZE * Math.min(rows, cols)];
+        }
+    }
+
+    /**
+     * Task decomposing a tree. Both children of a node are decomposed
+     * concurrently before combining them.
+     */
+    private static final class FactorTask extends RecursiveAction {
+
+        /**
+         * Root of tree.
+         */
+        private final transient Node node;
+
+        /**
+         * Number of columns.
+         */
+        private final int cols;
+
+        /**
+         * Buffer containing decomposed matrix in column order.
+         */
+        private final double[] source;
+
+        /**
+         * Leading dimension of decomposed matrix.
+         */
+        private final int ldSource;
+
+        /**
+         * Constructor.
+         *
+         * @param node     root of tree.
+         * @param cols     number of columns.
+         * @param source   buffer containing decomposed matrix in column order.
+         * @param ldSource leading dimension of decomposed matrix.
+         */
+        private FactorTask(final Node node, final int cols, final double[] source, final int ldSource) {
+            this.node = node;
+            this.cols = cols;
+            this.source = source;
+            this.ldSource = ldSource;
+        }
+
+        /**
+         * Decomposes tree.
+         */
+        @Override
+        protected void compute() {
+            if (node.left == null) {
+                factorLeaf(node, cols, source, ldSource);
+                return;
+            }
+
+            invokeAll(new FactorTask(node.left, cols, source, ldSource),
+                    new FactorTask(node.right, cols, source, ldSource));
+            combine(node, cols);
+        }
+    }
+
+    /**
+     * Task computing rows of Q corresponding to the chunks of a tree. Both
+     * children of a node are processed concurrently.
+     */
+    private static final class FormQTask extends RecursiveAction {
+
+        /**
+         * Root of tree.
+         */
+        private final transient Node node;
+
+        /**
+         * Number of columns.
+         */
+        private final int cols;
+
+        /**
+         * Coefficients that orthogonal factor of node is applied to.
+         */
+        private final double[] coefficients;
+
+        /**
+         * Buffer where Q is stored in column order.
+         */
+        private final double[] q;
+
+        /**
+         * Leading dimension of Q.
+         */
+        private final int ldq;
+
+        /**
+         * Constructor.
+         *
+         * @param node         root of tree.
+         * @param cols         number of columns.
+         * @param coefficients coefficients that orthogonal factor of node is
+         *                     applied to.
+         * @param q            buffer where Q is stored in column order.
+         * @param ldq          leading dimension of Q.
+         */
+        private FormQTask(final Node node, final int cols, final double[] coefficients, final double[] q,
+                          final int ldq) {
+            this.node = node;
+            this.cols = cols;
+            this.coefficients = coefficients;
+            this.q = q;
+            this.ldq = ldq;
+        }
+
+        /**
+         * Computes rows of Q.
+         */
+        @Override
+        protected void compute() {
+            final var e = applyQ(node, cols, coefficients, q, ldq);
+            if (e != null) {
+                invokeAll(new FormQTask(node.left, cols, leftCoefficients(e, cols), q, ldq),
+                        new FormQTask(node.right, cols, rightCoefficients(e, cols), q, ldq));
+            }
+        }
+    }
+
+    /**
+     * Task computing first cols rows of Q' * B for the rows of B corresponding
+     * to the chunks of a tree. Both children of a node are processed
+     * concurrently.
+     */
+    private static final class ApplyQtTask extends RecursiveTask<double[]> {
+
+        /**
+         * Root of tree.
+         */
+        private final transient Node node;
+
+        /**
+         * Number of columns.
+         */
+        private final int cols;
+
+        /**
+         * Buffer containing B in column order.
+         */
+        private final double[] b;
+
+        /**
+         * Leading dimension of B.
+         */
+        private final int ldb;
+
+        /**
+         * Number of columns of B.
+         */
+        private final int nrhs;
+
+        /**
+         * Constructor.
+         *
+         * @param node root of tree.
+         * @param cols number of columns.
+         * @param b    buffer containing B in column order.
+         * @param ldb  leading dimension of B.
+         * @param nrhs number of columns of B.
+         */
+        private ApplyQtTask(final Node node, final int cols, final double[] b, final int ldb, final int nrhs) {
+            this.node = node;
+            this.cols = cols;
+            this.b = b;
+            this.ldb = ldb;
+            this.nrhs = nrhs;
+        }
+
+        /**
+         * Computes first cols rows of Q' * B.
+         *
+         * @return cols x nrhs matrix in column order.
+         */
+        @Override
+        protected double[] compute() {
+            if (node.left == null) {
+                return applyLeafQt(node, cols, b, ldb, nrhs);
+            }
+
+            final var leftTask = new ApplyQtTask(node.left, cols, b, ldb, nrhs);
+            final var rightTask = new ApplyQtTask(node.right, cols, b, ldb, nrhs);
+            invokeAll(leftTask, rightTask);
+            return applyNodeQt(node, cols, leftTask.join(), rightTask.join(), nrhs);
+        }
+    }
+}
@@ -0,0 +1,587 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Defines a square upper or lower triangular matrix using packed storage.
+ * Only the non-zero triangle (including the diagonal) is stored, column by
+ * column. For upper triangular matrices element (i, j) with i &lt;= j is
+ * stored at position i + j * (j + 1) / 2, and for lower triangular matrices
+ * element (i, j) with i &gt;= j is stored at position
+ * i - j + j * (2 * n - j + 1) / 2 of the internal buffer.
+ * A triangular matrix can also have a unit diagonal, such as the lower
+ * factor of an LU decomposition. In such case diagonal elements are
+ * implicitly one and their stored values are ignored.
+ * Systems of equations having many right hand sides are solved using a
+ * blocked algorithm working on packed storage, so that most of the work is
+ * done by matrix products. Only one block of columns of the triangle is
+ * unpacked at a time, hence no dense copy of the whole matrix is made.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class TriangularMatrix implements Serializable {
+
+    /**
+     * Minimum number of right hand sides to solve using the blocked algorithm.
+     * Fewer right hand sides are solved by plain substitution on packed
+     * storage.
+     */
+    static final int MIN_BLOCKED_COLUMNS = 4;
+
+    /**
+     * Number of rows and columns.
+     */
+    private final int size;
+
+    /**
+     * Indicates whether this matrix is upper or lower triangular.
+     */
+    private final boolean upper;
+
+    /**
+     * Indicates whether diagonal elements are implicitly one.
+     */
+    private final boolean unitDiagonal;
+
+    /**
+     * Packed triangle using column order.
+     */
+    private final double[] buffer;
+
+    /**
+     * Constructor.
+     * Values of a new matrix are initialized to zero, except the diagonal of
+     * unit triangular matrices, which is implicitly one.
+     *
+     * @param size         number of rows and columns.
+     * @param upper        true if matrix is upper triangular, false if it is
+     *                     lower triangular.
+     * @param unitDiagonal true if diagonal elements are implicitly one.
+     * @throws WrongSizeException if provided size is zero or negative, or
+     *                            too large for packed storage to fit in an array.
+     */
+    public TriangularMatrix(final int size, final boolean upper, final boolean unitDiagonal)
+            throws WrongSizeException {
+        if (size <= 0 || (long) size * (size + 1L) / 2 > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+        this.size = size;
+        this.upper = upper;
+        this.unitDiagonal = unitDiagonal;
+        buffer = new double[SymmetricMatrix.getPackedLength(size)];
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param m matrix to copy from.
+     */
+    public TriangularMatrix(final TriangularMatrix m) {
+        size = m.size;
+        upper = m.upper;
+        unitDiagonal = m.unitDiagonal;
+        buffer = Arrays.copyOf(m.buffer, m.buffer.length);
+    }
+
+    /**
+     * Creates a triangular matrix from the upper or lower triangle of provided
+     * square matrix. The other triangle of provided matrix is ignored, and so
+     * is its diagonal if the triangular matrix has a unit diagonal.
+     *
+     * @param m            square matrix.
+     * @param upper        true to take the upper triangle, false to take the
+     *                     lower one.
+     * @param unitDiagonal true if diagonal elements are implicitly one.
+     * @return a new triangular matrix.
+     * @throws WrongSizeException   if provided matrix is not square.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static TriangularMatrix newFromMatrix(final Matrix m, final boolean upper, final boolean unitDiagonal)
+            throws WrongSizeException {
+        final var n = m.getRows();
+        if (m.getColumns() != n) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new TriangularMatrix(n, upper, unitDiagonal);
+        result.pack(m.getBuffer(), 0, n);
+        return result;
+    }
+
+    /**
+     * Returns number of rows and columns of this matrix.
+     *
+     * @return number of rows and columns.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Indicates whether this matrix is upper triangular.
+     *
+     * @return true if matrix is upper triangular, false if it is lower
+     * triangular.
+     */
+    public boolean isUpper() {
+        return upper;
+    }
+
+    /**
+     * Indicates whether diagonal elements of this matrix are implicitly one.
+     *
+     * @return true if diagonal is unit, false otherwise.
+     */
+    public boolean isUnitDiagonal() {
+        return unitDiagonal;
+    }
+
+    /**
+     * Returns internal buffer containing the packed triangle using column
+     * order.
+     *
+     * @return internal buffer.
+     */
+    public double[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Obtains element located at provided position. Elements outside the
+     * stored triangle are zero, and diagonal elements of unit triangular
+     * matrices are one.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public double getElementAt(final int row, final int column) {
+        checkPosition(row, column);
+        if (row == column && unitDiagonal) {
+            return 1.0;
+        }
+        if (upper ? row > column : row < column) {
+            return 0.0;
+        }
+        return buffer[getColumnStart(column) + row];
+    }
+
+    /**
+     * Sets element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix, outside the stored triangle, or on the diagonal of a unit
+     *                                  triangular matrix.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        checkPosition(row, column);
+        if ((upper ? row > column : row < column) || (row == column && unitDiagonal)) {
+            throw new IllegalArgumentException();
+        }
+        buffer[getColumnStart(column) + row] = value;
+    }
+
+    /**
+     * Copies this matrix into provided dense matrix, filling the other
+     * triangle with zeros. Provided matrix is resized if needed.
+     *
+     * @param result dense matrix where data is copied.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public void copyTo(final Matrix result) {
+        if (result.getRows() != size || result.getColumns() != size) {
+            try {
+                result.resize(size, size);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        unpack(result.getBuffer());
+    }
+
+    /**
+     * Converts this matrix into a dense matrix.
+     *
+     * @return a new dense matrix.
+     */
+    public Matrix toMatrix() {
+        Matrix result = null;
+        try {
+            result = new Matrix(size, size);
+            unpack(result.getBuffer());
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        return result;
+    }
+
+    /**
+     * Transposes this matrix and returns the result as a new instance. The
+     * transpose of an upper triangular matrix is lower triangular and
+     * vice versa.
+     *
+     * @return transposed matrix.
+     */
+    public TriangularMatrix transposeAndReturnNew() {
+        TriangularMatrix result = null;
+        try {
+            result = new TriangularMatrix(size, !upper, unitDiagonal);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+
+        // row j of this matrix becomes column j of the result
+        for (var j = 0; j < size; j++) {
+            final var startResult = result.getColumnStart(j);
+            if (upper) {
+                for (var i = j; i < size; i++) {
+                    result.buffer[startResult + i] = buffer[getColumnStart(i) + j];
+                }
+            } else {
+                for (var i = 0; i <= j; i++) {
+                    result.buffer[startResult + i] = buffer[getColumnStart(i) + j];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes determinant of this matrix as the product of its diagonal.
+     *
+     * @return determinant.
+     */
+    public double determinant() {
+        if (unitDiagonal) {
+            return 1.0;
+        }
+        var det = 1.0;
+        for (var j = 0; j < size; j++) {
+            det *= buffer[getColumnStart(j) + j];
+        }
+        return det;
+    }
+
+    /**
+     * Indicates whether this matrix is singular, which happens when any
+     * element of its diagonal is zero.
+     *
+     * @return true if matrix is singular, false otherwise.
+     */
+    public boolean isSingular() {
+        if (unitDiagonal) {
+            return false;
+        }
+        for (var j = 0; j < size; j++) {
+            if (buffer[getColumnStart(j) + j] == 0.0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Solves linear system of equations A * x = b, where A is this matrix.
+     * Provided arrays can be the same instance.
+     *
+     * @param b      right hand side.
+     * @param result array where solution is stored.
+     * @throws WrongSizeException      if provided arrays do not have the size
+     *                                 of this matrix.
+     * @throws SingularMatrixException if this matrix is singular.
+     * @throws NullPointerException    if any of provided arrays is null.
+     */
+    public void solve(final double[] b, final double[] result) throws WrongSizeException, SingularMatrixException {
+        if (b.length != size || result.length != size) {
+            throw new WrongSizeException();
+        }
+        if (isSingular()) {
+            throw new SingularMatrixException();
+        }
+
+        if (result != b) {
+            System.arraycopy(b, 0, result, 0, size);
+        }
+        internalSolve(result, 0);
+    }
+
+    /**
+     * Solves linear system of equations A * x = b, where A is this matrix.
+     *
+     * @param b right hand side.
+     * @return a new array containing solution.
+     * @throws WrongSizeException      if provided array does not have the size
+     *                                 of this matrix.
+     * @throws SingularMatrixException if this matrix is singular.
+     * @throws NullPointerException    if provided array is null.
+     */
+    public double[] solve(final double[] b) throws WrongSizeException, SingularMatrixException {
+        final var result = new double[size];
+        solve(b, result);
+        return result;
+    }
+
+    /**
+     * Solves linear system of equations A * X = B, where A is this matrix and
+     * each column of B is a right hand side. Many right hand sides are solved
+     * at once using a blocked algorithm.
+     * Provided result matrix is resized if needed, and can be the same
+     * instance as b.
+     *
+     * @param b      right hand sides.
+     * @param result matrix where solutions are stored.
+     * @throws WrongSizeException      if number of rows of b is not equal to
+     *                                 size of this matrix.
+     * @throws SingularMatrixException if this matrix is singular.
+     * @throws NullPointerException    if any of provided matrices is null.
+     */
+    public void solve(final Matrix b, final Matrix result) throws WrongSizeException, SingularMatrixException {
+        if (b.getRows() != size) {
+            throw new WrongSizeException();
+        }
+        if (isSingular()) {
+            throw new SingularMatrixException();
+        }
+
+        final var colsB = b.getColumns();
+        if (result != b) {
+            if (result.getRows() != size || result.getColumns() != colsB) {
+                result.resize(size, colsB);
+            }
+            result.copyFrom(b);
+        }
+
+        final var x = result.getBuffer();
+        if (colsB < MIN_BLOCKED_COLUMNS) {
+            for (var j = 0; j < colsB; j++) {
+                internalSolve(x, j * size);
+            }
+        } else {
+            internalBlockedSolve(x, colsB);
+        }
+    }
+
+    /**
+     * Solves linear system of equations A * X = B, where A is this matrix and
+     * each column of B is a right hand side.
+     *
+     * @param b right hand sides.
+     * @return a new matrix containing solutions.
+     * @throws WrongSizeException      if number of rows of b is not equal to
+     *                                 size of this matrix.
+     * @throws SingularMatrixException if this matrix is singular.
+     * @throws NullPointerException    if provided matrix is null.
+     */
+    public Matrix solve(final Matrix b) throws WrongSizeException, SingularMatrixException {
+        final var result = new Matrix(size, b.getColumns());
+        solve(b, result);
+        return result;
+    }
+
+    /**
+     * Checks if provided object is a triangular matrix having exactly the
+     * same contents as this matrix.
+     *
+     * @param obj object to be compared.
+     * @return true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TriangularMatrix other)) {
+            return false;
+        }
+        return size == other.size && upper == other.upper && unitDiagonal == other.unitDiagonal
+                && Arrays.equals(buffer, other.buffer);
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * size + Boolean.hashCode(upper)) + Boolean.hashCode(unitDiagonal))
+                + Arrays.hashCode(buffer);
+    }
+
+    /**
+     * Copies the triangle of this matrix from a dense column-major buffer.
+     *
+     * @param src    buffer containing dense matrix.
+     * @param offset position of first element within buffer.
+     * @param ld     leading dimension of dense matrix.
+     */
+    void pack(final double[] src, final int offset, final int ld) {
+        for (var j = 0; j < size; j++) {
+            final var start = getColumnStart(j);
+            if (upper) {
+                System.arraycopy(src, offset + j * ld, buffer, start, j + 1);
+            } else {
+                System.arraycopy(src, offset + j * ld + j, buffer, start + j, size - j);
+            }
+            if (unitDiagonal) {
+                buffer[start + j] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * Returns position within packed storage so that element (i, j) of the
+     * stored triangle is located at position i plus the returned value.
+     *
+     * @param column column.
+     * @return position where column starts minus first stored row.
+     */
+    private int getColumnStart(final int column) {
+        if (upper) {
+            return SymmetricMatrix.getColumnStart(column);
+        } else {
+            // columns before this one store size, size - 1, ... elements
+            return (int) ((long) column * (2L * size - column + 1) / 2 - column);
+        }
+    }
+
+    /**
+     * Copies this matrix into a dense column-major buffer of size x size
+     * elements, filling the other triangle with zeros.
+     *
+     * @param dst buffer where data is copied.
+     */
+    private void unpack(final double[] dst) {
+        Arrays.fill(dst, 0, size * size, 0.0);
+        for (var j = 0; j < size; j++) {
+            final var start = getColumnStart(j);
+            if (upper) {
+                System.arraycopy(buffer, start, dst, j * size, j + 1);
+            } else {
+                System.arraycopy(buffer, start + j, dst, j * size + j, size - j);
+            }
+            if (unitDiagonal) {
+                dst[j * size + j] = 1.0;
+            }
+        }
+    }
+
+    /**
+     * Solves A * x = b by substitution directly on packed storage, where b is
+     * stored in provided array starting at provided offset and is
+     * overwritten with solution x.
+     *
+     * @param x      array containing right hand side.
+     * @param offset position of first element.
+     */
+    private void internalSolve(final double[] x, final int offset) {
+        if (upper) {
+            for (var k = size - 1; k >= 0; k--) {
+                final var start = getColumnStart(k);
+                final var xk = unitDiagonal ? x[offset + k] : x[offset + k] / buffer[start + k];
+                x[offset + k] = xk;
+                for (var i = 0; i < k; i++) {
+                    x[offset + i] -= xk * buffer[start + i];
+                }
+            }
+        } else {
+            for (var k = 0; k < size; k++) {
+                final var start = getColumnStart(k);
+                final var xk = unitDiagonal ? x[offset + k] : x[offset + k] / buffer[start + k];
+                x[offset + k] = xk;
+                for (var i = k + 1; i < size; i++) {
+                    x[offset + i] -= xk * buffer[start + i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves A * X = B using a blocked algorithm on packed storage, where B is
+     * stored in provided array using column order and is overwritten with
+     * solution X.
+     * Columns of the triangle are unpacked one block at a time into a scratch
+     * panel, whose diagonal block is solved by substitution and whose
+     * remaining rows are used to update the remaining right hand sides with a
+     * matrix product. The other triangle of the panel is never accessed, hence
+     * it is left uninitialized. Blocks are the same as the ones used by
+     * {@link TriangularSolver}, hence results are identical to solving a dense
+     * copy of this matrix.
+     *
+     * @param x    array containing right hand sides.
+     * @param nrhs number of right hand sides.
+     */
+    private void internalBlockedSolve(final double[] x, final int nrhs) {
+        final var panel = new double[size * Math.min(size, TriangularSolver.BLOCK_SIZE)];
+        if (upper) {
+            // rows are solved from last to first. Panel contains rows 0 to k1
+            // of columns k0 to k1
+            for (var k1 = size; k1 > 0; k1 -= TriangularSolver.BLOCK_SIZE) {
+                final var k0 = Math.max(0, k1 - TriangularSolver.BLOCK_SIZE);
+                final var ld = k1;
+                for (var j = k0; j < k1; j++) {
+                    System.arraycopy(buffer, getColumnStart(j), panel, (j - k0) * ld, j + 1);
+                }
+                TriangularSolver.solve(true, false, unitDiagonal, null, k1 - k0, nrhs,
+                        panel, k0, ld, x, k0, size);
+
+                if (k0 > 0) {
+                    // b(0:k0, :) -= a(0:k0, k0:k1) * x(k0:k1, :)
+                    BlockedMatrixMultiplier.gemm(false, false, k0, nrhs, k1 - k0,
+                            -1.0, panel, 0, ld, x, k0, size, 1.0, x, 0, size);
+                }
+            }
+        } else {
+            // rows are solved from first to last. Panel contains rows k0 to
+            // size of columns k0 to k1
+            for (var k0 = 0; k0 < size; k0 += TriangularSolver.BLOCK_SIZE) {
+                final var k1 = Math.min(size, k0 + TriangularSolver.BLOCK_SIZE);
+                final var ld = size - k0;
+                for (var j = k0; j < k1; j++) {
+                    System.arraycopy(buffer, getColumnStart(j) + j, panel, (j - k0) * (ld + 1), size - j);
+                }
+                TriangularSolver.solve(false, false, unitDiagonal, null, k1 - k0, nrhs,
+                        panel, 0, ld, x, k0, size);
+
+                if (k1 < size) {
+                    // b(k1:n, :) -= a(k1:n, k0:k1) * x(k0:k1, :)
+                    BlockedMatrixMultiplier.gemm(false, false, size - k1, nrhs, k1 - k0,
+                            -1.0, panel, k1 - k0, ld, x, k0, size, 1.0, x, k1, size);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that provided position lies within this matrix.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @throws IllegalArgumentException if position is not valid.
+     */
+    private void checkPosition(final int row, final int column) {
+        if (row < 0 || row >= size || column < 0 || column >= size) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+/**
+ * Solves triangular systems of equations having many right hand sides
+ * (i.e. op(a) * x = b, where a is triangular and op(a) is either a or its
+ * transpose a') on column-major buffers of data.
+ * The triangular matrix is split into square blocks along its diagonal. Each
+ * diagonal block is solved by substitution, and the remaining right hand
+ * sides are then updated with a single matrix product computed by
+ * {@link BlockedMatrixMultiplier#gemm}, so that most of the work is done at
+ * the speed of a matrix product instead of one element at a time.
+ * Operands are described, in the same way as in
+ * {@link BlockedMatrixMultiplier}, by their buffer, the position of their
+ * first element and their leading dimension.
+ */
+final class TriangularSolver {
+
+    /**
+     * Number of rows and columns of diagonal blocks solved by substitution.
+     */
+    static final int BLOCK_SIZE = 64;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private TriangularSolver() {
+    }
+
+    /**
+     * Solves op(a) * x = b in place, where a is a n x n triangular matrix and
+     * b is a n x nrhs matrix that is overwritten with solution x.
+     * Only the triangle of a indicated by provided upper flag is accessed,
+     * hence the other triangle may contain any data (e.g. the other factor of
+     * a decomposition). No check is made for zero elements on the diagonal.
+     *
+     * @param upper        true if a is upper triangular, false if it is lower
+     *                     triangular.
+     * @param transpose    true to solve a' * x = b, false to solve a * x = b.
+     * @param unitDiagonal true if diagonal of a is implicitly one and must not
+     *                     be accessed.
+     * @param diagonal     diagonal of a to be used instead of the one stored in
+     *                     its buffer, or null to use the stored one. Ignored if
+     *                     diagonal is unit.
+     * @param n            number of rows and columns of a.
+     * @param nrhs         number of columns of b (i.e. number of right hand
+     *                     sides).
+     * @param a            buffer containing triangular matrix.
+     * @param offsetA      position of first element of a within its buffer.
+     * @param lda          leading dimension of a.
+     * @param b            buffer containing right hand sides, where solution
+     *                     will be stored.
+     * @param offsetB      position of first element of b within its buffer.
+     * @param ldb          leading dimension of b.
+     */
+    static void solve(final boolean upper, final boolean transpose, final boolean unitDiagonal,
+                      final double[] diagonal, final int n, final int nrhs,
+                      final double[] a, final int offsetA, final int lda,
+                      final double[] b, final int offsetB, final int ldb) {
+        if (upper == transpose) {
+            // lower matrix or transposed upper matrix, rows are solved from
+            // first to last
+            for (var k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+                final var k1 = Math.min(n, k0 + BLOCK_SIZE);
+                solveBlock(upper, transpose, unitDiagonal, diagonal, k0, k1, nrhs, a, offsetA, lda, b, offsetB, ldb);
+
+                if (k1 < n) {
+                    // b(k1:n, :) -= op(a)(k1:n, k0:k1) * x(k0:k1, :)
+                    final var positionA = transpose ? offsetA + k0 + k1 * lda : offsetA + k1 + k0 * lda;
+                    BlockedMatrixMultiplier.gemm(transpose, false, n - k1, nrhs, k1 - k0,
+                            -1.0, a, positionA, lda, b, offsetB + k0, ldb,
+                            1.0, b, offsetB + k1, ldb);
+                }
+            }
+        } else {
+            // upper matrix or transposed lower matrix, rows are solved from
+            // last to first
+            for (var k1 = n; k1 > 0; k1 -= BLOCK_SIZE) {
+                final var k0 = Math.max(0, k1 - BLOCK_SIZE);
+                solveBlock(upper, transpose, unitDiagonal, diagonal, k0, k1, nrhs, a, offsetA, lda, b, offsetB, ldb);
+
+                if (k0 > 0) {
+                    // b(0:k0, :) -= op(a)(0:k0, k0:k1) * x(k0:k1, :)
+                    final var positionA = transpose ? offsetA + k0 : offsetA + k0 * lda;
+                    BlockedMatrixMultiplier.gemm(transpose, false, k0, nrhs, k1 - k0,
+                            -1.0, a, positionA, lda, b, offsetB + k0, ldb,
+                            1.0, b, offsetB, ldb);
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves rows k0 to k1 (exclusive) of b by substitution using the diagonal
+     * block of a between those rows and columns. Rows of b that depend on
+     * other blocks must have already been updated.
+     *
+     * @param upper        true if a is upper triangular.
+     * @param transpose    true if a is transposed.
+     * @param unitDiagonal true if diagonal of a is implicitly one.
+     * @param diagonal     diagonal to be used instead of the stored one or null.
+     * @param k0           first row of block.
+     * @param k1           last row of block (exclusive).
+     * @param nrhs         number of right hand sides.
+     * @param a            buffer containing triangular matrix.
+     * @param offsetA      position of first element of a.
+     * @param lda          leading dimension of a.
+     * @param b            buffer containing right hand sides.
+     * @param offsetB      position of first element of b.
+     * @param ldb          leading dimension of b.
+     */
+    private static void solveBlock(final boolean upper, final boolean transpose, final boolean unitDiagonal,
+                                   final double[] diagonal, final int k0, final int k1, final int nrhs,
+                                   final double[] a, final int offsetA, final int lda,
+                                   final double[] b, final int offsetB, final int ldb) {
+        for (var j = 0; j < nrhs; j++) {
+            final var startB = offsetB + j * ldb;
+            if (!transpose) {
+                if (upper) {
+                    // once x(k) is found, column k of a is subtracted from
+                    // rows above it
+                    for (var k = k1 - 1; k >= k0; k--) {
+                        final var startA = offsetA + k * lda;
+                        final var xk = divide(b[startB + k], unitDiagonal, diagonal, k, a, startA);
+                        b[startB + k] = xk;
+                        for (var i = k0; i < k; i++) {
+                            b[startB + i] -= xk * a[startA + i];
+                        }
+                    }
+                } else {
+                    // once x(k) is found, column k of a is subtracted from
+                    // rows below it
+                    for (var k = k0; k < k1; k++) {
+                        final var startA = offsetA + k * lda;
+                        final var xk = divide(b[startB + k], unitDiagonal, diagonal, k, a, startA);
+                        b[startB + k] = xk;
+                        for (var i = k + 1; i < k1; i++) {
+                            b[startB + i] -= xk * a[startA + i];
+                        }
+                    }
+                }
+            } else {
+                if (upper) {
+                    // row k of a' is column k of a, which is contiguous
+                    for (var k = k0; k < k1; k++) {
+                        final var startA = offsetA + k * lda;
+                        var s = b[startB + k];
+                        for (var i = k0; i < k; i++) {
+                            s -= a[startA + i] * b[startB + i];
+                        }
+                        b[startB + k] = divide(s, unitDiagonal, diagonal, k, a, startA);
+                    }
+                } else {
+                    for (var k = k1 - 1; k >= k0; k--) {
+                        final var startA = offsetA + k * lda;
+                        var s = b[startB + k];
+                        for (var i = k + 1; i < k1; i++) {
+                            s -= a[startA + i] * b[startB + i];
+                        }
+                        b[startB + k] = divide(s, unitDiagonal, diagonal, k, a, startA);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Divides provided value by k-th element of the diagonal.
+     *
+     * @param value        value to be divided.
+     * @param unitDiagonal true if diagonal is implicitly one.
+     * @param diagonal     diagonal to be used instead of the stored one or null.
+     * @param k            position of diagonal element.
+     * @param a            buffer containing triangular matrix.
+     * @param startA       position where column k of a starts.
+     * @return result of division.
+     */
+    private static double divide(final double value, final boolean unitDiagonal, final double[] diagonal,
+                                 final int k, final double[] a, final int startA) {
+        if (unitDiagonal) {
+            return value;
+        }
+        return value / (diagonal != null ? diagonal[k] : a[startA + k]);
+    }
+}
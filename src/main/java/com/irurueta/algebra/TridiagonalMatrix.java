@@ -0,0 +1,468 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Defines a square tridiagonal matrix, where all non-zero elements lie on
+ * the main diagonal or the diagonals immediately below and above it.
+ * Each diagonal is stored in its own array, so that a tridiagonal matrix of
+ * size n requires 3 * n - 2 elements.
+ * Systems of equations are solved in O(n) time using the Thomas algorithm
+ * (i.e. Gaussian elimination without pivoting), which is stable for
+ * diagonally dominant or symmetric positive definite matrices, such as those
+ * found when fitting splines. Other matrices can be solved using LU
+ * decomposition with partial pivoting of {@link #toBandedMatrix()}.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class TridiagonalMatrix implements Serializable {
+
+    /**
+     * Number of rows and columns.
+     */
+    private final int size;
+
+    /**
+     * Diagonal below the main diagonal, where element i is located at
+     * position (i + 1, i).
+     */
+    private final double[] lower;
+
+    /**
+     * Main diagonal.
+     */
+    private final double[] diagonal;
+
+    /**
+     * Diagonal above the main diagonal, where element i is located at
+     * position (i, i + 1).
+     */
+    private final double[] upper;
+
+    /**
+     * Constructor.
+     * Values of a new matrix are initialized to zero.
+     *
+     * @param size number of rows and columns.
+     * @throws WrongSizeException if provided size is zero or negative.
+     */
+    public TridiagonalMatrix(final int size) throws WrongSizeException {
+        if (size <= 0) {
+            throw new WrongSizeException();
+        }
+        this.size = size;
+        lower = new double[size - 1];
+        diagonal = new double[size];
+        upper = new double[size - 1];
+    }
+
+    /**
+     * Constructor using provided diagonals, which are copied.
+     *
+     * @param lower    diagonal below the main diagonal.
+     * @param diagonal main diagonal.
+     * @param upper    diagonal above the main diagonal.
+     * @throws WrongSizeException   if main diagonal is empty or other diagonals
+     *                              do not have one element less than the main diagonal.
+     * @throws NullPointerException if any of provided arrays is null.
+     */
+    public TridiagonalMatrix(final double[] lower, final double[] diagonal, final double[] upper)
+            throws WrongSizeException {
+        this(diagonal.length);
+        if (lower.length != size - 1 || upper.length != size - 1) {
+            throw new WrongSizeException();
+        }
+        System.arraycopy(lower, 0, this.lower, 0, size - 1);
+        System.arraycopy(diagonal, 0, this.diagonal, 0, size);
+        System.arraycopy(upper, 0, this.upper, 0, size - 1);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param m matrix to copy from.
+     */
+    public TridiagonalMatrix(final TridiagonalMatrix m) {
+        size = m.size;
+        lower = Arrays.copyOf(m.lower, m.lower.length);
+        diagonal = Arrays.copyOf(m.diagonal, m.diagonal.length);
+        upper = Arrays.copyOf(m.upper, m.upper.length);
+    }
+
+    /**
+     * Creates a tridiagonal matrix from provided square matrix. Elements of
+     * provided matrix outside the three diagonals are ignored.
+     *
+     * @param m square matrix.
+     * @return a new tridiagonal matrix.
+     * @throws WrongSizeException   if provided matrix is not square.
+     * @throws NullPointerException if provided matrix is null.
+     */
+    public static TridiagonalMatrix newFromMatrix(final Matrix m) throws WrongSizeException {
+        final var n = m.getRows();
+        if (m.getColumns() != n) {
+            throw new WrongSizeException();
+        }
+
+        final var result = new TridiagonalMatrix(n);
+        final var src = m.getBuffer();
+        for (var i = 0; i < n; i++) {
+            result.diagonal[i] = src[i * n + i];
+            if (i < n - 1) {
+                result.lower[i] = src[i * n + i + 1];
+                result.upper[i] = src[(i + 1) * n + i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of rows and columns of this matrix.
+     *
+     * @return number of rows and columns.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns internal array containing diagonal below the main diagonal,
+     * where element i is located at position (i + 1, i).
+     *
+     * @return lower diagonal.
+     */
+    public double[] getLower() {
+        return lower;
+    }
+
+    /**
+     * Returns internal array containing main diagonal.
+     *
+     * @return main diagonal.
+     */
+    public double[] getDiagonal() {
+        return diagonal;
+    }
+
+    /**
+     * Returns internal array containing diagonal above the main diagonal,
+     * where element i is located at position (i, i + 1).
+     *
+     * @return upper diagonal.
+     */
+    public double[] getUpper() {
+        return upper;
+    }
+
+    /**
+     * Obtains element located at provided position. Elements outside the
+     * three diagonals are zero.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @return value of element.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  matrix.
+     */
+    public double getElementAt(final int row, final int column) {
+        if (row < 0 || row >= size || column < 0 || column >= size) {
+            throw new IllegalArgumentException();
+        }
+        if (row == column) {
+            return diagonal[row];
+        } else if (row == column + 1) {
+            return lower[column];
+        } else if (column == row + 1) {
+            return upper[row];
+        } else {
+            return 0.0;
+        }
+    }
+
+    /**
+     * Sets element located at provided position.
+     *
+     * @param row    row of element.
+     * @param column column of element.
+     * @param value  value to be set.
+     * @throws IllegalArgumentException if provided position lies outside the
+     *                                  three diagonals.
+     */
+    public void setElementAt(final int row, final int column, final double value) {
+        if (row < 0 || row >= size || column < 0 || column >= size) {
+            throw new IllegalArgumentException();
+        }
+        if (row == column) {
+            diagonal[row] = value;
+        } else if (row == column + 1) {
+            lower[column] = value;
+        } else if (column == row + 1) {
+            upper[row] = value;
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Converts this matrix into a dense matrix.
+     *
+     * @return a new dense matrix.
+     * @throws WrongSizeException if a dense matrix of the size of this matrix
+     *                            does not fit in an array.
+     */
+    public Matrix toMatrix() throws WrongSizeException {
+        if ((long) size * size > Integer.MAX_VALUE) {
+            throw new WrongSizeException();
+        }
+        final var result = new Matrix(size, size);
+        final var dst = result.getBuffer();
+        for (var i = 0; i < size; i++) {
+            dst[i * size + i] = diagonal[i];
+            if (i < size - 1) {
+                dst[i * size + i + 1] = lower[i];
+                dst[(i + 1) * size + i] = upper[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts this matrix into a banded matrix having one diagonal below
+     * and above the main diagonal.
+     *
+     * @return a new banded matrix.
+     */
+    public BandedMatrix toBandedMatrix() {
+        final var bandwidth = size > 1 ? 1 : 0;
+        BandedMatrix result = null;
+        try {
+            result = new BandedMatrix(size, bandwidth, bandwidth);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        for (var i = 0; i < size; i++) {
+            result.setElementAt(i, i, diagonal[i]);
+            if (i < size - 1) {
+                result.setElementAt(i + 1, i, lower[i]);
+                result.setElementAt(i, i + 1, upper[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by provided vector and stores the result into
+     * provided array.
+     *
+     * @param x      vector to be multiplied.
+     * @param result array where result is stored. Must not be x.
+     * @throws WrongSizeException       if any of provided arrays does not have
+     *                                  the size of this matrix.
+     * @throws IllegalArgumentException if result is x.
+     * @throws NullPointerException     if any of provided arrays is null.
+     */
+    public void multiply(final double[] x, final double[] result) throws WrongSizeException {
+        if (x.length != size || result.length != size) {
+            throw new WrongSizeException();
+        }
+        if (x == result) {
+            throw new IllegalArgumentException();
+        }
+
+        for (var i = 0; i < size; i++) {
+            var value = diagonal[i] * x[i];
+            if (i > 0) {
+                value += lower[i - 1] * x[i - 1];
+            }
+            if (i < size - 1) {
+                value += upper[i] * x[i + 1];
+            }
+            result[i] = value;
+        }
+    }
+
+    /**
+     * Multiplies this matrix by provided vector.
+     *
+     * @param x vector to be multiplied.
+     * @return a new array containing the result.
+     * @throws WrongSizeException   if provided array does not have the size of
+     *                              this matrix.
+     * @throws NullPointerException if provided array is null.
+     */
+    public double[] multiplyAndReturnNew(final double[] x) throws WrongSizeException {
+        final var result = new double[size];
+        multiply(x, result);
+        return result;
+    }
+
+    /**
+     * Solves linear system A * x = b, where A is this matrix, using the Thomas
+     * algorithm. Provided arrays can be the same instance.
+     * This matrix is not modified.
+     *
+     * @param b      right hand side.
+     * @param result array where solution is stored.
+     * @throws WrongSizeException      if any of provided arrays does not have
+     *                                 the size of this matrix.
+     * @throws SingularMatrixException if a zero pivot is found, either because
+     *                                 this matrix is singular or because it requires pivoting.
+     * @throws NullPointerException    if any of provided arrays is null.
+     */
+    public void solve(final double[] b, final double[] result) throws WrongSizeException,
+            SingularMatrixException {
+        if (b.length != size || result.length != size) {
+            throw new WrongSizeException();
+        }
+
+        final var pivots = new double[size];
+        final var factors = new double[size - 1];
+        factorize(pivots, factors);
+
+        if (b != result) {
+            System.arraycopy(b, 0, result, 0, size);
+        }
+        internalSolve(pivots, factors, result, 0);
+    }
+
+    /**
+     * Solves linear system A * x = b, where A is this matrix, using the Thomas
+     * algorithm.
+     *
+     * @param b right hand side.
+     * @return a new array containing the solution.
+     * @throws WrongSizeException      if provided array does not have the size
+     *                                 of this matrix.
+     * @throws SingularMatrixException if a zero pivot is found, either because
+     *                                 this matrix is singular or because it requires pivoting.
+     * @throws NullPointerException    if provided array is null.
+     */
+    public double[] solve(final double[] b) throws WrongSizeException, SingularMatrixException {
+        final var result = new double[size];
+        solve(b, result);
+        return result;
+    }
+
+    /**
+     * Solves linear system A * X = B, where A is this matrix and each column
+     * of B contains a different right hand side, using the Thomas algorithm.
+     * Elimination factors are computed once and reused for all right hand
+     * sides.
+     *
+     * @param b right hand side.
+     * @return a new matrix containing the solution.
+     * @throws WrongSizeException      if provided matrix does not have proper
+     *                                 number of rows.
+     * @throws SingularMatrixException if a zero pivot is found, either because
+     *                                 this matrix is singular or because it requires pivoting.
+     * @throws NullPointerException    if provided matrix is null.
+     */
+    public Matrix solve(final Matrix b) throws WrongSizeException, SingularMatrixException {
+        if (b.getRows() != size) {
+            throw new WrongSizeException();
+        }
+
+        final var pivots = new double[size];
+        final var factors = new double[size - 1];
+        factorize(pivots, factors);
+
+        final var result = new Matrix(b);
+        final var x = result.getBuffer();
+        for (var k = 0; k < result.getColumns(); k++) {
+            internalSolve(pivots, factors, x, k * size);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if provided object is a tridiagonal matrix having exactly the
+     * same contents as this matrix.
+     *
+     * @param obj object to be compared.
+     * @return true if both objects are considered to be equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TridiagonalMatrix other)) {
+            return false;
+        }
+        return size == other.size && Arrays.equals(lower, other.lower) && Arrays.equals(diagonal, other.diagonal)
+                && Arrays.equals(upper, other.upper);
+    }
+
+    /**
+     * Computes and returns hash code for this instance.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * size + Arrays.hashCode(lower)) + Arrays.hashCode(diagonal))
+                + Arrays.hashCode(upper);
+    }
+
+    /**
+     * Computes forward elimination of this matrix without modifying it.
+     *
+     * @param pivots  array where pivots of eliminated matrix are stored.
+     * @param factors array where upper diagonal of eliminated matrix divided
+     *                by pivots is stored.
+     * @throws SingularMatrixException if a zero pivot is found.
+     */
+    private void factorize(final double[] pivots, final double[] factors) throws SingularMatrixException {
+        var pivot = diagonal[0];
+        for (var i = 0; i < size; i++) {
+            if (i > 0) {
+                pivot = diagonal[i] - lower[i - 1] * factors[i - 1];
+            }
+            if (pivot == 0.0) {
+                throw new SingularMatrixException();
+            }
+            pivots[i] = pivot;
+            if (i < size - 1) {
+                factors[i] = upper[i] / pivot;
+            }
+        }
+    }
+
+    /**
+     * Solves linear system in place using precomputed elimination.
+     *
+     * @param pivots  pivots of eliminated matrix.
+     * @param factors upper diagonal of eliminated matrix divided by pivots.
+     * @param x       array containing right hand side, where solution is
+     *                stored.
+     * @param offset  position where right hand side starts.
+     */
+    private void internalSolve(final double[] pivots, final double[] factors, final double[] x,
+                               final int offset) {
+        // forward elimination
+        x[offset] /= pivots[0];
+        for (var i = 1; i < size; i++) {
+            x[offset + i] = (x[offset + i] - lower[i - 1] * x[offset + i - 1]) / pivots[i];
+        }
+
+        // back substitution
+        for (var i = size - 2; i >= 0; i--) {
+            x[offset + i] -= factors[i] * x[offset + i + 1];
+        }
+    }
+}
@@ -81,7 +81,24 @@ public class Utils {
      * @see SingularValueDecomposer
      */
     public static double cond(final Matrix m) throws DecomposerException {
-        final var decomposer = new SingularValueDecomposer(m);
+        return cond(m, (Workspace) null);
+    }
+
+    /**
+     * Computes condition number of provided matrix.
+     * Condition number determines how well-behaved a matrix is for solving
+     * a linear system of equations
+     *
+     * @param m Input matrix.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Condition number of provided matrix.
+     * @throws DecomposerException Exception thrown if decomposition fails for
+     *                             any reason.
+     * @see SingularValueDecomposer
+     */
+    public static double cond(final Matrix m, final Workspace workspace) throws DecomposerException {
+        final var decomposer = singularValueDecomposer(m, workspace);
         try {
             decomposer.decompose();
             return decomposer.getConditionNumber();
@@ -89,6 +106,8 @@ public class Utils {
             throw e;
         } catch (final Exception e) {
             throw new DecomposerException(e);
+        } finally {
+            release(decomposer, workspace);
         }
     }
 
@@ -103,7 +122,23 @@ public class Utils {
      *                             any reason.
      */
     public static int rank(final Matrix m) throws DecomposerException {
-        final var decomposer = new SingularValueDecomposer(m);
+        return rank(m, (Workspace) null);
+    }
+
+    /**
+     * Computes rank of provided matrix.
+     * Rank indicates the number of linearly independent columns or rows on
+     * a matrix.
+     *
+     * @param m Input matrix.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Rank of provided matrix.
+     * @throws DecomposerException Exception thrown if decomposition fails for
+     *                             any reason.
+     */
+    public static int rank(final Matrix m, final Workspace workspace) throws DecomposerException {
+        final var decomposer = singularValueDecomposer(m, workspace);
         try {
             decomposer.decompose();
             return decomposer.getRank();
@@ -111,9 +146,173 @@ public class Utils {
             throw e;
         } catch (final Exception e) {
             throw new DecomposerException(e);
+        } finally {
+            release(decomposer, workspace);
+        }
+    }
+
+    /**
+     * Computes rank of provided matrix using provided decomposition method.
+     * Rank indicates the number of linearly independent columns or rows on
+     * a matrix.
+     * Singular Value Decomposition obtains the most reliable estimation, while
+     * column-pivoted QR decomposition is much cheaper and reliable for most
+     * matrices.
+     *
+     * @param m              Input matrix.
+     * @param decomposerType decomposition method, which can be either
+     *                       {@link DecomposerType#SINGULAR_VALUE_DECOMPOSITION} or
+     *                       {@link DecomposerType#PIVOTED_QR_DECOMPOSITION}.
+     * @return Rank of provided matrix.
+     * @throws DecomposerException      Exception thrown if decomposition fails for
+     *                                  any reason.
+     * @throws IllegalArgumentException Exception thrown if provided
+     *                                  decomposition method is not supported.
+     */
+    public static int rank(final Matrix m, final DecomposerType decomposerType) throws DecomposerException {
+        return rank(m, decomposerType, null);
+    }
+
+    /**
+     * Computes rank of provided matrix using provided decomposition method.
+     * Rank indicates the number of linearly independent columns or rows on
+     * a matrix.
+     * Singular Value Decomposition obtains the most reliable estimation, while
+     * column-pivoted QR decomposition is much cheaper and reliable for most
+     * matrices.
+     *
+     * @param m              Input matrix.
+     * @param decomposerType decomposition method, which can be either
+     *                       {@link DecomposerType#SINGULAR_VALUE_DECOMPOSITION} or
+     *                       {@link DecomposerType#PIVOTED_QR_DECOMPOSITION}.
+     * @param workspace      workspace providing reusable decomposers, or null to create new
+     *                       decomposers on each call.
+     * @return Rank of provided matrix.
+     * @throws DecomposerException      Exception thrown if decomposition fails for
+     *                                  any reason.
+     * @throws IllegalArgumentException Exception thrown if provided
+     *                                  decomposition method is not supported.
+     */
+    public static int rank(final Matrix m, final DecomposerType decomposerType,
+                           final Workspace workspace) throws DecomposerException {
+        return switch (decomposerType) {
+            case SINGULAR_VALUE_DECOMPOSITION -> rank(m, workspace);
+            case PIVOTED_QR_DECOMPOSITION -> {
+                final var decomposer = pivotedQRDecomposer(m, workspace);
+                try {
+                    decomposer.decompose();
+                    yield decomposer.getRank();
+                } catch (final AlgebraException e) {
+                    throw new DecomposerException(e);
+                } finally {
+                    release(decomposer, workspace);
+                }
+            }
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
+    /**
+     * Computes null-space of provided matrix, which is returned as a matrix
+     * whose orthonormal columns span it.
+     *
+     * @param m Input matrix.
+     * @return Null-space of provided matrix.
+     * @throws DecomposerException Exception thrown if decomposition fails for
+     *                             any reason, or if provided matrix has full column rank, and hence its
+     *                             null-space is empty.
+     * @see SingularValueDecomposer#getNullspace()
+     */
+    public static Matrix nullspace(final Matrix m) throws DecomposerException {
+        return nullspace(m, (Workspace) null);
+    }
+
+    /**
+     * Computes null-space of provided matrix, which is returned as a matrix
+     * whose orthonormal columns span it.
+     *
+     * @param m Input matrix.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Null-space of provided matrix.
+     * @throws DecomposerException Exception thrown if decomposition fails for
+     *                             any reason, or if provided matrix has full column rank, and hence its
+     *                             null-space is empty.
+     * @see SingularValueDecomposer#getNullspace()
+     */
+    public static Matrix nullspace(final Matrix m, final Workspace workspace) throws DecomposerException {
+        final var decomposer = singularValueDecomposer(m, workspace);
+        try {
+            decomposer.decompose();
+            return decomposer.getNullspace();
+        } catch (final DecomposerException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new DecomposerException(e);
+        } finally {
+            release(decomposer, workspace);
         }
     }
 
+    /**
+     * Computes null-space of provided matrix using provided decomposition
+     * method, which is returned as a matrix whose orthonormal columns span it.
+     *
+     * @param m              Input matrix.
+     * @param decomposerType decomposition method, which can be either
+     *                       {@link DecomposerType#SINGULAR_VALUE_DECOMPOSITION} or
+     *                       {@link DecomposerType#PIVOTED_QR_DECOMPOSITION}.
+     * @return Null-space of provided matrix.
+     * @throws DecomposerException      Exception thrown if decomposition fails for
+     *                                  any reason, or if provided matrix has full column rank, and hence its
+     *                                  null-space is empty.
+     * @throws IllegalArgumentException Exception thrown if provided
+     *                                  decomposition method is not supported.
+     * @see PivotedQRDecomposer#getNullspace()
+     */
+    public static Matrix nullspace(final Matrix m, final DecomposerType decomposerType)
+            throws DecomposerException {
+        return nullspace(m, decomposerType, null);
+    }
+
+    /**
+     * Computes null-space of provided matrix using provided decomposition
+     * method, which is returned as a matrix whose orthonormal columns span it.
+     *
+     * @param m              Input matrix.
+     * @param decomposerType decomposition method, which can be either
+     *                       {@link DecomposerType#SINGULAR_VALUE_DECOMPOSITION} or
+     *                       {@link DecomposerType#PIVOTED_QR_DECOMPOSITION}.
+     * @param workspace      workspace providing reusable decomposers, or null to create new
+     *                       decomposers on each call.
+     * @return Null-space of provided matrix.
+     * @throws DecomposerException      Exception thrown if decomposition fails for
+     *                                  any reason, or if provided matrix has full column rank, and hence its
+     *                                  null-space is empty.
+     * @throws IllegalArgumentException Exception thrown if provided
+     *                                  decomposition method is not supported.
+     * @see PivotedQRDecomposer#getNullspace()
+     */
+    public static Matrix nullspace(final Matrix m, final DecomposerType decomposerType,
+                                   final Workspace workspace)
+            throws DecomposerException {
+        return switch (decomposerType) {
+            case SINGULAR_VALUE_DECOMPOSITION -> nullspace(m, workspace);
+            case PIVOTED_QR_DECOMPOSITION -> {
+                final var decomposer = pivotedQRDecomposer(m, workspace);
+                try {
+                    decomposer.decompose();
+                    yield decomposer.getNullspace();
+                } catch (final AlgebraException e) {
+                    throw new DecomposerException(e);
+                } finally {
+                    release(decomposer, workspace);
+                }
+            }
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
     /**
      * Computes determinant of provided matrix.
      * Determinant can be seen geometrically as a measure of hyper-volume
@@ -128,11 +327,31 @@ public class Utils {
      *                             any reason.
      */
     public static double det(final Matrix m) throws WrongSizeException, DecomposerException {
+        return det(m, (Workspace) null);
+    }
+
+    /**
+     * Computes determinant of provided matrix.
+     * Determinant can be seen geometrically as a measure of hyper-volume
+     * generated by the row/column vector contained within a given squared
+     * matrix.
+     *
+     * @param m Input matrix.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Determinant of provided matrix.
+     * @throws WrongSizeException  Exception thrown if provided matrix is not
+     *                             squared.
+     * @throws DecomposerException Exception thrown if decomposition fails for
+     *                             any reason.
+     */
+    public static double det(final Matrix m, final Workspace workspace)
+            throws WrongSizeException, DecomposerException {
         if (m.getRows() != m.getColumns()) {
             throw new WrongSizeException();
         }
 
-        final var decomposer = new LUDecomposer(m);
+        final var decomposer = luDecomposer(m, workspace);
         try {
             decomposer.decompose();
             return decomposer.determinant();
@@ -140,6 +359,8 @@ public class Utils {
             throw e;
         } catch (final Exception e) {
             throw new DecomposerException(e);
+        } finally {
+            release(decomposer, workspace);
         }
     }
 
@@ -162,8 +383,32 @@ public class Utils {
      */
     public static void solve(final Matrix m, final Matrix b, final Matrix result)
             throws WrongSizeException, RankDeficientMatrixException, DecomposerException {
+        solve(m, b, result, (Workspace) null);
+    }
+
+    /**
+     * Solves a linear system of equations of the form: m * x = b.
+     * Where x is the returned matrix containing the solution, m is the matrix
+     * of the linear system of equations and b is the parameters matrix.
+     *
+     * @param m         Matrix of the linear system of equations.
+     * @param b         Parameters matrix.
+     * @param result    Matrix where solution of the linear system of equations
+     *                  will be stored. Provided matrix will be resized if needed
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @throws WrongSizeException           Exception thrown if provided matrix m has less
+     *                                      rows than columns, or if provided matrix b has a number of rows different
+     *                                      from the number of rows of m.
+     * @throws RankDeficientMatrixException Exception thrown if provided matrix
+     *                                      m is rank deficient.
+     * @throws DecomposerException          Exception thrown if decomposition fails for
+     *                                      any reason.
+     */
+    public static void solve(final Matrix m, final Matrix b, final Matrix result, final Workspace workspace)
+            throws WrongSizeException, RankDeficientMatrixException, DecomposerException {
         if (m.getRows() == m.getColumns()) {
-            final var decomposer = new LUDecomposer(m);
+            final var decomposer = luDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 decomposer.solve(b, result);
@@ -173,9 +418,11 @@ public class Utils {
                 throw new RankDeficientMatrixException(e);
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         } else {
-            final var decomposer = new EconomyQRDecomposer(m);
+            final var decomposer = economyQRDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 decomposer.solve(b, result);
@@ -183,6 +430,8 @@ public class Utils {
                 throw e;
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         }
     }
@@ -205,8 +454,31 @@ public class Utils {
      */
     public static Matrix solve(final Matrix m, final Matrix b) throws WrongSizeException, RankDeficientMatrixException,
             DecomposerException {
+        return solve(m, b, (Workspace) null);
+    }
+
+    /**
+     * Solves a linear system of equations of the form: m * x = b.
+     * Where x is the returned matrix containing the solution, m is the matrix
+     * of the linear system of equations and b is the parameter matrix.
+     *
+     * @param m Matrix of the linear system of equations.
+     * @param b Parameters matrix.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Solution of the linear system of equations.
+     * @throws WrongSizeException           Exception thrown if provided matrix m has fewer
+     *                                      rows than columns, or if provided matrix b has a number of rows different
+     *                                      from the number of rows of m.
+     * @throws RankDeficientMatrixException Exception thrown if provided matrix
+     *                                      m is rank deficient.
+     * @throws DecomposerException          Exception thrown if decomposition fails for
+     *                                      any reason.
+     */
+    public static Matrix solve(final Matrix m, final Matrix b, final Workspace workspace)
+            throws WrongSizeException, RankDeficientMatrixException, DecomposerException {
         if (m.getRows() == m.getColumns()) {
-            final var decomposer = new LUDecomposer(m);
+            final var decomposer = luDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 return decomposer.solve(b);
@@ -216,9 +488,11 @@ public class Utils {
                 throw new RankDeficientMatrixException(e);
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         } else {
-            final var decomposer = new EconomyQRDecomposer(m);
+            final var decomposer = economyQRDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 return decomposer.solve(b);
@@ -226,6 +500,8 @@ public class Utils {
                 throw e;
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         }
     }
@@ -244,8 +520,28 @@ public class Utils {
      *                             any reason.
      */
     public static void solve(final Matrix m, final double[] b, final double[] result) throws DecomposerException {
+        solve(m, b, result, (Workspace) null);
+    }
+
+    /**
+     * Solves a linear system of equations of the form m * x = b, where b is
+     * assumed to be the parameters column vector, x is the returned matrix
+     * containing the solution and m is the matrix of the linear system of
+     * equations.
+     *
+     * @param m         Matrix of the linear system of equations.
+     * @param b         Parameters column vector.
+     * @param result    Solution of the linear system of equations.
+     *                  m is rank deficient.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @throws DecomposerException Exception thrown if decomposition fails for
+     *                             any reason.
+     */
+    public static void solve(final Matrix m, final double[] b, final double[] result, final Workspace workspace)
+            throws DecomposerException {
         if (m.getRows() == m.getColumns()) {
-            final var decomposer = new LUDecomposer(m);
+            final var decomposer = luDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 System.arraycopy(decomposer.solve(Matrix.newFromArray(b, true)).toArray(true),
@@ -254,15 +550,19 @@ public class Utils {
                 throw e;
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         } else {
-            final var decomposer = new EconomyQRDecomposer(m);
+            final var decomposer = economyQRDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 System.arraycopy(decomposer.solve(Matrix.newFromArray(b, true)).toArray(true),
                         0, result, 0, result.length);
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         }
     }
@@ -280,8 +580,26 @@ public class Utils {
      *                             any reason.
      */
     public static double[] solve(final Matrix m, double[] b) throws DecomposerException {
+        return solve(m, b, (Workspace) null);
+    }
+
+    /**
+     * Solves a linear system of equations of the form: m * x = b.
+     * Where x is the returned array containing the solution, m is the matrix
+     * of the linear system of equations and b is the parameters array.
+     *
+     * @param m Matrix of the linear system of equations.
+     * @param b Parameters array.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Solution of the linear system of equations.
+     * m is rank deficient.
+     * @throws DecomposerException Exception thrown if decomposition fails for
+     *                             any reason.
+     */
+    public static double[] solve(final Matrix m, double[] b, final Workspace workspace) throws DecomposerException {
         if (m.getRows() == m.getColumns()) {
-            final var decomposer = new LUDecomposer(m);
+            final var decomposer = luDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 return decomposer.solve(Matrix.newFromArray(b, true)).toArray(true);
@@ -289,14 +607,18 @@ public class Utils {
                 throw e;
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         } else {
-            final var decomposer = new EconomyQRDecomposer(m);
+            final var decomposer = economyQRDecomposer(m, workspace);
             try {
                 decomposer.decompose();
                 return decomposer.solve(Matrix.newFromArray(b, true)).toArray(true);
             } catch (final Exception e) {
                 throw new DecomposerException(e);
+            } finally {
+                release(decomposer, workspace);
             }
         }
     }
@@ -350,7 +672,21 @@ public class Utils {
      *                             for any reason.
      */
     public static double norm2(final Matrix m) throws DecomposerException {
-        final var decomposer = new SingularValueDecomposer(m);
+        return norm2(m, (Workspace) null);
+    }
+
+    /**
+     * Computes two norm of provided input matrix.
+     *
+     * @param m Input matrix.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Two norm.
+     * @throws DecomposerException Exception thrown if decomposition fails
+     *                             for any reason.
+     */
+    public static double norm2(final Matrix m, final Workspace workspace) throws DecomposerException {
+        final var decomposer = singularValueDecomposer(m, workspace);
         try {
             decomposer.decompose();
             return decomposer.getNorm2();
@@ -358,6 +694,8 @@ public class Utils {
             throw e;
         } catch (final Exception e) {
             throw new DecomposerException(e);
+        } finally {
+            release(decomposer, workspace);
         }
     }
 
@@ -417,13 +755,34 @@ public class Utils {
      */
     public static void inverse(final Matrix m, final Matrix result)
             throws WrongSizeException, RankDeficientMatrixException, DecomposerException {
+        inverse(m, result, (Workspace) null);
+    }
+
+    /**
+     * Computes matrix inverse if provided matrix is squared, or pseudo-inverse
+     * otherwise and stores the result in provided result matrix. Result matrix
+     * will be resized if needed
+     *
+     * @param m         Matrix to be inverted.
+     * @param result    Matrix where matrix inverse is stored.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @throws WrongSizeException           Exception thrown if provided matrix m has less
+     *                                      rows than columns.
+     * @throws RankDeficientMatrixException Exception thrown if provided matrix
+     *                                      m is rank deficient.
+     * @throws DecomposerException          Exception thrown if decomposition to
+     *                                      compute inverse fails for any other reason.
+     */
+    public static void inverse(final Matrix m, final Matrix result, final Workspace workspace)
+            throws WrongSizeException, RankDeficientMatrixException, DecomposerException {
         final int rows = m.getRows();
         final int columns = m.getColumns();
         if (result.getRows() != columns || result.getColumns() != rows) {
             // resize result matrix
             result.resize(columns, rows);
         }
-        Utils.solve(m, Matrix.identity(rows, rows), result);
+        Utils.solve(m, Matrix.identity(rows, rows), result, workspace);
     }
 
     /**
@@ -441,8 +800,28 @@ public class Utils {
      */
     public static Matrix inverse(final Matrix m) throws WrongSizeException, RankDeficientMatrixException,
             DecomposerException {
+        return inverse(m, (Workspace) null);
+    }
+
+    /**
+     * Computes matrix inverse if provided matrix is squared, or pseudo-inverse
+     * otherwise.
+     *
+     * @param m         Matrix to be inverted.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Matrix inverse.
+     * @throws WrongSizeException           Exception thrown if provided matrix m has less
+     *                                      rows than columns.
+     * @throws RankDeficientMatrixException Exception thrown if provided matrix
+     *                                      m is rank deficient.
+     * @throws DecomposerException          Exception thrown if decomposition to
+     *                                      compute inverse fails for any other reason.
+     */
+    public static Matrix inverse(final Matrix m, final Workspace workspace) throws WrongSizeException,
+            RankDeficientMatrixException, DecomposerException {
         final var rows = m.getRows();
-        return Utils.solve(m, Matrix.identity(rows, rows));
+        return Utils.solve(m, Matrix.identity(rows, rows), workspace);
     }
 
     /**
@@ -518,7 +897,45 @@ public class Utils {
      * matrix.
      */
     public static Matrix pseudoInverse(final Matrix m) throws DecomposerException {
-        final var decomposer = new SingularValueDecomposer(m);
+        return pseudoInverse(m, (Workspace) null);
+    }
+
+    /**
+     * Computes Moore-Penrose pseudo-inverse of provided matrix.
+     * Moore-Penrose pseudo-inverse always exists for any matrix regardless of
+     * its size, and can be computed as: pinv(A) = inv(A'*A)*A' in Matlab
+     * notation.
+     * However, for computation efficiency, Singular Value Decomposition is
+     * used instead, obtaining the following expression: pinv(A) =
+     * V * pinv(W) * U'. Where W is easily invertible since it is a diagonal
+     * matrix taking into account that the inverse for singular values close to
+     * zero (for a given tolerance) is zero, whereas for the rest is their
+     * reciprocal.
+     * In other words pinv(W)(i,i) = 1./W(i,i) for W(i,i) != 0 or zero
+     * otherwise.
+     * Notice that for invertible squared matrices, the pseudo-inverse is equal
+     * to the inverse.
+     * Also notice that pseudo-inverse can be used to solve overdetermined
+     * systems of linear equations with least minimum square error (LMSE).
+     * Finally, notice that Utils.inverse(Matrix) also can return a
+     * pseudo-inverse, however, this method since it uses SVD decomposition is
+     * numerically more stable at the expense of being computationally more
+     * expensive.
+     *
+     * @param m Input matrix.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @return Moore-Penrose matrix pseudo-inverse.
+     * @throws DecomposerException Exception thrown if matrix cannot be
+     *                             inverted, usually because matrix contains numerically unstable values
+     *                             such as NaN or inf.
+     * @see SingularValueDecomposer#solve(double[]) to
+     * solve systems of linear equations, as it can be more efficient specially
+     * when several systems need to be solved using the same input system
+     * matrix.
+     */
+    public static Matrix pseudoInverse(final Matrix m, final Workspace workspace) throws DecomposerException {
+        final var decomposer = singularValueDecomposer(m, workspace);
         try {
             decomposer.decompose();
             final var u = decomposer.getU();
@@ -527,25 +944,86 @@ public class Utils {
             final var rows = m.getRows();
             final var cols = m.getColumns();
             final var threshold = EPSILON * Math.max(rows, cols) * s[0];
-            final var invW = new Matrix(cols, cols);
-            invW.initialize(0.0);
-            double value;
-            for (var n = 0; n < cols; n++) {
-                value = s[n];
-                if (value > threshold) {
-                    invW.setElementAt(n, n, 1.0 / value);
-                }
-            }
-            // V * invW * U', where U' is transposed of U
-            u.transpose();
-            return v.multiplyAndReturnNew(invW.multiplyAndReturnNew(u));
+            // V * invW * U', where U' is transposed of U and invW is diagonal,
+            // hence columns of V are scaled by inverse singular values
+            scaleColumnsByInverse(v, s, threshold);
+            final var result = new Matrix(cols, rows);
+            Matrix.gemm(1.0, v, false, u, true, 0.0, result);
+            return result;
         } catch (final DecomposerException e) {
             throw e;
         } catch (final Exception e) {
             throw new DecomposerException(e);
+        } finally {
+            release(decomposer, workspace);
         }
     }
 
+    /**
+     * Computes Moore-Penrose pseudo-inverse of provided matrix using provided
+     * decomposition method.
+     * Column-pivoted QR decomposition is cheaper than Singular Value
+     * Decomposition, and it obtains the same pseudo-inverse as long as the
+     * rank of provided matrix is correctly estimated.
+     *
+     * @param m              Input matrix.
+     * @param decomposerType decomposition method, which can be either
+     *                       {@link DecomposerType#SINGULAR_VALUE_DECOMPOSITION} or
+     *                       {@link DecomposerType#PIVOTED_QR_DECOMPOSITION}.
+     * @return Moore-Penrose matrix pseudo-inverse.
+     * @throws DecomposerException      Exception thrown if matrix cannot be
+     *                                  inverted, usually because matrix contains numerically unstable values
+     *                                  such as NaN or inf.
+     * @throws IllegalArgumentException Exception thrown if provided
+     *                                  decomposition method is not supported.
+     * @see PivotedQRDecomposer#getPseudoInverse()
+     */
+    public static Matrix pseudoInverse(final Matrix m, final DecomposerType decomposerType)
+            throws DecomposerException {
+        return pseudoInverse(m, decomposerType, null);
+    }
+
+    /**
+     * Computes Moore-Penrose pseudo-inverse of provided matrix using provided
+     * decomposition method.
+     * Column-pivoted QR decomposition is cheaper than Singular Value
+     * Decomposition, and it obtains the same pseudo-inverse as long as the
+     * rank of provided matrix is correctly estimated.
+     *
+     * @param m              Input matrix.
+     * @param decomposerType decomposition method, which can be either
+     *                       {@link DecomposerType#SINGULAR_VALUE_DECOMPOSITION} or
+     *                       {@link DecomposerType#PIVOTED_QR_DECOMPOSITION}.
+     * @param workspace      workspace providing reusable decomposers, or null to create new
+     *                       decomposers on each call.
+     * @return Moore-Penrose matrix pseudo-inverse.
+     * @throws DecomposerException      Exception thrown if matrix cannot be
+     *                                  inverted, usually because matrix contains numerically unstable values
+     *                                  such as NaN or inf.
+     * @throws IllegalArgumentException Exception thrown if provided
+     *                                  decomposition method is not supported.
+     * @see PivotedQRDecomposer#getPseudoInverse()
+     */
+    public static Matrix pseudoInverse(final Matrix m, final DecomposerType decomposerType,
+                                       final Workspace workspace)
+            throws DecomposerException {
+        return switch (decomposerType) {
+            case SINGULAR_VALUE_DECOMPOSITION -> pseudoInverse(m, workspace);
+            case PIVOTED_QR_DECOMPOSITION -> {
+                final var decomposer = pivotedQRDecomposer(m, workspace);
+                try {
+                    decomposer.decompose();
+                    yield decomposer.getPseudoInverse();
+                } catch (final AlgebraException e) {
+                    throw new DecomposerException(e);
+                } finally {
+                    release(decomposer, workspace);
+                }
+            }
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
     /**
      * Computes Moore-Penrose pseudo-inverse of provided array considering it as
      * a column matrix.
@@ -567,18 +1045,12 @@ public class Utils {
             final var rows = array.length;
             final var cols = 1;
             final var threshold = EPSILON * Math.max(rows, cols) * s[0];
-            final var invW = new Matrix(cols, cols);
-            invW.initialize(0.0);
-            double value;
-            for (var n = 0; n < cols; n++) {
-                value = s[n];
-                if (value > threshold) {
-                    invW.setElementAt(n, n, 1.0 / value);
-                }
-            }
-            // V * invW * U', where U' is transposed of U
-            u.transpose();
-            return v.multiplyAndReturnNew(invW.multiplyAndReturnNew(u));
+            // V * invW * U', where U' is transposed of U and invW is diagonal,
+            // hence columns of V are scaled by inverse singular values
+            scaleColumnsByInverse(v, s, threshold);
+            final var result = new Matrix(cols, rows);
+            Matrix.gemm(1.0, v, false, u, true, 0.0, result);
+            return result;
         } catch (final DecomposerException e) {
             throw e;
         } catch (final Exception e) {
@@ -586,6 +1058,105 @@ public class Utils {
         }
     }
 
+    /**
+     * Returns LU decomposer to decompose provided matrix.
+     *
+     * @param m         matrix to be decomposed.
+     * @param workspace workspace providing reusable decomposers, or null to
+     *                  create a new decomposer.
+     * @return LU decomposer.
+     */
+    private static LUDecomposer luDecomposer(final Matrix m, final Workspace workspace) {
+        return workspace != null ? workspace.getLUDecomposer(m) : new LUDecomposer(m);
+    }
+
+    /**
+     * Returns Cholesky decomposer to decompose provided matrix.
+     *
+     * @param m         matrix to be decomposed.
+     * @param workspace workspace providing reusable decomposers, or null to
+     *                  create a new decomposer.
+     * @return Cholesky decomposer.
+     */
+    private static CholeskyDecomposer choleskyDecomposer(final Matrix m, final Workspace workspace) {
+        return workspace != null ? workspace.getCholeskyDecomposer(m) : new CholeskyDecomposer(m);
+    }
+
+    /**
+     * Returns Singular Value decomposer to decompose provided matrix.
+     *
+     * @param m         matrix to be decomposed.
+     * @param workspace workspace providing reusable decomposers, or null to
+     *                  create a new decomposer.
+     * @return Singular Value decomposer.
+     */
+    private static SingularValueDecomposer singularValueDecomposer(final Matrix m, final Workspace workspace) {
+        return workspace != null ? workspace.getSingularValueDecomposer(m) : new SingularValueDecomposer(m);
+    }
+
+    /**
+     * Returns economy QR decomposer to decompose provided matrix.
+     *
+     * @param m         matrix to be decomposed.
+     * @param workspace workspace providing reusable decomposers, or null to
+     *                  create a new decomposer.
+     * @return economy QR decomposer.
+     */
+    private static EconomyQRDecomposer economyQRDecomposer(final Matrix m, final Workspace workspace) {
+        return workspace != null ? workspace.getEconomyQRDecomposer(m) : new EconomyQRDecomposer(m);
+    }
+
+    /**
+     * Returns column-pivoted QR decomposer to decompose provided matrix.
+     *
+     * @param m         matrix to be decomposed.
+     * @param workspace workspace providing reusable decomposers, or null to
+     *                  create a new decomposer.
+     * @return column-pivoted QR decomposer.
+     */
+    private static PivotedQRDecomposer pivotedQRDecomposer(final Matrix m, final Workspace workspace) {
+        return workspace != null ? workspace.getPivotedQRDecomposer(m) : new PivotedQRDecomposer(m);
+    }
+
+    /**
+     * Releases input matrix of provided decomposer if it was obtained from a
+     * workspace, so that such workspace does not keep it reachable.
+     *
+     * @param decomposer decomposer whose results have been consumed.
+     * @param workspace  workspace the decomposer was obtained from, or null if
+     *                   it is not cached.
+     */
+    private static void release(final Decomposer decomposer, final Workspace workspace) {
+        if (workspace != null) {
+            workspace.release(decomposer);
+        }
+    }
+
+    /**
+     * Scales each column of provided square matrix by the inverse of its
+     * corresponding singular value, or sets it to zero if singular value is
+     * not larger than provided threshold.
+     *
+     * @param v              matrix of right singular vectors to be scaled.
+     * @param singularValues singular values.
+     * @param threshold      threshold below which singular values are
+     *                       considered zero.
+     */
+    private static void scaleColumnsByInverse(final Matrix v, final double[] singularValues,
+                                              final double threshold) {
+        final var buffer = v.getBuffer();
+        final var rows = v.getRows();
+        final var cols = v.getColumns();
+        for (var n = 0; n < cols; n++) {
+            final var value = singularValues[n];
+            final var scale = value > threshold ? 1.0 / value : 0.0;
+            final var start = n * rows;
+            for (var i = 0; i < rows; i++) {
+                buffer[start + i] *= scale;
+            }
+        }
+    }
+
     /**
      * Computes the skew-symmetric matrix of provided vector of length 3 and
      * stores the result in provided matrix.
@@ -873,8 +1444,8 @@ public class Utils {
      * Resulting:
      * a x b = (a1b2 - a2b1) i + (a2b0 - a0b2) j + (a0b1 - a1b0) k =
      * = (a1b2 - a2b1, a2b0 - a0b2, a0b1 - a1b0)
-     * This implementation does not use the determinant to compute the cross
-     * product. A symmetric-skew matrix will be computed and used instead.
+     * This implementation evaluates the expression above directly without
+     * building a symmetric-skew matrix.
      *
      * @param v1        Left vector in the crossProduct operation (A in axb)
      * @param v2        Right vector in the crossProduct operation (b in axb)
@@ -923,8 +1494,9 @@ public class Utils {
      * Resulting:
      * a x b = (a1b2 - a2b1) i + (a2b0 - a0b2) j + (a0b1 - a1b0) k =
      * = (a1b2 - a2b1, a2b0 - a0b2, a0b1 - a1b0)
-     * This implementation does not use the determinant to compute the cross
-     * product. A symmetric-skew matrix will be computed and used instead.
+     * This implementation evaluates the expression above directly without
+     * building a symmetric-skew matrix. Result can be the same array as any of
+     * provided vectors.
      *
      * @param v1     Left vector in the crossProduct operation (A in axb)
      * @param v2     Right vector in the crossProduct operation (b in axb)
@@ -940,11 +1512,15 @@ public class Utils {
             throw new WrongSizeException("v1, v2 and result must have length 3");
         }
 
-        final var skm = Utils.skewMatrix(v1);
-        skm.multiply(Matrix.newFromArray(v2));
-
-        final var buffer = skm.getBuffer();
-        System.arraycopy(buffer, 0, result, 0, buffer.length);
+        final var a0 = v1[0];
+        final var a1 = v1[1];
+        final var a2 = v1[2];
+        final var b0 = v2[0];
+        final var b1 = v2[1];
+        final var b2 = v2[2];
+        result[0] = a1 * b2 - a2 * b1;
+        result[1] = a2 * b0 - a0 * b2;
+        result[2] = a0 * b1 - a1 * b0;
     }
 
     /**
@@ -961,8 +1537,8 @@ public class Utils {
      * Resulting:
      * a x b = (a1b2 - a2b1) i + (a2b0 - a0b2) j + (a0b1 - a1b0) k =
      * = (a1b2 - a2b1, a2b0 - a0b2, a0b1 - a1b0)
-     * This implementation does not use the determinant to compute the cross
-     * product. A symmetric-skew matrix will be computed and used instead.
+     * This implementation evaluates the expression above directly without
+     * building a symmetric-skew matrix.
      *
      * @param v1 Left vector in the crossProduct operation (A in axb)
      * @param v2 Right vector in the crossProduct operation (b in axb)
@@ -976,10 +1552,9 @@ public class Utils {
             throw new WrongSizeException("v1, v2 must have length 3");
         }
 
-        final var skm = Utils.skewMatrix(v1);
-        skm.multiply(Matrix.newFromArray(v2));
-
-        return skm.toArray();
+        final var result = new double[3];
+        crossProduct(v1, v2, result);
+        return result;
     }
 
     /**
@@ -996,8 +1571,8 @@ public class Utils {
      * Resulting:
      * a x b = (a1b2 - a2b1) i + (a2b0 - a0b2) j + (a0b1 - a1b0) k =
      * = (a1b2 - a2b1, a2b0 - a0b2, a0b1 - a1b0)
-     * This implementation does not use the determinant to compute the cross
-     * product. A symmetric-skew matrix will be computed and used instead.
+     * This implementation evaluates the expression above directly without
+     * building a symmetric-skew matrix.
      *
      * @param v1        Left vector in the crossProduct operation (A in axb)
      * @param v2        Right vector in the crossProduct operation (b in axb)
@@ -1045,8 +1620,8 @@ public class Utils {
      * Resulting:
      * a x b = (a1b2 - a2b1) i + (a2b0 - a0b2) j + (a0b1 - a1b0) k =
      * = (a1b2 - a2b1, a2b0 - a0b2, a0b1 - a1b0)
-     * This implementation does not use the determinant to compute the cross
-     * product. A symmetric-skew matrix will be computed and used instead.
+     * This implementation evaluates the expression above directly without
+     * building a symmetric-skew matrix.
      * The result is stored into provided result matrix, which will be resized
      * if needed
      *
@@ -1081,8 +1656,8 @@ public class Utils {
      * Resulting:
      * a x b = (a1b2 - a2b1) i + (a2b0 - a0b2) j + (a0b1 - a1b0) k =
      * = (a1b2 - a2b1, a2b0 - a0b2, a0b1 - a1b0)
-     * This implementation does not use the determinant to compute the cross
-     * product. A symmetric-skew matrix will be computed and used instead.
+     * This implementation evaluates the expression above directly without
+     * building a symmetric-skew matrix.
      *
      * @param v Left operand in crossProduct operation
      * @param m Right operand in crossProduct operation, matrix containing a
@@ -1166,23 +1741,17 @@ public class Utils {
             return false;
         }
 
-        try {
-            // to get faster computation it is better to try m' * m
-            final var tmp = m.transposeAndReturnNew();
-            tmp.multiply(m);
-
-            for (var j = 0; j < length; j++) {
-                for (var i = j + 1; i < length; i++) {
-                    if (Math.abs(tmp.getElementAt(i, j)) > threshold) {
-                        return false;
-                    }
+        // to get faster computation it is better to try m' * m
+        final var tmp = m.gramAndReturnNew();
+
+        for (var j = 0; j < length; j++) {
+            for (var i = j + 1; i < length; i++) {
+                if (Math.abs(tmp.getElementAt(i, j)) > threshold) {
+                    return false;
                 }
             }
-            return true;
-
-        } catch (final WrongSizeException e) {
-            return false;
         }
+        return true;
     }
 
     /**
@@ -1277,7 +1846,8 @@ public class Utils {
             throw new WrongSizeException("first operand must be 1xN, and second operand must be Nx1");
         }
 
-        return dotProduct(firstOperand.getBuffer(), secondOperand.getBuffer());
+        return Kernels.INSTANCE.dotProduct(firstOperand.getBuffer(), secondOperand.getBuffer(),
+                firstOperand.getColumns());
     }
 
     /**
@@ -1308,7 +1878,24 @@ public class Utils {
             throw new WrongSizeException("first operand must be 1xN, and second operand must be Nx1");
         }
 
-        return dotProduct(firstOperand.getBuffer(), secondOperand.getBuffer(), jacobianFirst, jacobianSecond);
+        final var length = firstOperand.getColumns();
+        if (jacobianFirst != null && (jacobianFirst.getRows() != 1 || jacobianFirst.getColumns() != length)) {
+            throw new IllegalArgumentException("jacobian first must be a row vector having the same number of "
+                    + "columns as first operand length");
+        }
+        if (jacobianSecond != null && (jacobianSecond.getRows() != 1 || jacobianSecond.getColumns() != length)) {
+            throw new IllegalArgumentException("jacobian second must be a row vector having the same number of "
+                    + "columns as second operand length");
+        }
+
+        if (jacobianFirst != null) {
+            jacobianFirst.copyFrom(firstOperand);
+        }
+        if (jacobianSecond != null) {
+            System.arraycopy(secondOperand.getBuffer(), 0, jacobianSecond.getBuffer(), 0, length);
+        }
+
+        return Kernels.INSTANCE.dotProduct(firstOperand.getBuffer(), secondOperand.getBuffer(), length);
     }
 
 
@@ -1362,6 +1949,62 @@ public class Utils {
      */
     public static void schurc(final Matrix m, int pos, final boolean fromStart, final boolean sqrt, final Matrix result,
                               final Matrix iA) throws DecomposerException, RankDeficientMatrixException {
+        schurc(m, pos, fromStart, sqrt, result, iA, null);
+    }
+
+    /**
+     * Computes the Schur complement of a symmetric matrix.
+     * For a matrix M of size sxs having the typical partition
+     * M = [A B ; B' C]
+     * where A is posxpos, B is posx(s - pos) and C is (s-pos)x(s-pos)
+     * Then pos indicates the position that delimits the separation between
+     * these sub-matrices in the diagonal.
+     * If fromStart is true, then Schur complement of A is computed and result
+     * will have size (s-pos)x(s-pos).
+     * If fromStart is false, then Schur complement of C is computed and result
+     * will have size posxpos.
+     * <p>
+     * Definitions and rationale:
+     * If M is a symmetrical matrix partitioned as:
+     * M = [M_11 M_12 ; M_12' M_22]
+     * then the Schur complement of M_11 is
+     * S = M_22 - M_12 ¡ * M_11^-1 * M_12
+     * The optionally returned inverse block is just iA = M_11^-1
+     * whose name comes from 'inverse of A', A given by the popular partition
+     * of M = [A B ; B' C], therefore A = M_11.
+     * If M is symmetrical and positive, then using the Cholesky decomposition
+     * M = [R_11' 0 ; R_12' R_22] * [R_11 R_12 ; 0 R_22]
+     * leads to
+     * S = R_22' * R_22
+     * iA = (R_11' * R_11)^-1 = R_11^-1 * R_11^-T
+     * which constitutes and efficient and stable way to compute the Schur
+     * complement. The square root factors R_22 and R_11^_1 can be obtained by
+     * setting the optional flag sqrt.
+     * The Schur complement has applications for solving linear equations, and
+     * applications to probability theory to compute conditional covariances.
+     *
+     * @param m         matrix to compute the Schur complement from
+     * @param pos       position to delimit the Schur complement.
+     * @param fromStart true to compute Schur complement of A, false to compute
+     *                  Schur complement of C.
+     * @param sqrt      true to return the square root of the Schur complement, which
+     *                  is an upper triangular matrix, false to return the full Schur complement,
+     *                  which is S'*S.
+     * @param result    instance where the Schur complement will be stored. If
+     *                  needed this instance will be resized.
+     * @param iA        instance where the inverse block will be stored, if provided.
+     * @param workspace workspace providing reusable decomposers, or null to create new
+     *                  decomposers on each call.
+     * @throws IllegalArgumentException     if m is not square, pos is greater or
+     *                                      equal than matrix size, or pos is zero.
+     * @throws DecomposerException          if m is numerically unstable.
+     * @throws RankDeficientMatrixException if iA matrix is singular or
+     *                                      numerically unstable.
+     * @see <a href="http://scicomp.stackexchange.com/questions/5050/cholesky-factorization-of-block-matrices">http://scicomp.stackexchange.com/questions/5050/cholesky-factorization-of-block-matrices</a>
+     */
+    public static void schurc(final Matrix m, int pos, final boolean fromStart, final boolean sqrt, final Matrix result,
+                              final Matrix iA, final Workspace workspace)
+            throws DecomposerException, RankDeficientMatrixException {
         final var rows = m.getRows();
         final var cols = m.getColumns();
         if (rows != cols) {
@@ -1404,34 +2047,35 @@ public class Utils {
                 pos = rows - pos;
             }
 
-            final var decomposer = new CholeskyDecomposer(m2);
-            decomposer.decompose();
+            final var decomposer = choleskyDecomposer(m2, workspace);
+            try {
+                decomposer.decompose();
 
-            // pick the upper right matrix of cholesky
-            final var r = decomposer.getR();
+                // pick the upper right matrix of cholesky
+                final var r = decomposer.getR();
 
-            // s, which is the square root of Schur complement and is the result,
-            // is an upper right matrix because it is a sub-matrix of r
-            final var sizeMinus1 = rows - 1;
-            r.getSubmatrix(pos, pos, sizeMinus1, sizeMinus1, result);
+                // s, which is the square root of Schur complement and is the result,
+                // is an upper right matrix because it is a sub-matrix of r
+                final var sizeMinus1 = rows - 1;
+                r.getSubmatrix(pos, pos, sizeMinus1, sizeMinus1, result);
 
-            if (!sqrt) {
-                // if the full version of the Schur complement is required
-                // we multiply by its transpose S = S'*S
-                final var transS = result.transposeAndReturnNew();
-                transS.multiply(result); //transS is now S'*S
-                result.copyFrom(transS);
-            }
+                if (!sqrt) {
+                    // if the full version of the Schur complement is required
+                    // we multiply by its transpose S = S'*S
+                    result.gram();
+                }
 
-            if (iA != null) {
-                // minor of r is the square root of inverse block
-                final var posMinus1 = pos - 1;
-                r.getSubmatrix(0, 0, posMinus1, posMinus1, iA);
-                Utils.inverse(iA, iA);
-                // to obtain full inverse block iA we need to multiply it by its
-                // transpose iA = iA * iA'
-                final var transiA = iA.transposeAndReturnNew();
-                iA.multiply(transiA);
+                if (iA != null) {
+                    // minor of r is the square root of inverse block
+                    final var posMinus1 = pos - 1;
+                    r.getSubmatrix(0, 0, posMinus1, posMinus1, iA);
+                    Utils.inverse(iA, iA, workspace);
+                    // to obtain full inverse block iA we need to multiply it by its
+                    // transpose iA = iA * iA'
+                    iA.multiplyTransposedRight(iA);
+                }
+            } finally {
+                release(decomposer, workspace);
             }
         } catch (final DecomposerException | RankDeficientMatrixException e) {
             // if matrix is numerically unstable or singular
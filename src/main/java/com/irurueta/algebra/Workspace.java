@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Keeps reusable decomposer instances so that repeated decompositions of
+ * matrices having the same size do not allocate memory once the workspace has
+ * warmed up.
+ * Decomposers cached by a workspace reuse their storage across calls (see
+ * for instance {@link LUDecomposer#setStorageReused(boolean)}), hence reusing
+ * the same decomposer instance for successive decompositions allows its
+ * storage to be reused as well.
+ * Each thread can obtain its own workspace by means of {@link #current()},
+ * which can be provided to {@link Utils} methods taking a workspace so that
+ * they reuse its decomposers instead of creating new ones on each call.
+ * Workspaces of threads are softly referenced, so that their cached
+ * decomposers can be reclaimed by the garbage collector when memory is
+ * needed, and they can be explicitly discarded by means of
+ * {@link #removeCurrent()} (e.g. before returning a thread to a pool).
+ * Instances of this class are not thread safe, and decomposers returned by a
+ * workspace are owned by it: they will be reconfigured the next time the same
+ * kind of decomposer is requested from the same workspace, hence their results
+ * must be consumed (or copied) before that happens.
+ * Decomposers of matrices having more than {@link #MAX_CACHED_ELEMENTS}
+ * elements are never cached, so that a workspace does not keep the storage of
+ * large decompositions alive, and {@link #release(Decomposer)} drops the
+ * reference that a decomposer keeps to its input matrix once its results have
+ * been consumed.
+ * A fork/join pool can also be set so that decomposers supporting it (such as
+ * LU decomposers used by {@link Utils#solve(Matrix, Matrix, Workspace)},
+ * {@link Utils#inverse(Matrix, Workspace)} or
+ * {@link Utils#det(Matrix, Workspace)}, or Cholesky decomposers) decompose
+ * large matrices in parallel.
+ */
+public final class Workspace {
+
+    /**
+     * Maximum number of elements of input matrices whose decomposers are
+     * cached. Larger matrices are decomposed by new non-cached decomposers.
+     */
+    public static final int MAX_CACHED_ELEMENTS = 1 << 16;
+
+    /**
+     * Soft reference to workspace of each thread.
+     */
+    private static final ThreadLocal<SoftReference<Workspace>> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Reusable LU decomposer.
+     */
+    private LUDecomposer luDecomposer;
+
+    /**
+     * Reusable Cholesky decomposer.
+     */
+    private CholeskyDecomposer choleskyDecomposer;
+
+    /**
+     * Reusable Singular Value decomposer.
+     */
+    private SingularValueDecomposer singularValueDecomposer;
+
+    /**
+     * Reusable economy QR decomposer.
+     */
+    private EconomyQRDecomposer economyQRDecomposer;
+
+    /**
+     * Reusable column-pivoted QR decomposer.
+     */
+    private PivotedQRDecomposer pivotedQRDecomposer;
+
+    /**
+     * Pool where decompositions are executed in parallel, or null to
+     * decompose sequentially.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Returns workspace of current thread.
+     * A new workspace is created if current thread has none yet, or if its
+     * previous one has been discarded or reclaimed by the garbage collector.
+     *
+     * @return workspace of current thread.
+     */
+    public static Workspace current() {
+        final var reference = CURRENT.get();
+        var workspace = reference != null ? reference.get() : null;
+        if (workspace == null) {
+            workspace = new Workspace();
+            CURRENT.set(new SoftReference<>(workspace));
+        }
+        return workspace;
+    }
+
+    /**
+     * Discards workspace of current thread along with its cached decomposers,
+     * so that their storage is no longer retained by current thread.
+     */
+    public static void removeCurrent() {
+        final var reference = CURRENT.get();
+        if (reference != null) {
+            final var workspace = reference.get();
+            if (workspace != null) {
+                workspace.clear();
+            }
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Gets pool where decompositions are executed in parallel.
+     *
+     * @return pool where decompositions are executed in parallel, or null if
+     * they are computed sequentially.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets pool where decompositions are executed in parallel.
+     *
+     * @param pool pool where decompositions are executed in parallel, or null
+     *             to decompose sequentially.
+     */
+    public void setPool(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns reusable LU decomposer set to decompose provided matrix.
+     * If cached decomposer is locked (i.e. it is being used), or provided
+     * matrix is too large to be cached, a new non-cached instance is returned
+     * instead.
+     *
+     * @param inputMatrix matrix to be decomposed.
+     * @return LU decomposer.
+     */
+    public LUDecomposer getLUDecomposer(final Matrix inputMatrix) {
+        if (!isCacheable(inputMatrix)) {
+            return new LUDecomposer(inputMatrix, pool);
+        }
+        if (luDecomposer == null || luDecomposer.isLocked()) {
+            final var decomposer = new LUDecomposer(inputMatrix, pool);
+            if (luDecomposer == null) {
+                try {
+                    // results of cached decomposers are owned by this workspace
+                    decomposer.setStorageReused(true);
+                } catch (final LockedException ignore) {
+                    // never happens
+                }
+                luDecomposer = decomposer;
+            }
+            return decomposer;
+        }
+        try {
+            luDecomposer.setInputMatrix(inputMatrix);
+            luDecomposer.setPool(pool);
+        } catch (final LockedException ignore) {
+            // never happens
+        }
+        return luDecomposer;
+    }
+
+    /**
+     * Returns reusable Cholesky decomposer set to decompose provided matrix.
+     * If cached decomposer is locked (i.e. it is being used), or provided
+     * matrix is too large to be cached, a new non-cached instance is returned
+     * instead.
+     *
+     * @param inputMatrix matrix to be decomposed.
+     * @return Cholesky decomposer.
+     */
+    public CholeskyDecomposer getCholeskyDecomposer(final Matrix inputMatrix) {
+        if (!isCacheable(inputMatrix)) {
+            return new CholeskyDecomposer(inputMatrix, pool);
+        }
+        if (choleskyDecomposer == null || choleskyDecomposer.isLocked()) {
+            final var decomposer = new CholeskyDecomposer(inputMatrix, pool);
+            if (choleskyDecomposer == null) {
+                try {
+                    // results of cached decomposers are owned by this workspace
+                    decomposer.setStorageReused(true);
+                } catch (final LockedException ignore) {
+                    // never happens
+                }
+                choleskyDecomposer = decomposer;
+            }
+            return decomposer;
+        }
+        try {
+            choleskyDecomposer.setInputMatrix(inputMatrix);
+            choleskyDecomposer.setPool(pool);
+        } catch (final LockedException ignore) {
+            // never happens
+        }
+        return choleskyDecomposer;
+    }
+
+    /**
+     * Returns reusable Singular Value decomposer set to decompose provided
+     * matrix.
+     * If cached decomposer is locked (i.e. it is being used), or provided
+     * matrix is too large to be cached, a new non-cached instance is returned
+     * instead.
+     *
+     * @param inputMatrix matrix to be decomposed.
+     * @return Singular Value decomposer.
+     */
+    public SingularValueDecomposer getSingularValueDecomposer(final Matrix inputMatrix) {
+        if (!isCacheable(inputMatrix)) {
+            return new SingularValueDecomposer(inputMatrix);
+        }
+        if (singularValueDecomposer == null || singularValueDecomposer.isLocked()) {
+            final var decomposer = new SingularValueDecomposer(inputMatrix);
+            if (singularValueDecomposer == null) {
+                try {
+                    // results of cached decomposers are owned by this workspace
+                    decomposer.setStorageReused(true);
+                } catch (final LockedException ignore) {
+                    // never happens
+                }
+                singularValueDecomposer = decomposer;
+            }
+            return decomposer;
+        }
+        try {
+            singularValueDecomposer.setInputMatrix(inputMatrix);
+        } catch (final LockedException ignore) {
+            // never happens
+        }
+        return singularValueDecomposer;
+    }
+
+    /**
+     * Returns reusable economy QR decomposer set to decompose provided matrix.
+     * If cached decomposer is locked (i.e. it is being used), or provided
+     * matrix is too large to be cached, a new non-cached instance is returned
+     * instead.
+     *
+     * @param inputMatrix matrix to be decomposed.
+     * @return economy QR decomposer.
+     */
+    public EconomyQRDecomposer getEconomyQRDecomposer(final Matrix inputMatrix) {
+        if (!isCacheable(inputMatrix)) {
+            return new EconomyQRDecomposer(inputMatrix, pool);
+        }
+        if (economyQRDecomposer == null || economyQRDecomposer.isLocked()) {
+            final var decomposer = new EconomyQRDecomposer(inputMatrix, pool);
+            if (economyQRDecomposer == null) {
+                economyQRDecomposer = decomposer;
+            }
+            return decomposer;
+        }
+        try {
+            economyQRDecomposer.setInputMatrix(inputMatrix);
+            economyQRDecomposer.setPool(pool);
+        } catch (final LockedException ignore) {
+            // never happens
+        }
+        return economyQRDecomposer;
+    }
+
+    /**
+     * Returns reusable column-pivoted QR decomposer set to decompose provided
+     * matrix.
+     * If cached decomposer is locked (i.e. it is being used), or provided
+     * matrix is too large to be cached, a new non-cached instance is returned
+     * instead.
+     *
+     * @param inputMatrix matrix to be decomposed.
+     * @return column-pivoted QR decomposer.
+     */
+    public PivotedQRDecomposer getPivotedQRDecomposer(final Matrix inputMatrix) {
+        if (!isCacheable(inputMatrix)) {
+            return new PivotedQRDecomposer(inputMatrix);
+        }
+        if (pivotedQRDecomposer == null || pivotedQRDecomposer.isLocked()) {
+            final var decomposer = new PivotedQRDecomposer(inputMatrix);
+            if (pivotedQRDecomposer == null) {
+                pivotedQRDecomposer = decomposer;
+            }
+            return decomposer;
+        }
+        try {
+            pivotedQRDecomposer.setInputMatrix(inputMatrix);
+        } catch (final LockedException ignore) {
+            // never happens
+        }
+        return pivotedQRDecomposer;
+    }
+
+    /**
+     * Releases the reference that provided decomposer keeps to its input
+     * matrix, so that such matrix can be garbage collected even if the
+     * decomposer remains cached. This should be called once the results of
+     * a decomposer obtained from this workspace have been consumed.
+     * Decomposers being locked are left unchanged.
+     *
+     * @param decomposer decomposer to be released.
+     */
+    public void release(final Decomposer decomposer) {
+        try {
+            decomposer.setInputMatrix(null);
+        } catch (final LockedException ignore) {
+            // decomposer is still in use
+        }
+    }
+
+    /**
+     * Releases all cached decomposers along with their storage.
+     */
+    public void clear() {
+        luDecomposer = null;
+        choleskyDecomposer = null;
+        singularValueDecomposer = null;
+        economyQRDecomposer = null;
+        pivotedQRDecomposer = null;
+    }
+
+    /**
+     * Indicates whether decomposers of provided matrix can be cached.
+     *
+     * @param inputMatrix matrix to be decomposed.
+     * @return true if decomposers of provided matrix can be cached, false
+     * otherwise.
+     */
+    private static boolean isCacheable(final Matrix inputMatrix) {
+        return inputMatrix == null
+                || (long) inputMatrix.getRows() * inputMatrix.getColumns() <= MAX_CACHED_ELEMENTS;
+    }
+}
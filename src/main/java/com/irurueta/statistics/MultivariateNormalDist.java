@@ -390,9 +390,9 @@ public class MultivariateNormalDist {
             }
 
             for (int i = 0; i < k; i++) {
-                final var singleBasis = covBasis.getSubmatrixAsArray(0, i, k - 1, i);
-                final var coordX = ArrayUtils.dotProduct(x, singleBasis);
-                final var coordMu = ArrayUtils.dotProduct(mu, singleBasis);
+                final var singleBasis = covBasis.getColumnView(i);
+                final var coordX = singleBasis.dotProduct(x);
+                final var coordMu = singleBasis.dotProduct(mu);
                 p *= NormalDist.cdf(coordX, coordMu, Math.sqrt(variances[i]));
             }
 
@@ -491,13 +491,13 @@ public class MultivariateNormalDist {
             // initialize to mean
             System.arraycopy(mu, 0, result, 0, k);
             for (var i = 0; i < k; i++) {
-                final var singleBasis = covBasis.getSubmatrixAsArray(0, i, k - 1, i);
+                final var singleBasis = covBasis.getColumnView(i);
                 final double coord = NormalDist.invcdf(p[i], mu[i], Math.sqrt(variances[i])) - mu[i];
-                // coord*singleBasis
-                ArrayUtils.multiplyByScalar(singleBasis, coord, singleBasis);
 
                 // result = mean + coord*singleBasis
-                ArrayUtils.sum(result, singleBasis, result);
+                for (var j = 0; j < k; j++) {
+                    result[j] += coord * singleBasis.getElementAtIndex(j);
+                }
             }
         } catch (final DecomposerException e) {
             throw e;
@@ -741,18 +741,17 @@ public class MultivariateNormalDist {
             RankDeficientMatrixException {
         final var diff = ArrayUtils.subtractAndReturnNew(x, mu);
         final var diffMatrix = Matrix.newFromArray(diff, true);
-        final var transDiffMatrix = diffMatrix.transposeAndReturnNew();
 
+        Matrix result = null;
         try {
+            // diff' * invCov * diff
             final var invCov = Utils.inverse(cov);
-            transDiffMatrix.multiply(invCov);
-            transDiffMatrix.multiply(diffMatrix);
-
+            result = diffMatrix.multiplyTransposedLeftAndReturnNew(invCov.multiplyAndReturnNew(diffMatrix));
         } catch (final WrongSizeException ignore) {
             // never thrown
         }
 
-        return transDiffMatrix.getElementAtIndex(0);
+        return result.getElementAtIndex(0);
     }
 
     /**
@@ -831,15 +830,14 @@ public class MultivariateNormalDist {
 
         // [y, Y_x] = f(x)
         // Y = Y_x * X * Y_x'
-        final var jacobianTrans = jacobian.transposeAndReturnNew();
-        jacobian.multiply(covariance);
-        jacobian.multiply(jacobianTrans);
+        final var propagatedCovariance = jacobian.multiplyAndReturnNew(covariance);
+        propagatedCovariance.multiplyTransposedRight(jacobian);
 
         // ensure that new covariance is symmetric positive definite
-        jacobian.symmetrize();
+        propagatedCovariance.symmetrize();
 
         result.setMean(evaluation);
-        result.setCovariance(jacobian, false);
+        result.setCovariance(propagatedCovariance, false);
     }
 
     /**
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandedMatrixTest {
+
+    private static final int MIN_SIZE = 5;
+    private static final int MAX_SIZE = 50;
+
+    private static final int MAX_BANDWIDTH = 4;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var m = new BandedMatrix(5, 1, 2);
+        assertEquals(5, m.getSize());
+        assertEquals(1, m.getLowerBandwidth());
+        assertEquals(2, m.getUpperBandwidth());
+        assertEquals(4, m.getLeadingDimension());
+        assertEquals(20, m.getBuffer().length);
+        assertEquals(new Matrix(5, 5), m.toMatrix());
+
+        assertTrue(m.isInBand(1, 0));
+        assertTrue(m.isInBand(0, 2));
+        assertFalse(m.isInBand(2, 0));
+        assertFalse(m.isInBand(0, 3));
+        assertFalse(m.isInBand(5, 5));
+
+        final var copy = new BandedMatrix(m);
+        assertEquals(m, copy);
+        assertEquals(m.hashCode(), copy.hashCode());
+        copy.setElementAt(0, 0, 1.0);
+        assertNotEquals(m, copy);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new BandedMatrix(0, 0, 0));
+        assertThrows(WrongSizeException.class, () -> new BandedMatrix(5, -1, 0));
+        assertThrows(WrongSizeException.class, () -> new BandedMatrix(5, 0, 5));
+        assertThrows(WrongSizeException.class, () -> new BandedMatrix(Integer.MAX_VALUE, 1, 1));
+    }
+
+    @Test
+    void testNewFromMatrixAndElements() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var kl = randomizer.nextInt(0, MAX_BANDWIDTH);
+        final var ku = randomizer.nextInt(0, MAX_BANDWIDTH);
+        final var dense = Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var m = BandedMatrix.newFromMatrix(dense, kl, ku);
+        final var expected = new Matrix(n, n);
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < n; i++) {
+                if (i - j <= kl && j - i <= ku) {
+                    expected.setElementAt(i, j, dense.getElementAt(i, j));
+                    assertTrue(m.isInBand(i, j));
+                } else {
+                    assertFalse(m.isInBand(i, j));
+                }
+                assertEquals(expected.getElementAt(i, j), m.getElementAt(i, j), 0.0);
+            }
+        }
+        assertEquals(expected, m.toMatrix());
+
+        final var result = new Matrix(1, 1);
+        m.copyTo(result);
+        assertEquals(expected, result);
+
+        m.setElementAt(0, 0, 5.0);
+        assertEquals(5.0, m.getElementAt(0, 0), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(n, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(kl + 1, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(0, ku + 1, 1.0));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> BandedMatrix.newFromMatrix(new Matrix(2, 3), 0, 0));
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var m = createRandom(false);
+        final var n = m.getSize();
+        final var x = new double[n];
+        new UniformRandomizer().fill(x, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var expected = m.toMatrix().multiplyAndReturnNew(Matrix.newFromArray(x)).toArray();
+        assertArrayEquals(expected, m.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> m.multiplyAndReturnNew(new double[n + 1]));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(x, x));
+    }
+
+    @Test
+    void testLU() throws WrongSizeException, SingularMatrixException, NotReadyException, LockedException,
+            DecomposerException, NotAvailableException {
+        final var randomizer = new UniformRandomizer();
+        final var m = createRandom(false);
+        final var n = m.getSize();
+        final var dense = m.toMatrix();
+
+        final var lu = m.lu();
+        assertEquals(n, lu.getSize());
+        assertEquals(n, lu.getPivot().length);
+
+        final var denseLu = new LUDecomposer(dense);
+        denseLu.decompose();
+        assertEquals(denseLu.determinant(), lu.determinant(), ABSOLUTE_ERROR * Math.abs(lu.determinant()));
+
+        final var b = new double[n];
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var x = lu.solve(b);
+        assertArrayEquals(b, m.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+        assertArrayEquals(x, m.solve(b), 0.0);
+
+        final var inPlace = b.clone();
+        lu.solve(inPlace, inPlace);
+        assertArrayEquals(x, inPlace, 0.0);
+
+        final var bMatrix = Matrix.createWithUniformRandomValues(n, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var xMatrix = lu.solve(bMatrix);
+        assertTrue(bMatrix.equals(dense.multiplyAndReturnNew(xMatrix), ABSOLUTE_ERROR));
+
+        // a matrix requiring pivoting (zero diagonal) can still be solved
+        final var pivoting = new BandedMatrix(3, 1, 1);
+        pivoting.setElementAt(1, 0, 1.0);
+        pivoting.setElementAt(0, 1, 1.0);
+        pivoting.setElementAt(2, 1, 1.0);
+        pivoting.setElementAt(1, 2, 1.0);
+        pivoting.setElementAt(2, 2, 1.0);
+        final var pivotingB = new double[]{1.0, 2.0, 3.0};
+        assertArrayEquals(pivotingB, pivoting.multiplyAndReturnNew(pivoting.solve(pivotingB)), ABSOLUTE_ERROR);
+        assertEquals(-1.0, pivoting.lu().determinant(), ABSOLUTE_ERROR);
+
+        // random matrix requiring row interchanges and producing fill-in
+        final var kl = randomizer.nextInt(1, MAX_BANDWIDTH);
+        final var ku = randomizer.nextInt(0, MAX_BANDWIDTH);
+        final var random = BandedMatrix.newFromMatrix(
+                Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE), kl, ku);
+        final var randomX = random.solve(b);
+        final var randomB = random.multiplyAndReturnNew(randomX);
+        var maxX = 0.0;
+        for (final var value : randomX) {
+            maxX = Math.max(maxX, Math.abs(value));
+        }
+        assertArrayEquals(b, randomB, ABSOLUTE_ERROR * (1.0 + maxX));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> lu.solve(new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> lu.solve(b, new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> lu.solve(new Matrix(n + 1, 1)));
+        assertThrows(WrongSizeException.class, () -> m.solve(new double[n + 1]));
+
+        // Force SingularMatrixException
+        final var singular = new BandedMatrix(3, 1, 1);
+        singular.setElementAt(0, 0, 1.0);
+        assertThrows(SingularMatrixException.class, singular::lu);
+    }
+
+    @Test
+    void testCholesky() throws WrongSizeException, NonSymmetricPositiveDefiniteMatrixException,
+            NotReadyException, LockedException, DecomposerException, NotAvailableException {
+        final var m = createRandom(true);
+        final var n = m.getSize();
+        final var dense = m.toMatrix();
+
+        final var cholesky = m.cholesky();
+        assertEquals(n, cholesky.getSize());
+
+        final var denseCholesky = new CholeskyDecomposer(dense);
+        denseCholesky.decompose();
+        final var r = cholesky.getR();
+        assertEquals(0, r.getLowerBandwidth());
+        assertEquals(m.getUpperBandwidth(), r.getUpperBandwidth());
+        assertTrue(denseCholesky.getR().equals(r.toMatrix(), ABSOLUTE_ERROR));
+
+        final var rDense = r.toMatrix();
+        assertTrue(dense.equals(rDense.transposeAndReturnNew().multiplyAndReturnNew(rDense), ABSOLUTE_ERROR));
+        assertEquals(Utils.det(dense), cholesky.determinant(), ABSOLUTE_ERROR * Math.abs(cholesky.determinant()));
+
+        final var b = new double[n];
+        new UniformRandomizer().fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var x = cholesky.solve(b);
+        assertArrayEquals(b, m.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+
+        final var inPlace = b.clone();
+        cholesky.solve(inPlace, inPlace);
+        assertArrayEquals(x, inPlace, 0.0);
+
+        final var bMatrix = Matrix.createWithUniformRandomValues(n, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var xMatrix = cholesky.solve(bMatrix);
+        assertTrue(bMatrix.equals(dense.multiplyAndReturnNew(xMatrix), ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> cholesky.solve(new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> cholesky.solve(b, new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> cholesky.solve(new Matrix(n + 1, 1)));
+
+        // Force NonSymmetricPositiveDefiniteMatrixException
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class,
+                () -> new BandedMatrix(3, 0, 1).cholesky());
+        final var nonSymmetric = new BandedMatrix(m);
+        nonSymmetric.setElementAt(1, 0, nonSymmetric.getElementAt(1, 0) + 1.0);
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, nonSymmetric::cholesky);
+        final var indefinite = new BandedMatrix(m);
+        indefinite.setElementAt(n - 1, n - 1, -1.0);
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, indefinite::cholesky);
+    }
+
+    @Test
+    void testLargePentadiagonal() throws WrongSizeException, SingularMatrixException,
+            NonSymmetricPositiveDefiniteMatrixException {
+        // a dense matrix of this size would require 320 GB
+        final var n = 200000;
+        final var m = new BandedMatrix(n, 2, 2);
+        for (var i = 0; i < n; i++) {
+            m.setElementAt(i, i, 11.0);
+            if (i > 0) {
+                m.setElementAt(i, i - 1, -4.0);
+                m.setElementAt(i - 1, i, -4.0);
+            }
+            if (i > 1) {
+                m.setElementAt(i, i - 2, 1.0);
+                m.setElementAt(i - 2, i, 1.0);
+            }
+        }
+
+        final var expected = new double[n];
+        for (var i = 0; i < n; i++) {
+            expected[i] = Math.sin(0.001 * i);
+        }
+        final var b = m.multiplyAndReturnNew(expected);
+
+        final var x = m.cholesky().solve(b);
+        final var residual = m.multiplyAndReturnNew(x);
+        assertArrayEquals(b, residual, ABSOLUTE_ERROR);
+
+        final var x2 = m.lu().solve(b);
+        final var residual2 = m.multiplyAndReturnNew(x2);
+        assertArrayEquals(b, residual2, ABSOLUTE_ERROR);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, m::toMatrix);
+    }
+
+    private static BandedMatrix createRandom(final boolean symmetric) throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var kl = randomizer.nextInt(1, MAX_BANDWIDTH);
+        final var ku = symmetric ? kl : randomizer.nextInt(0, MAX_BANDWIDTH);
+
+        // diagonally dominant matrix
+        final var m = new BandedMatrix(n, kl, ku);
+        for (var j = 0; j < n; j++) {
+            for (var i = Math.max(0, j - ku); i <= Math.min(n - 1, j + kl); i++) {
+                if (i == j) {
+                    m.setElementAt(i, j, 2.0 * (kl + ku + 1));
+                } else if (!symmetric || i < j) {
+                    final var value = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                    m.setElementAt(i, j, value);
+                    if (symmetric) {
+                        m.setElementAt(j, i, value);
+                    }
+                }
+            }
+        }
+        return m;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockedMatrixMultiplierTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-10;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testIsBlockable() {
+        assertFalse(BlockedMatrixMultiplier.isBlockable(3, 3, 3));
+        assertFalse(BlockedMatrixMultiplier.isBlockable(4, 4, 4));
+        assertFalse(BlockedMatrixMultiplier.isBlockable(47, 48, 48));
+        assertTrue(BlockedMatrixMultiplier.isBlockable(48, 48, 48));
+        assertTrue(BlockedMatrixMultiplier.isBlockable(500, 500, 500));
+        assertTrue(BlockedMatrixMultiplier.isBlockable(100000, 100000, 100000));
+    }
+
+    @Test
+    void testMultiply() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            // sizes are not multiple of block sizes so that edges are tested
+            final var m = randomizer.nextInt(1, 300);
+            final var n = randomizer.nextInt(1, 300);
+            final var k = randomizer.nextInt(1, 600);
+
+            final var a = new double[m * k];
+            final var b = new double[k * n];
+            randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var c = new double[m * n];
+            BlockedMatrixMultiplier.multiply(m, n, k, a, 0, m, b, 0, k, c, 0, m);
+
+            assertArrayEquals(naiveMultiply(m, n, k, a, b), c, ABSOLUTE_ERROR * k);
+        }
+    }
+
+    @Test
+    void testPackingBuffersAreBounded() {
+        final var randomizer = new UniformRandomizer();
+
+        // small products keep their packing buffers
+        final var small = 64;
+        final var a = new double[small * small];
+        final var b = new double[small * small];
+        randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var c = new double[small * small];
+        BlockedMatrixMultiplier.multiply(small, small, small, a, 0, small, b, 0, small, c, 0, small);
+        assertTrue(BlockedMatrixMultiplier.getRetainedPackingLength() > 0);
+
+        // buffers of large products are released after use
+        final var m = BlockedMatrixMultiplier.MC;
+        final var n = 4 * BlockedMatrixMultiplier.MC;
+        final var k = BlockedMatrixMultiplier.KC;
+        final var largeA = new double[m * k];
+        final var largeB = new double[k * n];
+        randomizer.fill(largeA, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(largeB, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var largeC = new double[m * n];
+        BlockedMatrixMultiplier.multiply(m, n, k, largeA, 0, m, largeB, 0, k, largeC, 0, m);
+
+        assertArrayEquals(naiveMultiply(m, n, k, largeA, largeB), largeC, ABSOLUTE_ERROR * k);
+        assertTrue(BlockedMatrixMultiplier.getRetainedPackingLength()
+                <= 2 * BlockedMatrixMultiplier.MAX_RETAINED_PACKING_LENGTH);
+    }
+
+    @Test
+    void testMultiplyWithOffsetsAndLeadingDimensions() {
+        final var randomizer = new UniformRandomizer();
+        final var m = 130;
+        final var n = 67;
+        final var k = 301;
+
+        // operands are stored as sub-blocks of larger buffers
+        final var lda = m + 3;
+        final var ldb = k + 5;
+        final var ldc = m + 7;
+        final var offsetA = 2;
+        final var offsetB = 4;
+        final var offsetC = 6;
+
+        final var a = new double[offsetA + lda * k];
+        final var b = new double[offsetB + ldb * n];
+        final var c = new double[offsetC + ldc * n];
+        randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(c, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var original = c.clone();
+
+        BlockedMatrixMultiplier.multiply(m, n, k, a, offsetA, lda, b, offsetB, ldb, c, offsetC, ldc);
+
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < m; i++) {
+                var expected = 0.0;
+                for (var p = 0; p < k; p++) {
+                    expected += a[offsetA + i + p * lda] * b[offsetB + p + j * ldb];
+                }
+                assertEquals(expected, c[offsetC + i + j * ldc], ABSOLUTE_ERROR * k);
+            }
+        }
+
+        // check that values outside result block are left untouched
+        for (var j = 0; j < n; j++) {
+            for (var i = m; i < ldc; i++) {
+                final var pos = offsetC + i + j * ldc;
+                if (pos < c.length) {
+                    assertEquals(original[pos], c[pos], 0.0);
+                }
+            }
+        }
+        for (var i = 0; i < offsetC; i++) {
+            assertEquals(original[i], c[i], 0.0);
+        }
+    }
+
+    @Test
+    void testMultiplyIsExactForSmallInnerSize() {
+        final var randomizer = new UniformRandomizer();
+        final var m = 97;
+        final var n = 101;
+        final var k = BlockedMatrixMultiplier.KC;
+
+        final var a = new double[m * k];
+        final var b = new double[k * n];
+        randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var c = new double[m * n];
+        BlockedMatrixMultiplier.multiply(m, n, k, a, 0, m, b, 0, k, c, 0, m);
+
+        // when inner size fits in a single block, summation order is the same
+        // as in the triple loop
+        assertArrayEquals(naiveMultiply(m, n, k, a, b), c, 0.0);
+    }
+
+    @Test
+    void testMultiplyInParallel() {
+        final var randomizer = new UniformRandomizer();
+        final var pool = new ForkJoinPool(4);
+        try {
+            for (var t = 0; t < TIMES; t++) {
+                final var m = randomizer.nextInt(1, 300);
+                final var n = randomizer.nextInt(1, 300);
+                final var k = randomizer.nextInt(1, 600);
+                final var parallelism = randomizer.nextInt(1, 8);
+
+                final var a = new double[m * k];
+                final var b = new double[k * n];
+                randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                final var expected = new double[m * n];
+                BlockedMatrixMultiplier.multiply(m, n, k, a, 0, m, b, 0, k, expected, 0, m);
+
+                final var c = new double[m * n];
+                BlockedMatrixMultiplier.multiply(m, n, k, a, 0, m, b, 0, k, c, 0, m, pool, parallelism);
+
+                // splitting the result does not change summation order
+                assertArrayEquals(expected, c, 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMultiplyTransposed() {
+        final var randomizer = new UniformRandomizer();
+        final var pool = new ForkJoinPool(4);
+        try {
+            for (var t = 0; t < TIMES; t++) {
+                final var m = randomizer.nextInt(1, 300);
+                final var n = randomizer.nextInt(1, 300);
+                final var k = randomizer.nextInt(1, 600);
+                final var transA = randomizer.nextBoolean();
+                final var transB = randomizer.nextBoolean();
+
+                final var a = new double[m * k];
+                final var b = new double[k * n];
+                randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                // transposed operands are stored as k x m and n x k matrices
+                final var lda = transA ? k : m;
+                final var ldb = transB ? n : k;
+                final var opA = transA ? transpose(k, m, a) : a;
+                final var opB = transB ? transpose(n, k, b) : b;
+
+                final var c = new double[m * n];
+                BlockedMatrixMultiplier.multiply(transA, transB, m, n, k, a, 0, lda, b, 0, ldb, c, 0, m);
+                assertArrayEquals(naiveMultiply(m, n, k, opA, opB), c, ABSOLUTE_ERROR * k);
+
+                final var c2 = new double[m * n];
+                BlockedMatrixMultiplier.multiply(transA, transB, m, n, k, a, 0, lda, b, 0, ldb, c2, 0, m,
+                        pool, randomizer.nextInt(2, 8));
+                assertArrayEquals(c, c2, 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMultiplyWithScales() {
+        final var randomizer = new UniformRandomizer();
+        final var pool = new ForkJoinPool(4);
+        try {
+            for (var t = 0; t < TIMES; t++) {
+                final var m = randomizer.nextInt(1, 300);
+                final var n = randomizer.nextInt(1, 300);
+                final var k = randomizer.nextInt(1, 600);
+                final var alpha = randomizer.nextDouble(-2.0, 2.0);
+                final var beta = randomizer.nextDouble(-2.0, 2.0);
+
+                final var a = new double[m * k];
+                final var b = new double[k * n];
+                final var c = new double[m * n];
+                randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                randomizer.fill(c, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                final var expected = naiveMultiply(m, n, k, a, b);
+                for (var i = 0; i < expected.length; i++) {
+                    expected[i] = alpha * expected[i] + beta * c[i];
+                }
+
+                final var c2 = c.clone();
+                BlockedMatrixMultiplier.multiply(false, false, m, n, k, alpha, a, 0, m, b, 0, k, beta, c, 0, m);
+                assertArrayEquals(expected, c, ABSOLUTE_ERROR * k);
+
+                BlockedMatrixMultiplier.multiply(false, false, m, n, k, alpha, a, 0, m, b, 0, k, beta, c2, 0, m,
+                        pool, randomizer.nextInt(2, 8));
+                assertArrayEquals(c, c2, 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testScale() {
+        final var c = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
+
+        // scale a 2x2 block having leading dimension 3
+        BlockedMatrixMultiplier.scale(2, 2, 2.0, c, 1, 3);
+        assertArrayEquals(new double[]{1.0, 4.0, 6.0, 4.0, 10.0, 12.0}, c, 0.0);
+
+        BlockedMatrixMultiplier.scale(2, 2, 1.0, c, 1, 3);
+        assertArrayEquals(new double[]{1.0, 4.0, 6.0, 4.0, 10.0, 12.0}, c, 0.0);
+
+        c[1] = Double.NaN;
+        BlockedMatrixMultiplier.scale(2, 2, 0.0, c, 1, 3);
+        assertArrayEquals(new double[]{1.0, 0.0, 0.0, 4.0, 0.0, 0.0}, c, 0.0);
+    }
+
+    @Test
+    void testGram() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            // number of columns larger than block size so that several blocks
+            // of the upper triangle are computed
+            final var n = randomizer.nextInt(1, 300);
+            final var k = randomizer.nextInt(1, 300);
+
+            final var a = new double[k * n];
+            randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var c = new double[n * n];
+            BlockedMatrixMultiplier.gram(n, k, a, 0, k, c, 0, n);
+
+            assertArrayEquals(naiveMultiply(n, n, k, transpose(k, n, a), a), c, ABSOLUTE_ERROR * k);
+            for (var j = 0; j < n; j++) {
+                for (var i = 0; i < n; i++) {
+                    assertEquals(c[i + j * n], c[j + i * n], 0.0);
+                }
+            }
+        }
+    }
+
+    private static double[] transpose(final int rows, final int columns, final double[] a) {
+        final var result = new double[rows * columns];
+        for (var j = 0; j < columns; j++) {
+            for (var i = 0; i < rows; i++) {
+                result[j + i * columns] = a[i + j * rows];
+            }
+        }
+        return result;
+    }
+
+    private static double[] naiveMultiply(final int m, final int n, final int k, final double[] a,
+                                          final double[] b) {
+        final var result = new double[m * n];
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < m; i++) {
+                var value = 0.0;
+                for (var p = 0; p < k; p++) {
+                    value += a[i + p * m] * b[p + j * k];
+                }
+                result[i + j * m] = value;
+            }
+        }
+        return result;
+    }
+}
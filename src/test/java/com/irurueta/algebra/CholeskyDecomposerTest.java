@@ -18,6 +18,9 @@ package com.irurueta.algebra;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class CholeskyDecomposerTest {
@@ -297,6 +300,31 @@ public class CholeskyDecomposerTest {
         }
     }
 
+    @Test
+    void testGetTriangularFactors() throws WrongSizeException, LockedException, NotReadyException,
+            DecomposerException, NotAvailableException {
+
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+
+        final var m = DecomposerHelper.getSymmetricPositiveDefiniteMatrixInstance(
+                DecomposerHelper.getLeftLowerTriangulatorFactor(rows));
+        final var decomposer = new CholeskyDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::getTriangularL);
+        assertThrows(NotAvailableException.class, decomposer::getTriangularR);
+
+        decomposer.decompose();
+
+        final var l = decomposer.getTriangularL();
+        final var r = decomposer.getTriangularR();
+        assertFalse(l.isUpper());
+        assertTrue(r.isUpper());
+        assertEquals(decomposer.getL(), l.toMatrix());
+        assertEquals(decomposer.getR(), r.toMatrix());
+    }
+
     @Test
     void testIsSPD() throws WrongSizeException, LockedException, NotAvailableException, NotReadyException,
             DecomposerException {
@@ -335,6 +363,131 @@ public class CholeskyDecomposerTest {
         assertFalse(decomposer.isSPD());
     }
 
+    @Test
+    void testDecomposeBlocked() throws AlgebraException {
+        // sizes spanning several blocks, including partial ones
+        final int[] sizes = {300, 257, 65};
+        for (final var size : sizes) {
+            final var m = createSymmetricPositiveDefinite(size);
+
+            final var decomposer = new CholeskyDecomposer(m);
+            decomposer.decompose();
+            assertTrue(decomposer.isSPD());
+
+            // A = R' * R, where R is upper triangular
+            final var r = decomposer.getR();
+            assertTrue(r.equals(TriangularMatrix.newFromMatrix(r, true, false).toMatrix(), 0.0));
+            assertTrue(m.equals(r.transposeAndReturnNew().multiplyAndReturnNew(r), ABSOLUTE_ERROR));
+
+            // exact asymmetry of a single pair of elements is detected
+            m.setElementAt(size - 2, size - 1, Math.nextUp(m.getElementAt(size - 2, size - 1)));
+            decomposer.setInputMatrix(m);
+            decomposer.decompose();
+            assertFalse(decomposer.isSPD());
+        }
+
+        // symmetric indefinite matrix having a negative pivot within second
+        // block
+        final var m = createSymmetricPositiveDefinite(200);
+        m.setElementAt(100, 100, -m.getElementAt(100, 100));
+        final var decomposer = new CholeskyDecomposer(m);
+        decomposer.decompose();
+        assertFalse(decomposer.isSPD());
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class,
+                () -> decomposer.solve(new Matrix(200, 1)));
+    }
+
+    @Test
+    void testDecomposeParallel() throws AlgebraException {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final int[] sizes = {600, 500, 300, 100};
+            for (final var size : sizes) {
+                final var m = createSymmetricPositiveDefinite(size);
+
+                final var sequential = new CholeskyDecomposer(m);
+                assertNull(sequential.getPool());
+                sequential.decompose();
+
+                final var parallel = new CholeskyDecomposer(m, pool);
+                assertSame(pool, parallel.getPool());
+                parallel.decompose();
+
+                // parallel decomposition is identical to sequential one
+                assertTrue(parallel.isSPD());
+                assertEquals(sequential.getR(), parallel.getR());
+            }
+
+            // decomposition can also be started from a task of the pool
+            final var m = createSymmetricPositiveDefinite(400);
+            final var decomposer = new CholeskyDecomposer(m, pool);
+            pool.submit(() -> {
+                decomposer.decompose();
+                return null;
+            }).get();
+            final var expected = new CholeskyDecomposer(m);
+            expected.decompose();
+            assertEquals(expected.getR(), decomposer.getR());
+        } catch (final InterruptedException | ExecutionException e) {
+            fail(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testGetSetPool() throws LockedException {
+        final var decomposer = new CholeskyDecomposer();
+        assertNull(decomposer.getPool());
+
+        final var pool = ForkJoinPool.commonPool();
+        decomposer.setPool(pool);
+        assertSame(pool, decomposer.getPool());
+
+        decomposer.setPool(null);
+        assertNull(decomposer.getPool());
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setPool(pool));
+    }
+
+    @Test
+    void testStorageReused() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var m1 = DecomposerHelper.getSymmetricPositiveDefiniteMatrixInstance(
+                DecomposerHelper.getLeftLowerTriangulatorFactor(rows));
+        final var m2 = DecomposerHelper.getSymmetricPositiveDefiniteMatrixInstance(
+                DecomposerHelper.getLeftLowerTriangulatorFactor(rows));
+
+        final var decomposer = new CholeskyDecomposer(m1);
+        assertFalse(decomposer.isStorageReused());
+
+        // by default, results remain valid after later decompositions
+        decomposer.decompose();
+        final var r = decomposer.getR();
+        final var expected = new Matrix(r);
+        decomposer.setInputMatrix(m2);
+        decomposer.decompose();
+        assertNotSame(r, decomposer.getR());
+        assertEquals(expected, r);
+
+        // storage is reused when enabled
+        decomposer.setStorageReused(true);
+        assertTrue(decomposer.isStorageReused());
+        decomposer.decompose();
+        final var reused = decomposer.getR();
+        decomposer.setInputMatrix(m1);
+        decomposer.decompose();
+        assertSame(reused, decomposer.getR());
+        assertEquals(expected, reused);
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setStorageReused(false));
+    }
+
     @Test
     void testSolve() throws WrongSizeException, LockedException, NonSymmetricPositiveDefiniteMatrixException,
             NotReadyException, DecomposerException, NotAvailableException {
@@ -394,4 +547,157 @@ public class CholeskyDecomposerTest {
         // since m has already been decomposed, we can directly solve
         assertThrows(WrongSizeException.class, () -> decomposer.solve(b3));
     }
+
+    @Test
+    void testUpdate() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+
+        final var m = createSymmetricPositiveDefinite(rows);
+        final var x = new double[rows];
+        for (var i = 0; i < rows; i++) {
+            x[i] = randomizer.nextDouble(-1.0, 1.0);
+        }
+        final var xCopy = x.clone();
+
+        final var decomposer = new CholeskyDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, () -> decomposer.update(x));
+
+        decomposer.decompose();
+        decomposer.update(x);
+
+        // provided vector is not modified
+        assertArrayEquals(xCopy, x, 0.0);
+
+        // check that R' * R = m + x * x'
+        final var expected = m.addAndReturnNew(outer(x));
+        final var r = decomposer.getR();
+        assertTrue(expected.equals(r.transposeAndReturnNew().multiplyAndReturnNew(r), ABSOLUTE_ERROR));
+
+        // updated factor matches decomposition of updated matrix
+        final var decomposer2 = new CholeskyDecomposer(expected);
+        decomposer2.decompose();
+        assertTrue(decomposer2.getR().equals(r, ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> decomposer.update(new double[rows + 1]));
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.update(x));
+        decomposer.locked = false;
+
+        // Force NonSymmetricPositiveDefiniteMatrixException
+        final var nonSpd = Matrix.identity(rows, rows);
+        nonSpd.setElementAt(0, 0, -1.0);
+        decomposer.setInputMatrix(nonSpd);
+        decomposer.decompose();
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, () -> decomposer.update(x));
+    }
+
+    @Test
+    void testDowndate() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+
+        final var m = createSymmetricPositiveDefinite(rows);
+        final var x = new double[rows];
+        for (var i = 0; i < rows; i++) {
+            x[i] = randomizer.nextDouble(-1.0, 1.0);
+        }
+        final var xCopy = x.clone();
+
+        final var decomposer = new CholeskyDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, () -> decomposer.downdate(x));
+
+        decomposer.decompose();
+
+        // downdate reverts an update
+        final var r0 = new Matrix(decomposer.getR());
+        decomposer.update(x);
+        decomposer.downdate(x);
+        assertArrayEquals(xCopy, x, 0.0);
+        assertTrue(r0.equals(decomposer.getR(), ABSOLUTE_ERROR));
+
+        // check that R' * R = m - x * x'
+        decomposer.downdate(x);
+        final var expected = m.subtractAndReturnNew(outer(x));
+        final var r = decomposer.getR();
+        assertTrue(expected.equals(r.transposeAndReturnNew().multiplyAndReturnNew(r), ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> decomposer.downdate(new double[rows + 1]));
+
+        // Force NonSymmetricPositiveDefiniteMatrixException when downdated
+        // matrix is no longer positive definite, factor is left unchanged
+        decomposer.decompose();
+        final var r1 = new Matrix(decomposer.getR());
+        final var y = new double[rows];
+        y[rows - 1] = 2.0 * Math.sqrt(m.getElementAt(rows - 1, rows - 1));
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, () -> decomposer.downdate(y));
+        assertEquals(r1, decomposer.getR());
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.downdate(x));
+    }
+
+    @Test
+    void testRankOneModificationAliasesR() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+
+        final var m = createSymmetricPositiveDefinite(rows);
+        final var x = new double[rows];
+        for (var i = 0; i < rows; i++) {
+            x[i] = randomizer.nextDouble(-1.0, 1.0);
+        }
+
+        final var decomposer = new CholeskyDecomposer(m);
+        decomposer.decompose();
+
+        // factor returned by getR is modified in place, whereas getL returns
+        // a copy
+        final var r = decomposer.getR();
+        final var r0 = new Matrix(r);
+        final var l = decomposer.getL();
+        final var l0 = new Matrix(l);
+
+        decomposer.update(x);
+        assertSame(r, decomposer.getR());
+        assertNotEquals(r0, r);
+        assertEquals(l0, l);
+        assertTrue(l.equals(r0.transposeAndReturnNew(), 0.0));
+
+        decomposer.downdate(x);
+        assertSame(r, decomposer.getR());
+        assertTrue(r0.equals(r, ABSOLUTE_ERROR));
+    }
+
+    private static Matrix outer(final double[] x) throws WrongSizeException {
+        final var result = new Matrix(x.length, x.length);
+        for (var j = 0; j < x.length; j++) {
+            for (var i = 0; i < x.length; i++) {
+                result.setElementAt(i, j, x[i] * x[j]);
+            }
+        }
+        return result;
+    }
+
+    private static Matrix createSymmetricPositiveDefinite(final int size) throws WrongSizeException {
+        // A = M' * M + size * I is well conditioned and exactly symmetric
+        final var m = Matrix.createWithUniformRandomValues(size, size, -1.0, 1.0);
+        final var result = m.transposeAndReturnNew().multiplyAndReturnNew(m);
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < i; j++) {
+                result.setElementAt(i, j, result.getElementAt(j, i));
+            }
+            result.setElementAt(i, i, result.getElementAt(i, i) + size);
+        }
+        return result;
+    }
 }
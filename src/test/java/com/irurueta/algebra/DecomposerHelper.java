@@ -96,6 +96,20 @@ public class DecomposerHelper {
         return m;
     }
 
+    static Matrix getDiagonallyDominantMatrix(final int size, final double minValue, final double maxValue)
+            throws WrongSizeException {
+        // strictly diagonally dominant matrices are invertible and well conditioned
+        final var a = Matrix.createWithUniformRandomValues(size, size, minValue, maxValue);
+        for (var i = 0; i < size; i++) {
+            var sum = 0.0;
+            for (var j = 0; j < size; j++) {
+                sum += Math.abs(a.getElementAt(i, j));
+            }
+            a.setElementAt(i, i, Math.copySign(sum + 1.0, a.getElementAt(i, i)));
+        }
+        return a;
+    }
+
     static Matrix getNonSingularMatrixInstance(final int rows, final int columns) throws WrongSizeException {
         final var randomizer = new UniformRandomizer();
 
@@ -18,6 +18,9 @@ package com.irurueta.algebra;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class EconomyQRDecomposerTest {
@@ -249,6 +252,30 @@ class EconomyQRDecomposerTest {
         }
     }
 
+    @Test
+    void testGetTriangularR() throws WrongSizeException, LockedException, NotReadyException,
+            NotAvailableException {
+
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 2, MAX_ROWS + 2);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 2, MAX_COLUMNS + 2);
+
+        final var decomposer = new EconomyQRDecomposer();
+
+        final var m = DecomposerHelper.getNonSingularMatrixInstance(rows, columns);
+        decomposer.setInputMatrix(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::getTriangularR);
+
+        decomposer.decompose();
+        final var r = decomposer.getTriangularR();
+
+        assertTrue(r.isUpper());
+        assertEquals(columns, r.getSize());
+        assertEquals(decomposer.getR(), r.toMatrix());
+    }
+
     @Test
     void testGetQ() throws WrongSizeException, LockedException, NotReadyException, NotAvailableException {
 
@@ -431,4 +458,91 @@ class EconomyQRDecomposerTest {
         final var b7 = Matrix.createWithUniformRandomValues(rows, columns2, MIN_RANDOM_VALUE2, MAX_RANDOM_VALUE);
         assertThrows(RankDeficientMatrixException.class, () -> decomposer.solve(b7, ROUND_ERROR));
     }
+
+    @Test
+    void testDecomposeBlocked() throws AlgebraException {
+        // several panels of reflections are needed, and the number of columns
+        // is not a multiple of the size of a panel
+        final var rows = 300;
+        final var columns = 3 * HouseholderQRFactorizer.BLOCK_SIZE + 5;
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, -1.0, 1.0);
+
+        final var decomposer = new EconomyQRDecomposer(m);
+        decomposer.decompose();
+
+        final var q = decomposer.getQ();
+        final var r = decomposer.getR();
+        assertTrue(q.transposeAndReturnNew().multiplyAndReturnNew(q).equals(
+                Matrix.identity(columns, columns), ABSOLUTE_ERROR));
+        assertTrue(q.multiplyAndReturnNew(r).equals(m, ABSOLUTE_ERROR));
+
+        // solve many right hand sides at once
+        final var b = Matrix.createWithUniformRandomValues(rows, 2 * HouseholderQRFactorizer.BLOCK_SIZE + 3,
+                -1.0, 1.0);
+        final var x = decomposer.solve(b);
+
+        // least squares solution makes residual orthogonal to columns of m
+        final var residual = m.multiplyAndReturnNew(x).subtractAndReturnNew(b);
+        final var normal = m.transposeAndReturnNew().multiplyAndReturnNew(residual);
+        assertTrue(normal.equals(new Matrix(columns, b.getColumns()), ABSOLUTE_ERROR));
+
+        // matrices having less rows than columns are also decomposed
+        final var wide = Matrix.createWithUniformRandomValues(columns - 10, columns, -1.0, 1.0);
+        decomposer.setInputMatrix(wide);
+        decomposer.decompose();
+        final var h = decomposer.getH();
+        final var r2 = decomposer.getR();
+        for (var k = wide.getRows(); k < columns; k++) {
+            assertEquals(0.0, r2.getElementAt(k, k), 0.0);
+        }
+        assertEquals(wide.getRows(), h.getRows());
+    }
+
+    @Test
+    void testDecomposeParallel() throws AlgebraException {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var m = Matrix.createWithUniformRandomValues(400, 200, -1.0, 1.0);
+            final var b = Matrix.createWithUniformRandomValues(400, 300, -1.0, 1.0);
+
+            final var sequential = new EconomyQRDecomposer(m);
+            sequential.decompose();
+            final var parallel = new EconomyQRDecomposer(m, pool);
+            parallel.decompose();
+
+            // parallel decomposition is identical to sequential one
+            assertEquals(sequential.getH(), parallel.getH());
+            assertEquals(sequential.getR(), parallel.getR());
+            assertEquals(sequential.solve(b), parallel.solve(b));
+
+            // decomposition can also be started from a task of the pool
+            final var decomposer = new EconomyQRDecomposer(m, pool);
+            pool.submit(() -> {
+                decomposer.decompose();
+                return null;
+            }).get();
+            assertEquals(sequential.getR(), decomposer.getR());
+        } catch (final InterruptedException | ExecutionException e) {
+            fail(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testGetSetPool() throws LockedException {
+        final var decomposer = new EconomyQRDecomposer();
+        assertNull(decomposer.getPool());
+
+        final var pool = ForkJoinPool.commonPool();
+        decomposer.setPool(pool);
+        assertSame(pool, decomposer.getPool());
+
+        decomposer.setPool(null);
+        assertNull(decomposer.getPool());
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setPool(pool));
+    }
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloatMatrixTest {
+
+    private static final int MIN_ROWS = 1;
+    private static final int MAX_ROWS = 50;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final float ABSOLUTE_ERROR = 1e-4f;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var m = new FloatMatrix(3, 4);
+        assertEquals(3, m.getRows());
+        assertEquals(4, m.getColumns());
+        assertEquals(12, m.getBuffer().length);
+        for (final var value : m.getBuffer()) {
+            assertEquals(0.0f, value, 0.0f);
+        }
+
+        m.setElementAt(2, 1, 5.0f);
+        final var copy = new FloatMatrix(m);
+        assertEquals(m, copy);
+        assertNotSame(m.getBuffer(), copy.getBuffer());
+        assertEquals(m.hashCode(), copy.hashCode());
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new FloatMatrix(0, 1));
+        assertThrows(WrongSizeException.class, () -> new FloatMatrix(1, 0));
+    }
+
+    @Test
+    void testGetSetElements() throws WrongSizeException {
+        final var m = new FloatMatrix(3, 4);
+        m.setElementAt(1, 2, 3.0f);
+        assertEquals(3.0f, m.getElementAt(1, 2), 0.0f);
+        assertEquals(7, m.getIndex(1, 2));
+        assertEquals(3.0f, m.getElementAtIndex(7), 0.0f);
+
+        m.setElementAtIndex(11, 4.0f);
+        assertEquals(4.0f, m.getElementAt(2, 3), 0.0f);
+
+        m.initialize(2.0f);
+        for (final var value : m.getBuffer()) {
+            assertEquals(2.0f, value, 0.0f);
+        }
+    }
+
+    @Test
+    void testConversion() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var f = FloatMatrix.newFromMatrix(m);
+        assertEquals(rows, f.getRows());
+        assertEquals(columns, f.getColumns());
+        for (var j = 0; j < columns; j++) {
+            for (var i = 0; i < rows; i++) {
+                assertEquals((float) m.getElementAt(i, j), f.getElementAt(i, j), 0.0f);
+            }
+        }
+
+        final var back = f.toMatrix();
+        assertTrue(m.equals(back, ABSOLUTE_ERROR));
+
+        final var result = new Matrix(1, 1);
+        f.copyTo(result);
+        assertEquals(back, result);
+
+        final var f2 = new FloatMatrix(1, 1);
+        f2.copyFrom(m);
+        assertEquals(f, f2);
+
+        final var f3 = new FloatMatrix(1, 1);
+        f.copyTo(f3);
+        assertEquals(f, f3);
+        final var f4 = new FloatMatrix(2, 2);
+        f4.copyFrom(f);
+        assertEquals(f, f4);
+    }
+
+    @Test
+    void testAddSubtract() throws WrongSizeException {
+        final var m1 = randomMatrix(4, 5);
+        final var m2 = randomMatrix(4, 5);
+        final var expectedSum = m1.toMatrix().addAndReturnNew(m2.toMatrix());
+        final var expectedDiff = m1.toMatrix().subtractAndReturnNew(m2.toMatrix());
+
+        assertTrue(expectedSum.equals(m1.addAndReturnNew(m2).toMatrix(), ABSOLUTE_ERROR));
+        assertTrue(expectedDiff.equals(m1.subtractAndReturnNew(m2).toMatrix(), ABSOLUTE_ERROR));
+
+        final var result = new FloatMatrix(1, 1);
+        m1.add(m2, result);
+        assertTrue(expectedSum.equals(result.toMatrix(), ABSOLUTE_ERROR));
+        m1.subtract(m2, result);
+        assertTrue(expectedDiff.equals(result.toMatrix(), ABSOLUTE_ERROR));
+
+        final var copy = new FloatMatrix(m1);
+        copy.add(m2);
+        assertTrue(expectedSum.equals(copy.toMatrix(), ABSOLUTE_ERROR));
+        copy.subtract(m2);
+        copy.subtract(m2);
+        assertTrue(expectedDiff.equals(copy.toMatrix(), ABSOLUTE_ERROR));
+
+        final var scaled = m1.multiplyByScalarAndReturnNew(2.0f);
+        assertTrue(m1.toMatrix().multiplyByScalarAndReturnNew(2.0).equals(scaled.toMatrix(), ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        final var wrong = new FloatMatrix(5, 4);
+        assertThrows(WrongSizeException.class, () -> m1.add(wrong));
+        assertThrows(WrongSizeException.class, () -> m1.add(wrong, result));
+        assertThrows(WrongSizeException.class, () -> m1.addAndReturnNew(wrong));
+        assertThrows(WrongSizeException.class, () -> m1.subtract(wrong));
+        assertThrows(WrongSizeException.class, () -> m1.subtract(wrong, result));
+        assertThrows(WrongSizeException.class, () -> m1.subtractAndReturnNew(wrong));
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // small and blocked sizes
+        for (final var max : new int[]{MAX_ROWS, FloatMatrix.MC + 50}) {
+            final var m = randomizer.nextInt(MIN_ROWS, max);
+            final var n = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+            final var k = randomizer.nextInt(MIN_ROWS, max);
+
+            final var a = randomMatrix(m, k);
+            final var b = randomMatrix(k, n);
+            final var expected = a.toMatrix().multiplyAndReturnNew(b.toMatrix());
+
+            assertTrue(expected.equals(a.multiplyAndReturnNew(b).toMatrix(), ABSOLUTE_ERROR * k));
+
+            final var result = new FloatMatrix(1, 1);
+            a.multiply(b, result);
+            assertTrue(expected.equals(result.toMatrix(), ABSOLUTE_ERROR * k));
+
+            final var copy = new FloatMatrix(a);
+            copy.multiply(b);
+            assertTrue(expected.equals(copy.toMatrix(), ABSOLUTE_ERROR * k));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> a.multiply(b, a));
+        }
+
+        // Force WrongSizeException
+        final var a = new FloatMatrix(2, 3);
+        assertThrows(WrongSizeException.class, () -> a.multiply(a));
+        assertThrows(WrongSizeException.class, () -> a.multiply(a, new FloatMatrix(1, 1)));
+        assertThrows(WrongSizeException.class, () -> a.multiplyAndReturnNew(a));
+    }
+
+    @Test
+    void testMultiplyPropagatesNaNAndInfinity() throws WrongSizeException {
+        // zero entries of right operand must not hide NaN or infinite values
+        // of left operand, as in double precision
+        final var a = new FloatMatrix(2, 2);
+        a.setElementAt(0, 0, Float.NaN);
+        a.setElementAt(1, 1, Float.POSITIVE_INFINITY);
+        final var b = new FloatMatrix(2, 2);
+
+        final var result = a.multiplyAndReturnNew(b);
+        final var expected = a.toMatrix().multiplyAndReturnNew(b.toMatrix());
+        for (var i = 0; i < 2; i++) {
+            for (var j = 0; j < 2; j++) {
+                assertTrue(Float.isNaN(result.getElementAt(i, j)));
+                assertTrue(Double.isNaN(expected.getElementAt(i, j)));
+            }
+        }
+    }
+
+    @Test
+    void testTranspose() throws WrongSizeException {
+        final var m = randomMatrix(4, 7);
+        final var expected = m.toMatrix().transposeAndReturnNew();
+
+        assertEquals(FloatMatrix.newFromMatrix(expected), m.transposeAndReturnNew());
+
+        final var result = new FloatMatrix(1, 1);
+        m.transpose(result);
+        assertEquals(FloatMatrix.newFromMatrix(expected), result);
+
+        m.transpose();
+        assertEquals(FloatMatrix.newFromMatrix(expected), m);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.transpose(m));
+    }
+
+    @Test
+    void testSubmatrix() throws WrongSizeException {
+        final var m = randomMatrix(6, 5);
+        final var expected = m.toMatrix().getSubmatrix(1, 2, 4, 3);
+
+        assertEquals(FloatMatrix.newFromMatrix(expected), m.getSubmatrix(1, 2, 4, 3));
+
+        final var result = new FloatMatrix(1, 1);
+        m.getSubmatrix(1, 2, 4, 3, result);
+        assertEquals(FloatMatrix.newFromMatrix(expected), result);
+
+        final var block = randomMatrix(2, 3);
+        m.setSubmatrix(3, 1, block);
+        assertEquals(block, m.getSubmatrix(3, 1, 4, 3));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getSubmatrix(-1, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> m.getSubmatrix(0, 0, 6, 1));
+        assertThrows(IllegalArgumentException.class, () -> m.getSubmatrix(2, 0, 1, 1, result));
+        assertThrows(IllegalArgumentException.class, () -> m.setSubmatrix(5, 1, block));
+    }
+
+    @Test
+    void testSolveLU() throws WrongSizeException, SingularMatrixException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var rhs = randomizer.nextInt(MIN_ROWS, 5);
+
+        // diagonally dominant matrix is well conditioned
+        final var a = randomMatrix(n, n);
+        for (var i = 0; i < n; i++) {
+            a.setElementAt(i, i, a.getElementAt(i, i) + n);
+        }
+        final var b = randomMatrix(n, rhs);
+        final var original = new FloatMatrix(a);
+
+        final var x = a.solveLU(b);
+        assertEquals(original, a);
+        assertTrue(b.equals(a.multiplyAndReturnNew(x), ABSOLUTE_ERROR * n));
+
+        // Force SingularMatrixException
+        final var singular = new FloatMatrix(3, 3);
+        singular.initialize(1.0f);
+        assertThrows(SingularMatrixException.class, () -> singular.solveLU(new FloatMatrix(3, 1)));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new FloatMatrix(2, 3).solveLU(new FloatMatrix(2, 1)));
+        assertThrows(WrongSizeException.class, () -> a.solveLU(new FloatMatrix(n + 1, 1)));
+    }
+
+    @Test
+    void testSolveCholesky() throws WrongSizeException, NonSymmetricPositiveDefiniteMatrixException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var rhs = randomizer.nextInt(MIN_ROWS, 5);
+
+        // symmetric positive definite matrix
+        final var m = randomMatrix(n, n);
+        final var a = m.transposeAndReturnNew().multiplyAndReturnNew(m);
+        for (var i = 0; i < n; i++) {
+            a.setElementAt(i, i, a.getElementAt(i, i) + n);
+        }
+        final var b = randomMatrix(n, rhs);
+        final var original = new FloatMatrix(a);
+
+        final var x = a.solveCholesky(b);
+        assertEquals(original, a);
+        assertTrue(b.equals(a.multiplyAndReturnNew(x), ABSOLUTE_ERROR * n));
+
+        // solution matches LU
+        try {
+            assertTrue(a.solveLU(b).equals(x, ABSOLUTE_ERROR));
+        } catch (final SingularMatrixException e) {
+            fail();
+        }
+
+        // Force NonSymmetricPositiveDefiniteMatrixException
+        final var nonSymmetric = new FloatMatrix(2, 2);
+        nonSymmetric.setElementAt(0, 0, 1.0f);
+        nonSymmetric.setElementAt(1, 1, 1.0f);
+        nonSymmetric.setElementAt(0, 1, 0.5f);
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class,
+                () -> nonSymmetric.solveCholesky(new FloatMatrix(2, 1)));
+        final var negative = new FloatMatrix(2, 2);
+        negative.setElementAt(0, 0, 1.0f);
+        negative.setElementAt(1, 1, -1.0f);
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class,
+                () -> negative.solveCholesky(new FloatMatrix(2, 1)));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new FloatMatrix(2, 3).solveCholesky(new FloatMatrix(2, 1)));
+        assertThrows(WrongSizeException.class, () -> a.solveCholesky(new FloatMatrix(n + 1, 1)));
+    }
+
+    private static FloatMatrix randomMatrix(final int rows, final int columns) throws WrongSizeException {
+        return FloatMatrix.newFromMatrix(Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE,
+                MAX_RANDOM_VALUE));
+    }
+}
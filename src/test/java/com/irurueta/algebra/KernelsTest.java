@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KernelsTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final int MIN_LENGTH = 1;
+    private static final int MAX_LENGTH = 100;
+
+    @Test
+    void testInstance() {
+        // Vector API module is not enabled when running this test
+        assertNotNull(Kernels.INSTANCE);
+        assertFalse(Kernels.INSTANCE.isVectorized());
+        assertEquals(Kernels.class, Kernels.create().getClass());
+    }
+
+    @Test
+    void testDotProduct() {
+        final var randomizer = new UniformRandomizer();
+        final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+        final var a = new double[length];
+        final var b = new double[length];
+        randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        var expected = 0.0;
+        for (var i = 0; i < length - 1; i++) {
+            expected += a[i] * b[i];
+        }
+
+        // only first elements are used
+        assertEquals(expected, new Kernels().dotProduct(a, b, length - 1), 0.0);
+        assertEquals(0.0, new Kernels().dotProduct(a, b, 0), 0.0);
+    }
+
+    @Test
+    void testElementWiseOperations() {
+        final var randomizer = new UniformRandomizer();
+        final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+        final var a = new double[length];
+        final var b = new double[length];
+        randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var scalar = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var kernels = new Kernels();
+        final var sum = new double[length];
+        final var difference = new double[length];
+        final var product = new double[length];
+        final var scaled = new double[length];
+        kernels.sum(a, b, sum, length);
+        kernels.subtract(a, b, difference, length);
+        kernels.multiply(a, b, product, length);
+        kernels.multiplyByScalar(a, scalar, scaled, length);
+
+        for (var i = 0; i < length; i++) {
+            assertEquals(a[i] + b[i], sum[i], 0.0);
+            assertEquals(a[i] - b[i], difference[i], 0.0);
+            assertEquals(a[i] * b[i], product[i], 0.0);
+            assertEquals(scalar * a[i], scaled[i], 0.0);
+        }
+    }
+
+    @Test
+    void testMultiplyTile() {
+        final var randomizer = new UniformRandomizer();
+        final var mr = BlockedMatrixMultiplier.MR;
+        final var nr = BlockedMatrixMultiplier.NR;
+        final var kc = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+        final var packA = new double[mr * kc];
+        final var packB = new double[nr * kc];
+        randomizer.fill(packA, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(packB, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var kernels = new Kernels();
+        final var tile = new double[mr * nr];
+
+        // full tile is accumulated into result
+        final var ldc = mr + 2;
+        final var c = new double[ldc * nr];
+        randomizer.fill(c, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var original = c.clone();
+        kernels.multiplyTile(kc, packA, 0, packB, 0, c, 1, ldc, mr, nr, tile);
+
+        for (var j = 0; j < nr; j++) {
+            for (var i = 0; i < mr; i++) {
+                var expected = 0.0;
+                for (var p = 0; p < kc; p++) {
+                    expected += packA[p * mr + i] * packB[p * nr + j];
+                }
+                final var pos = 1 + i + j * ldc;
+                assertEquals(original[pos] + expected, c[pos], 0.0);
+            }
+        }
+
+        // partial tile only modifies its valid region
+        final var partial = new double[ldc * nr];
+        kernels.multiplyTile(kc, packA, 0, packB, 0, partial, 0, ldc, mr - 1, nr - 2, tile);
+        for (var j = 0; j < nr; j++) {
+            for (var i = 0; i < ldc; i++) {
+                final var pos = i + j * ldc;
+                if (i < mr - 1 && j < nr - 2) {
+                    assertEquals(c[1 + pos] - original[1 + pos], partial[pos], 1e-12);
+                } else {
+                    assertEquals(0.0, partial[pos], 0.0);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LDLTDecomposerTest {
+
+    private static final int MIN_ROWS = 2;
+    private static final int MAX_ROWS = 50;
+    private static final int MIN_COLUMNS = 1;
+    private static final int MAX_COLUMNS = 5;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    @Test
+    void testConstructor() throws WrongSizeException, LockedException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+
+        final var m = DecomposerHelper.getSymmetricMatrix(rows);
+
+        // Test 1st constructor
+        var decomposer = new LDLTDecomposer();
+        assertFalse(decomposer.isReady());
+        assertFalse(decomposer.isLocked());
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertNull(decomposer.getInputMatrix());
+        assertEquals(DecomposerType.LDLT_DECOMPOSITION, decomposer.getDecomposerType());
+
+        decomposer.setInputMatrix(m);
+        assertTrue(decomposer.isReady());
+        assertFalse(decomposer.isLocked());
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertSame(m, decomposer.getInputMatrix());
+
+        // Test 2nd constructor
+        decomposer = new LDLTDecomposer(m);
+        assertTrue(decomposer.isReady());
+        assertFalse(decomposer.isLocked());
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertSame(m, decomposer.getInputMatrix());
+        assertEquals(DecomposerType.LDLT_DECOMPOSITION, decomposer.getDecomposerType());
+    }
+
+    @Test
+    void testDecompose() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+
+        final var m = createIndefinite(rows);
+
+        final var decomposer = new LDLTDecomposer();
+
+        // Force NotReadyException
+        assertThrows(NotReadyException.class, decomposer::decompose);
+
+        decomposer.setInputMatrix(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::getL);
+        assertThrows(NotAvailableException.class, decomposer::getD);
+        assertThrows(NotAvailableException.class, decomposer::getPivot);
+
+        decomposer.decompose();
+        assertTrue(decomposer.isDecompositionAvailable());
+        assertFalse(decomposer.isLocked());
+
+        assertReconstructs(m, decomposer);
+
+        // Force DecomposerException
+        decomposer.setInputMatrix(new Matrix(rows, rows + 1));
+        assertThrows(DecomposerException.class, decomposer::decompose);
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, decomposer::decompose);
+        assertThrows(LockedException.class, () -> decomposer.setInputMatrix(m));
+    }
+
+    @Test
+    void testDecomposeWithTwoByTwoPivots() throws AlgebraException {
+        // KKT matrix [H A'; A 0] has a zero block on its diagonal
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var p = randomizer.nextInt(1, n);
+        final var h = createIndefinite(n);
+        for (var i = 0; i < n; i++) {
+            h.setElementAt(i, i, h.getElementAt(i, i) + n);
+        }
+        final var a = Matrix.createWithUniformRandomValues(p, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m = new Matrix(n + p, n + p);
+        m.setSubmatrix(0, 0, n - 1, n - 1, h);
+        m.setSubmatrix(n, 0, n + p - 1, n - 1, a);
+        m.setSubmatrix(0, n, n - 1, n + p - 1, a.transposeAndReturnNew());
+
+        final var decomposer = new LDLTDecomposer(m);
+        decomposer.decompose();
+        assertReconstructs(m, decomposer);
+
+        // H is positive definite and A has full rank, hence KKT matrix has n
+        // positive and p negative eigenvalues
+        assertArrayEquals(new int[]{n, p, 0}, decomposer.getInertia());
+
+        // matrix [0 1; 1 0] can only be factorized with a 2x2 pivot
+        final var swap = new Matrix(2, 2);
+        swap.setElementAt(0, 1, 1.0);
+        swap.setElementAt(1, 0, 1.0);
+        decomposer.setInputMatrix(swap);
+        decomposer.decompose();
+        assertEquals(Matrix.identity(2, 2), decomposer.getL());
+        assertEquals(swap, decomposer.getD());
+        assertEquals(-1.0, decomposer.determinant(), 0.0);
+        assertArrayEquals(new int[]{1, 1, 0}, decomposer.getInertia());
+    }
+
+    @Test
+    void testDeterminant() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, 10);
+
+        final var m = createIndefinite(rows);
+
+        final var decomposer = new LDLTDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::determinant);
+
+        decomposer.decompose();
+
+        final var luDecomposer = new LUDecomposer(m);
+        luDecomposer.decompose();
+        final var expected = luDecomposer.determinant();
+        assertEquals(expected, decomposer.determinant(), ABSOLUTE_ERROR * Math.max(1.0, Math.abs(expected)));
+    }
+
+    @Test
+    void testInertia() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var positives = randomizer.nextInt(0, rows + 1);
+        final var zeros = randomizer.nextInt(0, rows - positives + 1);
+        final var negatives = rows - positives - zeros;
+
+        // m = q * diag * q' has the same inertia as diag for any non-singular q
+        final var q = Matrix.createWithUniformRandomValues(rows, rows, -0.1, 0.1);
+        for (var i = 0; i < rows; i++) {
+            q.setElementAt(i, i, q.getElementAt(i, i) + 1.0);
+        }
+        final var diag = new Matrix(rows, rows);
+        for (var i = 0; i < rows; i++) {
+            final var value = randomizer.nextDouble(1.0, 2.0);
+            if (i < positives) {
+                diag.setElementAt(i, i, value);
+            } else if (i < positives + negatives) {
+                diag.setElementAt(i, i, -value);
+            }
+        }
+        final var m = q.multiplyAndReturnNew(diag).multiplyAndReturnNew(q.transposeAndReturnNew());
+        symmetrize(m);
+
+        final var decomposer = new LDLTDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::getInertia);
+        assertThrows(NotAvailableException.class, decomposer::isSingular);
+
+        decomposer.decompose();
+
+        assertArrayEquals(new int[]{positives, negatives, zeros}, decomposer.getInertia(ABSOLUTE_ERROR));
+        assertEquals(zeros > 0, decomposer.isSingular(ABSOLUTE_ERROR));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> decomposer.getInertia(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> decomposer.isSingular(-1.0));
+    }
+
+    @Test
+    void testSolve() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var colsB = randomizer.nextInt(MIN_COLUMNS, MAX_COLUMNS);
+
+        final var m = createIndefinite(rows);
+        final var b = Matrix.createWithUniformRandomValues(rows, colsB, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new LDLTDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, () -> decomposer.solve(b));
+
+        decomposer.decompose();
+
+        final var x = decomposer.solve(b);
+        assertTrue(b.equals(m.multiplyAndReturnNew(x), ABSOLUTE_ERROR));
+
+        // solution can be stored into provided matrix, which is resized
+        final var x2 = new Matrix(1, 1);
+        decomposer.solve(b, x2);
+        assertEquals(x, x2);
+
+        // solution can overwrite parameters matrix
+        final var b2 = new Matrix(b);
+        decomposer.solve(b2, b2);
+        assertEquals(x, b2);
+
+        // Force WrongSizeException
+        final var b3 = new Matrix(rows + 1, colsB);
+        assertThrows(WrongSizeException.class, () -> decomposer.solve(b3));
+
+        // Force SingularMatrixException
+        final var singular = new Matrix(rows, rows);
+        decomposer.setInputMatrix(singular);
+        decomposer.decompose();
+        assertTrue(decomposer.isSingular());
+        assertThrows(SingularMatrixException.class, () -> decomposer.solve(b));
+    }
+
+    private static void assertReconstructs(final Matrix m, final LDLTDecomposer decomposer)
+            throws AlgebraException {
+        final var l = decomposer.getL();
+        final var d = decomposer.getD();
+        final var pivot = decomposer.getPivot();
+        final var n = m.getRows();
+
+        // L is unit lower triangular
+        for (var j = 0; j < n; j++) {
+            assertEquals(1.0, l.getElementAt(j, j), 0.0);
+            for (var i = 0; i < j; i++) {
+                assertEquals(0.0, l.getElementAt(i, j), 0.0);
+            }
+        }
+
+        // P * m * P' = L * D * L'
+        final var permuted = new Matrix(n, n);
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < n; i++) {
+                permuted.setElementAt(i, j, m.getElementAt(pivot[i], pivot[j]));
+            }
+        }
+        final var ldlt = l.multiplyAndReturnNew(d).multiplyAndReturnNew(l.transposeAndReturnNew());
+        assertTrue(permuted.equals(ldlt, ABSOLUTE_ERROR));
+    }
+
+    private static Matrix createIndefinite(final int rows) throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(rows, rows, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        symmetrize(m);
+        return m;
+    }
+
+    private static void symmetrize(final Matrix m) {
+        final var n = m.getRows();
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < j; i++) {
+                m.setElementAt(i, j, m.getElementAt(j, i));
+            }
+        }
+    }
+}
@@ -18,6 +18,9 @@ package com.irurueta.algebra;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class LUDecomposerTest {
@@ -338,6 +341,46 @@ class LUDecomposerTest {
         }
     }
 
+    @Test
+    void testGetTriangularFactors() throws WrongSizeException, NotReadyException, LockedException,
+            DecomposerException, NotAvailableException {
+
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+
+        final var m = Matrix.createWithUniformRandomValues(rows, rows, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var decomposer = new LUDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::getTriangularL);
+        assertThrows(NotAvailableException.class, decomposer::getTriangularU);
+
+        decomposer.decompose();
+
+        final var l = decomposer.getTriangularL();
+        final var u = decomposer.getTriangularU();
+        assertFalse(l.isUpper());
+        assertTrue(l.isUnitDiagonal());
+        assertTrue(u.isUpper());
+        assertFalse(u.isUnitDiagonal());
+        assertEquals(decomposer.getU(), u.toMatrix());
+
+        // L * U is equal to rows of input matrix permuted by pivot
+        final var lu = l.toMatrix().multiplyAndReturnNew(u.toMatrix());
+        final var piv = decomposer.getPivot();
+        for (var j = 0; j < rows; j++) {
+            for (var i = 0; i < rows; i++) {
+                assertEquals(m.getElementAt(piv[i], j), lu.getElementAt(i, j), ROUND_ERROR);
+            }
+        }
+
+        // Force WrongSizeException
+        decomposer.setInputMatrix(new Matrix(rows + 1, rows));
+        decomposer.decompose();
+        assertThrows(WrongSizeException.class, decomposer::getTriangularL);
+        assertThrows(WrongSizeException.class, decomposer::getTriangularU);
+    }
+
     @Test
     void testGetPivot() throws WrongSizeException, NotReadyException, LockedException, DecomposerException,
             NotAvailableException {
@@ -378,6 +421,148 @@ class LUDecomposerTest {
         }
     }
 
+    @Test
+    void testDecomposeBlocked() throws AlgebraException {
+        // sizes spanning several panels, including partial ones
+        final int[][] sizes = {{300, 300}, {350, 260}, {129, 65}};
+        for (final var size : sizes) {
+            final var rows = size[0];
+            final var columns = size[1];
+            final var m = Matrix.createWithUniformRandomValues(rows, columns, -1.0, 1.0);
+
+            final var decomposer = new LUDecomposer(m);
+            decomposer.decompose();
+
+            // A = P' * L * U
+            final var l = decomposer.getL();
+            final var u = decomposer.getU();
+            assertTrue(m.equals(l.multiplyAndReturnNew(u), EPSILON * rows));
+
+            // pivot is a permutation of rows
+            final var pivot = decomposer.getPivot();
+            final var found = new boolean[rows];
+            for (final var p : pivot) {
+                assertFalse(found[p]);
+                found[p] = true;
+            }
+
+            // partial pivoting keeps multipliers bounded by one
+            final var l2 = decomposer.getPivottedL();
+            for (var j = 0; j < columns; j++) {
+                for (var i = j + 1; i < rows; i++) {
+                    assertTrue(Math.abs(l2.getElementAt(i, j)) <= 1.0);
+                }
+            }
+
+            if (rows == columns) {
+                final var expected = unblockedDeterminant(m);
+                assertEquals(1.0, decomposer.determinant() / expected, 1e-8);
+            }
+        }
+
+        // singular matrix having a zero column within second panel
+        final var m = Matrix.createWithUniformRandomValues(200, 200, -1.0, 1.0);
+        for (var i = 0; i < 200; i++) {
+            m.setElementAt(i, 100, 0.0);
+        }
+        final var decomposer = new LUDecomposer(m);
+        decomposer.decompose();
+        assertTrue(decomposer.isSingular());
+        assertEquals(0.0, decomposer.determinant(), 0.0);
+        assertTrue(m.equals(decomposer.getL().multiplyAndReturnNew(decomposer.getU()), EPSILON * 200));
+    }
+
+    @Test
+    void testDecomposeParallel() throws AlgebraException {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final int[][] sizes = {{600, 600}, {700, 500}, {300, 300}, {100, 100}};
+            for (final var size : sizes) {
+                final var m = Matrix.createWithUniformRandomValues(size[0], size[1], -1.0, 1.0);
+
+                final var sequential = new LUDecomposer(m);
+                assertNull(sequential.getPool());
+                sequential.decompose();
+
+                final var parallel = new LUDecomposer(m, pool);
+                assertSame(pool, parallel.getPool());
+                parallel.decompose();
+
+                // parallel decomposition is identical to sequential one
+                assertArrayEquals(sequential.getPivot(), parallel.getPivot());
+                assertEquals(sequential.getL(), parallel.getL());
+                assertEquals(sequential.getU(), parallel.getU());
+            }
+
+            // decomposition can also be started from a task of the pool
+            final var m = Matrix.createWithUniformRandomValues(400, 400, -1.0, 1.0);
+            final var decomposer = new LUDecomposer(m, pool);
+            pool.submit(() -> {
+                decomposer.decompose();
+                return null;
+            }).get();
+            final var expected = new LUDecomposer(m);
+            expected.decompose();
+            assertArrayEquals(expected.getPivot(), decomposer.getPivot());
+            assertEquals(expected.getU(), decomposer.getU());
+        } catch (final InterruptedException | ExecutionException e) {
+            fail(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testGetSetPool() throws LockedException {
+        final var decomposer = new LUDecomposer();
+        assertNull(decomposer.getPool());
+
+        final var pool = ForkJoinPool.commonPool();
+        decomposer.setPool(pool);
+        assertSame(pool, decomposer.getPool());
+
+        decomposer.setPool(null);
+        assertNull(decomposer.getPool());
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setPool(pool));
+    }
+
+    @Test
+    void testStorageReused() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var m1 = Matrix.createWithUniformRandomValues(rows, rows, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m2 = Matrix.createWithUniformRandomValues(rows, rows, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new LUDecomposer(m1);
+        assertFalse(decomposer.isStorageReused());
+
+        // by default, results remain valid after later decompositions
+        decomposer.decompose();
+        final var pivot = decomposer.getPivot();
+        final var expected = pivot.clone();
+        decomposer.setInputMatrix(m2);
+        decomposer.decompose();
+        assertNotSame(pivot, decomposer.getPivot());
+        assertArrayEquals(expected, pivot);
+
+        // storage is reused when enabled
+        decomposer.setStorageReused(true);
+        assertTrue(decomposer.isStorageReused());
+        decomposer.decompose();
+        final var reused = decomposer.getPivot();
+        decomposer.setInputMatrix(m1);
+        decomposer.decompose();
+        assertSame(reused, decomposer.getPivot());
+        assertArrayEquals(expected, reused);
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setStorageReused(false));
+    }
+
     @Test
     void testDeterminant() throws WrongSizeException, NotReadyException,
             LockedException, DecomposerException, NotAvailableException {
@@ -534,4 +719,35 @@ class LUDecomposerTest {
 
         assertThrows(SingularMatrixException.class, () -> decomposer.solve(b4));
     }
+
+    private static double unblockedDeterminant(final Matrix m) {
+        final var n = m.getRows();
+        final var a = new Matrix(m);
+        var det = 1.0;
+        for (var k = 0; k < n; k++) {
+            var p = k;
+            for (var i = k + 1; i < n; i++) {
+                if (Math.abs(a.getElementAt(i, k)) > Math.abs(a.getElementAt(p, k))) {
+                    p = i;
+                }
+            }
+            if (p != k) {
+                for (var j = 0; j < n; j++) {
+                    final var t = a.getElementAt(p, j);
+                    a.setElementAt(p, j, a.getElementAt(k, j));
+                    a.setElementAt(k, j, t);
+                }
+                det = -det;
+            }
+            final var pivot = a.getElementAt(k, k);
+            det *= pivot;
+            for (var i = k + 1; i < n; i++) {
+                final var factor = a.getElementAt(i, k) / pivot;
+                for (var j = k + 1; j < n; j++) {
+                    a.setElementAt(i, j, a.getElementAt(i, j) - factor * a.getElementAt(k, j));
+                }
+            }
+        }
+        return det;
+    }
 }
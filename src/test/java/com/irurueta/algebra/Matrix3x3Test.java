@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.SerializationHelper;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Matrix3x3Test {
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    private static final int TIMES = 20;
+
+    @Test
+    void testConstructors() throws WrongSizeException {
+        final var m = new Matrix3x3();
+        assertEquals(new Matrix(3, 3), m.toMatrix());
+
+        final var m2 = new Matrix3x3(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0);
+        assertEquals(2.0, m2.getElementAt(0, 1), 0.0);
+        assertEquals(4.0, m2.getElementAt(1, 0), 0.0);
+        assertEquals(9.0, m2.getElementAt(2, 2), 0.0);
+        assertArrayEquals(new double[]{1.0, 4.0, 7.0, 2.0, 5.0, 8.0, 3.0, 6.0, 9.0}, m2.toArray(), 0.0);
+
+        final var copy = new Matrix3x3(m2);
+        assertEquals(m2, copy);
+        assertEquals(m2.hashCode(), copy.hashCode());
+        assertNotSame(m2, copy);
+        assertNotEquals(m, m2);
+
+        assertEquals(Matrix.identity(3, 3), Matrix3x3.identity().toMatrix());
+    }
+
+    @Test
+    void testSkewMatrix() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var v1 = new double[3];
+        final var v2 = new double[3];
+        randomizer.fill(v1, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(v2, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var skew = Matrix3x3.skewMatrix(v1[0], v1[1], v1[2]);
+        assertEquals(Utils.skewMatrix(v1), skew.toMatrix());
+        assertArrayEquals(Utils.crossProduct(v1, v2), skew.multiplyAndReturnNew(v2), ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testNewFromMatrixAndConversions() throws WrongSizeException {
+        final var dense = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m = Matrix3x3.newFromMatrix(dense);
+        assertEquals(dense, m.toMatrix());
+        assertArrayEquals(dense.getBuffer(), m.toArray(), 0.0);
+        for (var i = 0; i < 3; i++) {
+            for (var j = 0; j < 3; j++) {
+                assertEquals(dense.getElementAt(i, j), m.getElementAt(i, j), 0.0);
+            }
+        }
+
+        final var result = new Matrix(1, 1);
+        m.copyTo(result);
+        assertEquals(dense, result);
+
+        final var m2 = new Matrix3x3();
+        m2.copyFrom(dense.getBuffer());
+        assertEquals(m, m2);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> Matrix3x3.newFromMatrix(new Matrix(3, 4)));
+        assertThrows(WrongSizeException.class, () -> m2.copyFrom(new Matrix(4, 3)));
+        assertThrows(WrongSizeException.class, () -> m2.copyFrom(new double[8]));
+    }
+
+    @Test
+    void testElements() {
+        final var m = new Matrix3x3();
+        m.setElementAt(1, 2, 5.0);
+        m.setElementAt(2, 1, 6.0);
+        assertEquals(5.0, m.getElementAt(1, 2), 0.0);
+        assertEquals(6.0, m.getElementAt(2, 1), 0.0);
+        assertEquals(0.0, m.getElementAt(0, 0), 0.0);
+
+        m.initialize(3.0);
+        for (final var value : m.toArray()) {
+            assertEquals(3.0, value, 0.0);
+        }
+
+        m.setIdentity();
+        assertEquals(Matrix3x3.identity(), m);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(-1, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(0, 3, 1.0));
+    }
+
+    @Test
+    void testArithmetic() throws WrongSizeException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var b = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var c = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var ma = Matrix3x3.newFromMatrix(a);
+            final var mb = Matrix3x3.newFromMatrix(b);
+            final var mc = Matrix3x3.newFromMatrix(c);
+
+            assertTrue(a.addAndReturnNew(b).equals(ma.addAndReturnNew(mb).toMatrix(), ABSOLUTE_ERROR));
+            assertTrue(a.subtractAndReturnNew(b).equals(ma.subtractAndReturnNew(mb).toMatrix(),
+                    ABSOLUTE_ERROR));
+            assertTrue(a.multiplyByScalarAndReturnNew(2.5).equals(
+                    ma.multiplyByScalarAndReturnNew(2.5).toMatrix(), ABSOLUTE_ERROR));
+
+            final var product = a.multiplyAndReturnNew(b);
+            assertTrue(product.equals(ma.multiplyAndReturnNew(mb).toMatrix(), ABSOLUTE_ERROR));
+
+            // multiplication storing result into an operand
+            final var inPlace = new Matrix3x3(ma);
+            inPlace.multiply(mb);
+            assertTrue(product.equals(inPlace.toMatrix(), ABSOLUTE_ERROR));
+            final var right = new Matrix3x3(mb);
+            ma.multiply(right, right);
+            assertTrue(product.equals(right.toMatrix(), ABSOLUTE_ERROR));
+
+            final var accumulated = new Matrix3x3(mc);
+            accumulated.multiplyAndAdd(ma, mb);
+            assertTrue(c.addAndReturnNew(product).equals(accumulated.toMatrix(), ABSOLUTE_ERROR));
+
+            // accumulation using this instance as an operand
+            final var self = new Matrix3x3(mc);
+            self.multiplyAndAdd(self, mb);
+            assertTrue(c.addAndReturnNew(c.multiplyAndReturnNew(b)).equals(self.toMatrix(), ABSOLUTE_ERROR));
+
+            final var v = Matrix.createWithUniformRandomValues(3, 1, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var expected = a.multiplyAndReturnNew(v).toArray();
+            assertArrayEquals(expected, ma.multiplyAndReturnNew(v.toArray()), ABSOLUTE_ERROR);
+            final var vector = v.toArray();
+            ma.multiply(vector, vector);
+            assertArrayEquals(expected, vector, ABSOLUTE_ERROR);
+        }
+
+        // Force WrongSizeException
+        final var m = new Matrix3x3();
+        assertThrows(WrongSizeException.class, () -> m.multiplyAndReturnNew(new double[4]));
+        assertThrows(WrongSizeException.class, () -> m.multiply(new double[3], new double[2]));
+    }
+
+    @Test
+    void testTransposeTraceAndDeterminant() throws AlgebraException {
+        final var a = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m = Matrix3x3.newFromMatrix(a);
+
+        assertEquals(a.transposeAndReturnNew(), m.transposeAndReturnNew().toMatrix());
+        final var transposed = new Matrix3x3(m);
+        transposed.transpose();
+        assertEquals(m.transposeAndReturnNew(), transposed);
+
+        assertEquals(Utils.trace(a), m.trace(), ABSOLUTE_ERROR);
+        assertEquals(Utils.det(a), m.determinant(), ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testInverse() throws AlgebraException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = DecomposerHelper.getDiagonallyDominantMatrix(3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var m = Matrix3x3.newFromMatrix(a);
+
+            final var inverse = m.inverseAndReturnNew();
+            assertTrue(Utils.inverse(a).equals(inverse.toMatrix(), ABSOLUTE_ERROR));
+            assertTrue(Matrix3x3.identity().equals(m.multiplyAndReturnNew(inverse), ABSOLUTE_ERROR));
+
+            m.invert();
+            assertEquals(inverse, m);
+        }
+
+        // Force SingularMatrixException
+        final var singular = new Matrix3x3(1.0, 2.0, 3.0, 2.0, 4.0, 6.0, 0.0, 1.0, 1.0);
+        assertThrows(SingularMatrixException.class, singular::invert);
+        assertThrows(SingularMatrixException.class, singular::inverseAndReturnNew);
+    }
+
+    @Test
+    void testSymmetricEigen() throws WrongSizeException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var symmetric = a.addAndReturnNew(a.transposeAndReturnNew());
+            final var m = Matrix3x3.newFromMatrix(symmetric);
+
+            final var closedForm = new double[3];
+            m.symmetricEigenvalues(closedForm);
+
+            final var values = new double[3];
+            final var vectors = new Matrix3x3();
+            m.symmetricEigen(values, vectors);
+            assertArrayEquals(values, closedForm, ABSOLUTE_ERROR);
+            assertTrue(values[0] >= values[1] && values[1] >= values[2]);
+
+            assertEigenDecomposition(m, values, vectors);
+        }
+
+        // repeated eigenvalues
+        final var repeated = new Matrix3x3(2.0, 1.0, 1.0, 1.0, 2.0, 1.0, 1.0, 1.0, 2.0);
+        final var values = new double[3];
+        repeated.symmetricEigenvalues(values);
+        assertArrayEquals(new double[]{4.0, 1.0, 1.0}, values, ABSOLUTE_ERROR);
+        final var vectors = new Matrix3x3();
+        repeated.symmetricEigen(values, vectors);
+        assertArrayEquals(new double[]{4.0, 1.0, 1.0}, values, ABSOLUTE_ERROR);
+        assertEigenDecomposition(repeated, values, vectors);
+
+        // diagonal matrix
+        final var diagonal = new Matrix3x3(1.0, 0.0, 0.0, 0.0, 3.0, 0.0, 0.0, 0.0, 2.0);
+        diagonal.symmetricEigenvalues(values);
+        assertArrayEquals(new double[]{3.0, 2.0, 1.0}, values, 0.0);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> diagonal.symmetricEigenvalues(new double[2]));
+        assertThrows(WrongSizeException.class, () -> diagonal.symmetricEigen(new double[4], vectors));
+    }
+
+    @Test
+    void testSvd() throws WrongSizeException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var m = Matrix3x3.newFromMatrix(a);
+            assertSvd(m);
+
+            final var expected = new SingularValueDecomposer(a);
+            try {
+                expected.decompose();
+                final var values = new double[3];
+                m.svd(new Matrix3x3(), values, new Matrix3x3());
+                assertArrayEquals(expected.getSingularValues(), values, ABSOLUTE_ERROR);
+            } catch (final AlgebraException e) {
+                fail();
+            }
+        }
+
+        // rank deficient matrices
+        assertSvd(new Matrix3x3(1.0, 2.0, 3.0, 2.0, 4.0, 6.0, 3.0, 6.0, 9.0));
+        assertSvd(new Matrix3x3(0.0, 1.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+        assertSvd(new Matrix3x3());
+
+        // Force WrongSizeException
+        final var m = new Matrix3x3();
+        assertThrows(WrongSizeException.class, () -> m.svd(m, new double[2], m));
+    }
+
+    @Test
+    void testEquals() {
+        final var m1 = new Matrix3x3(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0);
+        final var m2 = new Matrix3x3(m1);
+        m2.setElementAt(2, 2, 9.5);
+
+        assertTrue(m1.equals(m2, 0.5));
+        assertFalse(m1.equals(m2, 0.4));
+        assertFalse(m1.equals(null, 1.0));
+        assertNotEquals(m1, m2);
+        assertNotEquals(new Object(), m1);
+        assertEquals(m1, m1);
+    }
+
+    @Test
+    void testSerializeDeserialize() throws IOException, ClassNotFoundException, WrongSizeException {
+        final var m1 = Matrix3x3.newFromMatrix(Matrix.createWithUniformRandomValues(3, 3,
+                MIN_RANDOM_VALUE, MAX_RANDOM_VALUE));
+
+        final var bytes = SerializationHelper.serialize(m1);
+        final var m2 = SerializationHelper.<Matrix3x3>deserialize(bytes);
+
+        assertEquals(m1, m2);
+        assertNotSame(m1, m2);
+    }
+
+    private static void assertEigenDecomposition(final Matrix3x3 m, final double[] values,
+                                                 final Matrix3x3 vectors) {
+        final var diagonal = new Matrix3x3(values[0], 0.0, 0.0, 0.0, values[1], 0.0, 0.0, 0.0, values[2]);
+        final var reconstructed = vectors.multiplyAndReturnNew(diagonal);
+        reconstructed.multiply(vectors.transposeAndReturnNew());
+        assertTrue(m.equals(reconstructed, ABSOLUTE_ERROR));
+        assertTrue(Matrix3x3.identity().equals(
+                vectors.transposeAndReturnNew().multiplyAndReturnNew(vectors), ABSOLUTE_ERROR));
+    }
+
+    private static void assertSvd(final Matrix3x3 m) throws WrongSizeException {
+        final var u = new Matrix3x3();
+        final var values = new double[3];
+        final var v = new Matrix3x3();
+        m.svd(u, values, v);
+
+        assertTrue(values[0] >= values[1] && values[1] >= values[2] && values[2] >= 0.0);
+
+        final var diagonal = new Matrix3x3(values[0], 0.0, 0.0, 0.0, values[1], 0.0, 0.0, 0.0, values[2]);
+        final var reconstructed = u.multiplyAndReturnNew(diagonal);
+        reconstructed.multiply(v.transposeAndReturnNew());
+        assertTrue(m.equals(reconstructed, ABSOLUTE_ERROR));
+        assertTrue(Matrix3x3.identity().equals(u.transposeAndReturnNew().multiplyAndReturnNew(u), ABSOLUTE_ERROR));
+        assertTrue(Matrix3x3.identity().equals(v.transposeAndReturnNew().multiplyAndReturnNew(v), ABSOLUTE_ERROR));
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.SerializationHelper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Matrix4x4Test {
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    private static final int TIMES = 20;
+
+    @Test
+    void testConstructors() throws WrongSizeException {
+        final var m = new Matrix4x4();
+        assertEquals(new Matrix(4, 4), m.toMatrix());
+
+        final var m2 = new Matrix4x4(
+                1.0, 2.0, 3.0, 4.0,
+                5.0, 6.0, 7.0, 8.0,
+                9.0, 10.0, 11.0, 12.0,
+                13.0, 14.0, 15.0, 16.0);
+        assertEquals(2.0, m2.getElementAt(0, 1), 0.0);
+        assertEquals(5.0, m2.getElementAt(1, 0), 0.0);
+        assertEquals(12.0, m2.getElementAt(2, 3), 0.0);
+        assertEquals(16.0, m2.getElementAt(3, 3), 0.0);
+        assertArrayEquals(new double[]{1.0, 5.0, 9.0, 13.0, 2.0, 6.0, 10.0, 14.0, 3.0, 7.0, 11.0, 15.0,
+                4.0, 8.0, 12.0, 16.0}, m2.toArray(), 0.0);
+
+        final var copy = new Matrix4x4(m2);
+        assertEquals(m2, copy);
+        assertEquals(m2.hashCode(), copy.hashCode());
+        assertNotSame(m2, copy);
+        assertNotEquals(m, m2);
+
+        assertEquals(Matrix.identity(4, 4), Matrix4x4.identity().toMatrix());
+    }
+
+    @Test
+    void testNewFromMatrixAndConversions() throws WrongSizeException {
+        final var dense = Matrix.createWithUniformRandomValues(4, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m = Matrix4x4.newFromMatrix(dense);
+        assertEquals(dense, m.toMatrix());
+        assertArrayEquals(dense.getBuffer(), m.toArray(), 0.0);
+        for (var i = 0; i < 4; i++) {
+            for (var j = 0; j < 4; j++) {
+                assertEquals(dense.getElementAt(i, j), m.getElementAt(i, j), 0.0);
+            }
+        }
+
+        final var result = new Matrix(1, 1);
+        m.copyTo(result);
+        assertEquals(dense, result);
+
+        final var m2 = new Matrix4x4();
+        m2.copyFrom(dense.getBuffer());
+        assertEquals(m, m2);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> Matrix4x4.newFromMatrix(new Matrix(4, 3)));
+        assertThrows(WrongSizeException.class, () -> m2.copyFrom(new Matrix(3, 4)));
+        assertThrows(WrongSizeException.class, () -> m2.copyFrom(new double[15]));
+    }
+
+    @Test
+    void testElements() {
+        final var m = new Matrix4x4();
+        for (var i = 0; i < 4; i++) {
+            for (var j = 0; j < 4; j++) {
+                m.setElementAt(i, j, 10.0 * i + j);
+            }
+        }
+        for (var i = 0; i < 4; i++) {
+            for (var j = 0; j < 4; j++) {
+                assertEquals(10.0 * i + j, m.getElementAt(i, j), 0.0);
+            }
+        }
+
+        m.initialize(3.0);
+        for (final var value : m.toArray()) {
+            assertEquals(3.0, value, 0.0);
+        }
+
+        m.setIdentity();
+        assertEquals(Matrix4x4.identity(), m);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(-1, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(0, 4, 1.0));
+    }
+
+    @Test
+    void testArithmetic() throws WrongSizeException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = Matrix.createWithUniformRandomValues(4, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var b = Matrix.createWithUniformRandomValues(4, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var c = Matrix.createWithUniformRandomValues(4, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var ma = Matrix4x4.newFromMatrix(a);
+            final var mb = Matrix4x4.newFromMatrix(b);
+            final var mc = Matrix4x4.newFromMatrix(c);
+
+            assertTrue(a.addAndReturnNew(b).equals(ma.addAndReturnNew(mb).toMatrix(), ABSOLUTE_ERROR));
+            assertTrue(a.subtractAndReturnNew(b).equals(ma.subtractAndReturnNew(mb).toMatrix(),
+                    ABSOLUTE_ERROR));
+            assertTrue(a.multiplyByScalarAndReturnNew(2.5).equals(
+                    ma.multiplyByScalarAndReturnNew(2.5).toMatrix(), ABSOLUTE_ERROR));
+
+            final var product = a.multiplyAndReturnNew(b);
+            assertTrue(product.equals(ma.multiplyAndReturnNew(mb).toMatrix(), ABSOLUTE_ERROR));
+
+            // multiplication storing result into an operand
+            final var inPlace = new Matrix4x4(ma);
+            inPlace.multiply(mb);
+            assertTrue(product.equals(inPlace.toMatrix(), ABSOLUTE_ERROR));
+            final var right = new Matrix4x4(mb);
+            ma.multiply(right, right);
+            assertTrue(product.equals(right.toMatrix(), ABSOLUTE_ERROR));
+
+            final var accumulated = new Matrix4x4(mc);
+            accumulated.multiplyAndAdd(ma, mb);
+            assertTrue(c.addAndReturnNew(product).equals(accumulated.toMatrix(), ABSOLUTE_ERROR));
+
+            // accumulation using this instance as an operand
+            final var self = new Matrix4x4(mc);
+            self.multiplyAndAdd(ma, self);
+            assertTrue(c.addAndReturnNew(a.multiplyAndReturnNew(c)).equals(self.toMatrix(), ABSOLUTE_ERROR));
+
+            final var v = Matrix.createWithUniformRandomValues(4, 1, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var expected = a.multiplyAndReturnNew(v).toArray();
+            assertArrayEquals(expected, ma.multiplyAndReturnNew(v.toArray()), ABSOLUTE_ERROR);
+            final var vector = v.toArray();
+            ma.multiply(vector, vector);
+            assertArrayEquals(expected, vector, ABSOLUTE_ERROR);
+        }
+
+        // Force WrongSizeException
+        final var m = new Matrix4x4();
+        assertThrows(WrongSizeException.class, () -> m.multiplyAndReturnNew(new double[3]));
+        assertThrows(WrongSizeException.class, () -> m.multiply(new double[4], new double[3]));
+    }
+
+    @Test
+    void testTransposeTraceAndDeterminant() throws AlgebraException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = Matrix.createWithUniformRandomValues(4, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var m = Matrix4x4.newFromMatrix(a);
+
+            assertEquals(a.transposeAndReturnNew(), m.transposeAndReturnNew().toMatrix());
+            final var transposed = new Matrix4x4(m);
+            transposed.transpose();
+            assertEquals(m.transposeAndReturnNew(), transposed);
+
+            assertEquals(Utils.trace(a), m.trace(), ABSOLUTE_ERROR);
+            assertEquals(Utils.det(a), m.determinant(), 1e-6 * Math.max(1.0, Math.abs(m.determinant())));
+        }
+    }
+
+    @Test
+    void testInverse() throws AlgebraException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = DecomposerHelper.getDiagonallyDominantMatrix(4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var m = Matrix4x4.newFromMatrix(a);
+
+            final var inverse = m.inverseAndReturnNew();
+            assertTrue(Utils.inverse(a).equals(inverse.toMatrix(), ABSOLUTE_ERROR));
+            assertTrue(Matrix4x4.identity().equals(m.multiplyAndReturnNew(inverse), ABSOLUTE_ERROR));
+
+            m.invert();
+            assertEquals(inverse, m);
+        }
+
+        // Force SingularMatrixException
+        final var singular = new Matrix4x4(
+                1.0, 2.0, 3.0, 4.0,
+                2.0, 4.0, 6.0, 8.0,
+                0.0, 1.0, 1.0, 0.0,
+                1.0, 0.0, 0.0, 1.0);
+        assertThrows(SingularMatrixException.class, singular::invert);
+        assertThrows(SingularMatrixException.class, singular::inverseAndReturnNew);
+    }
+
+    @Test
+    void testSymmetricEigen() throws WrongSizeException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = Matrix.createWithUniformRandomValues(4, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var m = Matrix4x4.newFromMatrix(a.addAndReturnNew(a.transposeAndReturnNew()));
+
+            final var values = new double[4];
+            final var vectors = new Matrix4x4();
+            m.symmetricEigen(values, vectors);
+            assertTrue(values[0] >= values[1] && values[1] >= values[2] && values[2] >= values[3]);
+            assertEigenDecomposition(m, values, vectors);
+        }
+
+        // repeated eigenvalues
+        final var m = Matrix4x4.identity();
+        m.initialize(1.0);
+        final var values = new double[4];
+        final var vectors = new Matrix4x4();
+        m.symmetricEigen(values, vectors);
+        assertArrayEquals(new double[]{4.0, 0.0, 0.0, 0.0}, values, ABSOLUTE_ERROR);
+        assertEigenDecomposition(m, values, vectors);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> m.symmetricEigen(new double[3], vectors));
+    }
+
+    @Test
+    void testSvd() throws AlgebraException {
+        for (var t = 0; t < TIMES; t++) {
+            final var a = Matrix.createWithUniformRandomValues(4, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var m = Matrix4x4.newFromMatrix(a);
+            assertSvd(m);
+
+            final var expected = new SingularValueDecomposer(a);
+            expected.decompose();
+            final var values = new double[4];
+            m.svd(new Matrix4x4(), values, new Matrix4x4());
+            assertArrayEquals(expected.getSingularValues(), values, ABSOLUTE_ERROR);
+        }
+
+        // rank deficient matrices
+        assertSvd(new Matrix4x4(
+                1.0, 2.0, 3.0, 4.0,
+                2.0, 4.0, 6.0, 8.0,
+                0.0, 1.0, 1.0, 0.0,
+                1.0, 0.0, 0.0, 1.0));
+        assertSvd(new Matrix4x4());
+
+        // Force WrongSizeException
+        final var m = new Matrix4x4();
+        assertThrows(WrongSizeException.class, () -> m.svd(m, new double[3], m));
+    }
+
+    @Test
+    void testEquals() {
+        final var m1 = Matrix4x4.identity();
+        final var m2 = new Matrix4x4(m1);
+        m2.setElementAt(3, 2, 0.5);
+
+        assertTrue(m1.equals(m2, 0.5));
+        assertFalse(m1.equals(m2, 0.4));
+        assertFalse(m1.equals(null, 1.0));
+        assertNotEquals(m1, m2);
+        assertNotEquals(new Object(), m1);
+        assertEquals(m1, m1);
+    }
+
+    @Test
+    void testSerializeDeserialize() throws IOException, ClassNotFoundException, WrongSizeException {
+        final var m1 = Matrix4x4.newFromMatrix(Matrix.createWithUniformRandomValues(4, 4,
+                MIN_RANDOM_VALUE, MAX_RANDOM_VALUE));
+
+        final var bytes = SerializationHelper.serialize(m1);
+        final var m2 = SerializationHelper.<Matrix4x4>deserialize(bytes);
+
+        assertEquals(m1, m2);
+        assertNotSame(m1, m2);
+    }
+
+    private static void assertEigenDecomposition(final Matrix4x4 m, final double[] values,
+                                                 final Matrix4x4 vectors) {
+        final var reconstructed = vectors.multiplyAndReturnNew(diagonal(values));
+        reconstructed.multiply(vectors.transposeAndReturnNew());
+        assertTrue(m.equals(reconstructed, ABSOLUTE_ERROR));
+        assertTrue(Matrix4x4.identity().equals(
+                vectors.transposeAndReturnNew().multiplyAndReturnNew(vectors), ABSOLUTE_ERROR));
+    }
+
+    private static void assertSvd(final Matrix4x4 m) throws WrongSizeException {
+        final var u = new Matrix4x4();
+        final var values = new double[4];
+        final var v = new Matrix4x4();
+        m.svd(u, values, v);
+
+        for (var i = 0; i < 3; i++) {
+            assertTrue(values[i] >= values[i + 1]);
+        }
+        assertTrue(values[3] >= 0.0);
+
+        final var reconstructed = u.multiplyAndReturnNew(diagonal(values));
+        reconstructed.multiply(v.transposeAndReturnNew());
+        assertTrue(m.equals(reconstructed, ABSOLUTE_ERROR));
+        assertTrue(Matrix4x4.identity().equals(u.transposeAndReturnNew().multiplyAndReturnNew(u), ABSOLUTE_ERROR));
+        assertTrue(Matrix4x4.identity().equals(v.transposeAndReturnNew().multiplyAndReturnNew(v), ABSOLUTE_ERROR));
+    }
+
+    private static Matrix4x4 diagonal(final double[] values) {
+        final var result = new Matrix4x4();
+        for (var i = 0; i < 4; i++) {
+            result.setElementAt(i, i, values[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixBatchTest {
+
+    private static final int MIN_SIZE = 3;
+    private static final int MAX_SIZE = 12;
+
+    private static final int COUNT = 1000;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setUpClass() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var batch = new MatrixBatch(5, 3, 4);
+        assertEquals(5, batch.getCount());
+        assertEquals(3, batch.getRows());
+        assertEquals(4, batch.getColumns());
+        assertEquals(60, batch.getBuffer().length);
+        assertEquals(new Matrix(3, 4), batch.getMatrix(4));
+
+        batch.setElementAt(2, 1, 3, 7.0);
+        assertEquals(7.0, batch.getElementAt(2, 1, 3), 0.0);
+        assertEquals(7.0, batch.getBuffer()[(3 * 3 + 1) * 5 + 2], 0.0);
+
+        final var copy = new MatrixBatch(batch);
+        assertEquals(batch, copy);
+        assertEquals(batch.hashCode(), copy.hashCode());
+        assertNotSame(batch.getBuffer(), copy.getBuffer());
+        copy.setElementAt(0, 0, 0, 1.0);
+        assertNotEquals(batch, copy);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new MatrixBatch(0, 3, 3));
+        assertThrows(WrongSizeException.class, () -> new MatrixBatch(3, 0, 3));
+        assertThrows(WrongSizeException.class, () -> new MatrixBatch(3, 3, 0));
+        assertThrows(WrongSizeException.class, () -> new MatrixBatch(Integer.MAX_VALUE, 2, 2));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> batch.getElementAt(5, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> batch.getElementAt(0, 3, 0));
+        assertThrows(IllegalArgumentException.class, () -> batch.setElementAt(0, 0, 4, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> batch.getMatrix(-1));
+    }
+
+    @Test
+    void testNewFromMatricesAndToMatrices() throws WrongSizeException {
+        final var matrices = new Matrix[10];
+        for (var b = 0; b < matrices.length; b++) {
+            matrices[b] = Matrix.createWithUniformRandomValues(3, 2, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        }
+
+        final var batch = MatrixBatch.newFromMatrices(matrices);
+        assertEquals(matrices.length, batch.getCount());
+        assertArrayEquals(matrices, batch.toMatrices());
+        for (var b = 0; b < matrices.length; b++) {
+            for (var i = 0; i < 3; i++) {
+                for (var j = 0; j < 2; j++) {
+                    assertEquals(matrices[b].getElementAt(i, j), batch.getElementAt(b, i, j), 0.0);
+                }
+            }
+        }
+
+        final var result = new Matrix(1, 1);
+        batch.getMatrix(3, result);
+        assertEquals(matrices[3], result);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, MatrixBatch::newFromMatrices);
+        assertThrows(WrongSizeException.class, () -> MatrixBatch.newFromMatrices(new Matrix(3, 2),
+                new Matrix(2, 3)));
+        assertThrows(WrongSizeException.class, () -> batch.setMatrix(0, new Matrix(2, 2)));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> batch.setMatrix(10, matrices[0]));
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var m = randomizer.nextInt(1, MAX_SIZE);
+        final var k = randomizer.nextInt(1, MAX_SIZE);
+        final var n = randomizer.nextInt(1, MAX_SIZE);
+        final var a = createRandom(COUNT, m, k);
+        final var b = createRandom(COUNT, k, n);
+
+        final var result = a.multiplyAndReturnNew(b);
+        assertEquals(m, result.getRows());
+        assertEquals(n, result.getColumns());
+        for (var t = 0; t < COUNT; t++) {
+            final var expected = a.getMatrix(t).multiplyAndReturnNew(b.getMatrix(t));
+            assertTrue(expected.equals(result.getMatrix(t), ABSOLUTE_ERROR));
+        }
+
+        // parallel products are identical to sequential ones
+        final var parallel = new MatrixBatch(COUNT, m, n);
+        a.multiply(b, parallel, pool);
+        assertEquals(result, parallel);
+        assertEquals(result, a.multiplyAndReturnNew(b, ForkJoinPool.commonPool()));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> a.multiplyAndReturnNew(new MatrixBatch(COUNT, k + 1, n)));
+        assertThrows(WrongSizeException.class, () -> a.multiplyAndReturnNew(new MatrixBatch(COUNT - 1, k, n)));
+        assertThrows(WrongSizeException.class, () -> a.multiply(b, new MatrixBatch(COUNT, m, n + 1)));
+
+        // Force IllegalArgumentException
+        final var square = createRandom(COUNT, 3, 3);
+        assertThrows(IllegalArgumentException.class, () -> square.multiply(square, square));
+    }
+
+    @Test
+    void testLU() throws AlgebraException {
+        final var n = new UniformRandomizer().nextInt(MIN_SIZE, MAX_SIZE);
+        final var a = createRandom(COUNT, n, n);
+
+        final var factor = a.lu();
+        assertEquals(COUNT, factor.getCount());
+        assertEquals(n, factor.getSize());
+        assertFalse(factor.isSingular());
+
+        final var determinants = factor.determinants();
+        for (var t = 0; t < COUNT; t += 37) {
+            final var m = a.getMatrix(t);
+            assertFalse(factor.isSingular(t));
+
+            // P * A = L * U
+            final var permuted = new Matrix(m);
+            final var piv = factor.getPivot(t);
+            for (var k = 0; k < n; k++) {
+                if (piv[k] != k) {
+                    for (var j = 0; j < n; j++) {
+                        final var tmp = permuted.getElementAt(k, j);
+                        permuted.setElementAt(k, j, permuted.getElementAt(piv[k], j));
+                        permuted.setElementAt(piv[k], j, tmp);
+                    }
+                }
+            }
+            assertTrue(permuted.equals(factor.getL(t).multiplyAndReturnNew(factor.getU(t)), ABSOLUTE_ERROR));
+
+            final var det = Utils.det(m);
+            assertEquals(det, factor.determinant(t), ABSOLUTE_ERROR * Math.max(1.0, Math.abs(det)));
+            assertEquals(factor.determinant(t), determinants[t], ABSOLUTE_ERROR * Math.max(1.0, Math.abs(det)));
+        }
+
+        // parallel decompositions are identical to sequential ones
+        final var parallel = a.lu(pool);
+        for (var t = 0; t < COUNT; t += 37) {
+            assertEquals(factor.getL(t), parallel.getL(t));
+            assertEquals(factor.getU(t), parallel.getU(t));
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> factor.isSingular(COUNT));
+        assertThrows(IllegalArgumentException.class, () -> factor.getL(-1));
+        assertThrows(IllegalArgumentException.class, () -> factor.determinant(COUNT));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new MatrixBatch(COUNT, n, n + 1).lu());
+    }
+
+    @Test
+    void testSolveAndInverse() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var nrhs = randomizer.nextInt(1, 4);
+        final var a = createDiagonallyDominant(COUNT, n);
+        final var b = createRandom(COUNT, n, nrhs);
+
+        final var x = a.solve(b);
+        final var product = a.multiplyAndReturnNew(x);
+        for (var t = 0; t < COUNT; t++) {
+            assertTrue(b.getMatrix(t).equals(product.getMatrix(t), ABSOLUTE_ERROR));
+        }
+        assertEquals(x, a.solve(b, pool));
+
+        // solve in place
+        final var factor = a.lu();
+        final var inPlace = new MatrixBatch(b);
+        factor.solve(inPlace, inPlace);
+        assertEquals(x, inPlace);
+
+        final var inverse = a.inverse();
+        final var identity = a.multiplyAndReturnNew(inverse);
+        for (var t = 0; t < COUNT; t++) {
+            assertTrue(Matrix.identity(n, n).equals(identity.getMatrix(t), ABSOLUTE_ERROR));
+        }
+        assertEquals(inverse, a.inverse(pool));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> a.solve(new MatrixBatch(COUNT, n + 1, 1)));
+        assertThrows(WrongSizeException.class, () -> factor.solve(b, new MatrixBatch(COUNT, n, nrhs + 1)));
+        assertThrows(WrongSizeException.class, () -> new MatrixBatch(2, 2, 3).inverse());
+    }
+
+    @Test
+    void testSingular() throws WrongSizeException {
+        final var n = 4;
+        final var a = createDiagonallyDominant(COUNT, n);
+
+        // make a single matrix singular by setting one of its columns to zero
+        final var singularIndex = 123;
+        for (var i = 0; i < n; i++) {
+            a.setElementAt(singularIndex, i, 2, 0.0);
+        }
+
+        final var factor = a.lu(pool);
+        assertTrue(factor.isSingular());
+        for (var t = 0; t < COUNT; t++) {
+            assertEquals(t == singularIndex, factor.isSingular(t));
+        }
+        assertEquals(0.0, factor.determinant(singularIndex), 0.0);
+
+        // Force SingularMatrixException
+        final var b = new MatrixBatch(COUNT, n, 1);
+        assertThrows(SingularMatrixException.class, () -> factor.solve(b));
+        assertThrows(SingularMatrixException.class, () -> a.solve(b));
+        assertThrows(SingularMatrixException.class, a::inverse);
+    }
+
+    @Test
+    void testCholesky() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var nrhs = randomizer.nextInt(1, 4);
+
+        // symmetric positive definite matrices A' * A + I
+        final var a = new MatrixBatch(COUNT, n, n);
+        for (var t = 0; t < COUNT; t++) {
+            final var m = Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var spd = m.transposeAndReturnNew().multiplyAndReturnNew(m);
+            spd.add(Matrix.identity(n, n));
+            a.setMatrix(t, spd);
+        }
+
+        final var factor = a.cholesky();
+        assertEquals(COUNT, factor.getCount());
+        assertEquals(n, factor.getSize());
+        assertTrue(factor.isSPD());
+        for (var t = 0; t < COUNT; t += 37) {
+            final var m = a.getMatrix(t);
+            final var decomposer = new CholeskyDecomposer(m);
+            decomposer.decompose();
+            assertTrue(factor.isSPD(t));
+            assertTrue(decomposer.getR().equals(factor.getR(t), ABSOLUTE_ERROR));
+            assertEquals(Utils.det(m), factor.determinant(t), ABSOLUTE_ERROR * Math.abs(Utils.det(m)));
+        }
+
+        final var b = createRandom(COUNT, n, nrhs);
+        final var x = factor.solve(b);
+        final var product = a.multiplyAndReturnNew(x);
+        for (var t = 0; t < COUNT; t++) {
+            assertTrue(b.getMatrix(t).equals(product.getMatrix(t), ABSOLUTE_ERROR));
+        }
+
+        // parallel decompositions are identical to sequential ones
+        final var parallel = a.cholesky(pool);
+        assertEquals(x, parallel.solve(b, pool));
+        assertEquals(factor.inverse(), parallel.inverse(pool));
+        final var identity = a.multiplyAndReturnNew(factor.inverse());
+        for (var t = 0; t < COUNT; t++) {
+            assertTrue(Matrix.identity(n, n).equals(identity.getMatrix(t), ABSOLUTE_ERROR));
+        }
+
+        // non-symmetric and non-positive definite matrices are reported
+        a.setElementAt(10, 0, 1, a.getElementAt(10, 0, 1) + 1.0);
+        a.setElementAt(20, 0, 0, -1.0);
+        final var factor2 = a.cholesky(pool);
+        assertFalse(factor2.isSPD());
+        for (var t = 0; t < COUNT; t++) {
+            assertEquals(t != 10 && t != 20, factor2.isSPD(t));
+        }
+
+        // Force NonSymmetricPositiveDefiniteMatrixException
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, () -> factor2.solve(b));
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, factor2::inverse);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new MatrixBatch(2, 2, 3).cholesky());
+        assertThrows(WrongSizeException.class, () -> factor.solve(new MatrixBatch(COUNT + 1, n, 1)));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> factor.isSPD(-1));
+        assertThrows(IllegalArgumentException.class, () -> factor.getR(COUNT));
+    }
+
+    private static MatrixBatch createRandom(final int count, final int rows, final int columns)
+            throws WrongSizeException {
+        final var result = new MatrixBatch(count, rows, columns);
+        new UniformRandomizer().fill(result.getBuffer(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        return result;
+    }
+
+    private static MatrixBatch createDiagonallyDominant(final int count, final int size)
+            throws WrongSizeException {
+        final var result = createRandom(count, size, size);
+        for (var t = 0; t < count; t++) {
+            for (var i = 0; i < size; i++) {
+                result.setElementAt(t, i, i, result.getElementAt(t, i, i) + size);
+            }
+        }
+        return result;
+    }
+}
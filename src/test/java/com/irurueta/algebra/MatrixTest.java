@@ -20,9 +20,11 @@ import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.security.SecureRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class MatrixTest {
 
@@ -569,6 +571,266 @@ class MatrixTest {
         assertThrows(NullPointerException.class, () -> m3.multiply(null));
     }
 
+    @Test
+    void testMultiplyLargeMatrices() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var rows1 = randomizer.nextInt(150, 300);
+        final var columns1 = randomizer.nextInt(150, 300);
+        final var columns2 = randomizer.nextInt(150, 300);
+
+        final var m1 = Matrix.createWithUniformRandomValues(rows1, columns1, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m2 = Matrix.createWithUniformRandomValues(columns1, columns2, MIN_RANDOM_VALUE,
+                MAX_RANDOM_VALUE);
+
+        // compute expected product using a plain triple loop
+        final var expected = new Matrix(rows1, columns2);
+        for (var j = 0; j < columns2; j++) {
+            for (var i = 0; i < rows1; i++) {
+                var value = 0.0;
+                for (var k = 0; k < columns1; k++) {
+                    value += m1.getElementAt(i, k) * m2.getElementAt(k, j);
+                }
+                expected.setElementAt(i, j, value);
+            }
+        }
+
+        final var threshold = ABSOLUTE_ERROR * MAX_RANDOM_VALUE * MAX_RANDOM_VALUE * columns1;
+
+        final var result1 = m1.multiplyAndReturnNew(m2);
+        assertTrue(expected.equals(result1, threshold));
+
+        final var result2 = new Matrix(1, 1);
+        m1.multiply(m2, result2);
+        assertTrue(expected.equals(result2, threshold));
+
+        final var m3 = new Matrix(m1);
+        m3.multiply(m2);
+        assertTrue(expected.equals(m3, threshold));
+    }
+
+    @Test
+    void testMultiplyTransposedLeft() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // small and large products
+        for (final var maxSize : new int[]{MAX_ROWS, 300}) {
+            final var rows = randomizer.nextInt(MIN_ROWS, maxSize);
+            final var columns1 = randomizer.nextInt(MIN_COLUMNS, maxSize);
+            final var columns2 = randomizer.nextInt(MIN_COLUMNS, maxSize);
+
+            final var m1 = Matrix.createWithUniformRandomValues(rows, columns1, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+            final var m2 = Matrix.createWithUniformRandomValues(rows, columns2, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+
+            final var expected = m1.transposeAndReturnNew().multiplyAndReturnNew(m2);
+            final var threshold = ABSOLUTE_ERROR * MAX_RANDOM_VALUE * MAX_RANDOM_VALUE * rows;
+
+            final var result1 = m1.multiplyTransposedLeftAndReturnNew(m2);
+            assertEquals(columns1, result1.getRows());
+            assertEquals(columns2, result1.getColumns());
+            assertTrue(expected.equals(result1, threshold));
+
+            final var result2 = new Matrix(1, 1);
+            m1.multiplyTransposedLeft(m2, result2);
+            assertTrue(expected.equals(result2, threshold));
+
+            final var m3 = new Matrix(m1);
+            m3.multiplyTransposedLeft(m2);
+            assertTrue(expected.equals(m3, threshold));
+        }
+
+        // Force WrongSizeException
+        final var m1 = new Matrix(3, 2);
+        final var m2 = new Matrix(2, 3);
+        final var result = new Matrix(2, 3);
+        assertThrows(WrongSizeException.class, () -> m1.multiplyTransposedLeftAndReturnNew(m2));
+        assertThrows(WrongSizeException.class, () -> m1.multiplyTransposedLeft(m2, result));
+        assertThrows(WrongSizeException.class, () -> m1.multiplyTransposedLeft(m2));
+
+        // Force NullPointerException
+        //noinspection DataFlowIssue
+        assertThrows(NullPointerException.class, () -> m1.multiplyTransposedLeft(null));
+    }
+
+    @Test
+    void testMultiplyTransposedRight() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // small and large products
+        for (final var maxSize : new int[]{MAX_ROWS, 300}) {
+            final var rows1 = randomizer.nextInt(MIN_ROWS, maxSize);
+            final var rows2 = randomizer.nextInt(MIN_ROWS, maxSize);
+            final var columns = randomizer.nextInt(MIN_COLUMNS, maxSize);
+
+            final var m1 = Matrix.createWithUniformRandomValues(rows1, columns, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+            final var m2 = Matrix.createWithUniformRandomValues(rows2, columns, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+
+            final var expected = m1.multiplyAndReturnNew(m2.transposeAndReturnNew());
+            final var threshold = ABSOLUTE_ERROR * MAX_RANDOM_VALUE * MAX_RANDOM_VALUE * columns;
+
+            final var result1 = m1.multiplyTransposedRightAndReturnNew(m2);
+            assertEquals(rows1, result1.getRows());
+            assertEquals(rows2, result1.getColumns());
+            assertTrue(expected.equals(result1, threshold));
+
+            final var result2 = new Matrix(1, 1);
+            m1.multiplyTransposedRight(m2, result2);
+            assertTrue(expected.equals(result2, threshold));
+
+            final var m3 = new Matrix(m1);
+            m3.multiplyTransposedRight(m2);
+            assertTrue(expected.equals(m3, threshold));
+
+            // product of a matrix with its own transpose
+            final var m4 = new Matrix(m1);
+            m4.multiplyTransposedRight(m4);
+            assertTrue(m1.multiplyAndReturnNew(m1.transposeAndReturnNew()).equals(m4, threshold));
+        }
+
+        // Force WrongSizeException
+        final var m1 = new Matrix(3, 2);
+        final var m2 = new Matrix(2, 3);
+        final var result = new Matrix(3, 2);
+        assertThrows(WrongSizeException.class, () -> m1.multiplyTransposedRightAndReturnNew(m2));
+        assertThrows(WrongSizeException.class, () -> m1.multiplyTransposedRight(m2, result));
+        assertThrows(WrongSizeException.class, () -> m1.multiplyTransposedRight(m2));
+
+        // Force NullPointerException
+        //noinspection DataFlowIssue
+        assertThrows(NullPointerException.class, () -> m1.multiplyTransposedRight(null));
+    }
+
+    @Test
+    void testGram() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // small and large products
+        for (final var maxSize : new int[]{MAX_ROWS, 300}) {
+            final var rows = randomizer.nextInt(MIN_ROWS, maxSize);
+            final var columns = randomizer.nextInt(MIN_COLUMNS, maxSize);
+
+            final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+
+            final var expected = m.transposeAndReturnNew().multiplyAndReturnNew(m);
+            final var threshold = ABSOLUTE_ERROR * MAX_RANDOM_VALUE * MAX_RANDOM_VALUE * rows;
+
+            final var result1 = m.gramAndReturnNew();
+            assertEquals(columns, result1.getRows());
+            assertEquals(columns, result1.getColumns());
+            assertTrue(expected.equals(result1, threshold));
+            // result is exactly symmetric
+            assertTrue(result1.equals(result1.transposeAndReturnNew(), 0.0));
+
+            final var result2 = new Matrix(1, 1);
+            m.gram(result2);
+            assertTrue(expected.equals(result2, threshold));
+
+            final var m2 = new Matrix(m);
+            m2.gram();
+            assertTrue(expected.equals(m2, threshold));
+        }
+
+        // Force NullPointerException
+        final var m = new Matrix(3, 2);
+        //noinspection DataFlowIssue
+        assertThrows(NullPointerException.class, () -> m.gram(null));
+    }
+
+    @Test
+    void testGemm() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // small and large products
+        for (final var maxSize : new int[]{MAX_ROWS, 300}) {
+            for (var t = 0; t < 4; t++) {
+                final var transA = (t & 1) != 0;
+                final var transB = (t & 2) != 0;
+                final var m = randomizer.nextInt(MIN_ROWS, maxSize);
+                final var n = randomizer.nextInt(MIN_COLUMNS, maxSize);
+                final var k = randomizer.nextInt(MIN_COLUMNS, maxSize);
+                final var alpha = randomizer.nextDouble(-2.0, 2.0);
+                final var beta = randomizer.nextDouble(-2.0, 2.0);
+
+                final var a = transA ? Matrix.createWithUniformRandomValues(k, m, MIN_RANDOM_VALUE,
+                        MAX_RANDOM_VALUE) : Matrix.createWithUniformRandomValues(m, k, MIN_RANDOM_VALUE,
+                        MAX_RANDOM_VALUE);
+                final var b = transB ? Matrix.createWithUniformRandomValues(n, k, MIN_RANDOM_VALUE,
+                        MAX_RANDOM_VALUE) : Matrix.createWithUniformRandomValues(k, n, MIN_RANDOM_VALUE,
+                        MAX_RANDOM_VALUE);
+                final var c = Matrix.createWithUniformRandomValues(m, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                final var opA = transA ? a.transposeAndReturnNew() : a;
+                final var opB = transB ? b.transposeAndReturnNew() : b;
+                final var expected = opA.multiplyAndReturnNew(opB);
+                expected.multiplyByScalar(alpha);
+                expected.add(c.multiplyByScalarAndReturnNew(beta));
+
+                Matrix.gemm(alpha, a, transA, b, transB, beta, c);
+
+                final var threshold = ABSOLUTE_ERROR * MAX_RANDOM_VALUE * MAX_RANDOM_VALUE * k;
+                assertTrue(expected.equals(c, threshold));
+
+                // when beta is zero, initial values of result are ignored
+                c.initialize(Double.NaN);
+                Matrix.gemm(1.0, a, transA, b, transB, 0.0, c);
+                assertTrue(opA.multiplyAndReturnNew(opB).equals(c, threshold));
+
+                // when alpha is zero, result is only scaled
+                final var c2 = new Matrix(c);
+                Matrix.gemm(0.0, a, transA, b, transB, 2.0, c2);
+                assertTrue(c.multiplyByScalarAndReturnNew(2.0).equals(c2, 0.0));
+            }
+        }
+
+        // Force WrongSizeException
+        final var a = new Matrix(3, 2);
+        final var b = new Matrix(3, 4);
+        final var c = new Matrix(2, 4);
+        assertThrows(WrongSizeException.class, () -> Matrix.gemm(1.0, a, false, b, false, 0.0, c));
+        assertThrows(WrongSizeException.class, () -> Matrix.gemm(1.0, a, true, b, false, 0.0,
+                new Matrix(3, 4)));
+        assertThrows(WrongSizeException.class, () -> Matrix.gemm(1.0, a, true, b, true, 0.0, c));
+        Matrix.gemm(1.0, a, true, b, false, 0.0, c);
+
+        // Force IllegalArgumentException
+        final var square = new Matrix(3, 3);
+        assertThrows(IllegalArgumentException.class, () -> Matrix.gemm(1.0, square, false, square, false,
+                0.0, square));
+
+        // Force NullPointerException
+        //noinspection DataFlowIssue
+        assertThrows(NullPointerException.class, () -> Matrix.gemm(1.0, a, true, b, false, 0.0, null));
+    }
+
+    @Test
+    void testGemmDoesNotAllocate() throws WrongSizeException {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // packed blocks of these sizes are small enough to be retained
+        final var a = Matrix.createWithUniformRandomValues(300, 200, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(300, 120, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var c = new Matrix(200, 120);
+        final var small = new Matrix(3, 3);
+
+        // first calls grow packing buffers of current thread
+        Matrix.gemm(1.0, a, true, b, false, 0.0, c);
+        Matrix.gemm(1.0, small, false, small, true, 1.0, small.transposeAndReturnNew());
+
+        final var threadId = Thread.currentThread().getId();
+        final var before = threadBean.getThreadAllocatedBytes(threadId);
+        Matrix.gemm(-1.0, a, true, b, false, 1.0, c);
+        final var after = threadBean.getThreadAllocatedBytes(threadId);
+
+        // less than the size of any matrix involved
+        assertTrue(after - before < 1024);
+    }
+
     @Test
     void testMultiplyKroneckerAndReturnNew() throws WrongSizeException {
         final var m1 = new Matrix(2, 2);
@@ -950,6 +1212,118 @@ class MatrixTest {
         assertThrows(WrongSizeException.class, () -> m.reset(0, 0, initValue));
     }
 
+    @Test
+    void testResizeKeepsExactLengthByDefault() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(6, 5, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var buffer = m.getBuffer();
+
+        // same number of elements keeps buffer and clears contents
+        m.resize(3, 10);
+        assertSame(buffer, m.getBuffer());
+        assertEquals(0.0, m.getElementAt(2, 9), 0.0);
+
+        // shrinking allocates a buffer having exactly rows * columns elements
+        m.resize(3, 4);
+        assertNotSame(buffer, m.getBuffer());
+        assertEquals(12, m.getBuffer().length);
+        assertEquals(12, m.getCapacity());
+
+        m.reset(2, 2, 1.0);
+        assertEquals(4, m.getBuffer().length);
+        assertEquals(1.0, m.getElementAt(1, 1), 0.0);
+
+        // copying into a matrix having a different size also keeps exact length
+        final var other = new Matrix(6, 5);
+        other.copyFrom(m);
+        assertEquals(4, other.getBuffer().length);
+        assertEquals(m, other);
+    }
+
+    @Test
+    void testResizeReusesCapacity() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(6, 5, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var buffer = m.getBuffer();
+        assertEquals(30, m.getCapacity());
+
+        // shrinking keeps buffer and clears contents
+        m.resize(3, 4, true);
+        assertEquals(3, m.getRows());
+        assertEquals(4, m.getColumns());
+        assertSame(buffer, m.getBuffer());
+        assertEquals(30, m.getCapacity());
+        for (var j = 0; j < 4; j++) {
+            for (var i = 0; i < 3; i++) {
+                assertEquals(0.0, m.getElementAt(i, j), 0.0);
+                m.setElementAt(i, j, i + 3 * j);
+            }
+        }
+        assertArrayEquals(new double[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}, m.toArray(), 0.0);
+
+        // equality and hash code do not depend on capacity
+        final var equal = new Matrix(m);
+        assertEquals(12, equal.getCapacity());
+        assertTrue(m.equals(equal));
+        assertEquals(equal.hashCode(), m.hashCode());
+
+        // same number of elements with different shape keeps buffer
+        m.reset(2, 15, 1.0, true);
+        assertSame(buffer, m.getBuffer());
+        assertEquals(1.0, m.getElementAt(1, 14), 0.0);
+
+        // copying into a matrix having the same size reuses buffer
+        m.resize(3, 4, true);
+        m.copyFrom(equal);
+        assertSame(buffer, m.getBuffer());
+        assertTrue(m.equals(equal));
+        final var array = new double[12];
+        m.toArray(array);
+        assertArrayEquals(equal.toArray(), array, 0.0);
+        m.fromArray(array, false);
+        assertThrows(WrongSizeException.class, () -> m.toArray(new double[30]));
+        assertThrows(WrongSizeException.class, () -> m.fromArray(new double[30]));
+
+        // growing allocates new buffer
+        m.resize(7, 5, true);
+        assertNotSame(buffer, m.getBuffer());
+        assertEquals(35, m.getCapacity());
+
+        // trimming releases unused capacity
+        m.resize(2, 2, true);
+        m.setElementAt(1, 1, 5.0);
+        assertEquals(35, m.getCapacity());
+        m.trimToSize();
+        assertEquals(4, m.getCapacity());
+        assertEquals(4, m.getBuffer().length);
+        assertEquals(5.0, m.getElementAt(1, 1), 0.0);
+        assertEquals(2, m.getRows());
+        assertEquals(2, m.getColumns());
+    }
+
+    @Test
+    void testResizeDoesNotAllocate() throws WrongSizeException {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final var m = new Matrix(100, 100);
+
+        // warm up
+        for (var i = 1; i <= 100; i++) {
+            m.resize(i, 100 - i + 1, true);
+            m.reset(100 - i + 1, i, 1.0, true);
+        }
+
+        final var threadId = Thread.currentThread().getId();
+        final var before = threadBean.getThreadAllocatedBytes(threadId);
+        for (var i = 1; i <= 100; i++) {
+            m.resize(i, 100 - i + 1, true);
+            m.reset(100 - i + 1, i, 1.0, true);
+        }
+        final var after = threadBean.getThreadAllocatedBytes(threadId);
+
+        assertTrue(after - before < 1024);
+    }
+
     @Test
     void testToArray() throws WrongSizeException {
         final var randomizer = new UniformRandomizer();
@@ -1100,6 +1474,50 @@ class MatrixTest {
                 topLeftColumn + 1, topLeftRow, topLeftColumn));
     }
 
+    @Test
+    void testGetSubmatrixView() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 2, MAX_ROWS + 2);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 2, MAX_COLUMNS + 2);
+
+        final var topLeftColumn = randomizer.nextInt(MIN_COLUMNS, columns - 1);
+        final var topLeftRow = randomizer.nextInt(MIN_ROWS, rows - 1);
+
+        final var bottomRightColumn = randomizer.nextInt(topLeftColumn, columns - 1);
+        final var bottomRightRow = randomizer.nextInt(topLeftRow, rows - 1);
+
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var view = m.getSubmatrixView(topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn);
+
+        // check correctness
+        assertSame(m, view.getParent());
+        assertEquals(m.getSubmatrix(topLeftRow, topLeftColumn, bottomRightRow, bottomRightColumn),
+                view.toMatrix());
+
+        // view shares data with matrix
+        view.setElementAt(0, 0, -1.0);
+        assertEquals(-1.0, m.getElementAt(topLeftRow, topLeftColumn), 0.0);
+
+        final var columnView = m.getColumnView(topLeftColumn);
+        assertEquals(rows, columnView.getRows());
+        assertEquals(1, columnView.getColumns());
+        assertEquals(m.getSubmatrix(0, topLeftColumn, rows - 1, topLeftColumn), columnView.toMatrix());
+
+        final var rowView = m.getRowView(topLeftRow);
+        assertEquals(1, rowView.getRows());
+        assertEquals(columns, rowView.getColumns());
+        assertEquals(m.getSubmatrix(topLeftRow, 0, topLeftRow, columns - 1), rowView.toMatrix());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getSubmatrixView(rows, topLeftColumn,
+                bottomRightRow, bottomRightColumn));
+        assertThrows(IllegalArgumentException.class, () -> m.getSubmatrixView(topLeftRow + 1, topLeftColumn,
+                topLeftRow, topLeftColumn));
+        assertThrows(IllegalArgumentException.class, () -> m.getColumnView(columns));
+        assertThrows(IllegalArgumentException.class, () -> m.getRowView(-1));
+    }
+
     @Test
     void testGetSubmatrixAsArray() throws WrongSizeException {
         final var randomizer = new UniformRandomizer();
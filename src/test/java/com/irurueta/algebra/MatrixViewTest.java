@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixViewTest {
+
+    private static final int ROWS = 7;
+    private static final int COLUMNS = 5;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-10;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        var view = new MatrixView(m);
+        assertSame(m, view.getParent());
+        assertEquals(0, view.getOffset());
+        assertEquals(ROWS, view.getRows());
+        assertEquals(COLUMNS, view.getColumns());
+        assertEquals(ROWS, view.getLeadingDimension());
+
+        view = new MatrixView(m, 1, 2, 4, 3);
+        assertSame(m, view.getParent());
+        assertEquals(1 + 2 * ROWS, view.getOffset());
+        assertEquals(4, view.getRows());
+        assertEquals(2, view.getColumns());
+        assertEquals(ROWS, view.getLeadingDimension());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new MatrixView(m, -1, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixView(m, 0, -1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixView(m, 0, 0, ROWS, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixView(m, 0, 0, 1, COLUMNS));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixView(m, 2, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixView(m, 0, 2, 1, 1));
+
+        // Force NullPointerException
+        //noinspection DataFlowIssue
+        assertThrows(NullPointerException.class, () -> new MatrixView(null));
+    }
+
+    @Test
+    void testGetSetElements() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var view = m.getSubmatrixView(1, 2, 4, 3);
+
+        for (var j = 0; j < view.getColumns(); j++) {
+            for (var i = 0; i < view.getRows(); i++) {
+                assertEquals(m.getElementAt(i + 1, j + 2), view.getElementAt(i, j), 0.0);
+                assertEquals(m.getElementAt(i + 1, j + 2), view.getElementAtIndex(i + j * view.getRows()),
+                        0.0);
+            }
+        }
+
+        // writing into view modifies parent
+        view.setElementAt(3, 1, 10.0);
+        assertEquals(10.0, m.getElementAt(4, 3), 0.0);
+        view.setElementAtIndex(1, 20.0);
+        assertEquals(20.0, m.getElementAt(2, 2), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> view.getElementAt(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> view.getElementAt(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> view.setElementAt(-1, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> view.getElementAtIndex(8));
+        assertThrows(IllegalArgumentException.class, () -> view.setElementAtIndex(-1, 1.0));
+    }
+
+    @Test
+    void testSubviews() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var view = m.getSubmatrixView(1, 1, 5, 4);
+
+        final var subview = view.getSubview(1, 1, 3, 2);
+        assertEquals(m.getSubmatrix(2, 2, 4, 3), subview.toMatrix());
+
+        final var column = view.getColumnView(2);
+        assertEquals(m.getSubmatrix(1, 3, 5, 3), column.toMatrix());
+
+        final var row = view.getRowView(3);
+        assertEquals(m.getSubmatrix(4, 1, 4, 4), row.toMatrix());
+
+        assertEquals(m.getSubmatrix(0, 2, ROWS - 1, 2), m.getColumnView(2).toMatrix());
+        assertEquals(m.getSubmatrix(3, 0, 3, COLUMNS - 1), m.getRowView(3).toMatrix());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> view.getSubview(0, 0, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> view.getColumnView(4));
+        assertThrows(IllegalArgumentException.class, () -> view.getRowView(5));
+        assertThrows(IllegalArgumentException.class, () -> m.getColumnView(COLUMNS));
+        assertThrows(IllegalArgumentException.class, () -> m.getRowView(ROWS));
+    }
+
+    @Test
+    void testCopy() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var view = m.getSubmatrixView(2, 1, 4, 3);
+        final var expected = m.getSubmatrix(2, 1, 4, 3);
+
+        final var result = new Matrix(1, 1);
+        view.copyTo(result);
+        assertEquals(expected, result);
+        assertEquals(expected, view.toMatrix());
+        assertArrayEquals(expected.toArray(), view.toArray(), 0.0);
+
+        final var array = new double[9];
+        view.toArray(array);
+        assertArrayEquals(expected.toArray(), array, 0.0);
+
+        // copy into view modifies only its block of parent
+        final var original = new Matrix(m);
+        final var source = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        view.copyFrom(source);
+        assertEquals(source, m.getSubmatrix(2, 1, 4, 3));
+        assertUnchangedOutside(original, m, 2, 1, 4, 3);
+
+        view.copyFrom(expected.toArray());
+        assertEquals(original, m);
+
+        final var other = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        view.copyFrom(new MatrixView(other));
+        assertEquals(other, view.toMatrix());
+
+        view.initialize(5.0);
+        final var initialized = new Matrix(3, 3);
+        initialized.initialize(5.0);
+        assertEquals(initialized, view.toMatrix());
+        assertUnchangedOutside(original, m, 2, 1, 4, 3);
+
+        view.multiplyByScalar(2.0);
+        assertEquals(10.0, m.getElementAt(3, 2), 0.0);
+        assertUnchangedOutside(original, m, 2, 1, 4, 3);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> view.toArray(new double[8]));
+        assertThrows(WrongSizeException.class, () -> view.copyFrom(new Matrix(3, 2)));
+        assertThrows(WrongSizeException.class, () -> view.copyFrom(new double[8]));
+        assertThrows(WrongSizeException.class, () -> view.copyFrom(m.getColumnView(0)));
+    }
+
+    @Test
+    void testDotProduct() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var array = new double[ROWS];
+        new UniformRandomizer().fill(array, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var view = m.getColumnView(3);
+        assertEquals(ArrayUtils.dotProduct(m.getSubmatrixAsArray(0, 3, ROWS - 1, 3), array),
+                view.dotProduct(array), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> view.dotProduct(new double[ROWS - 1]));
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // small and large products
+        for (final var size : new int[]{10, 200}) {
+            final var m1 = Matrix.createWithUniformRandomValues(size + 3, size + 2, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+            final var m2 = Matrix.createWithUniformRandomValues(size + 1, size + 4, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+            final var inner = randomizer.nextInt(1, size);
+
+            final var view1 = m1.getSubmatrixView(2, 1, size + 1, inner);
+            final var view2 = m2.getSubmatrixView(1, 3, inner, size + 2);
+
+            final var expected = view1.toMatrix().multiplyAndReturnNew(view2.toMatrix());
+
+            final var result1 = new Matrix(1, 1);
+            view1.multiply(view2, result1);
+            assertTrue(expected.equals(result1, ABSOLUTE_ERROR * inner));
+
+            final var result2 = view1.multiplyAndReturnNew(view2);
+            assertTrue(expected.equals(result2, ABSOLUTE_ERROR * inner));
+
+            // accumulate product into a block of another matrix
+            final var c = Matrix.createWithUniformRandomValues(size + 5, size + 5, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+            final var original = new Matrix(c);
+            final var cView = c.getSubmatrixView(3, 2, size + 2, size + 1);
+            final var expected2 = cView.toMatrix();
+            expected2.multiplyByScalar(0.5);
+            expected2.add(expected.multiplyByScalarAndReturnNew(-1.0));
+
+            MatrixView.gemm(-1.0, view1, false, view2, false, 0.5, cView);
+            assertTrue(expected2.equals(cView.toMatrix(), ABSOLUTE_ERROR * inner));
+            assertUnchangedOutside(original, c, 3, 2, size + 2, size + 1);
+
+            // transposed operands
+            final var expected3 = view2.toMatrix().transposeAndReturnNew().multiplyAndReturnNew(
+                    view1.toMatrix().transposeAndReturnNew());
+            MatrixView.gemm(1.0, view2, true, view1, true, 0.0, cView);
+            assertTrue(expected3.equals(cView.toMatrix(), ABSOLUTE_ERROR * inner));
+
+            // Force WrongSizeException
+            assertThrows(WrongSizeException.class, () -> view1.multiply(view1, result1));
+            assertThrows(WrongSizeException.class, () -> view1.multiplyAndReturnNew(view1));
+            assertThrows(WrongSizeException.class, () -> MatrixView.gemm(1.0, view1, false, view1, false,
+                    0.0, cView));
+            assertThrows(WrongSizeException.class, () -> MatrixView.gemm(1.0, view1, false, view2, false,
+                    0.0, view1));
+        }
+    }
+
+    @Test
+    void testNorms() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var view = m.getSubmatrixView(1, 1, 5, 3);
+        final var copy = view.toMatrix();
+
+        assertEquals(FrobeniusNormComputer.norm(copy), FrobeniusNormComputer.norm(view), ABSOLUTE_ERROR);
+        assertEquals(OneNormComputer.norm(copy), OneNormComputer.norm(view), 0.0);
+        assertEquals(InfinityNormComputer.norm(copy), InfinityNormComputer.norm(view), 0.0);
+
+        for (final var normType : NormType.values()) {
+            final var computer = NormComputer.create(normType);
+            assertEquals(computer.getNorm(copy), computer.getNorm(view), ABSOLUTE_ERROR);
+        }
+    }
+
+    private static void assertUnchangedOutside(final Matrix original, final Matrix m, final int topLeftRow,
+                                               final int topLeftColumn, final int bottomRightRow,
+                                               final int bottomRightColumn) {
+        for (var j = 0; j < m.getColumns(); j++) {
+            for (var i = 0; i < m.getRows(); i++) {
+                if (i < topLeftRow || i > bottomRightRow || j < topLeftColumn || j > bottomRightColumn) {
+                    assertEquals(original.getElementAt(i, j), m.getElementAt(i, j), 0.0);
+                }
+            }
+        }
+    }
+}
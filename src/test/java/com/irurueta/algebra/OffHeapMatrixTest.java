@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class OffHeapMatrixTest {
+
+    private static final int ROWS = 13;
+    private static final int COLUMNS = 7;
+
+    // small chunks so that columns span several chunks
+    private static final int CHUNK_SHIFT = 3;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-10;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        try (final var m = new OffHeapMatrix(ROWS, COLUMNS)) {
+            assertEquals(ROWS, m.getRows());
+            assertEquals(COLUMNS, m.getColumns());
+            assertEquals((long) ROWS * COLUMNS, m.getLength());
+            assertFalse(m.isClosed());
+
+            // values are initialized to zero
+            assertEquals(new Matrix(ROWS, COLUMNS), m.toMatrix());
+        }
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new OffHeapMatrix(0, COLUMNS));
+        assertThrows(WrongSizeException.class, () -> new OffHeapMatrix(ROWS, 0));
+    }
+
+    @Test
+    void testGetSetElements() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        try (final var m = new OffHeapMatrix(ROWS, COLUMNS, CHUNK_SHIFT)) {
+            final var expected = new Matrix(ROWS, COLUMNS);
+            for (var j = 0; j < COLUMNS; j++) {
+                for (var i = 0; i < ROWS; i++) {
+                    final var value = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                    m.setElementAt(i, j, value);
+                    expected.setElementAt(i, j, value);
+                }
+            }
+
+            for (var j = 0; j < COLUMNS; j++) {
+                for (var i = 0; i < ROWS; i++) {
+                    assertEquals(expected.getElementAt(i, j), m.getElementAt(i, j), 0.0);
+                    assertEquals(expected.getElementAt(i, j), m.getElementAtIndex(m.getIndex(i, j)), 0.0);
+                }
+            }
+            assertEquals(expected, m.toMatrix());
+
+            assertEquals(3L * ROWS + 2, m.getIndex(2, 3));
+
+            m.setElementAtIndex(20, 5.0);
+            assertEquals(5.0, m.getElementAt(7, 1), 0.0);
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> m.getElementAtIndex(ROWS * COLUMNS));
+            assertThrows(IndexOutOfBoundsException.class, () -> m.setElementAt(0, COLUMNS, 1.0));
+        }
+    }
+
+    @Test
+    void testCopy() throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        try (final var offHeap = OffHeapMatrix.newFromMatrix(m);
+             final var chunked = new OffHeapMatrix(ROWS, COLUMNS, CHUNK_SHIFT)) {
+            assertEquals(m, offHeap.toMatrix());
+
+            chunked.copyFrom(m);
+            assertEquals(m, chunked.toMatrix());
+
+            // blocks
+            assertEquals(m.getSubmatrix(2, 1, 9, 4), chunked.getSubmatrix(2, 1, 9, 4));
+            final var result = new Matrix(1, 1);
+            chunked.getSubmatrix(3, 0, 12, 6, result);
+            assertEquals(m.getSubmatrix(3, 0, 12, 6), result);
+
+            final var block = Matrix.createWithUniformRandomValues(5, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            chunked.setSubmatrix(6, 4, block);
+            m.setSubmatrix(6, 4, 10, 6, block);
+            assertEquals(m, chunked.toMatrix());
+
+            chunked.initialize(2.0);
+            final var initialized = new Matrix(ROWS, COLUMNS);
+            initialized.initialize(2.0);
+            assertEquals(initialized, chunked.toMatrix());
+
+            // Force WrongSizeException
+            assertThrows(WrongSizeException.class, () -> chunked.copyFrom(new Matrix(ROWS, COLUMNS + 1)));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> chunked.getSubmatrix(-1, 0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> chunked.getSubmatrix(0, 0, ROWS, 1));
+            assertThrows(IllegalArgumentException.class, () -> chunked.getSubmatrix(2, 0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> chunked.setSubmatrix(ROWS - 4, 4, block));
+        }
+    }
+
+    @Test
+    void testArithmetic() throws WrongSizeException {
+        final var m1 = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m2 = Matrix.createWithUniformRandomValues(ROWS, COLUMNS, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        try (final var o1 = new OffHeapMatrix(ROWS, COLUMNS, CHUNK_SHIFT);
+             final var o2 = new OffHeapMatrix(ROWS, COLUMNS, CHUNK_SHIFT)) {
+            o1.copyFrom(m1);
+            o2.copyFrom(m2);
+
+            o1.add(o2);
+            assertEquals(m1.addAndReturnNew(m2), o1.toMatrix());
+
+            o1.subtract(o2);
+            o1.subtract(o2);
+            assertTrue(m1.subtractAndReturnNew(m2).equals(o1.toMatrix(), ABSOLUTE_ERROR));
+
+            o2.multiplyByScalar(3.0);
+            assertEquals(m2.multiplyByScalarAndReturnNew(3.0), o2.toMatrix());
+
+            // Force WrongSizeException
+            try (final var other = new OffHeapMatrix(COLUMNS, ROWS)) {
+                assertThrows(WrongSizeException.class, () -> o1.add(other));
+                assertThrows(WrongSizeException.class, () -> o1.subtract(other));
+            }
+        }
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // sizes spanning several heap blocks
+        final var m = randomizer.nextInt(OffHeapMatrix.BLOCK_SIZE + 1, OffHeapMatrix.BLOCK_SIZE + 100);
+        final var n = randomizer.nextInt(1, 100);
+        final var k = randomizer.nextInt(OffHeapMatrix.BLOCK_SIZE + 1, OffHeapMatrix.BLOCK_SIZE + 100);
+
+        final var a = Matrix.createWithUniformRandomValues(m, k, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(k, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var expected = a.multiplyAndReturnNew(b);
+
+        try (final var oa = new OffHeapMatrix(m, k, 16);
+             final var ob = new OffHeapMatrix(k, n, 16);
+             final var oc = new OffHeapMatrix(m, n, 16)) {
+            oa.copyFrom(a);
+            ob.copyFrom(b);
+
+            // initial contents of result are overwritten
+            oc.initialize(Double.NaN);
+            oa.multiply(ob, oc);
+            assertTrue(expected.equals(oc.toMatrix(), ABSOLUTE_ERROR * k));
+
+            try (final var result = oa.multiplyAndReturnNew(ob)) {
+                assertTrue(expected.equals(result.toMatrix(), ABSOLUTE_ERROR * k));
+            }
+
+            // Force WrongSizeException
+            assertThrows(WrongSizeException.class, () -> oa.multiply(oa, oc));
+            assertThrows(WrongSizeException.class, () -> ob.multiplyAndReturnNew(ob));
+            assertThrows(WrongSizeException.class, () -> oa.multiply(ob, oa));
+        }
+
+        // Force IllegalArgumentException
+        try (final var square = new OffHeapMatrix(3, 3)) {
+            assertThrows(IllegalArgumentException.class, () -> square.multiply(square, square));
+        }
+    }
+
+    @Test
+    void testClose() throws WrongSizeException {
+        final var m = new OffHeapMatrix(ROWS, COLUMNS, CHUNK_SHIFT);
+        m.close();
+        assertTrue(m.isClosed());
+
+        // closing again has no effect
+        m.close();
+        assertTrue(m.isClosed());
+
+        // Force IllegalStateException
+        assertThrows(IllegalStateException.class, () -> m.getElementAt(0, 0));
+        assertThrows(IllegalStateException.class, () -> m.setElementAt(0, 0, 1.0));
+        assertThrows(IllegalStateException.class, () -> m.initialize(0.0));
+        assertThrows(IllegalStateException.class, m::toMatrix);
+        assertThrows(IllegalStateException.class, () -> m.copyFrom(new Matrix(ROWS, COLUMNS)));
+        assertThrows(IllegalStateException.class, () -> m.getSubmatrix(0, 0, 1, 1));
+        assertThrows(IllegalStateException.class, () -> m.setSubmatrix(0, 0, new Matrix(1, 1)));
+        assertThrows(IllegalStateException.class, () -> m.multiplyByScalar(2.0));
+        try (final var other = new OffHeapMatrix(COLUMNS, ROWS, CHUNK_SHIFT)) {
+            assertThrows(IllegalStateException.class, () -> m.multiplyAndReturnNew(other));
+            assertThrows(IllegalStateException.class, () -> other.multiplyAndReturnNew(m));
+        }
+    }
+
+    @Test
+    void testCloseWaitsForConcurrentOperations() throws WrongSizeException, InterruptedException {
+        final var m = new OffHeapMatrix(ROWS, COLUMNS, CHUNK_SHIFT);
+        m.initialize(1.0);
+
+        // operations running concurrently with close either complete or
+        // raise an IllegalStateException, but never access released memory
+        final var failure = new AtomicReference<Throwable>();
+        final var threads = new ArrayList<Thread>();
+        for (var t = 0; t < 4; t++) {
+            final var thread = new Thread(() -> {
+                try {
+                    while (true) {
+                        final var sum = m.getElementAt(ROWS - 1, COLUMNS - 1) + m.toMatrix().getElementAt(0, 0);
+                        if (sum != 2.0) {
+                            failure.set(new AssertionError(sum));
+                        }
+                    }
+                } catch (final IllegalStateException ignore) {
+                    // matrix has been closed
+                } catch (final Throwable e) {
+                    failure.set(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        Thread.sleep(50);
+        m.close();
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(m.isClosed());
+        assertNull(failure.get());
+    }
+
+    @Test
+    void testCholesky() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+
+        // sizes spanning several heap blocks
+        final var n = randomizer.nextInt(OffHeapMatrix.BLOCK_SIZE + 1, 2 * OffHeapMatrix.BLOCK_SIZE + 100);
+        final var nrhs = randomizer.nextInt(1, 10);
+        final var tmp = Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var a = tmp.transposeAndReturnNew().multiplyAndReturnNew(tmp);
+        for (var i = 0; i < n; i++) {
+            a.setElementAt(i, i, a.getElementAt(i, i) + n);
+        }
+        final var b = Matrix.createWithUniformRandomValues(n, nrhs, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new CholeskyDecomposer(a);
+        decomposer.decompose();
+
+        try (final var oa = new OffHeapMatrix(n, n, 16);
+             final var ob = new OffHeapMatrix(n, nrhs, 16)) {
+            oa.copyFrom(a);
+            ob.copyFrom(b);
+
+            oa.choleskyDecompose();
+            assertTrue(decomposer.getR().equals(oa.toMatrix(), ABSOLUTE_ERROR * n));
+
+            oa.choleskySolve(ob);
+            final var x = ob.toMatrix();
+            assertTrue(b.equals(a.multiplyAndReturnNew(x), ABSOLUTE_ERROR * n));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> oa.choleskySolve(oa));
+        }
+
+        // Force NonSymmetricPositiveDefiniteMatrixException
+        try (final var o = OffHeapMatrix.newFromMatrix(Matrix.identity(3, 3))) {
+            o.setElementAt(2, 2, -1.0);
+            assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, o::choleskyDecompose);
+        }
+
+        // Force WrongSizeException
+        try (final var o = new OffHeapMatrix(ROWS, COLUMNS);
+             final var square = new OffHeapMatrix(COLUMNS, COLUMNS)) {
+            assertThrows(WrongSizeException.class, o::choleskyDecompose);
+            assertThrows(WrongSizeException.class, () -> o.choleskySolve(square));
+            assertThrows(WrongSizeException.class, () -> square.choleskySolve(o));
+        }
+    }
+
+    @Test
+    void testHeapBlocksAreReused() throws WrongSizeException {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final var size = 100;
+        try (final var oa = OffHeapMatrix.newFromMatrix(Matrix.createWithUniformRandomValues(size, size,
+                MIN_RANDOM_VALUE, MAX_RANDOM_VALUE));
+             final var oc = new OffHeapMatrix(size, size)) {
+
+            // first operations allocate heap blocks of each matrix
+            oa.multiply(oa, oc);
+            oc.multiplyByScalar(2.0);
+
+            final var threadId = Thread.currentThread().getId();
+            final var before = threadBean.getThreadAllocatedBytes(threadId);
+            oa.multiply(oa, oc);
+            oc.multiplyByScalar(2.0);
+            final var after = threadBean.getThreadAllocatedBytes(threadId);
+
+            // less than the size of a heap block
+            assertTrue(after - before < (long) size * size * Double.BYTES);
+        }
+    }
+}
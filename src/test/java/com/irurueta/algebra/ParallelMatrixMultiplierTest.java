@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMatrixMultiplierTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-10;
+
+    @Test
+    void testConstructor() {
+        var multiplier = new ParallelMatrixMultiplier();
+
+        assertSame(ForkJoinPool.commonPool(), multiplier.getPool());
+        assertEquals(ForkJoinPool.commonPool().getParallelism(), multiplier.getParallelism());
+        assertEquals(ParallelMatrixMultiplier.DEFAULT_THRESHOLD, multiplier.getThreshold());
+
+        final var pool = new ForkJoinPool(3);
+        try {
+            multiplier = new ParallelMatrixMultiplier(pool);
+
+            assertSame(pool, multiplier.getPool());
+            assertEquals(3, multiplier.getParallelism());
+            assertEquals(ParallelMatrixMultiplier.DEFAULT_THRESHOLD, multiplier.getThreshold());
+
+            multiplier = new ParallelMatrixMultiplier(pool, 2);
+
+            assertSame(pool, multiplier.getPool());
+            assertEquals(2, multiplier.getParallelism());
+            assertEquals(ParallelMatrixMultiplier.DEFAULT_THRESHOLD, multiplier.getThreshold());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> new ParallelMatrixMultiplier(pool, 0));
+        } finally {
+            pool.shutdown();
+        }
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new ParallelMatrixMultiplier(null, 1));
+    }
+
+    @Test
+    void testGetSetPool() {
+        final var multiplier = new ParallelMatrixMultiplier();
+
+        final var pool = new ForkJoinPool(2);
+        try {
+            multiplier.setPool(pool);
+            assertSame(pool, multiplier.getPool());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> multiplier.setPool(null));
+    }
+
+    @Test
+    void testGetSetParallelism() {
+        final var multiplier = new ParallelMatrixMultiplier();
+
+        multiplier.setParallelism(5);
+        assertEquals(5, multiplier.getParallelism());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> multiplier.setParallelism(0));
+    }
+
+    @Test
+    void testGetSetThreshold() {
+        final var multiplier = new ParallelMatrixMultiplier();
+
+        multiplier.setThreshold(0);
+        assertEquals(0, multiplier.getThreshold());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> multiplier.setThreshold(-1));
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(150, 300);
+        final var inner = randomizer.nextInt(150, 300);
+        final var columns = randomizer.nextInt(150, 300);
+
+        final var a = Matrix.createWithUniformRandomValues(rows, inner, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(inner, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var expected = a.multiplyAndReturnNew(b);
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var multiplier = new ParallelMatrixMultiplier(pool);
+
+            // parallel product is identical to sequential one
+            final var result1 = new Matrix(1, 1);
+            multiplier.multiply(a, b, result1);
+            assertArrayEquals(expected.getBuffer(), result1.getBuffer(), 0.0);
+
+            final var result2 = multiplier.multiplyAndReturnNew(a, b);
+            assertArrayEquals(expected.getBuffer(), result2.getBuffer(), 0.0);
+
+            // limit parallelism for a single call
+            final var result3 = new Matrix(rows, columns);
+            multiplier.multiply(a, b, result3, 2);
+            assertArrayEquals(expected.getBuffer(), result3.getBuffer(), 0.0);
+
+            final var result4 = multiplier.multiplyAndReturnNew(a, b, 3);
+            assertArrayEquals(expected.getBuffer(), result4.getBuffer(), 0.0);
+
+            // sequential
+            final var result5 = multiplier.multiplyAndReturnNew(a, b, 1);
+            assertArrayEquals(expected.getBuffer(), result5.getBuffer(), 0.0);
+
+            // tall result is split by rows
+            final var tall = Matrix.createWithUniformRandomValues(1000, inner, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+            final var column = Matrix.createWithUniformRandomValues(inner, 3, MIN_RANDOM_VALUE,
+                    MAX_RANDOM_VALUE);
+            multiplier.setThreshold(0);
+            assertArrayEquals(tall.multiplyAndReturnNew(column).getBuffer(),
+                    multiplier.multiplyAndReturnNew(tall, column).getBuffer(), 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(a, b, result3, 0));
+            assertThrows(IllegalArgumentException.class, () -> multiplier.multiplyAndReturnNew(a, b, 0));
+
+            // Force WrongSizeException
+            assertThrows(WrongSizeException.class, () -> multiplier.multiply(b, b, result3));
+            assertThrows(WrongSizeException.class, () -> multiplier.multiplyAndReturnNew(b, b));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMultiplySmallMatrices() throws WrongSizeException {
+        final var a = Matrix.createWithUniformRandomValues(3, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(3, 4, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var multiplier = new ParallelMatrixMultiplier();
+        multiplier.setThreshold(0);
+
+        final var result = multiplier.multiplyAndReturnNew(a, b);
+        assertTrue(a.multiplyAndReturnNew(b).equals(result, ABSOLUTE_ERROR));
+    }
+}
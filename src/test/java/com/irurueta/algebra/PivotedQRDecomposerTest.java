@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PivotedQRDecomposerTest {
+
+    private static final int MIN_ROWS = 1;
+    private static final int MAX_ROWS = 50;
+    private static final int MIN_COLUMNS = 1;
+    private static final int MAX_COLUMNS = 50;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    @Test
+    void testConstructor() throws WrongSizeException, LockedException {
+        final var m = new Matrix(MAX_ROWS, MAX_COLUMNS);
+
+        // Test 1st constructor
+        var decomposer = new PivotedQRDecomposer();
+        assertFalse(decomposer.isReady());
+        assertFalse(decomposer.isLocked());
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertNull(decomposer.getInputMatrix());
+        assertEquals(DecomposerType.PIVOTED_QR_DECOMPOSITION, decomposer.getDecomposerType());
+
+        decomposer.setInputMatrix(m);
+        assertTrue(decomposer.isReady());
+        assertSame(m, decomposer.getInputMatrix());
+
+        // Test 2nd constructor
+        decomposer = new PivotedQRDecomposer(m);
+        assertTrue(decomposer.isReady());
+        assertFalse(decomposer.isLocked());
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertSame(m, decomposer.getInputMatrix());
+    }
+
+    @Test
+    void testDecompose() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS, MAX_COLUMNS);
+        final var p = Math.min(rows, columns);
+
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new PivotedQRDecomposer();
+
+        // Force NotReadyException
+        assertThrows(NotReadyException.class, decomposer::decompose);
+
+        decomposer.setInputMatrix(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::getQ);
+        assertThrows(NotAvailableException.class, decomposer::getR);
+        assertThrows(NotAvailableException.class, decomposer::getPermutation);
+        assertThrows(NotAvailableException.class, decomposer::getRank);
+
+        decomposer.decompose();
+        assertTrue(decomposer.isDecompositionAvailable());
+        assertFalse(decomposer.isLocked());
+
+        final var q = decomposer.getQ();
+        final var r = decomposer.getR();
+        final var perm = decomposer.getPermutation();
+        assertEquals(rows, q.getRows());
+        assertEquals(p, q.getColumns());
+        assertEquals(p, r.getRows());
+        assertEquals(columns, r.getColumns());
+
+        // permutation contains each column once
+        final var used = new boolean[columns];
+        for (final var j : perm) {
+            assertFalse(used[j]);
+            used[j] = true;
+        }
+
+        // R is upper trapezoidal having non-increasing diagonal magnitudes
+        for (var j = 0; j < columns; j++) {
+            for (var i = j + 1; i < p; i++) {
+                assertEquals(0.0, r.getElementAt(i, j), 0.0);
+            }
+        }
+        for (var i = 1; i < p; i++) {
+            assertTrue(Math.abs(r.getElementAt(i, i)) <= Math.abs(r.getElementAt(i - 1, i - 1)) + ABSOLUTE_ERROR);
+        }
+
+        // A * P = Q * R
+        assertTrue(q.transposeAndReturnNew().multiplyAndReturnNew(q).equals(Matrix.identity(p, p),
+                ABSOLUTE_ERROR));
+        assertTrue(permuteColumns(m, perm).equals(q.multiplyAndReturnNew(r), ABSOLUTE_ERROR));
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, decomposer::decompose);
+        assertThrows(LockedException.class, () -> decomposer.setInputMatrix(m));
+    }
+
+    @Test
+    void testGetRankAndNullity() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 1, MAX_COLUMNS);
+        final var rank = randomizer.nextInt(1, Math.min(rows, columns));
+
+        final var m = createMatrixWithRank(rows, columns, rank);
+
+        final var decomposer = new PivotedQRDecomposer(m);
+        decomposer.decompose();
+
+        assertEquals(rank, decomposer.getRank());
+        assertEquals(columns - rank, decomposer.getNullity());
+        assertEquals(rank, decomposer.getRank(ABSOLUTE_ERROR));
+        assertEquals(columns - rank, decomposer.getNullity(ABSOLUTE_ERROR));
+
+        // rank agrees with Singular Value Decomposition
+        final var svd = new SingularValueDecomposer(m);
+        svd.decompose();
+        assertEquals(svd.getRank(), decomposer.getRank());
+
+        // every diagonal element is negligible for a large enough tolerance
+        assertEquals(0, decomposer.getRank(Double.MAX_VALUE));
+        assertTrue(decomposer.getNegligibleDiagonalThreshold() > 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> decomposer.getRank(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> decomposer.getNullity(-1.0));
+    }
+
+    @Test
+    void testGetNullspace() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 1, MAX_COLUMNS);
+        final var rank = randomizer.nextInt(1, Math.min(rows, columns));
+
+        final var m = createMatrixWithRank(rows, columns, rank);
+
+        final var decomposer = new PivotedQRDecomposer(m);
+        decomposer.decompose();
+
+        final var nullspace = decomposer.getNullspace();
+        final var nullity = columns - rank;
+        assertEquals(columns, nullspace.getRows());
+        assertEquals(nullity, nullspace.getColumns());
+        assertTrue(nullspace.transposeAndReturnNew().multiplyAndReturnNew(nullspace).equals(
+                Matrix.identity(nullity, nullity), ABSOLUTE_ERROR));
+        assertTrue(m.multiplyAndReturnNew(nullspace).equals(new Matrix(rows, nullity), ABSOLUTE_ERROR));
+
+        // a zero matrix has the whole space as its null-space
+        decomposer.setInputMatrix(new Matrix(rows, columns));
+        decomposer.decompose();
+        assertEquals(0, decomposer.getRank());
+        assertTrue(decomposer.getNullspace().equals(Matrix.identity(columns, columns), 0.0));
+
+        // Force NotAvailableException
+        final var full = Matrix.createWithUniformRandomValues(columns + 1, columns,
+                MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        decomposer.setInputMatrix(full);
+        decomposer.decompose();
+        assertThrows(NotAvailableException.class, decomposer::getNullspace);
+    }
+
+    @Test
+    void testSolve() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 1, MAX_COLUMNS);
+        final var rows = randomizer.nextInt(columns, MAX_ROWS + columns);
+        final var colsB = randomizer.nextInt(1, 5);
+
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(rows, colsB, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new PivotedQRDecomposer(m);
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, () -> decomposer.solve(b));
+
+        decomposer.decompose();
+
+        // matrix has full column rank, hence solution is the least squares one
+        final var economy = new EconomyQRDecomposer(m);
+        economy.decompose();
+        final var x = decomposer.solve(b);
+        assertTrue(economy.solve(b).equals(x, ABSOLUTE_ERROR));
+
+        final var x2 = new Matrix(1, 1);
+        decomposer.solve(b, x2);
+        assertEquals(x, x2);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> decomposer.solve(new Matrix(rows + 1, colsB)));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> decomposer.solve(b, -1.0));
+
+        // basic solution of rank deficient matrix minimizes residual using
+        // as many unknowns as rank
+        final var rank = randomizer.nextInt(1, columns);
+        final var deficient = createMatrixWithRank(rows, columns, rank);
+        decomposer.setInputMatrix(deficient);
+        decomposer.decompose();
+        final var basic = decomposer.solve(b);
+
+        final var residual = deficient.multiplyAndReturnNew(basic).subtractAndReturnNew(b);
+        final var normal = deficient.transposeAndReturnNew().multiplyAndReturnNew(residual);
+        assertTrue(normal.equals(new Matrix(columns, colsB), ABSOLUTE_ERROR));
+
+        final var perm = decomposer.getPermutation();
+        for (var i = rank; i < columns; i++) {
+            for (var j = 0; j < colsB; j++) {
+                assertEquals(0.0, basic.getElementAt(perm[i], j), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testGetPseudoInverse() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 1, MAX_COLUMNS);
+        final var rank = randomizer.nextInt(1, Math.min(rows, columns) + 1);
+
+        final var m = createMatrixWithRank(rows, columns, rank);
+
+        final var decomposer = new PivotedQRDecomposer(m);
+        decomposer.decompose();
+        final var pinv = decomposer.getPseudoInverse();
+        assertEquals(columns, pinv.getRows());
+        assertEquals(rows, pinv.getColumns());
+
+        // Moore-Penrose conditions
+        assertTrue(m.multiplyAndReturnNew(pinv).multiplyAndReturnNew(m).equals(m, ABSOLUTE_ERROR));
+        assertTrue(pinv.multiplyAndReturnNew(m).multiplyAndReturnNew(pinv).equals(pinv, ABSOLUTE_ERROR));
+        final var mp = m.multiplyAndReturnNew(pinv);
+        assertTrue(mp.equals(mp.transposeAndReturnNew(), ABSOLUTE_ERROR));
+        final var pm = pinv.multiplyAndReturnNew(m);
+        assertTrue(pm.equals(pm.transposeAndReturnNew(), ABSOLUTE_ERROR));
+
+        // pseudo-inverse is unique, hence it matches the one obtained using SVD
+        assertTrue(Utils.pseudoInverse(m).equals(pinv, ABSOLUTE_ERROR));
+
+        // pseudo-inverse of zero matrix is zero
+        assertEquals(new Matrix(columns, rows), decomposer.getPseudoInverse(Double.MAX_VALUE));
+    }
+
+    private static Matrix createMatrixWithRank(final int rows, final int columns, final int rank)
+            throws WrongSizeException {
+        final var a = Matrix.createWithUniformRandomValues(rows, rank, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(rank, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        return a.multiplyAndReturnNew(b);
+    }
+
+    private static Matrix permuteColumns(final Matrix m, final int[] perm) throws WrongSizeException {
+        final var result = new Matrix(m.getRows(), m.getColumns());
+        for (var j = 0; j < perm.length; j++) {
+            for (var i = 0; i < m.getRows(); i++) {
+                result.setElementAt(i, j, m.getElementAt(i, perm[j]));
+            }
+        }
+        return result;
+    }
+}
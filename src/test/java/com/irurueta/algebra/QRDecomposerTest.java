@@ -466,4 +466,43 @@ class QRDecomposerTest {
         decomposer.decompose();
         assertThrows(RankDeficientMatrixException.class, () -> decomposer.solve(b5, ABSOLUTE_ERROR, s4));
     }
+
+    @Test
+    void testDecomposeIsDeterministicAndStable() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 2, MAX_COLUMNS);
+        final var rows = randomizer.nextInt(columns, MAX_ROWS + 1);
+
+        final var m = DecomposerHelper.getNonSingularMatrixInstance(rows, columns);
+
+        final var decomposer = new QRDecomposer(m);
+        decomposer.decompose();
+        final var q = new Matrix(decomposer.getQ());
+        final var r = new Matrix(decomposer.getR());
+
+        // decomposing again obtains exactly the same factors
+        decomposer.decompose();
+        assertEquals(q, decomposer.getQ());
+        assertEquals(r, decomposer.getR());
+
+        // diagonal of R is non-negative
+        for (var i = 0; i < columns; i++) {
+            assertTrue(r.getElementAt(i, i) >= 0.0);
+        }
+
+        // Hilbert matrix is very ill-conditioned, however Q remains orthogonal
+        // up to machine precision
+        final var hilbert = new Matrix(12, 12);
+        for (var j = 0; j < 12; j++) {
+            for (var i = 0; i < 12; i++) {
+                hilbert.setElementAt(i, j, 1.0 / (i + j + 1));
+            }
+        }
+        decomposer.setInputMatrix(hilbert);
+        decomposer.decompose();
+        final var q2 = decomposer.getQ();
+        final var r2 = decomposer.getR();
+        assertTrue(q2.transposeAndReturnNew().multiplyAndReturnNew(q2).equals(Matrix.identity(12, 12), 1e-14));
+        assertTrue(q2.multiplyAndReturnNew(r2).equals(hilbert, 1e-14));
+    }
 }
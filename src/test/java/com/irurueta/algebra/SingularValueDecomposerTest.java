@@ -18,6 +18,11 @@ package com.irurueta.algebra;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SingularValueDecomposerTest {
@@ -234,6 +239,89 @@ class SingularValueDecomposerTest {
         }
     }
 
+    @Test
+    void testStorageReused() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS, rows);
+        final var m1 = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m2 = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new SingularValueDecomposer(m1);
+        assertFalse(decomposer.isStorageReused());
+
+        // by default, results remain valid after later decompositions
+        decomposer.decompose();
+        final var u = decomposer.getU();
+        final var v = decomposer.getV();
+        final var s = decomposer.getSingularValues();
+        final var expectedU = new Matrix(u);
+        final var expectedV = new Matrix(v);
+        final var expectedS = s.clone();
+        decomposer.setInputMatrix(m2);
+        decomposer.decompose();
+        assertNotSame(u, decomposer.getU());
+        assertNotSame(v, decomposer.getV());
+        assertNotSame(s, decomposer.getSingularValues());
+        assertEquals(expectedU, u);
+        assertEquals(expectedV, v);
+        assertArrayEquals(expectedS, s, 0.0);
+
+        // storage is reused when enabled
+        decomposer.setStorageReused(true);
+        assertTrue(decomposer.isStorageReused());
+        decomposer.decompose();
+        final var reusedU = decomposer.getU();
+        final var reusedV = decomposer.getV();
+        final var reusedS = decomposer.getSingularValues();
+        decomposer.setInputMatrix(m1);
+        decomposer.decompose();
+        assertSame(reusedU, decomposer.getU());
+        assertSame(reusedV, decomposer.getV());
+        assertSame(reusedS, decomposer.getSingularValues());
+        assertEquals(expectedU, reusedU);
+        assertEquals(expectedV, reusedV);
+        assertArrayEquals(expectedS, reusedS, 0.0);
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setStorageReused(false));
+    }
+
+    @Test
+    void testSolveFromSeveralThreads() throws AlgebraException, InterruptedException, ExecutionException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS, rows);
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(rows, 2, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new SingularValueDecomposer(m);
+        decomposer.decompose();
+        final var expected = decomposer.solve(b);
+
+        // solving on a decomposed instance without storage reuse has no side
+        // effects, hence it can be done from several threads at once
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var futures = new ArrayList<Future<Boolean>>();
+            for (var t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    var equal = true;
+                    for (var i = 0; i < 100; i++) {
+                        equal &= expected.equals(decomposer.solve(b));
+                    }
+                    return equal;
+                }));
+            }
+            for (final var future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testGetU() throws WrongSizeException, NotReadyException, LockedException, DecomposerException,
             NotAvailableException {
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseMatrixTest {
+
+    private static final int MIN_ROWS = 1;
+    private static final int MAX_ROWS = 50;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    @Test
+    void testBuilder() throws WrongSizeException {
+        final var builder = new SparseMatrix.Builder(3, 4);
+        assertEquals(0, builder.getSize());
+
+        // triplets in any order, with duplicates
+        builder.add(2, 3, 1.0)
+                .add(0, 0, 2.0)
+                .add(1, 3, 3.0)
+                .add(2, 3, 4.0)
+                .add(0, 3, 5.0);
+        assertEquals(5, builder.getSize());
+
+        final var m = builder.build();
+        assertEquals(3, m.getRows());
+        assertEquals(4, m.getColumns());
+        assertEquals(4, m.getNonZeros());
+        assertArrayEquals(new int[]{0, 1, 1, 1, 4}, m.getColumnPointers());
+        assertArrayEquals(new int[]{0, 0, 1, 2}, m.getRowIndices());
+        assertArrayEquals(new double[]{2.0, 5.0, 3.0, 5.0}, m.getValues(), 0.0);
+
+        assertEquals(2.0, m.getElementAt(0, 0), 0.0);
+        assertEquals(5.0, m.getElementAt(2, 3), 0.0);
+        assertEquals(0.0, m.getElementAt(1, 1), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> builder.add(3, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(0, -1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new SparseMatrix.Builder(1, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(0, 4));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new SparseMatrix.Builder(0, 1));
+        assertThrows(WrongSizeException.class, () -> new SparseMatrix.Builder(1, 0));
+    }
+
+    @Test
+    void testConversion() throws WrongSizeException {
+        final var dense = randomSparseDense();
+        final var sparse = SparseMatrix.newFromMatrix(dense);
+
+        assertEquals(dense.getRows(), sparse.getRows());
+        assertEquals(dense.getColumns(), sparse.getColumns());
+        assertEquals(dense, sparse.toMatrix());
+
+        var nonZeros = 0;
+        for (final var value : dense.getBuffer()) {
+            if (value != 0.0) {
+                nonZeros++;
+            }
+        }
+        assertEquals(nonZeros, sparse.getNonZeros());
+
+        for (var j = 0; j < dense.getColumns(); j++) {
+            for (var i = 0; i < dense.getRows(); i++) {
+                assertEquals(dense.getElementAt(i, j), sparse.getElementAt(i, j), 0.0);
+            }
+        }
+
+        // builder with shuffled triplets produces the same matrix
+        final var builder = new SparseMatrix.Builder(dense.getRows(), dense.getColumns());
+        for (var j = dense.getColumns() - 1; j >= 0; j--) {
+            for (var i = dense.getRows() - 1; i >= 0; i--) {
+                if (dense.getElementAt(i, j) != 0.0) {
+                    builder.add(i, j, dense.getElementAt(i, j));
+                }
+            }
+        }
+        final var built = builder.build();
+        assertArrayEquals(sparse.getColumnPointers(), built.getColumnPointers());
+        assertArrayEquals(sparse.getRowIndices(), built.getRowIndices());
+        assertArrayEquals(sparse.getValues(), built.getValues(), 0.0);
+    }
+
+    @Test
+    void testMultiplyVector() throws WrongSizeException {
+        final var dense = randomSparseDense();
+        final var sparse = SparseMatrix.newFromMatrix(dense);
+        final var randomizer = new UniformRandomizer();
+
+        final var x = new double[dense.getColumns()];
+        randomizer.fill(x, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var expected = dense.multiplyAndReturnNew(Matrix.newFromArray(x)).toArray();
+
+        assertArrayEquals(expected, sparse.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+        final var result = new double[dense.getRows()];
+        sparse.multiply(x, result);
+        assertArrayEquals(expected, result, ABSOLUTE_ERROR);
+
+        final var y = new double[dense.getRows()];
+        randomizer.fill(y, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var expectedTransposed = dense.multiplyTransposedLeftAndReturnNew(Matrix.newFromArray(y)).toArray();
+
+        assertArrayEquals(expectedTransposed, sparse.multiplyTransposedAndReturnNew(y), ABSOLUTE_ERROR);
+        final var transposedResult = new double[dense.getColumns()];
+        sparse.multiplyTransposed(y, transposedResult);
+        assertArrayEquals(expectedTransposed, transposedResult, ABSOLUTE_ERROR);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> sparse.multiplyAndReturnNew(new double[dense.getColumns() + 1]));
+        assertThrows(WrongSizeException.class, () -> sparse.multiply(x, new double[dense.getRows() + 1]));
+        assertThrows(WrongSizeException.class,
+                () -> sparse.multiplyTransposedAndReturnNew(new double[dense.getRows() + 1]));
+        assertThrows(WrongSizeException.class,
+                () -> sparse.multiplyTransposed(y, new double[dense.getColumns() + 1]));
+    }
+
+    @Test
+    void testMultiplyMatrix() throws WrongSizeException {
+        final var dense = randomSparseDense();
+        final var sparse = SparseMatrix.newFromMatrix(dense);
+        final var randomizer = new UniformRandomizer();
+
+        final var other = Matrix.createWithUniformRandomValues(dense.getColumns(),
+                randomizer.nextInt(MIN_ROWS, MAX_ROWS), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var expected = dense.multiplyAndReturnNew(other);
+
+        assertTrue(expected.equals(sparse.multiplyAndReturnNew(other), ABSOLUTE_ERROR));
+
+        final var result = new Matrix(1, 1);
+        result.initialize(Double.NaN);
+        sparse.multiply(other, result);
+        assertTrue(expected.equals(result, ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        final var wrong = new Matrix(dense.getColumns() + 1, 1);
+        assertThrows(WrongSizeException.class, () -> sparse.multiplyAndReturnNew(wrong));
+        assertThrows(WrongSizeException.class, () -> sparse.multiply(wrong, result));
+
+        // Force IllegalArgumentException
+        final var square = SparseMatrix.newFromMatrix(Matrix.identity(3, 3));
+        final var squareOther = new Matrix(3, 3);
+        assertThrows(IllegalArgumentException.class, () -> square.multiply(squareOther, squareOther));
+    }
+
+    @Test
+    void testTranspose() throws WrongSizeException {
+        final var dense = randomSparseDense();
+        final var sparse = SparseMatrix.newFromMatrix(dense);
+
+        final var transposed = sparse.transposeAndReturnNew();
+        assertEquals(dense.transposeAndReturnNew(), transposed.toMatrix());
+        assertEquals(sparse.getNonZeros(), transposed.getNonZeros());
+
+        // rows are sorted within each column
+        final var pointers = transposed.getColumnPointers();
+        final var rowIndices = transposed.getRowIndices();
+        for (var j = 0; j < transposed.getColumns(); j++) {
+            for (var p = pointers[j] + 1; p < pointers[j + 1]; p++) {
+                assertTrue(rowIndices[p - 1] < rowIndices[p]);
+            }
+        }
+    }
+
+    @Test
+    void testMultiplyByScalar() throws WrongSizeException {
+        final var dense = randomSparseDense();
+        final var sparse = SparseMatrix.newFromMatrix(dense);
+
+        sparse.multiplyByScalar(2.0);
+        assertEquals(dense.multiplyByScalarAndReturnNew(2.0), sparse.toMatrix());
+    }
+
+    @Test
+    void testLargeMatrix() throws WrongSizeException {
+        // a dense matrix of this size would require 80 GB
+        final var n = 100000;
+        final var builder = new SparseMatrix.Builder(n, n, 3 * n);
+        for (var i = 0; i < n; i++) {
+            builder.add(i, i, 2.0);
+            if (i > 0) {
+                builder.add(i, i - 1, -1.0);
+                builder.add(i - 1, i, -1.0);
+            }
+        }
+        final var m = builder.build();
+        assertEquals(3 * n - 2, m.getNonZeros());
+
+        final var x = new double[n];
+        Arrays.fill(x, 1.0);
+        final var y = m.multiplyAndReturnNew(x);
+        assertEquals(1.0, y[0], 0.0);
+        assertEquals(1.0, y[n - 1], 0.0);
+        for (var i = 1; i < n - 1; i++) {
+            assertEquals(0.0, y[i], 0.0);
+        }
+
+        // symmetric matrix
+        final var transposed = m.transposeAndReturnNew();
+        assertArrayEquals(m.getColumnPointers(), transposed.getColumnPointers());
+        assertArrayEquals(m.getRowIndices(), transposed.getRowIndices());
+        assertArrayEquals(m.getValues(), transposed.getValues(), 0.0);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, m::toMatrix);
+    }
+
+    private static Matrix randomSparseDense() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var m = new Matrix(rows, columns);
+        for (var j = 0; j < columns; j++) {
+            for (var i = 0; i < rows; i++) {
+                if (randomizer.nextDouble() < 0.2) {
+                    m.setElementAt(i, j, randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE));
+                }
+            }
+        }
+        return m;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymmetricMatrixTest {
+
+    private static final int MIN_SIZE = 1;
+    private static final int MAX_SIZE = 50;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var m = new SymmetricMatrix(4);
+        assertEquals(4, m.getSize());
+        assertEquals(10, m.getBuffer().length);
+        assertEquals(10, SymmetricMatrix.getPackedLength(4));
+        assertEquals(new Matrix(4, 4), m.toMatrix());
+
+        m.setElementAt(3, 1, 2.0);
+        final var copy = new SymmetricMatrix(m);
+        assertEquals(m, copy);
+        assertEquals(m.hashCode(), copy.hashCode());
+        assertNotSame(m.getBuffer(), copy.getBuffer());
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new SymmetricMatrix(0));
+        assertThrows(WrongSizeException.class, () -> new SymmetricMatrix(100000));
+    }
+
+    @Test
+    void testGetSetElements() throws WrongSizeException {
+        final var m = new SymmetricMatrix(4);
+
+        // symmetric positions share storage
+        m.setElementAt(3, 1, 2.0);
+        assertEquals(2.0, m.getElementAt(1, 3), 0.0);
+        assertEquals(2.0, m.getElementAt(3, 1), 0.0);
+        assertEquals(m.getIndex(1, 3), m.getIndex(3, 1));
+        assertEquals(1 + 6, m.getIndex(1, 3));
+
+        m.initialize(1.0);
+        for (var j = 0; j < 4; j++) {
+            for (var i = 0; i < 4; i++) {
+                assertEquals(1.0, m.getElementAt(i, j), 0.0);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(0, -1, 1.0));
+    }
+
+    @Test
+    void testConversion() throws WrongSizeException {
+        final var dense = randomSymmetric(new UniformRandomizer().nextInt(MIN_SIZE, MAX_SIZE));
+        final var m = SymmetricMatrix.newFromMatrix(dense);
+        assertEquals(dense, m.toMatrix());
+
+        final var result = new Matrix(1, 1);
+        m.copyTo(result);
+        assertEquals(dense, result);
+
+        // lower triangle is ignored
+        final var upper = new Matrix(dense);
+        for (var j = 0; j < upper.getColumns(); j++) {
+            for (var i = j + 1; i < upper.getRows(); i++) {
+                upper.setElementAt(i, j, Double.NaN);
+            }
+        }
+        assertEquals(m, SymmetricMatrix.newFromMatrix(upper));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> SymmetricMatrix.newFromMatrix(new Matrix(2, 3)));
+    }
+
+    @Test
+    void testArithmetic() throws WrongSizeException {
+        final var n = new UniformRandomizer().nextInt(MIN_SIZE, MAX_SIZE);
+        final var dense1 = randomSymmetric(n);
+        final var dense2 = randomSymmetric(n);
+        final var m1 = SymmetricMatrix.newFromMatrix(dense1);
+        final var m2 = SymmetricMatrix.newFromMatrix(dense2);
+
+        m1.add(m2);
+        assertTrue(dense1.addAndReturnNew(dense2).equals(m1.toMatrix(), ABSOLUTE_ERROR));
+
+        m1.subtract(m2);
+        m1.subtract(m2);
+        assertTrue(dense1.subtractAndReturnNew(dense2).equals(m1.toMatrix(), ABSOLUTE_ERROR));
+
+        m2.multiplyByScalar(3.0);
+        assertTrue(dense2.multiplyByScalarAndReturnNew(3.0).equals(m2.toMatrix(), ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        final var wrong = new SymmetricMatrix(n + 1);
+        assertThrows(WrongSizeException.class, () -> m1.add(wrong));
+        assertThrows(WrongSizeException.class, () -> m1.subtract(wrong));
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var dense = randomSymmetric(n);
+        final var m = SymmetricMatrix.newFromMatrix(dense);
+
+        final var x = new double[n];
+        randomizer.fill(x, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var expectedVector = dense.multiplyAndReturnNew(Matrix.newFromArray(x)).toArray();
+        assertArrayEquals(expectedVector, m.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+
+        final var result = new double[n];
+        m.multiply(x, result);
+        assertArrayEquals(expectedVector, result, ABSOLUTE_ERROR);
+
+        final var b = Matrix.createWithUniformRandomValues(n, randomizer.nextInt(MIN_SIZE, MAX_SIZE),
+                MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var expected = dense.multiplyAndReturnNew(b);
+        assertTrue(expected.equals(m.multiplyAndReturnNew(b), ABSOLUTE_ERROR));
+
+        final var result2 = new Matrix(1, 1);
+        m.multiply(b, result2);
+        assertTrue(expected.equals(result2, ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> m.multiply(new double[n + 1], result));
+        assertThrows(WrongSizeException.class, () -> m.multiply(x, new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> m.multiplyAndReturnNew(new Matrix(n + 1, 1)));
+        assertThrows(WrongSizeException.class, () -> m.multiply(new Matrix(n + 1, 1), result2));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(x, x));
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(b, b));
+    }
+
+    @Test
+    void testSyrk() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var columns = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var a = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var alpha = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var beta = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        // A' * A
+        final var initial1 = randomSymmetric(columns);
+        final var c1 = SymmetricMatrix.newFromMatrix(initial1);
+        SymmetricMatrix.syrk(alpha, a, true, beta, c1);
+        final var expected1 = a.transposeAndReturnNew().multiplyAndReturnNew(a);
+        expected1.multiplyByScalar(alpha);
+        expected1.add(initial1.multiplyByScalarAndReturnNew(beta));
+        assertTrue(expected1.equals(c1.toMatrix(), ABSOLUTE_ERROR));
+
+        // A * A'
+        final var initial2 = randomSymmetric(rows);
+        final var c2 = SymmetricMatrix.newFromMatrix(initial2);
+        SymmetricMatrix.syrk(alpha, a, false, beta, c2);
+        final var expected2 = a.multiplyAndReturnNew(a.transposeAndReturnNew());
+        expected2.multiplyByScalar(alpha);
+        expected2.add(initial2.multiplyByScalarAndReturnNew(beta));
+        assertTrue(expected2.equals(c2.toMatrix(), ABSOLUTE_ERROR));
+
+        // initial contents are ignored when beta is zero
+        final var c3 = new SymmetricMatrix(columns);
+        c3.initialize(Double.NaN);
+        SymmetricMatrix.syrk(1.0, a, true, 0.0, c3);
+        assertTrue(a.transposeAndReturnNew().multiplyAndReturnNew(a).equals(c3.toMatrix(), ABSOLUTE_ERROR));
+        assertEquals(c3, SymmetricMatrix.gram(a));
+
+        // only scales when alpha is zero
+        final var c4 = SymmetricMatrix.newFromMatrix(initial1);
+        SymmetricMatrix.syrk(0.0, a, true, 2.0, c4);
+        assertTrue(initial1.multiplyByScalarAndReturnNew(2.0).equals(c4.toMatrix(), ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> SymmetricMatrix.syrk(1.0, a, true, 0.0,
+                new SymmetricMatrix(columns + 1)));
+        assertThrows(WrongSizeException.class, () -> SymmetricMatrix.syrk(1.0, a, false, 0.0,
+                new SymmetricMatrix(rows + 1)));
+    }
+
+    @Test
+    void testCholesky() throws WrongSizeException, AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+
+        // symmetric positive definite matrix
+        final var a = Matrix.createWithUniformRandomValues(n + 2, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m = SymmetricMatrix.gram(a);
+        for (var i = 0; i < n; i++) {
+            m.setElementAt(i, i, m.getElementAt(i, i) + 1.0);
+        }
+        final var original = new SymmetricMatrix(m);
+        final var dense = m.toMatrix();
+
+        final var factor = m.cholesky();
+        assertEquals(original, m);
+        assertEquals(n, factor.getSize());
+        assertEquals(SymmetricMatrix.getPackedLength(n), factor.getPackedR().length);
+
+        // factor matches the one of dense decomposer
+        final var decomposer = new CholeskyDecomposer(dense);
+        decomposer.decompose();
+        final var r = factor.getR();
+        assertTrue(decomposer.getR().equals(r, ABSOLUTE_ERROR));
+        assertTrue(dense.equals(r.transposeAndReturnNew().multiplyAndReturnNew(r), ABSOLUTE_ERROR));
+
+        assertEquals(Utils.det(dense), factor.determinant(), ABSOLUTE_ERROR * Math.abs(Utils.det(dense)));
+
+        // solve
+        final var b = new double[n];
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var x = factor.solve(b);
+        assertArrayEquals(b, m.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+
+        final var x2 = b.clone();
+        factor.solve(x2, x2);
+        assertArrayEquals(x, x2, 0.0);
+
+        final var bm = Matrix.createWithUniformRandomValues(n, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var xm = factor.solve(bm);
+        assertTrue(bm.equals(dense.multiplyAndReturnNew(xm), ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> factor.solve(new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> factor.solve(b, new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> factor.solve(new Matrix(n + 1, 1)));
+
+        // Force NonSymmetricPositiveDefiniteMatrixException
+        final var indefinite = new SymmetricMatrix(2);
+        indefinite.setElementAt(0, 0, 1.0);
+        indefinite.setElementAt(0, 1, 2.0);
+        indefinite.setElementAt(1, 1, 1.0);
+        assertThrows(NonSymmetricPositiveDefiniteMatrixException.class, indefinite::cholesky);
+    }
+
+    private static Matrix randomSymmetric(final int n) throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var result = new Matrix(n, n);
+        m.symmetrize(result);
+        return result;
+    }
+}
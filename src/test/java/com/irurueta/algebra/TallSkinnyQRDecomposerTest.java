@@ -0,0 +1,327 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TallSkinnyQRDecomposerTest {
+
+    private static final int MIN_ROWS = 50;
+    private static final int MAX_ROWS = 200;
+    private static final int MIN_COLUMNS = 1;
+    private static final int MAX_COLUMNS = 8;
+    private static final int MIN_CHUNK_ROWS = 1;
+    private static final int MAX_CHUNK_ROWS = 20;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var m = new Matrix(MIN_ROWS, MIN_COLUMNS);
+        final var pool = ForkJoinPool.commonPool();
+
+        // Test 1st constructor
+        var decomposer = new TallSkinnyQRDecomposer();
+        assertFalse(decomposer.isReady());
+        assertFalse(decomposer.isLocked());
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertFalse(decomposer.isQAvailable());
+        assertNull(decomposer.getInputMatrix());
+        assertNull(decomposer.getPool());
+        assertEquals(TallSkinnyQRDecomposer.DEFAULT_CHUNK_ROWS, decomposer.getChunkRows());
+        assertEquals(DecomposerType.QR_ECONOMY_DECOMPOSITION, decomposer.getDecomposerType());
+
+        // Test 2nd constructor
+        decomposer = new TallSkinnyQRDecomposer(m);
+        assertTrue(decomposer.isReady());
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertSame(m, decomposer.getInputMatrix());
+        assertNull(decomposer.getPool());
+
+        // Test 3rd constructor
+        decomposer = new TallSkinnyQRDecomposer(m, pool);
+        assertTrue(decomposer.isReady());
+        assertSame(m, decomposer.getInputMatrix());
+        assertSame(pool, decomposer.getPool());
+    }
+
+    @Test
+    void testGetSetPool() throws LockedException {
+        final var decomposer = new TallSkinnyQRDecomposer();
+        final var pool = ForkJoinPool.commonPool();
+
+        decomposer.setPool(pool);
+        assertSame(pool, decomposer.getPool());
+
+        decomposer.setPool(null);
+        assertNull(decomposer.getPool());
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setPool(pool));
+    }
+
+    @Test
+    void testGetSetChunkRows() throws LockedException {
+        final var decomposer = new TallSkinnyQRDecomposer();
+
+        decomposer.setChunkRows(100);
+        assertEquals(100, decomposer.getChunkRows());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> decomposer.setChunkRows(0));
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.setChunkRows(10));
+    }
+
+    @Test
+    void testDecompose() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS, MAX_COLUMNS);
+
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new TallSkinnyQRDecomposer();
+
+        // Force NotReadyException
+        assertThrows(NotReadyException.class, decomposer::decompose);
+
+        decomposer.setInputMatrix(m);
+        decomposer.setChunkRows(randomizer.nextInt(MIN_CHUNK_ROWS, MAX_CHUNK_ROWS));
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, decomposer::getR);
+        assertThrows(NotAvailableException.class, decomposer::getQ);
+        assertThrows(NotAvailableException.class, decomposer::isFullRank);
+
+        decomposer.decompose();
+        assertTrue(decomposer.isDecompositionAvailable());
+        assertTrue(decomposer.isQAvailable());
+        assertFalse(decomposer.isLocked());
+        assertTrue(decomposer.isFullRank());
+
+        final var q = decomposer.getQ();
+        final var r = decomposer.getR();
+        assertEquals(rows, q.getRows());
+        assertEquals(columns, q.getColumns());
+        assertUpperTriangularWithNonNegativeDiagonal(r);
+        assertTrue(q.transposeAndReturnNew().multiplyAndReturnNew(q).equals(
+                Matrix.identity(columns, columns), ABSOLUTE_ERROR));
+        assertTrue(q.multiplyAndReturnNew(r).equals(m, ABSOLUTE_ERROR));
+
+        // R is unique up to the signs of its rows regardless of chunks
+        final var economy = new EconomyQRDecomposer(m);
+        economy.decompose();
+        final var expectedR = economy.getR();
+        for (var i = 0; i < columns; i++) {
+            for (var j = 0; j < columns; j++) {
+                assertEquals(Math.abs(expectedR.getElementAt(i, j)), Math.abs(r.getElementAt(i, j)),
+                        ABSOLUTE_ERROR);
+            }
+        }
+
+        // decomposing again reuses storage and obtains the same results
+        decomposer.decompose();
+        assertEquals(r, decomposer.getR());
+        assertEquals(q, decomposer.getQ());
+
+        // setting input matrix discards previous decomposition
+        decomposer.setInputMatrix(m);
+        assertFalse(decomposer.isDecompositionAvailable());
+        assertFalse(decomposer.isQAvailable());
+
+        // Force DecomposerException
+        decomposer.setInputMatrix(new Matrix(columns, columns + 1));
+        assertThrows(DecomposerException.class, decomposer::decompose);
+        assertFalse(decomposer.isLocked());
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, decomposer::decompose);
+        assertThrows(LockedException.class, () -> decomposer.setInputMatrix(m));
+    }
+
+    @Test
+    void testSolve() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS, MAX_COLUMNS);
+        final var colsB = randomizer.nextInt(1, 5);
+
+        final var m = Matrix.createWithUniformRandomValues(rows, columns, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(rows, colsB, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var decomposer = new TallSkinnyQRDecomposer(m);
+        decomposer.setChunkRows(randomizer.nextInt(MIN_CHUNK_ROWS, MAX_CHUNK_ROWS));
+
+        // Force NotAvailableException
+        assertThrows(NotAvailableException.class, () -> decomposer.solve(b));
+
+        decomposer.decompose();
+
+        final var economy = new EconomyQRDecomposer(m);
+        economy.decompose();
+        final var expected = economy.solve(b);
+
+        final var x = decomposer.solve(b);
+        assertTrue(expected.equals(x, ABSOLUTE_ERROR));
+
+        // solution can be stored into provided matrix, which is resized
+        final var x2 = new Matrix(1, 1);
+        decomposer.solve(b, x2);
+        assertEquals(x, x2);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> decomposer.solve(new Matrix(rows + 1, colsB)));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> decomposer.solve(b, -1.0));
+
+        // Force RankDeficientMatrixException
+        final var deficient = new Matrix(m);
+        for (var i = 0; i < rows; i++) {
+            deficient.setElementAt(i, 0, 0.0);
+        }
+        decomposer.setInputMatrix(deficient);
+        decomposer.decompose();
+        assertFalse(decomposer.isFullRank(ABSOLUTE_ERROR));
+        assertThrows(RankDeficientMatrixException.class, () -> decomposer.solve(b, ABSOLUTE_ERROR));
+    }
+
+    @Test
+    void testDecomposeParallel() throws AlgebraException {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var m = Matrix.createWithUniformRandomValues(2000, 20, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var b = Matrix.createWithUniformRandomValues(2000, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var sequential = new TallSkinnyQRDecomposer(m);
+            sequential.setChunkRows(64);
+            sequential.decompose();
+
+            final var parallel = new TallSkinnyQRDecomposer(m, pool);
+            parallel.setChunkRows(64);
+            parallel.decompose();
+
+            // parallel decomposition is identical to sequential one
+            assertEquals(sequential.getR(), parallel.getR());
+            assertEquals(sequential.getQ(), parallel.getQ());
+            assertEquals(sequential.solve(b), parallel.solve(b));
+
+            final var q = parallel.getQ();
+            assertTrue(q.multiplyAndReturnNew(parallel.getR()).equals(m, ABSOLUTE_ERROR));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDecomposeStreaming() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS, MAX_COLUMNS);
+
+        // right hand side is appended as last column
+        final var augmented = Matrix.createWithUniformRandomValues(rows, columns + 1,
+                MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m = augmented.getSubmatrix(0, 0, rows - 1, columns - 1);
+        final var b = augmented.getSubmatrix(0, columns, rows - 1, columns);
+
+        // chunks have random sizes, some of them having fewer rows than columns
+        final var chunks = new ArrayList<Matrix>();
+        var row = 0;
+        while (row < rows) {
+            final var chunkRows = Math.min(rows - row, randomizer.nextInt(1, 3 * MAX_COLUMNS));
+            chunks.add(augmented.getSubmatrix(row, 0, row + chunkRows - 1, columns));
+            row += chunkRows;
+        }
+
+        final var decomposer = new TallSkinnyQRDecomposer();
+        decomposer.decompose(chunks.iterator());
+        assertTrue(decomposer.isDecompositionAvailable());
+        assertFalse(decomposer.isQAvailable());
+        assertFalse(decomposer.isLocked());
+
+        // Q is not kept
+        assertThrows(NotAvailableException.class, decomposer::getQ);
+        assertThrows(NotAvailableException.class, () -> decomposer.solve(b));
+
+        final var r = decomposer.getR();
+        assertUpperTriangularWithNonNegativeDiagonal(r);
+
+        // leading block of R is the triangular factor of m
+        final var inMemory = new TallSkinnyQRDecomposer(m);
+        inMemory.decompose();
+        assertTrue(inMemory.getR().equals(r.getSubmatrix(0, 0, columns - 1, columns - 1), ABSOLUTE_ERROR));
+
+        // least squares solution and its residual are obtained from R
+        final var r11 = r.getSubmatrix(0, 0, columns - 1, columns - 1);
+        final var z = r.getSubmatrix(0, columns, columns - 1, columns);
+        final var x = Utils.solve(r11, z);
+        assertTrue(inMemory.solve(b).equals(x, ABSOLUTE_ERROR));
+
+        final var residual = m.multiplyAndReturnNew(x).subtractAndReturnNew(b);
+        assertEquals(Utils.normF(residual), r.getElementAt(columns, columns), ABSOLUTE_ERROR);
+
+        // results only depend on provided chunks
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var parallel = new TallSkinnyQRDecomposer(m, pool);
+            parallel.decompose(chunks.iterator());
+            assertEquals(r, parallel.getR());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Force DecomposerException
+        final List<Matrix> empty = Collections.emptyList();
+        assertThrows(DecomposerException.class, () -> decomposer.decompose(empty.iterator()));
+        assertFalse(decomposer.isLocked());
+        assertFalse(decomposer.isDecompositionAvailable());
+
+        final var mismatch = List.of(new Matrix(2, columns), new Matrix(2, columns + 1));
+        assertThrows(DecomposerException.class, () -> decomposer.decompose(mismatch.iterator()));
+        assertFalse(decomposer.isLocked());
+
+        // Force LockedException
+        decomposer.locked = true;
+        assertThrows(LockedException.class, () -> decomposer.decompose(chunks.iterator()));
+    }
+
+    private static void assertUpperTriangularWithNonNegativeDiagonal(final Matrix r) {
+        final var n = r.getColumns();
+        for (var j = 0; j < n; j++) {
+            assertTrue(r.getElementAt(j, j) >= 0.0);
+            for (var i = j + 1; i < n; i++) {
+                assertEquals(0.0, r.getElementAt(i, j), 0.0);
+            }
+        }
+    }
+}
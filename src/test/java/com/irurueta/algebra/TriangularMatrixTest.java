@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangularMatrixTest {
+
+    private static final int MIN_SIZE = 1;
+    private static final int MAX_SIZE = 50;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var m = new TriangularMatrix(3, true, false);
+        assertEquals(3, m.getSize());
+        assertTrue(m.isUpper());
+        assertFalse(m.isUnitDiagonal());
+        assertEquals(6, m.getBuffer().length);
+        assertEquals(new Matrix(3, 3), m.toMatrix());
+
+        final var unit = new TriangularMatrix(3, false, true);
+        assertFalse(unit.isUpper());
+        assertTrue(unit.isUnitDiagonal());
+        assertEquals(Matrix.identity(3, 3), unit.toMatrix());
+
+        final var copy = new TriangularMatrix(unit);
+        assertEquals(unit, copy);
+        assertEquals(unit.hashCode(), copy.hashCode());
+        assertNotEquals(m, unit);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new TriangularMatrix(0, true, false));
+        assertThrows(WrongSizeException.class, () -> new TriangularMatrix(Integer.MAX_VALUE, true, false));
+    }
+
+    @Test
+    void testNewFromMatrixAndElements() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var dense = Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        for (final var upper : new boolean[]{true, false}) {
+            for (final var unit : new boolean[]{true, false}) {
+                final var m = TriangularMatrix.newFromMatrix(dense, upper, unit);
+                final var expected = new Matrix(n, n);
+                for (var j = 0; j < n; j++) {
+                    for (var i = 0; i < n; i++) {
+                        final double value;
+                        if (i == j && unit) {
+                            value = 1.0;
+                        } else if (upper ? i <= j : i >= j) {
+                            value = dense.getElementAt(i, j);
+                        } else {
+                            value = 0.0;
+                        }
+                        expected.setElementAt(i, j, value);
+                        assertEquals(value, m.getElementAt(i, j), 0.0);
+                    }
+                }
+                assertEquals(expected, m.toMatrix());
+
+                final var result = new Matrix(1, 1);
+                m.copyTo(result);
+                assertEquals(expected, result);
+
+                final var transposed = m.transposeAndReturnNew();
+                assertEquals(!upper, transposed.isUpper());
+                assertEquals(expected.transposeAndReturnNew(), transposed.toMatrix());
+                assertEquals(m, transposed.transposeAndReturnNew());
+            }
+        }
+
+        final var m = TriangularMatrix.newFromMatrix(dense, false, false);
+        m.setElementAt(n - 1, 0, 5.0);
+        assertEquals(5.0, m.getElementAt(n - 1, 0), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(n, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(0, -1, 1.0));
+        if (n > 1) {
+            assertThrows(IllegalArgumentException.class, () -> m.setElementAt(0, 1, 1.0));
+        }
+        final var unit = TriangularMatrix.newFromMatrix(dense, true, true);
+        assertThrows(IllegalArgumentException.class, () -> unit.setElementAt(0, 0, 1.0));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class,
+                () -> TriangularMatrix.newFromMatrix(new Matrix(2, 3), true, false));
+    }
+
+    @Test
+    void testDeterminant() throws WrongSizeException {
+        final var dense = new Matrix(3, 3);
+        dense.setElementAt(0, 0, 2.0);
+        dense.setElementAt(1, 1, 3.0);
+        dense.setElementAt(2, 2, 4.0);
+        dense.setElementAt(0, 2, 7.0);
+
+        final var m = TriangularMatrix.newFromMatrix(dense, true, false);
+        assertEquals(24.0, m.determinant(), 0.0);
+        assertFalse(m.isSingular());
+        assertEquals(1.0, TriangularMatrix.newFromMatrix(dense, true, true).determinant(), 0.0);
+
+        m.setElementAt(1, 1, 0.0);
+        assertTrue(m.isSingular());
+        assertEquals(0.0, m.determinant(), 0.0);
+    }
+
+    @Test
+    void testSolveVector() throws WrongSizeException, SingularMatrixException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+
+        for (final var upper : new boolean[]{true, false}) {
+            for (final var unit : new boolean[]{true, false}) {
+                final var m = TriangularMatrix.newFromMatrix(createWellConditioned(n), upper, unit);
+                final var b = new double[n];
+                randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                final var x = m.solve(b);
+                final var product = m.toMatrix().multiplyAndReturnNew(Matrix.newFromArray(x)).toArray();
+                assertArrayEquals(b, product, ABSOLUTE_ERROR);
+
+                // solve in place
+                final var inPlace = b.clone();
+                m.solve(inPlace, inPlace);
+                assertArrayEquals(x, inPlace, 0.0);
+            }
+        }
+
+        final var m = TriangularMatrix.newFromMatrix(createWellConditioned(n), true, false);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> m.solve(new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> m.solve(new double[n], new double[n + 1]));
+
+        // Force SingularMatrixException
+        m.setElementAt(0, 0, 0.0);
+        assertThrows(SingularMatrixException.class, () -> m.solve(new double[n]));
+    }
+
+    @Test
+    void testSolveMatrix() throws WrongSizeException, SingularMatrixException {
+        final var randomizer = new UniformRandomizer();
+
+        // sizes smaller and larger than block size of triangular solver
+        for (final var n : new int[]{randomizer.nextInt(MIN_SIZE, MAX_SIZE), 150}) {
+            for (final var colsB : new int[]{1, 2 * TriangularMatrix.MIN_BLOCKED_COLUMNS, 70}) {
+                for (final var upper : new boolean[]{true, false}) {
+                    for (final var unit : new boolean[]{true, false}) {
+                        final var m = TriangularMatrix.newFromMatrix(createWellConditioned(n), upper, unit);
+                        final var b = Matrix.createWithUniformRandomValues(n, colsB, MIN_RANDOM_VALUE,
+                                MAX_RANDOM_VALUE);
+
+                        final var x = m.solve(b);
+                        assertEquals(n, x.getRows());
+                        assertEquals(colsB, x.getColumns());
+                        assertTrue(b.equals(m.toMatrix().multiplyAndReturnNew(x), ABSOLUTE_ERROR));
+
+                        // solving each column separately gives the same result
+                        for (var j = 0; j < colsB; j++) {
+                            final var column = m.solve(b.getSubmatrixAsArray(0, j, n - 1, j));
+                            assertArrayEquals(column, x.getSubmatrixAsArray(0, j, n - 1, j), ABSOLUTE_ERROR);
+                        }
+
+                        // solve in place
+                        final var inPlace = new Matrix(b);
+                        m.solve(inPlace, inPlace);
+                        assertTrue(x.equals(inPlace, ABSOLUTE_ERROR));
+                    }
+                }
+            }
+        }
+
+        final var m = TriangularMatrix.newFromMatrix(createWellConditioned(3), false, false);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> m.solve(new Matrix(4, 2)));
+
+        // Force SingularMatrixException
+        m.setElementAt(2, 2, 0.0);
+        assertThrows(SingularMatrixException.class, () -> m.solve(new Matrix(3, 2)));
+    }
+
+    @Test
+    void testSolveMatrixOnPackedStorage() throws WrongSizeException, SingularMatrixException {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var n = 300;
+        final var colsB = 2 * TriangularMatrix.MIN_BLOCKED_COLUMNS;
+        final var a = createWellConditioned(n);
+        final var b = Matrix.createWithUniformRandomValues(n, colsB, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        for (final var upper : new boolean[]{true, false}) {
+            for (final var unit : new boolean[]{true, false}) {
+                final var m = TriangularMatrix.newFromMatrix(a, upper, unit);
+
+                // result is identical to solving a dense copy
+                final var expected = new Matrix(b);
+                TriangularSolver.solve(upper, false, unit, null, n, colsB, a.getBuffer(), 0, n,
+                        expected.getBuffer(), 0, n);
+                final var x = new Matrix(b);
+                m.solve(x, x);
+                assertArrayEquals(expected.getBuffer(), x.getBuffer(), 0.0);
+
+                // no dense copy of the triangle is made
+                if (threadBean.isThreadAllocatedMemorySupported()) {
+                    threadBean.setThreadAllocatedMemoryEnabled(true);
+                    final var threadId = Thread.currentThread().getId();
+                    final var before = threadBean.getThreadAllocatedBytes(threadId);
+                    m.solve(x, x);
+                    final var after = threadBean.getThreadAllocatedBytes(threadId);
+                    assertTrue(after - before < (long) n * n * Double.BYTES / 2);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTriangularSolverTransposed() throws WrongSizeException {
+        final var n = 150;
+        final var colsB = 10;
+        final var a = createWellConditioned(n);
+        final var b = Matrix.createWithUniformRandomValues(n, colsB, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        for (final var upper : new boolean[]{true, false}) {
+            final var triangular = TriangularMatrix.newFromMatrix(a, upper, false).toMatrix();
+
+            // other triangle of a is ignored
+            final var x = new Matrix(b);
+            TriangularSolver.solve(upper, true, false, null, n, colsB, a.getBuffer(), 0, n,
+                    x.getBuffer(), 0, n);
+            assertTrue(b.equals(triangular.transposeAndReturnNew().multiplyAndReturnNew(x), ABSOLUTE_ERROR));
+        }
+    }
+
+    private static Matrix createWellConditioned(final int n) throws WrongSizeException {
+        final var m = Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        m.multiplyByScalar(1.0 / n);
+        for (var i = 0; i < n; i++) {
+            m.setElementAt(i, i, 1.0 + m.getElementAt(i, i));
+        }
+        return m;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TridiagonalMatrixTest {
+
+    private static final int MIN_SIZE = 2;
+    private static final int MAX_SIZE = 50;
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var m = new TridiagonalMatrix(4);
+        assertEquals(4, m.getSize());
+        assertEquals(3, m.getLower().length);
+        assertEquals(4, m.getDiagonal().length);
+        assertEquals(3, m.getUpper().length);
+        assertEquals(new Matrix(4, 4), m.toMatrix());
+
+        final var m2 = new TridiagonalMatrix(new double[]{1.0, 2.0}, new double[]{3.0, 4.0, 5.0},
+                new double[]{6.0, 7.0});
+        assertEquals(1.0, m2.getElementAt(1, 0), 0.0);
+        assertEquals(2.0, m2.getElementAt(2, 1), 0.0);
+        assertEquals(4.0, m2.getElementAt(1, 1), 0.0);
+        assertEquals(6.0, m2.getElementAt(0, 1), 0.0);
+        assertEquals(7.0, m2.getElementAt(1, 2), 0.0);
+        assertEquals(0.0, m2.getElementAt(2, 0), 0.0);
+
+        final var copy = new TridiagonalMatrix(m2);
+        assertEquals(m2, copy);
+        assertEquals(m2.hashCode(), copy.hashCode());
+        assertNotEquals(m, m2);
+
+        final var single = new TridiagonalMatrix(1);
+        assertEquals(0, single.getLower().length);
+        assertEquals(new BandedMatrix(1, 0, 0), single.toBandedMatrix());
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> new TridiagonalMatrix(0));
+        assertThrows(WrongSizeException.class,
+                () -> new TridiagonalMatrix(new double[1], new double[3], new double[2]));
+    }
+
+    @Test
+    void testNewFromMatrixAndElements() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var n = randomizer.nextInt(MIN_SIZE, MAX_SIZE);
+        final var dense = Matrix.createWithUniformRandomValues(n, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var m = TridiagonalMatrix.newFromMatrix(dense);
+        final var banded = BandedMatrix.newFromMatrix(dense, 1, 1);
+        assertEquals(banded.toMatrix(), m.toMatrix());
+        assertEquals(banded, m.toBandedMatrix());
+        for (var j = 0; j < n; j++) {
+            for (var i = 0; i < n; i++) {
+                assertEquals(banded.getElementAt(i, j), m.getElementAt(i, j), 0.0);
+            }
+        }
+
+        m.setElementAt(1, 0, 5.0);
+        m.setElementAt(0, 1, 6.0);
+        m.setElementAt(1, 1, 7.0);
+        assertEquals(5.0, m.getLower()[0], 0.0);
+        assertEquals(6.0, m.getUpper()[0], 0.0);
+        assertEquals(7.0, m.getDiagonal()[1], 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.getElementAt(n, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.setElementAt(0, n, 1.0));
+        if (n > 2) {
+            assertThrows(IllegalArgumentException.class, () -> m.setElementAt(2, 0, 1.0));
+        }
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> TridiagonalMatrix.newFromMatrix(new Matrix(2, 3)));
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var m = createRandom(new UniformRandomizer().nextInt(MIN_SIZE, MAX_SIZE));
+        final var n = m.getSize();
+        final var x = new double[n];
+        new UniformRandomizer().fill(x, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var expected = m.toMatrix().multiplyAndReturnNew(Matrix.newFromArray(x)).toArray();
+        assertArrayEquals(expected, m.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> m.multiplyAndReturnNew(new double[n + 1]));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(x, x));
+    }
+
+    @Test
+    void testSolve() throws WrongSizeException, SingularMatrixException {
+        final var randomizer = new UniformRandomizer();
+        final var m = createRandom(randomizer.nextInt(MIN_SIZE, MAX_SIZE));
+        final var n = m.getSize();
+        final var dense = m.toMatrix();
+
+        final var b = new double[n];
+        randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var x = m.solve(b);
+        assertArrayEquals(b, m.multiplyAndReturnNew(x), ABSOLUTE_ERROR);
+        assertArrayEquals(m.toBandedMatrix().solve(b), x, ABSOLUTE_ERROR);
+
+        final var inPlace = b.clone();
+        m.solve(inPlace, inPlace);
+        assertArrayEquals(x, inPlace, 0.0);
+
+        final var bMatrix = Matrix.createWithUniformRandomValues(n, 3, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var xMatrix = m.solve(bMatrix);
+        assertTrue(bMatrix.equals(dense.multiplyAndReturnNew(xMatrix), ABSOLUTE_ERROR));
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, () -> m.solve(new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> m.solve(b, new double[n + 1]));
+        assertThrows(WrongSizeException.class, () -> m.solve(new Matrix(n + 1, 1)));
+
+        // Force SingularMatrixException
+        final var singular = new TridiagonalMatrix(3);
+        assertThrows(SingularMatrixException.class, () -> singular.solve(new double[3]));
+        assertThrows(SingularMatrixException.class, () -> singular.solve(new Matrix(3, 1)));
+    }
+
+    @Test
+    void testLargeSystem() throws WrongSizeException, SingularMatrixException {
+        // second order finite differences with a million unknowns
+        final var n = 1000000;
+        final var m = new TridiagonalMatrix(n);
+        Arrays.fill(m.getDiagonal(), 4.0);
+        Arrays.fill(m.getLower(), -1.0);
+        Arrays.fill(m.getUpper(), -1.0);
+
+        final var expected = new double[n];
+        for (var i = 0; i < n; i++) {
+            expected[i] = Math.cos(1e-4 * i);
+        }
+        final var b = m.multiplyAndReturnNew(expected);
+
+        final var x = m.solve(b);
+        assertArrayEquals(expected, x, ABSOLUTE_ERROR);
+
+        // Force WrongSizeException
+        assertThrows(WrongSizeException.class, m::toMatrix);
+    }
+
+    private static TridiagonalMatrix createRandom(final int n) throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var lower = new double[n - 1];
+        final var diagonal = new double[n];
+        final var upper = new double[n - 1];
+        randomizer.fill(lower, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        randomizer.fill(upper, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        // diagonally dominant matrix
+        randomizer.fill(diagonal, 3.0, 4.0);
+        return new TridiagonalMatrix(lower, diagonal, upper);
+    }
+}
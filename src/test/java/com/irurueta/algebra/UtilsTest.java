@@ -92,6 +92,55 @@ class UtilsTest {
         assertEquals(rank, Utils.rank(m), ABSOLUTE_ERROR);
     }
 
+    @Test
+    void testRankWithDecomposerType() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 1, MAX_COLUMNS);
+        final var rank = randomizer.nextInt(1, Math.min(rows, columns));
+
+        final var m = Matrix.createWithUniformRandomValues(rows, rank, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE)
+                .multiplyAndReturnNew(Matrix.createWithUniformRandomValues(rank, columns,
+                        MIN_RANDOM_VALUE, MAX_RANDOM_VALUE));
+
+        assertEquals(rank, Utils.rank(m, DecomposerType.SINGULAR_VALUE_DECOMPOSITION));
+        assertEquals(rank, Utils.rank(m, DecomposerType.PIVOTED_QR_DECOMPOSITION));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Utils.rank(m, DecomposerType.LU_DECOMPOSITION));
+    }
+
+    @Test
+    void testNullspace() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 1, MAX_COLUMNS);
+        final var rank = randomizer.nextInt(1, Math.min(rows, columns));
+
+        final var m = Matrix.createWithUniformRandomValues(rows, rank, -1.0, 1.0)
+                .multiplyAndReturnNew(Matrix.createWithUniformRandomValues(rank, columns, -1.0, 1.0));
+        final var nullity = columns - rank;
+
+        for (final var type : new DecomposerType[]{DecomposerType.SINGULAR_VALUE_DECOMPOSITION,
+                DecomposerType.PIVOTED_QR_DECOMPOSITION}) {
+            final var nullspace = Utils.nullspace(m, type);
+            assertEquals(columns, nullspace.getRows());
+            assertEquals(nullity, nullspace.getColumns());
+            assertTrue(m.multiplyAndReturnNew(nullspace).equals(new Matrix(rows, nullity), ABSOLUTE_ERROR));
+            assertTrue(nullspace.transposeAndReturnNew().multiplyAndReturnNew(nullspace).equals(
+                    Matrix.identity(nullity, nullity), ABSOLUTE_ERROR));
+        }
+        assertEquals(nullity, Utils.nullspace(m).getColumns());
+
+        // Force DecomposerException
+        final var full = Matrix.createWithUniformRandomValues(columns + 1, columns, -1.0, 1.0);
+        assertThrows(DecomposerException.class, () -> Utils.nullspace(full,
+                DecomposerType.PIVOTED_QR_DECOMPOSITION));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Utils.nullspace(m, DecomposerType.LU_DECOMPOSITION));
+    }
+
     @Test
     void testDet() throws WrongSizeException, NotReadyException, LockedException, DecomposerException,
             NotAvailableException {
@@ -438,6 +487,27 @@ class UtilsTest {
         assertTrue(identity.equals(Matrix.identity(columns, columns), BIG_ROUND_ERROR));
     }
 
+    @Test
+    void testPseudoInverseWithDecomposerType() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var columns = randomizer.nextInt(MIN_COLUMNS + 1, MAX_COLUMNS);
+        final var rank = randomizer.nextInt(1, Math.min(rows, columns) + 1);
+
+        final var m = Matrix.createWithUniformRandomValues(rows, rank, -1.0, 1.0)
+                .multiplyAndReturnNew(Matrix.createWithUniformRandomValues(rank, columns, -1.0, 1.0));
+
+        final var expected = Utils.pseudoInverse(m);
+        assertTrue(expected.equals(Utils.pseudoInverse(m, DecomposerType.SINGULAR_VALUE_DECOMPOSITION),
+                ABSOLUTE_ERROR));
+        assertTrue(expected.equals(Utils.pseudoInverse(m, DecomposerType.PIVOTED_QR_DECOMPOSITION),
+                ABSOLUTE_ERROR));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Utils.pseudoInverse(m,
+                DecomposerType.CHOLESKY_DECOMPOSITION));
+    }
+
     @Test
     void testSkew1() throws WrongSizeException {
 
@@ -1425,4 +1495,51 @@ class UtilsTest {
         assertThrows(IllegalArgumentException.class, () -> Utils.schurcAndReturnNew(m, size));
         assertThrows(IllegalArgumentException.class, () -> Utils.schurcAndReturnNew(m, 0));
     }
+
+    @Test
+    void testWorkspace() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var size = randomizer.nextInt(MIN_ROWS + 1, MAX_ROWS);
+        final var pos = randomizer.nextInt(1, size);
+        final var workspace = new Workspace();
+
+        // diagonally dominant matrices are well conditioned
+        final var m = Matrix.createWithUniformRandomValues(size, size, -1.0, 1.0);
+        m.add(Matrix.identity(size, size).multiplyByScalarAndReturnNew(size));
+        final var tall = Matrix.createWithUniformRandomValues(size + 1, size, -1.0, 1.0);
+        final var b = Matrix.createWithUniformRandomValues(size, 2, -1.0, 1.0);
+        final var spd = DecomposerHelper.getSymmetricPositiveDefiniteMatrixInstance(
+                DecomposerHelper.getLeftLowerTriangulatorFactor(size));
+
+        // results are the same whether decomposers are reused or not
+        for (var t = 0; t < 2; t++) {
+            assertEquals(Utils.cond(m), Utils.cond(m, workspace), ABSOLUTE_ERROR);
+            assertEquals(Utils.rank(m), Utils.rank(m, workspace));
+            assertEquals(Utils.rank(m, DecomposerType.PIVOTED_QR_DECOMPOSITION),
+                    Utils.rank(m, DecomposerType.PIVOTED_QR_DECOMPOSITION, workspace));
+            assertEquals(Utils.det(m), Utils.det(m, workspace), ABSOLUTE_ERROR * Math.abs(Utils.det(m)));
+            assertEquals(Utils.norm2(m), Utils.norm2(m, workspace), ABSOLUTE_ERROR);
+            assertTrue(Utils.solve(m, b).equals(Utils.solve(m, b, workspace), ABSOLUTE_ERROR));
+            assertTrue(Utils.inverse(m).equals(Utils.inverse(m, workspace), ABSOLUTE_ERROR));
+            assertTrue(Utils.pseudoInverse(tall).equals(Utils.pseudoInverse(tall, workspace), ABSOLUTE_ERROR));
+            assertTrue(Utils.pseudoInverse(tall, DecomposerType.PIVOTED_QR_DECOMPOSITION).equals(
+                    Utils.pseudoInverse(tall, DecomposerType.PIVOTED_QR_DECOMPOSITION, workspace),
+                    ABSOLUTE_ERROR));
+            assertArrayEquals(Utils.solve(m, b.getSubmatrixAsArray(0, 0, size - 1, 0)),
+                    Utils.solve(m, b.getSubmatrixAsArray(0, 0, size - 1, 0), workspace), ABSOLUTE_ERROR);
+
+            final var result = new Matrix(size, 2);
+            Utils.solve(m, b, result, workspace);
+            assertTrue(Utils.solve(m, b).equals(result, ABSOLUTE_ERROR));
+
+            final var inverse = new Matrix(size, size);
+            Utils.inverse(m, inverse, workspace);
+            assertTrue(Utils.inverse(m).equals(inverse, ABSOLUTE_ERROR));
+
+            final var schurc = new Matrix(size - pos, size - pos);
+            final var iA = new Matrix(pos, pos);
+            Utils.schurc(spd, pos, true, false, schurc, iA, workspace);
+            assertTrue(Utils.schurcAndReturnNew(spd, pos).equals(schurc, ABSOLUTE_ERROR));
+        }
+    }
 }
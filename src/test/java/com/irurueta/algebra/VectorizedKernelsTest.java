@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests kernels using the Vector API.
+ * This test is run by a separate surefire execution where the
+ * jdk.incubator.vector module is enabled.
+ */
+class VectorizedKernelsTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final int MIN_LENGTH = 1;
+    private static final int MAX_LENGTH = 1000;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testInstance() {
+        assertTrue(Kernels.INSTANCE.isVectorized());
+        assertEquals(Kernels.VECTORIZED_KERNELS_CLASS, Kernels.INSTANCE.getClass().getName());
+    }
+
+    @Test
+    void testDotProduct() {
+        final var randomizer = new UniformRandomizer();
+        final var scalar = new Kernels();
+        for (var t = 0; t < TIMES; t++) {
+            // lengths are not multiple of vector length so that tails are tested
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var a = new double[length];
+            final var b = new double[length];
+            randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            assertEquals(scalar.dotProduct(a, b, length), Kernels.INSTANCE.dotProduct(a, b, length),
+                    ABSOLUTE_ERROR * length);
+            assertEquals(ArrayUtils.dotProduct(a, b), Kernels.INSTANCE.dotProduct(a, b, length), 0.0);
+        }
+    }
+
+    @Test
+    void testElementWiseOperations() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var scalarKernels = new Kernels();
+        for (var t = 0; t < TIMES; t++) {
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var a = new double[length];
+            final var b = new double[length];
+            randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var scalar = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var expected = new double[length];
+            final var result = new double[length];
+
+            // element-wise operations are exact
+            scalarKernels.sum(a, b, expected, length);
+            Kernels.INSTANCE.sum(a, b, result, length);
+            assertArrayEquals(expected, result, 0.0);
+            assertArrayEquals(expected, ArrayUtils.sumAndReturnNew(a, b), 0.0);
+
+            scalarKernels.subtract(a, b, expected, length);
+            Kernels.INSTANCE.subtract(a, b, result, length);
+            assertArrayEquals(expected, result, 0.0);
+            assertArrayEquals(expected, ArrayUtils.subtractAndReturnNew(a, b), 0.0);
+
+            scalarKernels.multiply(a, b, expected, length);
+            Kernels.INSTANCE.multiply(a, b, result, length);
+            assertArrayEquals(expected, result, 0.0);
+
+            scalarKernels.multiplyByScalar(a, scalar, expected, length);
+            Kernels.INSTANCE.multiplyByScalar(a, scalar, result, length);
+            assertArrayEquals(expected, result, 0.0);
+            assertArrayEquals(expected, ArrayUtils.multiplyByScalarAndReturnNew(a, scalar), 0.0);
+
+            // matrices
+            final var m1 = Matrix.newFromArray(a);
+            final var m2 = Matrix.newFromArray(b);
+            final var product = m1.elementByElementProductAndReturnNew(m2);
+            scalarKernels.multiply(a, b, expected, length);
+            assertArrayEquals(expected, product.getBuffer(), 0.0);
+        }
+    }
+
+    @Test
+    void testMultiply() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            // sizes are not multiple of tile sizes so that edges are tested
+            final var m = randomizer.nextInt(50, 200);
+            final var n = randomizer.nextInt(50, 200);
+            final var k = randomizer.nextInt(50, 400);
+
+            final var a = Matrix.createWithUniformRandomValues(m, k, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var b = Matrix.createWithUniformRandomValues(k, n, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var result = a.multiplyAndReturnNew(b);
+
+            for (var j = 0; j < n; j++) {
+                for (var i = 0; i < m; i++) {
+                    var expected = 0.0;
+                    for (var p = 0; p < k; p++) {
+                        expected += a.getElementAt(i, p) * b.getElementAt(p, j);
+                    }
+                    assertEquals(expected, result.getElementAt(i, j), ABSOLUTE_ERROR * k);
+                }
+            }
+        }
+    }
+}
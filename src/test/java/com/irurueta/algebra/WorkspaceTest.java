@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.algebra;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class WorkspaceTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final int SIZE = 50;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    @Test
+    void testCurrent() throws InterruptedException {
+        final var workspace = Workspace.current();
+        assertNotNull(workspace);
+        assertSame(workspace, Workspace.current());
+
+        final var other = new AtomicReference<Workspace>();
+        final var thread = new Thread(() -> other.set(Workspace.current()));
+        thread.start();
+        thread.join();
+
+        assertNotNull(other.get());
+        assertNotSame(workspace, other.get());
+    }
+
+    @Test
+    void testRemoveCurrent() throws WrongSizeException {
+        final var workspace = Workspace.current();
+        final var m = new Matrix(SIZE, SIZE);
+        final var lu = workspace.getLUDecomposer(m);
+        assertSame(lu, workspace.getLUDecomposer(m));
+
+        Workspace.removeCurrent();
+
+        // cached decomposers are released and a new workspace is created
+        assertNotSame(lu, workspace.getLUDecomposer(m));
+        final var current = Workspace.current();
+        assertNotSame(workspace, current);
+        assertSame(current, Workspace.current());
+
+        // removing twice has no effect
+        Workspace.removeCurrent();
+        Workspace.removeCurrent();
+        assertNotSame(current, Workspace.current());
+    }
+
+    @Test
+    void testGetDecomposers() throws WrongSizeException {
+        final var workspace = new Workspace();
+        final var m1 = Matrix.createWithUniformRandomValues(SIZE, SIZE, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var m2 = Matrix.createWithUniformRandomValues(SIZE, SIZE, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var lu = workspace.getLUDecomposer(m1);
+        assertSame(m1, lu.getInputMatrix());
+        assertSame(lu, workspace.getLUDecomposer(m2));
+        assertSame(m2, lu.getInputMatrix());
+
+        final var cholesky = workspace.getCholeskyDecomposer(m1);
+        assertSame(m1, cholesky.getInputMatrix());
+        assertSame(cholesky, workspace.getCholeskyDecomposer(m2));
+        assertSame(m2, cholesky.getInputMatrix());
+
+        final var svd = workspace.getSingularValueDecomposer(m1);
+        assertSame(m1, svd.getInputMatrix());
+        assertSame(svd, workspace.getSingularValueDecomposer(m2));
+        assertSame(m2, svd.getInputMatrix());
+
+        final var qr = workspace.getEconomyQRDecomposer(m1);
+        assertSame(m1, qr.getInputMatrix());
+        assertSame(qr, workspace.getEconomyQRDecomposer(m2));
+        assertSame(m2, qr.getInputMatrix());
+
+        // storage of cached decomposers is reused
+        assertTrue(lu.isStorageReused());
+        assertTrue(cholesky.isStorageReused());
+        assertTrue(svd.isStorageReused());
+
+        final var pivotedQR = workspace.getPivotedQRDecomposer(m1);
+        assertSame(m1, pivotedQR.getInputMatrix());
+        assertSame(pivotedQR, workspace.getPivotedQRDecomposer(m2));
+        assertSame(m2, pivotedQR.getInputMatrix());
+
+        // locked decomposers are not reused
+        lu.locked = true;
+        final var lu2 = workspace.getLUDecomposer(m1);
+        assertNotSame(lu, lu2);
+        assertSame(m1, lu2.getInputMatrix());
+        assertSame(m2, lu.getInputMatrix());
+        lu.locked = false;
+        assertSame(lu, workspace.getLUDecomposer(m1));
+
+        // pool is propagated to LU, Cholesky and economy QR decomposers
+        assertNull(workspace.getPool());
+        final var pool = ForkJoinPool.commonPool();
+        workspace.setPool(pool);
+        assertSame(pool, workspace.getPool());
+        assertSame(pool, workspace.getLUDecomposer(m1).getPool());
+        assertSame(pool, workspace.getCholeskyDecomposer(m1).getPool());
+        assertSame(pool, workspace.getEconomyQRDecomposer(m1).getPool());
+        workspace.setPool(null);
+        assertNull(workspace.getLUDecomposer(m1).getPool());
+        assertNull(workspace.getCholeskyDecomposer(m1).getPool());
+        assertNull(workspace.getEconomyQRDecomposer(m1).getPool());
+
+        workspace.clear();
+
+        assertNotSame(lu, workspace.getLUDecomposer(m1));
+        assertNotSame(cholesky, workspace.getCholeskyDecomposer(m1));
+        assertNotSame(svd, workspace.getSingularValueDecomposer(m1));
+        assertNotSame(qr, workspace.getEconomyQRDecomposer(m1));
+        assertNotSame(pivotedQR, workspace.getPivotedQRDecomposer(m1));
+    }
+
+    @Test
+    void testLargeMatricesAreNotCached() throws WrongSizeException {
+        final var workspace = new Workspace();
+        final var large = new Matrix(Workspace.MAX_CACHED_ELEMENTS / SIZE + 1, SIZE);
+
+        assertNotSame(workspace.getLUDecomposer(large), workspace.getLUDecomposer(large));
+        assertNotSame(workspace.getCholeskyDecomposer(large), workspace.getCholeskyDecomposer(large));
+        assertNotSame(workspace.getSingularValueDecomposer(large), workspace.getSingularValueDecomposer(large));
+        assertNotSame(workspace.getEconomyQRDecomposer(large), workspace.getEconomyQRDecomposer(large));
+        assertNotSame(workspace.getPivotedQRDecomposer(large), workspace.getPivotedQRDecomposer(large));
+        assertSame(large, workspace.getLUDecomposer(large).getInputMatrix());
+        assertFalse(workspace.getLUDecomposer(large).isStorageReused());
+    }
+
+    @Test
+    void testRelease() throws AlgebraException {
+        final var workspace = new Workspace();
+        final var m = Matrix.createWithUniformRandomValues(SIZE, SIZE, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var lu = workspace.getLUDecomposer(m);
+        workspace.release(lu);
+        assertNull(lu.getInputMatrix());
+
+        // locked decomposers are left unchanged
+        lu.setInputMatrix(m);
+        lu.locked = true;
+        workspace.release(lu);
+        assertSame(m, lu.getInputMatrix());
+        lu.locked = false;
+
+        // utils release input matrices of workspace decomposers once consumed
+        Utils.det(m, workspace);
+        assertNull(lu.getInputMatrix());
+
+        final var svd = workspace.getSingularValueDecomposer(m);
+        Utils.rank(m, workspace);
+        assertNull(svd.getInputMatrix());
+
+        final var pivotedQR = workspace.getPivotedQRDecomposer(m);
+        Utils.rank(m, DecomposerType.PIVOTED_QR_DECOMPOSITION, workspace);
+        assertNull(pivotedQR.getInputMatrix());
+
+        final var cholesky = workspace.getCholeskyDecomposer(m);
+        final var spd = m.transposeAndReturnNew().multiplyAndReturnNew(m);
+        Utils.schurc(spd, SIZE / 2, true, false, new Matrix(1, 1), new Matrix(1, 1), workspace);
+        assertNull(cholesky.getInputMatrix());
+    }
+
+    @Test
+    void testReusedDecomposersProduceSameResults() throws AlgebraException {
+        final var workspace = new Workspace();
+
+        for (var t = 0; t < 3; t++) {
+            final var m = Matrix.createWithUniformRandomValues(SIZE, SIZE, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var spd = m.transposeAndReturnNew().multiplyAndReturnNew(m);
+
+            final var expected = new LUDecomposer(m);
+            expected.decompose();
+
+            final var lu = workspace.getLUDecomposer(m);
+            lu.decompose();
+            assertEquals(expected.determinant(), lu.determinant(), ABSOLUTE_ERROR);
+            assertArrayEquals(expected.getPivot(), lu.getPivot());
+
+            final var cholesky = workspace.getCholeskyDecomposer(spd);
+            cholesky.decompose();
+            final var r = cholesky.getR();
+            assertTrue(spd.equals(r.transposeAndReturnNew().multiplyAndReturnNew(r), ABSOLUTE_ERROR));
+
+            final var svd = workspace.getSingularValueDecomposer(m);
+            svd.decompose();
+            final var u = svd.getU();
+            final var w = svd.getW();
+            final var v = svd.getV();
+            assertTrue(m.equals(u.multiplyAndReturnNew(w).multiplyAndReturnNew(v.transposeAndReturnNew()),
+                    ABSOLUTE_ERROR));
+
+            final var qr = workspace.getEconomyQRDecomposer(m);
+            qr.decompose();
+            assertTrue(m.equals(qr.getQ().multiplyAndReturnNew(qr.getR()), ABSOLUTE_ERROR));
+        }
+    }
+
+    @Test
+    void testDecomposeDoesNotAllocate() throws AlgebraException {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final var workspace = new Workspace();
+        final var m = Matrix.createWithUniformRandomValues(SIZE, SIZE, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var spd = m.transposeAndReturnNew().multiplyAndReturnNew(m);
+        final var b = Matrix.createWithUniformRandomValues(SIZE, 2, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var result = new Matrix(SIZE, 2);
+
+        // first calls grow storage of decomposers
+        decomposeAndSolve(workspace, m, spd, b, result);
+
+        final var threadId = Thread.currentThread().getId();
+        final var before = threadBean.getThreadAllocatedBytes(threadId);
+        decomposeAndSolve(workspace, m, spd, b, result);
+        final var after = threadBean.getThreadAllocatedBytes(threadId);
+
+        // less than the size of any matrix involved
+        assertTrue(after - before < 1024);
+    }
+
+    @Test
+    void testUtilsDoesNotAllocate() throws AlgebraException {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final var workspace = new Workspace();
+        final var m = Matrix.createWithUniformRandomValues(SIZE, SIZE, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var b = Matrix.createWithUniformRandomValues(SIZE, 2, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var result = new Matrix(SIZE, 2);
+
+        // first calls grow storage of workspace
+        Utils.det(m, workspace);
+        Utils.solve(m, b, result, workspace);
+        Utils.cond(m, workspace);
+        Utils.rank(m, workspace);
+
+        final var threadId = Thread.currentThread().getId();
+        final var before = threadBean.getThreadAllocatedBytes(threadId);
+        final var det = Utils.det(m, workspace);
+        Utils.solve(m, b, result, workspace);
+        final var cond = Utils.cond(m, workspace);
+        final var rank = Utils.rank(m, workspace);
+        final var after = threadBean.getThreadAllocatedBytes(threadId);
+
+        assertTrue(after - before < 1024);
+
+        final var lu = new LUDecomposer(m);
+        lu.decompose();
+        assertEquals(lu.determinant(), det, ABSOLUTE_ERROR);
+        assertTrue(m.multiplyAndReturnNew(result).equals(b, ABSOLUTE_ERROR));
+        assertTrue(cond >= 1.0);
+        assertEquals(SIZE, rank);
+    }
+
+    private static void decomposeAndSolve(
+            final Workspace workspace, final Matrix m, final Matrix spd, final Matrix b, final Matrix result)
+            throws AlgebraException {
+        final var lu = workspace.getLUDecomposer(m);
+        lu.decompose();
+        lu.solve(b, result);
+
+        final var cholesky = workspace.getCholeskyDecomposer(spd);
+        cholesky.decompose();
+        cholesky.solve(b, result);
+
+        final var svd = workspace.getSingularValueDecomposer(m);
+        svd.decompose();
+        svd.solve(b, result);
+
+        final var qr = workspace.getEconomyQRDecomposer(m);
+        qr.decompose();
+        qr.solve(b, result);
+    }
+}